@@ -0,0 +1,158 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores an attribute name/value
+ *       
+ * 
+ * <p>Java class for annotationAttributeValueType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="annotationAttributeValueType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice&gt;
+ *         &lt;element name="tuple" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationTupleValueType" minOccurs="0"/&gt;
+ *         &lt;element name="list" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationListValueType" minOccurs="0"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="key" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="value" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "annotationAttributeValueType", propOrder = {
+    "tuple",
+    "list"
+})
+public class AnnotationAttributeValueType {
+
+    protected AnnotationTupleValueType tuple;
+    protected AnnotationListValueType list;
+    @XmlAttribute(name = "key", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String key;
+    @XmlAttribute(name = "value")
+    protected String value;
+
+    /**
+     * Gets the value of the tuple property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AnnotationTupleValueType }
+     *     
+     */
+    public AnnotationTupleValueType getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Sets the value of the tuple property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AnnotationTupleValueType }
+     *     
+     */
+    public void setTuple(AnnotationTupleValueType value) {
+        this.tuple = value;
+    }
+
+    /**
+     * Gets the value of the list property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AnnotationListValueType }
+     *     
+     */
+    public AnnotationListValueType getList() {
+        return list;
+    }
+
+    /**
+     * Sets the value of the list property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AnnotationListValueType }
+     *     
+     */
+    public void setList(AnnotationListValueType value) {
+        this.list = value;
+    }
+
+    /**
+     * Gets the value of the key property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Sets the value of the key property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setKey(String value) {
+        this.key = value;
+    }
+
+    /**
+     * Gets the value of the value property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the value of the value property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+}
@@ -0,0 +1,80 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a set of values for a list
+ *       
+ * 
+ * <p>Java class for annotationListValueType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="annotationListValueType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="listEntry" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationListEntryValueType" maxOccurs="unbounded"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "annotationListValueType", propOrder = {
+    "listEntry"
+})
+public class AnnotationListValueType {
+
+    @XmlElement(required = true)
+    protected List<AnnotationListEntryValueType> listEntry;
+
+    /**
+     * Gets the value of the listEntry property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the listEntry property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getListEntry().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AnnotationListEntryValueType }
+     * 
+     * 
+     */
+    public List<AnnotationListEntryValueType> getListEntry() {
+        if (listEntry == null) {
+            listEntry = new ArrayList<AnnotationListEntryValueType>();
+        }
+        return this.listEntry;
+    }
+
+}
@@ -0,0 +1,106 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores annotations and their key/value pairs.
+ *       
+ * 
+ * <p>Java class for annotationType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="annotationType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="tuple" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationTupleValueType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="tag" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "annotationType", propOrder = {
+    "tuple"
+})
+public class AnnotationType {
+
+    @XmlElement(required = true)
+    protected AnnotationTupleValueType tuple;
+    @XmlAttribute(name = "tag", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String tag;
+
+    /**
+     * Gets the value of the tuple property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AnnotationTupleValueType }
+     *     
+     */
+    public AnnotationTupleValueType getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Sets the value of the tuple property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AnnotationTupleValueType }
+     *     
+     */
+    public void setTuple(AnnotationTupleValueType value) {
+        this.tuple = value;
+    }
+
+    /**
+     * Gets the value of the tag property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Sets the value of the tag property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setTag(String value) {
+        this.tag = value;
+    }
+
+}
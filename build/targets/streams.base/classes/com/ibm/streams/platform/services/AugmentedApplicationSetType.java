@@ -0,0 +1,133 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the runtime management information about an application set, which is identified by an 'id', and associated with one or more job - the job collection is stored in the 'jobs' element. Each SPL application in an application set corresponds to a runtime job.
+ *       
+ * 
+ * <p>Java class for augmentedApplicationSetType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="augmentedApplicationSetType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/physical}physApplicationSetType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="jobs" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}jobIdsType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}appSetStateType" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "augmentedApplicationSetType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "jobs"
+})
+public class AugmentedApplicationSetType
+    extends PhysApplicationSetType
+{
+
+    @XmlElement(required = true)
+    protected JobIdsType jobs;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "state", required = true)
+    protected AppSetStateType state;
+
+    /**
+     * Gets the value of the jobs property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobIdsType }
+     *     
+     */
+    public JobIdsType getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Sets the value of the jobs property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobIdsType }
+     *     
+     */
+    public void setJobs(JobIdsType value) {
+        this.jobs = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AppSetStateType }
+     *     
+     */
+    public AppSetStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AppSetStateType }
+     *     
+     */
+    public void setState(AppSetStateType value) {
+        this.state = value;
+    }
+
+}
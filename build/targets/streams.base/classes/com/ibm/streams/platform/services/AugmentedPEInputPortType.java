@@ -0,0 +1,297 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores runtime information about a particular PE input port. It includes the tuple type (i.e., the schema for streams that might be routed through this port), compile-time information on the imported streams, static stream connections indicating where the streams routed to this port are coming from, connection information on the operator whose port is directly connected to this input port, this port's identifier, index from ADL, the PE it belongs to, the type of encoding it employs as well as the transport layer used to create the physical stream connections.
+ *       
+ * 
+ * <p>Java class for augmentedPEInputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="augmentedPEInputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="tupleType" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypeType"/&gt;
+ *         &lt;element name="importedStreams" type="{http://www.ibm.com/xmlns/prod/streams/application}importedStreamsType" minOccurs="0"/&gt;
+ *         &lt;element name="staticConnections" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}incomingStaticIPConnectionsType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEInputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="encoding" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}encodingType" /&gt;
+ *       &lt;attribute name="transport" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}transportType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "augmentedPEInputPortType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "tupleType",
+    "importedStreams",
+    "staticConnections",
+    "operInstanceConnection"
+})
+public class AugmentedPEInputPortType {
+
+    @XmlElement(required = true)
+    protected TupleTypeType tupleType;
+    protected ImportedStreamsType importedStreams;
+    @XmlElement(required = true)
+    protected IncomingStaticIPConnectionsType staticConnections;
+    @XmlElement(required = true)
+    protected OperInstancePEInputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+    @XmlAttribute(name = "encoding", required = true)
+    protected EncodingType encoding;
+    @XmlAttribute(name = "transport", required = true)
+    protected TransportType transport;
+
+    /**
+     * Gets the value of the tupleType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public TupleTypeType getTupleType() {
+        return tupleType;
+    }
+
+    /**
+     * Sets the value of the tupleType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public void setTupleType(TupleTypeType value) {
+        this.tupleType = value;
+    }
+
+    /**
+     * Gets the value of the importedStreams property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public ImportedStreamsType getImportedStreams() {
+        return importedStreams;
+    }
+
+    /**
+     * Sets the value of the importedStreams property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public void setImportedStreams(ImportedStreamsType value) {
+        this.importedStreams = value;
+    }
+
+    /**
+     * Gets the value of the staticConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link IncomingStaticIPConnectionsType }
+     *     
+     */
+    public IncomingStaticIPConnectionsType getStaticConnections() {
+        return staticConnections;
+    }
+
+    /**
+     * Sets the value of the staticConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link IncomingStaticIPConnectionsType }
+     *     
+     */
+    public void setStaticConnections(IncomingStaticIPConnectionsType value) {
+        this.staticConnections = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public OperInstancePEInputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEInputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the encoding property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EncodingType }
+     *     
+     */
+    public EncodingType getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Sets the value of the encoding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EncodingType }
+     *     
+     */
+    public void setEncoding(EncodingType value) {
+        this.encoding = value;
+    }
+
+    /**
+     * Gets the value of the transport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TransportType }
+     *     
+     */
+    public TransportType getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the value of the transport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TransportType }
+     *     
+     */
+    public void setTransport(TransportType value) {
+        this.transport = value;
+    }
+
+}
@@ -0,0 +1,316 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores runtime information about a particular PE output port. It includes the tuple type (i.e., the schema for the stream this port produces), compile-time information on whether the stream produced by this port is exported, static stream connections indicating which PEs consume the stream originating from this port, connection information on the operator whose port is directly connected to this output port, this port's identifier, index from ADL, the PE it belongs to, the type of encoding it employs as well as the transport layer used to create the physical stream connections, and whether tuple submissions to this output port can be made from more than one operator thread.
+ *       
+ * 
+ * <p>Java class for augmentedPEOutputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="augmentedPEOutputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="tupleType" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypeType"/&gt;
+ *         &lt;element name="exportedStream" type="{http://www.ibm.com/xmlns/prod/streams/application}exportedStreamType" minOccurs="0"/&gt;
+ *         &lt;element name="staticConnections" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}outgoingStaticOPConnectionsType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEOutputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="encoding" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}encodingType" /&gt;
+ *       &lt;attribute name="transport" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}transportType" /&gt;
+ *       &lt;attribute name="singleThreadedOnOutput" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "augmentedPEOutputPortType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "tupleType",
+    "exportedStream",
+    "staticConnections",
+    "operInstanceConnection"
+})
+public class AugmentedPEOutputPortType {
+
+    @XmlElement(required = true)
+    protected TupleTypeType tupleType;
+    protected ExportedStreamType exportedStream;
+    @XmlElement(required = true)
+    protected OutgoingStaticOPConnectionsType staticConnections;
+    @XmlElement(required = true)
+    protected OperInstancePEOutputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+    @XmlAttribute(name = "encoding", required = true)
+    protected EncodingType encoding;
+    @XmlAttribute(name = "transport", required = true)
+    protected TransportType transport;
+    @XmlAttribute(name = "singleThreadedOnOutput", required = true)
+    protected boolean singleThreadedOnOutput;
+
+    /**
+     * Gets the value of the tupleType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public TupleTypeType getTupleType() {
+        return tupleType;
+    }
+
+    /**
+     * Sets the value of the tupleType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public void setTupleType(TupleTypeType value) {
+        this.tupleType = value;
+    }
+
+    /**
+     * Gets the value of the exportedStream property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public ExportedStreamType getExportedStream() {
+        return exportedStream;
+    }
+
+    /**
+     * Sets the value of the exportedStream property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public void setExportedStream(ExportedStreamType value) {
+        this.exportedStream = value;
+    }
+
+    /**
+     * Gets the value of the staticConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OutgoingStaticOPConnectionsType }
+     *     
+     */
+    public OutgoingStaticOPConnectionsType getStaticConnections() {
+        return staticConnections;
+    }
+
+    /**
+     * Sets the value of the staticConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OutgoingStaticOPConnectionsType }
+     *     
+     */
+    public void setStaticConnections(OutgoingStaticOPConnectionsType value) {
+        this.staticConnections = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public OperInstancePEOutputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEOutputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the encoding property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EncodingType }
+     *     
+     */
+    public EncodingType getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Sets the value of the encoding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EncodingType }
+     *     
+     */
+    public void setEncoding(EncodingType value) {
+        this.encoding = value;
+    }
+
+    /**
+     * Gets the value of the transport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TransportType }
+     *     
+     */
+    public TransportType getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the value of the transport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TransportType }
+     *     
+     */
+    public void setTransport(TransportType value) {
+        this.transport = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnOutput property.
+     * 
+     */
+    public boolean isSingleThreadedOnOutput() {
+        return singleThreadedOnOutput;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnOutput property.
+     * 
+     */
+    public void setSingleThreadedOnOutput(boolean value) {
+        this.singleThreadedOnOutput = value;
+    }
+
+}
@@ -0,0 +1,197 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents job cancel parameters
+ *       
+ * 
+ * <p>Java class for cancelParamsType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="cancelParamsType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="enableLogCollection" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *       &lt;attribute name="enableProfileCollection" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *       &lt;attribute name="forceCancel" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *       &lt;attribute name="logFileName" type="{http://www.w3.org/2001/XMLSchema}string" default="" /&gt;
+ *       &lt;attribute name="profileFileName" type="{http://www.w3.org/2001/XMLSchema}string" default="" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "cancelParamsType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class CancelParamsType {
+
+    @XmlAttribute(name = "enableLogCollection")
+    protected Boolean enableLogCollection;
+    @XmlAttribute(name = "enableProfileCollection")
+    protected Boolean enableProfileCollection;
+    @XmlAttribute(name = "forceCancel")
+    protected Boolean forceCancel;
+    @XmlAttribute(name = "logFileName")
+    protected String logFileName;
+    @XmlAttribute(name = "profileFileName")
+    protected String profileFileName;
+
+    /**
+     * Gets the value of the enableLogCollection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isEnableLogCollection() {
+        if (enableLogCollection == null) {
+            return false;
+        } else {
+            return enableLogCollection;
+        }
+    }
+
+    /**
+     * Sets the value of the enableLogCollection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setEnableLogCollection(Boolean value) {
+        this.enableLogCollection = value;
+    }
+
+    /**
+     * Gets the value of the enableProfileCollection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isEnableProfileCollection() {
+        if (enableProfileCollection == null) {
+            return false;
+        } else {
+            return enableProfileCollection;
+        }
+    }
+
+    /**
+     * Sets the value of the enableProfileCollection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setEnableProfileCollection(Boolean value) {
+        this.enableProfileCollection = value;
+    }
+
+    /**
+     * Gets the value of the forceCancel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isForceCancel() {
+        if (forceCancel == null) {
+            return false;
+        } else {
+            return forceCancel;
+        }
+    }
+
+    /**
+     * Sets the value of the forceCancel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setForceCancel(Boolean value) {
+        this.forceCancel = value;
+    }
+
+    /**
+     * Gets the value of the logFileName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogFileName() {
+        if (logFileName == null) {
+            return "";
+        } else {
+            return logFileName;
+        }
+    }
+
+    /**
+     * Sets the value of the logFileName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogFileName(String value) {
+        this.logFileName = value;
+    }
+
+    /**
+     * Gets the value of the profileFileName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getProfileFileName() {
+        if (profileFileName == null) {
+            return "";
+        } else {
+            return profileFileName;
+        }
+    }
+
+    /**
+     * Sets the value of the profileFileName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setProfileFileName(String value) {
+        this.profileFileName = value;
+    }
+
+}
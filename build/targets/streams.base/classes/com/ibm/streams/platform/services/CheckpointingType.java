@@ -0,0 +1,96 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the specific checkpointing settings used by an operator. It includes the checkpoint policy and the optional period between checkpointing operations.
+ *       
+ * 
+ * <p>Java class for checkpointingType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="checkpointingType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="policy" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}checkpointPolicyType" /&gt;
+ *       &lt;attribute name="period" type="{http://www.w3.org/2001/XMLSchema}double" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "checkpointingType")
+public class CheckpointingType {
+
+    @XmlAttribute(name = "policy", required = true)
+    protected CheckpointPolicyType policy;
+    @XmlAttribute(name = "period")
+    protected Double period;
+
+    /**
+     * Gets the value of the policy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CheckpointPolicyType }
+     *     
+     */
+    public CheckpointPolicyType getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Sets the value of the policy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CheckpointPolicyType }
+     *     
+     */
+    public void setPolicy(CheckpointPolicyType value) {
+        this.policy = value;
+    }
+
+    /**
+     * Gets the value of the period property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Double }
+     *     
+     */
+    public Double getPeriod() {
+        return period;
+    }
+
+    /**
+     * Sets the value of the period property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Double }
+     *     
+     */
+    public void setPeriod(Double value) {
+        this.period = value;
+    }
+
+}
@@ -0,0 +1,84 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure defines an application set and it is tied to a particular version of IBM Streams. An application set has a human-readable name as well as a description.  It contains the logical application set from the compiler, along with a physical application set after the expansion occurs.
+ *       
+ * 
+ * <p>Java class for combinedApplicationSetType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="combinedApplicationSetType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}applicationSetType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="physicalApplication" type="{http://www.ibm.com/xmlns/prod/streams/application}applicationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "combinedApplicationSetType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "physicalApplication"
+})
+@XmlSeeAlso({
+    CombinedAugmentedApplicationSetType.class
+})
+public class CombinedApplicationSetType
+    extends ApplicationSetType
+{
+
+    protected List<ApplicationType> physicalApplication;
+
+    /**
+     * Gets the value of the physicalApplication property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the physicalApplication property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getPhysicalApplication().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ApplicationType }
+     * 
+     * 
+     */
+    public List<ApplicationType> getPhysicalApplication() {
+        if (physicalApplication == null) {
+            physicalApplication = new ArrayList<ApplicationType>();
+        }
+        return this.physicalApplication;
+    }
+
+}
@@ -0,0 +1,285 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure defines a composite operator. The location in the source code is captured by the basic type this structure inherits from. This definition includes an optional description, an optional set of SPL annotations, an index (used for factoring out multiple uses of this composite), the kind of this operator, which defines its namespace lineage (i.e., in the form namespace::name), an optional reference to the toolkit that defines this composite (if not defined, the composite is defined in the present application), the number of composite input ports and output ports.
+ *       
+ * 
+ * <p>Java class for compositeOperType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="compositeOperType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}sourceLocationType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="description" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="splAnnotation" type="{http://www.ibm.com/xmlns/prod/streams/application}splAnnotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="annotation" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="kind" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="numberOfInputPorts" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="numberOfOutputPorts" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="toolkitIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "compositeOperType", propOrder = {
+    "description",
+    "splAnnotation",
+    "annotation"
+})
+public class CompositeOperType
+    extends SourceLocationType
+{
+
+    protected String description;
+    protected List<SplAnnotationType> splAnnotation;
+    protected List<AnnotationType> annotation;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "kind", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String kind;
+    @XmlAttribute(name = "numberOfInputPorts", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger numberOfInputPorts;
+    @XmlAttribute(name = "numberOfOutputPorts", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger numberOfOutputPorts;
+    @XmlAttribute(name = "toolkitIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger toolkitIndex;
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+    /**
+     * Gets the value of the splAnnotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the splAnnotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSplAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SplAnnotationType }
+     * 
+     * 
+     */
+    public List<SplAnnotationType> getSplAnnotation() {
+        if (splAnnotation == null) {
+            splAnnotation = new ArrayList<SplAnnotationType>();
+        }
+        return this.splAnnotation;
+    }
+
+    /**
+     * Gets the value of the annotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the annotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AnnotationType }
+     * 
+     * 
+     */
+    public List<AnnotationType> getAnnotation() {
+        if (annotation == null) {
+            annotation = new ArrayList<AnnotationType>();
+        }
+        return this.annotation;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setKind(String value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the numberOfInputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getNumberOfInputPorts() {
+        return numberOfInputPorts;
+    }
+
+    /**
+     * Sets the value of the numberOfInputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setNumberOfInputPorts(BigInteger value) {
+        this.numberOfInputPorts = value;
+    }
+
+    /**
+     * Gets the value of the numberOfOutputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getNumberOfOutputPorts() {
+        return numberOfOutputPorts;
+    }
+
+    /**
+     * Sets the value of the numberOfOutputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setNumberOfOutputPorts(BigInteger value) {
+        this.numberOfOutputPorts = value;
+    }
+
+    /**
+     * Gets the value of the toolkitIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getToolkitIndex() {
+        return toolkitIndex;
+    }
+
+    /**
+     * Sets the value of the toolkitIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setToolkitIndex(BigInteger value) {
+        this.toolkitIndex = value;
+    }
+
+}
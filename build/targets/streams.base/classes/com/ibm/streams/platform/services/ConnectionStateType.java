@@ -0,0 +1,53 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for connectionStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="connectionStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="UNKNOWN"/&gt;
+ *     &lt;enumeration value="INITIAL"/&gt;
+ *     &lt;enumeration value="CONNECTING"/&gt;
+ *     &lt;enumeration value="CONNECTED"/&gt;
+ *     &lt;enumeration value="DISCONNECTED"/&gt;
+ *     &lt;enumeration value="CLOSED"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "connectionStateType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+@XmlEnum
+public enum ConnectionStateType {
+
+    UNKNOWN,
+    INITIAL,
+    CONNECTING,
+    CONNECTED,
+    DISCONNECTED,
+    CLOSED;
+
+    public String value() {
+        return name();
+    }
+
+    public static ConnectionStateType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
@@ -0,0 +1,251 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure encodes information on an exception that was thrown by a server and is being relayed to a client.
+ *         It includes the type, location, msg, backtrace, exception code, and substitution code associated with the exception.
+ *         Note that the exceptionAdditionalData is defined here as a string rather than a additionalExceptionDataType
+ *         because the XSD header files are not shipped with the product and we cannot include the Exception.h generated header file
+ *         in DistilleryException.h (which is used by SPL generated code).
+ *       
+ * 
+ * <p>Java class for exceptionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="exceptionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="type" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="location" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="msg" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="backtrace" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="exceptionCode" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="substitutionText" type="{http://www.w3.org/2001/XMLSchema}string" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="exceptionAdditionalData" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "exceptionType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", propOrder = {
+    "type",
+    "location",
+    "msg",
+    "backtrace",
+    "exceptionCode",
+    "substitutionText",
+    "exceptionAdditionalData"
+})
+public class ExceptionType {
+
+    @XmlElement(required = true)
+    protected String type;
+    @XmlElement(required = true)
+    protected String location;
+    @XmlElement(required = true)
+    protected String msg;
+    @XmlElement(required = true)
+    protected String backtrace;
+    @XmlElement(required = true)
+    protected String exceptionCode;
+    protected List<String> substitutionText;
+    @XmlElement(required = true)
+    protected String exceptionAdditionalData;
+
+    /**
+     * Gets the value of the type property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the value of the type property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setType(String value) {
+        this.type = value;
+    }
+
+    /**
+     * Gets the value of the location property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Sets the value of the location property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLocation(String value) {
+        this.location = value;
+    }
+
+    /**
+     * Gets the value of the msg property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getMsg() {
+        return msg;
+    }
+
+    /**
+     * Sets the value of the msg property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setMsg(String value) {
+        this.msg = value;
+    }
+
+    /**
+     * Gets the value of the backtrace property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getBacktrace() {
+        return backtrace;
+    }
+
+    /**
+     * Sets the value of the backtrace property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setBacktrace(String value) {
+        this.backtrace = value;
+    }
+
+    /**
+     * Gets the value of the exceptionCode property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExceptionCode() {
+        return exceptionCode;
+    }
+
+    /**
+     * Sets the value of the exceptionCode property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExceptionCode(String value) {
+        this.exceptionCode = value;
+    }
+
+    /**
+     * Gets the value of the substitutionText property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the substitutionText property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSubstitutionText().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getSubstitutionText() {
+        if (substitutionText == null) {
+            substitutionText = new ArrayList<String>();
+        }
+        return this.substitutionText;
+    }
+
+    /**
+     * Gets the value of the exceptionAdditionalData property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExceptionAdditionalData() {
+        return exceptionAdditionalData;
+    }
+
+    /**
+     * Sets the value of the exceptionAdditionalData property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExceptionAdditionalData(String value) {
+        this.exceptionAdditionalData = value;
+    }
+
+}
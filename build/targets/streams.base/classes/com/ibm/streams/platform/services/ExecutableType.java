@@ -0,0 +1,211 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents the type of executable for a PE. The execution wrapper consists of an optional container around the actual processing element container that enables the processing element to be executed under a debugger such as gdb or a memory profiler such as valgrind, or yet simply be executed in a separate xterm.  The executableUri is a reference to the actual binary code for the processing element. In this case, the executableType represents the executable URI directly, rather than factors it out as is the case for other URIs represented in the ADL. While executables can be re-used, this is not the common case, i.e., processing element executables are more frequently not reused. The arguments attribute includes command-line arguments to be passed to the processing element at runtime. The dependencies attribute indicates library dependencies to the provisioning mechanism. The dynamicLoad attribute indicates whether the processing element is to be loaded as a dynamically linked library or not.  Finally, the digest attribute is a signature computed on the processing element characteristics used for dynamically scheduling decisions carried out by the Scheduler.
+ *       
+ * 
+ * <p>Java class for executableType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="executableType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="wrapper" type="{http://www.w3.org/2001/XMLSchema}token"/&gt;
+ *         &lt;element name="executableUri" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="arguments" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="dependencies" type="{http://www.ibm.com/xmlns/prod/streams/application}dependenciesType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="dynamicLoad" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="digest" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "executableType", propOrder = {
+    "wrapper",
+    "executableUri",
+    "arguments",
+    "dependencies"
+})
+public class ExecutableType {
+
+    @XmlElement(required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String wrapper;
+    @XmlElement(required = true)
+    protected String executableUri;
+    @XmlElement(required = true)
+    protected String arguments;
+    @XmlElement(required = true)
+    protected DependenciesType dependencies;
+    @XmlAttribute(name = "dynamicLoad", required = true)
+    protected boolean dynamicLoad;
+    @XmlAttribute(name = "digest", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String digest;
+
+    /**
+     * Gets the value of the wrapper property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getWrapper() {
+        return wrapper;
+    }
+
+    /**
+     * Sets the value of the wrapper property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setWrapper(String value) {
+        this.wrapper = value;
+    }
+
+    /**
+     * Gets the value of the executableUri property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExecutableUri() {
+        return executableUri;
+    }
+
+    /**
+     * Sets the value of the executableUri property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExecutableUri(String value) {
+        this.executableUri = value;
+    }
+
+    /**
+     * Gets the value of the arguments property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Sets the value of the arguments property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setArguments(String value) {
+        this.arguments = value;
+    }
+
+    /**
+     * Gets the value of the dependencies property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link DependenciesType }
+     *     
+     */
+    public DependenciesType getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * Sets the value of the dependencies property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link DependenciesType }
+     *     
+     */
+    public void setDependencies(DependenciesType value) {
+        this.dependencies = value;
+    }
+
+    /**
+     * Gets the value of the dynamicLoad property.
+     * 
+     */
+    public boolean isDynamicLoad() {
+        return dynamicLoad;
+    }
+
+    /**
+     * Sets the value of the dynamicLoad property.
+     * 
+     */
+    public void setDynamicLoad(boolean value) {
+        this.dynamicLoad = value;
+    }
+
+    /**
+     * Gets the value of the digest property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Sets the value of the digest property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDigest(String value) {
+        this.digest = value;
+    }
+
+}
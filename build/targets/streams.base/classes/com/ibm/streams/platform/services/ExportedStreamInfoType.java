@@ -0,0 +1,188 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the information relating to an exported stream.
+ *       
+ * 
+ * <p>Java class for exportedStreamInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="exportedStreamInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="exportedStream" type="{http://www.ibm.com/xmlns/prod/streams/application}exportedStreamType"/&gt;
+ *         &lt;element name="tupleType" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypeType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEOutputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="opId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "exportedStreamInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "exportedStream",
+    "tupleType",
+    "operInstanceConnection"
+})
+public class ExportedStreamInfoType {
+
+    @XmlElement(required = true)
+    protected ExportedStreamType exportedStream;
+    @XmlElement(required = true)
+    protected TupleTypeType tupleType;
+    @XmlElement(required = true)
+    protected OperInstancePEOutputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+    @XmlAttribute(name = "opId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger opId;
+
+    /**
+     * Gets the value of the exportedStream property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public ExportedStreamType getExportedStream() {
+        return exportedStream;
+    }
+
+    /**
+     * Sets the value of the exportedStream property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public void setExportedStream(ExportedStreamType value) {
+        this.exportedStream = value;
+    }
+
+    /**
+     * Gets the value of the tupleType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public TupleTypeType getTupleType() {
+        return tupleType;
+    }
+
+    /**
+     * Sets the value of the tupleType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public void setTupleType(TupleTypeType value) {
+        this.tupleType = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public OperInstancePEOutputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEOutputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the opId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOpId() {
+        return opId;
+    }
+
+    /**
+     * Sets the value of the opId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOpId(BigInteger value) {
+        this.opId = value;
+    }
+
+}
@@ -0,0 +1,189 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents an exported stream. The stream might be exported with optionally pre-populated properties (represented by the of properties element), an optional name. The exporting is done on behalf of a specific operator placed inside a PE and identified by the exportOperName attribute .
+ *       
+ * 
+ * <p>Java class for exportedStreamType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="exportedStreamType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="properties" type="{http://www.ibm.com/xmlns/prod/streams/application}streamPropertiesType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="exportOperName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="allowFilter" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="congestionPolicy" type="{http://www.ibm.com/xmlns/prod/streams/application}exportCongestionPolicyType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "exportedStreamType", propOrder = {
+    "properties"
+})
+@XmlSeeAlso({
+    PhysExportedStreamType.class
+})
+public class ExportedStreamType {
+
+    protected StreamPropertiesType properties;
+    @XmlAttribute(name = "name")
+    protected String name;
+    @XmlAttribute(name = "exportOperName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String exportOperName;
+    @XmlAttribute(name = "allowFilter")
+    protected Boolean allowFilter;
+    @XmlAttribute(name = "congestionPolicy")
+    protected ExportCongestionPolicyType congestionPolicy;
+
+    /**
+     * Gets the value of the properties property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamPropertiesType }
+     *     
+     */
+    public StreamPropertiesType getProperties() {
+        return properties;
+    }
+
+    /**
+     * Sets the value of the properties property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamPropertiesType }
+     *     
+     */
+    public void setProperties(StreamPropertiesType value) {
+        this.properties = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the exportOperName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExportOperName() {
+        return exportOperName;
+    }
+
+    /**
+     * Sets the value of the exportOperName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExportOperName(String value) {
+        this.exportOperName = value;
+    }
+
+    /**
+     * Gets the value of the allowFilter property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isAllowFilter() {
+        return allowFilter;
+    }
+
+    /**
+     * Sets the value of the allowFilter property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setAllowFilter(Boolean value) {
+        this.allowFilter = value;
+    }
+
+    /**
+     * Gets the value of the congestionPolicy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportCongestionPolicyType }
+     *     
+     */
+    public ExportCongestionPolicyType getCongestionPolicy() {
+        return congestionPolicy;
+    }
+
+    /**
+     * Sets the value of the congestionPolicy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportCongestionPolicyType }
+     *     
+     */
+    public void setCongestionPolicy(ExportCongestionPolicyType value) {
+        this.congestionPolicy = value;
+    }
+
+}
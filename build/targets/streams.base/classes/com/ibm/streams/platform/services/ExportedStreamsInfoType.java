@@ -0,0 +1,78 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a collection of exported streams.
+ *       
+ * 
+ * <p>Java class for exportedStreamsInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="exportedStreamsInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="exportedStreamInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}exportedStreamInfoType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "exportedStreamsInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "exportedStreamInfo"
+})
+public class ExportedStreamsInfoType {
+
+    protected List<ExportedStreamInfoType> exportedStreamInfo;
+
+    /**
+     * Gets the value of the exportedStreamInfo property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the exportedStreamInfo property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getExportedStreamInfo().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ExportedStreamInfoType }
+     * 
+     * 
+     */
+    public List<ExportedStreamInfoType> getExportedStreamInfo() {
+        if (exportedStreamInfo == null) {
+            exportedStreamInfo = new ArrayList<ExportedStreamInfoType>();
+        }
+        return this.exportedStreamInfo;
+    }
+
+}
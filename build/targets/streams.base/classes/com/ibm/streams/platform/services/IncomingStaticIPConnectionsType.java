@@ -0,0 +1,78 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores runtime information on the set of static stream connections indicating which PEs produce the streams coming to this port.
+ *       
+ * 
+ * <p>Java class for incomingStaticIPConnectionsType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="incomingStaticIPConnectionsType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="staticConnection" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}incomingStaticIPConnectionType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "incomingStaticIPConnectionsType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "staticConnection"
+})
+public class IncomingStaticIPConnectionsType {
+
+    protected List<IncomingStaticIPConnectionType> staticConnection;
+
+    /**
+     * Gets the value of the staticConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the staticConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getStaticConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link IncomingStaticIPConnectionType }
+     * 
+     * 
+     */
+    public List<IncomingStaticIPConnectionType> getStaticConnection() {
+        if (staticConnection == null) {
+            staticConnection = new ArrayList<IncomingStaticIPConnectionType>();
+        }
+        return this.staticConnection;
+    }
+
+}
@@ -0,0 +1,248 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores runtime information concerning a particular input port dynamic connection. Specifically, the state of the connection and the following identifiers related to the remote connection endpoint:
+ *          - remote PE id
+ *          - remote output port id
+ *          - id of the job which the remote PE belongs to
+ *          - remote PE index
+ *          - remote PE output port index
+ *       
+ * 
+ * <p>Java class for inputPortDynamicConnectionInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="inputPortDynamicConnectionInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="importIndexes" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}importIndexesType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="ppeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="poportId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}connectionStateType" /&gt;
+ *       &lt;attribute name="pjobId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="ppeIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="poportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "inputPortDynamicConnectionInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "importIndexes"
+})
+public class InputPortDynamicConnectionInfoType {
+
+    @XmlElement(required = true)
+    protected ImportIndexesType importIndexes;
+    @XmlAttribute(name = "ppeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger ppeId;
+    @XmlAttribute(name = "poportId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger poportId;
+    @XmlAttribute(name = "state", required = true)
+    protected ConnectionStateType state;
+    @XmlAttribute(name = "pjobId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pjobId;
+    @XmlAttribute(name = "ppeIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger ppeIndex;
+    @XmlAttribute(name = "poportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger poportIndex;
+
+    /**
+     * Gets the value of the importIndexes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportIndexesType }
+     *     
+     */
+    public ImportIndexesType getImportIndexes() {
+        return importIndexes;
+    }
+
+    /**
+     * Sets the value of the importIndexes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportIndexesType }
+     *     
+     */
+    public void setImportIndexes(ImportIndexesType value) {
+        this.importIndexes = value;
+    }
+
+    /**
+     * Gets the value of the ppeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPpeId() {
+        return ppeId;
+    }
+
+    /**
+     * Sets the value of the ppeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPpeId(BigInteger value) {
+        this.ppeId = value;
+    }
+
+    /**
+     * Gets the value of the poportId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPoportId() {
+        return poportId;
+    }
+
+    /**
+     * Sets the value of the poportId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPoportId(BigInteger value) {
+        this.poportId = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public ConnectionStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public void setState(ConnectionStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the pjobId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPjobId() {
+        return pjobId;
+    }
+
+    /**
+     * Sets the value of the pjobId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPjobId(BigInteger value) {
+        this.pjobId = value;
+    }
+
+    /**
+     * Gets the value of the ppeIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPpeIndex() {
+        return ppeIndex;
+    }
+
+    /**
+     * Sets the value of the ppeIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPpeIndex(BigInteger value) {
+        this.ppeIndex = value;
+    }
+
+    /**
+     * Gets the value of the poportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPoportIndex() {
+        return poportIndex;
+    }
+
+    /**
+     * Sets the value of the poportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPoportIndex(BigInteger value) {
+        this.poportIndex = value;
+    }
+
+}
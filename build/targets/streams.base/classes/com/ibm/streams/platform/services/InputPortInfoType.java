@@ -0,0 +1,157 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents runtime information concerning a PE's input port. The port is identified by a runtime identifier (id) along with the index from ADL, and it includes information on its dynamic connections, broken down into compile-time information as generated by the SPL compiler (importedStreams) and runtime information computed by SAM (dynamicConnections).
+ *       
+ * 
+ * <p>Java class for inputPortInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="inputPortInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="importedStreams" type="{http://www.ibm.com/xmlns/prod/streams/application}importedStreamsType" minOccurs="0"/&gt;
+ *         &lt;element name="dynamicConnections" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}inputPortDynamicConnectionsInfoType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "inputPortInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "importedStreams",
+    "dynamicConnections"
+})
+public class InputPortInfoType {
+
+    protected ImportedStreamsType importedStreams;
+    protected InputPortDynamicConnectionsInfoType dynamicConnections;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+
+    /**
+     * Gets the value of the importedStreams property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public ImportedStreamsType getImportedStreams() {
+        return importedStreams;
+    }
+
+    /**
+     * Sets the value of the importedStreams property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public void setImportedStreams(ImportedStreamsType value) {
+        this.importedStreams = value;
+    }
+
+    /**
+     * Gets the value of the dynamicConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link InputPortDynamicConnectionsInfoType }
+     *     
+     */
+    public InputPortDynamicConnectionsInfoType getDynamicConnections() {
+        return dynamicConnections;
+    }
+
+    /**
+     * Sets the value of the dynamicConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link InputPortDynamicConnectionsInfoType }
+     *     
+     */
+    public void setDynamicConnections(InputPortDynamicConnectionsInfoType value) {
+        this.dynamicConnections = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+}
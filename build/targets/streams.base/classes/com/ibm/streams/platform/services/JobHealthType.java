@@ -0,0 +1,88 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This structure stores a boolean of job health and summary of pe health.  The pe health is the "minimum" health level of all of the job's PEs, where the maximum to minimum level ordering is: UP, PARTIAL_UP, DOWN.
+ *       
+ * 
+ * <p>Java class for jobHealthType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="jobHealthType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="isHealthy" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="peHealth" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peHealthSummaryType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "jobHealthType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+public class JobHealthType {
+
+    @XmlAttribute(name = "isHealthy", required = true)
+    protected boolean isHealthy;
+    @XmlAttribute(name = "peHealth", required = true)
+    protected PeHealthSummaryType peHealth;
+
+    /**
+     * Gets the value of the isHealthy property.
+     * 
+     */
+    public boolean isIsHealthy() {
+        return isHealthy;
+    }
+
+    /**
+     * Sets the value of the isHealthy property.
+     * 
+     */
+    public void setIsHealthy(boolean value) {
+        this.isHealthy = value;
+    }
+
+    /**
+     * Gets the value of the peHealth property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeHealthSummaryType }
+     *     
+     */
+    public PeHealthSummaryType getPeHealth() {
+        return peHealth;
+    }
+
+    /**
+     * Sets the value of the peHealth property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeHealthSummaryType }
+     *     
+     */
+    public void setPeHealth(PeHealthSummaryType value) {
+        this.peHealth = value;
+    }
+
+}
@@ -0,0 +1,51 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for jobStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="jobStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="FAILED"/&gt;
+ *     &lt;enumeration value="CONSTRUCTED"/&gt;
+ *     &lt;enumeration value="INSTANTIATED"/&gt;
+ *     &lt;enumeration value="TERMINATED"/&gt;
+ *     &lt;enumeration value="TERMINATING"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "jobStateType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+@XmlEnum
+public enum JobStateType {
+
+    FAILED,
+    CONSTRUCTED,
+    INSTANTIATED,
+    TERMINATED,
+    TERMINATING;
+
+    public String value() {
+        return name();
+    }
+
+    public static JobStateType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
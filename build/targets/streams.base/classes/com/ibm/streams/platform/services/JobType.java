@@ -0,0 +1,469 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores runtime information about a job, including the set of PEs associated with this job, its identifier, the application set it belongs to, its name, version, state, output, data and application directories, trace level, an owner user as well as submission time.
+ *       
+ * 
+ * <p>Java class for jobType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="jobType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}contextType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="pes" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peIdsType"/&gt;
+ *         &lt;element name="health" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}jobHealthType"/&gt;
+ *         &lt;element name="hostpoolAllocations" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}hostpoolAllocationsType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="appsetId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="applicationScope" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="version" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}jobStateType" /&gt;
+ *       &lt;attribute name="dataDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="outputDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logLevel" type="{http://www.ibm.com/xmlns/prod/streams/application}logLevelType" /&gt;
+ *       &lt;attribute name="user" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="submitTime" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "jobType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "pes",
+    "health",
+    "hostpoolAllocations"
+})
+public class JobType
+    extends ContextType
+{
+
+    @XmlElement(required = true)
+    protected PeIdsType pes;
+    @XmlElement(required = true)
+    protected JobHealthType health;
+    @XmlElement(required = true)
+    protected HostpoolAllocationsType hostpoolAllocations;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "appsetId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger appsetId;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String name;
+    @XmlAttribute(name = "applicationScope", required = true)
+    protected String applicationScope;
+    @XmlAttribute(name = "version")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String version;
+    @XmlAttribute(name = "state", required = true)
+    protected JobStateType state;
+    @XmlAttribute(name = "dataDirectory")
+    protected String dataDirectory;
+    @XmlAttribute(name = "applicationDirectory", required = true)
+    protected String applicationDirectory;
+    @XmlAttribute(name = "outputDirectory", required = true)
+    protected String outputDirectory;
+    @XmlAttribute(name = "logLevel")
+    protected LogLevelType logLevel;
+    @XmlAttribute(name = "user", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String user;
+    @XmlAttribute(name = "submitTime", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger submitTime;
+
+    /**
+     * Gets the value of the pes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeIdsType }
+     *     
+     */
+    public PeIdsType getPes() {
+        return pes;
+    }
+
+    /**
+     * Sets the value of the pes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeIdsType }
+     *     
+     */
+    public void setPes(PeIdsType value) {
+        this.pes = value;
+    }
+
+    /**
+     * Gets the value of the health property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobHealthType }
+     *     
+     */
+    public JobHealthType getHealth() {
+        return health;
+    }
+
+    /**
+     * Sets the value of the health property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobHealthType }
+     *     
+     */
+    public void setHealth(JobHealthType value) {
+        this.health = value;
+    }
+
+    /**
+     * Gets the value of the hostpoolAllocations property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HostpoolAllocationsType }
+     *     
+     */
+    public HostpoolAllocationsType getHostpoolAllocations() {
+        return hostpoolAllocations;
+    }
+
+    /**
+     * Sets the value of the hostpoolAllocations property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HostpoolAllocationsType }
+     *     
+     */
+    public void setHostpoolAllocations(HostpoolAllocationsType value) {
+        this.hostpoolAllocations = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the appsetId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getAppsetId() {
+        return appsetId;
+    }
+
+    /**
+     * Sets the value of the appsetId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setAppsetId(BigInteger value) {
+        this.appsetId = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the applicationScope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationScope() {
+        return applicationScope;
+    }
+
+    /**
+     * Sets the value of the applicationScope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationScope(String value) {
+        this.applicationScope = value;
+    }
+
+    /**
+     * Gets the value of the version property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the value of the version property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setVersion(String value) {
+        this.version = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobStateType }
+     *     
+     */
+    public JobStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobStateType }
+     *     
+     */
+    public void setState(JobStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the dataDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDataDirectory() {
+        return dataDirectory;
+    }
+
+    /**
+     * Sets the value of the dataDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDataDirectory(String value) {
+        this.dataDirectory = value;
+    }
+
+    /**
+     * Gets the value of the applicationDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationDirectory() {
+        return applicationDirectory;
+    }
+
+    /**
+     * Sets the value of the applicationDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationDirectory(String value) {
+        this.applicationDirectory = value;
+    }
+
+    /**
+     * Gets the value of the outputDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Sets the value of the outputDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOutputDirectory(String value) {
+        this.outputDirectory = value;
+    }
+
+    /**
+     * Gets the value of the logLevel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public LogLevelType getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Sets the value of the logLevel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public void setLogLevel(LogLevelType value) {
+        this.logLevel = value;
+    }
+
+    /**
+     * Gets the value of the user property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * Sets the value of the user property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setUser(String value) {
+        this.user = value;
+    }
+
+    /**
+     * Gets the value of the submitTime property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSubmitTime() {
+        return submitTime;
+    }
+
+    /**
+     * Sets the value of the submitTime property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSubmitTime(BigInteger value) {
+        this.submitTime = value;
+    }
+
+}
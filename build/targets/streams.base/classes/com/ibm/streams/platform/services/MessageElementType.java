@@ -0,0 +1,109 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure contains information pertaining to a translatable message.
+ *         The MessageCode is used to reference a message in the message bundle, and the substition text(s)
+ *         will be embedded in the displayed message by the message processing code.
+ *       
+ * 
+ * <p>Java class for MessageElementType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="MessageElementType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="messageCode" type="{http://www.w3.org/2001/XMLSchema}string"/&gt;
+ *         &lt;element name="substitutionText" type="{http://www.w3.org/2001/XMLSchema}string" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "MessageElementType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", propOrder = {
+    "messageCode",
+    "substitutionText"
+})
+public class MessageElementType {
+
+    @XmlElement(required = true)
+    protected String messageCode;
+    protected List<String> substitutionText;
+
+    /**
+     * Gets the value of the messageCode property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getMessageCode() {
+        return messageCode;
+    }
+
+    /**
+     * Sets the value of the messageCode property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setMessageCode(String value) {
+        this.messageCode = value;
+    }
+
+    /**
+     * Gets the value of the substitutionText property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the substitutionText property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSubstitutionText().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getSubstitutionText() {
+        if (substitutionText == null) {
+            substitutionText = new ArrayList<String>();
+        }
+        return this.substitutionText;
+    }
+
+}
@@ -0,0 +1,92 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for MessageRecordingConfigurationType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="MessageRecordingConfigurationType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="tracingLevel" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingLevelType" /&gt;
+ *       &lt;attribute name="loggingLevel" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}loggingLevelType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "MessageRecordingConfigurationType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr")
+public class MessageRecordingConfigurationType {
+
+    @XmlAttribute(name = "tracingLevel")
+    protected TracingLevelType tracingLevel;
+    @XmlAttribute(name = "loggingLevel")
+    protected LoggingLevelType loggingLevel;
+
+    /**
+     * Gets the value of the tracingLevel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingLevelType }
+     *     
+     */
+    public TracingLevelType getTracingLevel() {
+        return tracingLevel;
+    }
+
+    /**
+     * Sets the value of the tracingLevel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingLevelType }
+     *     
+     */
+    public void setTracingLevel(TracingLevelType value) {
+        this.tracingLevel = value;
+    }
+
+    /**
+     * Gets the value of the loggingLevel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LoggingLevelType }
+     *     
+     */
+    public LoggingLevelType getLoggingLevel() {
+        return loggingLevel;
+    }
+
+    /**
+     * Sets the value of the loggingLevel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LoggingLevelType }
+     *     
+     */
+    public void setLoggingLevel(LoggingLevelType value) {
+        this.loggingLevel = value;
+    }
+
+}
@@ -0,0 +1,2478 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.xml.namespace.QName;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the com.ibm.streams.platform.services package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+public class ObjectFactory {
+
+    private final static QName _InputPortInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "inputPortInfo");
+    private final static QName _JobInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "jobInfo");
+    private final static QName _JobsInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "jobsInfo");
+    private final static QName _OutputPortInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "outputPortInfo");
+    private final static QName _PeInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "peInfo");
+    private final static QName _PesInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "pesInfo");
+    private final static QName _PeCollectionOperationStatus_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "peCollectionOperationStatus");
+    private final static QName _PeStateInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "peStateInfo");
+    private final static QName _PesStateInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "pesStateInfo");
+    private final static QName _PeConfigStateInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "peConfigStateInfo");
+    private final static QName _SamSummaryState_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "samSummaryState");
+    private final static QName _StreamPropertyNames_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "streamPropertyNames");
+    private final static QName _StreamPropertyName_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "streamPropertyName");
+    private final static QName _SystemStateConstraint_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "systemStateConstraint");
+    private final static QName _SystemStateScoping_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "systemStateScoping");
+    private final static QName _SystemState_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "systemState");
+    private final static QName _SystemTopologyScoping_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "systemTopologyScoping");
+    private final static QName _SystemTopology_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "systemTopology");
+    private final static QName _SubmitParams_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "submitParams");
+    private final static QName _CancelParams_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "cancelParams");
+    private final static QName _PortConnectionsInfo_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "portConnectionsInfo");
+    private final static QName _JobNotification_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "jobNotification");
+    private final static QName _ExcludeJobs_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "excludeJobs");
+    private final static QName _ETag_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/sam", "eTag");
+    private final static QName _Application_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "application");
+    private final static QName _ApplicationSet_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "applicationSet");
+    private final static QName _Context_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "context");
+    private final static QName _ImportedStreams_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "importedStreams");
+    private final static QName _StreamProperties_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "streamProperties");
+    private final static QName _StreamProperty_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application", "streamProperty");
+    private final static QName _MessageRecordingConfiguration_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr", "messageRecordingConfiguration");
+    private final static QName _Tuple_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/spl/tupleType", "tuple");
+    private final static QName _AugmentedApplicationSet_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "augmentedApplicationSet");
+    private final static QName _AugmentedPE_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "augmentedPE");
+    private final static QName _AugmentedPEInputPort_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "augmentedPEInputPort");
+    private final static QName _AugmentedPEOutputPort_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "augmentedPEOutputPort");
+    private final static QName _ManagedPE_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "managedPE");
+    private final static QName _Job_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "job");
+    private final static QName _PeIds_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "peIds");
+    private final static QName _PeState_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "peState");
+    private final static QName _PeStateReason_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "peStateReason");
+    private final static QName _JobHealth_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "jobHealth");
+    private final static QName _PeHealth_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "peHealth");
+    private final static QName _Streams_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "streams");
+    private final static QName _Stream_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "stream");
+    private final static QName _StreamId_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "streamId");
+    private final static QName _NameValuePairs_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "nameValuePairs");
+    private final static QName _StreamView_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "streamView");
+    private final static QName _StreamViews_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "streamViews");
+    private final static QName _ImportIndexes_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "importIndexes");
+    private final static QName _ConnectionId_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/augmented", "connectionId");
+    private final static QName _Exception_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/utils", "exception");
+    private final static QName _MessageElement_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/utils", "MessageElement");
+    private final static QName _AdditionalExceptionData_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/utils", "additionalExceptionData");
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: com.ibm.streams.platform.services
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link InputPortInfoType }
+     * 
+     */
+    public InputPortInfoType createInputPortInfoType() {
+        return new InputPortInfoType();
+    }
+
+    /**
+     * Create an instance of {@link JobInfoType }
+     * 
+     */
+    public JobInfoType createJobInfoType() {
+        return new JobInfoType();
+    }
+
+    /**
+     * Create an instance of {@link JobsInfoType }
+     * 
+     */
+    public JobsInfoType createJobsInfoType() {
+        return new JobsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortInfoType }
+     * 
+     */
+    public OutputPortInfoType createOutputPortInfoType() {
+        return new OutputPortInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PeInfoType }
+     * 
+     */
+    public PeInfoType createPeInfoType() {
+        return new PeInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PesInfoType }
+     * 
+     */
+    public PesInfoType createPesInfoType() {
+        return new PesInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PeCollectionOperationStatusType }
+     * 
+     */
+    public PeCollectionOperationStatusType createPeCollectionOperationStatusType() {
+        return new PeCollectionOperationStatusType();
+    }
+
+    /**
+     * Create an instance of {@link PeStateInfoType }
+     * 
+     */
+    public PeStateInfoType createPeStateInfoType() {
+        return new PeStateInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PesStateInfoType }
+     * 
+     */
+    public PesStateInfoType createPesStateInfoType() {
+        return new PesStateInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PeConfigStateInfoType }
+     * 
+     */
+    public PeConfigStateInfoType createPeConfigStateInfoType() {
+        return new PeConfigStateInfoType();
+    }
+
+    /**
+     * Create an instance of {@link SamSummaryStateType }
+     * 
+     */
+    public SamSummaryStateType createSamSummaryStateType() {
+        return new SamSummaryStateType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertyNamesType }
+     * 
+     */
+    public StreamPropertyNamesType createStreamPropertyNamesType() {
+        return new StreamPropertyNamesType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertyNameType }
+     * 
+     */
+    public StreamPropertyNameType createStreamPropertyNameType() {
+        return new StreamPropertyNameType();
+    }
+
+    /**
+     * Create an instance of {@link SystemStateConstraintType }
+     * 
+     */
+    public SystemStateConstraintType createSystemStateConstraintType() {
+        return new SystemStateConstraintType();
+    }
+
+    /**
+     * Create an instance of {@link SystemStateScopingType }
+     * 
+     */
+    public SystemStateScopingType createSystemStateScopingType() {
+        return new SystemStateScopingType();
+    }
+
+    /**
+     * Create an instance of {@link SystemStateType }
+     * 
+     */
+    public SystemStateType createSystemStateType() {
+        return new SystemStateType();
+    }
+
+    /**
+     * Create an instance of {@link SystemTopologyScopingType }
+     * 
+     */
+    public SystemTopologyScopingType createSystemTopologyScopingType() {
+        return new SystemTopologyScopingType();
+    }
+
+    /**
+     * Create an instance of {@link SystemTopologyType }
+     * 
+     */
+    public SystemTopologyType createSystemTopologyType() {
+        return new SystemTopologyType();
+    }
+
+    /**
+     * Create an instance of {@link SubmitParamsType }
+     * 
+     */
+    public SubmitParamsType createSubmitParamsType() {
+        return new SubmitParamsType();
+    }
+
+    /**
+     * Create an instance of {@link CancelParamsType }
+     * 
+     */
+    public CancelParamsType createCancelParamsType() {
+        return new CancelParamsType();
+    }
+
+    /**
+     * Create an instance of {@link PortConnectionsInfoType }
+     * 
+     */
+    public PortConnectionsInfoType createPortConnectionsInfoType() {
+        return new PortConnectionsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link JobNotificationType }
+     * 
+     */
+    public JobNotificationType createJobNotificationType() {
+        return new JobNotificationType();
+    }
+
+    /**
+     * Create an instance of {@link ExcludeJobsType }
+     * 
+     */
+    public ExcludeJobsType createExcludeJobsType() {
+        return new ExcludeJobsType();
+    }
+
+    /**
+     * Create an instance of {@link ETagType }
+     * 
+     */
+    public ETagType createETagType() {
+        return new ETagType();
+    }
+
+    /**
+     * Create an instance of {@link InputPortsInfoType }
+     * 
+     */
+    public InputPortsInfoType createInputPortsInfoType() {
+        return new InputPortsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortsInfoType }
+     * 
+     */
+    public OutputPortsInfoType createOutputPortsInfoType() {
+        return new OutputPortsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link InputPortDynamicConnectionsInfoType }
+     * 
+     */
+    public InputPortDynamicConnectionsInfoType createInputPortDynamicConnectionsInfoType() {
+        return new InputPortDynamicConnectionsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link InputPortDynamicConnectionInfoType }
+     * 
+     */
+    public InputPortDynamicConnectionInfoType createInputPortDynamicConnectionInfoType() {
+        return new InputPortDynamicConnectionInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortDynamicConnectionsInfoType }
+     * 
+     */
+    public OutputPortDynamicConnectionsInfoType createOutputPortDynamicConnectionsInfoType() {
+        return new OutputPortDynamicConnectionsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortDynamicConnectionInfoType }
+     * 
+     */
+    public OutputPortDynamicConnectionInfoType createOutputPortDynamicConnectionInfoType() {
+        return new OutputPortDynamicConnectionInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortStaticConnectionsInfoType }
+     * 
+     */
+    public OutputPortStaticConnectionsInfoType createOutputPortStaticConnectionsInfoType() {
+        return new OutputPortStaticConnectionsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortStaticConnectionInfoType }
+     * 
+     */
+    public OutputPortStaticConnectionInfoType createOutputPortStaticConnectionInfoType() {
+        return new OutputPortStaticConnectionInfoType();
+    }
+
+    /**
+     * Create an instance of {@link ApplicationSetsType }
+     * 
+     */
+    public ApplicationSetsType createApplicationSetsType() {
+        return new ApplicationSetsType();
+    }
+
+    /**
+     * Create an instance of {@link CombinedApplicationSetType }
+     * 
+     */
+    public CombinedApplicationSetType createCombinedApplicationSetType() {
+        return new CombinedApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link JobSetsType }
+     * 
+     */
+    public JobSetsType createJobSetsType() {
+        return new JobSetsType();
+    }
+
+    /**
+     * Create an instance of {@link JobSetType }
+     * 
+     */
+    public JobSetType createJobSetType() {
+        return new JobSetType();
+    }
+
+    /**
+     * Create an instance of {@link IdsType }
+     * 
+     */
+    public IdsType createIdsType() {
+        return new IdsType();
+    }
+
+    /**
+     * Create an instance of {@link IdType }
+     * 
+     */
+    public IdType createIdType() {
+        return new IdType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedApplicationSetsType }
+     * 
+     */
+    public AugmentedApplicationSetsType createAugmentedApplicationSetsType() {
+        return new AugmentedApplicationSetsType();
+    }
+
+    /**
+     * Create an instance of {@link CombinedAugmentedApplicationSetType }
+     * 
+     */
+    public CombinedAugmentedApplicationSetType createCombinedAugmentedApplicationSetType() {
+        return new CombinedAugmentedApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link JobsType }
+     * 
+     */
+    public JobsType createJobsType() {
+        return new JobsType();
+    }
+
+    /**
+     * Create an instance of {@link ManagedPEsType }
+     * 
+     */
+    public ManagedPEsType createManagedPEsType() {
+        return new ManagedPEsType();
+    }
+
+    /**
+     * Create an instance of {@link ExportedStreamsInfoType }
+     * 
+     */
+    public ExportedStreamsInfoType createExportedStreamsInfoType() {
+        return new ExportedStreamsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link ExportedStreamInfoType }
+     * 
+     */
+    public ExportedStreamInfoType createExportedStreamInfoType() {
+        return new ExportedStreamInfoType();
+    }
+
+    /**
+     * Create an instance of {@link ImportSubscriptionsInfoType }
+     * 
+     */
+    public ImportSubscriptionsInfoType createImportSubscriptionsInfoType() {
+        return new ImportSubscriptionsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link ImportSubscriptionInfoType }
+     * 
+     */
+    public ImportSubscriptionInfoType createImportSubscriptionInfoType() {
+        return new ImportSubscriptionInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PortConnectionInfoType }
+     * 
+     */
+    public PortConnectionInfoType createPortConnectionInfoType() {
+        return new PortConnectionInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceOutputPortInfoType }
+     * 
+     */
+    public OperInstanceOutputPortInfoType createOperInstanceOutputPortInfoType() {
+        return new OperInstanceOutputPortInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceOutputPortsInfoType }
+     * 
+     */
+    public OperInstanceOutputPortsInfoType createOperInstanceOutputPortsInfoType() {
+        return new OperInstanceOutputPortsInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceInfoType }
+     * 
+     */
+    public OperInstanceInfoType createOperInstanceInfoType() {
+        return new OperInstanceInfoType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancesInfoType }
+     * 
+     */
+    public OperInstancesInfoType createOperInstancesInfoType() {
+        return new OperInstancesInfoType();
+    }
+
+    /**
+     * Create an instance of {@link PeOperationStatusType }
+     * 
+     */
+    public PeOperationStatusType createPeOperationStatusType() {
+        return new PeOperationStatusType();
+    }
+
+    /**
+     * Create an instance of {@link ApplicationType }
+     * 
+     */
+    public ApplicationType createApplicationType() {
+        return new ApplicationType();
+    }
+
+    /**
+     * Create an instance of {@link ApplicationSetType }
+     * 
+     */
+    public ApplicationSetType createApplicationSetType() {
+        return new ApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link ContextType }
+     * 
+     */
+    public ContextType createContextType() {
+        return new ContextType();
+    }
+
+    /**
+     * Create an instance of {@link ImportedStreamsType }
+     * 
+     */
+    public ImportedStreamsType createImportedStreamsType() {
+        return new ImportedStreamsType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertiesType }
+     * 
+     */
+    public StreamPropertiesType createStreamPropertiesType() {
+        return new StreamPropertiesType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertyType }
+     * 
+     */
+    public StreamPropertyType createStreamPropertyType() {
+        return new StreamPropertyType();
+    }
+
+    /**
+     * Create an instance of {@link EnvVarsType }
+     * 
+     */
+    public EnvVarsType createEnvVarsType() {
+        return new EnvVarsType();
+    }
+
+    /**
+     * Create an instance of {@link EnvVarType }
+     * 
+     */
+    public EnvVarType createEnvVarType() {
+        return new EnvVarType();
+    }
+
+    /**
+     * Create an instance of {@link LibrariesType }
+     * 
+     */
+    public LibrariesType createLibrariesType() {
+        return new LibrariesType();
+    }
+
+    /**
+     * Create an instance of {@link LibraryType }
+     * 
+     */
+    public LibraryType createLibraryType() {
+        return new LibraryType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitsType }
+     * 
+     */
+    public ToolkitsType createToolkitsType() {
+        return new ToolkitsType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitType }
+     * 
+     */
+    public ToolkitType createToolkitType() {
+        return new ToolkitType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricsType }
+     * 
+     */
+    public CustomMetricsType createCustomMetricsType() {
+        return new CustomMetricsType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricType }
+     * 
+     */
+    public CustomMetricType createCustomMetricType() {
+        return new CustomMetricType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolsType }
+     * 
+     */
+    public HostpoolsType createHostpoolsType() {
+        return new HostpoolsType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolType }
+     * 
+     */
+    public HostpoolType createHostpoolType() {
+        return new HostpoolType();
+    }
+
+    /**
+     * Create an instance of {@link HostType }
+     * 
+     */
+    public HostType createHostType() {
+        return new HostType();
+    }
+
+    /**
+     * Create an instance of {@link TagType }
+     * 
+     */
+    public TagType createTagType() {
+        return new TagType();
+    }
+
+    /**
+     * Create an instance of {@link TupleTypesType }
+     * 
+     */
+    public TupleTypesType createTupleTypesType() {
+        return new TupleTypesType();
+    }
+
+    /**
+     * Create an instance of {@link TupleTypeType }
+     * 
+     */
+    public TupleTypeType createTupleTypeType() {
+        return new TupleTypeType();
+    }
+
+    /**
+     * Create an instance of {@link AttributeType }
+     * 
+     */
+    public AttributeType createAttributeType() {
+        return new AttributeType();
+    }
+
+    /**
+     * Create an instance of {@link OperDefinitionsType }
+     * 
+     */
+    public OperDefinitionsType createOperDefinitionsType() {
+        return new OperDefinitionsType();
+    }
+
+    /**
+     * Create an instance of {@link OperDefinitionType }
+     * 
+     */
+    public OperDefinitionType createOperDefinitionType() {
+        return new OperDefinitionType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricIndiciesType }
+     * 
+     */
+    public CustomMetricIndiciesType createCustomMetricIndiciesType() {
+        return new CustomMetricIndiciesType();
+    }
+
+    /**
+     * Create an instance of {@link BasicPEType }
+     * 
+     */
+    public BasicPEType createBasicPEType() {
+        return new BasicPEType();
+    }
+
+    /**
+     * Create an instance of {@link PesType }
+     * 
+     */
+    public PesType createPesType() {
+        return new PesType();
+    }
+
+    /**
+     * Create an instance of {@link PeType }
+     * 
+     */
+    public PeType createPeType() {
+        return new PeType();
+    }
+
+    /**
+     * Create an instance of {@link ExecutableType }
+     * 
+     */
+    public ExecutableType createExecutableType() {
+        return new ExecutableType();
+    }
+
+    /**
+     * Create an instance of {@link DependenciesType }
+     * 
+     */
+    public DependenciesType createDependenciesType() {
+        return new DependenciesType();
+    }
+
+    /**
+     * Create an instance of {@link LibraryDependencyType }
+     * 
+     */
+    public LibraryDependencyType createLibraryDependencyType() {
+        return new LibraryDependencyType();
+    }
+
+    /**
+     * Create an instance of {@link ResourcesType }
+     * 
+     */
+    public ResourcesType createResourcesType() {
+        return new ResourcesType();
+    }
+
+    /**
+     * Create an instance of {@link HostLocationType }
+     * 
+     */
+    public HostLocationType createHostLocationType() {
+        return new HostLocationType();
+    }
+
+    /**
+     * Create an instance of {@link PoolLocationType }
+     * 
+     */
+    public PoolLocationType createPoolLocationType() {
+        return new PoolLocationType();
+    }
+
+    /**
+     * Create an instance of {@link CoLocationType }
+     * 
+     */
+    public CoLocationType createCoLocationType() {
+        return new CoLocationType();
+    }
+
+    /**
+     * Create an instance of {@link ExLocationType }
+     * 
+     */
+    public ExLocationType createExLocationType() {
+        return new ExLocationType();
+    }
+
+    /**
+     * Create an instance of {@link PeInputPortsType }
+     * 
+     */
+    public PeInputPortsType createPeInputPortsType() {
+        return new PeInputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link PeInputPortType }
+     * 
+     */
+    public PeInputPortType createPeInputPortType() {
+        return new PeInputPortType();
+    }
+
+    /**
+     * Create an instance of {@link NameBasedImportType }
+     * 
+     */
+    public NameBasedImportType createNameBasedImportType() {
+        return new NameBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link PropertyBasedImportType }
+     * 
+     */
+    public PropertyBasedImportType createPropertyBasedImportType() {
+        return new PropertyBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePEInputConnectionType }
+     * 
+     */
+    public OperInstancePEInputConnectionType createOperInstancePEInputConnectionType() {
+        return new OperInstancePEInputConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link PeOutputPortsType }
+     * 
+     */
+    public PeOutputPortsType createPeOutputPortsType() {
+        return new PeOutputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link PeOutputPortType }
+     * 
+     */
+    public PeOutputPortType createPeOutputPortType() {
+        return new PeOutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link ExportedStreamType }
+     * 
+     */
+    public ExportedStreamType createExportedStreamType() {
+        return new ExportedStreamType();
+    }
+
+    /**
+     * Create an instance of {@link OutgoingStaticConnectionsType }
+     * 
+     */
+    public OutgoingStaticConnectionsType createOutgoingStaticConnectionsType() {
+        return new OutgoingStaticConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link OutgoingStaticConnectionType }
+     * 
+     */
+    public OutgoingStaticConnectionType createOutgoingStaticConnectionType() {
+        return new OutgoingStaticConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link IncomingStaticConnectionsType }
+     * 
+     */
+    public IncomingStaticConnectionsType createIncomingStaticConnectionsType() {
+        return new IncomingStaticConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link IncomingStaticConnectionType }
+     * 
+     */
+    public IncomingStaticConnectionType createIncomingStaticConnectionType() {
+        return new IncomingStaticConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePEOutputConnectionType }
+     * 
+     */
+    public OperInstancePEOutputConnectionType createOperInstancePEOutputConnectionType() {
+        return new OperInstancePEOutputConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancesType }
+     * 
+     */
+    public OperInstancesType createOperInstancesType() {
+        return new OperInstancesType();
+    }
+
+    /**
+     * Create an instance of {@link SharedObjectType }
+     * 
+     */
+    public SharedObjectType createSharedObjectType() {
+        return new SharedObjectType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceType }
+     * 
+     */
+    public OperInstanceType createOperInstanceType() {
+        return new OperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link ProfilingType }
+     * 
+     */
+    public ProfilingType createProfilingType() {
+        return new ProfilingType();
+    }
+
+    /**
+     * Create an instance of {@link CheckpointingType }
+     * 
+     */
+    public CheckpointingType createCheckpointingType() {
+        return new CheckpointingType();
+    }
+
+    /**
+     * Create an instance of {@link RuntimeConstantsType }
+     * 
+     */
+    public RuntimeConstantsType createRuntimeConstantsType() {
+        return new RuntimeConstantsType();
+    }
+
+    /**
+     * Create an instance of {@link RuntimeConstantType }
+     * 
+     */
+    public RuntimeConstantType createRuntimeConstantType() {
+        return new RuntimeConstantType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeValuesType }
+     * 
+     */
+    public SubmissionTimeValuesType createSubmissionTimeValuesType() {
+        return new SubmissionTimeValuesType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeValueType }
+     * 
+     */
+    public SubmissionTimeValueType createSubmissionTimeValueType() {
+        return new SubmissionTimeValueType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeConfigurationType }
+     * 
+     */
+    public SubmissionTimeConfigurationType createSubmissionTimeConfigurationType() {
+        return new SubmissionTimeConfigurationType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeConfigurationParameterType }
+     * 
+     */
+    public SubmissionTimeConfigurationParameterType createSubmissionTimeConfigurationParameterType() {
+        return new SubmissionTimeConfigurationParameterType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceInputPortsType }
+     * 
+     */
+    public OperInstanceInputPortsType createOperInstanceInputPortsType() {
+        return new OperInstanceInputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePortType }
+     * 
+     */
+    public OperInstancePortType createOperInstancePortType() {
+        return new OperInstancePortType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceInputPortType }
+     * 
+     */
+    public OperInstanceInputPortType createOperInstanceInputPortType() {
+        return new OperInstanceInputPortType();
+    }
+
+    /**
+     * Create an instance of {@link ThreadedPortType }
+     * 
+     */
+    public ThreadedPortType createThreadedPortType() {
+        return new ThreadedPortType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceIncomingConnectionType }
+     * 
+     */
+    public OperInstanceIncomingConnectionType createOperInstanceIncomingConnectionType() {
+        return new OperInstanceIncomingConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceOutputPortsType }
+     * 
+     */
+    public OperInstanceOutputPortsType createOperInstanceOutputPortsType() {
+        return new OperInstanceOutputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceOutputPortType }
+     * 
+     */
+    public OperInstanceOutputPortType createOperInstanceOutputPortType() {
+        return new OperInstanceOutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstanceOutgoingConnectionType }
+     * 
+     */
+    public OperInstanceOutgoingConnectionType createOperInstanceOutgoingConnectionType() {
+        return new OperInstanceOutgoingConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link CompositesType }
+     * 
+     */
+    public CompositesType createCompositesType() {
+        return new CompositesType();
+    }
+
+    /**
+     * Create an instance of {@link UrisType }
+     * 
+     */
+    public UrisType createUrisType() {
+        return new UrisType();
+    }
+
+    /**
+     * Create an instance of {@link UriType }
+     * 
+     */
+    public UriType createUriType() {
+        return new UriType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOpersType }
+     * 
+     */
+    public CompositeOpersType createCompositeOpersType() {
+        return new CompositeOpersType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperType }
+     * 
+     */
+    public CompositeOperType createCompositeOperType() {
+        return new CompositeOperType();
+    }
+
+    /**
+     * Create an instance of {@link SourceLocationType }
+     * 
+     */
+    public SourceLocationType createSourceLocationType() {
+        return new SourceLocationType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancesType }
+     * 
+     */
+    public CompositeOperInstancesType createCompositeOperInstancesType() {
+        return new CompositeOperInstancesType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstanceType }
+     * 
+     */
+    public CompositeOperInstanceType createCompositeOperInstanceType() {
+        return new CompositeOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancePortsType }
+     * 
+     */
+    public CompositeOperInstancePortsType createCompositeOperInstancePortsType() {
+        return new CompositeOperInstancePortsType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancePortType }
+     * 
+     */
+    public CompositeOperInstancePortType createCompositeOperInstancePortType() {
+        return new CompositeOperInstancePortType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePortConnectionsType }
+     * 
+     */
+    public OperInstancePortConnectionsType createOperInstancePortConnectionsType() {
+        return new OperInstancePortConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePortConnectionType }
+     * 
+     */
+    public OperInstancePortConnectionType createOperInstancePortConnectionType() {
+        return new OperInstancePortConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceType }
+     * 
+     */
+    public PrimitiveOperInstanceType createPrimitiveOperInstanceType() {
+        return new PrimitiveOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstancePortsType }
+     * 
+     */
+    public PrimitiveOperInstancePortsType createPrimitiveOperInstancePortsType() {
+        return new PrimitiveOperInstancePortsType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstancePortType }
+     * 
+     */
+    public PrimitiveOperInstancePortType createPrimitiveOperInstancePortType() {
+        return new PrimitiveOperInstancePortType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationListEntryValueType }
+     * 
+     */
+    public AnnotationListEntryValueType createAnnotationListEntryValueType() {
+        return new AnnotationListEntryValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationListValueType }
+     * 
+     */
+    public AnnotationListValueType createAnnotationListValueType() {
+        return new AnnotationListValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationAttributeValueType }
+     * 
+     */
+    public AnnotationAttributeValueType createAnnotationAttributeValueType() {
+        return new AnnotationAttributeValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationTupleValueType }
+     * 
+     */
+    public AnnotationTupleValueType createAnnotationTupleValueType() {
+        return new AnnotationTupleValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationType }
+     * 
+     */
+    public AnnotationType createAnnotationType() {
+        return new AnnotationType();
+    }
+
+    /**
+     * Create an instance of {@link SplAnnotationType }
+     * 
+     */
+    public SplAnnotationType createSplAnnotationType() {
+        return new SplAnnotationType();
+    }
+
+    /**
+     * Create an instance of {@link SplAnnotationValueType }
+     * 
+     */
+    public SplAnnotationValueType createSplAnnotationValueType() {
+        return new SplAnnotationValueType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionsType }
+     * 
+     */
+    public ParallelRegionsType createParallelRegionsType() {
+        return new ParallelRegionsType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionType }
+     * 
+     */
+    public ParallelRegionType createParallelRegionType() {
+        return new ParallelRegionType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelOperatorType }
+     * 
+     */
+    public ParallelOperatorType createParallelOperatorType() {
+        return new ParallelOperatorType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionSplitterType }
+     * 
+     */
+    public ParallelRegionSplitterType createParallelRegionSplitterType() {
+        return new ParallelRegionSplitterType();
+    }
+
+    /**
+     * Create an instance of {@link SplitterType }
+     * 
+     */
+    public SplitterType createSplitterType() {
+        return new SplitterType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelChannelType }
+     * 
+     */
+    public ParallelChannelType createParallelChannelType() {
+        return new ParallelChannelType();
+    }
+
+    /**
+     * Create an instance of {@link PartitioningAttributesType }
+     * 
+     */
+    public PartitioningAttributesType createPartitioningAttributesType() {
+        return new PartitioningAttributesType();
+    }
+
+    /**
+     * Create an instance of {@link PartitioningAttributeType }
+     * 
+     */
+    public PartitioningAttributeType createPartitioningAttributeType() {
+        return new PartitioningAttributeType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelWidthType }
+     * 
+     */
+    public ParallelWidthType createParallelWidthType() {
+        return new ParallelWidthType();
+    }
+
+    /**
+     * Create an instance of {@link MessageRecordingConfigurationType }
+     * 
+     */
+    public MessageRecordingConfigurationType createMessageRecordingConfigurationType() {
+        return new MessageRecordingConfigurationType();
+    }
+
+    /**
+     * Create an instance of {@link TracingType }
+     * 
+     */
+    public TracingType createTracingType() {
+        return new TracingType();
+    }
+
+    /**
+     * Create an instance of {@link TupleType }
+     * 
+     */
+    public TupleType createTupleType() {
+        return new TupleType();
+    }
+
+    /**
+     * Create an instance of {@link OptionalType }
+     * 
+     */
+    public OptionalType createOptionalType() {
+        return new OptionalType();
+    }
+
+    /**
+     * Create an instance of {@link AttrType }
+     * 
+     */
+    public AttrType createAttrType() {
+        return new AttrType();
+    }
+
+    /**
+     * Create an instance of {@link TypeType }
+     * 
+     */
+    public TypeType createTypeType() {
+        return new TypeType();
+    }
+
+    /**
+     * Create an instance of {@link ListOrSetType }
+     * 
+     */
+    public ListOrSetType createListOrSetType() {
+        return new ListOrSetType();
+    }
+
+    /**
+     * Create an instance of {@link MapType }
+     * 
+     */
+    public MapType createMapType() {
+        return new MapType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedApplicationSetType }
+     * 
+     */
+    public AugmentedApplicationSetType createAugmentedApplicationSetType() {
+        return new AugmentedApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEType }
+     * 
+     */
+    public AugmentedPEType createAugmentedPEType() {
+        return new AugmentedPEType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEInputPortType }
+     * 
+     */
+    public AugmentedPEInputPortType createAugmentedPEInputPortType() {
+        return new AugmentedPEInputPortType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEOutputPortType }
+     * 
+     */
+    public AugmentedPEOutputPortType createAugmentedPEOutputPortType() {
+        return new AugmentedPEOutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link ManagedPEType }
+     * 
+     */
+    public ManagedPEType createManagedPEType() {
+        return new ManagedPEType();
+    }
+
+    /**
+     * Create an instance of {@link JobType }
+     * 
+     */
+    public JobType createJobType() {
+        return new JobType();
+    }
+
+    /**
+     * Create an instance of {@link PeIdsType }
+     * 
+     */
+    public PeIdsType createPeIdsType() {
+        return new PeIdsType();
+    }
+
+    /**
+     * Create an instance of {@link JobHealthType }
+     * 
+     */
+    public JobHealthType createJobHealthType() {
+        return new JobHealthType();
+    }
+
+    /**
+     * Create an instance of {@link PeHealthType }
+     * 
+     */
+    public PeHealthType createPeHealthType() {
+        return new PeHealthType();
+    }
+
+    /**
+     * Create an instance of {@link StreamsType }
+     * 
+     */
+    public StreamsType createStreamsType() {
+        return new StreamsType();
+    }
+
+    /**
+     * Create an instance of {@link StreamType }
+     * 
+     */
+    public StreamType createStreamType() {
+        return new StreamType();
+    }
+
+    /**
+     * Create an instance of {@link StreamIdType }
+     * 
+     */
+    public StreamIdType createStreamIdType() {
+        return new StreamIdType();
+    }
+
+    /**
+     * Create an instance of {@link NameValuePairsType }
+     * 
+     */
+    public NameValuePairsType createNameValuePairsType() {
+        return new NameValuePairsType();
+    }
+
+    /**
+     * Create an instance of {@link StreamViewType }
+     * 
+     */
+    public StreamViewType createStreamViewType() {
+        return new StreamViewType();
+    }
+
+    /**
+     * Create an instance of {@link StreamViewsType }
+     * 
+     */
+    public StreamViewsType createStreamViewsType() {
+        return new StreamViewsType();
+    }
+
+    /**
+     * Create an instance of {@link ImportIndexesType }
+     * 
+     */
+    public ImportIndexesType createImportIndexesType() {
+        return new ImportIndexesType();
+    }
+
+    /**
+     * Create an instance of {@link ConnectionIdType }
+     * 
+     */
+    public ConnectionIdType createConnectionIdType() {
+        return new ConnectionIdType();
+    }
+
+    /**
+     * Create an instance of {@link JobIdsType }
+     * 
+     */
+    public JobIdsType createJobIdsType() {
+        return new JobIdsType();
+    }
+
+    /**
+     * Create an instance of {@link JobIdType }
+     * 
+     */
+    public JobIdType createJobIdType() {
+        return new JobIdType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolAllocationsType }
+     * 
+     */
+    public HostpoolAllocationsType createHostpoolAllocationsType() {
+        return new HostpoolAllocationsType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolAllocationType }
+     * 
+     */
+    public HostpoolAllocationType createHostpoolAllocationType() {
+        return new HostpoolAllocationType();
+    }
+
+    /**
+     * Create an instance of {@link HostAllocationType }
+     * 
+     */
+    public HostAllocationType createHostAllocationType() {
+        return new HostAllocationType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEsType }
+     * 
+     */
+    public AugmentedPEsType createAugmentedPEsType() {
+        return new AugmentedPEsType();
+    }
+
+    /**
+     * Create an instance of {@link TracingEmploymentType }
+     * 
+     */
+    public TracingEmploymentType createTracingEmploymentType() {
+        return new TracingEmploymentType();
+    }
+
+    /**
+     * Create an instance of {@link PeIdType }
+     * 
+     */
+    public PeIdType createPeIdType() {
+        return new PeIdType();
+    }
+
+    /**
+     * Create an instance of {@link StreamViewIdsType }
+     * 
+     */
+    public StreamViewIdsType createStreamViewIdsType() {
+        return new StreamViewIdsType();
+    }
+
+    /**
+     * Create an instance of {@link StreamViewIdType }
+     * 
+     */
+    public StreamViewIdType createStreamViewIdType() {
+        return new StreamViewIdType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEInputPortsType }
+     * 
+     */
+    public AugmentedPEInputPortsType createAugmentedPEInputPortsType() {
+        return new AugmentedPEInputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link AugmentedPEOutputPortsType }
+     * 
+     */
+    public AugmentedPEOutputPortsType createAugmentedPEOutputPortsType() {
+        return new AugmentedPEOutputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link OutgoingStaticOPConnectionsType }
+     * 
+     */
+    public OutgoingStaticOPConnectionsType createOutgoingStaticOPConnectionsType() {
+        return new OutgoingStaticOPConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link OutgoingStaticOPConnectionType }
+     * 
+     */
+    public OutgoingStaticOPConnectionType createOutgoingStaticOPConnectionType() {
+        return new OutgoingStaticOPConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link IncomingStaticIPConnectionsType }
+     * 
+     */
+    public IncomingStaticIPConnectionsType createIncomingStaticIPConnectionsType() {
+        return new IncomingStaticIPConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link IncomingStaticIPConnectionType }
+     * 
+     */
+    public IncomingStaticIPConnectionType createIncomingStaticIPConnectionType() {
+        return new IncomingStaticIPConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link ConnectionIdsType }
+     * 
+     */
+    public ConnectionIdsType createConnectionIdsType() {
+        return new ConnectionIdsType();
+    }
+
+    /**
+     * Create an instance of {@link NameValuePairType }
+     * 
+     */
+    public NameValuePairType createNameValuePairType() {
+        return new NameValuePairType();
+    }
+
+    /**
+     * Create an instance of {@link PhysPEType }
+     * 
+     */
+    public PhysPEType createPhysPEType() {
+        return new PhysPEType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitsMapType }
+     * 
+     */
+    public ToolkitsMapType createToolkitsMapType() {
+        return new ToolkitsMapType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitMapType }
+     * 
+     */
+    public ToolkitMapType createToolkitMapType() {
+        return new ToolkitMapType();
+    }
+
+    /**
+     * Create an instance of {@link PhysParallelRegionType }
+     * 
+     */
+    public PhysParallelRegionType createPhysParallelRegionType() {
+        return new PhysParallelRegionType();
+    }
+
+    /**
+     * Create an instance of {@link PhysParallelRegionsType }
+     * 
+     */
+    public PhysParallelRegionsType createPhysParallelRegionsType() {
+        return new PhysParallelRegionsType();
+    }
+
+    /**
+     * Create an instance of {@link PhysOperInstanceType }
+     * 
+     */
+    public PhysOperInstanceType createPhysOperInstanceType() {
+        return new PhysOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link JvmArgumentsType }
+     * 
+     */
+    public JvmArgumentsType createJvmArgumentsType() {
+        return new JvmArgumentsType();
+    }
+
+    /**
+     * Create an instance of {@link PhysPropertyBasedImportType }
+     * 
+     */
+    public PhysPropertyBasedImportType createPhysPropertyBasedImportType() {
+        return new PhysPropertyBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link PhysExportedStreamType }
+     * 
+     */
+    public PhysExportedStreamType createPhysExportedStreamType() {
+        return new PhysExportedStreamType();
+    }
+
+    /**
+     * Create an instance of {@link PhysStreamPropertyType }
+     * 
+     */
+    public PhysStreamPropertyType createPhysStreamPropertyType() {
+        return new PhysStreamPropertyType();
+    }
+
+    /**
+     * Create an instance of {@link PhysImportedStreamsType }
+     * 
+     */
+    public PhysImportedStreamsType createPhysImportedStreamsType() {
+        return new PhysImportedStreamsType();
+    }
+
+    /**
+     * Create an instance of {@link PhysNameBasedImportType }
+     * 
+     */
+    public PhysNameBasedImportType createPhysNameBasedImportType() {
+        return new PhysNameBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link PhysOperInstanceOutputPortType }
+     * 
+     */
+    public PhysOperInstanceOutputPortType createPhysOperInstanceOutputPortType() {
+        return new PhysOperInstanceOutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link PhysApplicationSetType }
+     * 
+     */
+    public PhysApplicationSetType createPhysApplicationSetType() {
+        return new PhysApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link ExceptionType }
+     * 
+     */
+    public ExceptionType createExceptionType() {
+        return new ExceptionType();
+    }
+
+    /**
+     * Create an instance of {@link MessageElementType }
+     * 
+     */
+    public MessageElementType createMessageElementType() {
+        return new MessageElementType();
+    }
+
+    /**
+     * Create an instance of {@link AdditionalExceptionDataType }
+     * 
+     */
+    public AdditionalExceptionDataType createAdditionalExceptionDataType() {
+        return new AdditionalExceptionDataType();
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link InputPortInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link InputPortInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "inputPortInfo")
+    public JAXBElement<InputPortInfoType> createInputPortInfo(InputPortInfoType value) {
+        return new JAXBElement<InputPortInfoType>(_InputPortInfo_QNAME, InputPortInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link JobInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link JobInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "jobInfo")
+    public JAXBElement<JobInfoType> createJobInfo(JobInfoType value) {
+        return new JAXBElement<JobInfoType>(_JobInfo_QNAME, JobInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link JobsInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link JobsInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "jobsInfo")
+    public JAXBElement<JobsInfoType> createJobsInfo(JobsInfoType value) {
+        return new JAXBElement<JobsInfoType>(_JobsInfo_QNAME, JobsInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link OutputPortInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link OutputPortInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "outputPortInfo")
+    public JAXBElement<OutputPortInfoType> createOutputPortInfo(OutputPortInfoType value) {
+        return new JAXBElement<OutputPortInfoType>(_OutputPortInfo_QNAME, OutputPortInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "peInfo")
+    public JAXBElement<PeInfoType> createPeInfo(PeInfoType value) {
+        return new JAXBElement<PeInfoType>(_PeInfo_QNAME, PeInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PesInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PesInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "pesInfo")
+    public JAXBElement<PesInfoType> createPesInfo(PesInfoType value) {
+        return new JAXBElement<PesInfoType>(_PesInfo_QNAME, PesInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeCollectionOperationStatusType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeCollectionOperationStatusType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "peCollectionOperationStatus")
+    public JAXBElement<PeCollectionOperationStatusType> createPeCollectionOperationStatus(PeCollectionOperationStatusType value) {
+        return new JAXBElement<PeCollectionOperationStatusType>(_PeCollectionOperationStatus_QNAME, PeCollectionOperationStatusType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeStateInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeStateInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "peStateInfo")
+    public JAXBElement<PeStateInfoType> createPeStateInfo(PeStateInfoType value) {
+        return new JAXBElement<PeStateInfoType>(_PeStateInfo_QNAME, PeStateInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PesStateInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PesStateInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "pesStateInfo")
+    public JAXBElement<PesStateInfoType> createPesStateInfo(PesStateInfoType value) {
+        return new JAXBElement<PesStateInfoType>(_PesStateInfo_QNAME, PesStateInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeConfigStateInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeConfigStateInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "peConfigStateInfo")
+    public JAXBElement<PeConfigStateInfoType> createPeConfigStateInfo(PeConfigStateInfoType value) {
+        return new JAXBElement<PeConfigStateInfoType>(_PeConfigStateInfo_QNAME, PeConfigStateInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SamSummaryStateType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SamSummaryStateType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "samSummaryState")
+    public JAXBElement<SamSummaryStateType> createSamSummaryState(SamSummaryStateType value) {
+        return new JAXBElement<SamSummaryStateType>(_SamSummaryState_QNAME, SamSummaryStateType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertyNamesType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertyNamesType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "streamPropertyNames")
+    public JAXBElement<StreamPropertyNamesType> createStreamPropertyNames(StreamPropertyNamesType value) {
+        return new JAXBElement<StreamPropertyNamesType>(_StreamPropertyNames_QNAME, StreamPropertyNamesType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertyNameType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertyNameType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "streamPropertyName")
+    public JAXBElement<StreamPropertyNameType> createStreamPropertyName(StreamPropertyNameType value) {
+        return new JAXBElement<StreamPropertyNameType>(_StreamPropertyName_QNAME, StreamPropertyNameType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SystemStateConstraintType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SystemStateConstraintType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "systemStateConstraint")
+    public JAXBElement<SystemStateConstraintType> createSystemStateConstraint(SystemStateConstraintType value) {
+        return new JAXBElement<SystemStateConstraintType>(_SystemStateConstraint_QNAME, SystemStateConstraintType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SystemStateScopingType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SystemStateScopingType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "systemStateScoping")
+    public JAXBElement<SystemStateScopingType> createSystemStateScoping(SystemStateScopingType value) {
+        return new JAXBElement<SystemStateScopingType>(_SystemStateScoping_QNAME, SystemStateScopingType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SystemStateType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SystemStateType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "systemState")
+    public JAXBElement<SystemStateType> createSystemState(SystemStateType value) {
+        return new JAXBElement<SystemStateType>(_SystemState_QNAME, SystemStateType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SystemTopologyScopingType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SystemTopologyScopingType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "systemTopologyScoping")
+    public JAXBElement<SystemTopologyScopingType> createSystemTopologyScoping(SystemTopologyScopingType value) {
+        return new JAXBElement<SystemTopologyScopingType>(_SystemTopologyScoping_QNAME, SystemTopologyScopingType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SystemTopologyType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SystemTopologyType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "systemTopology")
+    public JAXBElement<SystemTopologyType> createSystemTopology(SystemTopologyType value) {
+        return new JAXBElement<SystemTopologyType>(_SystemTopology_QNAME, SystemTopologyType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link SubmitParamsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link SubmitParamsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "submitParams")
+    public JAXBElement<SubmitParamsType> createSubmitParams(SubmitParamsType value) {
+        return new JAXBElement<SubmitParamsType>(_SubmitParams_QNAME, SubmitParamsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link CancelParamsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link CancelParamsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "cancelParams")
+    public JAXBElement<CancelParamsType> createCancelParams(CancelParamsType value) {
+        return new JAXBElement<CancelParamsType>(_CancelParams_QNAME, CancelParamsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PortConnectionsInfoType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PortConnectionsInfoType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "portConnectionsInfo")
+    public JAXBElement<PortConnectionsInfoType> createPortConnectionsInfo(PortConnectionsInfoType value) {
+        return new JAXBElement<PortConnectionsInfoType>(_PortConnectionsInfo_QNAME, PortConnectionsInfoType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link JobNotificationType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link JobNotificationType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "jobNotification")
+    public JAXBElement<JobNotificationType> createJobNotification(JobNotificationType value) {
+        return new JAXBElement<JobNotificationType>(_JobNotification_QNAME, JobNotificationType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ExcludeJobsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ExcludeJobsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "excludeJobs")
+    public JAXBElement<ExcludeJobsType> createExcludeJobs(ExcludeJobsType value) {
+        return new JAXBElement<ExcludeJobsType>(_ExcludeJobs_QNAME, ExcludeJobsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ETagType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ETagType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", name = "eTag")
+    public JAXBElement<ETagType> createETag(ETagType value) {
+        return new JAXBElement<ETagType>(_ETag_QNAME, ETagType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ApplicationType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ApplicationType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "application")
+    public JAXBElement<ApplicationType> createApplication(ApplicationType value) {
+        return new JAXBElement<ApplicationType>(_Application_QNAME, ApplicationType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ApplicationSetType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ApplicationSetType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "applicationSet")
+    public JAXBElement<ApplicationSetType> createApplicationSet(ApplicationSetType value) {
+        return new JAXBElement<ApplicationSetType>(_ApplicationSet_QNAME, ApplicationSetType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ContextType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ContextType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "context")
+    public JAXBElement<ContextType> createContext(ContextType value) {
+        return new JAXBElement<ContextType>(_Context_QNAME, ContextType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ImportedStreamsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ImportedStreamsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "importedStreams")
+    public JAXBElement<ImportedStreamsType> createImportedStreams(ImportedStreamsType value) {
+        return new JAXBElement<ImportedStreamsType>(_ImportedStreams_QNAME, ImportedStreamsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertiesType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertiesType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "streamProperties")
+    public JAXBElement<StreamPropertiesType> createStreamProperties(StreamPropertiesType value) {
+        return new JAXBElement<StreamPropertiesType>(_StreamProperties_QNAME, StreamPropertiesType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertyType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertyType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application", name = "streamProperty")
+    public JAXBElement<StreamPropertyType> createStreamProperty(StreamPropertyType value) {
+        return new JAXBElement<StreamPropertyType>(_StreamProperty_QNAME, StreamPropertyType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link MessageRecordingConfigurationType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link MessageRecordingConfigurationType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr", name = "messageRecordingConfiguration")
+    public JAXBElement<MessageRecordingConfigurationType> createMessageRecordingConfiguration(MessageRecordingConfigurationType value) {
+        return new JAXBElement<MessageRecordingConfigurationType>(_MessageRecordingConfiguration_QNAME, MessageRecordingConfigurationType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link TupleType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link TupleType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/spl/tupleType", name = "tuple")
+    public JAXBElement<TupleType> createTuple(TupleType value) {
+        return new JAXBElement<TupleType>(_Tuple_QNAME, TupleType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link AugmentedApplicationSetType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link AugmentedApplicationSetType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "augmentedApplicationSet")
+    public JAXBElement<AugmentedApplicationSetType> createAugmentedApplicationSet(AugmentedApplicationSetType value) {
+        return new JAXBElement<AugmentedApplicationSetType>(_AugmentedApplicationSet_QNAME, AugmentedApplicationSetType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link AugmentedPEType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link AugmentedPEType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "augmentedPE")
+    public JAXBElement<AugmentedPEType> createAugmentedPE(AugmentedPEType value) {
+        return new JAXBElement<AugmentedPEType>(_AugmentedPE_QNAME, AugmentedPEType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link AugmentedPEInputPortType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link AugmentedPEInputPortType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "augmentedPEInputPort")
+    public JAXBElement<AugmentedPEInputPortType> createAugmentedPEInputPort(AugmentedPEInputPortType value) {
+        return new JAXBElement<AugmentedPEInputPortType>(_AugmentedPEInputPort_QNAME, AugmentedPEInputPortType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link AugmentedPEOutputPortType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link AugmentedPEOutputPortType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "augmentedPEOutputPort")
+    public JAXBElement<AugmentedPEOutputPortType> createAugmentedPEOutputPort(AugmentedPEOutputPortType value) {
+        return new JAXBElement<AugmentedPEOutputPortType>(_AugmentedPEOutputPort_QNAME, AugmentedPEOutputPortType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ManagedPEType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ManagedPEType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "managedPE")
+    public JAXBElement<ManagedPEType> createManagedPE(ManagedPEType value) {
+        return new JAXBElement<ManagedPEType>(_ManagedPE_QNAME, ManagedPEType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link JobType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link JobType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "job")
+    public JAXBElement<JobType> createJob(JobType value) {
+        return new JAXBElement<JobType>(_Job_QNAME, JobType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeIdsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeIdsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "peIds")
+    public JAXBElement<PeIdsType> createPeIds(PeIdsType value) {
+        return new JAXBElement<PeIdsType>(_PeIds_QNAME, PeIdsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeStateType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeStateType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "peState")
+    public JAXBElement<PeStateType> createPeState(PeStateType value) {
+        return new JAXBElement<PeStateType>(_PeState_QNAME, PeStateType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeStateReasonType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeStateReasonType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "peStateReason")
+    public JAXBElement<PeStateReasonType> createPeStateReason(PeStateReasonType value) {
+        return new JAXBElement<PeStateReasonType>(_PeStateReason_QNAME, PeStateReasonType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link JobHealthType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link JobHealthType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "jobHealth")
+    public JAXBElement<JobHealthType> createJobHealth(JobHealthType value) {
+        return new JAXBElement<JobHealthType>(_JobHealth_QNAME, JobHealthType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link PeHealthType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link PeHealthType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "peHealth")
+    public JAXBElement<PeHealthType> createPeHealth(PeHealthType value) {
+        return new JAXBElement<PeHealthType>(_PeHealth_QNAME, PeHealthType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "streams")
+    public JAXBElement<StreamsType> createStreams(StreamsType value) {
+        return new JAXBElement<StreamsType>(_Streams_QNAME, StreamsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "stream")
+    public JAXBElement<StreamType> createStream(StreamType value) {
+        return new JAXBElement<StreamType>(_Stream_QNAME, StreamType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamIdType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamIdType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "streamId")
+    public JAXBElement<StreamIdType> createStreamId(StreamIdType value) {
+        return new JAXBElement<StreamIdType>(_StreamId_QNAME, StreamIdType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link NameValuePairsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link NameValuePairsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "nameValuePairs")
+    public JAXBElement<NameValuePairsType> createNameValuePairs(NameValuePairsType value) {
+        return new JAXBElement<NameValuePairsType>(_NameValuePairs_QNAME, NameValuePairsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamViewType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamViewType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "streamView")
+    public JAXBElement<StreamViewType> createStreamView(StreamViewType value) {
+        return new JAXBElement<StreamViewType>(_StreamView_QNAME, StreamViewType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamViewsType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamViewsType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "streamViews")
+    public JAXBElement<StreamViewsType> createStreamViews(StreamViewsType value) {
+        return new JAXBElement<StreamViewsType>(_StreamViews_QNAME, StreamViewsType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ImportIndexesType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ImportIndexesType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "importIndexes")
+    public JAXBElement<ImportIndexesType> createImportIndexes(ImportIndexesType value) {
+        return new JAXBElement<ImportIndexesType>(_ImportIndexes_QNAME, ImportIndexesType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ConnectionIdType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ConnectionIdType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", name = "connectionId")
+    public JAXBElement<ConnectionIdType> createConnectionId(ConnectionIdType value) {
+        return new JAXBElement<ConnectionIdType>(_ConnectionId_QNAME, ConnectionIdType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ExceptionType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ExceptionType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", name = "exception")
+    public JAXBElement<ExceptionType> createException(ExceptionType value) {
+        return new JAXBElement<ExceptionType>(_Exception_QNAME, ExceptionType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link MessageElementType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link MessageElementType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", name = "MessageElement")
+    public JAXBElement<MessageElementType> createMessageElement(MessageElementType value) {
+        return new JAXBElement<MessageElementType>(_MessageElement_QNAME, MessageElementType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link AdditionalExceptionDataType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link AdditionalExceptionDataType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", name = "additionalExceptionData")
+    public JAXBElement<AdditionalExceptionDataType> createAdditionalExceptionData(AdditionalExceptionDataType value) {
+        return new JAXBElement<AdditionalExceptionDataType>(_AdditionalExceptionData_QNAME, AdditionalExceptionDataType.class, null, value);
+    }
+
+}
@@ -0,0 +1,160 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents an operator definition. An operator has a kind, an index number, custom metrics, and 0 or more SPL annotations.
+ *       
+ * 
+ * <p>Java class for operDefinitionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operDefinitionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="customMetricIndicies" type="{http://www.ibm.com/xmlns/prod/streams/application}customMetricIndiciesType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="kind" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="runtimeType" type="{http://www.ibm.com/xmlns/prod/streams/application}operatorRuntimeType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operDefinitionType", propOrder = {
+    "customMetricIndicies"
+})
+public class OperDefinitionType {
+
+    protected CustomMetricIndiciesType customMetricIndicies;
+    @XmlAttribute(name = "kind", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String kind;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "runtimeType")
+    protected OperatorRuntimeType runtimeType;
+
+    /**
+     * Gets the value of the customMetricIndicies property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CustomMetricIndiciesType }
+     *     
+     */
+    public CustomMetricIndiciesType getCustomMetricIndicies() {
+        return customMetricIndicies;
+    }
+
+    /**
+     * Sets the value of the customMetricIndicies property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CustomMetricIndiciesType }
+     *     
+     */
+    public void setCustomMetricIndicies(CustomMetricIndiciesType value) {
+        this.customMetricIndicies = value;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setKind(String value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the runtimeType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperatorRuntimeType }
+     *     
+     */
+    public OperatorRuntimeType getRuntimeType() {
+        return runtimeType;
+    }
+
+    /**
+     * Sets the value of the runtimeType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperatorRuntimeType }
+     *     
+     */
+    public void setRuntimeType(OperatorRuntimeType value) {
+        this.runtimeType = value;
+    }
+
+}
@@ -0,0 +1,184 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores information on a particular operator input port's incoming connection, specifically, the operator instance identifier (via the operInstanceIndex attribute) and its output port (via the oportIndex attribute) producing the stream statically routed to the input port.
+ *       
+ * 
+ * <p>Java class for operInstanceIncomingConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstanceIncomingConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="operInstanceIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="oportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="splitterIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="channelIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="pePortIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstanceIncomingConnectionType")
+public class OperInstanceIncomingConnectionType {
+
+    @XmlAttribute(name = "operInstanceIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger operInstanceIndex;
+    @XmlAttribute(name = "oportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger oportIndex;
+    @XmlAttribute(name = "splitterIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger splitterIndex;
+    @XmlAttribute(name = "channelIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger channelIndex;
+    @XmlAttribute(name = "pePortIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pePortIndex;
+
+    /**
+     * Gets the value of the operInstanceIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOperInstanceIndex() {
+        return operInstanceIndex;
+    }
+
+    /**
+     * Sets the value of the operInstanceIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOperInstanceIndex(BigInteger value) {
+        this.operInstanceIndex = value;
+    }
+
+    /**
+     * Gets the value of the oportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOportIndex() {
+        return oportIndex;
+    }
+
+    /**
+     * Sets the value of the oportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOportIndex(BigInteger value) {
+        this.oportIndex = value;
+    }
+
+    /**
+     * Gets the value of the splitterIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSplitterIndex() {
+        return splitterIndex;
+    }
+
+    /**
+     * Sets the value of the splitterIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSplitterIndex(BigInteger value) {
+        this.splitterIndex = value;
+    }
+
+    /**
+     * Gets the value of the channelIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getChannelIndex() {
+        return channelIndex;
+    }
+
+    /**
+     * Sets the value of the channelIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setChannelIndex(BigInteger value) {
+        this.channelIndex = value;
+    }
+
+    /**
+     * Gets the value of the pePortIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPePortIndex() {
+        return pePortIndex;
+    }
+
+    /**
+     * Sets the value of the pePortIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPePortIndex(BigInteger value) {
+        this.pePortIndex = value;
+    }
+
+}
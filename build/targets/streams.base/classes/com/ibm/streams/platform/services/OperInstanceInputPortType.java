@@ -0,0 +1,167 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores configurations regarding an operator instance's input port. In addition to the fields it inherits from operInstancePortType, it also includes information on inter-PE connections (via the interPeConnection element), indicating which other operators placed on different PEs have streams feeding into this input port. It also includes information on intra-PE connections (via the intraPeConnection element), indicating which other operators co-located in the same PE as this one have streams feeding into this input port. Optionally, the input port can be marked as threaded (via the threadPort element), indicating that multiple incoming tuples can potentially be processed in parallel by this operator.
+ *       
+ * 
+ * <p>Java class for operInstanceInputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstanceInputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePortType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="interPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceIncomingConnectionType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="intraPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceIncomingConnectionType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="threadedPort" type="{http://www.ibm.com/xmlns/prod/streams/application}threadedPortType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="isControl" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstanceInputPortType", propOrder = {
+    "interPeConnection",
+    "intraPeConnection",
+    "threadedPort"
+})
+public class OperInstanceInputPortType
+    extends OperInstancePortType
+{
+
+    protected List<OperInstanceIncomingConnectionType> interPeConnection;
+    protected List<OperInstanceIncomingConnectionType> intraPeConnection;
+    protected ThreadedPortType threadedPort;
+    @XmlAttribute(name = "isControl")
+    protected Boolean isControl;
+
+    /**
+     * Gets the value of the interPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the interPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInterPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceIncomingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceIncomingConnectionType> getInterPeConnection() {
+        if (interPeConnection == null) {
+            interPeConnection = new ArrayList<OperInstanceIncomingConnectionType>();
+        }
+        return this.interPeConnection;
+    }
+
+    /**
+     * Gets the value of the intraPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the intraPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getIntraPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceIncomingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceIncomingConnectionType> getIntraPeConnection() {
+        if (intraPeConnection == null) {
+            intraPeConnection = new ArrayList<OperInstanceIncomingConnectionType>();
+        }
+        return this.intraPeConnection;
+    }
+
+    /**
+     * Gets the value of the threadedPort property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ThreadedPortType }
+     *     
+     */
+    public ThreadedPortType getThreadedPort() {
+        return threadedPort;
+    }
+
+    /**
+     * Sets the value of the threadedPort property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ThreadedPortType }
+     *     
+     */
+    public void setThreadedPort(ThreadedPortType value) {
+        this.threadedPort = value;
+    }
+
+    /**
+     * Gets the value of the isControl property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIsControl() {
+        return isControl;
+    }
+
+    /**
+     * Sets the value of the isControl property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIsControl(Boolean value) {
+        this.isControl = value;
+    }
+
+}
@@ -0,0 +1,128 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores information on a particular operator output port's static outgoing connection, specifically, the operator instance identifier (via the operInstanceIndex attribute) and its input port (via the iportIndex attribute) consuming the stream produced by the output port.
+ *       
+ * 
+ * <p>Java class for operInstanceOutgoingConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstanceOutgoingConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="operInstanceIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="pePortIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstanceOutgoingConnectionType")
+public class OperInstanceOutgoingConnectionType {
+
+    @XmlAttribute(name = "operInstanceIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger operInstanceIndex;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+    @XmlAttribute(name = "pePortIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pePortIndex;
+
+    /**
+     * Gets the value of the operInstanceIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOperInstanceIndex() {
+        return operInstanceIndex;
+    }
+
+    /**
+     * Sets the value of the operInstanceIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOperInstanceIndex(BigInteger value) {
+        this.operInstanceIndex = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+    /**
+     * Gets the value of the pePortIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPePortIndex() {
+        return pePortIndex;
+    }
+
+    /**
+     * Sets the value of the pePortIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPePortIndex(BigInteger value) {
+        this.pePortIndex = value;
+    }
+
+}
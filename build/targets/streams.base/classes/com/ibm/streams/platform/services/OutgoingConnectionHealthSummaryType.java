@@ -0,0 +1,47 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for outgoingConnectionHealthSummaryType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="outgoingConnectionHealthSummaryType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="UP"/&gt;
+ *     &lt;enumeration value="PARTIAL_UP"/&gt;
+ *     &lt;enumeration value="DOWN"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "outgoingConnectionHealthSummaryType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+@XmlEnum
+public enum OutgoingConnectionHealthSummaryType {
+
+    UP,
+    PARTIAL_UP,
+    DOWN;
+
+    public String value() {
+        return name();
+    }
+
+    public static OutgoingConnectionHealthSummaryType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
@@ -0,0 +1,100 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a particular outgoing (from an output port) static connection. The attributes represent the particular PE and its input port through which the stream is routed to. This data structure employs compile-time indices that are local to a particular application.
+ *       
+ * 
+ * <p>Java class for outgoingStaticConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="outgoingStaticConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="peIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "outgoingStaticConnectionType")
+public class OutgoingStaticConnectionType {
+
+    @XmlAttribute(name = "peIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peIndex;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+
+    /**
+     * Gets the value of the peIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeIndex() {
+        return peIndex;
+    }
+
+    /**
+     * Sets the value of the peIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeIndex(BigInteger value) {
+        this.peIndex = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+}
@@ -0,0 +1,216 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores runtime information concerning a particular output port dynamic connection. Specifically, the state of the connection and the following identifiers related to the remote connection endpoint:
+ *          - remote PE id
+ *          - remote input port id
+ *          - id of the job which the remote PE belongs to
+ *          - remote PE index
+ *          - remote PE input port index
+ *       
+ * 
+ * <p>Java class for outputPortDynamicConnectionInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="outputPortDynamicConnectionInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}connectionStateType" /&gt;
+ *       &lt;attribute name="jobId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="peIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "outputPortDynamicConnectionInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class OutputPortDynamicConnectionInfoType {
+
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+    @XmlAttribute(name = "iportId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportId;
+    @XmlAttribute(name = "state", required = true)
+    protected ConnectionStateType state;
+    @XmlAttribute(name = "jobId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger jobId;
+    @XmlAttribute(name = "peIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peIndex;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the iportId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportId() {
+        return iportId;
+    }
+
+    /**
+     * Sets the value of the iportId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportId(BigInteger value) {
+        this.iportId = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public ConnectionStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public void setState(ConnectionStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the jobId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Sets the value of the jobId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setJobId(BigInteger value) {
+        this.jobId = value;
+    }
+
+    /**
+     * Gets the value of the peIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeIndex() {
+        return peIndex;
+    }
+
+    /**
+     * Sets the value of the peIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeIndex(BigInteger value) {
+        this.peIndex = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+}
@@ -0,0 +1,169 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for parallelChannelType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="parallelChannelType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice&gt;
+ *         &lt;element name="interPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutgoingConnectionType" maxOccurs="unbounded"/&gt;
+ *         &lt;element name="intraPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutgoingConnectionType" maxOccurs="unbounded"/&gt;
+ *         &lt;element name="splitter" type="{http://www.ibm.com/xmlns/prod/streams/application}splitterType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "parallelChannelType", propOrder = {
+    "interPeConnection",
+    "intraPeConnection",
+    "splitter"
+})
+public class ParallelChannelType {
+
+    protected List<OperInstanceOutgoingConnectionType> interPeConnection;
+    protected List<OperInstanceOutgoingConnectionType> intraPeConnection;
+    protected List<SplitterType> splitter;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+
+    /**
+     * Gets the value of the interPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the interPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInterPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceOutgoingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceOutgoingConnectionType> getInterPeConnection() {
+        if (interPeConnection == null) {
+            interPeConnection = new ArrayList<OperInstanceOutgoingConnectionType>();
+        }
+        return this.interPeConnection;
+    }
+
+    /**
+     * Gets the value of the intraPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the intraPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getIntraPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceOutgoingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceOutgoingConnectionType> getIntraPeConnection() {
+        if (intraPeConnection == null) {
+            intraPeConnection = new ArrayList<OperInstanceOutgoingConnectionType>();
+        }
+        return this.intraPeConnection;
+    }
+
+    /**
+     * Gets the value of the splitter property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the splitter property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSplitter().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SplitterType }
+     * 
+     * 
+     */
+    public List<SplitterType> getSplitter() {
+        if (splitter == null) {
+            splitter = new ArrayList<SplitterType>();
+        }
+        return this.splitter;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+}
@@ -0,0 +1,152 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for parallelRegionSplitterType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="parallelRegionSplitterType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="attributes" type="{http://www.ibm.com/xmlns/prod/streams/application}partitioningAttributesType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="kind" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}splitterKind" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="portSelector" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "parallelRegionSplitterType", propOrder = {
+    "attributes"
+})
+public class ParallelRegionSplitterType {
+
+    protected PartitioningAttributesType attributes;
+    @XmlAttribute(name = "kind", required = true)
+    protected SplitterKind kind;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+    @XmlAttribute(name = "portSelector")
+    protected String portSelector;
+
+    /**
+     * Gets the value of the attributes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PartitioningAttributesType }
+     *     
+     */
+    public PartitioningAttributesType getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the value of the attributes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PartitioningAttributesType }
+     *     
+     */
+    public void setAttributes(PartitioningAttributesType value) {
+        this.attributes = value;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SplitterKind }
+     *     
+     */
+    public SplitterKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SplitterKind }
+     *     
+     */
+    public void setKind(SplitterKind value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+    /**
+     * Gets the value of the portSelector property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getPortSelector() {
+        return portSelector;
+    }
+
+    /**
+     * Sets the value of the portSelector property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setPortSelector(String value) {
+        this.portSelector = value;
+    }
+
+}
@@ -0,0 +1,159 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure is a container for runtime configuration state information on a Processing Element. It includes identifier attributes id, and state information regarding the configuration that HC has on the PE (e.g, tracing level).
+ *       
+ * 
+ * <p>Java class for peConfigStateInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peConfigStateInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="config" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="updateSeqNum" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="opStatus" use="required" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}configUpdateStatusType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peConfigStateInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "config"
+})
+public class PeConfigStateInfoType {
+
+    @XmlElement(required = true)
+    protected TracingType config;
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+    @XmlAttribute(name = "updateSeqNum", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger updateSeqNum;
+    @XmlAttribute(name = "opStatus", required = true)
+    protected ConfigUpdateStatusType opStatus;
+
+    /**
+     * Gets the value of the config property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getConfig() {
+        return config;
+    }
+
+    /**
+     * Sets the value of the config property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setConfig(TracingType value) {
+        this.config = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the updateSeqNum property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getUpdateSeqNum() {
+        return updateSeqNum;
+    }
+
+    /**
+     * Sets the value of the updateSeqNum property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setUpdateSeqNum(BigInteger value) {
+        this.updateSeqNum = value;
+    }
+
+    /**
+     * Gets the value of the opStatus property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConfigUpdateStatusType }
+     *     
+     */
+    public ConfigUpdateStatusType getOpStatus() {
+        return opStatus;
+    }
+
+    /**
+     * Sets the value of the opStatus property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConfigUpdateStatusType }
+     *     
+     */
+    public void setOpStatus(ConfigUpdateStatusType value) {
+        this.opStatus = value;
+    }
+
+}
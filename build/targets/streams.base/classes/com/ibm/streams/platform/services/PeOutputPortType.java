@@ -0,0 +1,260 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a PE output port (including all information that can be computed at compile-time). An output port also includes information about whether the stream it produces is exported as well as connections with other PEs (defined by the staticConnections element) as well as between edge operators inside the PE and the PE itself (indicated by the operInstanceConnection element). An output port is also characterized by an index (for describing intra-application static connections), a tuple type as indicated by the tupleTypeIndex attribute, an encoding attribute representing the physical data encoding as well as the physical transport layer, as well as an indicator stating whether the operator invokes the tuple submitting API from a single thread (this information is used at runtime for improving the operator internal locking mechanism).
+ *       
+ * 
+ * <p>Java class for peOutputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peOutputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="exportedStream" type="{http://www.ibm.com/xmlns/prod/streams/application}exportedStreamType" minOccurs="0"/&gt;
+ *         &lt;element name="staticConnections" type="{http://www.ibm.com/xmlns/prod/streams/application}outgoingStaticConnectionsType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEOutputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="tupleTypeIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="encoding" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}encodingType" /&gt;
+ *       &lt;attribute name="transport" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}transportType" /&gt;
+ *       &lt;attribute name="singleThreadedOnOutput" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peOutputPortType", propOrder = {
+    "exportedStream",
+    "staticConnections",
+    "operInstanceConnection"
+})
+public class PeOutputPortType {
+
+    protected ExportedStreamType exportedStream;
+    @XmlElement(required = true)
+    protected OutgoingStaticConnectionsType staticConnections;
+    @XmlElement(required = true)
+    protected OperInstancePEOutputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "tupleTypeIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger tupleTypeIndex;
+    @XmlAttribute(name = "encoding", required = true)
+    protected EncodingType encoding;
+    @XmlAttribute(name = "transport", required = true)
+    protected TransportType transport;
+    @XmlAttribute(name = "singleThreadedOnOutput", required = true)
+    protected boolean singleThreadedOnOutput;
+
+    /**
+     * Gets the value of the exportedStream property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public ExportedStreamType getExportedStream() {
+        return exportedStream;
+    }
+
+    /**
+     * Sets the value of the exportedStream property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportedStreamType }
+     *     
+     */
+    public void setExportedStream(ExportedStreamType value) {
+        this.exportedStream = value;
+    }
+
+    /**
+     * Gets the value of the staticConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OutgoingStaticConnectionsType }
+     *     
+     */
+    public OutgoingStaticConnectionsType getStaticConnections() {
+        return staticConnections;
+    }
+
+    /**
+     * Sets the value of the staticConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OutgoingStaticConnectionsType }
+     *     
+     */
+    public void setStaticConnections(OutgoingStaticConnectionsType value) {
+        this.staticConnections = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public OperInstancePEOutputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEOutputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEOutputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the tupleTypeIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getTupleTypeIndex() {
+        return tupleTypeIndex;
+    }
+
+    /**
+     * Sets the value of the tupleTypeIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setTupleTypeIndex(BigInteger value) {
+        this.tupleTypeIndex = value;
+    }
+
+    /**
+     * Gets the value of the encoding property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EncodingType }
+     *     
+     */
+    public EncodingType getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Sets the value of the encoding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EncodingType }
+     *     
+     */
+    public void setEncoding(EncodingType value) {
+        this.encoding = value;
+    }
+
+    /**
+     * Gets the value of the transport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TransportType }
+     *     
+     */
+    public TransportType getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the value of the transport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TransportType }
+     *     
+     */
+    public void setTransport(TransportType value) {
+        this.transport = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnOutput property.
+     * 
+     */
+    public boolean isSingleThreadedOnOutput() {
+        return singleThreadedOnOutput;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnOutput property.
+     * 
+     */
+    public void setSingleThreadedOnOutput(boolean value) {
+        this.singleThreadedOnOutput = value;
+    }
+
+}
@@ -0,0 +1,107 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a (compile-time) PE definition. The basic definitions are inherited from basicPEType. In addition to that, the PE includes the definition of its input and output ports.
+ *       
+ * 
+ * <p>Java class for peType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}basicPEType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application}peInputPortsType"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application}peOutputPortsType"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peType", propOrder = {
+    "inputPorts",
+    "outputPorts"
+})
+@XmlSeeAlso({
+    PhysPEType.class
+})
+public class PeType
+    extends BasicPEType
+{
+
+    @XmlElement(required = true)
+    protected PeInputPortsType inputPorts;
+    @XmlElement(required = true)
+    protected PeOutputPortsType outputPorts;
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeInputPortsType }
+     *     
+     */
+    public PeInputPortsType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeInputPortsType }
+     *     
+     */
+    public void setInputPorts(PeInputPortsType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeOutputPortsType }
+     *     
+     */
+    public PeOutputPortsType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeOutputPortsType }
+     *     
+     */
+    public void setOutputPorts(PeOutputPortsType value) {
+        this.outputPorts = value;
+    }
+
+}
@@ -0,0 +1,137 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure is a container for multiple PE state elements.
+ *       
+ * 
+ * <p>Java class for pesStateInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="pesStateInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="peStateInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}peStateInfoType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="hostShutdown" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *       &lt;attribute name="hostBeingShutdown" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "pesStateInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "peStateInfo"
+})
+public class PesStateInfoType {
+
+    protected List<PeStateInfoType> peStateInfo;
+    @XmlAttribute(name = "hostShutdown")
+    protected Boolean hostShutdown;
+    @XmlAttribute(name = "hostBeingShutdown")
+    protected String hostBeingShutdown;
+
+    /**
+     * Gets the value of the peStateInfo property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the peStateInfo property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getPeStateInfo().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link PeStateInfoType }
+     * 
+     * 
+     */
+    public List<PeStateInfoType> getPeStateInfo() {
+        if (peStateInfo == null) {
+            peStateInfo = new ArrayList<PeStateInfoType>();
+        }
+        return this.peStateInfo;
+    }
+
+    /**
+     * Gets the value of the hostShutdown property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isHostShutdown() {
+        if (hostShutdown == null) {
+            return false;
+        } else {
+            return hostShutdown;
+        }
+    }
+
+    /**
+     * Sets the value of the hostShutdown property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setHostShutdown(Boolean value) {
+        this.hostShutdown = value;
+    }
+
+    /**
+     * Gets the value of the hostBeingShutdown property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getHostBeingShutdown() {
+        return hostBeingShutdown;
+    }
+
+    /**
+     * Sets the value of the hostBeingShutdown property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setHostBeingShutdown(String value) {
+        this.hostBeingShutdown = value;
+    }
+
+}
@@ -0,0 +1,94 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physExportedStreamType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physExportedStreamType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}exportedStreamType"&gt;
+ *       &lt;attribute name="logicalExportOperName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logicalName" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physExportedStreamType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical")
+public class PhysExportedStreamType
+    extends ExportedStreamType
+{
+
+    @XmlAttribute(name = "logicalExportOperName", required = true)
+    protected String logicalExportOperName;
+    @XmlAttribute(name = "logicalName")
+    protected String logicalName;
+
+    /**
+     * Gets the value of the logicalExportOperName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalExportOperName() {
+        return logicalExportOperName;
+    }
+
+    /**
+     * Sets the value of the logicalExportOperName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalExportOperName(String value) {
+        this.logicalExportOperName = value;
+    }
+
+    /**
+     * Gets the value of the logicalName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalName() {
+        return logicalName;
+    }
+
+    /**
+     * Sets the value of the logicalName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalName(String value) {
+        this.logicalName = value;
+    }
+
+}
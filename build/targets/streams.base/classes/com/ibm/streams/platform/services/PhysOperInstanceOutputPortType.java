@@ -0,0 +1,67 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physOperInstanceOutputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physOperInstanceOutputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutputPortType"&gt;
+ *       &lt;attribute name="logicalStreamName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physOperInstanceOutputPortType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical")
+public class PhysOperInstanceOutputPortType
+    extends OperInstanceOutputPortType
+{
+
+    @XmlAttribute(name = "logicalStreamName", required = true)
+    protected String logicalStreamName;
+
+    /**
+     * Gets the value of the logicalStreamName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalStreamName() {
+        return logicalStreamName;
+    }
+
+    /**
+     * Sets the value of the logicalStreamName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalStreamName(String value) {
+        this.logicalStreamName = value;
+    }
+
+}
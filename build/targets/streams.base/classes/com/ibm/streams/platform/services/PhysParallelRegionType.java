@@ -0,0 +1,162 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physParallelRegionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physParallelRegionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="globalChannelIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *       &lt;attribute name="localChannelIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *       &lt;attribute name="globalMaxChannels" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="localMaxChannels" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="regionIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physParallelRegionType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical")
+public class PhysParallelRegionType {
+
+    @XmlAttribute(name = "globalChannelIndex", required = true)
+    protected int globalChannelIndex;
+    @XmlAttribute(name = "localChannelIndex", required = true)
+    protected int localChannelIndex;
+    @XmlAttribute(name = "globalMaxChannels", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger globalMaxChannels;
+    @XmlAttribute(name = "localMaxChannels", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger localMaxChannels;
+    @XmlAttribute(name = "regionIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger regionIndex;
+
+    /**
+     * Gets the value of the globalChannelIndex property.
+     * 
+     */
+    public int getGlobalChannelIndex() {
+        return globalChannelIndex;
+    }
+
+    /**
+     * Sets the value of the globalChannelIndex property.
+     * 
+     */
+    public void setGlobalChannelIndex(int value) {
+        this.globalChannelIndex = value;
+    }
+
+    /**
+     * Gets the value of the localChannelIndex property.
+     * 
+     */
+    public int getLocalChannelIndex() {
+        return localChannelIndex;
+    }
+
+    /**
+     * Sets the value of the localChannelIndex property.
+     * 
+     */
+    public void setLocalChannelIndex(int value) {
+        this.localChannelIndex = value;
+    }
+
+    /**
+     * Gets the value of the globalMaxChannels property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getGlobalMaxChannels() {
+        return globalMaxChannels;
+    }
+
+    /**
+     * Sets the value of the globalMaxChannels property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setGlobalMaxChannels(BigInteger value) {
+        this.globalMaxChannels = value;
+    }
+
+    /**
+     * Gets the value of the localMaxChannels property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLocalMaxChannels() {
+        return localMaxChannels;
+    }
+
+    /**
+     * Sets the value of the localMaxChannels property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLocalMaxChannels(BigInteger value) {
+        this.localMaxChannels = value;
+    }
+
+    /**
+     * Gets the value of the regionIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getRegionIndex() {
+        return regionIndex;
+    }
+
+    /**
+     * Sets the value of the regionIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setRegionIndex(BigInteger value) {
+        this.regionIndex = value;
+    }
+
+}
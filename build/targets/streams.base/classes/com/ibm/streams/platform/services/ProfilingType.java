@@ -0,0 +1,91 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the specific profiling settings used by an operator. It includes the sampling rate in seconds (defined by the samplingRate attribute) and the the number of sampling rates to keep in a reservoir (represented by the bufferSize attribute).
+ *       
+ * 
+ * <p>Java class for profilingType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="profilingType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="samplingRate" use="required" type="{http://www.w3.org/2001/XMLSchema}double" /&gt;
+ *       &lt;attribute name="bufferSize" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "profilingType")
+public class ProfilingType {
+
+    @XmlAttribute(name = "samplingRate", required = true)
+    protected double samplingRate;
+    @XmlAttribute(name = "bufferSize", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger bufferSize;
+
+    /**
+     * Gets the value of the samplingRate property.
+     * 
+     */
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * Sets the value of the samplingRate property.
+     * 
+     */
+    public void setSamplingRate(double value) {
+        this.samplingRate = value;
+    }
+
+    /**
+     * Gets the value of the bufferSize property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the value of the bufferSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setBufferSize(BigInteger value) {
+        this.bufferSize = value;
+    }
+
+}
@@ -0,0 +1,203 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the internal state of SAM in summary form (i.e., the number of application sets, jobs, PEs, input ports, output ports currently in the system).
+ *       
+ * 
+ * <p>Java class for samSummaryStateType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="samSummaryStateType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="lastTopologyUpdateTS" use="required" type="{http://www.w3.org/2001/XMLSchema}double" /&gt;
+ *       &lt;attribute name="appsets" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="jobs" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="pes" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iports" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="oports" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "samSummaryStateType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class SamSummaryStateType {
+
+    @XmlAttribute(name = "lastTopologyUpdateTS", required = true)
+    protected double lastTopologyUpdateTS;
+    @XmlAttribute(name = "appsets", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger appsets;
+    @XmlAttribute(name = "jobs", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger jobs;
+    @XmlAttribute(name = "pes", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pes;
+    @XmlAttribute(name = "iports", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iports;
+    @XmlAttribute(name = "oports", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger oports;
+
+    /**
+     * Gets the value of the lastTopologyUpdateTS property.
+     * 
+     */
+    public double getLastTopologyUpdateTS() {
+        return lastTopologyUpdateTS;
+    }
+
+    /**
+     * Sets the value of the lastTopologyUpdateTS property.
+     * 
+     */
+    public void setLastTopologyUpdateTS(double value) {
+        this.lastTopologyUpdateTS = value;
+    }
+
+    /**
+     * Gets the value of the appsets property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getAppsets() {
+        return appsets;
+    }
+
+    /**
+     * Sets the value of the appsets property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setAppsets(BigInteger value) {
+        this.appsets = value;
+    }
+
+    /**
+     * Gets the value of the jobs property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Sets the value of the jobs property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setJobs(BigInteger value) {
+        this.jobs = value;
+    }
+
+    /**
+     * Gets the value of the pes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPes() {
+        return pes;
+    }
+
+    /**
+     * Sets the value of the pes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPes(BigInteger value) {
+        this.pes = value;
+    }
+
+    /**
+     * Gets the value of the iports property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIports() {
+        return iports;
+    }
+
+    /**
+     * Sets the value of the iports property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIports(BigInteger value) {
+        this.iports = value;
+    }
+
+    /**
+     * Gets the value of the oports property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOports() {
+        return oports;
+    }
+
+    /**
+     * Sets the value of the oports property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOports(BigInteger value) {
+        this.oports = value;
+    }
+
+}
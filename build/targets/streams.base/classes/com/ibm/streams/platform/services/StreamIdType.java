@@ -0,0 +1,190 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         Stream identifier information
+ *       
+ * 
+ * <p>Java class for streamIdType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="streamIdType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="jobId" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}jobIdType"/&gt;
+ *         &lt;element name="peId" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peIdType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="operInstanceName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="operInstanceIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="operInstanceOutputPortIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "streamIdType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "jobId",
+    "peId"
+})
+public class StreamIdType {
+
+    @XmlElement(required = true)
+    protected JobIdType jobId;
+    protected PeIdType peId;
+    @XmlAttribute(name = "operInstanceName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String operInstanceName;
+    @XmlAttribute(name = "operInstanceIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger operInstanceIndex;
+    @XmlAttribute(name = "operInstanceOutputPortIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger operInstanceOutputPortIndex;
+
+    /**
+     * Gets the value of the jobId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobIdType }
+     *     
+     */
+    public JobIdType getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Sets the value of the jobId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobIdType }
+     *     
+     */
+    public void setJobId(JobIdType value) {
+        this.jobId = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeIdType }
+     *     
+     */
+    public PeIdType getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeIdType }
+     *     
+     */
+    public void setPeId(PeIdType value) {
+        this.peId = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOperInstanceName() {
+        return operInstanceName;
+    }
+
+    /**
+     * Sets the value of the operInstanceName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOperInstanceName(String value) {
+        this.operInstanceName = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOperInstanceIndex() {
+        return operInstanceIndex;
+    }
+
+    /**
+     * Sets the value of the operInstanceIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOperInstanceIndex(BigInteger value) {
+        this.operInstanceIndex = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceOutputPortIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOperInstanceOutputPortIndex() {
+        return operInstanceOutputPortIndex;
+    }
+
+    /**
+     * Sets the value of the operInstanceOutputPortIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOperInstanceOutputPortIndex(BigInteger value) {
+        this.operInstanceOutputPortIndex = value;
+    }
+
+}
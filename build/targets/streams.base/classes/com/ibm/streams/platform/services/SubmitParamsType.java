@@ -0,0 +1,91 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents job submission parameters.
+ *         This is not to be confused with the submit params related to SPL.
+ *         This structure is internal to SAM only.
+ *         directoryPath indicates the location of the directory where the adl file is located.
+ *       
+ * 
+ * <p>Java class for submitParamsType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="submitParamsType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="disableHostLoadProtection" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="directoryPath" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "submitParamsType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class SubmitParamsType {
+
+    @XmlAttribute(name = "disableHostLoadProtection", required = true)
+    protected boolean disableHostLoadProtection;
+    @XmlAttribute(name = "directoryPath")
+    protected String directoryPath;
+
+    /**
+     * Gets the value of the disableHostLoadProtection property.
+     * 
+     */
+    public boolean isDisableHostLoadProtection() {
+        return disableHostLoadProtection;
+    }
+
+    /**
+     * Sets the value of the disableHostLoadProtection property.
+     * 
+     */
+    public void setDisableHostLoadProtection(boolean value) {
+        this.disableHostLoadProtection = value;
+    }
+
+    /**
+     * Gets the value of the directoryPath property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDirectoryPath() {
+        return directoryPath;
+    }
+
+    /**
+     * Sets the value of the directoryPath property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDirectoryPath(String value) {
+        this.directoryPath = value;
+    }
+
+}
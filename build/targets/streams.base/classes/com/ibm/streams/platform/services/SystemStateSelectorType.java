@@ -0,0 +1,82 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for systemStateSelectorType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="systemStateSelectorType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="all"/&gt;
+ *     &lt;enumeration value="appsets"/&gt;
+ *     &lt;enumeration value="exportedStreams"/&gt;
+ *     &lt;enumeration value="importSubscriptions"/&gt;
+ *     &lt;enumeration value="inputPorts"/&gt;
+ *     &lt;enumeration value="jobs"/&gt;
+ *     &lt;enumeration value="outputPorts"/&gt;
+ *     &lt;enumeration value="pes"/&gt;
+ *     &lt;enumeration value="portConnections"/&gt;
+ *     &lt;enumeration value="streamViews"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "systemStateSelectorType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+@XmlEnum
+public enum SystemStateSelectorType {
+
+    @XmlEnumValue("all")
+    ALL("all"),
+    @XmlEnumValue("appsets")
+    APPSETS("appsets"),
+    @XmlEnumValue("exportedStreams")
+    EXPORTED_STREAMS("exportedStreams"),
+    @XmlEnumValue("importSubscriptions")
+    IMPORT_SUBSCRIPTIONS("importSubscriptions"),
+    @XmlEnumValue("inputPorts")
+    INPUT_PORTS("inputPorts"),
+    @XmlEnumValue("jobs")
+    JOBS("jobs"),
+    @XmlEnumValue("outputPorts")
+    OUTPUT_PORTS("outputPorts"),
+    @XmlEnumValue("pes")
+    PES("pes"),
+    @XmlEnumValue("portConnections")
+    PORT_CONNECTIONS("portConnections"),
+    @XmlEnumValue("streamViews")
+    STREAM_VIEWS("streamViews");
+    private final String value;
+
+    SystemStateSelectorType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static SystemStateSelectorType fromValue(String v) {
+        for (SystemStateSelectorType c: SystemStateSelectorType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
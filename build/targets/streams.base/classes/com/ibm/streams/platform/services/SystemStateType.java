@@ -0,0 +1,316 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the result of a SAM internal system state query on SAM. The returned data is scoped according to the 'scope' element and contains in tabular form (1) the collection of application sets (i.e., the 'appsets' object, according to the query scope); (2) the collection of jobs (i.e., the 'jobs' object, according to the query scope); (3) the collection of Processing Elements (i.e., the 'pes' object, according to the query scope); (4) the collection of input ports (i.e., the 'inputPorts' object, for all PEs in the query scope); and (5) the collection of output ports (i.e., the 'outputPorts' object, for all PEs in the query scope).
+ *       
+ * 
+ * <p>Java class for systemStateType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="systemStateType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="scope" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}systemStateScopingType"/&gt;
+ *         &lt;element name="appsets" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}augmentedApplicationSetsType" minOccurs="0"/&gt;
+ *         &lt;element name="jobs" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}jobsType" minOccurs="0"/&gt;
+ *         &lt;element name="pes" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}managedPEsType" minOccurs="0"/&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}augmentedPEInputPortsType" minOccurs="0"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}augmentedPEOutputPortsType" minOccurs="0"/&gt;
+ *         &lt;element name="exportedStreamsInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}exportedStreamsInfoType" minOccurs="0"/&gt;
+ *         &lt;element name="importSubscriptionsInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}importSubscriptionsInfoType" minOccurs="0"/&gt;
+ *         &lt;element name="portConnectionsInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}portConnectionsInfoType" minOccurs="0"/&gt;
+ *         &lt;element name="streamViewsInfo" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}streamViewsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "systemStateType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "scope",
+    "appsets",
+    "jobs",
+    "pes",
+    "inputPorts",
+    "outputPorts",
+    "exportedStreamsInfo",
+    "importSubscriptionsInfo",
+    "portConnectionsInfo",
+    "streamViewsInfo"
+})
+public class SystemStateType {
+
+    @XmlElement(required = true)
+    protected SystemStateScopingType scope;
+    protected AugmentedApplicationSetsType appsets;
+    protected JobsType jobs;
+    protected ManagedPEsType pes;
+    protected AugmentedPEInputPortsType inputPorts;
+    protected AugmentedPEOutputPortsType outputPorts;
+    protected ExportedStreamsInfoType exportedStreamsInfo;
+    protected ImportSubscriptionsInfoType importSubscriptionsInfo;
+    protected PortConnectionsInfoType portConnectionsInfo;
+    protected StreamViewsType streamViewsInfo;
+
+    /**
+     * Gets the value of the scope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SystemStateScopingType }
+     *     
+     */
+    public SystemStateScopingType getScope() {
+        return scope;
+    }
+
+    /**
+     * Sets the value of the scope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SystemStateScopingType }
+     *     
+     */
+    public void setScope(SystemStateScopingType value) {
+        this.scope = value;
+    }
+
+    /**
+     * Gets the value of the appsets property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AugmentedApplicationSetsType }
+     *     
+     */
+    public AugmentedApplicationSetsType getAppsets() {
+        return appsets;
+    }
+
+    /**
+     * Sets the value of the appsets property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AugmentedApplicationSetsType }
+     *     
+     */
+    public void setAppsets(AugmentedApplicationSetsType value) {
+        this.appsets = value;
+    }
+
+    /**
+     * Gets the value of the jobs property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobsType }
+     *     
+     */
+    public JobsType getJobs() {
+        return jobs;
+    }
+
+    /**
+     * Sets the value of the jobs property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobsType }
+     *     
+     */
+    public void setJobs(JobsType value) {
+        this.jobs = value;
+    }
+
+    /**
+     * Gets the value of the pes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ManagedPEsType }
+     *     
+     */
+    public ManagedPEsType getPes() {
+        return pes;
+    }
+
+    /**
+     * Sets the value of the pes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ManagedPEsType }
+     *     
+     */
+    public void setPes(ManagedPEsType value) {
+        this.pes = value;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AugmentedPEInputPortsType }
+     *     
+     */
+    public AugmentedPEInputPortsType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AugmentedPEInputPortsType }
+     *     
+     */
+    public void setInputPorts(AugmentedPEInputPortsType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AugmentedPEOutputPortsType }
+     *     
+     */
+    public AugmentedPEOutputPortsType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AugmentedPEOutputPortsType }
+     *     
+     */
+    public void setOutputPorts(AugmentedPEOutputPortsType value) {
+        this.outputPorts = value;
+    }
+
+    /**
+     * Gets the value of the exportedStreamsInfo property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportedStreamsInfoType }
+     *     
+     */
+    public ExportedStreamsInfoType getExportedStreamsInfo() {
+        return exportedStreamsInfo;
+    }
+
+    /**
+     * Sets the value of the exportedStreamsInfo property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportedStreamsInfoType }
+     *     
+     */
+    public void setExportedStreamsInfo(ExportedStreamsInfoType value) {
+        this.exportedStreamsInfo = value;
+    }
+
+    /**
+     * Gets the value of the importSubscriptionsInfo property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportSubscriptionsInfoType }
+     *     
+     */
+    public ImportSubscriptionsInfoType getImportSubscriptionsInfo() {
+        return importSubscriptionsInfo;
+    }
+
+    /**
+     * Sets the value of the importSubscriptionsInfo property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportSubscriptionsInfoType }
+     *     
+     */
+    public void setImportSubscriptionsInfo(ImportSubscriptionsInfoType value) {
+        this.importSubscriptionsInfo = value;
+    }
+
+    /**
+     * Gets the value of the portConnectionsInfo property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PortConnectionsInfoType }
+     *     
+     */
+    public PortConnectionsInfoType getPortConnectionsInfo() {
+        return portConnectionsInfo;
+    }
+
+    /**
+     * Sets the value of the portConnectionsInfo property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PortConnectionsInfoType }
+     *     
+     */
+    public void setPortConnectionsInfo(PortConnectionsInfoType value) {
+        this.portConnectionsInfo = value;
+    }
+
+    /**
+     * Gets the value of the streamViewsInfo property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamViewsType }
+     *     
+     */
+    public StreamViewsType getStreamViewsInfo() {
+        return streamViewsInfo;
+    }
+
+    /**
+     * Sets the value of the streamViewsInfo property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamViewsType }
+     *     
+     */
+    public void setStreamViewsInfo(StreamViewsType value) {
+        this.streamViewsInfo = value;
+    }
+
+}
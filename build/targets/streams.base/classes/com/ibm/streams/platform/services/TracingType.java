@@ -0,0 +1,126 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure the tracing information
+ *       
+ * 
+ * <p>Java class for tracingType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="tracingType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="level" use="required" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingLevelType" /&gt;
+ *       &lt;attribute name="style" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingStyleType" /&gt;
+ *       &lt;attribute name="size" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "tracingType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr")
+public class TracingType {
+
+    @XmlAttribute(name = "level", required = true)
+    protected TracingLevelType level;
+    @XmlAttribute(name = "style")
+    protected TracingStyleType style;
+    @XmlAttribute(name = "size")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger size;
+
+    /**
+     * Gets the value of the level property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingLevelType }
+     *     
+     */
+    public TracingLevelType getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the value of the level property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingLevelType }
+     *     
+     */
+    public void setLevel(TracingLevelType value) {
+        this.level = value;
+    }
+
+    /**
+     * Gets the value of the style property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingStyleType }
+     *     
+     */
+    public TracingStyleType getStyle() {
+        return style;
+    }
+
+    /**
+     * Sets the value of the style property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingStyleType }
+     *     
+     */
+    public void setStyle(TracingStyleType value) {
+        this.style = value;
+    }
+
+    /**
+     * Gets the value of the size property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSize() {
+        return size;
+    }
+
+    /**
+     * Sets the value of the size property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSize(BigInteger value) {
+        this.size = value;
+    }
+
+}
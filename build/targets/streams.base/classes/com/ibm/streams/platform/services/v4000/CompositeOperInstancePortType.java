@@ -0,0 +1,139 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a composite operator instance's port. It includes a list of incoming connections and outgoing connections.
+ *            - Composite operator instance input port incoming connections: These are connections into the port, which come from
+ *                - output ports of operator instances that share their enclosing composite operator instance with this one,
+ *                - input ports of the composite operator instance that encloses this one.
+ *            - Composite operator instance input port outgoing connections: These are connections out of the port, which go into
+ *                - the input ports of operator instances that are directly contained within this one (one level down).
+ *            - Composite operator instance output port incoming connections: These are connections into the port, which come from
+ *                - output ports of operator instances that are directly contained within this one (one level down).
+ *            - Composite operator instance output port outgoing connections: These are connections out of the port, which go into
+ *                - the input ports of operator instances that share their enclosing composite\u00a0 operator instance with this one,
+ *                - the output ports of the composite opeartor instance that encloses this one.
+ *       
+ * 
+ * <p>Java class for compositeOperInstancePortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="compositeOperInstancePortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="incomingConnections" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePortConnectionsType" minOccurs="0"/&gt;
+ *         &lt;element name="outgoingConnections" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePortConnectionsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "compositeOperInstancePortType", propOrder = {
+    "incomingConnections",
+    "outgoingConnections"
+})
+public class CompositeOperInstancePortType {
+
+    protected OperInstancePortConnectionsType incomingConnections;
+    protected OperInstancePortConnectionsType outgoingConnections;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+
+    /**
+     * Gets the value of the incomingConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePortConnectionsType }
+     *     
+     */
+    public OperInstancePortConnectionsType getIncomingConnections() {
+        return incomingConnections;
+    }
+
+    /**
+     * Sets the value of the incomingConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePortConnectionsType }
+     *     
+     */
+    public void setIncomingConnections(OperInstancePortConnectionsType value) {
+        this.incomingConnections = value;
+    }
+
+    /**
+     * Gets the value of the outgoingConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePortConnectionsType }
+     *     
+     */
+    public OperInstancePortConnectionsType getOutgoingConnections() {
+        return outgoingConnections;
+    }
+
+    /**
+     * Sets the value of the outgoingConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePortConnectionsType }
+     *     
+     */
+    public void setOutgoingConnections(OperInstancePortConnectionsType value) {
+        this.outgoingConnections = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+}
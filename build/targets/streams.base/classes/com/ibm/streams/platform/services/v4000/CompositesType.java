@@ -0,0 +1,129 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores information on an application's composite operators. This includes where their source codes are located (via the sourceUris element), information on their specification (via the compositeOpers element), as well as information on their instantiation and use in the application (via the compositeOpersInstances element).
+ *       
+ * 
+ * <p>Java class for compositesType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="compositesType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="sourceUris" type="{http://www.ibm.com/xmlns/prod/streams/application}urisType"/&gt;
+ *         &lt;element name="compositeOpers" type="{http://www.ibm.com/xmlns/prod/streams/application}compositeOpersType"/&gt;
+ *         &lt;element name="compositeOperInstances" type="{http://www.ibm.com/xmlns/prod/streams/application}compositeOperInstancesType"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "compositesType", propOrder = {
+    "sourceUris",
+    "compositeOpers",
+    "compositeOperInstances"
+})
+public class CompositesType {
+
+    @XmlElement(required = true)
+    protected UrisType sourceUris;
+    @XmlElement(required = true)
+    protected CompositeOpersType compositeOpers;
+    @XmlElement(required = true)
+    protected CompositeOperInstancesType compositeOperInstances;
+
+    /**
+     * Gets the value of the sourceUris property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link UrisType }
+     *     
+     */
+    public UrisType getSourceUris() {
+        return sourceUris;
+    }
+
+    /**
+     * Sets the value of the sourceUris property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link UrisType }
+     *     
+     */
+    public void setSourceUris(UrisType value) {
+        this.sourceUris = value;
+    }
+
+    /**
+     * Gets the value of the compositeOpers property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CompositeOpersType }
+     *     
+     */
+    public CompositeOpersType getCompositeOpers() {
+        return compositeOpers;
+    }
+
+    /**
+     * Sets the value of the compositeOpers property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CompositeOpersType }
+     *     
+     */
+    public void setCompositeOpers(CompositeOpersType value) {
+        this.compositeOpers = value;
+    }
+
+    /**
+     * Gets the value of the compositeOperInstances property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CompositeOperInstancesType }
+     *     
+     */
+    public CompositeOperInstancesType getCompositeOperInstances() {
+        return compositeOperInstances;
+    }
+
+    /**
+     * Sets the value of the compositeOperInstances property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CompositeOperInstancesType }
+     *     
+     */
+    public void setCompositeOperInstances(CompositeOperInstancesType value) {
+        this.compositeOperInstances = value;
+    }
+
+}
@@ -0,0 +1,133 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the possible types of stream importing available in SPL. Importing by name is represented by the nameBasedImport element and importing by properties is represented by the propertyBasedNameImport element.
+ *       
+ * 
+ * <p>Java class for importedStreamsType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="importedStreamsType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="nameBasedImport" type="{http://www.ibm.com/xmlns/prod/streams/application}nameBasedImportType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="propertyBasedImport" type="{http://www.ibm.com/xmlns/prod/streams/application}propertyBasedImportType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="filter" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "importedStreamsType", propOrder = {
+    "nameBasedImport",
+    "propertyBasedImport"
+})
+public class ImportedStreamsType {
+
+    protected List<NameBasedImportType> nameBasedImport;
+    protected PropertyBasedImportType propertyBasedImport;
+    @XmlAttribute(name = "filter")
+    protected String filter;
+
+    /**
+     * Gets the value of the nameBasedImport property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the nameBasedImport property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getNameBasedImport().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link NameBasedImportType }
+     * 
+     * 
+     */
+    public List<NameBasedImportType> getNameBasedImport() {
+        if (nameBasedImport == null) {
+            nameBasedImport = new ArrayList<NameBasedImportType>();
+        }
+        return this.nameBasedImport;
+    }
+
+    /**
+     * Gets the value of the propertyBasedImport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PropertyBasedImportType }
+     *     
+     */
+    public PropertyBasedImportType getPropertyBasedImport() {
+        return propertyBasedImport;
+    }
+
+    /**
+     * Sets the value of the propertyBasedImport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PropertyBasedImportType }
+     *     
+     */
+    public void setPropertyBasedImport(PropertyBasedImportType value) {
+        this.propertyBasedImport = value;
+    }
+
+    /**
+     * Gets the value of the filter property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the value of the filter property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setFilter(String value) {
+        this.filter = value;
+    }
+
+}
@@ -0,0 +1,100 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a particular incoming (to an input port) static connection. The attributes represent the particular PE and its output port producing the stream indicated by this connection. This data structure employs compile-time indices that are local to a particular application.
+ *       
+ * 
+ * <p>Java class for incomingStaticConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="incomingStaticConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="peIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="oportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "incomingStaticConnectionType")
+public class IncomingStaticConnectionType {
+
+    @XmlAttribute(name = "peIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peIndex;
+    @XmlAttribute(name = "oportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger oportIndex;
+
+    /**
+     * Gets the value of the peIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeIndex() {
+        return peIndex;
+    }
+
+    /**
+     * Sets the value of the peIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeIndex(BigInteger value) {
+        this.peIndex = value;
+    }
+
+    /**
+     * Gets the value of the oportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOportIndex() {
+        return oportIndex;
+    }
+
+    /**
+     * Sets the value of the oportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOportIndex(BigInteger value) {
+        this.oportIndex = value;
+    }
+
+}
@@ -0,0 +1,204 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores configurations regarding an operator instance's output port. In addition to the fields it inherits from operInstancePortType, it also includes information on inter-PE connections (via the interPeConnection element), indicating which other operators placed on different PEs consume the stream produced by this output port. It also includes information on intra-PE connections (via the intraPeConnection element), indicating which other operators co-located in the same PE as this one consume the stream produced by this output port. The structure also stores the name of the stream produced by this operator (via the streamName attribute). The visibility of the stream for stream visualization is in the optional viewable attribute. If viewable is not present, then the default is 'true'.
+ *       
+ * 
+ * <p>Java class for operInstanceOutputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstanceOutputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePortType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="interPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutgoingConnectionType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="intraPeConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutgoingConnectionType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="splitter" type="{http://www.ibm.com/xmlns/prod/streams/application}splitterType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="streamName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="viewable" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstanceOutputPortType", propOrder = {
+    "interPeConnection",
+    "intraPeConnection",
+    "splitter"
+})
+public class OperInstanceOutputPortType
+    extends OperInstancePortType
+{
+
+    protected List<OperInstanceOutgoingConnectionType> interPeConnection;
+    protected List<OperInstanceOutgoingConnectionType> intraPeConnection;
+    protected List<SplitterType> splitter;
+    @XmlAttribute(name = "streamName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String streamName;
+    @XmlAttribute(name = "viewable")
+    protected Boolean viewable;
+
+    /**
+     * Gets the value of the interPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the interPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInterPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceOutgoingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceOutgoingConnectionType> getInterPeConnection() {
+        if (interPeConnection == null) {
+            interPeConnection = new ArrayList<OperInstanceOutgoingConnectionType>();
+        }
+        return this.interPeConnection;
+    }
+
+    /**
+     * Gets the value of the intraPeConnection property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the intraPeConnection property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getIntraPeConnection().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperInstanceOutgoingConnectionType }
+     * 
+     * 
+     */
+    public List<OperInstanceOutgoingConnectionType> getIntraPeConnection() {
+        if (intraPeConnection == null) {
+            intraPeConnection = new ArrayList<OperInstanceOutgoingConnectionType>();
+        }
+        return this.intraPeConnection;
+    }
+
+    /**
+     * Gets the value of the splitter property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the splitter property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSplitter().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SplitterType }
+     * 
+     * 
+     */
+    public List<SplitterType> getSplitter() {
+        if (splitter == null) {
+            splitter = new ArrayList<SplitterType>();
+        }
+        return this.splitter;
+    }
+
+    /**
+     * Gets the value of the streamName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * Sets the value of the streamName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setStreamName(String value) {
+        this.streamName = value;
+    }
+
+    /**
+     * Gets the value of the viewable property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isViewable() {
+        return viewable;
+    }
+
+    /**
+     * Sets the value of the viewable property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setViewable(Boolean value) {
+        this.viewable = value;
+    }
+
+}
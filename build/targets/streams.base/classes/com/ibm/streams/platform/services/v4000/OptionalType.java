@@ -0,0 +1,176 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for optionalType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="optionalType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice minOccurs="0"&gt;
+ *         &lt;element name="list" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}listOrSetType"/&gt;
+ *         &lt;element name="set" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}listOrSetType"/&gt;
+ *         &lt;element name="map" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}mapType"/&gt;
+ *         &lt;element name="tuple" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}tupleType"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="type" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "optionalType", namespace = "http://www.ibm.com/xmlns/prod/streams/spl/tupleType", propOrder = {
+    "list",
+    "set",
+    "map",
+    "tuple"
+})
+public class OptionalType {
+
+    protected ListOrSetType list;
+    protected ListOrSetType set;
+    protected MapType map;
+    protected TupleType tuple;
+    @XmlAttribute(name = "type")
+    protected String type;
+
+    /**
+     * Gets the value of the list property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public ListOrSetType getList() {
+        return list;
+    }
+
+    /**
+     * Sets the value of the list property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public void setList(ListOrSetType value) {
+        this.list = value;
+    }
+
+    /**
+     * Gets the value of the set property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public ListOrSetType getSet() {
+        return set;
+    }
+
+    /**
+     * Sets the value of the set property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public void setSet(ListOrSetType value) {
+        this.set = value;
+    }
+
+    /**
+     * Gets the value of the map property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link MapType }
+     *     
+     */
+    public MapType getMap() {
+        return map;
+    }
+
+    /**
+     * Sets the value of the map property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link MapType }
+     *     
+     */
+    public void setMap(MapType value) {
+        this.map = value;
+    }
+
+    /**
+     * Gets the value of the tuple property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleType }
+     *     
+     */
+    public TupleType getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Sets the value of the tuple property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleType }
+     *     
+     */
+    public void setTuple(TupleType value) {
+        this.tuple = value;
+    }
+
+    /**
+     * Gets the value of the type property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Sets the value of the type property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setType(String value) {
+        this.type = value;
+    }
+
+}
@@ -0,0 +1,128 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for parallelWidthType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="parallelWidthType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;choice&gt;
+ *           &lt;element name="constantWidth" type="{http://www.w3.org/2001/XMLSchema}unsignedLong"/&gt;
+ *           &lt;element name="submissionTimeParameterIndexForWidth" type="{http://www.w3.org/2001/XMLSchema}unsignedLong"/&gt;
+ *         &lt;/choice&gt;
+ *         &lt;element name="submissionTimeWidth" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "parallelWidthType", propOrder = {
+    "constantWidth",
+    "submissionTimeParameterIndexForWidth",
+    "submissionTimeWidth"
+})
+public class ParallelWidthType {
+
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger constantWidth;
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger submissionTimeParameterIndexForWidth;
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger submissionTimeWidth;
+
+    /**
+     * Gets the value of the constantWidth property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getConstantWidth() {
+        return constantWidth;
+    }
+
+    /**
+     * Sets the value of the constantWidth property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setConstantWidth(BigInteger value) {
+        this.constantWidth = value;
+    }
+
+    /**
+     * Gets the value of the submissionTimeParameterIndexForWidth property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSubmissionTimeParameterIndexForWidth() {
+        return submissionTimeParameterIndexForWidth;
+    }
+
+    /**
+     * Sets the value of the submissionTimeParameterIndexForWidth property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSubmissionTimeParameterIndexForWidth(BigInteger value) {
+        this.submissionTimeParameterIndexForWidth = value;
+    }
+
+    /**
+     * Gets the value of the submissionTimeWidth property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSubmissionTimeWidth() {
+        return submissionTimeWidth;
+    }
+
+    /**
+     * Sets the value of the submissionTimeWidth property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSubmissionTimeWidth(BigInteger value) {
+        this.submissionTimeWidth = value;
+    }
+
+}
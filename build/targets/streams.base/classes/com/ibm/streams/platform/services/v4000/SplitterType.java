@@ -0,0 +1,244 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for splitterType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="splitterType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="parallelChannel" type="{http://www.ibm.com/xmlns/prod/streams/application}parallelChannelType" maxOccurs="unbounded"/&gt;
+ *         &lt;element name="attributes" type="{http://www.ibm.com/xmlns/prod/streams/application}partitioningAttributesType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="kind" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}splitterKind" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="regionIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="dropWindowPuncts" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "splitterType", propOrder = {
+    "parallelChannel",
+    "attributes"
+})
+public class SplitterType {
+
+    @XmlElement(required = true)
+    protected List<ParallelChannelType> parallelChannel;
+    protected PartitioningAttributesType attributes;
+    @XmlAttribute(name = "kind", required = true)
+    protected SplitterKind kind;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+    @XmlAttribute(name = "regionIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger regionIndex;
+    @XmlAttribute(name = "dropWindowPuncts")
+    protected Boolean dropWindowPuncts;
+
+    /**
+     * Gets the value of the parallelChannel property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the parallelChannel property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getParallelChannel().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ParallelChannelType }
+     * 
+     * 
+     */
+    public List<ParallelChannelType> getParallelChannel() {
+        if (parallelChannel == null) {
+            parallelChannel = new ArrayList<ParallelChannelType>();
+        }
+        return this.parallelChannel;
+    }
+
+    /**
+     * Gets the value of the attributes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PartitioningAttributesType }
+     *     
+     */
+    public PartitioningAttributesType getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the value of the attributes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PartitioningAttributesType }
+     *     
+     */
+    public void setAttributes(PartitioningAttributesType value) {
+        this.attributes = value;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SplitterKind }
+     *     
+     */
+    public SplitterKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SplitterKind }
+     *     
+     */
+    public void setKind(SplitterKind value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+    /**
+     * Gets the value of the regionIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getRegionIndex() {
+        return regionIndex;
+    }
+
+    /**
+     * Sets the value of the regionIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setRegionIndex(BigInteger value) {
+        this.regionIndex = value;
+    }
+
+    /**
+     * Gets the value of the dropWindowPuncts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isDropWindowPuncts() {
+        return dropWindowPuncts;
+    }
+
+    /**
+     * Sets the value of the dropWindowPuncts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setDropWindowPuncts(Boolean value) {
+        this.dropWindowPuncts = value;
+    }
+
+}
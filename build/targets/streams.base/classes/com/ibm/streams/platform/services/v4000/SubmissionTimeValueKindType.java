@@ -0,0 +1,58 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for submissionTimeValueKindType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="submissionTimeValueKindType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="named"/&gt;
+ *     &lt;enumeration value="namedList"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "submissionTimeValueKindType")
+@XmlEnum
+public enum SubmissionTimeValueKindType {
+
+    @XmlEnumValue("named")
+    NAMED("named"),
+    @XmlEnumValue("namedList")
+    NAMED_LIST("namedList");
+    private final String value;
+
+    SubmissionTimeValueKindType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static SubmissionTimeValueKindType fromValue(String v) {
+        for (SubmissionTimeValueKindType c: SubmissionTimeValueKindType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,118 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores configurations on the multi-threading of an operator. It includes a congestion policy (via the congestionPolicy attribute) and a limit on the internal queue (via the queueSize attribute), and whether the queue is single threaded on its input or not.
+ *       
+ * 
+ * <p>Java class for threadedPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="threadedPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="congestionPolicy" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}congestionPolicyType" /&gt;
+ *       &lt;attribute name="queueSize" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="singleThreadedOnInput" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "threadedPortType")
+public class ThreadedPortType {
+
+    @XmlAttribute(name = "congestionPolicy", required = true)
+    protected CongestionPolicyType congestionPolicy;
+    @XmlAttribute(name = "queueSize")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger queueSize;
+    @XmlAttribute(name = "singleThreadedOnInput", required = true)
+    protected boolean singleThreadedOnInput;
+
+    /**
+     * Gets the value of the congestionPolicy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CongestionPolicyType }
+     *     
+     */
+    public CongestionPolicyType getCongestionPolicy() {
+        return congestionPolicy;
+    }
+
+    /**
+     * Sets the value of the congestionPolicy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CongestionPolicyType }
+     *     
+     */
+    public void setCongestionPolicy(CongestionPolicyType value) {
+        this.congestionPolicy = value;
+    }
+
+    /**
+     * Gets the value of the queueSize property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Sets the value of the queueSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setQueueSize(BigInteger value) {
+        this.queueSize = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnInput property.
+     * 
+     */
+    public boolean isSingleThreadedOnInput() {
+        return singleThreadedOnInput;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnInput property.
+     * 
+     */
+    public void setSingleThreadedOnInput(boolean value) {
+        this.singleThreadedOnInput = value;
+    }
+
+}
@@ -0,0 +1,70 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for tracingLevelType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="tracingLevelType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="off"/&gt;
+ *     &lt;enumeration value="error"/&gt;
+ *     &lt;enumeration value="warn"/&gt;
+ *     &lt;enumeration value="info"/&gt;
+ *     &lt;enumeration value="debug"/&gt;
+ *     &lt;enumeration value="trace"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "tracingLevelType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr")
+@XmlEnum
+public enum TracingLevelType {
+
+    @XmlEnumValue("off")
+    OFF("off"),
+    @XmlEnumValue("error")
+    ERROR("error"),
+    @XmlEnumValue("warn")
+    WARN("warn"),
+    @XmlEnumValue("info")
+    INFO("info"),
+    @XmlEnumValue("debug")
+    DEBUG("debug"),
+    @XmlEnumValue("trace")
+    TRACE("trace");
+    private final String value;
+
+    TracingLevelType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static TracingLevelType fromValue(String v) {
+        for (TracingLevelType c: TracingLevelType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
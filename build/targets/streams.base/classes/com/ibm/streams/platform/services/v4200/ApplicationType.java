@@ -0,0 +1,600 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure defines an SPL application. An application consists of a set of configurations that capture how an application was built from the corresponding SPL source code.  An application consists of: (1) Physical entities to be deployed and managed by the runtime: (a) a collection of processing elements, corresponding to the physical implementation of an SPL application; and (2) Logical entities to be used by development, debugging, and visualization tooling, mapping physical entities to constructs in the SPL program defining the application: (a) a collection of composite operators corresponding to the logical organization of an SPL application as specified by the composites element; and (b) a collection of toolkits that defines the operators used by this application.  An application has a human-readable name, an application scope used for scoping purposed, a version (used for provisioning decisions), a data and applicatin directories, an optional checkpoint directory (where the checkpointed state will be periodically deposited), and a tracing level.
+ *       
+ * 
+ * <p>Java class for applicationType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="applicationType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}contextType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="primitiveOperDefinitions" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperDefinitionsType"/&gt;
+ *         &lt;element name="composites" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}compositesType"/&gt;
+ *         &lt;element name="toolkits" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}toolkitsType"/&gt;
+ *         &lt;element name="customMetrics" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}customMetricsType" minOccurs="0"/&gt;
+ *         &lt;element name="parallelRegions" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}parallelRegionsType" minOccurs="0"/&gt;
+ *         &lt;element name="submissionTimeValues" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}submissionTimeValuesType" minOccurs="0"/&gt;
+ *         &lt;element name="submissionTimeConfiguration" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}submissionTimeConfigurationType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="applicationScope" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="version" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="dataDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="outputDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="checkpointDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="adlPath" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="buildId" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="bundle" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="standaloneApplicationDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="avoidRuntimeYield" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}avoidRuntimeYieldType" /&gt;
+ *       &lt;attribute name="productVersion" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "applicationType", propOrder = {
+    "primitiveOperDefinitions",
+    "composites",
+    "toolkits",
+    "customMetrics",
+    "parallelRegions",
+    "submissionTimeValues",
+    "submissionTimeConfiguration"
+})
+public class ApplicationType
+    extends ContextType
+{
+
+    @XmlElement(required = true)
+    protected PrimitiveOperDefinitionsType primitiveOperDefinitions;
+    @XmlElement(required = true)
+    protected CompositesType composites;
+    @XmlElement(required = true)
+    protected ToolkitsType toolkits;
+    protected CustomMetricsType customMetrics;
+    protected ParallelRegionsType parallelRegions;
+    protected SubmissionTimeValuesType submissionTimeValues;
+    protected SubmissionTimeConfigurationType submissionTimeConfiguration;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String name;
+    @XmlAttribute(name = "applicationScope", required = true)
+    protected String applicationScope;
+    @XmlAttribute(name = "version")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String version;
+    @XmlAttribute(name = "dataDirectory")
+    protected String dataDirectory;
+    @XmlAttribute(name = "applicationDirectory", required = true)
+    protected String applicationDirectory;
+    @XmlAttribute(name = "outputDirectory", required = true)
+    protected String outputDirectory;
+    @XmlAttribute(name = "checkpointDirectory")
+    protected String checkpointDirectory;
+    @XmlAttribute(name = "adlPath")
+    protected String adlPath;
+    @XmlAttribute(name = "buildId", required = true)
+    protected String buildId;
+    @XmlAttribute(name = "bundle", required = true)
+    protected String bundle;
+    @XmlAttribute(name = "standaloneApplicationDirectory")
+    protected String standaloneApplicationDirectory;
+    @XmlAttribute(name = "avoidRuntimeYield", required = true)
+    protected AvoidRuntimeYieldType avoidRuntimeYield;
+    @XmlAttribute(name = "productVersion", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String productVersion;
+
+    /**
+     * Gets the value of the primitiveOperDefinitions property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PrimitiveOperDefinitionsType }
+     *     
+     */
+    public PrimitiveOperDefinitionsType getPrimitiveOperDefinitions() {
+        return primitiveOperDefinitions;
+    }
+
+    /**
+     * Sets the value of the primitiveOperDefinitions property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PrimitiveOperDefinitionsType }
+     *     
+     */
+    public void setPrimitiveOperDefinitions(PrimitiveOperDefinitionsType value) {
+        this.primitiveOperDefinitions = value;
+    }
+
+    /**
+     * Gets the value of the composites property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CompositesType }
+     *     
+     */
+    public CompositesType getComposites() {
+        return composites;
+    }
+
+    /**
+     * Sets the value of the composites property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CompositesType }
+     *     
+     */
+    public void setComposites(CompositesType value) {
+        this.composites = value;
+    }
+
+    /**
+     * Gets the value of the toolkits property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ToolkitsType }
+     *     
+     */
+    public ToolkitsType getToolkits() {
+        return toolkits;
+    }
+
+    /**
+     * Sets the value of the toolkits property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ToolkitsType }
+     *     
+     */
+    public void setToolkits(ToolkitsType value) {
+        this.toolkits = value;
+    }
+
+    /**
+     * Gets the value of the customMetrics property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CustomMetricsType }
+     *     
+     */
+    public CustomMetricsType getCustomMetrics() {
+        return customMetrics;
+    }
+
+    /**
+     * Sets the value of the customMetrics property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CustomMetricsType }
+     *     
+     */
+    public void setCustomMetrics(CustomMetricsType value) {
+        this.customMetrics = value;
+    }
+
+    /**
+     * Gets the value of the parallelRegions property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ParallelRegionsType }
+     *     
+     */
+    public ParallelRegionsType getParallelRegions() {
+        return parallelRegions;
+    }
+
+    /**
+     * Sets the value of the parallelRegions property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ParallelRegionsType }
+     *     
+     */
+    public void setParallelRegions(ParallelRegionsType value) {
+        this.parallelRegions = value;
+    }
+
+    /**
+     * Gets the value of the submissionTimeValues property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SubmissionTimeValuesType }
+     *     
+     */
+    public SubmissionTimeValuesType getSubmissionTimeValues() {
+        return submissionTimeValues;
+    }
+
+    /**
+     * Sets the value of the submissionTimeValues property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SubmissionTimeValuesType }
+     *     
+     */
+    public void setSubmissionTimeValues(SubmissionTimeValuesType value) {
+        this.submissionTimeValues = value;
+    }
+
+    /**
+     * Gets the value of the submissionTimeConfiguration property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SubmissionTimeConfigurationType }
+     *     
+     */
+    public SubmissionTimeConfigurationType getSubmissionTimeConfiguration() {
+        return submissionTimeConfiguration;
+    }
+
+    /**
+     * Sets the value of the submissionTimeConfiguration property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SubmissionTimeConfigurationType }
+     *     
+     */
+    public void setSubmissionTimeConfiguration(SubmissionTimeConfigurationType value) {
+        this.submissionTimeConfiguration = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the applicationScope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationScope() {
+        return applicationScope;
+    }
+
+    /**
+     * Sets the value of the applicationScope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationScope(String value) {
+        this.applicationScope = value;
+    }
+
+    /**
+     * Gets the value of the version property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the value of the version property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setVersion(String value) {
+        this.version = value;
+    }
+
+    /**
+     * Gets the value of the dataDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDataDirectory() {
+        return dataDirectory;
+    }
+
+    /**
+     * Sets the value of the dataDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDataDirectory(String value) {
+        this.dataDirectory = value;
+    }
+
+    /**
+     * Gets the value of the applicationDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationDirectory() {
+        return applicationDirectory;
+    }
+
+    /**
+     * Sets the value of the applicationDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationDirectory(String value) {
+        this.applicationDirectory = value;
+    }
+
+    /**
+     * Gets the value of the outputDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Sets the value of the outputDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOutputDirectory(String value) {
+        this.outputDirectory = value;
+    }
+
+    /**
+     * Gets the value of the checkpointDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    /**
+     * Sets the value of the checkpointDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setCheckpointDirectory(String value) {
+        this.checkpointDirectory = value;
+    }
+
+    /**
+     * Gets the value of the adlPath property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getAdlPath() {
+        return adlPath;
+    }
+
+    /**
+     * Sets the value of the adlPath property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setAdlPath(String value) {
+        this.adlPath = value;
+    }
+
+    /**
+     * Gets the value of the buildId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getBuildId() {
+        return buildId;
+    }
+
+    /**
+     * Sets the value of the buildId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setBuildId(String value) {
+        this.buildId = value;
+    }
+
+    /**
+     * Gets the value of the bundle property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Sets the value of the bundle property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setBundle(String value) {
+        this.bundle = value;
+    }
+
+    /**
+     * Gets the value of the standaloneApplicationDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getStandaloneApplicationDirectory() {
+        return standaloneApplicationDirectory;
+    }
+
+    /**
+     * Sets the value of the standaloneApplicationDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setStandaloneApplicationDirectory(String value) {
+        this.standaloneApplicationDirectory = value;
+    }
+
+    /**
+     * Gets the value of the avoidRuntimeYield property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AvoidRuntimeYieldType }
+     *     
+     */
+    public AvoidRuntimeYieldType getAvoidRuntimeYield() {
+        return avoidRuntimeYield;
+    }
+
+    /**
+     * Sets the value of the avoidRuntimeYield property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AvoidRuntimeYieldType }
+     *     
+     */
+    public void setAvoidRuntimeYield(AvoidRuntimeYieldType value) {
+        this.avoidRuntimeYield = value;
+    }
+
+    /**
+     * Gets the value of the productVersion property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getProductVersion() {
+        return productVersion;
+    }
+
+    /**
+     * Sets the value of the productVersion property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setProductVersion(String value) {
+        this.productVersion = value;
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for avoidRuntimeYieldType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="avoidRuntimeYieldType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="auto"/&gt;
+ *     &lt;enumeration value="yes"/&gt;
+ *     &lt;enumeration value="no"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "avoidRuntimeYieldType")
+@XmlEnum
+public enum AvoidRuntimeYieldType {
+
+    @XmlEnumValue("auto")
+    AUTO("auto"),
+    @XmlEnumValue("yes")
+    YES("yes"),
+    @XmlEnumValue("no")
+    NO("no");
+    private final String value;
+
+    AvoidRuntimeYieldType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static AvoidRuntimeYieldType fromValue(String v) {
+        for (AvoidRuntimeYieldType c: AvoidRuntimeYieldType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for congestionPolicyType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="congestionPolicyType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="wait"/&gt;
+ *     &lt;enumeration value="dropFirst"/&gt;
+ *     &lt;enumeration value="dropLast"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "congestionPolicyType")
+@XmlEnum
+public enum CongestionPolicyType {
+
+    @XmlEnumValue("wait")
+    WAIT("wait"),
+    @XmlEnumValue("dropFirst")
+    DROP_FIRST("dropFirst"),
+    @XmlEnumValue("dropLast")
+    DROP_LAST("dropLast");
+    private final String value;
+
+    CongestionPolicyType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static CongestionPolicyType fromValue(String v) {
+        for (CongestionPolicyType c: CongestionPolicyType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for customMetricKindType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="customMetricKindType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="Gauge"/&gt;
+ *     &lt;enumeration value="Counter"/&gt;
+ *     &lt;enumeration value="Time"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "customMetricKindType")
+@XmlEnum
+public enum CustomMetricKindType {
+
+    @XmlEnumValue("Gauge")
+    GAUGE("Gauge"),
+    @XmlEnumValue("Counter")
+    COUNTER("Counter"),
+    @XmlEnumValue("Time")
+    TIME("Time");
+    private final String value;
+
+    CustomMetricKindType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static CustomMetricKindType fromValue(String v) {
+        for (CustomMetricKindType c: CustomMetricKindType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
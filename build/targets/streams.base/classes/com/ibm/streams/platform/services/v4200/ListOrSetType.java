@@ -0,0 +1,230 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for listOrSetType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="listOrSetType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice minOccurs="0"&gt;
+ *         &lt;element name="list" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}listOrSetType"/&gt;
+ *         &lt;element name="set" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}listOrSetType"/&gt;
+ *         &lt;element name="map" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}mapType"/&gt;
+ *         &lt;element name="tuple" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}tupleType"/&gt;
+ *         &lt;element name="optional" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}optionalType"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="bound" type="{http://www.w3.org/2001/XMLSchema}long" /&gt;
+ *       &lt;attribute name="elementType" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "listOrSetType", namespace = "http://www.ibm.com/xmlns/prod/streams/spl/tupleType", propOrder = {
+    "list",
+    "set",
+    "map",
+    "tuple",
+    "optional"
+})
+public class ListOrSetType {
+
+    protected ListOrSetType list;
+    protected ListOrSetType set;
+    protected MapType map;
+    protected TupleType tuple;
+    protected OptionalType optional;
+    @XmlAttribute(name = "bound")
+    protected Long bound;
+    @XmlAttribute(name = "elementType")
+    protected String elementType;
+
+    /**
+     * Gets the value of the list property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public ListOrSetType getList() {
+        return list;
+    }
+
+    /**
+     * Sets the value of the list property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public void setList(ListOrSetType value) {
+        this.list = value;
+    }
+
+    /**
+     * Gets the value of the set property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public ListOrSetType getSet() {
+        return set;
+    }
+
+    /**
+     * Sets the value of the set property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ListOrSetType }
+     *     
+     */
+    public void setSet(ListOrSetType value) {
+        this.set = value;
+    }
+
+    /**
+     * Gets the value of the map property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link MapType }
+     *     
+     */
+    public MapType getMap() {
+        return map;
+    }
+
+    /**
+     * Sets the value of the map property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link MapType }
+     *     
+     */
+    public void setMap(MapType value) {
+        this.map = value;
+    }
+
+    /**
+     * Gets the value of the tuple property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleType }
+     *     
+     */
+    public TupleType getTuple() {
+        return tuple;
+    }
+
+    /**
+     * Sets the value of the tuple property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleType }
+     *     
+     */
+    public void setTuple(TupleType value) {
+        this.tuple = value;
+    }
+
+    /**
+     * Gets the value of the optional property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OptionalType }
+     *     
+     */
+    public OptionalType getOptional() {
+        return optional;
+    }
+
+    /**
+     * Sets the value of the optional property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OptionalType }
+     *     
+     */
+    public void setOptional(OptionalType value) {
+        this.optional = value;
+    }
+
+    /**
+     * Gets the value of the bound property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Long }
+     *     
+     */
+    public Long getBound() {
+        return bound;
+    }
+
+    /**
+     * Sets the value of the bound property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Long }
+     *     
+     */
+    public void setBound(Long value) {
+        this.bound = value;
+    }
+
+    /**
+     * Gets the value of the elementType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getElementType() {
+        return elementType;
+    }
+
+    /**
+     * Sets the value of the elementType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setElementType(String value) {
+        this.elementType = value;
+    }
+
+}
@@ -0,0 +1,176 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for mapType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="mapType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence minOccurs="0"&gt;
+ *         &lt;element name="key" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}typeType" minOccurs="0"/&gt;
+ *         &lt;element name="value" type="{http://www.ibm.com/xmlns/prod/streams/spl/tupleType}typeType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="bound" type="{http://www.w3.org/2001/XMLSchema}long" /&gt;
+ *       &lt;attribute name="keyType" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="valueType" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "mapType", namespace = "http://www.ibm.com/xmlns/prod/streams/spl/tupleType", propOrder = {
+    "key",
+    "value"
+})
+public class MapType {
+
+    protected TypeType key;
+    protected TypeType value;
+    @XmlAttribute(name = "bound")
+    protected Long bound;
+    @XmlAttribute(name = "keyType")
+    protected String keyType;
+    @XmlAttribute(name = "valueType")
+    protected String valueType;
+
+    /**
+     * Gets the value of the key property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TypeType }
+     *     
+     */
+    public TypeType getKey() {
+        return key;
+    }
+
+    /**
+     * Sets the value of the key property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TypeType }
+     *     
+     */
+    public void setKey(TypeType value) {
+        this.key = value;
+    }
+
+    /**
+     * Gets the value of the value property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TypeType }
+     *     
+     */
+    public TypeType getValue() {
+        return value;
+    }
+
+    /**
+     * Sets the value of the value property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TypeType }
+     *     
+     */
+    public void setValue(TypeType value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the value of the bound property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Long }
+     *     
+     */
+    public Long getBound() {
+        return bound;
+    }
+
+    /**
+     * Sets the value of the bound property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Long }
+     *     
+     */
+    public void setBound(Long value) {
+        this.bound = value;
+    }
+
+    /**
+     * Gets the value of the keyType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Sets the value of the keyType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setKeyType(String value) {
+        this.keyType = value;
+    }
+
+    /**
+     * Gets the value of the valueType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Sets the value of the valueType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setValueType(String value) {
+        this.valueType = value;
+    }
+
+}
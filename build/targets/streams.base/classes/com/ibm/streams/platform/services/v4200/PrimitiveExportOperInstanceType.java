@@ -0,0 +1,151 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for primitiveExportOperInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="primitiveExportOperInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperInstanceBaseType"&gt;
+ *       &lt;sequence minOccurs="0"&gt;
+ *         &lt;element name="properties" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}streamPropertiesType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="streamName" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="allowFilter" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="congestionPolicy" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}exportCongestionPolicyType" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "primitiveExportOperInstanceType", propOrder = {
+    "properties"
+})
+public class PrimitiveExportOperInstanceType
+    extends PrimitiveOperInstanceBaseType
+{
+
+    protected StreamPropertiesType properties;
+    @XmlAttribute(name = "streamName")
+    protected String streamName;
+    @XmlAttribute(name = "allowFilter")
+    protected Boolean allowFilter;
+    @XmlAttribute(name = "congestionPolicy")
+    protected ExportCongestionPolicyType congestionPolicy;
+
+    /**
+     * Gets the value of the properties property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamPropertiesType }
+     *     
+     */
+    public StreamPropertiesType getProperties() {
+        return properties;
+    }
+
+    /**
+     * Sets the value of the properties property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamPropertiesType }
+     *     
+     */
+    public void setProperties(StreamPropertiesType value) {
+        this.properties = value;
+    }
+
+    /**
+     * Gets the value of the streamName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * Sets the value of the streamName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setStreamName(String value) {
+        this.streamName = value;
+    }
+
+    /**
+     * Gets the value of the allowFilter property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isAllowFilter() {
+        return allowFilter;
+    }
+
+    /**
+     * Sets the value of the allowFilter property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setAllowFilter(Boolean value) {
+        this.allowFilter = value;
+    }
+
+    /**
+     * Gets the value of the congestionPolicy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExportCongestionPolicyType }
+     *     
+     */
+    public ExportCongestionPolicyType getCongestionPolicy() {
+        return congestionPolicy;
+    }
+
+    /**
+     * Sets the value of the congestionPolicy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExportCongestionPolicyType }
+     *     
+     */
+    public void setCongestionPolicy(ExportCongestionPolicyType value) {
+        this.congestionPolicy = value;
+    }
+
+}
@@ -0,0 +1,222 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents a primitive operator definition. An operator has a kind, an index number, custom metrics, and 0 or more SPL annotations.
+ *       
+ * 
+ * <p>Java class for primitiveOperDefinitionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="primitiveOperDefinitionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="customMetricIndicies" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}customMetricIndiciesType" minOccurs="0"/&gt;
+ *         &lt;element name="capability" type="{http://www.w3.org/2001/XMLSchema}string" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="kind" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="toolkitIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="runtimeType" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}operatorRuntimeType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "primitiveOperDefinitionType", propOrder = {
+    "customMetricIndicies",
+    "capability"
+})
+public class PrimitiveOperDefinitionType {
+
+    protected CustomMetricIndiciesType customMetricIndicies;
+    protected List<String> capability;
+    @XmlAttribute(name = "kind", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String kind;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "toolkitIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger toolkitIndex;
+    @XmlAttribute(name = "runtimeType", required = true)
+    protected OperatorRuntimeType runtimeType;
+
+    /**
+     * Gets the value of the customMetricIndicies property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CustomMetricIndiciesType }
+     *     
+     */
+    public CustomMetricIndiciesType getCustomMetricIndicies() {
+        return customMetricIndicies;
+    }
+
+    /**
+     * Sets the value of the customMetricIndicies property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CustomMetricIndiciesType }
+     *     
+     */
+    public void setCustomMetricIndicies(CustomMetricIndiciesType value) {
+        this.customMetricIndicies = value;
+    }
+
+    /**
+     * Gets the value of the capability property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the capability property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getCapability().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getCapability() {
+        if (capability == null) {
+            capability = new ArrayList<String>();
+        }
+        return this.capability;
+    }
+
+    /**
+     * Gets the value of the kind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getKind() {
+        return kind;
+    }
+
+    /**
+     * Sets the value of the kind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setKind(String value) {
+        this.kind = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the toolkitIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getToolkitIndex() {
+        return toolkitIndex;
+    }
+
+    /**
+     * Sets the value of the toolkitIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setToolkitIndex(BigInteger value) {
+        this.toolkitIndex = value;
+    }
+
+    /**
+     * Gets the value of the runtimeType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperatorRuntimeType }
+     *     
+     */
+    public OperatorRuntimeType getRuntimeType() {
+        return runtimeType;
+    }
+
+    /**
+     * Sets the value of the runtimeType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperatorRuntimeType }
+     *     
+     */
+    public void setRuntimeType(OperatorRuntimeType value) {
+        this.runtimeType = value;
+    }
+
+}
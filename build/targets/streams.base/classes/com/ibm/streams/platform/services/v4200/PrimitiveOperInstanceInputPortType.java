@@ -0,0 +1,101 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a primitive operator instance's input port.
+ *       
+ * 
+ * <p>Java class for primitiveOperInstanceInputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="primitiveOperInstanceInputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperInstancePortType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="threadedPort" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}threadedPortType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="isControl" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "primitiveOperInstanceInputPortType", propOrder = {
+    "threadedPort"
+})
+public class PrimitiveOperInstanceInputPortType
+    extends PrimitiveOperInstancePortType
+{
+
+    protected ThreadedPortType threadedPort;
+    @XmlAttribute(name = "isControl")
+    protected Boolean isControl;
+
+    /**
+     * Gets the value of the threadedPort property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ThreadedPortType }
+     *     
+     */
+    public ThreadedPortType getThreadedPort() {
+        return threadedPort;
+    }
+
+    /**
+     * Sets the value of the threadedPort property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ThreadedPortType }
+     *     
+     */
+    public void setThreadedPort(ThreadedPortType value) {
+        this.threadedPort = value;
+    }
+
+    /**
+     * Gets the value of the isControl property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIsControl() {
+        return isControl;
+    }
+
+    /**
+     * Sets the value of the isControl property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIsControl(Boolean value) {
+        this.isControl = value;
+    }
+
+}
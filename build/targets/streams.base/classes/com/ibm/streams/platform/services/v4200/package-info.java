@@ -0,0 +1,9 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+@javax.xml.bind.annotation.XmlSchema(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", elementFormDefault = javax.xml.bind.annotation.XmlNsForm.QUALIFIED)
+package com.ibm.streams.platform.services.v4200;
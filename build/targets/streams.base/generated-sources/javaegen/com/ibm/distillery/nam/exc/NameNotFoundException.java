@@ -0,0 +1,71 @@
+package com.ibm.distillery.nam.exc;
+
+import java.util.Vector;
+import com.ibm.distillery.utils.DistilleryExceptionCode;
+
+public class NameNotFoundException
+  extends com.ibm.distillery.nam.exc.NAMException {
+
+  public static final long serialVersionUID = 1;
+
+ /**
+  * Construct a new exception with the specified detail message
+  * @param message the exception related message
+  **/
+  public NameNotFoundException(String message) {
+    this(message, new DistilleryExceptionCode(), new Vector<String>());
+  }
+
+ /**
+  * Construct a new exception with the specified detail message, exception code and substitution text
+  * @param message the exception related message
+  * @param myExceptionCode the exception code that represents the exception
+  * @param mySubstitutionText A vector of strings representing the substitution text related to the exception code
+  **/
+  public NameNotFoundException(String message, DistilleryExceptionCode myExceptionCode, Vector<String> mySubstitutionText) {
+    super(message, myExceptionCode, mySubstitutionText);
+  }
+
+ /**
+  * Constructs a new exception with the specified detail message and cause
+  * @param message the exception related message
+  * @param cause the exception cause
+  **/
+  public NameNotFoundException(String message, Throwable cause) {
+    this(message, cause, new DistilleryExceptionCode(), new Vector<String>());
+  }
+
+ /**
+  * Constructs a new exception with the specified detail message, cause, exception code and substitution text
+  * @param message the exception related message
+  * @param cause the exception cause
+  * @param myExceptionCode the exception code that represents the exception
+  * @param mySubstitutionText A vector of strings representing the substitution text related to the exception code
+  **/
+  public NameNotFoundException(String message, Throwable cause, DistilleryExceptionCode myExceptionCode, Vector<String> mySubstitutionText) {
+    super(message, cause, myExceptionCode, mySubstitutionText);
+  }
+
+ /**
+  * Construct a new exception with the specified cause and a detail message 
+  * of (cause==null ? null : cause.toString()) (which typically contains 
+  * the class and detail message of cause)
+  * @param cause the exception cause
+  **/
+  public NameNotFoundException(Throwable cause) {
+    this(cause, new DistilleryExceptionCode(), new Vector<String>());
+  }
+
+ /**
+  * Construct a new exception with the specified cause, a detail message, exception code and substitution text
+  * of (cause==null ? null : cause.toString()) (which typically contains 
+  * the class and detail message of cause)
+  * @param cause the exception cause
+  * @param myExceptionCode the exception code that represents the exception
+  * @param mySubstitutionText A vector of strings representing the substitution text related to the exception code
+  **/
+  public NameNotFoundException(Throwable cause, DistilleryExceptionCode myExceptionCode, Vector<String> mySubstitutionText) {
+    super(cause, myExceptionCode, mySubstitutionText);
+  }
+
+}
@@ -0,0 +1,422 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure includes the basic representation for a Processing Element. A processing element includes the definition of environment variables necessary to be set to support its processing logic. These settings apply only to the environment of a particular processing element, its executable reference, the collection of operator instances that are hosted by this process element, an optional display for wrappers to use, an index for internal ADL indexing as the PE might be used multiple times, the tracing level, the language from which the processing element executable
+ * was created. A processing element is also configured to run with a certain tracing level.  A processing element can be configured to be optimized, restartable, and relocatable.
+ *       
+ * 
+ * <p>Java class for basicPEType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="basicPEType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="envVars" type="{http://www.ibm.com/xmlns/prod/streams/application}envVarsType"/&gt;
+ *         &lt;element name="executable" type="{http://www.ibm.com/xmlns/prod/streams/application}executableType"/&gt;
+ *         &lt;element name="operInstances" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancesType"/&gt;
+ *         &lt;element name="display" type="{http://www.ibm.com/xmlns/prod/streams/application}runtimeConstantType" minOccurs="0"/&gt;
+ *         &lt;element name="tracing" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType" minOccurs="0"/&gt;
+ *         &lt;element name="capability" type="{http://www.w3.org/2001/XMLSchema}string" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="class" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="logLevel" type="{http://www.ibm.com/xmlns/prod/streams/application}logLevelType" /&gt;
+ *       &lt;attribute name="language" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}languageType" /&gt;
+ *       &lt;attribute name="optimized" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="restartable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="relocatable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="version" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "basicPEType", propOrder = {
+    "envVars",
+    "executable",
+    "operInstances",
+    "display",
+    "tracing",
+    "capability"
+})
+@XmlSeeAlso({
+    PeType.class
+})
+public class BasicPEType {
+
+    @XmlElement(required = true)
+    protected EnvVarsType envVars;
+    @XmlElement(required = true)
+    protected ExecutableType executable;
+    @XmlElement(required = true)
+    protected OperInstancesType operInstances;
+    protected RuntimeConstantType display;
+    protected TracingType tracing;
+    protected List<String> capability;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "class", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String clazz;
+    @XmlAttribute(name = "logLevel")
+    protected LogLevelType logLevel;
+    @XmlAttribute(name = "language", required = true)
+    protected LanguageType language;
+    @XmlAttribute(name = "optimized", required = true)
+    protected boolean optimized;
+    @XmlAttribute(name = "restartable", required = true)
+    protected boolean restartable;
+    @XmlAttribute(name = "relocatable", required = true)
+    protected boolean relocatable;
+    @XmlAttribute(name = "version", required = true)
+    protected String version;
+
+    /**
+     * Gets the value of the envVars property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public EnvVarsType getEnvVars() {
+        return envVars;
+    }
+
+    /**
+     * Sets the value of the envVars property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public void setEnvVars(EnvVarsType value) {
+        this.envVars = value;
+    }
+
+    /**
+     * Gets the value of the executable property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExecutableType }
+     *     
+     */
+    public ExecutableType getExecutable() {
+        return executable;
+    }
+
+    /**
+     * Sets the value of the executable property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExecutableType }
+     *     
+     */
+    public void setExecutable(ExecutableType value) {
+        this.executable = value;
+    }
+
+    /**
+     * Gets the value of the operInstances property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancesType }
+     *     
+     */
+    public OperInstancesType getOperInstances() {
+        return operInstances;
+    }
+
+    /**
+     * Sets the value of the operInstances property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancesType }
+     *     
+     */
+    public void setOperInstances(OperInstancesType value) {
+        this.operInstances = value;
+    }
+
+    /**
+     * Gets the value of the display property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link RuntimeConstantType }
+     *     
+     */
+    public RuntimeConstantType getDisplay() {
+        return display;
+    }
+
+    /**
+     * Sets the value of the display property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link RuntimeConstantType }
+     *     
+     */
+    public void setDisplay(RuntimeConstantType value) {
+        this.display = value;
+    }
+
+    /**
+     * Gets the value of the tracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getTracing() {
+        return tracing;
+    }
+
+    /**
+     * Sets the value of the tracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setTracing(TracingType value) {
+        this.tracing = value;
+    }
+
+    /**
+     * Gets the value of the capability property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the capability property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getCapability().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getCapability() {
+        if (capability == null) {
+            capability = new ArrayList<String>();
+        }
+        return this.capability;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the clazz property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getClazz() {
+        return clazz;
+    }
+
+    /**
+     * Sets the value of the clazz property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setClazz(String value) {
+        this.clazz = value;
+    }
+
+    /**
+     * Gets the value of the logLevel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public LogLevelType getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Sets the value of the logLevel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public void setLogLevel(LogLevelType value) {
+        this.logLevel = value;
+    }
+
+    /**
+     * Gets the value of the language property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LanguageType }
+     *     
+     */
+    public LanguageType getLanguage() {
+        return language;
+    }
+
+    /**
+     * Sets the value of the language property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LanguageType }
+     *     
+     */
+    public void setLanguage(LanguageType value) {
+        this.language = value;
+    }
+
+    /**
+     * Gets the value of the optimized property.
+     * 
+     */
+    public boolean isOptimized() {
+        return optimized;
+    }
+
+    /**
+     * Sets the value of the optimized property.
+     * 
+     */
+    public void setOptimized(boolean value) {
+        this.optimized = value;
+    }
+
+    /**
+     * Gets the value of the restartable property.
+     * 
+     */
+    public boolean isRestartable() {
+        return restartable;
+    }
+
+    /**
+     * Sets the value of the restartable property.
+     * 
+     */
+    public void setRestartable(boolean value) {
+        this.restartable = value;
+    }
+
+    /**
+     * Gets the value of the relocatable property.
+     * 
+     */
+    public boolean isRelocatable() {
+        return relocatable;
+    }
+
+    /**
+     * Sets the value of the relocatable property.
+     * 
+     */
+    public void setRelocatable(boolean value) {
+        this.relocatable = value;
+    }
+
+    /**
+     * Gets the value of the version property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the value of the version property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setVersion(String value) {
+        this.version = value;
+    }
+
+}
@@ -0,0 +1,133 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure defines context information for applications, jobs, and PEs, including toolkits, libraries, hostpools, and tuple types (which specify the format or schema for tuples flowing on a stream and accepted by input ports).
+ *       
+ * 
+ * <p>Java class for contextType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="contextType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="libraries" type="{http://www.ibm.com/xmlns/prod/streams/application}librariesType"/&gt;
+ *         &lt;element name="hostpools" type="{http://www.ibm.com/xmlns/prod/streams/application}hostpoolsType"/&gt;
+ *         &lt;element name="tupleTypes" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypesType"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "contextType", propOrder = {
+    "libraries",
+    "hostpools",
+    "tupleTypes"
+})
+@XmlSeeAlso({
+    ApplicationType.class
+})
+public class ContextType {
+
+    @XmlElement(required = true)
+    protected LibrariesType libraries;
+    @XmlElement(required = true)
+    protected HostpoolsType hostpools;
+    @XmlElement(required = true)
+    protected TupleTypesType tupleTypes;
+
+    /**
+     * Gets the value of the libraries property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LibrariesType }
+     *     
+     */
+    public LibrariesType getLibraries() {
+        return libraries;
+    }
+
+    /**
+     * Sets the value of the libraries property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LibrariesType }
+     *     
+     */
+    public void setLibraries(LibrariesType value) {
+        this.libraries = value;
+    }
+
+    /**
+     * Gets the value of the hostpools property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HostpoolsType }
+     *     
+     */
+    public HostpoolsType getHostpools() {
+        return hostpools;
+    }
+
+    /**
+     * Sets the value of the hostpools property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HostpoolsType }
+     *     
+     */
+    public void setHostpools(HostpoolsType value) {
+        this.hostpools = value;
+    }
+
+    /**
+     * Gets the value of the tupleTypes property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypesType }
+     *     
+     */
+    public TupleTypesType getTupleTypes() {
+        return tupleTypes;
+    }
+
+    /**
+     * Sets the value of the tupleTypes property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypesType }
+     *     
+     */
+    public void setTupleTypes(TupleTypesType value) {
+        this.tupleTypes = value;
+    }
+
+}
@@ -0,0 +1,422 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents an operator instance. An operator is configured with optional profiling settings (defined by the profiling element) and includes runtime constants (defined by the runtimeConstants element), which are loaded when the operator starts running and set of resource requirements. The operator also defines input and output ports, defined by the inputPorts and outputPorts elements, respectively. An operator includes an index attribute (for intra-application static connection wiring), a class (from the source code), a name, an index into the operator definition table, information on whether incoming tuples are processed by a single thread (defined by the singleThreadedOnInputs and used for optimizing internal locking), information on whether outgoing tuples are submitted by a single thread (defined by the singleThreadedOnOutputs and used for optimizing internal locking), and an optional checkpoint policy (used by fault-tolerant operators). An operator instance can be configured to be restartable and relocatable.
+ *       
+ * 
+ * <p>Java class for operInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="resources" type="{http://www.ibm.com/xmlns/prod/streams/application}resourcesType"/&gt;
+ *         &lt;element name="profiling" type="{http://www.ibm.com/xmlns/prod/streams/application}profilingType" minOccurs="0"/&gt;
+ *         &lt;element name="checkpointing" type="{http://www.ibm.com/xmlns/prod/streams/application}checkpointingType" minOccurs="0"/&gt;
+ *         &lt;element name="runtimeConstants" type="{http://www.ibm.com/xmlns/prod/streams/application}runtimeConstantsType"/&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceInputPortsType"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceOutputPortsType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="class" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="definitionIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="singleThreadedOnInputs" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="singleThreadedOnOutputs" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="restartable" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="relocatable" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstanceType", propOrder = {
+    "resources",
+    "profiling",
+    "checkpointing",
+    "runtimeConstants",
+    "inputPorts",
+    "outputPorts"
+})
+public class OperInstanceType {
+
+    @XmlElement(required = true)
+    protected ResourcesType resources;
+    protected ProfilingType profiling;
+    protected CheckpointingType checkpointing;
+    @XmlElement(required = true)
+    protected RuntimeConstantsType runtimeConstants;
+    @XmlElement(required = true)
+    protected OperInstanceInputPortsType inputPorts;
+    @XmlElement(required = true)
+    protected OperInstanceOutputPortsType outputPorts;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "class", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String clazz;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String name;
+    @XmlAttribute(name = "definitionIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger definitionIndex;
+    @XmlAttribute(name = "singleThreadedOnInputs", required = true)
+    protected boolean singleThreadedOnInputs;
+    @XmlAttribute(name = "singleThreadedOnOutputs", required = true)
+    protected boolean singleThreadedOnOutputs;
+    @XmlAttribute(name = "restartable")
+    protected Boolean restartable;
+    @XmlAttribute(name = "relocatable")
+    protected Boolean relocatable;
+
+    /**
+     * Gets the value of the resources property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ResourcesType }
+     *     
+     */
+    public ResourcesType getResources() {
+        return resources;
+    }
+
+    /**
+     * Sets the value of the resources property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ResourcesType }
+     *     
+     */
+    public void setResources(ResourcesType value) {
+        this.resources = value;
+    }
+
+    /**
+     * Gets the value of the profiling property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ProfilingType }
+     *     
+     */
+    public ProfilingType getProfiling() {
+        return profiling;
+    }
+
+    /**
+     * Sets the value of the profiling property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ProfilingType }
+     *     
+     */
+    public void setProfiling(ProfilingType value) {
+        this.profiling = value;
+    }
+
+    /**
+     * Gets the value of the checkpointing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CheckpointingType }
+     *     
+     */
+    public CheckpointingType getCheckpointing() {
+        return checkpointing;
+    }
+
+    /**
+     * Sets the value of the checkpointing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CheckpointingType }
+     *     
+     */
+    public void setCheckpointing(CheckpointingType value) {
+        this.checkpointing = value;
+    }
+
+    /**
+     * Gets the value of the runtimeConstants property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link RuntimeConstantsType }
+     *     
+     */
+    public RuntimeConstantsType getRuntimeConstants() {
+        return runtimeConstants;
+    }
+
+    /**
+     * Sets the value of the runtimeConstants property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link RuntimeConstantsType }
+     *     
+     */
+    public void setRuntimeConstants(RuntimeConstantsType value) {
+        this.runtimeConstants = value;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstanceInputPortsType }
+     *     
+     */
+    public OperInstanceInputPortsType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstanceInputPortsType }
+     *     
+     */
+    public void setInputPorts(OperInstanceInputPortsType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstanceOutputPortsType }
+     *     
+     */
+    public OperInstanceOutputPortsType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstanceOutputPortsType }
+     *     
+     */
+    public void setOutputPorts(OperInstanceOutputPortsType value) {
+        this.outputPorts = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the clazz property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getClazz() {
+        return clazz;
+    }
+
+    /**
+     * Sets the value of the clazz property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setClazz(String value) {
+        this.clazz = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the definitionIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getDefinitionIndex() {
+        return definitionIndex;
+    }
+
+    /**
+     * Sets the value of the definitionIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setDefinitionIndex(BigInteger value) {
+        this.definitionIndex = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnInputs property.
+     * 
+     */
+    public boolean isSingleThreadedOnInputs() {
+        return singleThreadedOnInputs;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnInputs property.
+     * 
+     */
+    public void setSingleThreadedOnInputs(boolean value) {
+        this.singleThreadedOnInputs = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnOutputs property.
+     * 
+     */
+    public boolean isSingleThreadedOnOutputs() {
+        return singleThreadedOnOutputs;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnOutputs property.
+     * 
+     */
+    public void setSingleThreadedOnOutputs(boolean value) {
+        this.singleThreadedOnOutputs = value;
+    }
+
+    /**
+     * Gets the value of the restartable property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isRestartable() {
+        return restartable;
+    }
+
+    /**
+     * Sets the value of the restartable property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setRestartable(Boolean value) {
+        this.restartable = value;
+    }
+
+    /**
+     * Gets the value of the relocatable property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isRelocatable() {
+        return relocatable;
+    }
+
+    /**
+     * Sets the value of the relocatable property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setRelocatable(Boolean value) {
+        this.relocatable = value;
+    }
+
+}
@@ -0,0 +1,241 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a PE input port (including all information that can be computed at compile-time). An input port also includes information about connections with other PEs (defined by the optional importedStreams element) as well as between edge operators and the PE that host them (indicated by the operInstanceConnection element). While importedStreams captures dynamic runtime inter-application (and possibly intra-application) connections to be established at runtime. The processing element input port might have incoming static connections from other PEs (as stated by the staticConnections element), An input port is also characterized by an index (for describing intra-application static connections), a tuple type as indicated by the tupleTypeIndex attribute as well as an encoding attribute representing the physical data encoding as well as the physical transport layer.
+ *       
+ * 
+ * <p>Java class for peInputPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peInputPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="importedStreams" type="{http://www.ibm.com/xmlns/prod/streams/application}importedStreamsType" minOccurs="0"/&gt;
+ *         &lt;element name="staticConnections" type="{http://www.ibm.com/xmlns/prod/streams/application}incomingStaticConnectionsType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEInputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="tupleTypeIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="encoding" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}encodingType" /&gt;
+ *       &lt;attribute name="transport" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}transportType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peInputPortType", propOrder = {
+    "importedStreams",
+    "staticConnections",
+    "operInstanceConnection"
+})
+public class PeInputPortType {
+
+    protected ImportedStreamsType importedStreams;
+    @XmlElement(required = true)
+    protected IncomingStaticConnectionsType staticConnections;
+    @XmlElement(required = true)
+    protected OperInstancePEInputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "tupleTypeIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger tupleTypeIndex;
+    @XmlAttribute(name = "encoding", required = true)
+    protected EncodingType encoding;
+    @XmlAttribute(name = "transport", required = true)
+    protected TransportType transport;
+
+    /**
+     * Gets the value of the importedStreams property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public ImportedStreamsType getImportedStreams() {
+        return importedStreams;
+    }
+
+    /**
+     * Sets the value of the importedStreams property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public void setImportedStreams(ImportedStreamsType value) {
+        this.importedStreams = value;
+    }
+
+    /**
+     * Gets the value of the staticConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link IncomingStaticConnectionsType }
+     *     
+     */
+    public IncomingStaticConnectionsType getStaticConnections() {
+        return staticConnections;
+    }
+
+    /**
+     * Sets the value of the staticConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link IncomingStaticConnectionsType }
+     *     
+     */
+    public void setStaticConnections(IncomingStaticConnectionsType value) {
+        this.staticConnections = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public OperInstancePEInputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEInputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the tupleTypeIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getTupleTypeIndex() {
+        return tupleTypeIndex;
+    }
+
+    /**
+     * Sets the value of the tupleTypeIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setTupleTypeIndex(BigInteger value) {
+        this.tupleTypeIndex = value;
+    }
+
+    /**
+     * Gets the value of the encoding property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EncodingType }
+     *     
+     */
+    public EncodingType getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Sets the value of the encoding property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EncodingType }
+     *     
+     */
+    public void setEncoding(EncodingType value) {
+        this.encoding = value;
+    }
+
+    /**
+     * Gets the value of the transport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TransportType }
+     *     
+     */
+    public TransportType getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the value of the transport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TransportType }
+     *     
+     */
+    public void setTransport(TransportType value) {
+        this.transport = value;
+    }
+
+}
@@ -0,0 +1,192 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4000;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a set of resources used by a PE. These include a particular host, a particular host pool, a co- or ex-location setting, or an isolation request.
+ *       
+ * 
+ * <p>Java class for resourcesType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="resourcesType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="hostLocation" type="{http://www.ibm.com/xmlns/prod/streams/application}hostLocationType" minOccurs="0"/&gt;
+ *         &lt;element name="poolLocation" type="{http://www.ibm.com/xmlns/prod/streams/application}poolLocationType" minOccurs="0"/&gt;
+ *         &lt;element name="coLocation" type="{http://www.ibm.com/xmlns/prod/streams/application}coLocationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="exLocation" type="{http://www.ibm.com/xmlns/prod/streams/application}exLocationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="isolation" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "resourcesType", propOrder = {
+    "hostLocation",
+    "poolLocation",
+    "coLocation",
+    "exLocation"
+})
+public class ResourcesType {
+
+    protected HostLocationType hostLocation;
+    protected PoolLocationType poolLocation;
+    protected List<CoLocationType> coLocation;
+    protected List<ExLocationType> exLocation;
+    @XmlAttribute(name = "isolation")
+    protected Boolean isolation;
+
+    /**
+     * Gets the value of the hostLocation property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HostLocationType }
+     *     
+     */
+    public HostLocationType getHostLocation() {
+        return hostLocation;
+    }
+
+    /**
+     * Sets the value of the hostLocation property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HostLocationType }
+     *     
+     */
+    public void setHostLocation(HostLocationType value) {
+        this.hostLocation = value;
+    }
+
+    /**
+     * Gets the value of the poolLocation property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PoolLocationType }
+     *     
+     */
+    public PoolLocationType getPoolLocation() {
+        return poolLocation;
+    }
+
+    /**
+     * Sets the value of the poolLocation property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PoolLocationType }
+     *     
+     */
+    public void setPoolLocation(PoolLocationType value) {
+        this.poolLocation = value;
+    }
+
+    /**
+     * Gets the value of the coLocation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the coLocation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getCoLocation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link CoLocationType }
+     * 
+     * 
+     */
+    public List<CoLocationType> getCoLocation() {
+        if (coLocation == null) {
+            coLocation = new ArrayList<CoLocationType>();
+        }
+        return this.coLocation;
+    }
+
+    /**
+     * Gets the value of the exLocation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the exLocation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getExLocation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ExLocationType }
+     * 
+     * 
+     */
+    public List<ExLocationType> getExLocation() {
+        if (exLocation == null) {
+            exLocation = new ArrayList<ExLocationType>();
+        }
+        return this.exLocation;
+    }
+
+    /**
+     * Gets the value of the isolation property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isIsolation() {
+        return isolation;
+    }
+
+    /**
+     * Sets the value of the isolation property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIsolation(Boolean value) {
+        this.isolation = value;
+    }
+
+}
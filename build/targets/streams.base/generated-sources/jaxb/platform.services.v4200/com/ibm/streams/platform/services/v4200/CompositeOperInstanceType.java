@@ -0,0 +1,360 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure defines a composite operator instance. The location in the source code is captured by the basic type this structure inherits from. This definition includes an optional description, the set of composite and primitive operators it employs (defined via the compositeOperInstance and primitiveOperInstance elements, respectively), a name, a unique index for it (unique accross primitive and composite operator instances), and an index to the composite operator definition (defined by the compositeOperIndex attribute).
+ *       
+ * 
+ * <p>Java class for compositeOperInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="compositeOperInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}sourceLocationType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="description" type="{http://www.w3.org/2001/XMLSchema}string" minOccurs="0"/&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}compositeOperInstancePortsType" minOccurs="0"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}compositeOperInstancePortsType" minOccurs="0"/&gt;
+ *         &lt;element name="compositeOperInstance" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}compositeOperInstanceType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;choice maxOccurs="unbounded" minOccurs="0"&gt;
+ *           &lt;element name="primitiveOperInstance" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperInstanceType"/&gt;
+ *           &lt;element name="primitiveImportOperInstance" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveImportOperInstanceType"/&gt;
+ *           &lt;element name="primitiveExportOperInstance" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveExportOperInstanceType"/&gt;
+ *         &lt;/choice&gt;
+ *         &lt;element name="splAnnotation" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}splAnnotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="annotation" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}annotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="definitionIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "compositeOperInstanceType", propOrder = {
+    "description",
+    "inputPorts",
+    "outputPorts",
+    "compositeOperInstance",
+    "primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance",
+    "splAnnotation",
+    "annotation"
+})
+public class CompositeOperInstanceType
+    extends SourceLocationType
+{
+
+    protected String description;
+    protected CompositeOperInstancePortsType inputPorts;
+    protected CompositeOperInstancePortsType outputPorts;
+    protected List<CompositeOperInstanceType> compositeOperInstance;
+    @XmlElements({
+        @XmlElement(name = "primitiveOperInstance", type = PrimitiveOperInstanceType.class),
+        @XmlElement(name = "primitiveImportOperInstance", type = PrimitiveImportOperInstanceType.class),
+        @XmlElement(name = "primitiveExportOperInstance", type = PrimitiveExportOperInstanceType.class)
+    })
+    protected List<PrimitiveOperInstanceBaseType> primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance;
+    protected List<SplAnnotationType> splAnnotation;
+    protected List<AnnotationType> annotation;
+    @XmlAttribute(name = "name", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String name;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "definitionIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger definitionIndex;
+
+    /**
+     * Gets the value of the description property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Sets the value of the description property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDescription(String value) {
+        this.description = value;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CompositeOperInstancePortsType }
+     *     
+     */
+    public CompositeOperInstancePortsType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CompositeOperInstancePortsType }
+     *     
+     */
+    public void setInputPorts(CompositeOperInstancePortsType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CompositeOperInstancePortsType }
+     *     
+     */
+    public CompositeOperInstancePortsType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CompositeOperInstancePortsType }
+     *     
+     */
+    public void setOutputPorts(CompositeOperInstancePortsType value) {
+        this.outputPorts = value;
+    }
+
+    /**
+     * Gets the value of the compositeOperInstance property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the compositeOperInstance property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getCompositeOperInstance().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link CompositeOperInstanceType }
+     * 
+     * 
+     */
+    public List<CompositeOperInstanceType> getCompositeOperInstance() {
+        if (compositeOperInstance == null) {
+            compositeOperInstance = new ArrayList<CompositeOperInstanceType>();
+        }
+        return this.compositeOperInstance;
+    }
+
+    /**
+     * Gets the value of the primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getPrimitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link PrimitiveOperInstanceType }
+     * {@link PrimitiveImportOperInstanceType }
+     * {@link PrimitiveExportOperInstanceType }
+     * 
+     * 
+     */
+    public List<PrimitiveOperInstanceBaseType> getPrimitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance() {
+        if (primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance == null) {
+            primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance = new ArrayList<PrimitiveOperInstanceBaseType>();
+        }
+        return this.primitiveOperInstanceOrPrimitiveImportOperInstanceOrPrimitiveExportOperInstance;
+    }
+
+    /**
+     * Gets the value of the splAnnotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the splAnnotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSplAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SplAnnotationType }
+     * 
+     * 
+     */
+    public List<SplAnnotationType> getSplAnnotation() {
+        if (splAnnotation == null) {
+            splAnnotation = new ArrayList<SplAnnotationType>();
+        }
+        return this.splAnnotation;
+    }
+
+    /**
+     * Gets the value of the annotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the annotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AnnotationType }
+     * 
+     * 
+     */
+    public List<AnnotationType> getAnnotation() {
+        if (annotation == null) {
+            annotation = new ArrayList<AnnotationType>();
+        }
+        return this.annotation;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the definitionIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getDefinitionIndex() {
+        return definitionIndex;
+    }
+
+    /**
+     * Sets the value of the definitionIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setDefinitionIndex(BigInteger value) {
+        this.definitionIndex = value;
+    }
+
+}
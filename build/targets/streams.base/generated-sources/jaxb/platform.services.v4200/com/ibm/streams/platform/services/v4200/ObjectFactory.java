@@ -0,0 +1,828 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.annotation.XmlElementDecl;
+import javax.xml.bind.annotation.XmlRegistry;
+import javax.xml.namespace.QName;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the com.ibm.streams.platform.services.v4200 package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+public class ObjectFactory {
+
+    private final static QName _Application_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/v4200", "application");
+    private final static QName _ApplicationSet_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/v4200", "applicationSet");
+    private final static QName _Context_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/v4200", "context");
+    private final static QName _StreamProperties_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/v4200", "streamProperties");
+    private final static QName _StreamProperty_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/application/v4200", "streamProperty");
+    private final static QName _MessageRecordingConfiguration_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr", "messageRecordingConfiguration");
+    private final static QName _Tuple_QNAME = new QName("http://www.ibm.com/xmlns/prod/streams/spl/tupleType", "tuple");
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: com.ibm.streams.platform.services.v4200
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link ApplicationType }
+     * 
+     */
+    public ApplicationType createApplicationType() {
+        return new ApplicationType();
+    }
+
+    /**
+     * Create an instance of {@link ApplicationSetType }
+     * 
+     */
+    public ApplicationSetType createApplicationSetType() {
+        return new ApplicationSetType();
+    }
+
+    /**
+     * Create an instance of {@link ContextType }
+     * 
+     */
+    public ContextType createContextType() {
+        return new ContextType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertiesType }
+     * 
+     */
+    public StreamPropertiesType createStreamPropertiesType() {
+        return new StreamPropertiesType();
+    }
+
+    /**
+     * Create an instance of {@link StreamPropertyType }
+     * 
+     */
+    public StreamPropertyType createStreamPropertyType() {
+        return new StreamPropertyType();
+    }
+
+    /**
+     * Create an instance of {@link EnvVarsType }
+     * 
+     */
+    public EnvVarsType createEnvVarsType() {
+        return new EnvVarsType();
+    }
+
+    /**
+     * Create an instance of {@link EnvVarType }
+     * 
+     */
+    public EnvVarType createEnvVarType() {
+        return new EnvVarType();
+    }
+
+    /**
+     * Create an instance of {@link LibrariesType }
+     * 
+     */
+    public LibrariesType createLibrariesType() {
+        return new LibrariesType();
+    }
+
+    /**
+     * Create an instance of {@link LibraryType }
+     * 
+     */
+    public LibraryType createLibraryType() {
+        return new LibraryType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitsType }
+     * 
+     */
+    public ToolkitsType createToolkitsType() {
+        return new ToolkitsType();
+    }
+
+    /**
+     * Create an instance of {@link ToolkitType }
+     * 
+     */
+    public ToolkitType createToolkitType() {
+        return new ToolkitType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricsType }
+     * 
+     */
+    public CustomMetricsType createCustomMetricsType() {
+        return new CustomMetricsType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricType }
+     * 
+     */
+    public CustomMetricType createCustomMetricType() {
+        return new CustomMetricType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolsType }
+     * 
+     */
+    public HostpoolsType createHostpoolsType() {
+        return new HostpoolsType();
+    }
+
+    /**
+     * Create an instance of {@link HostpoolType }
+     * 
+     */
+    public HostpoolType createHostpoolType() {
+        return new HostpoolType();
+    }
+
+    /**
+     * Create an instance of {@link HostType }
+     * 
+     */
+    public HostType createHostType() {
+        return new HostType();
+    }
+
+    /**
+     * Create an instance of {@link TagType }
+     * 
+     */
+    public TagType createTagType() {
+        return new TagType();
+    }
+
+    /**
+     * Create an instance of {@link TupleTypesType }
+     * 
+     */
+    public TupleTypesType createTupleTypesType() {
+        return new TupleTypesType();
+    }
+
+    /**
+     * Create an instance of {@link TupleTypeType }
+     * 
+     */
+    public TupleTypeType createTupleTypeType() {
+        return new TupleTypeType();
+    }
+
+    /**
+     * Create an instance of {@link AttributeType }
+     * 
+     */
+    public AttributeType createAttributeType() {
+        return new AttributeType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperDefinitionsType }
+     * 
+     */
+    public PrimitiveOperDefinitionsType createPrimitiveOperDefinitionsType() {
+        return new PrimitiveOperDefinitionsType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperDefinitionType }
+     * 
+     */
+    public PrimitiveOperDefinitionType createPrimitiveOperDefinitionType() {
+        return new PrimitiveOperDefinitionType();
+    }
+
+    /**
+     * Create an instance of {@link CustomMetricIndiciesType }
+     * 
+     */
+    public CustomMetricIndiciesType createCustomMetricIndiciesType() {
+        return new CustomMetricIndiciesType();
+    }
+
+    /**
+     * Create an instance of {@link SharedObjectType }
+     * 
+     */
+    public SharedObjectType createSharedObjectType() {
+        return new SharedObjectType();
+    }
+
+    /**
+     * Create an instance of {@link DependenciesType }
+     * 
+     */
+    public DependenciesType createDependenciesType() {
+        return new DependenciesType();
+    }
+
+    /**
+     * Create an instance of {@link LibraryDependencyType }
+     * 
+     */
+    public LibraryDependencyType createLibraryDependencyType() {
+        return new LibraryDependencyType();
+    }
+
+    /**
+     * Create an instance of {@link ResourcesType }
+     * 
+     */
+    public ResourcesType createResourcesType() {
+        return new ResourcesType();
+    }
+
+    /**
+     * Create an instance of {@link PartitionsType }
+     * 
+     */
+    public PartitionsType createPartitionsType() {
+        return new PartitionsType();
+    }
+
+    /**
+     * Create an instance of {@link HostLocationType }
+     * 
+     */
+    public HostLocationType createHostLocationType() {
+        return new HostLocationType();
+    }
+
+    /**
+     * Create an instance of {@link PoolLocationType }
+     * 
+     */
+    public PoolLocationType createPoolLocationType() {
+        return new PoolLocationType();
+    }
+
+    /**
+     * Create an instance of {@link CoLocationType }
+     * 
+     */
+    public CoLocationType createCoLocationType() {
+        return new CoLocationType();
+    }
+
+    /**
+     * Create an instance of {@link ExLocationType }
+     * 
+     */
+    public ExLocationType createExLocationType() {
+        return new ExLocationType();
+    }
+
+    /**
+     * Create an instance of {@link NameBasedImportType }
+     * 
+     */
+    public NameBasedImportType createNameBasedImportType() {
+        return new NameBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link PropertyBasedImportType }
+     * 
+     */
+    public PropertyBasedImportType createPropertyBasedImportType() {
+        return new PropertyBasedImportType();
+    }
+
+    /**
+     * Create an instance of {@link CheckpointingType }
+     * 
+     */
+    public CheckpointingType createCheckpointingType() {
+        return new CheckpointingType();
+    }
+
+    /**
+     * Create an instance of {@link RuntimeConstantsType }
+     * 
+     */
+    public RuntimeConstantsType createRuntimeConstantsType() {
+        return new RuntimeConstantsType();
+    }
+
+    /**
+     * Create an instance of {@link RuntimeConstantType }
+     * 
+     */
+    public RuntimeConstantType createRuntimeConstantType() {
+        return new RuntimeConstantType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeValuesType }
+     * 
+     */
+    public SubmissionTimeValuesType createSubmissionTimeValuesType() {
+        return new SubmissionTimeValuesType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeValueType }
+     * 
+     */
+    public SubmissionTimeValueType createSubmissionTimeValueType() {
+        return new SubmissionTimeValueType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeConfigurationType }
+     * 
+     */
+    public SubmissionTimeConfigurationType createSubmissionTimeConfigurationType() {
+        return new SubmissionTimeConfigurationType();
+    }
+
+    /**
+     * Create an instance of {@link SubmissionTimeConfigurationParameterType }
+     * 
+     */
+    public SubmissionTimeConfigurationParameterType createSubmissionTimeConfigurationParameterType() {
+        return new SubmissionTimeConfigurationParameterType();
+    }
+
+    /**
+     * Create an instance of {@link ThreadedPortType }
+     * 
+     */
+    public ThreadedPortType createThreadedPortType() {
+        return new ThreadedPortType();
+    }
+
+    /**
+     * Create an instance of {@link CompositesType }
+     * 
+     */
+    public CompositesType createCompositesType() {
+        return new CompositesType();
+    }
+
+    /**
+     * Create an instance of {@link UrisType }
+     * 
+     */
+    public UrisType createUrisType() {
+        return new UrisType();
+    }
+
+    /**
+     * Create an instance of {@link UriType }
+     * 
+     */
+    public UriType createUriType() {
+        return new UriType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperDefinitionsType }
+     * 
+     */
+    public CompositeOperDefinitionsType createCompositeOperDefinitionsType() {
+        return new CompositeOperDefinitionsType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperDefinitionType }
+     * 
+     */
+    public CompositeOperDefinitionType createCompositeOperDefinitionType() {
+        return new CompositeOperDefinitionType();
+    }
+
+    /**
+     * Create an instance of {@link SourceLocationType }
+     * 
+     */
+    public SourceLocationType createSourceLocationType() {
+        return new SourceLocationType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancesType }
+     * 
+     */
+    public CompositeOperInstancesType createCompositeOperInstancesType() {
+        return new CompositeOperInstancesType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstanceType }
+     * 
+     */
+    public CompositeOperInstanceType createCompositeOperInstanceType() {
+        return new CompositeOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancePortsType }
+     * 
+     */
+    public CompositeOperInstancePortsType createCompositeOperInstancePortsType() {
+        return new CompositeOperInstancePortsType();
+    }
+
+    /**
+     * Create an instance of {@link CompositeOperInstancePortType }
+     * 
+     */
+    public CompositeOperInstancePortType createCompositeOperInstancePortType() {
+        return new CompositeOperInstancePortType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePortConnectionsType }
+     * 
+     */
+    public OperInstancePortConnectionsType createOperInstancePortConnectionsType() {
+        return new OperInstancePortConnectionsType();
+    }
+
+    /**
+     * Create an instance of {@link OperInstancePortConnectionType }
+     * 
+     */
+    public OperInstancePortConnectionType createOperInstancePortConnectionType() {
+        return new OperInstancePortConnectionType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceBaseType }
+     * 
+     */
+    public PrimitiveOperInstanceBaseType createPrimitiveOperInstanceBaseType() {
+        return new PrimitiveOperInstanceBaseType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveImportOperInstanceType }
+     * 
+     */
+    public PrimitiveImportOperInstanceType createPrimitiveImportOperInstanceType() {
+        return new PrimitiveImportOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveExportOperInstanceType }
+     * 
+     */
+    public PrimitiveExportOperInstanceType createPrimitiveExportOperInstanceType() {
+        return new PrimitiveExportOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceType }
+     * 
+     */
+    public PrimitiveOperInstanceType createPrimitiveOperInstanceType() {
+        return new PrimitiveOperInstanceType();
+    }
+
+    /**
+     * Create an instance of {@link JvmArgumentsType }
+     * 
+     */
+    public JvmArgumentsType createJvmArgumentsType() {
+        return new JvmArgumentsType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceInputPortsType }
+     * 
+     */
+    public PrimitiveOperInstanceInputPortsType createPrimitiveOperInstanceInputPortsType() {
+        return new PrimitiveOperInstanceInputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceOutputPortsType }
+     * 
+     */
+    public PrimitiveOperInstanceOutputPortsType createPrimitiveOperInstanceOutputPortsType() {
+        return new PrimitiveOperInstanceOutputPortsType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstancePortType }
+     * 
+     */
+    public PrimitiveOperInstancePortType createPrimitiveOperInstancePortType() {
+        return new PrimitiveOperInstancePortType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceInputPortType }
+     * 
+     */
+    public PrimitiveOperInstanceInputPortType createPrimitiveOperInstanceInputPortType() {
+        return new PrimitiveOperInstanceInputPortType();
+    }
+
+    /**
+     * Create an instance of {@link PrimitiveOperInstanceOutputPortType }
+     * 
+     */
+    public PrimitiveOperInstanceOutputPortType createPrimitiveOperInstanceOutputPortType() {
+        return new PrimitiveOperInstanceOutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationListEntryValueType }
+     * 
+     */
+    public AnnotationListEntryValueType createAnnotationListEntryValueType() {
+        return new AnnotationListEntryValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationListValueType }
+     * 
+     */
+    public AnnotationListValueType createAnnotationListValueType() {
+        return new AnnotationListValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationAttributeValueType }
+     * 
+     */
+    public AnnotationAttributeValueType createAnnotationAttributeValueType() {
+        return new AnnotationAttributeValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationTupleValueType }
+     * 
+     */
+    public AnnotationTupleValueType createAnnotationTupleValueType() {
+        return new AnnotationTupleValueType();
+    }
+
+    /**
+     * Create an instance of {@link AnnotationType }
+     * 
+     */
+    public AnnotationType createAnnotationType() {
+        return new AnnotationType();
+    }
+
+    /**
+     * Create an instance of {@link SplAnnotationType }
+     * 
+     */
+    public SplAnnotationType createSplAnnotationType() {
+        return new SplAnnotationType();
+    }
+
+    /**
+     * Create an instance of {@link SplAnnotationValueType }
+     * 
+     */
+    public SplAnnotationValueType createSplAnnotationValueType() {
+        return new SplAnnotationValueType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionsType }
+     * 
+     */
+    public ParallelRegionsType createParallelRegionsType() {
+        return new ParallelRegionsType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionType }
+     * 
+     */
+    public ParallelRegionType createParallelRegionType() {
+        return new ParallelRegionType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelOperatorType }
+     * 
+     */
+    public ParallelOperatorType createParallelOperatorType() {
+        return new ParallelOperatorType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelRegionSplitterType }
+     * 
+     */
+    public ParallelRegionSplitterType createParallelRegionSplitterType() {
+        return new ParallelRegionSplitterType();
+    }
+
+    /**
+     * Create an instance of {@link PartitioningAttributesType }
+     * 
+     */
+    public PartitioningAttributesType createPartitioningAttributesType() {
+        return new PartitioningAttributesType();
+    }
+
+    /**
+     * Create an instance of {@link PartitioningAttributeType }
+     * 
+     */
+    public PartitioningAttributeType createPartitioningAttributeType() {
+        return new PartitioningAttributeType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelWidthType }
+     * 
+     */
+    public ParallelWidthType createParallelWidthType() {
+        return new ParallelWidthType();
+    }
+
+    /**
+     * Create an instance of {@link MessageRecordingConfigurationType }
+     * 
+     */
+    public MessageRecordingConfigurationType createMessageRecordingConfigurationType() {
+        return new MessageRecordingConfigurationType();
+    }
+
+    /**
+     * Create an instance of {@link TracingType }
+     * 
+     */
+    public TracingType createTracingType() {
+        return new TracingType();
+    }
+
+    /**
+     * Create an instance of {@link TupleType }
+     * 
+     */
+    public TupleType createTupleType() {
+        return new TupleType();
+    }
+
+    /**
+     * Create an instance of {@link OptionalType }
+     * 
+     */
+    public OptionalType createOptionalType() {
+        return new OptionalType();
+    }
+
+    /**
+     * Create an instance of {@link AttrType }
+     * 
+     */
+    public AttrType createAttrType() {
+        return new AttrType();
+    }
+
+    /**
+     * Create an instance of {@link TypeType }
+     * 
+     */
+    public TypeType createTypeType() {
+        return new TypeType();
+    }
+
+    /**
+     * Create an instance of {@link ListOrSetType }
+     * 
+     */
+    public ListOrSetType createListOrSetType() {
+        return new ListOrSetType();
+    }
+
+    /**
+     * Create an instance of {@link MapType }
+     * 
+     */
+    public MapType createMapType() {
+        return new MapType();
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ApplicationType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ApplicationType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", name = "application")
+    public JAXBElement<ApplicationType> createApplication(ApplicationType value) {
+        return new JAXBElement<ApplicationType>(_Application_QNAME, ApplicationType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ApplicationSetType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ApplicationSetType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", name = "applicationSet")
+    public JAXBElement<ApplicationSetType> createApplicationSet(ApplicationSetType value) {
+        return new JAXBElement<ApplicationSetType>(_ApplicationSet_QNAME, ApplicationSetType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ContextType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link ContextType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", name = "context")
+    public JAXBElement<ContextType> createContext(ContextType value) {
+        return new JAXBElement<ContextType>(_Context_QNAME, ContextType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertiesType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertiesType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", name = "streamProperties")
+    public JAXBElement<StreamPropertiesType> createStreamProperties(StreamPropertiesType value) {
+        return new JAXBElement<StreamPropertiesType>(_StreamProperties_QNAME, StreamPropertiesType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link StreamPropertyType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link StreamPropertyType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/application/v4200", name = "streamProperty")
+    public JAXBElement<StreamPropertyType> createStreamProperty(StreamPropertyType value) {
+        return new JAXBElement<StreamPropertyType>(_StreamProperty_QNAME, StreamPropertyType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link MessageRecordingConfigurationType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link MessageRecordingConfigurationType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr", name = "messageRecordingConfiguration")
+    public JAXBElement<MessageRecordingConfigurationType> createMessageRecordingConfiguration(MessageRecordingConfigurationType value) {
+        return new JAXBElement<MessageRecordingConfigurationType>(_MessageRecordingConfiguration_QNAME, MessageRecordingConfigurationType.class, null, value);
+    }
+
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link TupleType }{@code >}
+     * 
+     * @param value
+     *     Java instance representing xml element's value.
+     * @return
+     *     the new instance of {@link JAXBElement }{@code <}{@link TupleType }{@code >}
+     */
+    @XmlElementDecl(namespace = "http://www.ibm.com/xmlns/prod/streams/spl/tupleType", name = "tuple")
+    public JAXBElement<TupleType> createTuple(TupleType value) {
+        return new JAXBElement<TupleType>(_Tuple_QNAME, TupleType.class, null, value);
+    }
+
+}
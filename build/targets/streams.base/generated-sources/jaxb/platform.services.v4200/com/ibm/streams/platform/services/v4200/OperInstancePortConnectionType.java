@@ -0,0 +1,158 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores a connection of an operator instance port, including the operator name, operator index,  the port index, and port type.
+ *       
+ * 
+ * <p>Java class for operInstancePortConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operInstancePortConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="operName" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="operIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="portIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="portKind" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}portKindType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operInstancePortConnectionType")
+public class OperInstancePortConnectionType {
+
+    @XmlAttribute(name = "operName")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String operName;
+    @XmlAttribute(name = "operIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger operIndex;
+    @XmlAttribute(name = "portIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger portIndex;
+    @XmlAttribute(name = "portKind", required = true)
+    protected PortKindType portKind;
+
+    /**
+     * Gets the value of the operName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOperName() {
+        return operName;
+    }
+
+    /**
+     * Sets the value of the operName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOperName(String value) {
+        this.operName = value;
+    }
+
+    /**
+     * Gets the value of the operIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOperIndex() {
+        return operIndex;
+    }
+
+    /**
+     * Sets the value of the operIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOperIndex(BigInteger value) {
+        this.operIndex = value;
+    }
+
+    /**
+     * Gets the value of the portIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPortIndex() {
+        return portIndex;
+    }
+
+    /**
+     * Sets the value of the portIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPortIndex(BigInteger value) {
+        this.portIndex = value;
+    }
+
+    /**
+     * Gets the value of the portKind property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PortKindType }
+     *     
+     */
+    public PortKindType getPortKind() {
+        return portKind;
+    }
+
+    /**
+     * Sets the value of the portKind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PortKindType }
+     *     
+     */
+    public void setPortKind(PortKindType value) {
+        this.portKind = value;
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for operatorRuntimeType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="operatorRuntimeType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="SPL_CPlusPlus"/&gt;
+ *     &lt;enumeration value="SPL_Java"/&gt;
+ *     &lt;enumeration value="Java"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "operatorRuntimeType")
+@XmlEnum
+public enum OperatorRuntimeType {
+
+    @XmlEnumValue("SPL_CPlusPlus")
+    SPL_C_PLUS_PLUS("SPL_CPlusPlus"),
+    @XmlEnumValue("SPL_Java")
+    SPL_JAVA("SPL_Java"),
+    @XmlEnumValue("Java")
+    JAVA("Java");
+    private final String value;
+
+    OperatorRuntimeType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static OperatorRuntimeType fromValue(String v) {
+        for (OperatorRuntimeType c: OperatorRuntimeType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,124 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for primitiveImportOperInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="primitiveImportOperInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperInstanceBaseType"&gt;
+ *       &lt;choice&gt;
+ *         &lt;element name="nameBasedImport" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}nameBasedImportType"/&gt;
+ *         &lt;element name="propertyBasedImport" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}propertyBasedImportType"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="filter" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "primitiveImportOperInstanceType", propOrder = {
+    "nameBasedImport",
+    "propertyBasedImport"
+})
+public class PrimitiveImportOperInstanceType
+    extends PrimitiveOperInstanceBaseType
+{
+
+    protected NameBasedImportType nameBasedImport;
+    protected PropertyBasedImportType propertyBasedImport;
+    @XmlAttribute(name = "filter")
+    protected String filter;
+
+    /**
+     * Gets the value of the nameBasedImport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link NameBasedImportType }
+     *     
+     */
+    public NameBasedImportType getNameBasedImport() {
+        return nameBasedImport;
+    }
+
+    /**
+     * Sets the value of the nameBasedImport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link NameBasedImportType }
+     *     
+     */
+    public void setNameBasedImport(NameBasedImportType value) {
+        this.nameBasedImport = value;
+    }
+
+    /**
+     * Gets the value of the propertyBasedImport property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PropertyBasedImportType }
+     *     
+     */
+    public PropertyBasedImportType getPropertyBasedImport() {
+        return propertyBasedImport;
+    }
+
+    /**
+     * Sets the value of the propertyBasedImport property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PropertyBasedImportType }
+     *     
+     */
+    public void setPropertyBasedImport(PropertyBasedImportType value) {
+        this.propertyBasedImport = value;
+    }
+
+    /**
+     * Gets the value of the filter property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the value of the filter property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setFilter(String value) {
+        this.filter = value;
+    }
+
+}
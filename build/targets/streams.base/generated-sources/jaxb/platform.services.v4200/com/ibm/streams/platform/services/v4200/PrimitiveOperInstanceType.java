@@ -0,0 +1,405 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure defines a primitive operator instance. The location in the source code is captured by the basic type this structure inherits from. This definition includes the operators input and output ports, the operator's kind (e.g., spl.adapter::FileSource), and its name (e.g., TradeQuote), a unique index for it (unique accross primitive and composite operator instances), and a reference to the toolkit that defines this operator. Note that the reference to the physical operator instance can be used to access the operator name, however, it is also included here because of the need for referencing pseudo import/export operators from the port properties of the physical operator instances that have imported and exported streams.
+ *       
+ * 
+ * <p>Java class for primitiveOperInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="primitiveOperInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/v4200}primitiveOperInstanceBaseType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="envVars" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}envVarsType"/&gt;
+ *         &lt;element name="resources" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}resourcesType"/&gt;
+ *         &lt;element name="checkpointing" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}checkpointingType" minOccurs="0"/&gt;
+ *         &lt;element name="runtimeConstants" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}runtimeConstantsType"/&gt;
+ *         &lt;element name="display" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}runtimeConstantType" minOccurs="0"/&gt;
+ *         &lt;element name="sharedObject" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}sharedObjectType"/&gt;
+ *         &lt;element name="jvmArguments" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}jvmArgumentsType" minOccurs="0"/&gt;
+ *         &lt;element name="partitions" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}partitionsType" minOccurs="0"/&gt;
+ *         &lt;element name="annotation" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}annotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="tracing" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="optimized" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="restartable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="relocatable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="singleThreadedOnOutputs" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "primitiveOperInstanceType", propOrder = {
+    "envVars",
+    "resources",
+    "checkpointing",
+    "runtimeConstants",
+    "display",
+    "sharedObject",
+    "jvmArguments",
+    "partitions",
+    "annotation",
+    "tracing"
+})
+public class PrimitiveOperInstanceType
+    extends PrimitiveOperInstanceBaseType
+{
+
+    @XmlElement(required = true)
+    protected EnvVarsType envVars;
+    @XmlElement(required = true)
+    protected ResourcesType resources;
+    protected CheckpointingType checkpointing;
+    @XmlElement(required = true)
+    protected RuntimeConstantsType runtimeConstants;
+    protected RuntimeConstantType display;
+    @XmlElement(required = true)
+    protected SharedObjectType sharedObject;
+    protected JvmArgumentsType jvmArguments;
+    protected PartitionsType partitions;
+    protected List<AnnotationType> annotation;
+    protected TracingType tracing;
+    @XmlAttribute(name = "optimized", required = true)
+    protected boolean optimized;
+    @XmlAttribute(name = "restartable", required = true)
+    protected boolean restartable;
+    @XmlAttribute(name = "relocatable", required = true)
+    protected boolean relocatable;
+    @XmlAttribute(name = "singleThreadedOnOutputs", required = true)
+    protected boolean singleThreadedOnOutputs;
+
+    /**
+     * Gets the value of the envVars property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public EnvVarsType getEnvVars() {
+        return envVars;
+    }
+
+    /**
+     * Sets the value of the envVars property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public void setEnvVars(EnvVarsType value) {
+        this.envVars = value;
+    }
+
+    /**
+     * Gets the value of the resources property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ResourcesType }
+     *     
+     */
+    public ResourcesType getResources() {
+        return resources;
+    }
+
+    /**
+     * Sets the value of the resources property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ResourcesType }
+     *     
+     */
+    public void setResources(ResourcesType value) {
+        this.resources = value;
+    }
+
+    /**
+     * Gets the value of the checkpointing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CheckpointingType }
+     *     
+     */
+    public CheckpointingType getCheckpointing() {
+        return checkpointing;
+    }
+
+    /**
+     * Sets the value of the checkpointing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CheckpointingType }
+     *     
+     */
+    public void setCheckpointing(CheckpointingType value) {
+        this.checkpointing = value;
+    }
+
+    /**
+     * Gets the value of the runtimeConstants property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link RuntimeConstantsType }
+     *     
+     */
+    public RuntimeConstantsType getRuntimeConstants() {
+        return runtimeConstants;
+    }
+
+    /**
+     * Sets the value of the runtimeConstants property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link RuntimeConstantsType }
+     *     
+     */
+    public void setRuntimeConstants(RuntimeConstantsType value) {
+        this.runtimeConstants = value;
+    }
+
+    /**
+     * Gets the value of the display property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link RuntimeConstantType }
+     *     
+     */
+    public RuntimeConstantType getDisplay() {
+        return display;
+    }
+
+    /**
+     * Sets the value of the display property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link RuntimeConstantType }
+     *     
+     */
+    public void setDisplay(RuntimeConstantType value) {
+        this.display = value;
+    }
+
+    /**
+     * Gets the value of the sharedObject property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SharedObjectType }
+     *     
+     */
+    public SharedObjectType getSharedObject() {
+        return sharedObject;
+    }
+
+    /**
+     * Sets the value of the sharedObject property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SharedObjectType }
+     *     
+     */
+    public void setSharedObject(SharedObjectType value) {
+        this.sharedObject = value;
+    }
+
+    /**
+     * Gets the value of the jvmArguments property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JvmArgumentsType }
+     *     
+     */
+    public JvmArgumentsType getJvmArguments() {
+        return jvmArguments;
+    }
+
+    /**
+     * Sets the value of the jvmArguments property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JvmArgumentsType }
+     *     
+     */
+    public void setJvmArguments(JvmArgumentsType value) {
+        this.jvmArguments = value;
+    }
+
+    /**
+     * Gets the value of the partitions property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PartitionsType }
+     *     
+     */
+    public PartitionsType getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * Sets the value of the partitions property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PartitionsType }
+     *     
+     */
+    public void setPartitions(PartitionsType value) {
+        this.partitions = value;
+    }
+
+    /**
+     * Gets the value of the annotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the annotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AnnotationType }
+     * 
+     * 
+     */
+    public List<AnnotationType> getAnnotation() {
+        if (annotation == null) {
+            annotation = new ArrayList<AnnotationType>();
+        }
+        return this.annotation;
+    }
+
+    /**
+     * Gets the value of the tracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getTracing() {
+        return tracing;
+    }
+
+    /**
+     * Sets the value of the tracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setTracing(TracingType value) {
+        this.tracing = value;
+    }
+
+    /**
+     * Gets the value of the optimized property.
+     * 
+     */
+    public boolean isOptimized() {
+        return optimized;
+    }
+
+    /**
+     * Sets the value of the optimized property.
+     * 
+     */
+    public void setOptimized(boolean value) {
+        this.optimized = value;
+    }
+
+    /**
+     * Gets the value of the restartable property.
+     * 
+     */
+    public boolean isRestartable() {
+        return restartable;
+    }
+
+    /**
+     * Sets the value of the restartable property.
+     * 
+     */
+    public void setRestartable(boolean value) {
+        this.restartable = value;
+    }
+
+    /**
+     * Gets the value of the relocatable property.
+     * 
+     */
+    public boolean isRelocatable() {
+        return relocatable;
+    }
+
+    /**
+     * Sets the value of the relocatable property.
+     * 
+     */
+    public void setRelocatable(boolean value) {
+        this.relocatable = value;
+    }
+
+    /**
+     * Gets the value of the singleThreadedOnOutputs property.
+     * 
+     */
+    public boolean isSingleThreadedOnOutputs() {
+        return singleThreadedOnOutputs;
+    }
+
+    /**
+     * Sets the value of the singleThreadedOnOutputs property.
+     * 
+     */
+    public void setSingleThreadedOnOutputs(boolean value) {
+        this.singleThreadedOnOutputs = value;
+    }
+
+}
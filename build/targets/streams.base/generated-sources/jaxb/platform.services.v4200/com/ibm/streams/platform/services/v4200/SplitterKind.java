@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for splitterKind.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="splitterKind"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="RoundRobin"/&gt;
+ *     &lt;enumeration value="Hash"/&gt;
+ *     &lt;enumeration value="Broadcast"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "splitterKind")
+@XmlEnum
+public enum SplitterKind {
+
+    @XmlEnumValue("RoundRobin")
+    ROUND_ROBIN("RoundRobin"),
+    @XmlEnumValue("Hash")
+    HASH("Hash"),
+    @XmlEnumValue("Broadcast")
+    BROADCAST("Broadcast");
+    private final String value;
+
+    SplitterKind(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static SplitterKind fromValue(String v) {
+        for (SplitterKind c: SplitterKind.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
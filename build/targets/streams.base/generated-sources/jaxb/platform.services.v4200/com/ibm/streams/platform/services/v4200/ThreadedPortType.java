@@ -0,0 +1,99 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:01 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services.v4200;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores configurations of a threaded port. It includes a congestion policy (via the congestionPolicy attribute) and a limit on the internal queue (via the queueSize attribute).
+ *       
+ * 
+ * <p>Java class for threadedPortType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="threadedPortType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="congestionPolicy" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/v4200}congestionPolicyType" /&gt;
+ *       &lt;attribute name="queueSize" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "threadedPortType")
+public class ThreadedPortType {
+
+    @XmlAttribute(name = "congestionPolicy", required = true)
+    protected CongestionPolicyType congestionPolicy;
+    @XmlAttribute(name = "queueSize")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger queueSize;
+
+    /**
+     * Gets the value of the congestionPolicy property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CongestionPolicyType }
+     *     
+     */
+    public CongestionPolicyType getCongestionPolicy() {
+        return congestionPolicy;
+    }
+
+    /**
+     * Sets the value of the congestionPolicy property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CongestionPolicyType }
+     *     
+     */
+    public void setCongestionPolicy(CongestionPolicyType value) {
+        this.congestionPolicy = value;
+    }
+
+    /**
+     * Gets the value of the queueSize property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Sets the value of the queueSize property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setQueueSize(BigInteger value) {
+        this.queueSize = value;
+    }
+
+}
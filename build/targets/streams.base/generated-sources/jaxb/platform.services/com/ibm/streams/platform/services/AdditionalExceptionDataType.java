@@ -0,0 +1,147 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure encodes information that provides additional explanation for the cause of an exception.
+ *         It consists of --
+ *           primaryInformation: This is an MessageElementType that is typically used to describe
+ *            additional exception data.
+ *           secondaryInforation: This is a sequence of 0..n MessageElementTypes that are used to
+ *            provide more detail related to the additional data.
+ *           nestedAdditionalExceptionData: This is a sequence of 0..n additionalExceptionDataTypes that can be used
+ *            to provide verbose detail related to the exception.  Note that it is not meant to be an additional
+ *            exception (with all of the associated data -- location, backtrace, etc).
+ *       
+ * 
+ * <p>Java class for additionalExceptionDataType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="additionalExceptionDataType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="primaryInformation" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils}MessageElementType"/&gt;
+ *         &lt;element name="secondaryInformation" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils}MessageElementType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="nestedAdditionalExceptionData" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils}additionalExceptionDataType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "additionalExceptionDataType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/utils", propOrder = {
+    "primaryInformation",
+    "secondaryInformation",
+    "nestedAdditionalExceptionData"
+})
+public class AdditionalExceptionDataType {
+
+    @XmlElement(required = true)
+    protected MessageElementType primaryInformation;
+    protected List<MessageElementType> secondaryInformation;
+    protected List<AdditionalExceptionDataType> nestedAdditionalExceptionData;
+
+    /**
+     * Gets the value of the primaryInformation property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link MessageElementType }
+     *     
+     */
+    public MessageElementType getPrimaryInformation() {
+        return primaryInformation;
+    }
+
+    /**
+     * Sets the value of the primaryInformation property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link MessageElementType }
+     *     
+     */
+    public void setPrimaryInformation(MessageElementType value) {
+        this.primaryInformation = value;
+    }
+
+    /**
+     * Gets the value of the secondaryInformation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the secondaryInformation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSecondaryInformation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MessageElementType }
+     * 
+     * 
+     */
+    public List<MessageElementType> getSecondaryInformation() {
+        if (secondaryInformation == null) {
+            secondaryInformation = new ArrayList<MessageElementType>();
+        }
+        return this.secondaryInformation;
+    }
+
+    /**
+     * Gets the value of the nestedAdditionalExceptionData property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the nestedAdditionalExceptionData property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getNestedAdditionalExceptionData().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AdditionalExceptionDataType }
+     * 
+     * 
+     */
+    public List<AdditionalExceptionDataType> getNestedAdditionalExceptionData() {
+        if (nestedAdditionalExceptionData == null) {
+            nestedAdditionalExceptionData = new ArrayList<AdditionalExceptionDataType>();
+        }
+        return this.nestedAdditionalExceptionData;
+    }
+
+}
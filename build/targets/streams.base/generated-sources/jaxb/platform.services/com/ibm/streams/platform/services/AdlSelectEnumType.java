@@ -0,0 +1,64 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for adlSelectEnumType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="adlSelectEnumType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="both"/&gt;
+ *     &lt;enumeration value="neither"/&gt;
+ *     &lt;enumeration value="physADL_only"/&gt;
+ *     &lt;enumeration value="logicADL_only"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "adlSelectEnumType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+@XmlEnum
+public enum AdlSelectEnumType {
+
+    @XmlEnumValue("both")
+    BOTH("both"),
+    @XmlEnumValue("neither")
+    NEITHER("neither"),
+    @XmlEnumValue("physADL_only")
+    PHYS_ADL_ONLY("physADL_only"),
+    @XmlEnumValue("logicADL_only")
+    LOGIC_ADL_ONLY("logicADL_only");
+    private final String value;
+
+    AdlSelectEnumType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static AdlSelectEnumType fromValue(String v) {
+        for (AdlSelectEnumType c: AdlSelectEnumType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
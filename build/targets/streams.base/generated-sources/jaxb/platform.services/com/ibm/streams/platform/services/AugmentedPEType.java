@@ -0,0 +1,1134 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores runtime information about a PE. This includes all information the HC, PEC, and the SPL runtime must know about the PE. It includes the set of environment variables that should be set, the PE's executable program, the set of resources it requires, the operator instances the PE hosts, the PE's intput and output ports, operator definitions and custom metrics info(if any), its runtime id, the identifier of the job that own this PE, name of the job, id of user who submitted the job, the application scope the PE belongs to (the application scope is used both for scoping dynamic stream connections as well as for scoping source edge adapters), its tracing level, the programming language in which this PE code was generated, whether the PE is re-startable and relocatable, how many times it has been re-started, the PE data directory, the PE output directory, and an optional checkpoint directory (where the checkpointed state will be periodically deposited).
+ *       
+ * 
+ * <p>Java class for augmentedPEType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="augmentedPEType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}contextType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="envVars" type="{http://www.ibm.com/xmlns/prod/streams/application}envVarsType"/&gt;
+ *         &lt;element name="executable" type="{http://www.ibm.com/xmlns/prod/streams/application}executableType"/&gt;
+ *         &lt;element name="operInstances" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancesType"/&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}augmentedPEInputPortsType"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}augmentedPEOutputPortsType"/&gt;
+ *         &lt;element name="operDefinitions" type="{http://www.ibm.com/xmlns/prod/streams/application}operDefinitionsType"/&gt;
+ *         &lt;element name="customMetrics" type="{http://www.ibm.com/xmlns/prod/streams/application}customMetricsType" minOccurs="0"/&gt;
+ *         &lt;element name="currentTracing" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}tracingEmploymentType" minOccurs="0"/&gt;
+ *         &lt;element name="pendingTracing" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}tracingEmploymentType" minOccurs="0"/&gt;
+ *         &lt;element name="nextTrcUpdtSeqNum" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" minOccurs="0"/&gt;
+ *         &lt;element name="toolkitsMap" type="{http://www.ibm.com/xmlns/prod/streams/application/physical}toolkitsMapType"/&gt;
+ *         &lt;element name="capability" type="{http://www.w3.org/2001/XMLSchema}string" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="jobId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="jobName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="user" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationScope" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="class" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="logLevel" type="{http://www.ibm.com/xmlns/prod/streams/application}logLevelType" /&gt;
+ *       &lt;attribute name="language" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application}languageType" /&gt;
+ *       &lt;attribute name="optimized" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="restartable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="relocatable" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="launchCount" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="dataDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="currentWorkingDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="outputDirectory" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="checkpointDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="display" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logicalIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="buildId" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="bundle" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="profileDirectory" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="version" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="jobGroup" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="avoidRuntimeYield" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}avoidRuntimeYieldType" /&gt;
+ *       &lt;attribute name="execStreamsVersion" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="genId" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "augmentedPEType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "envVars",
+    "executable",
+    "operInstances",
+    "inputPorts",
+    "outputPorts",
+    "operDefinitions",
+    "customMetrics",
+    "currentTracing",
+    "pendingTracing",
+    "nextTrcUpdtSeqNum",
+    "toolkitsMap",
+    "capability"
+})
+@XmlSeeAlso({
+    ManagedPEType.class
+})
+public class AugmentedPEType
+    extends ContextType
+{
+
+    @XmlElement(required = true)
+    protected EnvVarsType envVars;
+    @XmlElement(required = true)
+    protected ExecutableType executable;
+    @XmlElement(required = true)
+    protected OperInstancesType operInstances;
+    @XmlElement(required = true)
+    protected AugmentedPEInputPortsType inputPorts;
+    @XmlElement(required = true)
+    protected AugmentedPEOutputPortsType outputPorts;
+    @XmlElement(required = true)
+    protected OperDefinitionsType operDefinitions;
+    protected CustomMetricsType customMetrics;
+    protected TracingEmploymentType currentTracing;
+    protected TracingEmploymentType pendingTracing;
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger nextTrcUpdtSeqNum;
+    @XmlElement(required = true)
+    protected ToolkitsMapType toolkitsMap;
+    protected List<String> capability;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "jobId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger jobId;
+    @XmlAttribute(name = "jobName", required = true)
+    protected String jobName;
+    @XmlAttribute(name = "user", required = true)
+    protected String user;
+    @XmlAttribute(name = "applicationScope", required = true)
+    protected String applicationScope;
+    @XmlAttribute(name = "class", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String clazz;
+    @XmlAttribute(name = "logLevel")
+    protected LogLevelType logLevel;
+    @XmlAttribute(name = "language", required = true)
+    protected LanguageType language;
+    @XmlAttribute(name = "optimized", required = true)
+    protected boolean optimized;
+    @XmlAttribute(name = "restartable", required = true)
+    protected boolean restartable;
+    @XmlAttribute(name = "relocatable", required = true)
+    protected boolean relocatable;
+    @XmlAttribute(name = "launchCount", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger launchCount;
+    @XmlAttribute(name = "dataDirectory")
+    protected String dataDirectory;
+    @XmlAttribute(name = "currentWorkingDirectory")
+    protected String currentWorkingDirectory;
+    @XmlAttribute(name = "applicationDirectory", required = true)
+    protected String applicationDirectory;
+    @XmlAttribute(name = "outputDirectory", required = true)
+    protected String outputDirectory;
+    @XmlAttribute(name = "checkpointDirectory")
+    protected String checkpointDirectory;
+    @XmlAttribute(name = "display", required = true)
+    protected String display;
+    @XmlAttribute(name = "logicalIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger logicalIndex;
+    @XmlAttribute(name = "buildId", required = true)
+    protected String buildId;
+    @XmlAttribute(name = "bundle", required = true)
+    protected String bundle;
+    @XmlAttribute(name = "profileDirectory")
+    protected String profileDirectory;
+    @XmlAttribute(name = "version", required = true)
+    protected String version;
+    @XmlAttribute(name = "applicationName", required = true)
+    protected String applicationName;
+    @XmlAttribute(name = "jobGroup", required = true)
+    protected String jobGroup;
+    @XmlAttribute(name = "avoidRuntimeYield", required = true)
+    protected AvoidRuntimeYieldType avoidRuntimeYield;
+    @XmlAttribute(name = "execStreamsVersion")
+    protected String execStreamsVersion;
+    @XmlAttribute(name = "genId")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger genId;
+
+    /**
+     * Gets the value of the envVars property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public EnvVarsType getEnvVars() {
+        return envVars;
+    }
+
+    /**
+     * Sets the value of the envVars property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link EnvVarsType }
+     *     
+     */
+    public void setEnvVars(EnvVarsType value) {
+        this.envVars = value;
+    }
+
+    /**
+     * Gets the value of the executable property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ExecutableType }
+     *     
+     */
+    public ExecutableType getExecutable() {
+        return executable;
+    }
+
+    /**
+     * Sets the value of the executable property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ExecutableType }
+     *     
+     */
+    public void setExecutable(ExecutableType value) {
+        this.executable = value;
+    }
+
+    /**
+     * Gets the value of the operInstances property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancesType }
+     *     
+     */
+    public OperInstancesType getOperInstances() {
+        return operInstances;
+    }
+
+    /**
+     * Sets the value of the operInstances property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancesType }
+     *     
+     */
+    public void setOperInstances(OperInstancesType value) {
+        this.operInstances = value;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AugmentedPEInputPortsType }
+     *     
+     */
+    public AugmentedPEInputPortsType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AugmentedPEInputPortsType }
+     *     
+     */
+    public void setInputPorts(AugmentedPEInputPortsType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AugmentedPEOutputPortsType }
+     *     
+     */
+    public AugmentedPEOutputPortsType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AugmentedPEOutputPortsType }
+     *     
+     */
+    public void setOutputPorts(AugmentedPEOutputPortsType value) {
+        this.outputPorts = value;
+    }
+
+    /**
+     * Gets the value of the operDefinitions property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperDefinitionsType }
+     *     
+     */
+    public OperDefinitionsType getOperDefinitions() {
+        return operDefinitions;
+    }
+
+    /**
+     * Sets the value of the operDefinitions property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperDefinitionsType }
+     *     
+     */
+    public void setOperDefinitions(OperDefinitionsType value) {
+        this.operDefinitions = value;
+    }
+
+    /**
+     * Gets the value of the customMetrics property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link CustomMetricsType }
+     *     
+     */
+    public CustomMetricsType getCustomMetrics() {
+        return customMetrics;
+    }
+
+    /**
+     * Sets the value of the customMetrics property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link CustomMetricsType }
+     *     
+     */
+    public void setCustomMetrics(CustomMetricsType value) {
+        this.customMetrics = value;
+    }
+
+    /**
+     * Gets the value of the currentTracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingEmploymentType }
+     *     
+     */
+    public TracingEmploymentType getCurrentTracing() {
+        return currentTracing;
+    }
+
+    /**
+     * Sets the value of the currentTracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingEmploymentType }
+     *     
+     */
+    public void setCurrentTracing(TracingEmploymentType value) {
+        this.currentTracing = value;
+    }
+
+    /**
+     * Gets the value of the pendingTracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingEmploymentType }
+     *     
+     */
+    public TracingEmploymentType getPendingTracing() {
+        return pendingTracing;
+    }
+
+    /**
+     * Sets the value of the pendingTracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingEmploymentType }
+     *     
+     */
+    public void setPendingTracing(TracingEmploymentType value) {
+        this.pendingTracing = value;
+    }
+
+    /**
+     * Gets the value of the nextTrcUpdtSeqNum property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getNextTrcUpdtSeqNum() {
+        return nextTrcUpdtSeqNum;
+    }
+
+    /**
+     * Sets the value of the nextTrcUpdtSeqNum property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setNextTrcUpdtSeqNum(BigInteger value) {
+        this.nextTrcUpdtSeqNum = value;
+    }
+
+    /**
+     * Gets the value of the toolkitsMap property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ToolkitsMapType }
+     *     
+     */
+    public ToolkitsMapType getToolkitsMap() {
+        return toolkitsMap;
+    }
+
+    /**
+     * Sets the value of the toolkitsMap property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ToolkitsMapType }
+     *     
+     */
+    public void setToolkitsMap(ToolkitsMapType value) {
+        this.toolkitsMap = value;
+    }
+
+    /**
+     * Gets the value of the capability property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the capability property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getCapability().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getCapability() {
+        if (capability == null) {
+            capability = new ArrayList<String>();
+        }
+        return this.capability;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the jobId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Sets the value of the jobId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setJobId(BigInteger value) {
+        this.jobId = value;
+    }
+
+    /**
+     * Gets the value of the jobName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getJobName() {
+        return jobName;
+    }
+
+    /**
+     * Sets the value of the jobName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setJobName(String value) {
+        this.jobName = value;
+    }
+
+    /**
+     * Gets the value of the user property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * Sets the value of the user property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setUser(String value) {
+        this.user = value;
+    }
+
+    /**
+     * Gets the value of the applicationScope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationScope() {
+        return applicationScope;
+    }
+
+    /**
+     * Sets the value of the applicationScope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationScope(String value) {
+        this.applicationScope = value;
+    }
+
+    /**
+     * Gets the value of the clazz property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getClazz() {
+        return clazz;
+    }
+
+    /**
+     * Sets the value of the clazz property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setClazz(String value) {
+        this.clazz = value;
+    }
+
+    /**
+     * Gets the value of the logLevel property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public LogLevelType getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Sets the value of the logLevel property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LogLevelType }
+     *     
+     */
+    public void setLogLevel(LogLevelType value) {
+        this.logLevel = value;
+    }
+
+    /**
+     * Gets the value of the language property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link LanguageType }
+     *     
+     */
+    public LanguageType getLanguage() {
+        return language;
+    }
+
+    /**
+     * Sets the value of the language property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link LanguageType }
+     *     
+     */
+    public void setLanguage(LanguageType value) {
+        this.language = value;
+    }
+
+    /**
+     * Gets the value of the optimized property.
+     * 
+     */
+    public boolean isOptimized() {
+        return optimized;
+    }
+
+    /**
+     * Sets the value of the optimized property.
+     * 
+     */
+    public void setOptimized(boolean value) {
+        this.optimized = value;
+    }
+
+    /**
+     * Gets the value of the restartable property.
+     * 
+     */
+    public boolean isRestartable() {
+        return restartable;
+    }
+
+    /**
+     * Sets the value of the restartable property.
+     * 
+     */
+    public void setRestartable(boolean value) {
+        this.restartable = value;
+    }
+
+    /**
+     * Gets the value of the relocatable property.
+     * 
+     */
+    public boolean isRelocatable() {
+        return relocatable;
+    }
+
+    /**
+     * Sets the value of the relocatable property.
+     * 
+     */
+    public void setRelocatable(boolean value) {
+        this.relocatable = value;
+    }
+
+    /**
+     * Gets the value of the launchCount property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLaunchCount() {
+        return launchCount;
+    }
+
+    /**
+     * Sets the value of the launchCount property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLaunchCount(BigInteger value) {
+        this.launchCount = value;
+    }
+
+    /**
+     * Gets the value of the dataDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDataDirectory() {
+        return dataDirectory;
+    }
+
+    /**
+     * Sets the value of the dataDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDataDirectory(String value) {
+        this.dataDirectory = value;
+    }
+
+    /**
+     * Gets the value of the currentWorkingDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getCurrentWorkingDirectory() {
+        return currentWorkingDirectory;
+    }
+
+    /**
+     * Sets the value of the currentWorkingDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setCurrentWorkingDirectory(String value) {
+        this.currentWorkingDirectory = value;
+    }
+
+    /**
+     * Gets the value of the applicationDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationDirectory() {
+        return applicationDirectory;
+    }
+
+    /**
+     * Sets the value of the applicationDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationDirectory(String value) {
+        this.applicationDirectory = value;
+    }
+
+    /**
+     * Gets the value of the outputDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Sets the value of the outputDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOutputDirectory(String value) {
+        this.outputDirectory = value;
+    }
+
+    /**
+     * Gets the value of the checkpointDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    /**
+     * Sets the value of the checkpointDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setCheckpointDirectory(String value) {
+        this.checkpointDirectory = value;
+    }
+
+    /**
+     * Gets the value of the display property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getDisplay() {
+        return display;
+    }
+
+    /**
+     * Sets the value of the display property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setDisplay(String value) {
+        this.display = value;
+    }
+
+    /**
+     * Gets the value of the logicalIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLogicalIndex() {
+        return logicalIndex;
+    }
+
+    /**
+     * Sets the value of the logicalIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLogicalIndex(BigInteger value) {
+        this.logicalIndex = value;
+    }
+
+    /**
+     * Gets the value of the buildId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getBuildId() {
+        return buildId;
+    }
+
+    /**
+     * Sets the value of the buildId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setBuildId(String value) {
+        this.buildId = value;
+    }
+
+    /**
+     * Gets the value of the bundle property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Sets the value of the bundle property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setBundle(String value) {
+        this.bundle = value;
+    }
+
+    /**
+     * Gets the value of the profileDirectory property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getProfileDirectory() {
+        return profileDirectory;
+    }
+
+    /**
+     * Sets the value of the profileDirectory property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setProfileDirectory(String value) {
+        this.profileDirectory = value;
+    }
+
+    /**
+     * Gets the value of the version property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the value of the version property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setVersion(String value) {
+        this.version = value;
+    }
+
+    /**
+     * Gets the value of the applicationName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * Sets the value of the applicationName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationName(String value) {
+        this.applicationName = value;
+    }
+
+    /**
+     * Gets the value of the jobGroup property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getJobGroup() {
+        return jobGroup;
+    }
+
+    /**
+     * Sets the value of the jobGroup property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setJobGroup(String value) {
+        this.jobGroup = value;
+    }
+
+    /**
+     * Gets the value of the avoidRuntimeYield property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AvoidRuntimeYieldType }
+     *     
+     */
+    public AvoidRuntimeYieldType getAvoidRuntimeYield() {
+        return avoidRuntimeYield;
+    }
+
+    /**
+     * Sets the value of the avoidRuntimeYield property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AvoidRuntimeYieldType }
+     *     
+     */
+    public void setAvoidRuntimeYield(AvoidRuntimeYieldType value) {
+        this.avoidRuntimeYield = value;
+    }
+
+    /**
+     * Gets the value of the execStreamsVersion property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getExecStreamsVersion() {
+        return execStreamsVersion;
+    }
+
+    /**
+     * Sets the value of the execStreamsVersion property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setExecStreamsVersion(String value) {
+        this.execStreamsVersion = value;
+    }
+
+    /**
+     * Gets the value of the genId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getGenId() {
+        return genId;
+    }
+
+    /**
+     * Sets the value of the genId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setGenId(BigInteger value) {
+        this.genId = value;
+    }
+
+}
@@ -0,0 +1,64 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for configUpdateStatusType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="configUpdateStatusType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="success"/&gt;
+ *     &lt;enumeration value="failure_dueTo_PECShutdown"/&gt;
+ *     &lt;enumeration value="failure_dueTo_FailureToContactPEC"/&gt;
+ *     &lt;enumeration value="failure"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "configUpdateStatusType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+@XmlEnum
+public enum ConfigUpdateStatusType {
+
+    @XmlEnumValue("success")
+    SUCCESS("success"),
+    @XmlEnumValue("failure_dueTo_PECShutdown")
+    FAILURE_DUE_TO_PEC_SHUTDOWN("failure_dueTo_PECShutdown"),
+    @XmlEnumValue("failure_dueTo_FailureToContactPEC")
+    FAILURE_DUE_TO_FAILURE_TO_CONTACT_PEC("failure_dueTo_FailureToContactPEC"),
+    @XmlEnumValue("failure")
+    FAILURE("failure");
+    private final String value;
+
+    ConfigUpdateStatusType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static ConfigUpdateStatusType fromValue(String v) {
+        for (ConfigUpdateStatusType c: ConfigUpdateStatusType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,156 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores a Connection identifier.
+ *       
+ * 
+ * <p>Java class for connectionIdType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="connectionIdType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="outPeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="outPortId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="inPeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="inPortId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "connectionIdType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+public class ConnectionIdType {
+
+    @XmlAttribute(name = "outPeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger outPeId;
+    @XmlAttribute(name = "outPortId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger outPortId;
+    @XmlAttribute(name = "inPeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger inPeId;
+    @XmlAttribute(name = "inPortId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger inPortId;
+
+    /**
+     * Gets the value of the outPeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOutPeId() {
+        return outPeId;
+    }
+
+    /**
+     * Sets the value of the outPeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOutPeId(BigInteger value) {
+        this.outPeId = value;
+    }
+
+    /**
+     * Gets the value of the outPortId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOutPortId() {
+        return outPortId;
+    }
+
+    /**
+     * Sets the value of the outPortId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOutPortId(BigInteger value) {
+        this.outPortId = value;
+    }
+
+    /**
+     * Gets the value of the inPeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getInPeId() {
+        return inPeId;
+    }
+
+    /**
+     * Sets the value of the inPeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setInPeId(BigInteger value) {
+        this.inPeId = value;
+    }
+
+    /**
+     * Gets the value of the inPortId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getInPortId() {
+        return inPortId;
+    }
+
+    /**
+     * Sets the value of the inPortId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setInPortId(BigInteger value) {
+        this.inPortId = value;
+    }
+
+}
@@ -0,0 +1,61 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores an eTag or timestamp identifier.
+ *       
+ * 
+ * <p>Java class for eTagType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="eTagType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="lastTopologyUpdateTS" use="required" type="{http://www.w3.org/2001/XMLSchema}double" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "eTagType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class ETagType {
+
+    @XmlAttribute(name = "lastTopologyUpdateTS", required = true)
+    protected double lastTopologyUpdateTS;
+
+    /**
+     * Gets the value of the lastTopologyUpdateTS property.
+     * 
+     */
+    public double getLastTopologyUpdateTS() {
+        return lastTopologyUpdateTS;
+    }
+
+    /**
+     * Sets the value of the lastTopologyUpdateTS property.
+     * 
+     */
+    public void setLastTopologyUpdateTS(double value) {
+        this.lastTopologyUpdateTS = value;
+    }
+
+}
@@ -0,0 +1,99 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a host allocation. It includes the name of the host and the index of the host within the pool.
+ *       
+ * 
+ * <p>Java class for hostAllocationType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="hostAllocationType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="hostName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="hostIndexInPool" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "hostAllocationType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+public class HostAllocationType {
+
+    @XmlAttribute(name = "hostName", required = true)
+    protected String hostName;
+    @XmlAttribute(name = "hostIndexInPool")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger hostIndexInPool;
+
+    /**
+     * Gets the value of the hostName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getHostName() {
+        return hostName;
+    }
+
+    /**
+     * Sets the value of the hostName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setHostName(String value) {
+        this.hostName = value;
+    }
+
+    /**
+     * Gets the value of the hostIndexInPool property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getHostIndexInPool() {
+        return hostIndexInPool;
+    }
+
+    /**
+     * Sets the value of the hostIndexInPool property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setHostIndexInPool(BigInteger value) {
+        this.hostIndexInPool = value;
+    }
+
+}
@@ -0,0 +1,188 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the information relating to an import subscription.
+ *       
+ * 
+ * <p>Java class for importSubscriptionInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="importSubscriptionInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="importedStreams" type="{http://www.ibm.com/xmlns/prod/streams/application}importedStreamsType"/&gt;
+ *         &lt;element name="tupleType" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypeType"/&gt;
+ *         &lt;element name="operInstanceConnection" type="{http://www.ibm.com/xmlns/prod/streams/application}operInstancePEInputConnectionType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="ipId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="peId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "importSubscriptionInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "importedStreams",
+    "tupleType",
+    "operInstanceConnection"
+})
+public class ImportSubscriptionInfoType {
+
+    @XmlElement(required = true)
+    protected ImportedStreamsType importedStreams;
+    @XmlElement(required = true)
+    protected TupleTypeType tupleType;
+    @XmlElement(required = true)
+    protected OperInstancePEInputConnectionType operInstanceConnection;
+    @XmlAttribute(name = "ipId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger ipId;
+    @XmlAttribute(name = "peId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger peId;
+
+    /**
+     * Gets the value of the importedStreams property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public ImportedStreamsType getImportedStreams() {
+        return importedStreams;
+    }
+
+    /**
+     * Sets the value of the importedStreams property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ImportedStreamsType }
+     *     
+     */
+    public void setImportedStreams(ImportedStreamsType value) {
+        this.importedStreams = value;
+    }
+
+    /**
+     * Gets the value of the tupleType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public TupleTypeType getTupleType() {
+        return tupleType;
+    }
+
+    /**
+     * Sets the value of the tupleType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public void setTupleType(TupleTypeType value) {
+        this.tupleType = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceConnection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public OperInstancePEInputConnectionType getOperInstanceConnection() {
+        return operInstanceConnection;
+    }
+
+    /**
+     * Sets the value of the operInstanceConnection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancePEInputConnectionType }
+     *     
+     */
+    public void setOperInstanceConnection(OperInstancePEInputConnectionType value) {
+        this.operInstanceConnection = value;
+    }
+
+    /**
+     * Gets the value of the ipId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIpId() {
+        return ipId;
+    }
+
+    /**
+     * Sets the value of the ipId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIpId(BigInteger value) {
+        this.ipId = value;
+    }
+
+    /**
+     * Gets the value of the peId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPeId() {
+        return peId;
+    }
+
+    /**
+     * Sets the value of the peId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPeId(BigInteger value) {
+        this.peId = value;
+    }
+
+}
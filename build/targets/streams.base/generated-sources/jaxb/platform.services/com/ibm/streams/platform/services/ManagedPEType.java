@@ -0,0 +1,340 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure stores runtime information about a PE. This includes all information SAM must know about the PE (it includes the information the HC, PEC, and the SPL runtime knows, via inheritance from the augmentedPEType), extended with an index (to related the PE in job to the PE in the SPL application), the host where the PE runs, its runtime state, the reason for being in this state, and whether the state is stale (because the host for the PE is down), as well as the number of re-launching attempts, the PE's Scheduler signature, and the PE data directory.
+ *       
+ * 
+ * <p>Java class for managedPEType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="managedPEType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application/augmented}augmentedPEType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="health" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peHealthType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="pid" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="host" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="isHostValid" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peStateType" /&gt;
+ *       &lt;attribute name="reason" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peStateReasonType" /&gt;
+ *       &lt;attribute name="isStateStale" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="samRetryCount" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="schSignature" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="lastRunTimestamp" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "managedPEType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "health"
+})
+public class ManagedPEType
+    extends AugmentedPEType
+{
+
+    @XmlElement(required = true)
+    protected PeHealthType health;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "pid", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pid;
+    @XmlAttribute(name = "host", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String host;
+    @XmlAttribute(name = "isHostValid", required = true)
+    protected boolean isHostValid;
+    @XmlAttribute(name = "state", required = true)
+    protected PeStateType state;
+    @XmlAttribute(name = "reason", required = true)
+    protected PeStateReasonType reason;
+    @XmlAttribute(name = "isStateStale", required = true)
+    protected boolean isStateStale;
+    @XmlAttribute(name = "samRetryCount", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger samRetryCount;
+    @XmlAttribute(name = "schSignature", required = true)
+    protected String schSignature;
+    @XmlAttribute(name = "lastRunTimestamp")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger lastRunTimestamp;
+
+    /**
+     * Gets the value of the health property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeHealthType }
+     *     
+     */
+    public PeHealthType getHealth() {
+        return health;
+    }
+
+    /**
+     * Sets the value of the health property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeHealthType }
+     *     
+     */
+    public void setHealth(PeHealthType value) {
+        this.health = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the pid property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPid() {
+        return pid;
+    }
+
+    /**
+     * Sets the value of the pid property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPid(BigInteger value) {
+        this.pid = value;
+    }
+
+    /**
+     * Gets the value of the host property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Sets the value of the host property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setHost(String value) {
+        this.host = value;
+    }
+
+    /**
+     * Gets the value of the isHostValid property.
+     * 
+     */
+    public boolean isIsHostValid() {
+        return isHostValid;
+    }
+
+    /**
+     * Sets the value of the isHostValid property.
+     * 
+     */
+    public void setIsHostValid(boolean value) {
+        this.isHostValid = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeStateType }
+     *     
+     */
+    public PeStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeStateType }
+     *     
+     */
+    public void setState(PeStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the reason property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeStateReasonType }
+     *     
+     */
+    public PeStateReasonType getReason() {
+        return reason;
+    }
+
+    /**
+     * Sets the value of the reason property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeStateReasonType }
+     *     
+     */
+    public void setReason(PeStateReasonType value) {
+        this.reason = value;
+    }
+
+    /**
+     * Gets the value of the isStateStale property.
+     * 
+     */
+    public boolean isIsStateStale() {
+        return isStateStale;
+    }
+
+    /**
+     * Sets the value of the isStateStale property.
+     * 
+     */
+    public void setIsStateStale(boolean value) {
+        this.isStateStale = value;
+    }
+
+    /**
+     * Gets the value of the samRetryCount property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSamRetryCount() {
+        return samRetryCount;
+    }
+
+    /**
+     * Sets the value of the samRetryCount property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSamRetryCount(BigInteger value) {
+        this.samRetryCount = value;
+    }
+
+    /**
+     * Gets the value of the schSignature property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getSchSignature() {
+        return schSignature;
+    }
+
+    /**
+     * Sets the value of the schSignature property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setSchSignature(String value) {
+        this.schSignature = value;
+    }
+
+    /**
+     * Gets the value of the lastRunTimestamp property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLastRunTimestamp() {
+        return lastRunTimestamp;
+    }
+
+    /**
+     * Sets the value of the lastRunTimestamp property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLastRunTimestamp(BigInteger value) {
+        this.lastRunTimestamp = value;
+    }
+
+}
@@ -0,0 +1,189 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for parallelRegionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="parallelRegionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="parallelOperator" type="{http://www.ibm.com/xmlns/prod/streams/application}parallelOperatorType"/&gt;
+ *         &lt;element name="parallelWidth" type="{http://www.ibm.com/xmlns/prod/streams/application}parallelWidthType"/&gt;
+ *         &lt;element name="replicateHostTag" type="{http://www.ibm.com/xmlns/prod/streams/application}tagType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "parallelRegionType", propOrder = {
+    "parallelOperator",
+    "parallelWidth",
+    "replicateHostTag"
+})
+public class ParallelRegionType {
+
+    @XmlElement(required = true)
+    protected ParallelOperatorType parallelOperator;
+    @XmlElement(required = true)
+    protected ParallelWidthType parallelWidth;
+    protected List<TagType> replicateHostTag;
+    @XmlAttribute(name = "name", required = true)
+    protected String name;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+
+    /**
+     * Gets the value of the parallelOperator property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ParallelOperatorType }
+     *     
+     */
+    public ParallelOperatorType getParallelOperator() {
+        return parallelOperator;
+    }
+
+    /**
+     * Sets the value of the parallelOperator property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ParallelOperatorType }
+     *     
+     */
+    public void setParallelOperator(ParallelOperatorType value) {
+        this.parallelOperator = value;
+    }
+
+    /**
+     * Gets the value of the parallelWidth property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ParallelWidthType }
+     *     
+     */
+    public ParallelWidthType getParallelWidth() {
+        return parallelWidth;
+    }
+
+    /**
+     * Sets the value of the parallelWidth property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ParallelWidthType }
+     *     
+     */
+    public void setParallelWidth(ParallelWidthType value) {
+        this.parallelWidth = value;
+    }
+
+    /**
+     * Gets the value of the replicateHostTag property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the replicateHostTag property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getReplicateHostTag().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link TagType }
+     * 
+     * 
+     */
+    public List<TagType> getReplicateHostTag() {
+        if (replicateHostTag == null) {
+            replicateHostTag = new ArrayList<TagType>();
+        }
+        return this.replicateHostTag;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+}
@@ -0,0 +1,103 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for peCollectionOperationStatusType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peCollectionOperationStatusType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="peOperationStatus" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}peOperationStatusType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="pesInfo" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}pesInfoType"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peCollectionOperationStatusType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "peOperationStatus",
+    "pesInfo"
+})
+public class PeCollectionOperationStatusType {
+
+    protected List<PeOperationStatusType> peOperationStatus;
+    @XmlElement(required = true)
+    protected PesInfoType pesInfo;
+
+    /**
+     * Gets the value of the peOperationStatus property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the peOperationStatus property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getPeOperationStatus().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link PeOperationStatusType }
+     * 
+     * 
+     */
+    public List<PeOperationStatusType> getPeOperationStatus() {
+        if (peOperationStatus == null) {
+            peOperationStatus = new ArrayList<PeOperationStatusType>();
+        }
+        return this.peOperationStatus;
+    }
+
+    /**
+     * Gets the value of the pesInfo property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PesInfoType }
+     *     
+     */
+    public PesInfoType getPesInfo() {
+        return pesInfo;
+    }
+
+    /**
+     * Sets the value of the pesInfo property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PesInfoType }
+     *     
+     */
+    public void setPesInfo(PesInfoType value) {
+        this.pesInfo = value;
+    }
+
+}
@@ -0,0 +1,142 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This structure stores a boolean of pe health and summary of pe health.
+ *       
+ * 
+ * <p>Java class for peHealthType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peHealthType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="isHealthy" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="healthSummary" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peHealthSummaryType" /&gt;
+ *       &lt;attribute name="requiredConnectionsSummary" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}outgoingConnectionHealthSummaryType" /&gt;
+ *       &lt;attribute name="optionalConnectionsSummary" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}outgoingConnectionHealthSummaryType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peHealthType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+public class PeHealthType {
+
+    @XmlAttribute(name = "isHealthy", required = true)
+    protected boolean isHealthy;
+    @XmlAttribute(name = "healthSummary", required = true)
+    protected PeHealthSummaryType healthSummary;
+    @XmlAttribute(name = "requiredConnectionsSummary", required = true)
+    protected OutgoingConnectionHealthSummaryType requiredConnectionsSummary;
+    @XmlAttribute(name = "optionalConnectionsSummary", required = true)
+    protected OutgoingConnectionHealthSummaryType optionalConnectionsSummary;
+
+    /**
+     * Gets the value of the isHealthy property.
+     * 
+     */
+    public boolean isIsHealthy() {
+        return isHealthy;
+    }
+
+    /**
+     * Sets the value of the isHealthy property.
+     * 
+     */
+    public void setIsHealthy(boolean value) {
+        this.isHealthy = value;
+    }
+
+    /**
+     * Gets the value of the healthSummary property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeHealthSummaryType }
+     *     
+     */
+    public PeHealthSummaryType getHealthSummary() {
+        return healthSummary;
+    }
+
+    /**
+     * Sets the value of the healthSummary property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeHealthSummaryType }
+     *     
+     */
+    public void setHealthSummary(PeHealthSummaryType value) {
+        this.healthSummary = value;
+    }
+
+    /**
+     * Gets the value of the requiredConnectionsSummary property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OutgoingConnectionHealthSummaryType }
+     *     
+     */
+    public OutgoingConnectionHealthSummaryType getRequiredConnectionsSummary() {
+        return requiredConnectionsSummary;
+    }
+
+    /**
+     * Sets the value of the requiredConnectionsSummary property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OutgoingConnectionHealthSummaryType }
+     *     
+     */
+    public void setRequiredConnectionsSummary(OutgoingConnectionHealthSummaryType value) {
+        this.requiredConnectionsSummary = value;
+    }
+
+    /**
+     * Gets the value of the optionalConnectionsSummary property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OutgoingConnectionHealthSummaryType }
+     *     
+     */
+    public OutgoingConnectionHealthSummaryType getOptionalConnectionsSummary() {
+        return optionalConnectionsSummary;
+    }
+
+    /**
+     * Sets the value of the optionalConnectionsSummary property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OutgoingConnectionHealthSummaryType }
+     *     
+     */
+    public void setOptionalConnectionsSummary(OutgoingConnectionHealthSummaryType value) {
+        this.optionalConnectionsSummary = value;
+    }
+
+}
@@ -0,0 +1,454 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure is a container for runtime information on a Processing Element. It includes identifier attributes (index, id, jobId) and state information regarding the knowledge that SAM has on the PE (e.g, state, reason (for being on that state, and whether the state is stale (because the host for the PE is down)) and launchCount). It includes information on the set of input and output ports this PE has, the PE's process id and as well as an overall health indicator for the PE.
+ *       
+ * 
+ * <p>Java class for peInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="health" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peHealthType"/&gt;
+ *         &lt;element name="inputPorts" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}inputPortsInfoType"/&gt;
+ *         &lt;element name="outputPorts" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}outputPortsInfoType"/&gt;
+ *         &lt;element name="currentTracing" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType" minOccurs="0"/&gt;
+ *         &lt;element name="pendingTracing" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType" minOccurs="0"/&gt;
+ *         &lt;element name="operInstances" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}operInstancesInfoType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="index" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="jobId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="host" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="isStateStale" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peStateType" /&gt;
+ *       &lt;attribute name="reason" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}peStateReasonType" /&gt;
+ *       &lt;attribute name="launchCount" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="pid" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "health",
+    "inputPorts",
+    "outputPorts",
+    "currentTracing",
+    "pendingTracing",
+    "operInstances"
+})
+public class PeInfoType {
+
+    @XmlElement(required = true)
+    protected PeHealthType health;
+    @XmlElement(required = true)
+    protected InputPortsInfoType inputPorts;
+    @XmlElement(required = true)
+    protected OutputPortsInfoType outputPorts;
+    protected TracingType currentTracing;
+    protected TracingType pendingTracing;
+    @XmlElement(required = true)
+    protected OperInstancesInfoType operInstances;
+    @XmlAttribute(name = "index", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger index;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "jobId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger jobId;
+    @XmlAttribute(name = "host", required = true)
+    protected String host;
+    @XmlAttribute(name = "isStateStale", required = true)
+    protected boolean isStateStale;
+    @XmlAttribute(name = "state", required = true)
+    protected PeStateType state;
+    @XmlAttribute(name = "reason", required = true)
+    protected PeStateReasonType reason;
+    @XmlAttribute(name = "launchCount", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger launchCount;
+    @XmlAttribute(name = "pid", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger pid;
+
+    /**
+     * Gets the value of the health property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeHealthType }
+     *     
+     */
+    public PeHealthType getHealth() {
+        return health;
+    }
+
+    /**
+     * Sets the value of the health property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeHealthType }
+     *     
+     */
+    public void setHealth(PeHealthType value) {
+        this.health = value;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link InputPortsInfoType }
+     *     
+     */
+    public InputPortsInfoType getInputPorts() {
+        return inputPorts;
+    }
+
+    /**
+     * Sets the value of the inputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link InputPortsInfoType }
+     *     
+     */
+    public void setInputPorts(InputPortsInfoType value) {
+        this.inputPorts = value;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OutputPortsInfoType }
+     *     
+     */
+    public OutputPortsInfoType getOutputPorts() {
+        return outputPorts;
+    }
+
+    /**
+     * Sets the value of the outputPorts property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OutputPortsInfoType }
+     *     
+     */
+    public void setOutputPorts(OutputPortsInfoType value) {
+        this.outputPorts = value;
+    }
+
+    /**
+     * Gets the value of the currentTracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getCurrentTracing() {
+        return currentTracing;
+    }
+
+    /**
+     * Sets the value of the currentTracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setCurrentTracing(TracingType value) {
+        this.currentTracing = value;
+    }
+
+    /**
+     * Gets the value of the pendingTracing property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getPendingTracing() {
+        return pendingTracing;
+    }
+
+    /**
+     * Sets the value of the pendingTracing property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setPendingTracing(TracingType value) {
+        this.pendingTracing = value;
+    }
+
+    /**
+     * Gets the value of the operInstances property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link OperInstancesInfoType }
+     *     
+     */
+    public OperInstancesInfoType getOperInstances() {
+        return operInstances;
+    }
+
+    /**
+     * Sets the value of the operInstances property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link OperInstancesInfoType }
+     *     
+     */
+    public void setOperInstances(OperInstancesInfoType value) {
+        this.operInstances = value;
+    }
+
+    /**
+     * Gets the value of the index property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets the value of the index property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIndex(BigInteger value) {
+        this.index = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the jobId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Sets the value of the jobId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setJobId(BigInteger value) {
+        this.jobId = value;
+    }
+
+    /**
+     * Gets the value of the host property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Sets the value of the host property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setHost(String value) {
+        this.host = value;
+    }
+
+    /**
+     * Gets the value of the isStateStale property.
+     * 
+     */
+    public boolean isIsStateStale() {
+        return isStateStale;
+    }
+
+    /**
+     * Sets the value of the isStateStale property.
+     * 
+     */
+    public void setIsStateStale(boolean value) {
+        this.isStateStale = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeStateType }
+     *     
+     */
+    public PeStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeStateType }
+     *     
+     */
+    public void setState(PeStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the reason property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeStateReasonType }
+     *     
+     */
+    public PeStateReasonType getReason() {
+        return reason;
+    }
+
+    /**
+     * Sets the value of the reason property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeStateReasonType }
+     *     
+     */
+    public void setReason(PeStateReasonType value) {
+        this.reason = value;
+    }
+
+    /**
+     * Gets the value of the launchCount property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLaunchCount() {
+        return launchCount;
+    }
+
+    /**
+     * Sets the value of the launchCount property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLaunchCount(BigInteger value) {
+        this.launchCount = value;
+    }
+
+    /**
+     * Gets the value of the pid property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getPid() {
+        return pid;
+    }
+
+    /**
+     * Sets the value of the pid property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setPid(BigInteger value) {
+        this.pid = value;
+    }
+
+}
@@ -0,0 +1,59 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for peStateReasonType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="peStateReasonType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="AUTOMATIC"/&gt;
+ *     &lt;enumeration value="CRASH"/&gt;
+ *     &lt;enumeration value="FAILURE"/&gt;
+ *     &lt;enumeration value="HOSTFAILURE"/&gt;
+ *     &lt;enumeration value="NONE"/&gt;
+ *     &lt;enumeration value="REQUEST"/&gt;
+ *     &lt;enumeration value="VOLUNTARY"/&gt;
+ *     &lt;enumeration value="NOFEASIBLEHOST"/&gt;
+ *     &lt;enumeration value="SETCAPABILITIESFAILURE"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "peStateReasonType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+@XmlEnum
+public enum PeStateReasonType {
+
+    AUTOMATIC,
+    CRASH,
+    FAILURE,
+    HOSTFAILURE,
+    NONE,
+    REQUEST,
+    VOLUNTARY,
+    NOFEASIBLEHOST,
+    SETCAPABILITIESFAILURE;
+
+    public String value() {
+        return name();
+    }
+
+    public static PeStateReasonType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
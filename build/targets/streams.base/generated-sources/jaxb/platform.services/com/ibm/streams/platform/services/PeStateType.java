@@ -0,0 +1,55 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for peStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="peStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="CONSTRUCTED"/&gt;
+ *     &lt;enumeration value="RESTARTING"/&gt;
+ *     &lt;enumeration value="RUNNING"/&gt;
+ *     &lt;enumeration value="STARTING"/&gt;
+ *     &lt;enumeration value="SUBMITTED"/&gt;
+ *     &lt;enumeration value="STOPPED"/&gt;
+ *     &lt;enumeration value="STOPPING"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "peStateType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented")
+@XmlEnum
+public enum PeStateType {
+
+    CONSTRUCTED,
+    RESTARTING,
+    RUNNING,
+    STARTING,
+    SUBMITTED,
+    STOPPED,
+    STOPPING;
+
+    public String value() {
+        return name();
+    }
+
+    public static PeStateType fromValue(String v) {
+        return valueOf(v);
+    }
+
+}
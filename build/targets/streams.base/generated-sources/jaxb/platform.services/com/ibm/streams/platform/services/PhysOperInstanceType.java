@@ -0,0 +1,248 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physOperInstanceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physOperInstanceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}operInstanceType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="splAnnotation" type="{http://www.ibm.com/xmlns/prod/streams/application}splAnnotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="annotation" type="{http://www.ibm.com/xmlns/prod/streams/application}annotationType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="jvmArguments" type="{http://www.ibm.com/xmlns/prod/streams/application/physical}jvmArgumentsType" minOccurs="0"/&gt;
+ *         &lt;element name="parallelRegions" type="{http://www.ibm.com/xmlns/prod/streams/application/physical}physParallelRegionsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="logicalName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logicalIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="toolkitIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physOperInstanceType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical", propOrder = {
+    "splAnnotation",
+    "annotation",
+    "jvmArguments",
+    "parallelRegions"
+})
+public class PhysOperInstanceType
+    extends OperInstanceType
+{
+
+    protected List<SplAnnotationType> splAnnotation;
+    protected List<AnnotationType> annotation;
+    protected JvmArgumentsType jvmArguments;
+    protected PhysParallelRegionsType parallelRegions;
+    @XmlAttribute(name = "logicalName", required = true)
+    protected String logicalName;
+    @XmlAttribute(name = "logicalIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger logicalIndex;
+    @XmlAttribute(name = "toolkitIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger toolkitIndex;
+
+    /**
+     * Gets the value of the splAnnotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the splAnnotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getSplAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link SplAnnotationType }
+     * 
+     * 
+     */
+    public List<SplAnnotationType> getSplAnnotation() {
+        if (splAnnotation == null) {
+            splAnnotation = new ArrayList<SplAnnotationType>();
+        }
+        return this.splAnnotation;
+    }
+
+    /**
+     * Gets the value of the annotation property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the annotation property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getAnnotation().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link AnnotationType }
+     * 
+     * 
+     */
+    public List<AnnotationType> getAnnotation() {
+        if (annotation == null) {
+            annotation = new ArrayList<AnnotationType>();
+        }
+        return this.annotation;
+    }
+
+    /**
+     * Gets the value of the jvmArguments property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JvmArgumentsType }
+     *     
+     */
+    public JvmArgumentsType getJvmArguments() {
+        return jvmArguments;
+    }
+
+    /**
+     * Sets the value of the jvmArguments property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JvmArgumentsType }
+     *     
+     */
+    public void setJvmArguments(JvmArgumentsType value) {
+        this.jvmArguments = value;
+    }
+
+    /**
+     * Gets the value of the parallelRegions property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PhysParallelRegionsType }
+     *     
+     */
+    public PhysParallelRegionsType getParallelRegions() {
+        return parallelRegions;
+    }
+
+    /**
+     * Sets the value of the parallelRegions property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PhysParallelRegionsType }
+     *     
+     */
+    public void setParallelRegions(PhysParallelRegionsType value) {
+        this.parallelRegions = value;
+    }
+
+    /**
+     * Gets the value of the logicalName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalName() {
+        return logicalName;
+    }
+
+    /**
+     * Sets the value of the logicalName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalName(String value) {
+        this.logicalName = value;
+    }
+
+    /**
+     * Gets the value of the logicalIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLogicalIndex() {
+        return logicalIndex;
+    }
+
+    /**
+     * Sets the value of the logicalIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLogicalIndex(BigInteger value) {
+        this.logicalIndex = value;
+    }
+
+    /**
+     * Gets the value of the toolkitIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getToolkitIndex() {
+        return toolkitIndex;
+    }
+
+    /**
+     * Sets the value of the toolkitIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setToolkitIndex(BigInteger value) {
+        this.toolkitIndex = value;
+    }
+
+}
@@ -0,0 +1,157 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physPEType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physPEType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}peType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="toolkitsMap" type="{http://www.ibm.com/xmlns/prod/streams/application/physical}toolkitsMapType"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="logicalIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="channelIndex" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *       &lt;attribute name="regionIndex" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physPEType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical", propOrder = {
+    "toolkitsMap"
+})
+public class PhysPEType
+    extends PeType
+{
+
+    @XmlElement(required = true)
+    protected ToolkitsMapType toolkitsMap;
+    @XmlAttribute(name = "logicalIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger logicalIndex;
+    @XmlAttribute(name = "channelIndex")
+    protected Integer channelIndex;
+    @XmlAttribute(name = "regionIndex")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger regionIndex;
+
+    /**
+     * Gets the value of the toolkitsMap property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ToolkitsMapType }
+     *     
+     */
+    public ToolkitsMapType getToolkitsMap() {
+        return toolkitsMap;
+    }
+
+    /**
+     * Sets the value of the toolkitsMap property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ToolkitsMapType }
+     *     
+     */
+    public void setToolkitsMap(ToolkitsMapType value) {
+        this.toolkitsMap = value;
+    }
+
+    /**
+     * Gets the value of the logicalIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLogicalIndex() {
+        return logicalIndex;
+    }
+
+    /**
+     * Sets the value of the logicalIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLogicalIndex(BigInteger value) {
+        this.logicalIndex = value;
+    }
+
+    /**
+     * Gets the value of the channelIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getChannelIndex() {
+        return channelIndex;
+    }
+
+    /**
+     * Sets the value of the channelIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setChannelIndex(Integer value) {
+        this.channelIndex = value;
+    }
+
+    /**
+     * Gets the value of the regionIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getRegionIndex() {
+        return regionIndex;
+    }
+
+    /**
+     * Sets the value of the regionIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setRegionIndex(BigInteger value) {
+        this.regionIndex = value;
+    }
+
+}
@@ -0,0 +1,94 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for physPropertyBasedImportType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="physPropertyBasedImportType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;extension base="{http://www.ibm.com/xmlns/prod/streams/application}propertyBasedImportType"&gt;
+ *       &lt;attribute name="logicalSubscription" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logicalImportOperName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/extension&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "physPropertyBasedImportType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/physical")
+public class PhysPropertyBasedImportType
+    extends PropertyBasedImportType
+{
+
+    @XmlAttribute(name = "logicalSubscription", required = true)
+    protected String logicalSubscription;
+    @XmlAttribute(name = "logicalImportOperName", required = true)
+    protected String logicalImportOperName;
+
+    /**
+     * Gets the value of the logicalSubscription property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalSubscription() {
+        return logicalSubscription;
+    }
+
+    /**
+     * Sets the value of the logicalSubscription property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalSubscription(String value) {
+        this.logicalSubscription = value;
+    }
+
+    /**
+     * Gets the value of the logicalImportOperName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalImportOperName() {
+        return logicalImportOperName;
+    }
+
+    /**
+     * Sets the value of the logicalImportOperName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalImportOperName(String value) {
+        this.logicalImportOperName = value;
+    }
+
+}
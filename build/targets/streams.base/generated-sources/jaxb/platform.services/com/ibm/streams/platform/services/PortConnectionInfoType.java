@@ -0,0 +1,305 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents a port connection and provides the PE IDs, port IDs, and port indexes for the connection endpoints.
+ *       
+ * 
+ * <p>Java class for portConnectionInfoType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="portConnectionInfoType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="ipeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="iportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="opeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="oportId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="oportIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="isActive" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="isStatic" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="state" use="required" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}connectionStateType" /&gt;
+ *       &lt;attribute name="timestamp" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "portConnectionInfoType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam")
+public class PortConnectionInfoType {
+
+    @XmlAttribute(name = "ipeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger ipeId;
+    @XmlAttribute(name = "iportId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportId;
+    @XmlAttribute(name = "iportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger iportIndex;
+    @XmlAttribute(name = "opeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger opeId;
+    @XmlAttribute(name = "oportId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger oportId;
+    @XmlAttribute(name = "oportIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger oportIndex;
+    @XmlAttribute(name = "isActive", required = true)
+    protected boolean isActive;
+    @XmlAttribute(name = "isStatic", required = true)
+    protected boolean isStatic;
+    @XmlAttribute(name = "state", required = true)
+    protected ConnectionStateType state;
+    @XmlAttribute(name = "timestamp")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger timestamp;
+
+    /**
+     * Gets the value of the ipeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIpeId() {
+        return ipeId;
+    }
+
+    /**
+     * Sets the value of the ipeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIpeId(BigInteger value) {
+        this.ipeId = value;
+    }
+
+    /**
+     * Gets the value of the iportId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportId() {
+        return iportId;
+    }
+
+    /**
+     * Sets the value of the iportId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportId(BigInteger value) {
+        this.iportId = value;
+    }
+
+    /**
+     * Gets the value of the iportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getIportIndex() {
+        return iportIndex;
+    }
+
+    /**
+     * Sets the value of the iportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setIportIndex(BigInteger value) {
+        this.iportIndex = value;
+    }
+
+    /**
+     * Gets the value of the opeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOpeId() {
+        return opeId;
+    }
+
+    /**
+     * Sets the value of the opeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOpeId(BigInteger value) {
+        this.opeId = value;
+    }
+
+    /**
+     * Gets the value of the oportId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOportId() {
+        return oportId;
+    }
+
+    /**
+     * Sets the value of the oportId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOportId(BigInteger value) {
+        this.oportId = value;
+    }
+
+    /**
+     * Gets the value of the oportIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getOportIndex() {
+        return oportIndex;
+    }
+
+    /**
+     * Sets the value of the oportIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setOportIndex(BigInteger value) {
+        this.oportIndex = value;
+    }
+
+    /**
+     * Gets the value of the isActive property.
+     * 
+     */
+    public boolean isIsActive() {
+        return isActive;
+    }
+
+    /**
+     * Sets the value of the isActive property.
+     * 
+     */
+    public void setIsActive(boolean value) {
+        this.isActive = value;
+    }
+
+    /**
+     * Gets the value of the isStatic property.
+     * 
+     */
+    public boolean isIsStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Sets the value of the isStatic property.
+     * 
+     */
+    public void setIsStatic(boolean value) {
+        this.isStatic = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public ConnectionStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public void setState(ConnectionStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the timestamp property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Sets the value of the timestamp property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setTimestamp(BigInteger value) {
+        this.timestamp = value;
+    }
+
+}
@@ -0,0 +1,134 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlSeeAlso;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores an application source code location for different SPL language constructs. The sourceIndex refers to the specific URI defining the source code file (note that the collection of URIs used in the application set is factored out) where the definition is, and startLine and endLine refer to the specific lines where the definition begins and ends, respectively.
+ *       
+ * 
+ * <p>Java class for sourceLocationType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="sourceLocationType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;attribute name="sourceIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="startLine" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="endLine" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "sourceLocationType")
+@XmlSeeAlso({
+    CompositeOperType.class,
+    CompositeOperInstanceType.class,
+    PrimitiveOperInstanceType.class
+})
+public class SourceLocationType {
+
+    @XmlAttribute(name = "sourceIndex", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger sourceIndex;
+    @XmlAttribute(name = "startLine", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger startLine;
+    @XmlAttribute(name = "endLine", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger endLine;
+
+    /**
+     * Gets the value of the sourceIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSourceIndex() {
+        return sourceIndex;
+    }
+
+    /**
+     * Sets the value of the sourceIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSourceIndex(BigInteger value) {
+        this.sourceIndex = value;
+    }
+
+    /**
+     * Gets the value of the startLine property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getStartLine() {
+        return startLine;
+    }
+
+    /**
+     * Sets the value of the startLine property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setStartLine(BigInteger value) {
+        this.startLine = value;
+    }
+
+    /**
+     * Gets the value of the endLine property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getEndLine() {
+        return endLine;
+    }
+
+    /**
+     * Sets the value of the endLine property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setEndLine(BigInteger value) {
+        this.endLine = value;
+    }
+
+}
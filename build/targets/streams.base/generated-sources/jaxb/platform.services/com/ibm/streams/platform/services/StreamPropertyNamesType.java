@@ -0,0 +1,106 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the names (through the sequence of 'name' elements) and the scope (through the 'scope' attribute) for stream properties on which a particular operation (e.g., adding, removing, updating, etc) will be applied.
+ *       
+ * 
+ * <p>Java class for streamPropertyNamesType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="streamPropertyNamesType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="name" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}streamPropertyNameType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="scope" use="required" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}streamPropertyNamesScopingType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "streamPropertyNamesType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "name"
+})
+public class StreamPropertyNamesType {
+
+    protected List<StreamPropertyNameType> name;
+    @XmlAttribute(name = "scope", required = true)
+    protected StreamPropertyNamesScopingType scope;
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the name property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getName().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link StreamPropertyNameType }
+     * 
+     * 
+     */
+    public List<StreamPropertyNameType> getName() {
+        if (name == null) {
+            name = new ArrayList<StreamPropertyNameType>();
+        }
+        return this.name;
+    }
+
+    /**
+     * Gets the value of the scope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamPropertyNamesScopingType }
+     *     
+     */
+    public StreamPropertyNamesScopingType getScope() {
+        return scope;
+    }
+
+    /**
+     * Sets the value of the scope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamPropertyNamesScopingType }
+     *     
+     */
+    public void setScope(StreamPropertyNamesScopingType value) {
+        this.scope = value;
+    }
+
+}
@@ -0,0 +1,325 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         Information about a stream. A stream can be 1 of the followng types:  normal stream (not in a parallel region), logical stream,or  physical stream.
+ *         Normal: isLogical = false;
+ *         Logical: isLogical = true; numChannels;
+ *         Physical: isLogical = false; logicalStreamName, logicalOperInstanceName, logicalOperInstanceOutputPortName, channelNum
+ *       
+ * 
+ * <p>Java class for streamType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="streamType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="id" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}streamIdType"/&gt;
+ *         &lt;element name="tupleType" type="{http://www.ibm.com/xmlns/prod/streams/application}tupleTypeType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="operInstanceName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="operInstanceOutputPortName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="streamName" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="isLogical" use="required" type="{http://www.w3.org/2001/XMLSchema}boolean" /&gt;
+ *       &lt;attribute name="numChannels" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *       &lt;attribute name="logicalStreamName" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="logicalOperInstanceName" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="channelNum" type="{http://www.w3.org/2001/XMLSchema}int" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "streamType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "id",
+    "tupleType"
+})
+public class StreamType {
+
+    @XmlElement(required = true)
+    protected StreamIdType id;
+    protected TupleTypeType tupleType;
+    @XmlAttribute(name = "operInstanceName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String operInstanceName;
+    @XmlAttribute(name = "operInstanceOutputPortName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String operInstanceOutputPortName;
+    @XmlAttribute(name = "streamName", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String streamName;
+    @XmlAttribute(name = "isLogical", required = true)
+    protected boolean isLogical;
+    @XmlAttribute(name = "numChannels")
+    protected Integer numChannels;
+    @XmlAttribute(name = "logicalStreamName")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String logicalStreamName;
+    @XmlAttribute(name = "logicalOperInstanceName")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String logicalOperInstanceName;
+    @XmlAttribute(name = "channelNum")
+    protected Integer channelNum;
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamIdType }
+     *     
+     */
+    public StreamIdType getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamIdType }
+     *     
+     */
+    public void setId(StreamIdType value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the tupleType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public TupleTypeType getTupleType() {
+        return tupleType;
+    }
+
+    /**
+     * Sets the value of the tupleType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TupleTypeType }
+     *     
+     */
+    public void setTupleType(TupleTypeType value) {
+        this.tupleType = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOperInstanceName() {
+        return operInstanceName;
+    }
+
+    /**
+     * Sets the value of the operInstanceName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOperInstanceName(String value) {
+        this.operInstanceName = value;
+    }
+
+    /**
+     * Gets the value of the operInstanceOutputPortName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getOperInstanceOutputPortName() {
+        return operInstanceOutputPortName;
+    }
+
+    /**
+     * Sets the value of the operInstanceOutputPortName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setOperInstanceOutputPortName(String value) {
+        this.operInstanceOutputPortName = value;
+    }
+
+    /**
+     * Gets the value of the streamName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * Sets the value of the streamName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setStreamName(String value) {
+        this.streamName = value;
+    }
+
+    /**
+     * Gets the value of the isLogical property.
+     * 
+     */
+    public boolean isIsLogical() {
+        return isLogical;
+    }
+
+    /**
+     * Sets the value of the isLogical property.
+     * 
+     */
+    public void setIsLogical(boolean value) {
+        this.isLogical = value;
+    }
+
+    /**
+     * Gets the value of the numChannels property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getNumChannels() {
+        return numChannels;
+    }
+
+    /**
+     * Sets the value of the numChannels property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setNumChannels(Integer value) {
+        this.numChannels = value;
+    }
+
+    /**
+     * Gets the value of the logicalStreamName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalStreamName() {
+        return logicalStreamName;
+    }
+
+    /**
+     * Sets the value of the logicalStreamName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalStreamName(String value) {
+        this.logicalStreamName = value;
+    }
+
+    /**
+     * Gets the value of the logicalOperInstanceName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalOperInstanceName() {
+        return logicalOperInstanceName;
+    }
+
+    /**
+     * Sets the value of the logicalOperInstanceName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalOperInstanceName(String value) {
+        this.logicalOperInstanceName = value;
+    }
+
+    /**
+     * Gets the value of the channelNum property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getChannelNum() {
+        return channelNum;
+    }
+
+    /**
+     * Sets the value of the channelNum property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setChannelNum(Integer value) {
+        this.channelNum = value;
+    }
+
+}
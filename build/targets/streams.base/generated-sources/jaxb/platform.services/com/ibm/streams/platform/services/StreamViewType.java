@@ -0,0 +1,131 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         Viewable stream information
+ *       
+ * 
+ * <p>Java class for streamViewType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="streamViewType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="streamId" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}streamIdType"/&gt;
+ *         &lt;element name="properties" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}nameValuePairsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "streamViewType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "streamId",
+    "properties"
+})
+public class StreamViewType {
+
+    @XmlElement(required = true)
+    protected StreamIdType streamId;
+    protected NameValuePairsType properties;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+
+    /**
+     * Gets the value of the streamId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link StreamIdType }
+     *     
+     */
+    public StreamIdType getStreamId() {
+        return streamId;
+    }
+
+    /**
+     * Sets the value of the streamId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link StreamIdType }
+     *     
+     */
+    public void setStreamId(StreamIdType value) {
+        this.streamId = value;
+    }
+
+    /**
+     * Gets the value of the properties property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link NameValuePairsType }
+     *     
+     */
+    public NameValuePairsType getProperties() {
+        return properties;
+    }
+
+    /**
+     * Sets the value of the properties property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link NameValuePairsType }
+     *     
+     */
+    public void setProperties(NameValuePairsType value) {
+        this.properties = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+}
@@ -0,0 +1,129 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure enables one to constraint system state queries by specifying an identifier (via the id attribute) and the type for that identifier (via the idType attribute). When specifying more than 2 identifiers, the elements ids should be properly populated (and the id attribute left out).
+ *       
+ * 
+ * <p>Java class for systemStateConstraintType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="systemStateConstraintType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="ids" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}idsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="idType" use="required" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}systemStateIdConstraintType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "systemStateConstraintType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "ids"
+})
+public class SystemStateConstraintType {
+
+    protected IdsType ids;
+    @XmlAttribute(name = "id")
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "idType", required = true)
+    protected SystemStateIdConstraintType idType;
+
+    /**
+     * Gets the value of the ids property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link IdsType }
+     *     
+     */
+    public IdsType getIds() {
+        return ids;
+    }
+
+    /**
+     * Sets the value of the ids property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link IdsType }
+     *     
+     */
+    public void setIds(IdsType value) {
+        this.ids = value;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the idType property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SystemStateIdConstraintType }
+     *     
+     */
+    public SystemStateIdConstraintType getIdType() {
+        return idType;
+    }
+
+    /**
+     * Sets the value of the idType property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SystemStateIdConstraintType }
+     *     
+     */
+    public void setIdType(SystemStateIdConstraintType value) {
+        this.idType = value;
+    }
+
+}
@@ -0,0 +1,177 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *         This data structure represents the scope for a dataflow topology query. Currently, it allows scoping (via the 'selector' object) by job identifiers and user names and application name  meaning that only information relating to the specified jobs and users and applications will be returned by the query. Alternatively, the selector can specify that all of the information should be returned by not specifying any filters.
+ *       
+ * 
+ * <p>Java class for systemTopologyScopingType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="systemTopologyScopingType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="jobs" type="{http://www.ibm.com/xmlns/prod/streams/application/augmented}jobIdType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="users" type="{http://www.w3.org/2001/XMLSchema}token" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="applicationNames" type="{http://www.w3.org/2001/XMLSchema}token" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="adlSelector" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}adlSelectEnumType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "systemTopologyScopingType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "jobs",
+    "users",
+    "applicationNames"
+})
+public class SystemTopologyScopingType {
+
+    protected List<JobIdType> jobs;
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected List<String> users;
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected List<String> applicationNames;
+    @XmlAttribute(name = "adlSelector")
+    protected AdlSelectEnumType adlSelector;
+
+    /**
+     * Gets the value of the jobs property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the jobs property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getJobs().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link JobIdType }
+     * 
+     * 
+     */
+    public List<JobIdType> getJobs() {
+        if (jobs == null) {
+            jobs = new ArrayList<JobIdType>();
+        }
+        return this.jobs;
+    }
+
+    /**
+     * Gets the value of the users property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the users property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getUsers().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getUsers() {
+        if (users == null) {
+            users = new ArrayList<String>();
+        }
+        return this.users;
+    }
+
+    /**
+     * Gets the value of the applicationNames property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the applicationNames property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getApplicationNames().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link String }
+     * 
+     * 
+     */
+    public List<String> getApplicationNames() {
+        if (applicationNames == null) {
+            applicationNames = new ArrayList<String>();
+        }
+        return this.applicationNames;
+    }
+
+    /**
+     * Gets the value of the adlSelector property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link AdlSelectEnumType }
+     *     
+     */
+    public AdlSelectEnumType getAdlSelector() {
+        return adlSelector;
+    }
+
+    /**
+     * Sets the value of the adlSelector property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link AdlSelectEnumType }
+     *     
+     */
+    public void setAdlSelector(AdlSelectEnumType value) {
+        this.adlSelector = value;
+    }
+
+}
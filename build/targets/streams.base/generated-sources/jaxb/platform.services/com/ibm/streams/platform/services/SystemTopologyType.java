@@ -0,0 +1,127 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure represents the result of a dataflow topology query on SAM. The returned data is scoped according to the 'scope' element and contains (1) logical information as originally generated by the SPL compiler and returned as a collection of application sets (i.e., the 'applicationSets' object) and (2) runtime information on these applications available from SAM (i.e., the 'jobSets' object). When both are present, they are parallel data structures. In other words, each application in an application set corresponds to a job in the job set. Either of these resulting objects may or may not be present in the result, according to the query scoping parameters.
+ *       
+ * 
+ * <p>Java class for systemTopologyType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="systemTopologyType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="scope" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}systemTopologyScopingType"/&gt;
+ *         &lt;element name="applicationSets" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}applicationSetsType" minOccurs="0"/&gt;
+ *         &lt;element name="jobSets" type="{http://www.ibm.com/xmlns/prod/streams/runtime/sam}jobSetsType" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "systemTopologyType", namespace = "http://www.ibm.com/xmlns/prod/streams/runtime/sam", propOrder = {
+    "scope",
+    "applicationSets",
+    "jobSets"
+})
+public class SystemTopologyType {
+
+    @XmlElement(required = true)
+    protected SystemTopologyScopingType scope;
+    protected ApplicationSetsType applicationSets;
+    protected JobSetsType jobSets;
+
+    /**
+     * Gets the value of the scope property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link SystemTopologyScopingType }
+     *     
+     */
+    public SystemTopologyScopingType getScope() {
+        return scope;
+    }
+
+    /**
+     * Sets the value of the scope property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link SystemTopologyScopingType }
+     *     
+     */
+    public void setScope(SystemTopologyScopingType value) {
+        this.scope = value;
+    }
+
+    /**
+     * Gets the value of the applicationSets property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ApplicationSetsType }
+     *     
+     */
+    public ApplicationSetsType getApplicationSets() {
+        return applicationSets;
+    }
+
+    /**
+     * Sets the value of the applicationSets property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ApplicationSetsType }
+     *     
+     */
+    public void setApplicationSets(ApplicationSetsType value) {
+        this.applicationSets = value;
+    }
+
+    /**
+     * Gets the value of the jobSets property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobSetsType }
+     *     
+     */
+    public JobSetsType getJobSets() {
+        return jobSets;
+    }
+
+    /**
+     * Sets the value of the jobSets property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobSetsType }
+     *     
+     */
+    public void setJobSets(JobSetsType value) {
+        this.jobSets = value;
+    }
+
+}
@@ -0,0 +1,105 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:11:00 AM UTC 
+//
+
+
+package com.ibm.streams.platform.services;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *         This data structure stores information about tracing.  It contains the tracing config details, as well as a
+ *         number to indicate which sequential update this relates to.
+ *       
+ * 
+ * <p>Java class for tracingEmploymentType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="tracingEmploymentType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="tracingUpdate" type="{http://www.ibm.com/xmlns/prod/streams/runtime/utils/mr}tracingType"/&gt;
+ *         &lt;element name="tracingUpdateSequenceNum" type="{http://www.w3.org/2001/XMLSchema}unsignedLong"/&gt;
+ *       &lt;/sequence&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "tracingEmploymentType", namespace = "http://www.ibm.com/xmlns/prod/streams/application/augmented", propOrder = {
+    "tracingUpdate",
+    "tracingUpdateSequenceNum"
+})
+public class TracingEmploymentType {
+
+    @XmlElement(required = true)
+    protected TracingType tracingUpdate;
+    @XmlElement(required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger tracingUpdateSequenceNum;
+
+    /**
+     * Gets the value of the tracingUpdate property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link TracingType }
+     *     
+     */
+    public TracingType getTracingUpdate() {
+        return tracingUpdate;
+    }
+
+    /**
+     * Sets the value of the tracingUpdate property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link TracingType }
+     *     
+     */
+    public void setTracingUpdate(TracingType value) {
+        this.tracingUpdate = value;
+    }
+
+    /**
+     * Gets the value of the tracingUpdateSequenceNum property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getTracingUpdateSequenceNum() {
+        return tracingUpdateSequenceNum;
+    }
+
+    /**
+     * Sets the value of the tracingUpdateSequenceNum property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setTracingUpdateSequenceNum(BigInteger value) {
+        this.tracingUpdateSequenceNum = value;
+    }
+
+}
@@ -0,0 +1,64 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for connectionHealthType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="connectionHealthType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="connected"/&gt;
+ *     &lt;enumeration value="partiallyConnected"/&gt;
+ *     &lt;enumeration value="disconnected"/&gt;
+ *     &lt;enumeration value="unknown"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "connectionHealthType")
+@XmlEnum
+public enum ConnectionHealthType {
+
+    @XmlEnumValue("connected")
+    CONNECTED("connected"),
+    @XmlEnumValue("partiallyConnected")
+    PARTIALLY_CONNECTED("partiallyConnected"),
+    @XmlEnumValue("disconnected")
+    DISCONNECTED("disconnected"),
+    @XmlEnumValue("unknown")
+    UNKNOWN("unknown");
+    private final String value;
+
+    ConnectionHealthType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static ConnectionHealthType fromValue(String v) {
+        for (ConnectionHealthType c: ConnectionHealthType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
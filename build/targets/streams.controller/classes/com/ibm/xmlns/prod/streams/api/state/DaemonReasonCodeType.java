@@ -0,0 +1,64 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for daemonReasonCodeType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="daemonReasonCodeType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="none"/&gt;
+ *     &lt;enumeration value="client_call_failure"/&gt;
+ *     &lt;enumeration value="LDAP_failure"/&gt;
+ *     &lt;enumeration value="ZooKeeper_failure"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "daemonReasonCodeType")
+@XmlEnum
+public enum DaemonReasonCodeType {
+
+    @XmlEnumValue("none")
+    NONE("none"),
+    @XmlEnumValue("client_call_failure")
+    CLIENT_CALL_FAILURE("client_call_failure"),
+    @XmlEnumValue("LDAP_failure")
+    LDAP_FAILURE("LDAP_failure"),
+    @XmlEnumValue("ZooKeeper_failure")
+    ZOO_KEEPER_FAILURE("ZooKeeper_failure");
+    private final String value;
+
+    DaemonReasonCodeType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static DaemonReasonCodeType fromValue(String v) {
+        for (DaemonReasonCodeType c: DaemonReasonCodeType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,73 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for hostSchedulableStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="hostSchedulableStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="degraded"/&gt;
+ *     &lt;enumeration value="draining"/&gt;
+ *     &lt;enumeration value="failed"/&gt;
+ *     &lt;enumeration value="notApplicable"/&gt;
+ *     &lt;enumeration value="schedulable"/&gt;
+ *     &lt;enumeration value="starting"/&gt;
+ *     &lt;enumeration value="stopped"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "hostSchedulableStateType")
+@XmlEnum
+public enum HostSchedulableStateType {
+
+    @XmlEnumValue("degraded")
+    DEGRADED("degraded"),
+    @XmlEnumValue("draining")
+    DRAINING("draining"),
+    @XmlEnumValue("failed")
+    FAILED("failed"),
+    @XmlEnumValue("notApplicable")
+    NOT_APPLICABLE("notApplicable"),
+    @XmlEnumValue("schedulable")
+    SCHEDULABLE("schedulable"),
+    @XmlEnumValue("starting")
+    STARTING("starting"),
+    @XmlEnumValue("stopped")
+    STOPPED("stopped");
+    private final String value;
+
+    HostSchedulableStateType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static HostSchedulableStateType fromValue(String v) {
+        for (HostSchedulableStateType c: HostSchedulableStateType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
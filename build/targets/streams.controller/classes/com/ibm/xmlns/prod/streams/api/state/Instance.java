@@ -0,0 +1,214 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *       The root element of the document which represents a Streams instance.
+ *       The following information might be available for the instance. The
+ *       information that is provided is based on the requested objects and
+ *       filters.
+ * 
+ *       id          - The instance ID associated with this request.
+ *       requestTime - The time the command request was processed.
+ *                     The time is represented as the number of seconds
+ *                     since the epoch (January 1, 1970 00:00:00 UTC).
+ *       state       - The state of the resources in the instance.
+ *       host        - The list of resources that are configured for the instance.
+ *       job         - The list of jobs that are running in the instance.
+ *       
+ * 
+ * <p>Java class for anonymous complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice&gt;
+ *         &lt;element name="host" type="{http://www.ibm.com/xmlns/prod/streams/api/state}hostType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="job" type="{http://www.ibm.com/xmlns/prod/streams/api/state}jobType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}instanceStateType" /&gt;
+ *       &lt;attribute name="requestTime" use="required" type="{http://www.ibm.com/xmlns/prod/streams/api/state}timeInSeconds" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "", propOrder = {
+    "jobs",
+    "hosts"
+})
+@XmlRootElement(name = "instance")
+public class Instance {
+
+    @XmlElement(name = "job")
+    protected List<JobType> jobs;
+    @XmlElement(name = "host")
+    protected List<HostType> hosts;
+    @XmlAttribute(name = "id", required = true)
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String id;
+    @XmlAttribute(name = "state")
+    protected InstanceStateType state;
+    @XmlAttribute(name = "requestTime", required = true)
+    protected BigInteger requestTime;
+
+    /**
+     * Gets the value of the jobs property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the jobs property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getJobs().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link JobType }
+     * 
+     * 
+     */
+    public List<JobType> getJobs() {
+        if (jobs == null) {
+            jobs = new ArrayList<JobType>();
+        }
+        return this.jobs;
+    }
+
+    /**
+     * Gets the value of the hosts property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the hosts property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getHosts().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link HostType }
+     * 
+     * 
+     */
+    public List<HostType> getHosts() {
+        if (hosts == null) {
+            hosts = new ArrayList<HostType>();
+        }
+        return this.hosts;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setId(String value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link InstanceStateType }
+     *     
+     */
+    public InstanceStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link InstanceStateType }
+     *     
+     */
+    public void setState(InstanceStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the requestTime property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getRequestTime() {
+        return requestTime;
+    }
+
+    /**
+     * Sets the value of the requestTime property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setRequestTime(BigInteger value) {
+        this.requestTime = value;
+    }
+
+}
@@ -0,0 +1,73 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for instanceStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="instanceStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="failed"/&gt;
+ *     &lt;enumeration value="partiallyFailed"/&gt;
+ *     &lt;enumeration value="partiallyRunning"/&gt;
+ *     &lt;enumeration value="running"/&gt;
+ *     &lt;enumeration value="starting"/&gt;
+ *     &lt;enumeration value="stopped"/&gt;
+ *     &lt;enumeration value="stopping"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "instanceStateType")
+@XmlEnum
+public enum InstanceStateType {
+
+    @XmlEnumValue("failed")
+    FAILED("failed"),
+    @XmlEnumValue("partiallyFailed")
+    PARTIALLY_FAILED("partiallyFailed"),
+    @XmlEnumValue("partiallyRunning")
+    PARTIALLY_RUNNING("partiallyRunning"),
+    @XmlEnumValue("running")
+    RUNNING("running"),
+    @XmlEnumValue("starting")
+    STARTING("starting"),
+    @XmlEnumValue("stopped")
+    STOPPED("stopped"),
+    @XmlEnumValue("stopping")
+    STOPPING("stopping");
+    private final String value;
+
+    InstanceStateType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static InstanceStateType fromValue(String v) {
+        for (InstanceStateType c: InstanceStateType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
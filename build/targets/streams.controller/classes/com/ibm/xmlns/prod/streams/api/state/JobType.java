@@ -0,0 +1,290 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+
+/**
+ * 
+ *       This provides the information for a job that is running in a Streams instance.
+ *       The following information is provided:
+ * 
+ *       id            	- The job identifier.
+ *       name          	- The job name.
+ *       applicationName	- The application name that is associated with the job.
+ *       state         	- The state of the job.
+ *       healthSummary 	- A summary of the overall health of the job. The health
+ *                       	  summary is based on the health of the processing elements
+ *                           in the job.
+ *       user          	- The user that submitted the job.
+ *       submitTime    	- The time the job was submitted to the instance. This time is
+ *                           represented in the number of seconds since the epoch.
+ *       pe            	- The set of processing elements running in this job.
+ *     
+ * 
+ * <p>Java class for jobType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="jobType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="pe" type="{http://www.ibm.com/xmlns/prod/streams/api/state}peType" maxOccurs="unbounded"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="applicationName" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}jobStateType" /&gt;
+ *       &lt;attribute name="healthSummary" type="{http://www.ibm.com/xmlns/prod/streams/api/state}healthSummaryType" /&gt;
+ *       &lt;attribute name="user" type="{http://www.w3.org/2001/XMLSchema}token" /&gt;
+ *       &lt;attribute name="submitTime" type="{http://www.ibm.com/xmlns/prod/streams/api/state}timeInSeconds" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "jobType", propOrder = {
+    "pes"
+})
+public class JobType {
+
+    @XmlElement(name = "pe", required = true)
+    protected List<PeType> pes;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "name", required = true)
+    protected String name;
+    @XmlAttribute(name = "applicationName", required = true)
+    protected String applicationName;
+    @XmlAttribute(name = "state")
+    protected JobStateType state;
+    @XmlAttribute(name = "healthSummary")
+    protected HealthSummaryType healthSummary;
+    @XmlAttribute(name = "user")
+    @XmlJavaTypeAdapter(CollapsedStringAdapter.class)
+    @XmlSchemaType(name = "token")
+    protected String user;
+    @XmlAttribute(name = "submitTime")
+    protected BigInteger submitTime;
+
+    /**
+     * Gets the value of the pes property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the pes property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getPes().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link PeType }
+     * 
+     * 
+     */
+    public List<PeType> getPes() {
+        if (pes == null) {
+            pes = new ArrayList<PeType>();
+        }
+        return this.pes;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the applicationName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    /**
+     * Sets the value of the applicationName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setApplicationName(String value) {
+        this.applicationName = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link JobStateType }
+     *     
+     */
+    public JobStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link JobStateType }
+     *     
+     */
+    public void setState(JobStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the healthSummary property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HealthSummaryType }
+     *     
+     */
+    public HealthSummaryType getHealthSummary() {
+        return healthSummary;
+    }
+
+    /**
+     * Sets the value of the healthSummary property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HealthSummaryType }
+     *     
+     */
+    public void setHealthSummary(HealthSummaryType value) {
+        this.healthSummary = value;
+    }
+
+    /**
+     * Gets the value of the user property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * Sets the value of the user property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setUser(String value) {
+        this.user = value;
+    }
+
+    /**
+     * Gets the value of the submitTime property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getSubmitTime() {
+        return submitTime;
+    }
+
+    /**
+     * Sets the value of the submitTime property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setSubmitTime(BigInteger value) {
+        this.submitTime = value;
+    }
+
+}
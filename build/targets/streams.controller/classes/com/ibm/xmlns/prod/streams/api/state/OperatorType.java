@@ -0,0 +1,248 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides information about an operator in a Streams instance.
+ *       The following information is available for an operator:
+ * 
+ *       name       - The name of the operator. If the operator is parallelized, the
+ *                    channelIndex value is encoded in the name.
+ *       metric     - The set of metrics available for the operator.
+ *       parallelChannel - The list of channels of the parallel regions used to route
+ *                         tuple data for this operator.
+ *                         The returned channel information is ordered with the
+ *                         innermost region information first and the outermost last.
+ *                         The list is empty if the operator is not parallelized.
+ *       inputPort  - The set of input ports for the operator.
+ *       outputPort - The set of output ports for the operator.
+ *       logicalName  - The name of the logical operator. If the operator is not parallelized,
+ *                      the logicalName is the same as the name.
+ *     
+ * 
+ * <p>Java class for operatorType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="operatorType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="metric" type="{http://www.ibm.com/xmlns/prod/streams/api/state}metricType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="parallelChannel" type="{http://www.ibm.com/xmlns/prod/streams/api/state}parallelChannelType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="inputPort" type="{http://www.ibm.com/xmlns/prod/streams/api/state}inputPortType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="outputPort" type="{http://www.ibm.com/xmlns/prod/streams/api/state}outputPortType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="logicalName" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "operatorType", propOrder = {
+    "metrics",
+    "parallelChannels",
+    "inputPorts",
+    "outputPorts"
+})
+public class OperatorType {
+
+    @XmlElement(name = "metric")
+    protected List<MetricType> metrics;
+    @XmlElement(name = "parallelChannel")
+    protected List<ParallelChannelType> parallelChannels;
+    @XmlElement(name = "inputPort")
+    protected List<InputPortType> inputPorts;
+    @XmlElement(name = "outputPort")
+    protected List<OutputPortType> outputPorts;
+    @XmlAttribute(name = "name", required = true)
+    protected String name;
+    @XmlAttribute(name = "logicalName")
+    protected String logicalName;
+
+    /**
+     * Gets the value of the metrics property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the metrics property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getMetrics().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MetricType }
+     * 
+     * 
+     */
+    public List<MetricType> getMetrics() {
+        if (metrics == null) {
+            metrics = new ArrayList<MetricType>();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * Gets the value of the parallelChannels property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the parallelChannels property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getParallelChannels().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ParallelChannelType }
+     * 
+     * 
+     */
+    public List<ParallelChannelType> getParallelChannels() {
+        if (parallelChannels == null) {
+            parallelChannels = new ArrayList<ParallelChannelType>();
+        }
+        return this.parallelChannels;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the inputPorts property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInputPorts().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link InputPortType }
+     * 
+     * 
+     */
+    public List<InputPortType> getInputPorts() {
+        if (inputPorts == null) {
+            inputPorts = new ArrayList<InputPortType>();
+        }
+        return this.inputPorts;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the outputPorts property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getOutputPorts().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OutputPortType }
+     * 
+     * 
+     */
+    public List<OutputPortType> getOutputPorts() {
+        if (outputPorts == null) {
+            outputPorts = new ArrayList<OutputPortType>();
+        }
+        return this.outputPorts;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the logicalName property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getLogicalName() {
+        return logicalName;
+    }
+
+    /**
+     * Sets the value of the logicalName property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setLogicalName(String value) {
+        this.logicalName = value;
+    }
+
+}
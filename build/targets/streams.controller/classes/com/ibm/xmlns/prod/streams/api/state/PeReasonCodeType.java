@@ -0,0 +1,79 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for peReasonCodeType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="peReasonCodeType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="automatic"/&gt;
+ *     &lt;enumeration value="crash"/&gt;
+ *     &lt;enumeration value="failure"/&gt;
+ *     &lt;enumeration value="hostFailure"/&gt;
+ *     &lt;enumeration value="none"/&gt;
+ *     &lt;enumeration value="setCapabilitiesFailure"/&gt;
+ *     &lt;enumeration value="userRequest"/&gt;
+ *     &lt;enumeration value="voluntary"/&gt;
+ *     &lt;enumeration value="noViableResource"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "peReasonCodeType")
+@XmlEnum
+public enum PeReasonCodeType {
+
+    @XmlEnumValue("automatic")
+    AUTOMATIC("automatic"),
+    @XmlEnumValue("crash")
+    CRASH("crash"),
+    @XmlEnumValue("failure")
+    FAILURE("failure"),
+    @XmlEnumValue("hostFailure")
+    HOST_FAILURE("hostFailure"),
+    @XmlEnumValue("none")
+    NONE("none"),
+    @XmlEnumValue("setCapabilitiesFailure")
+    SET_CAPABILITIES_FAILURE("setCapabilitiesFailure"),
+    @XmlEnumValue("userRequest")
+    USER_REQUEST("userRequest"),
+    @XmlEnumValue("voluntary")
+    VOLUNTARY("voluntary"),
+    @XmlEnumValue("noViableResource")
+    NO_VIABLE_RESOURCE("noViableResource");
+    private final String value;
+
+    PeReasonCodeType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static PeReasonCodeType fromValue(String v) {
+        for (PeReasonCodeType c: PeReasonCodeType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
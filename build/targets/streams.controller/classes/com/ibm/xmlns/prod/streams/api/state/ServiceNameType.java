@@ -0,0 +1,70 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for serviceNameType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="serviceNameType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="app"/&gt;
+ *     &lt;enumeration value="hc"/&gt;
+ *     &lt;enumeration value="sam"/&gt;
+ *     &lt;enumeration value="sch"/&gt;
+ *     &lt;enumeration value="srm"/&gt;
+ *     &lt;enumeration value="view"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "serviceNameType")
+@XmlEnum
+public enum ServiceNameType {
+
+    @XmlEnumValue("app")
+    APP("app"),
+    @XmlEnumValue("hc")
+    HC("hc"),
+    @XmlEnumValue("sam")
+    SAM("sam"),
+    @XmlEnumValue("sch")
+    SCH("sch"),
+    @XmlEnumValue("srm")
+    SRM("srm"),
+    @XmlEnumValue("view")
+    VIEW("view");
+    private final String value;
+
+    ServiceNameType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static ServiceNameType fromValue(String v) {
+        for (ServiceNameType c: ServiceNameType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,141 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides the state information for an instance service. The following
+ *       information is provided:
+ * 
+ *       name  - The name of the service.
+ *       state - The state of the service.
+ *     
+ * 
+ * <p>Java class for serviceType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="serviceType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="reasonCode" type="{http://www.ibm.com/xmlns/prod/streams/api/state}daemonReasonCodeType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.ibm.com/xmlns/prod/streams/api/state}serviceNameType" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}serviceStateType" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "serviceType", propOrder = {
+    "reasonCodes"
+})
+public class ServiceType {
+
+    @XmlElement(name = "reasonCode")
+    @XmlSchemaType(name = "string")
+    protected List<DaemonReasonCodeType> reasonCodes;
+    @XmlAttribute(name = "name", required = true)
+    protected ServiceNameType name;
+    @XmlAttribute(name = "state")
+    protected ServiceStateType state;
+
+    /**
+     * Gets the value of the reasonCodes property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the reasonCodes property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getReasonCodes().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link DaemonReasonCodeType }
+     * 
+     * 
+     */
+    public List<DaemonReasonCodeType> getReasonCodes() {
+        if (reasonCodes == null) {
+            reasonCodes = new ArrayList<DaemonReasonCodeType>();
+        }
+        return this.reasonCodes;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ServiceNameType }
+     *     
+     */
+    public ServiceNameType getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ServiceNameType }
+     *     
+     */
+    public void setName(ServiceNameType value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ServiceStateType }
+     *     
+     */
+    public ServiceStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ServiceStateType }
+     *     
+     */
+    public void setState(ServiceStateType value) {
+        this.state = value;
+    }
+
+}
@@ -0,0 +1,64 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for healthSummaryType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="healthSummaryType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="healthy"/&gt;
+ *     &lt;enumeration value="partiallyHealthy"/&gt;
+ *     &lt;enumeration value="partiallyUnhealthy"/&gt;
+ *     &lt;enumeration value="unhealthy"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "healthSummaryType")
+@XmlEnum
+public enum HealthSummaryType {
+
+    @XmlEnumValue("healthy")
+    HEALTHY("healthy"),
+    @XmlEnumValue("partiallyHealthy")
+    PARTIALLY_HEALTHY("partiallyHealthy"),
+    @XmlEnumValue("partiallyUnhealthy")
+    PARTIALLY_UNHEALTHY("partiallyUnhealthy"),
+    @XmlEnumValue("unhealthy")
+    UNHEALTHY("unhealthy");
+    private final String value;
+
+    HealthSummaryType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static HealthSummaryType fromValue(String v) {
+        for (HealthSummaryType c: HealthSummaryType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
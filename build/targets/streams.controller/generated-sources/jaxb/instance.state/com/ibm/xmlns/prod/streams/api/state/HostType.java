@@ -0,0 +1,238 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides the information for each resource that is configured for the instance.
+ *       The following information is provided for each resource:
+ * 
+ *       id               - The resource identifier.
+ *       isMetricsStale   - A Boolean value that indicates that the metrics that are available
+ *                          for this resource were not retrieved on the most recent metrics
+ *                          collection interval. Data from a previous metrics collection interval
+ *                          is supplied. The frequency of metric collections is managed by the
+ *                          hc.metricCollectionInterval instance property.
+ *       state            - The state of the resource in the instance.
+ *       schedulableState - Indicates whether the resource is available for scheduling application jobs.
+ *       service          - The list of services that are running on the resource.
+ *       metric           - The list of metrics that are available for this resource.
+ *     
+ * 
+ * <p>Java class for hostType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="hostType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="metric" type="{http://www.ibm.com/xmlns/prod/streams/api/state}metricType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="service" type="{http://www.ibm.com/xmlns/prod/streams/api/state}serviceType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}hostStateType" /&gt;
+ *       &lt;attribute name="schedulableState" type="{http://www.ibm.com/xmlns/prod/streams/api/state}hostSchedulableStateType" /&gt;
+ *       &lt;attribute name="isMetricsStale" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "hostType", propOrder = {
+    "metrics",
+    "services"
+})
+public class HostType {
+
+    @XmlElement(name = "metric")
+    protected List<MetricType> metrics;
+    @XmlElement(name = "service")
+    protected List<ServiceType> services;
+    @XmlAttribute(name = "id", required = true)
+    protected String id;
+    @XmlAttribute(name = "state")
+    protected HostStateType state;
+    @XmlAttribute(name = "schedulableState")
+    protected HostSchedulableStateType schedulableState;
+    @XmlAttribute(name = "isMetricsStale")
+    protected Boolean isMetricsStale;
+
+    /**
+     * Gets the value of the metrics property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the metrics property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getMetrics().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MetricType }
+     * 
+     * 
+     */
+    public List<MetricType> getMetrics() {
+        if (metrics == null) {
+            metrics = new ArrayList<MetricType>();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * Gets the value of the services property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the services property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getServices().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link ServiceType }
+     * 
+     * 
+     */
+    public List<ServiceType> getServices() {
+        if (services == null) {
+            services = new ArrayList<ServiceType>();
+        }
+        return this.services;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setId(String value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HostStateType }
+     *     
+     */
+    public HostStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HostStateType }
+     *     
+     */
+    public void setState(HostStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the schedulableState property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HostSchedulableStateType }
+     *     
+     */
+    public HostSchedulableStateType getSchedulableState() {
+        return schedulableState;
+    }
+
+    /**
+     * Sets the value of the schedulableState property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HostSchedulableStateType }
+     *     
+     */
+    public void setSchedulableState(HostSchedulableStateType value) {
+        this.schedulableState = value;
+    }
+
+    /**
+     * Gets the value of the isMetricsStale property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isIsMetricsStale() {
+        if (isMetricsStale == null) {
+            return false;
+        } else {
+            return isMetricsStale;
+        }
+    }
+
+    /**
+     * Sets the value of the isMetricsStale property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIsMetricsStale(Boolean value) {
+        this.isMetricsStale = value;
+    }
+
+}
@@ -0,0 +1,67 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlEnumValue;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * <p>Java class for jobStateType.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * <p>
+ * <pre>
+ * &lt;simpleType name="jobStateType"&gt;
+ *   &lt;restriction base="{http://www.w3.org/2001/XMLSchema}string"&gt;
+ *     &lt;enumeration value="cancelled"/&gt;
+ *     &lt;enumeration value="cancelling"/&gt;
+ *     &lt;enumeration value="constructed"/&gt;
+ *     &lt;enumeration value="failed"/&gt;
+ *     &lt;enumeration value="running"/&gt;
+ *   &lt;/restriction&gt;
+ * &lt;/simpleType&gt;
+ * </pre>
+ * 
+ */
+@XmlType(name = "jobStateType")
+@XmlEnum
+public enum JobStateType {
+
+    @XmlEnumValue("cancelled")
+    CANCELLED("cancelled"),
+    @XmlEnumValue("cancelling")
+    CANCELLING("cancelling"),
+    @XmlEnumValue("constructed")
+    CONSTRUCTED("constructed"),
+    @XmlEnumValue("failed")
+    FAILED("failed"),
+    @XmlEnumValue("running")
+    RUNNING("running");
+    private final String value;
+
+    JobStateType(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static JobStateType fromValue(String v) {
+        for (JobStateType c: JobStateType.values()) {
+            if (c.value.equals(v)) {
+                return c;
+            }
+        }
+        throw new IllegalArgumentException(v);
+    }
+
+}
@@ -0,0 +1,172 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.math.BigInteger;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides a metric that is associated with a Streams object. Each
+ *       metric has the following information:
+ * 
+ *       name               - The name of the metric.
+ *       metricValue        - The value of the metric. The metricValue element
+ *                            contains an xsi:type attribute that defines
+ *                            the type of the metric value. All metrics of type
+ *                            streams:longType, which represents a signed long data type.
+ *                            This data type is equivalent to an int64 in SPL.
+ *                            The metricValue element also contains a value attribute that
+ *                            contains the actual value of the metric.
+ *       lastChangeObserved - The last time the metric was changed by the host controller
+ *                            service. The time is represented in seconds since the epoch.
+ *       userDefined        - An indication of whether the metric is defined by
+ *                            an operator. If false, the metric is managed by IBM Streams.
+ *     
+ * 
+ * <p>Java class for metricType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="metricType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;choice&gt;
+ *         &lt;element name="metricValue" type="{http://www.ibm.com/xmlns/prod/streams/api/state}baseType"/&gt;
+ *       &lt;/choice&gt;
+ *       &lt;attribute name="name" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="lastChangeObserved" use="required" type="{http://www.ibm.com/xmlns/prod/streams/api/state}timeInSeconds" /&gt;
+ *       &lt;attribute name="userDefined" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "metricType", propOrder = {
+    "metricValue"
+})
+public class MetricType {
+
+    protected BaseType metricValue;
+    @XmlAttribute(name = "name", required = true)
+    protected String name;
+    @XmlAttribute(name = "lastChangeObserved", required = true)
+    protected BigInteger lastChangeObserved;
+    @XmlAttribute(name = "userDefined")
+    protected Boolean userDefined;
+
+    /**
+     * Gets the value of the metricValue property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BaseType }
+     *     
+     */
+    public BaseType getMetricValue() {
+        return metricValue;
+    }
+
+    /**
+     * Sets the value of the metricValue property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BaseType }
+     *     
+     */
+    public void setMetricValue(BaseType value) {
+        this.metricValue = value;
+    }
+
+    /**
+     * Gets the value of the name property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the value of the name property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setName(String value) {
+        this.name = value;
+    }
+
+    /**
+     * Gets the value of the lastChangeObserved property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLastChangeObserved() {
+        return lastChangeObserved;
+    }
+
+    /**
+     * Sets the value of the lastChangeObserved property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLastChangeObserved(BigInteger value) {
+        this.lastChangeObserved = value;
+    }
+
+    /**
+     * Gets the value of the userDefined property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isUserDefined() {
+        if (userDefined == null) {
+            return false;
+        } else {
+            return userDefined;
+        }
+    }
+
+    /**
+     * Sets the value of the userDefined property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setUserDefined(Boolean value) {
+        this.userDefined = value;
+    }
+
+}
@@ -0,0 +1,135 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import javax.xml.bind.annotation.XmlRegistry;
+
+
+/**
+ * This object contains factory methods for each 
+ * Java content interface and Java element interface 
+ * generated in the com.ibm.xmlns.prod.streams.api.state package. 
+ * <p>An ObjectFactory allows you to programatically 
+ * construct new instances of the Java representation 
+ * for XML content. The Java representation of XML 
+ * content can consist of schema derived interfaces 
+ * and classes representing the binding of schema 
+ * type definitions, element declarations and model 
+ * groups.  Factory methods for each of these are 
+ * provided in this class.
+ * 
+ */
+@XmlRegistry
+public class ObjectFactory {
+
+
+    /**
+     * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: com.ibm.xmlns.prod.streams.api.state
+     * 
+     */
+    public ObjectFactory() {
+    }
+
+    /**
+     * Create an instance of {@link Instance }
+     * 
+     */
+    public Instance createInstance() {
+        return new Instance();
+    }
+
+    /**
+     * Create an instance of {@link JobType }
+     * 
+     */
+    public JobType createJobType() {
+        return new JobType();
+    }
+
+    /**
+     * Create an instance of {@link HostType }
+     * 
+     */
+    public HostType createHostType() {
+        return new HostType();
+    }
+
+    /**
+     * Create an instance of {@link LongType }
+     * 
+     */
+    public LongType createLongType() {
+        return new LongType();
+    }
+
+    /**
+     * Create an instance of {@link MetricType }
+     * 
+     */
+    public MetricType createMetricType() {
+        return new MetricType();
+    }
+
+    /**
+     * Create an instance of {@link ServiceType }
+     * 
+     */
+    public ServiceType createServiceType() {
+        return new ServiceType();
+    }
+
+    /**
+     * Create an instance of {@link PeType }
+     * 
+     */
+    public PeType createPeType() {
+        return new PeType();
+    }
+
+    /**
+     * Create an instance of {@link OperatorType }
+     * 
+     */
+    public OperatorType createOperatorType() {
+        return new OperatorType();
+    }
+
+    /**
+     * Create an instance of {@link ParallelChannelType }
+     * 
+     */
+    public ParallelChannelType createParallelChannelType() {
+        return new ParallelChannelType();
+    }
+
+    /**
+     * Create an instance of {@link OutputPortType }
+     * 
+     */
+    public OutputPortType createOutputPortType() {
+        return new OutputPortType();
+    }
+
+    /**
+     * Create an instance of {@link InputPortType }
+     * 
+     */
+    public InputPortType createInputPortType() {
+        return new InputPortType();
+    }
+
+    /**
+     * Create an instance of {@link PeConnectionType }
+     * 
+     */
+    public PeConnectionType createPeConnectionType() {
+        return new PeConnectionType();
+    }
+
+}
@@ -0,0 +1,209 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides information about a connection from a PE output
+ *       port to a PE input port. The following information is available for
+ *       the connection:
+ * 
+ *       inputPeId  - The ID of the PE that is the target of this connection.
+ *       inputPortIndex - The port for the input PE that is the target of this
+ *                    connection
+ *       state      - The connection state.
+ *       required   - Whether the connection is required for IBM Streams
+ *                    to start processing messages. Possible values are:
+ *                    true for a required (static) connection, and
+ *                    false for an optional (dynamic) connection.
+ *       metric     - The set of metrics available for this connection.
+ *     
+ * 
+ * <p>Java class for peConnectionType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peConnectionType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="metric" type="{http://www.ibm.com/xmlns/prod/streams/api/state}metricType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="inputPeId" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="inputPortIndex" use="required" type="{http://www.w3.org/2001/XMLSchema}nonNegativeInteger" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}connectionStateType" /&gt;
+ *       &lt;attribute name="required" type="{http://www.w3.org/2001/XMLSchema}boolean" default="true" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peConnectionType", propOrder = {
+    "metrics"
+})
+public class PeConnectionType {
+
+    @XmlElement(name = "metric")
+    protected List<MetricType> metrics;
+    @XmlAttribute(name = "inputPeId", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger inputPeId;
+    @XmlAttribute(name = "inputPortIndex", required = true)
+    @XmlSchemaType(name = "nonNegativeInteger")
+    protected BigInteger inputPortIndex;
+    @XmlAttribute(name = "state")
+    protected ConnectionStateType state;
+    @XmlAttribute(name = "required")
+    protected Boolean required;
+
+    /**
+     * Gets the value of the metrics property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the metrics property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getMetrics().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MetricType }
+     * 
+     * 
+     */
+    public List<MetricType> getMetrics() {
+        if (metrics == null) {
+            metrics = new ArrayList<MetricType>();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * Gets the value of the inputPeId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getInputPeId() {
+        return inputPeId;
+    }
+
+    /**
+     * Sets the value of the inputPeId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setInputPeId(BigInteger value) {
+        this.inputPeId = value;
+    }
+
+    /**
+     * Gets the value of the inputPortIndex property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getInputPortIndex() {
+        return inputPortIndex;
+    }
+
+    /**
+     * Sets the value of the inputPortIndex property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setInputPortIndex(BigInteger value) {
+        this.inputPortIndex = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public ConnectionStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionStateType }
+     *     
+     */
+    public void setState(ConnectionStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the required property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isRequired() {
+        if (required == null) {
+            return true;
+        } else {
+            return required;
+        }
+    }
+
+    /**
+     * Sets the value of the required property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setRequired(Boolean value) {
+        this.required = value;
+    }
+
+}
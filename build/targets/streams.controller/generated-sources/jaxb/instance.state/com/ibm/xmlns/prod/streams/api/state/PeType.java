@@ -0,0 +1,483 @@
+//
+// This file was generated by the JavaTM Architecture for XML Binding(JAXB) Reference Implementation, v2.3.0 
+// See <a href="https://javaee.github.io/jaxb-v2/">https://javaee.github.io/jaxb-v2/</a> 
+// Any modifications to this file will be lost upon recompilation of the source schema. 
+// Generated on: 2026.10.17 at 04:16:17 AM UTC 
+//
+
+
+package com.ibm.xmlns.prod.streams.api.state;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlSchemaType;
+import javax.xml.bind.annotation.XmlType;
+
+
+/**
+ * 
+ *       This provides the information for a processing element (PE) that is running in an instance.
+ *       The following information is provided for each PE:
+ * 
+ *       id                  - The PE identifier.
+ *       isMetricsStale      - A Boolean value that indicates that the metrics available for this PE
+ *                             were not retrieved on the most recent metrics collection interval.
+ *                             Data from a previous metrics collection interval is provided.
+ *                             The frequency of metric collections is managed by the
+ *                             hc.metricCollectionInterval instance configuration property.
+ *       host                - The host that the PE is running on.
+ *       processId           - The process ID associated with the PE.
+ *       state               - The current state of the PE.
+ *       reasonCode          - The reason code provides more information about the current state of the PE.
+ *       healthSummary       - A summary of the overall health of the PE. The health
+ *                             summary is based on the PE's state and the state of
+ *                             the connections within the PE.
+ *       requiredConnections - Indicates the health of the required connections for the PE.
+ *       optionalConnections - Indicates the health of the optional connections for the PE.
+ *       lastMetricCollection- The last metric collection period that the PE reported
+ *                             metrics to the host controller service. This information
+ *                             is included if metrics were requested.
+ *       metric              - The list of metrics available for the PE. This is included
+ *                             if metrics were requested.
+ *       operator            - The set of operators that is running in this PE.
+ *       inputPort           - The set of input ports for the PE.
+ *       outputPort          - The set of output ports for the PE.
+ *     
+ * 
+ * <p>Java class for peType complex type.
+ * 
+ * <p>The following schema fragment specifies the expected content contained within this class.
+ * 
+ * <pre>
+ * &lt;complexType name="peType"&gt;
+ *   &lt;complexContent&gt;
+ *     &lt;restriction base="{http://www.w3.org/2001/XMLSchema}anyType"&gt;
+ *       &lt;sequence&gt;
+ *         &lt;element name="metric" type="{http://www.ibm.com/xmlns/prod/streams/api/state}metricType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="operator" type="{http://www.ibm.com/xmlns/prod/streams/api/state}operatorType" maxOccurs="unbounded"/&gt;
+ *         &lt;element name="inputPort" type="{http://www.ibm.com/xmlns/prod/streams/api/state}inputPortType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *         &lt;element name="outputPort" type="{http://www.ibm.com/xmlns/prod/streams/api/state}outputPortType" maxOccurs="unbounded" minOccurs="0"/&gt;
+ *       &lt;/sequence&gt;
+ *       &lt;attribute name="id" use="required" type="{http://www.w3.org/2001/XMLSchema}unsignedLong" /&gt;
+ *       &lt;attribute name="host" use="required" type="{http://www.w3.org/2001/XMLSchema}string" /&gt;
+ *       &lt;attribute name="processId" use="required" type="{http://www.w3.org/2001/XMLSchema}nonNegativeInteger" /&gt;
+ *       &lt;attribute name="state" type="{http://www.ibm.com/xmlns/prod/streams/api/state}peStateType" /&gt;
+ *       &lt;attribute name="reasonCode" type="{http://www.ibm.com/xmlns/prod/streams/api/state}peReasonCodeType" /&gt;
+ *       &lt;attribute name="healthSummary" type="{http://www.ibm.com/xmlns/prod/streams/api/state}healthSummaryType" /&gt;
+ *       &lt;attribute name="requiredConnections" type="{http://www.ibm.com/xmlns/prod/streams/api/state}connectionHealthType" /&gt;
+ *       &lt;attribute name="optionalConnections" type="{http://www.ibm.com/xmlns/prod/streams/api/state}connectionHealthType" /&gt;
+ *       &lt;attribute name="lastMetricCollection" type="{http://www.ibm.com/xmlns/prod/streams/api/state}timeInSeconds" /&gt;
+ *       &lt;attribute name="isMetricsStale" type="{http://www.w3.org/2001/XMLSchema}boolean" default="false" /&gt;
+ *     &lt;/restriction&gt;
+ *   &lt;/complexContent&gt;
+ * &lt;/complexType&gt;
+ * </pre>
+ * 
+ * 
+ */
+@XmlAccessorType(XmlAccessType.FIELD)
+@XmlType(name = "peType", propOrder = {
+    "metrics",
+    "operators",
+    "inputPorts",
+    "outputPorts"
+})
+public class PeType {
+
+    @XmlElement(name = "metric")
+    protected List<MetricType> metrics;
+    @XmlElement(name = "operator", required = true)
+    protected List<OperatorType> operators;
+    @XmlElement(name = "inputPort")
+    protected List<InputPortType> inputPorts;
+    @XmlElement(name = "outputPort")
+    protected List<OutputPortType> outputPorts;
+    @XmlAttribute(name = "id", required = true)
+    @XmlSchemaType(name = "unsignedLong")
+    protected BigInteger id;
+    @XmlAttribute(name = "host", required = true)
+    protected String host;
+    @XmlAttribute(name = "processId", required = true)
+    @XmlSchemaType(name = "nonNegativeInteger")
+    protected BigInteger processId;
+    @XmlAttribute(name = "state")
+    protected PeStateType state;
+    @XmlAttribute(name = "reasonCode")
+    protected PeReasonCodeType reasonCode;
+    @XmlAttribute(name = "healthSummary")
+    protected HealthSummaryType healthSummary;
+    @XmlAttribute(name = "requiredConnections")
+    protected ConnectionHealthType requiredConnections;
+    @XmlAttribute(name = "optionalConnections")
+    protected ConnectionHealthType optionalConnections;
+    @XmlAttribute(name = "lastMetricCollection")
+    protected BigInteger lastMetricCollection;
+    @XmlAttribute(name = "isMetricsStale")
+    protected Boolean isMetricsStale;
+
+    /**
+     * Gets the value of the metrics property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the metrics property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getMetrics().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link MetricType }
+     * 
+     * 
+     */
+    public List<MetricType> getMetrics() {
+        if (metrics == null) {
+            metrics = new ArrayList<MetricType>();
+        }
+        return this.metrics;
+    }
+
+    /**
+     * Gets the value of the operators property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the operators property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getOperators().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OperatorType }
+     * 
+     * 
+     */
+    public List<OperatorType> getOperators() {
+        if (operators == null) {
+            operators = new ArrayList<OperatorType>();
+        }
+        return this.operators;
+    }
+
+    /**
+     * Gets the value of the inputPorts property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the inputPorts property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getInputPorts().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link InputPortType }
+     * 
+     * 
+     */
+    public List<InputPortType> getInputPorts() {
+        if (inputPorts == null) {
+            inputPorts = new ArrayList<InputPortType>();
+        }
+        return this.inputPorts;
+    }
+
+    /**
+     * Gets the value of the outputPorts property.
+     * 
+     * <p>
+     * This accessor method returns a reference to the live list,
+     * not a snapshot. Therefore any modification you make to the
+     * returned list will be present inside the JAXB object.
+     * This is why there is not a <CODE>set</CODE> method for the outputPorts property.
+     * 
+     * <p>
+     * For example, to add a new item, do as follows:
+     * <pre>
+     *    getOutputPorts().add(newItem);
+     * </pre>
+     * 
+     * 
+     * <p>
+     * Objects of the following type(s) are allowed in the list
+     * {@link OutputPortType }
+     * 
+     * 
+     */
+    public List<OutputPortType> getOutputPorts() {
+        if (outputPorts == null) {
+            outputPorts = new ArrayList<OutputPortType>();
+        }
+        return this.outputPorts;
+    }
+
+    /**
+     * Gets the value of the id property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getId() {
+        return id;
+    }
+
+    /**
+     * Sets the value of the id property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setId(BigInteger value) {
+        this.id = value;
+    }
+
+    /**
+     * Gets the value of the host property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link String }
+     *     
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Sets the value of the host property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link String }
+     *     
+     */
+    public void setHost(String value) {
+        this.host = value;
+    }
+
+    /**
+     * Gets the value of the processId property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Sets the value of the processId property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setProcessId(BigInteger value) {
+        this.processId = value;
+    }
+
+    /**
+     * Gets the value of the state property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeStateType }
+     *     
+     */
+    public PeStateType getState() {
+        return state;
+    }
+
+    /**
+     * Sets the value of the state property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeStateType }
+     *     
+     */
+    public void setState(PeStateType value) {
+        this.state = value;
+    }
+
+    /**
+     * Gets the value of the reasonCode property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link PeReasonCodeType }
+     *     
+     */
+    public PeReasonCodeType getReasonCode() {
+        return reasonCode;
+    }
+
+    /**
+     * Sets the value of the reasonCode property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link PeReasonCodeType }
+     *     
+     */
+    public void setReasonCode(PeReasonCodeType value) {
+        this.reasonCode = value;
+    }
+
+    /**
+     * Gets the value of the healthSummary property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link HealthSummaryType }
+     *     
+     */
+    public HealthSummaryType getHealthSummary() {
+        return healthSummary;
+    }
+
+    /**
+     * Sets the value of the healthSummary property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link HealthSummaryType }
+     *     
+     */
+    public void setHealthSummary(HealthSummaryType value) {
+        this.healthSummary = value;
+    }
+
+    /**
+     * Gets the value of the requiredConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionHealthType }
+     *     
+     */
+    public ConnectionHealthType getRequiredConnections() {
+        return requiredConnections;
+    }
+
+    /**
+     * Sets the value of the requiredConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionHealthType }
+     *     
+     */
+    public void setRequiredConnections(ConnectionHealthType value) {
+        this.requiredConnections = value;
+    }
+
+    /**
+     * Gets the value of the optionalConnections property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link ConnectionHealthType }
+     *     
+     */
+    public ConnectionHealthType getOptionalConnections() {
+        return optionalConnections;
+    }
+
+    /**
+     * Sets the value of the optionalConnections property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link ConnectionHealthType }
+     *     
+     */
+    public void setOptionalConnections(ConnectionHealthType value) {
+        this.optionalConnections = value;
+    }
+
+    /**
+     * Gets the value of the lastMetricCollection property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link BigInteger }
+     *     
+     */
+    public BigInteger getLastMetricCollection() {
+        return lastMetricCollection;
+    }
+
+    /**
+     * Sets the value of the lastMetricCollection property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link BigInteger }
+     *     
+     */
+    public void setLastMetricCollection(BigInteger value) {
+        this.lastMetricCollection = value;
+    }
+
+    /**
+     * Gets the value of the isMetricsStale property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public boolean isIsMetricsStale() {
+        if (isMetricsStale == null) {
+            return false;
+        } else {
+            return isMetricsStale;
+        }
+    }
+
+    /**
+     * Sets the value of the isMetricsStale property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setIsMetricsStale(Boolean value) {
+        this.isMetricsStale = value;
+    }
+
+}
@@ -0,0 +1,807 @@
+package com.ibm.streams.messages;
+
+import java.util.ListResourceBundle;
+
+public class StreamsAdminMessages extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISA0001I", "The operation was completed."},
+    {"CDISA0002I", "The following command was canceled: {0}."},
+    {"CDISA0003I", "The {0} build is waiting. The build resource must complete {1} builds before the build will start."},
+    {"CDISA0004I", "The {0} build is waiting for an available build controller."},
+    {"CDISA0006I", "Dynamic allocation of management resources is enabled for the following instance: {0}."},
+    {"CDISA0007I", "Dynamic allocation of application resources is enabled for the following instance: {0}."},
+    {"CDISA0008I", "The installation directory for this package is: {0}. The installation is owned by the {1} user and the {2} group. You can edit these values in the response file of the package."},
+    {"CDISA0009I", "The setup script in this package configures the domain controller to run as an unregistered service for the following domain: {0}. If the domain does not exist, or is not started, you must run the setup script as user root."},
+    {"CDISA0010I", "The {0} service started on the following resource for the {2} domain in the {4} ZooKeeper ensemble: {1}. The service has the following process id: {3}."},
+    {"CDISA0011I", "The {0} service started on the {1} resource for the following domain: {2}."},
+    {"CDISA0012I", "The controller service restarted on the following resource: {0}. The controller recovered {1} Processing Elements for the {2} job with id {3}. The job is running in the following instance: {4}."},
+    {"CDISA0013I", "The Streams Web Service was started."},
+    {"CDISA0014I", "The Streams Web Service was stopped."},
+    {"CDISA0015I", "The log setting of the Streams Web Service was changed to the following value: {0}."},
+    {"CDISA0016I", "The trace setting of the Streams Web Service was changed to the following value: {0}."},
+    {"CDISA0017I", "Creating the following domain: {0}."},
+    {"CDISA0018I", "The following domain was created successfully: {0}."},
+    {"CDISA0019I", "Removing the following domain: {0}."},
+    {"CDISA0020I", "The following domain was removed successfully: {0}."},
+    {"CDISA0021I", "Starting the following domain: {0}."},
+    {"CDISA0022I", "The following domain started successfully: {0}."},
+    {"CDISA0023I", "Stopping the following domain: {0}."},
+    {"CDISA0024I", "The following domain stopped successfully: {0}."},
+    {"CDISA0025I", "Cleaning the {0} resource for the following domain: {1}."},
+    {"CDISA0026I", "Creating the {0} instance for the following domain: {1}."},
+    {"CDISA0027I", "The {0} instance was created successfully for the following domain: {1}."},
+    {"CDISA0028I", "Removing the {0} instance from the following domain {1}."},
+    {"CDISA0029I", "The {0} instance was removed successfully from the following domain {1}."},
+    {"CDISA0030I", "Starting the {0} instance for the following domain: {1}."},
+    {"CDISA0031I", "The {0} instance started successfully for the following domain: {1}."},
+    {"CDISA0032I", "Stopping the {0} instance for the following domain: {1}."},
+    {"CDISA0033I", "The {0} instance stopped successfully for the following domain: {1}."},
+    {"CDISA0034I", "Waiting for all services to start."},
+    {"CDISA0035I", "Waiting for all services to stop."},
+    {"CDISA0036I", "Updating services for the following domain {0}. This may take a few minutes to complete."},
+    {"CDISA0037I", "Starting the {0} service on the following resource: {1}."},
+    {"CDISA0038I", "The {0} service started on the following resource: {1}. The service has the following process id: {2}."},
+    {"CDISA0039I", "The {0} service started on the following resource: {1}. The service has the following process id: {2}. The service uses the following port: {3}."},
+    {"CDISA0040I", "{0} of {1} {2} services started on the following resource: {3}. The service has the following process id: {4}."},
+    {"CDISA0041I", "Stopping the {0} service on the following resource: {1}. The service has the following process id: {2}."},
+    {"CDISA0042I", "The {0} service stopped on the following resource: {1}. The service had the following process id: {2}."},
+    {"CDISA0043I", "Verifying controller services are started on all configured hosts."},
+    {"CDISA0044I", "{0} of {1} {2} services started on the following resource: {3}. The service has the following process id: {4}. The service uses the following port number: {5}."},
+    {"CDISA0045I", "The {0} resource was registered with the following domain: {1}."},
+    {"CDISA0046I", "The {0} system service was registered on the {1} resource for the following domain: {2}."},
+    {"CDISA0047I", "The {0} resource was unregistered from the following domain: {1}."},
+    {"CDISA0048I", "The {0} system service was unregistered on the {1} resource for the following domain: {2}."},
+    {"CDISA0049I", "Starting the {0} system service. The service is starting on the {1} resource for the following domain: {2}."},
+    {"CDISA0050I", "The {0} service started successfully. The service started on the {1} resource for the following domain: {2}."},
+    {"CDISA0051I", "Stopping the {0} service. The service is stopping on the {1} resource for the following domain: {2}."},
+    {"CDISA0052I", "The {0} service stopped successfully. The service stopped on the {1} resource for the following domain: {2}."},
+    {"CDISA0053I", "The {0} service is started on the {1} resource for the following domain: {2}."},
+    {"CDISA0054I", "The {0} service is stopped.  The service is stopped on the {1} resource for the following domain: {2}."},
+    {"CDISA0055I", "Application logs are not available on the {0} resource for the following domain: {1}."},
+    {"CDISA0056I", "All applications for the {0} instance in the {1} domain will run as the following user: {2}."},
+    {"CDISA0057I", "The {0} service is restarting on the following resource: {2}. The resource is allocated to the following domain: {3}. The service has the following process id: {1}."},
+    {"CDISA0058I", "The {0} service is restarting on the following resource: {2}. The resource is allocated to the {3} instance for the following domain: {4}. The service has the following process id: {1}."},
+    {"CDISA0059I", "Updating services for the following instance: {0}. This may take a few minutes to complete."},
+    {"CDISA0060I", "Acquiring lock for the following domain: {0}."},
+    {"CDISA0061I", "Acquiring lock for the {0} instance in the following domain: {1}."},
+    {"CDISA0062I", "ZooKeeper started with the following configuration settings: {0}."},
+    {"CDISA0063I", "ZooKeeper stopped with the following configuration settings: {0}."},
+    {"CDISA0064I", "Starting the authentication and auditing services for the following domain: {0}."},
+    {"CDISA0065I", "Stopping the authentication and auditing services for the following domain: {0}."},
+    {"CDISA0066I", "The following domain does not exist: {0}."},
+    {"CDISA0067I", "Placing the {0} service on the following resource: {1}."},
+    {"CDISA0068I", "Placing {0} copies of the {1} service on the following resource: {2}."},
+    {"CDISA0069I", "The following installation package was successfully created: {0}."},
+    {"CDISA0070I", "Creating the following installation package: {0}."},
+    {"CDISA0071I", "The management API service or JMX service has the following URL: {0}."},
+    {"CDISA0072I", "The Streams Console has the following URL: {0}."},
+    {"CDISA0073I", "Logs were removed successfully from the {0} instance for the following domain: {1}."},
+    {"CDISA0074I", "Network communication has been restored to the {0} resource for the following domain: {1}."},
+    {"CDISA0075I", "The {0} service is running on the following resource: {1}. The service is running for the following domain: {2}."},
+    {"CDISA0076I", "The {0} service is running on the following resource: {1}. The service is running in the {2} instance for the following domain: {3}."},
+    {"CDISA0077I", "Adding the {0} service to the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA0078I", "Adding the {0} service to the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0079I", "Removing the {0} service from the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA0080I", "Removing the {0} service from the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0081I", "Moving the {0} service to the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA0082I", "Moving the {0} service to the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0083I", "Replacing the {0} dynamic resource with {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0085I", "The domain high availability count changed from {0} to {1} for the following domain: {2}."},
+    {"CDISA0086I", "The high availability count changed from {0} to {1} for the {2} instance in following domain: {3}."},
+    {"CDISA0087I", "The {0} resource matches specification {1} for the {2} instance in the following domain: {3}."},
+    {"CDISA0088I", "Replacing the {0} resource with {1} in the following specification: {2}.  The specification is allocated to the {3} instance for the following domain: {4}."},
+    {"CDISA0089I", "Generated key successfully for the following domain: {0}."},
+    {"CDISA0090I", "The following domain was updated successfully: {0}."},
+    {"CDISA0091I", "Application profile is not available on the {0} resource for the {1} job.  The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0092I", "Property {0} with a value of {1} was loaded from the property file."},
+    {"CDISA0093I", "View {0} restarted for domain {1} instance {2}, job {3}, operator {4} port {5}."},
+    {"CDISA0094I", "View started for domain {0} instance {1}, job {2}, operator {3}."},
+    {"CDISA0095I", "Cleaning the {0} resource for the following instance: {1}. The instance is in the following domain: {2}."},
+    {"CDISA0096I", "Dynamic view {0} restarted for domain {1} instance {2}, job {3}, operator {4} port {5}."},
+    {"CDISA0097I", "The {0} resource was a member of specification {1} in the {2} instance for the following domain: {3}. The resource was added to the instance but removed from the specification."},
+    {"CDISA0098I", "The {0} service was restarted on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA0099I", "The {0} service was restarted on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA0100I", "The {0} resource with {1} tags has been acquired from the following resource manager: {2}."},
+    {"CDISA0101I", "Returning the {0} resource to the following resource manager: {1}."},
+    {"CDISA0102I", "Starting registration of {0} jobs."},
+    {"CDISA0103I", "Registration of the following job has completed: {0}"},
+    {"CDISA0104I", "Registration of {0} jobs complete."},
+    {"CDISA0105I", "The installation directory to start the {0} system service for the {1} domain was changed to {2}."},
+    {"CDISA0106I", "The edition license was updated to the IBM Streams edition."},
+    {"CDISA0107I", "An update edition notification was sent to {1} domains in {0} Zookeeper. Domains that are not active will get the update when they are started."},
+    {"CDISA0108I", "The installation is already at the IBM Streams edition."},
+    {"CDISA0109I", "An update edition notification was not sent to domains in the {0} ZooKeeper because there are no domains that are active. Domains that are not active will get the update when they are started."},
+    {"CDISA0110I", "The edition license was updated to the IBM Streams edition with warnings."},
+    {"CDISA0111I", "The following job is already registered: {0}."},
+    {"CDISA0112I", "Successfully reconnected with managed bean: {0} in the {1} instance for the following domain: {2} ."},
+    {"CDISA0113I", "Established connection to the following resource manager: {0}. The resource manager is running on host={1} and port={2}."},
+    {"CDISA0114I", "The {0} application configuration was created successfully for the following domain: {1}"},
+    {"CDISA0115I", "The {0} application configuration was updated successfully for the following domain: {1}"},
+    {"CDISA0116I", "The {0} application configuration was removed successfully for the following domain: {1}"},
+    {"CDISA0117I", "The {0} system service property was set to the following value: \"{1}\". The previous property value was \"{2}\".  This change affects the {3} system service for the {4} domain. This change will not take affect until the system service associated with the domain is restarted. You can use ''streamtool stopdomainhost'' to stop it and ''streamtool startdomainhost'' to start it."},
+    {"CDISA0118I", "The {0} option was not specified. Using the following value from the system service configuration file: {1}."},
+    {"CDISA0119I", "The {0} option was not specified. Using the following default value: {1}."},
+    {"CDISA0120I", "The following property was removed from the {2} system service:  {0}. The previous property value was \"{1}\". When the system service is restarted, the property reverts to the default value of \"{3}\"."},
+    {"CDISA0121I", "The following property was removed from the {2} system service: {0}. The previous property value was \"{1}\". The property will now use the default value of \"{3}\"."},
+    {"CDISA0122I", "The {0} application configuration was created successfully for the following instance: {1}"},
+    {"CDISA0123I", "The {0} application configuration was removed successfully for the following instance: {1}"},
+    {"CDISA0124I", "The {0} application configuration was updated successfully for the following instance: {1}"},
+    {"CDISA0125I", "The {0} domain was upgraded to version {1}."},
+    {"CDISA0126I", "The {0} instance was upgraded to version {1}."},
+    {"CDISA0127I", "The command history for the following device type was cleared: {0}."},
+    {"CDISA0128I", "The {0} instance.startAsVersion property was set to the following version: {1}."},
+    {"CDISA0129I", "IBM Streams is running version: {2}. The {0} instance will start at version: {1}."},
+    {"CDISA0130I", "The {0} application configuration description was updated successfully for the following domain: {1}"},
+    {"CDISA0131I", "The {0} application configuration description was updated successfully for the following instance: {1}"},
+    {"CDISA0132I", "The {0} domain is upgrading to version {1}."},
+    {"CDISA0133I", "The {0} instance is upgrading to version {1}."},
+    {"CDISA0134I", "The {0} build resource is updating the toolkit installation package for the following domain: {1}. This may take a few minutes to complete."},
+    {"CDISA0135I", "The {0} build was submitted to the following build resource: {1}."},
+    {"CDISA0136I", "The {0} build completed successfully for the following domain: {1}."},
+    {"CDISA0137I", "The {0} build was canceled for the following domain: {1}."},
+    {"CDISA0138I", "The {0} build was removed from the following domain: {1}."},
+    {"CDISA0139I", "The restricted configuration properties were updated successfully for the following domain: {0}"},
+    {"CDISA0140I", "The restricted configuration properties were removed successfully for the following domain: {0}"},
+    {"CDISA0141I", "The restricted configuration properties were updated successfully for the following instance: {0}"},
+    {"CDISA0142I", "The restricted configuration properties were removed successfully for the following instance: {0}"},
+    {"CDISA0143I", "The sam and srm services must run on the same resource for the following instance: {0}. Both of these services were moved to the following resource: {1}."},
+    {"CDISA0144I", "The {0} service was moved from {1} to {2} for the following domain: {3}."},
+    {"CDISA0145I", "The {0} service was moved from {1} to {2} for the following instance: {3}."},
+    {"CDISA0146I", "The {0} service metrics were reset for the {1} resource in the following domain: {2}."},
+    {"CDISA0147I", "The {0} service metrics were reset for the {1} resource in the following instance: {2}."},
+    {"CDISA0148I", "The following tags were restricted for the {0} instance: {1}."},
+    {"CDISA0149I", "The following tags were unrestricted for the {0} instance: {1}."},
+    {"CDISA3000W", "Error contacting the {0} resource for the following domain: {1}. Data such as log files will not be removed."},
+    {"CDISA3001W", "SUSE Linux Enterprise Server (SLES) uses the PAM UNIX2 backend on the following resource: {0}. This may prevent user authentication by password."},
+    {"CDISA3002W", "The {0} resource running on the {1} host was revoked by the following resource manager: {2}."},
+    {"CDISA3003W", "The following domain started with warnings: {0}. The domain is operational."},
+    {"CDISA3004W", "The {0} instance started with warnings for the following domain: {1}.  The instance is operational."},
+    {"CDISA3005W", "The following domain is operational: {0}. Some services did not start as configured."},
+    {"CDISA3006W", "The {0} instance is operational for the following domain: {1}. Some services did not start as configured."},
+    {"CDISA3007W", "The {0} system service symbolic link for the {1} service cannot be removed."},
+    {"CDISA3008W", "The {0} directory for the {1} system service cannot be removed."},
+    {"CDISA3009W", "The {0} file for the {1} system service cannot be removed."},
+    {"CDISA3010W", "The controller trace files in the {0} directory for the {1} system service cannot be removed."},
+    {"CDISA3011W", "The following domain does not exist: {0}. Processing will continue."},
+    {"CDISA3012W", "The {0} resource is not available for the following domain: {1}."},
+    {"CDISA3013W", "No resources with the application tag are available in the {1} instance for the following domain: {2}. Using {0} as an application resource."},
+    {"CDISA3014W", "Lost connection to the following resource manager: {0}. The resource manager was running on host={1} and port={2}."},
+    {"CDISA3015W", "The {0} ZooKeeper connection is not active."},
+    {"CDISA3016W", "The {0} system service cannot be stopped on the following resource: {1}. The resource is allocated to the following domain: {2}.  Error is: {3}.  The unregister request continued."},
+    {"CDISA3017W", "The {0} system service cannot be removed from the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA3018W", "Allocated {0} of {1} resources for the following specification: {2}. The specification is allocated to the {3} instance for the following domain: {4}."},
+    {"CDISA3019W", "No resources with the management tag are available in the {1} instance for the following domain: {2}. Using {0} as a management resource."},
+    {"CDISA3020W", "Additional resources should be tagged for application in the {1} instance for the following domain: {2}. Using {0} as an application resource."},
+    {"CDISA3021W", "High availability count is {0} for the following domain: {1}. The {2} service was placed evenly across {3} resources."},
+    {"CDISA3022W", "High availability count is {0} for the {1} instance in the following domain: {2}. Management services were placed evenly across {3} resources."},
+    {"CDISA3023W", "The {0} unit configuration file for the {1} service cannot be removed."},
+    {"CDISA3024W", "The following domain was removed with warnings: {0}."},
+    {"CDISA3025W", "The following domain stopped with warnings: {0}."},
+    {"CDISA3026W", "The {0} instance was removed with warnings for the following domain: {1}."},
+    {"CDISA3027W", "The {0} instance was stopped with warnings for the following domain: {1}."},
+    {"CDISA3028W", "The {0} service failed to start on the following resource: {1}. The SSH exit code is {2}."},
+    {"CDISA3029W", "The {0} service timed out while stopping on the following resource: {1}. The service has the following process id: {2}."},
+    {"CDISA3030W", "The {0} service timed out while stopping on the following resource: {1}. Attempting to kill the following process id: {2}."},
+    {"CDISA3031W", "The {0} service failed to stop on the following resource: {1}. The service has the following process id: {2}."},
+    {"CDISA3032W", "The {0} service failed to stop on the following resource: {1}. Attempting to kill the following process id: {2}."},
+    {"CDISA3033W", "{0} of {1} {2} services failed to stop on the following resource: {3}. Attempting to kill the following process id: {4}."},
+    {"CDISA3034W", "The {0} service terminated on the following resource: {2}. The resource is allocated to the following domain: {3}. The service had the following process id: {1}. Attempting to restart the service."},
+    {"CDISA3035W", "The {0} service is not responding on the following resource: {1}. The resource is allocated to the following domain: {2}. Attempting to restart the service."},
+    {"CDISA3036W", "Running {0} of {1} {2} services on the following resource: {3}. The resource is allocated to the following domain: {4}. Attempting to start additional services."},
+    {"CDISA3037W", "The {0} service terminated on the following resource: {2}. The resource is allocated to the {3} instance for the following domain: {4}. The service had the following process id: {1}. Attempting to restart the service."},
+    {"CDISA3038W", "The {0} service is not responding on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}. Attempting to restart the service."},
+    {"CDISA3039W", "Running {0} of {1} {2} services on the following resource: {3}. The resource is allocated to the {4} instance for the following domain: {5}. Attempting to start additional services."},
+    {"CDISA3040W", "No resources with the view tag are available for the {1} instance in the following domain: {2}. Using {0} as a view resource."},
+    {"CDISA3041W", "High availability count is {0} for the {1} instance in the following domain: {2}. View services were placed evenly across {3} resources."},
+    {"CDISA3042W", "The {0} service failed to start on the following resource: {1}. All ports are in use."},
+    {"CDISA3043W", "The {0} property is only allowed on the command line or in the command environment. The setting found in the property file will be ignored."},
+    {"CDISA3044W", "Clean request timed out for the following resource: {0}. Data such as log files may not have been removed."},
+    {"CDISA3045W", "Clean request failed for the {0} resource with following return codes: {1}. Data such as log files may not have been removed."},
+    {"CDISA3046W", "The {0} resource in the {1} domain experienced a zookeeper disconnect on {2}. Zookeeper reconnected at {3}."},
+    {"CDISA3047W", "The {0} service timed out or failed on the following resource: {1}. The resource is allocated to the following domain: {2}. The service is currently operational on at least one resource."},
+    {"CDISA3048W", "The {0} log directory could not be created on the {1} resource by the following user: {2}. Using default log directory: {3}."},
+    {"CDISA3049W", "The {0} resource is being removed from the {1} instance for the following domain: {2}. Relocation of Processing Elements timed out."},
+    {"CDISA3050W", "The {0} resource was quiesced successfully for the following domain: {1}. Relocation of Processing Elements timed out."},
+    {"CDISA3051W", "The {0} file storage directory could not be created on the {1} resource by the following user: {2}. Using default file storage directory: {3}."},
+    {"CDISA3052W", "Cannot change the owner and group of the following directory and its contents: {0}."},
+    {"CDISA3053W", "The hc service failed to start on the following resource: {0}. The IBM Streams controller must run as root in order to set operating system capabilities."},
+    {"CDISA3054W", "The {0} service is not available on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA3055W", "The {0} service is not available on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA3056W", "Resuming the {0} resource in order to start the following domain: {1}."},
+    {"CDISA3057W", "The recommended ulimit values are not set properly for the following resource: {0}. Maximum processes is {1}. Open files is {2}."},
+    {"CDISA3058W", "The {0} system service cannot be disabled on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA3059W", "The {0} unregistered service was stopped on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA3060W", "The domain property security.runAsRoot=true but the controller is not running as user root on the following resource: {0}. This may prevent user authentication by password."},
+    {"CDISA3061W", "The hard ulimit values were increased on the following resource: {0}. Maximum processes is {1}. Open files is {2}."},
+    {"CDISA3062W", "The soft ulimit values were increased on the following resource: {0}. Maximum processes is {1}. Open files is {2}."},
+    {"CDISA3063W", "Unable to reconnect with managed bean: {0} in the {1} instance for the following domain: {2}."},
+    {"CDISA3064W", "Change the following path on the fileStoragePath domain property: {0}. Automatic system maintenance utilities, such as tmpwatch, might remove files in the /tmp directory that are needed by IBM Streams services."},
+    {"CDISA3065W", "The {0} service is already restarting on resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA3066W", "The {0} service is already restarting on resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5000E", "The {0} installation directory does not exist."},
+    {"CDISA5001E", "Read permission to the {0} installation directory is required, but is not set."},
+    {"CDISA5002E", "The execute permission to the {0} installation directory is required, but is not set."},
+    {"CDISA5003E", "IBM Streams was not correctly installed to the following directory: {0}."},
+    {"CDISA5004E", "The {0} command cannot be invoked by the operating system."},
+    {"CDISA5005E", "The operating system cannot successfully run the {0} command. The operating system exception is: {1}."},
+    {"CDISA5006E", "The application service can not be contacted on the following resource: {0}."},
+    {"CDISA5007E", "The {0} instance must be started before you can run the requested operation for the following domain: {1}."},
+    {"CDISA5008E", "The following directory does not exist: {0}."},
+    {"CDISA5009E", "The {0} user does not have the correct permissions to the following directory: {1}."},
+    {"CDISA5010E", "The {0} log4j configuration file could not be read for the following domain: {1}. The auditlog service will not be able to perform auditing."},
+    {"CDISA5011E", "An error occurred while the operation was reading the following application ADL file: {0}. The error is: {1}"},
+    {"CDISA5012E", "The {0} log directory could not be created on the {1} resource by the following user: {2}."},
+    {"CDISA5013E", "The {0} domain is not configured for an external resource manager. The domain.externalResourceManager property must be set prior to configuring a tag definition."},
+    {"CDISA5014E", "The definition for the {0} tag is not formatted correctly. Consult the {1} resource manager documentation for the proper syntax. Error is: {2}"},
+    {"CDISA5015E", "The controller service can not be started on the following rsource: {0}. SSH is not allowed for the following domain: {1}."},
+    {"CDISA5016E", "An error occurred while the operation was removing the SSH ID file. The error is: {0}."},
+    {"CDISA5017E", "The following parameter is required: {0}."},
+    {"CDISA5018E", "The requested URL was not found on the server."},
+    {"CDISA5019E", "The requested URL is missing the request identifier."},
+    {"CDISA5020E", "The content type attribute was not specified on the HTTP request."},
+    {"CDISA5021E", "The following content type is not supported by the HTTP request: {0}."},
+    {"CDISA5022E", "The following content type is not correct for the HTTP request: {0}. Expected {1}."},
+    {"CDISA5023E", "The following build user could not be created on the build resource: {0}."},
+    {"CDISA5024E", "Connection to the JMX service is not currently active."},
+    {"CDISA5025E", "An error occurred during the generation of the keys for the secure shell environment."},
+    {"CDISA5026E", "An error occurred when permissions on the secure shell environment directory were set."},
+    {"CDISA5027E", "An error occurred during the creation of the authorized keys file for the secure shell environment."},
+    {"CDISA5028E", "An error occurred during the generation of the public and private authentication keys."},
+    {"CDISA5029E", "The user''s permissions do not permit this action. The required permission is: {0}:{1}."},
+    {"CDISA5030E", "The {0} log path is already in use by the {1} domain in the following zookeeper ensemble: {2}. Modify the domainLog.path for the current domain or create a new domain with a unique domain id."},
+    {"CDISA5031E", "The {0} resource is not an active build resource. The resource is not active or is missing the build tag."},
+    {"CDISA5032E", "The build.runAsUser property is set for the following build resource: {0}. The build.storagePath property must specify a valid directory to store build data."},
+    {"CDISA5033E", "The network interface for the following mask could not be found: {0}."},
+    {"CDISA5034E", "The {0} user does not own the requested authentication token."},
+    {"CDISA5035E", "The specified configuration is not in valid JSON format."},
+    {"CDISA5036E", "If the configuration is for fileSystem backend store, Dir must be specified; if the configuration is for redis backend store, shards, replicas and replicaGroups must be specified."},
+    {"CDISA5037E", "The following value for the {0} property is invalid: {1}"},
+    {"CDISA5038E", "The value for the {0} property is invalid."},
+    {"CDISA5039E", "No value was specified for the {0} property."},
+    {"CDISA5040E", "The following security object does not exist: {0}."},
+    {"CDISA5041E", "The controller service is already running on the {0} resource for the following domain: {1}."},
+    {"CDISA5042E", "The {0} service is temporarily unavailable; it is initializing on the following resource: {1}. The service has the following process id: {2}."},
+    {"CDISA5043E", "The {0} resource running on the {1} host has failed for the following resource manager: {2}."},
+    {"CDISA5049E", "An error occurred creating the following domain: {0}."},
+    {"CDISA5050E", "The following domain already exists: {0}."},
+    {"CDISA5051E", "The following domain is active; it can not be removed: {0}."},
+    {"CDISA5052E", "An error occurred removing the following domain: {0}."},
+    {"CDISA5053E", "The following domain failed to start: {0}."},
+    {"CDISA5054E", "The following domain failed to stop: {0}."},
+    {"CDISA5055E", "The following domain is already started: {0}."},
+    {"CDISA5056E", "The following domain is not currently started: {0}."},
+    {"CDISA5057E", "The {0} user is not authorized to start the following domain: {1}."},
+    {"CDISA5058E", "The {0} user is not authorized to stop the following domain: {1}."},
+    {"CDISA5059E", "The {0} user is not authorized to remove the following domain: {1}."},
+    {"CDISA5060E", "The following domain has at least one active instance: {0}. Stop all instances prior to stopping the domain or use the force option. The following instance is still active: {1}."},
+    {"CDISA5061E", "The following domain does not exist: {0}."},
+    {"CDISA5062E", "An error occurred creating the {0} instance in following domain: {1}."},
+    {"CDISA5063E", "The {0} instance already exists for the following domain: {1}."},
+    {"CDISA5064E", "The {0} instance is active for the following domain: {1}. It can not be removed."},
+    {"CDISA5065E", "An error occurred removing the {0} instance from the following domain: {1}."},
+    {"CDISA5066E", "The {0} instance failed to start for the following domain: {1}."},
+    {"CDISA5067E", "The {0} instance failed to stop for the following domain: {1}."},
+    {"CDISA5068E", "The {0} user is not authorized to start the {1} instance for the following domain: {2}."},
+    {"CDISA5069E", "The {0} user is not authorized to stop the {1} instance for the following domain: {2}."},
+    {"CDISA5070E", "The {0} user is not authorized to remove the {1} instance for the following domain: {2}."},
+    {"CDISA5071E", "The {0} instance does not exist for the following domain: {1}."},
+    {"CDISA5072E", "The {0} instance is not started for the following domain: {1}."},
+    {"CDISA5073E", "The {0} instance is already started for the following domain: {1}."},
+    {"CDISA5074E", "The {0} service failed to start on the following resource: {1}."},
+    {"CDISA5075E", "{0} of {1} {2} services failed to start on the following resource: {3}."},
+    {"CDISA5076E", "The {0} service timed out while starting on the following resource: {1}."},
+    {"CDISA5077E", "{0} of {1} {2} services timed out while starting on the following resource: {3}."},
+    {"CDISA5078E", "The {0} service failed to start on the following resource: {1}. The following user does not exist: {2}."},
+    {"CDISA5079E", "The {0} service failed to start on the following resource: {1}. The following user does not have the correct permissions: {2}."},
+    {"CDISA5080E", "{0} is not a valid role name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5081E", "{0} is not a valid job group name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5082E", "An unexpected zookeeper related error occurred. The error message is ''{0}''."},
+    {"CDISA5083E", "The {0} service failed to start on the following resource: {1}. The following port is already in use: {2}."},
+    {"CDISA5084E", "The {0} service is not available for the following domain: {1}."},
+    {"CDISA5085E", "The {0} service is not available on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5086E", "The {0} service is not available for the {1} instance in the following domain: {2}."},
+    {"CDISA5087E", "The {0} service is not available on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5088E", "The following domain is corrupted: {0}."},
+    {"CDISA5089E", "An unexpected error occurred. The error message is ''{0}''."},
+    {"CDISA5090E", "{0} is not a valid domain name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5091E", "{0} is not a valid instance name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5092E", "The {0} service failed to start on the following resource: {1}. All ports are in use."},
+    {"CDISA5093E", "The {0} instance is corrupted for the following domain: {1}."},
+    {"CDISA5094E", "The {0} user is not authorized to list available hosts for following domain: {1}."},
+    {"CDISA5095E", "The {0} user is not authorized to view the domain configuration for the following domain: {1}."},
+    {"CDISA5096E", "The {0} user is not authorized to modify the configuration for following domain: {1}."},
+    {"CDISA5097E", "The {0} user is not authorized to create a new instance for following domain: {1}."},
+    {"CDISA5098E", "The user must be the user root."},
+    {"CDISA5099E", "The {0} system service already exists on the following resource: {1}. The system service is defined for the following domain: {2}."},
+    {"CDISA5100E", "The {0} service did not start successfully on any resources."},
+    {"CDISA5101E", "The following directory cannot be created: {0}."},
+    {"CDISA5102E", "The owner and group of the {0} directory cannot be changed to {1} user and {2} group."},
+    {"CDISA5103E", "The group permissions of the {0} directory cannot be set to {1}."},
+    {"CDISA5104E", "The group of the {0} directory cannot be changed to {1} group."},
+    {"CDISA5105E", "The following file is missing from the installation: {0}."},
+    {"CDISA5106E", "The {0} symlink cannot be created to the following active script file: {1}."},
+    {"CDISA5107E", "The {0} system service cannot be configured on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5108E", "The {0} service does not exist as a system service or an unregistered service on the following resource: {1}. The domain associated with the service is: {2}."},
+    {"CDISA5109E", "The {0} system service failed to start on the following resource: {1}.  The domain associated with the system service is: {2}."},
+    {"CDISA5110E", "The {0} system service must be started before you can run the requested operation on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5111E", "The {0} service failed to stop on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5112E", "The {0} system service is already started on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5113E", "{0} is not a valid application configuration name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5114E", "The {0} system service was removed with warnings from the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5115E", "The {0} user is not authorized to view system logs for the following domain: {1}."},
+    {"CDISA5116E", "The {0} user is not authorized to view application logs for the {1} instance in the following domain: {2}."},
+    {"CDISA5117E", "The {0} user is not authorized to the {1} instance for the following domain: {2}."},
+    {"CDISA5118E", "The {0} log file does not exist on the following resource: {1}."},
+    {"CDISA5119E", "Log retrieval timed out for the {0} resource in the following domain: {1}."},
+    {"CDISA5120E", "The {0} user is not authorized to view system logs for the {1} instance in the following domain: {2}."},
+    {"CDISA5121E", "The {0} user is not authorized to read data for the following view: {1}. The view is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5122E", "The tuple definition for the stream associated with {0} view has changed.  The view cannot be started."},
+    {"CDISA5123E", "The {0} user is not authorized to access the following view: {1}. The view is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5124E", "The {0} host cannot be removed from following domain: {1}.  The host is currently starting."},
+    {"CDISA5125E", "{0} is not a valid build name. Either its size is too large or it includes some invalid characters."},
+    {"CDISA5128E", "The {0} resource cannot be quiesced for the following domain: {1}. The resource is the only available resource in the domain."},
+    {"CDISA5129E", "The name supplied contains characters that are not valid."},
+    {"CDISA5130E", "The description supplied contains characters that are not valid."},
+    {"CDISA5131E", "The {0} user is not authorized to add a host or add a service to a host for the following domain: {1}."},
+    {"CDISA5132E", "The {0} user is not authorized to remove a host or remove a service from a host for the following domain: {1}."},
+    {"CDISA5133E", "The {0} user is not authorized to view a host and its services for the following domain: {1}."},
+    {"CDISA5134E", "The {0} user is not authorized to change the attributes of a host for the following domain: {1}."},
+    {"CDISA5135E", "The {0} user is not authorized to access data for the following job: {1}. The job is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5136E", "The {0} host cannot be removed from the following domain: {1}. The host is the only host in the domain and the domain is started."},
+    {"CDISA5137E", "The {0} user is not authorized to stop the following service: {1}. The service is allocated to the following domain: {2}."},
+    {"CDISA5138E", "The {0} user is not authorized to stop the following service: {1}. The serivce is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5139E", "The {0} tag is in use and cannot be modified or removed. The tag is allocated to the following domain: {1}."},
+    {"CDISA5140E", "The {0} instance can not be started at Streams version {1}. This version is not compatible with domain version {2}."},
+    {"CDISA5141E", "The following domain is currently busy: {0}."},
+    {"CDISA5142E", "The {0} instance is currently busy for the following domain: {1}."},
+    {"CDISA5143E", "ZooKeeper not started on {0}."},
+    {"CDISA5144E", "ZooKeeper not stopped on {0}."},
+    {"CDISA5145E", "The property value for {0}={1} is not valid."},
+    {"CDISA5146E", "The property value for {0}={1} is not supported."},
+    {"CDISA5148E", "The {0} user is not authorized to list jobs for the {1} instance in the following domain: {2}."},
+    {"CDISA5149E", "The {0} system service failed to restart on the following resource: {1}. The resources is allocated to the following domain: {2}."},
+    {"CDISA5151E", "The {0} host can not be removed from the following domain: {1}. The host is running services for the domain."},
+    {"CDISA5152E", "The {0} host can not be removed from the following domain: {2}. The host is running services for the following instance: {1}."},
+    {"CDISA5154E", "The {0} user is not authorized to modify the configuration for the {1} instance in the following domain: {2}."},
+    {"CDISA5155E", "The following role already exists: {0}."},
+    {"CDISA5156E", "The following role does not exist: {0}."},
+    {"CDISA5157E", "The {0} resource does not exist for the following domain: {1}."},
+    {"CDISA5158E", "Could not allocate enough management resources for the following domain: {0}."},
+    {"CDISA5159E", "No resources are available for the {0} instance in the following domain: {1}."},
+    {"CDISA5160E", "No system service resources are available for the {0} instance in the following domain: {1}. This instance requires that all resources be registered as system services."},
+    {"CDISA5162E", "Could not locate the {0} install package with version {1} and build level {2}. A resource with the full install must be part of the domain and in a running state."},
+    {"CDISA5163E", "An error occured downloading the {0} install package from the following resource: {1}."},
+    {"CDISA5164E", "The following resource manager is not configured properly: {0}."},
+    {"CDISA5165E", "An unexpected error occured while communicating with LDAP - {0}."},
+    {"CDISA5166E", "Failed to connect to LDAP - {0}."},
+    {"CDISA5167E", "The path to the installation directory must be an absolute path and cannot contain spaces or special characters."},
+    {"CDISA5168E", "The {0} user does not have write permission to the following package directory: {1}."},
+    {"CDISA5170E", "The following directory for the installation package does not exist: {0}."},
+    {"CDISA5171E", "The installation package cannot be created because the source files do not exist in this installation."},
+    {"CDISA5172E", "The following security object does not exist: {0}."},
+    {"CDISA5173E", "The operation can not be performed on the following resource: {0}. The resource is running management services for the following domain: {1}. There are no standby services available."},
+    {"CDISA5174E", "The operation can not be performed on the following resource: {0}. The resource is running management services for the {1} instance in the following domain: {2}. There are no standby services available."},
+    {"CDISA5175E", "Unexpected error encountered while parsing HTML - {0} "},
+    {"CDISA5177E", "The following configuration item already exists: {0}."},
+    {"CDISA5178E", "The following configuration item does not exist: {0}."},
+    {"CDISA5179E", "The {0} host is configured for an instance in the following domain: {1}."},
+    {"CDISA5180E", "The {0} host is not part of the following domain: {1}."},
+    {"CDISA5181E", "Pending value does not exist for the following property: {0}."},
+    {"CDISA5182E", "Pending value does not exist for the following resource specification: {0}."},
+    {"CDISA5183E", "The following property is not valid: {0}."},
+    {"CDISA5184E", "Cannot modify the following property: {0}."},
+    {"CDISA5185E", "Value {0} is not valid for the following property: {1}."},
+    {"CDISA5186E", "The following tag does not exist: {0}."},
+    {"CDISA5187E", "The following tag can not be removed: {0}. The tag is associated with a resource."},
+    {"CDISA5188E", "The following tag can not be removed: {0}. The tag is associated with an instance."},
+    {"CDISA5189E", "The following reserved tag can not be modified: {0}."},
+    {"CDISA5191E", "The following tag is not valid as part of an instance resource specification: {0}."},
+    {"CDISA5193E", "Cannot set Streams bootstrap configuration properties while embedded ZooKeeper is running."},
+    {"CDISA5194E", "The {0} host name is not known to the system name resolver."},
+    {"CDISA5195E", "The following role is defined by the system and cannot be removed: {0}."},
+    {"CDISA5196E", "The following instance role is defined by the system and cannot be removed: {0}."},
+    {"CDISA5197E", "The {0} resource is reserved for exclusive use by the {1} instance for the following domain: {2}."},
+    {"CDISA5198E", "The jmx service failed to start; an available communications port could not be found within range {0}."},
+    {"CDISA5199E", "The following domain is not operational: {0}.  The required services are temporarily unavailable."},
+    {"CDISA5200E", "Unable to access the Streams configuration repository in {0}."},
+    {"CDISA5201E", "The {0} instance is active for the following domain: {1}. Logs can not be removed."},
+    {"CDISA5202E", "The {0} user is not authorized to remove logs from the {1} instance for the following domain: {2}."},
+    {"CDISA5203E", "The following domain is active: {0}. Logs can not be removed."},
+    {"CDISA5204E", "The {0} user is not authorized to remove logs from the following domain: {1}."},
+    {"CDISA5205E", "The {0} user is not authorized to check user permissions for the following domain: {1}."},
+    {"CDISA5206E", "The {0} user is not authorized to check user permissions for the {1} instance in the following domain: {2}."},
+    {"CDISA5207E", "Network communication failed to the following resource: {0}. The resource is allocated to the following domain: {1}."},
+    {"CDISA5208E", "The following jobgroup is defined by the system and cannot be removed: {0}."},
+    {"CDISA5209E", "The following job group already exists: {0}."},
+    {"CDISA5210E", "The following job group does not exist: {0}."},
+    {"CDISA5212E", "The following port is not valid: {0}."},
+    {"CDISA5213E", "An error occured resolving the following host: {0}."},
+    {"CDISA5214E", "{0} is not a valid host and port specification."},
+    {"CDISA5215E", "The {0} user is not authorized to access data for the following job group: {1}."},
+    {"CDISA5216E", "Key cannot be generated for the following domain: {0}."},
+    {"CDISA5217E", "The {0} user is not authorized to show or edit properties for the following domain: {1}."},
+    {"CDISA5218E", "An error occured updating the following domain: {0}."},
+    {"CDISA5219E", "The following tag can not be removed: {0}. The tag is used by the following resource specification: {1}. The resource specification is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5220E", "Remove host {0} from instance {1} in domain {2} timed out."},
+    {"CDISA5221I", "View annotation {0} for job {1} has been added for the {2} instance in the following domain: {3}."},
+    {"CDISA5222I", "View annotation {0} for job {1} has been removed from the {2} instance in the following domain: {3}."},
+    {"CDISA5223E", "View annotation {0} does not exist for the {1} instance in the following domain: {2}. The application may not be submitted."},
+    {"CDISA5224E", "Internal error - user token not specified."},
+    {"CDISA5225E", "Internal error - view ID not specified."},
+    {"CDISA5226E", "Internal error - job ID {0} is not valid."},
+    {"CDISA5227E", "Internal error - job ID not specified."},
+    {"CDISA5228E", "The {0} user is not authorized to modify permissions for the following domain: {1}."},
+    {"CDISA5229E", "The {0} user is not authorized to modify permissions on instance object: instance {2}, object {1}."},
+    {"CDISA5230E", "The following job ID does not exist: {0}. The job may be cancelled."},
+    {"CDISA5231E", "The {0} user is not authorized to access the following job: {1}."},
+    {"CDISA5232E", "The {0} tag is in use by PEs {1} on the following resource: {2}. The resource is allocated to the {3} instance for the following domain: {4}. The tag can be modified or removed if the PEs are stopped."},
+    {"CDISA5233E", "Add host {0} to instance {1} in domain {2} timed out."},
+    {"CDISA5234E", "The {0} dynamic view does not exist for instance {1} in the following domain: {2}. The application may be cancelled."},
+    {"CDISA5235E", "Internal error - Streams could not get reference resource OS and Architecture information for checkhost."},
+    {"CDISA5236E", "Internal error - view name not specified."},
+    {"CDISA5237E", "Internal error - job name not specified."},
+    {"CDISA5238E", "View annotation for view name {0} job name {1} does not exist for instance {2} in domain {3}.  The application may not be submitted."},
+    {"CDISA5239E", "{0} is not a valid locale."},
+    {"CDISA5240E", "{0} is not a supported encoding.  Encoding must be UTF-8."},
+    {"CDISA5241E", "The controller service is terminating on the {0} resource for the following domain: {1}. The {2} architecture of the domain does not match the {3} architecture of the resource."},
+    {"CDISA5242E", "The controller service is terminating on the resource {0} for the following domain: {1}. The domain is running at version {2}; which is not supported on the {3} operating system at {4} version."},
+    {"CDISA5243E", "The controller service is terminating on the resource {0} for the following domain: {1}. The domain is running at version {2}; which is not supported on the {3} operating system."},
+    {"CDISA5244E", "The controller service is terminating on the resource {0} for the following domain: {1}. The {2} operating system and {3} architecture, are not supported by the domain."},
+    {"CDISA5245E", "Unexpected error trying to read metric metatdata for the following instance: {0}."},
+    {"CDISA5246E", "{0} is not a valid job name. Either its size is longer than 1024 characters or it includes some invalid characters."},
+    {"CDISA5247E", "Failed to restore annotated views for job {0} in instance {1} domain {2}.  Cause: {3}"},
+    {"CDISA5248E", "Failed to restart view {0} for domain {2} instance {1}, job {3}, operator {4} port {5}. Cause: {6}"},
+    {"CDISA5249E", "Failed to retrieve dynamic views for domain {0} instance {1}. Cause: {2}"},
+    {"CDISA5250E", "Failed to restart view {0} for domain {2} instance {1}. Cause: {3}"},
+    {"CDISA5251E", "Add resource specification {0} to instance {1} in domain {2} timed out."},
+    {"CDISA5252E", "Invalid value for bootstrap property ''{0}''.  For embedded ZooKeeper the value must specify the hostname for the local host.  Found: {1}. Use ''streamtool setbootproperty'' to update the property value."},
+    {"CDISA5253E", "The {0} user is not authorized to create the {3} jobgroup for the {1} instance in the following domain: {2}."},
+    {"CDISA5254E", "The {0} user is not authorized to view the instance configuration for the {1} instance in the following domain: {2}."},
+    {"CDISA5255E", "The {0} user is not authorized to view a host and its services for the {1} instance in the following domain: {2}."},
+    {"CDISA5256E", "The {0} user is not authorized to change the attributes of a host for the {1} instance in the following domain: {2}."},
+    {"CDISA5257E", "The {0} user is not authorized to list available hosts for the {1} instance in the following domain: {2}."},
+    {"CDISA5258E", "The {0} user is not authorized to add a host or add a service to a host for the {1} instance in the following domain: {2}."},
+    {"CDISA5259E", "The {0} user is not authorized to remove a host or remove a service from a host for the {1} instance in the following domain: {2}."},
+    {"CDISA5260E", "Internal error - could not get PE connection based on Operator connection info {0} for domain {1} instance {2}."},
+    {"CDISA5261E", "The {0} service failed to start on the following resource: {1}. The initialJvmSize={2} property has been set; the maximumJvmSize property is required to be set."},
+    {"CDISA5262E", "The {0} service failed to start on the following resource: {1}. The initialJvmSize={2} is greater than the maxJvmSize={3}"},
+    {"CDISA5263E", "The {0} user is not authorized to list resources for the {1} instance in the following domain: {2}."},
+    {"CDISA5264E", "The following domain indicates that it is started; but no resources can be contacted: {0}. You may need to issue a stopdomain with the force option followed by a startdomain."},
+    {"CDISA5265E", "Application bundle directory {0} could not be created on the following resource: {1}."},
+    {"CDISA5266E", "{0} is not a valid format specification.  Valid formats are %Nf, %Mf and %Tf."},
+    {"CDISA5267E", "The {0} user is not authorized to modify the permissions on instance jobgroup: instance {2}, jobgroup {1}."},
+    {"CDISA5268E", "Embedded ZooKeeper cannot be used from a domain host installation."},
+    {"CDISA5269E", "No result found during LDAP user lookup."},
+    {"CDISA5270E", "More than one result found during LDAP user lookup."},
+    {"CDISA5271E", "LDAP user secondary lookup query is not formatted correctly."},
+    {"CDISA5272E", "The {0} user is not authorized to the following domain: {1}."},
+    {"CDISA5273E", "Application bundle directory {0} could not be created on the following resource: {1}. Using default path: {2}."},
+    {"CDISA5274E", "The {0} user is not authorized to manage the {1} instance for the following domain: {2}."},
+    {"CDISA5275E", "The {0} resource is not configured for the {1} instance in the following domain: {2}."},
+    {"CDISA5276E", "The {0} service is not configured to run on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5277E", "The {0} service is not configured to run on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5278E", "The {0} service failed to restart on the following resource. {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5279E", "The {0} service failed to restart on the following resource: {1}. The resource is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5280E", "The controller service failed to restart on the following resource: {0}. The resource is allocated to the following domain: {1}. The resource is configured as a system service but is not currently running."},
+    {"CDISA5281E", "Cannot change permissions for job secured object ''{0}''."},
+    {"CDISA5282E", "The {0} domain role is a role defined by the system and must have at least one user."},
+    {"CDISA5283E", "An operation listener with identifier {0} does not exist."},
+    {"CDISA5284E", "The following bundle file name does not have the correct format: {0}."},
+    {"CDISA5285E", "The following application identifier does not exist: {0}."},
+    {"CDISA5286E", "An unexpected error occurred while trying to register the managed bean for the following job: {0}."},
+    {"CDISA5287E", "Failed to register {0} of {1} jobs."},
+    {"CDISA5288E", "An unexpected error occurred while accessing the view service."},
+    {"CDISA5289E", "The following job could not be found: {0}."},
+    {"CDISA5290E", "A value must be specified for the following parameter: {0}."},
+    {"CDISA5291E", "The following processing element could not be found: {0}."},
+    {"CDISA5292E", "The {0} user is not authorized to add jobs for the {1} instance in the following domain: {2}."},
+    {"CDISA5293E", "You must be the installation owner or user root to update the edition license."},
+    {"CDISA5294E", "The current edition cannot be updated to the IBM Streams editon. The current edition is: {0}."},
+    {"CDISA5295E", "The edition cannot be updated."},
+    {"CDISA5296E", "The installation is missing the {0} edition tar file. The edition cannot be updated."},
+    {"CDISA5297E", "The update license failed because the existing edition files cannot be removed."},
+    {"CDISA5298E", "Job registration did not complete successfully"},
+    {"CDISA5299E", "The operation can not be performed on {0}. The resource is storing active application bundle resources for instance {1} in domain {2} and there are no backups."},
+    {"CDISA5300E", "The URL {0} is not a valid LDAP URL."},
+    {"CDISA5301E", "The specified value is not valid for property {0}. {1}"},
+    {"CDISA5302E", "An error occurred while copying the new version of IBM Streams software on this resource. The source path of the software is: {0}."},
+    {"CDISA5303E", "The {0} domain did not upgrade to version: {1}. The current resource must be part of the domain."},
+    {"CDISA5304E", "Failed to restore views for instance {0} domain {1}.  Cause: {2}"},
+    {"CDISA5305E", "ZooKeeper was not stopped on {0} since there are active domains."},
+    {"CDISA5306E", "ZooKeeper was not stopped on {0} since it is being used by other clients."},
+    {"CDISA5307E", "ZooKeeper was not started on {0} since client port {1} is not available."},
+    {"CDISA5308E", "ZooKeeper was not started on {0} since monitor port {1} is not available."},
+    {"CDISA5309E", "ZooKeeper was not started on {0} since it is running on a different host {1}.  The current host is {2}."},
+    {"CDISA5310E", "The {0} managed bean cannot be unregistered."},
+    {"CDISA5311E", "The {0} user is not authorized to access the job associated with the following view: {1}. The job is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5312E", "LDAP user distinguished name (DN) value is not formatted correctly."},
+    {"CDISA5313E", "The {0} system service failed to do repairs on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5314E", "Internal error - unable to retrieve definition for job {0} in instance {1} and domain {2}."},
+    {"CDISA5315I", "User {0} successfully logged into domain {1}."},
+    {"CDISA5316E", "User {0} failed to log into domain {1} due to bad credential."},
+    {"CDISA5317E", "User {0} not allowed to log into domain {1}."},
+    {"CDISA5318E", "User {0} failed to log into domain {1} due to unexpected error."},
+    {"CDISA5319I", "User {0} successfully logged out of domain {1}."},
+    {"CDISA5320E", "User {0} failed to log out of domain {1} due to unexpected error."},
+    {"CDISA5321I", "Certificate user {0} DN={1} logged into domain {2}."},
+    {"CDISA5322E", "Certificate user {0} failed to log into domain {1}."},
+    {"CDISA5323E", "Certificate user {0} failed to log into domain {1} due to unexpected error."},
+    {"CDISA5324I", "User {0} has removed security object {1} from domain {2}."},
+    {"CDISA5325E", "User {0} failed to remove security object {1} from domain {2} due to unexpected error."},
+    {"CDISA5326I", "User {0} has removed security object {1} from domain {2} instance {3}."},
+    {"CDISA5327E", "User {0} failed to remove security object {1} from domain {2} instance {3} due to unexpected error."},
+    {"CDISA5328I", "User {0} successfully removed permissions for user {1} to security object {2} in domain {3}."},
+    {"CDISA5329E", "User {0} failed to remove permissions for user {1} to security object {2} in domain {3} due to unexpected error."},
+    {"CDISA5330I", "User {0} successfully removed permissions for user {1} to security object {2} in instance {3} domain {4}."},
+    {"CDISA5331E", "User {0} failed to remove permissions for user {1} to security object {2} in instance {3} domain {4} due to unexpected error."},
+    {"CDISA5332I", "User {0} successfully removed permissions for group {1} to security object {2} in domain {3}."},
+    {"CDISA5333E", "User {0} failed to remove permissions for group {1} to security object {2} in domain {3} due to unexpected error."},
+    {"CDISA5334I", "User {0} successfully removed permissions for group {1} to security object {2} in instance {3} domain {4}."},
+    {"CDISA5335E", "User {0} failed to remove permissions for group {1} to security object {2} in instance {3} domain {4} due to unexpected error."},
+    {"CDISA5336I", "User {0} successfully removed permissions for role {1} to security object {2} in domain {3}."},
+    {"CDISA5337E", "User {0} failed to remove permissions for role {1} to security object {2} in domain {3} due to unexpected error."},
+    {"CDISA5338I", "User {0} successfully removed permissions for role {1} to security object {2} in instance {3} domain {4}."},
+    {"CDISA5339E", "User {0} failed to remove permissions for group {1} to security object {2} in instance {3} domain {4} due to unexpected error."},
+    {"CDISA5340I", "User {0} successfully set permissions for user {1} to security object {2} in domain {3} [{4}={5}] [default={6}]."},
+    {"CDISA5341I", "User {0} failed to set permissions for user {1} to security object {2} in domain {3} [{4}={5}] [default={6}] due to unexpected error."},
+    {"CDISA5342I", "User {0} successfully set permissions for user {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}]."},
+    {"CDISA5343I", "User {0} failed to set permissions for user {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}] due to unexpected error."},
+    {"CDISA5344I", "User {0} successfully set permissions for group {1} to security object {2} in domain {3} [{4}={5}] [default={6}]."},
+    {"CDISA5345I", "User {0} failed to set permissions for group {1} to security object {2} in domain {3} [{4}={5}] [default={6}] due to unexpected error."},
+    {"CDISA5346I", "User {0} successfully set permissions for group {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}]."},
+    {"CDISA5347I", "User {0} failed to set permissions for group {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}] due to unexpected error."},
+    {"CDISA5348I", "User {0} successfully set permissions for role {1} to security object {2} in domain {3} [{4}={5}] [default={6}]."},
+    {"CDISA5349I", "User {0} failed to set permissions for role {1} to security object {2} in domain {3} [{4}={5}] [default={6}] due to unexpected error."},
+    {"CDISA5350I", "User {0} successfully set permissions for role {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}]."},
+    {"CDISA5351I", "User {0} failed to set permissions for role {1} to security object {2} in instance {3} domain {4} [{5}={6}] [default={7}] due to unexpected error."},
+    {"CDISA5352E", "Resource specification count must be a positive number."},
+    {"CDISA5353E", "Unexpected error validating value for property: {0}."},
+    {"CDISA5354E", "Internal error - value: {0} is unexpected for property: {1}."},
+    {"CDISA5355E", "Internal error - value type: {0} is unexpected for property: {1}."},
+    {"CDISA5356E", "Unable to access validator: {0} for property: {1}."},
+    {"CDISA5357E", "The following custom resource manager command does not have the correct format: {0}."},
+    {"CDISA5358E", "The resource package cannot be created because the {0} file is missing from the installation."},
+    {"CDISA5359E", "An error occurred creating the resource package. The error is: {0}"},
+    {"CDISA5360E", "Contents of specified application bundle {0} is not in the correct format."},
+    {"CDISA5361E", "The request cannot be completed because resource tag {0} has a custom defintion format."},
+    {"CDISA5362E", "Cannot retrieve the following write-only property value: {0}."},
+    {"CDISA5363E", "The {0} file storage directory could not be created on the {1} resource by the following user: {2}."},
+    {"CDISA5364E", "The JMX service is not available."},
+    {"CDISA5365E", "The connection to the JMX service was refused. The JMX service is not available."},
+    {"CDISA5366E", "The LDAP administration user password is required when LDAP administration user ID is specified."},
+    {"CDISA5367E", "The LDAP administration user ID is required when LDAP administration user password is specified."},
+    {"CDISA5368E", "LDAP user secondary lookup query must be set when specifying LDAP administration user ID and LDAP administration user password."},
+    {"CDISA5369E", "Cannot perform operation because instance is running with an incompatible version of Streams."},
+    {"CDISA5370E", "The Domain Manager application is not supported on this system."},
+    {"CDISA5371I", "Application {0} job ID {1} has been registered with governance server {2}."},
+    {"CDISA5372E", "Failed to register application {0} job ID {1} with governance server {2}. HTTP response code: {3}"},
+    {"CDISA5373E", "Failed to register application {0} job ID {1} with governance server {2}. Cause: {3}"},
+    {"CDISA5374E", "Governance URL is not set for instance {0}."},
+    {"CDISA5375E", "Governance URL {0} is not properly formed for instance {1}."},
+    {"CDISA5376E", "Failed to register job ID {0} for instance {1}. Cause: {2}"},
+    {"CDISA5377E", "Failed to register imports for job ID {0} for instance {1}. Cause: {2}"},
+    {"CDISA5378E", "Failed to register exports for job ID {0} for instance {1}. Cause: {2}"},
+    {"CDISA5379E", "Failed to register import port for application {0} with governance server {1}. HTTP response code: {2}"},
+    {"CDISA5380E", "Failed to register export port for application {0} with governance server {1}. HTTP response code: {2}"},
+    {"CDISA5381E", "Failed to register imports for application {0} with governance server {1}. Cause: {2}"},
+    {"CDISA5382E", "Failed to register exports for application {0} with governance server {1}. Cause: {2}"},
+    {"CDISA5383I", "Imports for application {0} has been registered with governance server {1}."},
+    {"CDISA5384I", "Exports for application {0} has been registered with governance server {1}."},
+    {"CDISA5385E", "Governance catalog user is not set for instance {0}."},
+    {"CDISA5386E", "Governance catalog password is not set for instance {0}."},
+    {"CDISA5387E", "Unexpected error while retrieving governance catalog credential for instance {0}. Cause: {1}"},
+    {"CDISA5388E", "Failed to register source operator for operator {0} with governance server {1}. HTTP response code: {2}"},
+    {"CDISA5389I", "Source operator {0} has been registered with governance server {1}."},
+    {"CDISA5390E", "Failed to register source operator {0} with governance server {1}. Cause: {2}"},
+    {"CDISA5391E", "Failed to register sink operator for operator {0} with governance server {1}. HTTP response code: {2}"},
+    {"CDISA5392I", "Sink operator {0} has been registered with governance server {1}."},
+    {"CDISA5393E", "Failed to register sink operator {0} with governance server {1}. Cause: {2}"},
+    {"CDISA5394E", "Trusted origin value {0} is not valid."},
+    {"CDISA5395E", "The version of application bundle {0} is not supported by instance {1}."},
+    {"CDISA5396E", "Failed to register source operator for operator {0} with governance server {1}."},
+    {"CDISA5397E", "Failed to register governance server. Data={0}. Cause: {1}"},
+    {"CDISA5400E", "The {0} user is not authorized to add a job to the following job group: {1}."},
+    {"CDISA5401E", "The {0} service cannot be contacted on the following resource: {1}."},
+    {"CDISA5402E", "The {0} user is not authorized to edit the following job: {1}. The job is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5403E", "The {0} user is not authorized to delete the following job: {1}. The job is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5404E", "The {0} user is not authorized to submit jobs to the {1} instance for the following domain: {2}."},
+    {"CDISA5405E", "The {0} user is not authorized to edit the following job: {1}. The job is allocated to the {2} instance for the following domain: {3}."},
+    {"CDISA5406E", "IBM Streams could not get PE connection information based on the runtime connection information {0} for the {1} domain and the {2} instance."},
+    {"CDISA5407E", "The {0} application configuration already exists in the following domain: {1}."},
+    {"CDISA5408E", "The {0} application configuration does not exist in the following domain: {1}."},
+    {"CDISA5409E", "The {0} user is not authorized to see the list of application configurations created for following domain: {1}."},
+    {"CDISA5410E", "The {0} user is not authorized to create a new application configuration for following domain: {1}."},
+    {"CDISA5411E", "The {0} user is not authorized to view the {1} application configuration for the following domain: {2}."},
+    {"CDISA5412E", "The {0} user is not authorized to modify the {1} application configuration for the following domain: {2}."},
+    {"CDISA5413E", "The {0} user is not authorized to delete the {1} application configuration from the following domain: {2}."},
+    {"CDISA5414E", "The specified certificate alias or specified PKCS #12 password is not valid."},
+    {"CDISA5415E", "The specified PKCS #12 password is not valid."},
+    {"CDISA5416E", "The specified certificate alias is not valid."},
+    {"CDISA5417E", "Error checking managed bean permissions. The message is: {0}."},
+    {"CDISA5418E", "The management API request is not valid for the specified instance."},
+    {"CDISA5419E", "The value for the following property must be numeric: {0}."},
+    {"CDISA5420E", "The initial JVM size of {0} cannot be greater than the maximum JVM size of {1}."},
+    {"CDISA5421E", "The following value for the {0} property is not valid: {1}. The property value must be {2} or greater."},
+    {"CDISA5422E", "The following property is not valid: {0}."},
+    {"CDISA5423E", "The {0} domain did not upgrade to version: {1}. The domain is running at version {2}, which does not support the upgrade operation."},
+    {"CDISA5424E", "The domain controller service can only be started by the user root or the {0} user who started the following domain: {1}."},
+    {"CDISA5425E", "You cannot start the domain controller as an unregistered service. The {1} system service is already defined for the {0} domain on the following resource: {2}. "},
+    {"CDISA5426E", "The following domain must be created and started when the current user is not the user root: {0}."},
+    {"CDISA5427E", "The domain controller process cannot be stopped by {0} user. The domain was started by {1} user for the following domain: {2}."},
+    {"CDISA5428E", "The {0} service failed to start for the {2} domain on the following resource: {1}."},
+    {"CDISA5429E", "The request cannot be processed on the controller service for the {0} domain. The controller service is not running as a registered service on the following resource: {1}."},
+    {"CDISA5430E", "The unregistered domain controller process cannot be determined for the following domain: {0}. You must specify the ZooKeeper connection string."},
+    {"CDISA5431E", "The {0} application configuration already exists in the following instance: {1}."},
+    {"CDISA5432E", "The {0} application configuration does not exist in the following instance: {1}."},
+    {"CDISA5433E", "The {0} user is not authorized to list application configurations for following instance: {1}."},
+    {"CDISA5434E", "The {0} user is not authorized to create a new application configuration for following instance: {1}."},
+    {"CDISA5435E", "The {0} user is not authorized to view the {1} application configuration for the following instance: {2}."},
+    {"CDISA5436E", "The {0} user is not authorized to modify the {1} application configuration for the following instance: {2}."},
+    {"CDISA5437E", "The {0} user is not authorized to remove the {1} application configuration from the following instance: {2}."},
+    {"CDISA5438E", "Error trying to establish a management connection to the {0} instance for the following domain: {1}."},
+    {"CDISA5439E", "The {0} user is not authorized to upgrade the following domain: {1}."},
+    {"CDISA5440E", "The {0} user is not authorized to upgrade the following instance: {1}."},
+    {"CDISA5441E", "The {0} instance did not upgrade to version: {1}. Upgrade is not allowed for instances that have active jobs."},
+    {"CDISA5442E", "The unexpected errors following this message occurred while running the following system command: {0}"},
+    {"CDISA5443E", "The {0} system service cannot be enabled on the following resource: {1}. The resource is allocated to the following domain: {2}."},
+    {"CDISA5444E", "The {0} instance cannot be started at version {2} because the {1} domain is running at version {3}. You must upgrade the domain before starting the instance."},
+    {"CDISA5445E", "The {0} instance did not upgrade to version: {2}. You must upgrade the {1} domain before upgrading the instance."},
+    {"CDISA5446E", "The {0} domain did not upgrade to version: {1}. The domain is running at version {2} so an upgrade is not required."},
+    {"CDISA5447E", "The {0} domain did not upgrade to version: {1}. The instance is running at version {2} so an upgrade is not required."},
+    {"CDISA5448E", "The {0} instance cannot be started from streams version {2} because the {1} domain is running at version {3}. You must upgrade the domain before starting the instance or use a compatible streams installation."},
+    {"CDISA5449E", "The following application configuration property is required: {0}."},
+    {"CDISA5450E", "Unable to connect to the IBM Watson IoT Platform. For more information, see the following error message: {0}."},
+    {"CDISA5451E", "Unable to access the IBM Watson Iot Platform. The HTTP code is: {0}. For more information, see the following error message: {1}."},
+    {"CDISA5452E", "The {0} device manager plugin could not be loaded. The following class could not be located in the class path: {1}."},
+    {"CDISA5453E", "The {0} device manager plugin cannot be loaded. The {1} class does not implement the required interface."},
+    {"CDISA5454E", "Unexpected error retrieving information for job: {0}. The message is: {1}."},
+    {"CDISA5455E", "The {0} domain did not upgrade to version: {1}. The upgrade operation is not supported for domains running at an preliminary release."},
+    {"CDISA5456E", "The {0} instance did not upgrade to version: {1}. The upgrade operation is not supported for domains running at an preliminary release."},
+    {"CDISA5457E", "The {0} instance did not upgrade to version: {1}. You cannot upgrade instances when the domain.determineInstanceStartAsVersion property is set to false and the instance.startAsVersion property is specified."},
+    {"CDISA5458E", "The {0} instance did not upgrade to version: {1}. You must start the instance to finish the upgrade process."},
+    {"CDISA5459E", "The {0} resource in the {1} domain does not have the following tag: {2}."},
+    {"CDISA5460E", "The {0} tag is reserved. Only custom tags are allowed to be restricted."},
+    {"CDISA5461E", "The {0} resource cannot be restricted because it is currently in use by the {1} instance(s) in the {2} domain."},
+    {"CDISA5462E", "The specified value is not valid for the following parameter: {0}."},
+    {"CDISA5463E", "The following resource cannot be restricted: {0}. The resource is currently in use by the following PE(s): {1}"},
+    {"CDISA5464W", "Value: {0} is unrecognized for property: {1}. Continuing with value: {2}."},
+    {"CDISA5465E", "The following application configuration property was not specified correctly: {0}. The incorrect value is: {1}."},
+    {"CDISA5466E", "The following ZooKeeper server might be down {0}:{1}.  You might need to restart the service."},
+    {"CDISA5467E", "{0} tag(s) cannot be restricted on the {1} resource in domain {2}. The {3} instance has the following active PE(s): {4}."},
+    {"CDISA5468E", "The {0} tag is not restricted on the {1} resource in the {2} domain."},
+    {"CDISA5469E", "The following domain failed to upgrade: {0}."},
+    {"CDISA5470E", "IBM Streams could not get operator information based on the connection information {0} for the {1} domain and the {2} instance.  "},
+    {"CDISA5471E", "The following job name does not exist: {0}."},
+    {"CDISA5472E", "You must have write permissions for the {0} installation directory."},
+    {"CDISA5473E", "The {0} user is not authorized to list builds for the following domain: {1}."},
+    {"CDISA5474E", "The {0} user is not authorized to create a new build for the following domain: {1}."},
+    {"CDISA5475E", "The {0} user is not authorized to access the {1} build for the following domain: {2}."},
+    {"CDISA5476E", "The {0} user is not authorized to modify the {1} build for the following domain: {2}."},
+    {"CDISA5477E", "The {0} user is not authorized to remove the {1} build from the following domain: {2}."},
+    {"CDISA5478E", "The {0} build does not exist for the following domain: {1}."},
+    {"CDISA5479E", "The {0} build resource is not available for the following domain: {1}."},
+    {"CDISA5480E", "No build resources are available for the following domain: {0}."},
+    {"CDISA5481E", "The {0} build has already completed for the following domain: {1}."},
+    {"CDISA5482E", "The {0} build is already building for the following domain: {1}."},
+    {"CDISA5483E", "The {0} build has not been submitted for the following domain: {1}."},
+    {"CDISA5484E", "The {0} build has not completed successfully for the following domain: {1}. The build artifact is not available."},
+    {"CDISA5485E", "Unable to locate the {0} build artifact for the following build: {1}."},
+    {"CDISA5486E", "The {0} build archive could not be unpackaged on the following build resource: {1}."},
+    {"CDISA5487E", "The following build archive file extension is not supported: {0}."},
+    {"CDISA5488E", "The {0} build failed for the following domain: {1}."},
+    {"CDISA5489E", "The build configuration properties were not supplied for the following build: {0}."},
+    {"CDISA5490E", "No build resources are available for the following domain: {0}."},
+    {"CDISA5491E", "The following build identifier is not valid: {0}."},
+    {"CDISA5492E", "The following build artifact identifier is not valid: {0}."},
+    {"CDISA5493E", "The JMX HTTP server request failed. HTTP response code: {0}. HTTP message: {1}."},
+    {"CDISA5494E", "Can not locate the following build artifact {0}."},
+    {"CDISA5495E", "The {0} directory can not be created on the following build resource: {1}."},
+    {"CDISA5496E", "The {0} user does not exist on the following build resource: {1}."},
+    {"CDISA5497E", "The {0} build timed out for the following domain: {1}."},
+    {"CDISA5498E", "The following application repository identifier is not valid: {0}."},
+    {"CDISA5499E", "The {0} user must be a domain administrator in order to view or update restricted configuration properties for the following domain: {1}."},
+    {"CDISA5500E", "The {0} user must be an instance or domain administrator in order to view or update restricted configuration properties for the following instance: {1}."},
+    {"CDISA5501E", "The following domain does not have restricted configuration properties: {0}."},
+    {"CDISA5502E", "The following instance does not have restricted configuration properties: {0}."},
+    {"CDISA5503E", "The {0} restricted configuration property does not exist for the following domain: {1}."},
+    {"CDISA5504E", "The {0} restricted configuration property does not exist for the following instance: {1}."},
+    {"CDISA5505E", "The destination resource can not be the same as the source resource."},
+    {"CDISA5506E", "The {0} service with process id {1} could not be located on the following resource: {2}."},
+    {"CDISA5507E", "The {0} service can not be moved to the following resource: {1}. The resource must have the following tag: {2}."},
+    {"CDISA5508E", "The {0} service can not be moved to the following resource: {1}. Only one copy of the service can run on a resource."},
+    {"CDISA5509E", "The app service can not be moved from the following resource: {0}. The resource has been configured as an application resource."},
+    {"CDISA5510E", "The app service can not be moved to the following resource: {0}. The resource is running instance management services."},
+    {"CDISA5511E", "No management resources are available for the {0} instance in the following domain: {1}. The instance.applicationOnManagementResourceAllowed property is false."},
+    {"CDISA5512E", "No application resources are available for the {0} instance in the following domain: {1}. The instance.applicationOnManagementResourceAllowed property is false."},
+    {"CDISA5513E", "The build configuration requested the following Streams version: {0}. The version is not installed on the build controller."},
+    {"CDISA5514E", "The build configuration requested the version associated with the following instance: {0}. The instance is currently stopped."},
+    {"CDISA5515E", "The {0} user is not authorized reset metrics for the following domain: {1}."},
+    {"CDISA5516E", "The {0} user is not authorized reset metrics for the following instance: {1}."},
+    {"CDISA5517E", "A build with the following name already exists: {0}."},
+    {"CDISA5518E", "The following build name does not exist: {0}."},
+    {"CDISA5519E", "The {0} instance is running at a version that does not support the property: {1}."},
+    {"CDISA5520E", "{0} is not a directory."},
+    {"CDISA5521E", "{0} is not a file."},
+    {"CDISA5522E", "{0} does not exist."},
+    {"CDISA5523E", "The following content transfer identifier does not exist: {0}."},
+    {"CDISA5524E", "The {0} user is not authorized to create application cache items in the {1} instance for the following domain: {2}."},
+    {"CDISA5525E", "The {0} user is not authorized to list application cache items in the {1} instance for the following domain: {2}."},
+    {"CDISA5526E", "{0} does not exist."},
+    {"CDISA5527E", "Failed to initialize COS repository store, end point: {0} bucket: {1} cause: {2}"},
+    {"CDISA5528E", "Failed to create bucket. Bucket: {0} endpoint: {1} cause: {2}"},
+    {"CDISA5529E", "Failed to remove object from common object storage. Object ID: {0} bucket: {1} cause: {2}"},
+    {"CDISA5530E", "Failed to retrieve data from common object storage. Object ID: {0} bucket: {1} cause: {2}"},
+    {"CDISA5531E", "Failed to write data to common object storage. Object ID: {0} bucket: {1} cause: {2}"},
+    {"CDISA5532E", "Failed to determine if an object exists in common object storage. Object ID: {0} bucket: {1} cause: {2}"},
+    {"CDISA5533E", "The {0} user is not authorized to access application cache item {1} in the {2} instance for the following domain: {3}."},
+    {"CDISA5534E", "The {0} user is not authorized to update application cache item {1} in the {2} instance for the following domain: {3}."},
+    {"CDISA5535E", "The {0} user is not authorized to remove application cache item {1} in the {2} instance for the following domain: {3}."},
+    {"CDISA5536E", "The {0} log directory does not exist on the following resource: {1}."},
+    {"CDISA5537E", "Unexpected error while retrieving job information for resource {0}. Cause: {1}"},
+    {"CDISA5538E", "Tag name is empty and invalid."},
+    {"CDISA5539W", "Java garbage collection took longer than expected for service {1}, pid {2} on resource {3} in domain {4}. The time was {0} millseconds. The service might be overloaded or the resource might be undersized."},
+    {"CDISA5540W", "Java garbage collection took longer than expected for service {1}, pid {2} on resource {3} in instance {4}. The time was {0} millseconds. The service might be overloaded or the resource might be undersized."},
+    {"CDISA5541W", "The java heap memory in use for service {0}, pid {1} on resource {2} in domain {3} is near the maximum size configured. Heap memory: used = {4} bytes, committed = {5} bytes, maximum = {6} bytes."},
+    {"CDISA5542W", "The java heap memory in use for service {0}, pid {1} on resource {2} in instance {3} is near the maximum size configured. Heap memory: used = {4} bytes, committed = {5} bytes, maximum = {6} bytes."},
+    {"CDISA5543E", "The {0} build resource could not locate an available build controller."},
+    {"CDISA5544E", "The {0} build resource could not start a local build controller."},
+    {"CDISA5545E", "The {0} build resource encountered an error communicating with the build controller."},
+    {"CDISA5546E", "The {0} directory can not be created on the build controller."},
+    {"CDISA5547E", "The {0} build archive could not be unpackaged on the build controller."},
+    {"CDISA5548E", "Application cache item {0} does not exist."},
+    {"CDISA5549E", "Build repository item {0} does not exist."},
+    {"CDISA5550E", "Application repository item {0} does not exist."},
+    {"CDISA5551E", "The {0} user is not authorized to store an application for the following domain: {1}."},
+    {"CDISA5552E", "The {0} user is not authorized to access the {1} application for the following domain: {2}."},
+    {"CDISA5553E", "The {0} user is not authorized to list applications for the following domain: {1}."},
+    {"CDISA5554E", "The {0} user is not authorized to remove the {1} application from the following domain: {2}."},
+    {"CDISA5555E", "The {0} user is not authorized to modify the following build resource: {1}."},
+    {"CDISA5556I", "Begin migration of application repository data."},
+    {"CDISA5557I", "Begin migration of build repository data."},
+    {"CDISA5558I", "Begin migration of build archive repository data."},
+    {"CDISA5559I", "Begin migration of application cache repository data."},
+    {"CDISA5560I", "Application repository item {0} has been migrated."},
+    {"CDISA5561I", "Build repository item {0} has been migrated."},
+    {"CDISA5562I", "Build archive repository item {0} has been migrated."},
+    {"CDISA5563I", "Application cache repository item {0} has been migrated."},
+    {"CDISA5564E", "Application repository item {0} failed to migrate. Cause: {1}"},
+    {"CDISA5565E", "Build repository item {0} failed to migrate. Cause: {1}"},
+    {"CDISA5566E", "Build archive repository item {0} failed to migrate. Cause: {1}"},
+    {"CDISA5567E", "Application cache repository item {0} failed to migrate. Cause: {1}"},
+    {"CDISA5568I", "Migration of application repository data has been completed. {0} items migrated successfully. {1} items failed to migrate."},
+    {"CDISA5569I", "Migration of build repository data has been completed. {0} items migrated successfully. {1} items failed to migrate."},
+    {"CDISA5570I", "Migration of build archive repository data has been completed. {0} items migrated successfully. {1} items failed to migrate."},
+    {"CDISA5571I", "Migration of application cache repository data has been completed for instance {2}. {0} items migrated successfully. {1} items failed to migrate."},
+    {"CDISA5572I", "Application repository configuration was set to the following value \"{0}\".  The previous value was \"{1}\". "},
+    {"CDISA5573I", "Build repository configuration was set to the following value \"{0}\".  The previous value was \"{1}\". "},
+    {"CDISA5574I", "Application cache repository configuration for instance {2} was set to the following value \"{0}\".  The previous value was \"{1}\". "},
+    {"CDISA5575I", "Default repository configuration was set to the following value \"{0}\".  The previous value was \"{1}\". "},
+    {"CDISA5576E", "Application repository configuration cannot be removed, repository is not empty. Use the force option to clear the repository and remove the configuration."},
+    {"CDISA5577E", "Build repository configuration cannot be removed, build repository is not empty. Use the force option to clear the repository and remove the configuration."},
+    {"CDISA5578E", "Build repository configuration cannot be removed, build archive repository is not empty. Use the force option to clear the repository and remove the configuration."},
+    {"CDISA5579E", "Application cache repository configuration cannot be removed, application cache repository is not empty in instance {0}. Use the force option to clear the repository and remove the configuration."},
+    {"CDISA5580E", "Dead lock detected in domain JMX process.  Restarting JMX on resource {0}."},
+    {"CDISA8000W", "The embedded ZooKeeper could not be started. You will not be able to manage or create domains in the embedded ZooKeeper; but you can create and manage domains in an external ZooKeeper. The cause of this warning message is: {0}"},
+    {"CDISA9000E", "The Streams Studio application cannot be installed."},
+    {"CDISA9001E", "The Streams Studio application cannot be openned."},
+    {"CDISA9002E", "The {0} domain could not be created because the embedded ZooKeeper is not active."},
+    {"CDISA9003E", "The {0} ZooKeeper connection string could not removed from settings because it was set in your environment either by the STREAMS_ZKCONNECT or through streamtool console mode."},
+    {"CDISA9004E", "The {0} embedded ZooKeeper connection string was not added to Domain Manager settings. It is already unconditionally included in the list of the domains."},
+    {"CDISA9005E", "The {0} domain does not exist. The domain might have been removed outside of the Domain Manager application."},
+    {"CDISA9006E", "The status of the {0} domain is not valid for the action requested. This can occur if another application is performing a conflicting action on the domain. The current state for the domain is {1}."},
+    {"CDISA9007E", "An internal error occurred when creating a domain. The following internal parameter is missing or not valid: {0}. Report this error to IBM support."},
+    {"CDISA9008E", "The LDAP group search is required when LDAP group object is specified."},
+    {"CDISA9009E", "The LDAP group object is required when LDAP group search is specified."},
+    {"CDISA9010E", "The domain no longer exists. The domain might have been removed outside of the Domain Manager application."},
+    {"CDISA9011E", "The action failed because the external resource manager for the domain is not available which resulted in the authentication service not starting. The domain owner will need to either remove the value for the external resource manager domain property or change it to a resource manager that is available."},
+    {"CDISA9012E", "The delete action failed because the external resource manager for the domain is not available which resulted in the authentication service not starting. The domain owner will need to remove the domain with the force option; or remove or change the external resource manager domain property to a value that is available."},
+    {"CDISA9013E", "The {0} user is not authorized to edit the {2} property for the following domain: {1}."},
+    {"CDISA9014E", "{0} is not a valid product version."},
+    {"CDISA9015E", "{0} is not a supported version.  Version must be 4.2.0.0 or later."},
+    {"CDISA9016E", "The IBM Streams Upgrade process is not supported when the domain is configured with the external resource manager: {0}"},
+    {"CDISA9017E", "Failed to create a thread on resource {0}. This can be caused by the specified ulimit settings. Make sure the ulimit setting for nproc is set to the recommended size."},
+    {"MSG1", "Authenticating using certificates failed with the following message. If you want to use certificates to authenticate, you will need to correct the error and try again; or to continue with the request, you will need to authenticate with a user id and password: {0}"},
+    {"MSG2", "<undefined>"},
+  };
+}
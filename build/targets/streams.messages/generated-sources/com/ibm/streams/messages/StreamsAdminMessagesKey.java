@@ -0,0 +1,825 @@
+package com.ibm.streams.messages;
+import com.ibm.streams.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsAdminMessages
+ * This class is generated from StreamsAdminMessages.xlf
+ */
+public class StreamsAdminMessagesKey { 
+
+   public enum Key implements MessageKey {
+       INFO_CMD_COMPLETED("CDISA0001I"),
+       INFO_CMD_CANCEL("CDISA0002I"),
+       INFO_REMOTE_BUILD_WAITING("CDISA0003I"),
+       INFO_REMOTE_BUILD_WAITING_FOR_CONTROLLER("CDISA0004I"),
+       INFO_DYNAMIC_MANAGEMENT_ALLOCATION("CDISA0006I"),
+       INFO_DYNAMIC_APPLICATION_ALLOCATION("CDISA0007I"),
+       INFO_MK_INSTALL_PKG_DIR_OWNER("CDISA0008I"),
+       INFO_MK_INSTALL_UNREG_INFO("CDISA0009I"),
+       INFO_SERVICE_STARTED_INFO("CDISA0010I"),
+       INFO_SERVICE_STARTED_NO_PID("CDISA0011I"),
+       INFO_CONTROLLER_RECOVERING_PES_FOR_JOB("CDISA0012I"),
+       INFO_SWS_START_SUCCESS("CDISA0013I"),
+       INFO_SWS_STOP_SUCCESS("CDISA0014I"),
+       INFO_SWS_LOG_SETTING_CHANGE("CDISA0015I"),
+       INFO_SWS_TRACE_SETTING_CHANGE("CDISA0016I"),
+       INFO_CREATING_DOMAIN("CDISA0017I"),
+       INFO_DOMAIN_CREATED_SUCCESSFULLY("CDISA0018I"),
+       INFO_REMOVING_DOMAIN("CDISA0019I"),
+       INFO_DOMAIN_REMOVED_SUCCESSFULLY("CDISA0020I"),
+       INFO_STARTING_DOMAIN("CDISA0021I"),
+       INFO_DOMAIN_STARTED_SUCCESSFULLY("CDISA0022I"),
+       INFO_STOPPING_DOMAIN("CDISA0023I"),
+       INFO_DOMAIN_STOPPED_SUCCESSFULY("CDISA0024I"),
+       INFO_CLEAN_DOMAIN_RESOURCE("CDISA0025I"),
+       INFO_CREATING_INSTANCE("CDISA0026I"),
+       INFO_INSTANCE_CREATED_SUCCESSFULLY("CDISA0027I"),
+       INFO_REMOVING_INSTANCE("CDISA0028I"),
+       INFO_INSTANCE_REMOVED_SUCCESSFULLY("CDISA0029I"),
+       INFO_STARTING_INSTANCE("CDISA0030I"),
+       INFO_INSTANCE_STARTED_SUCCESSFULLY("CDISA0031I"),
+       INFO_STOPPING_INSTANCE("CDISA0032I"),
+       INFO_INSTANCE_STOPPED_SUCCESSFULLY("CDISA0033I"),
+       INFO_WAITING_FOR_SERVICES_TO_START("CDISA0034I"),
+       INFO_WAITING_FOR_SERVICES_TO_STOP("CDISA0035I"),
+       INFO_UPDATING_DOMAIN_SERVICES("CDISA0036I"),
+       INFO_STARTING_SERVICE("CDISA0037I"),
+       INFO_SERVICE_STARTED("CDISA0038I"),
+       INFO_SERVICE_STARTED_ON_PORT("CDISA0039I"),
+       INFO_SERVICE_STARTED_X_OF_Y("CDISA0040I"),
+       INFO_STOPPING_SERVICE("CDISA0041I"),
+       INFO_SERVICE_STOPPED("CDISA0042I"),
+       INFO_VERIFYING_ALL_CONTROLLERS("CDISA0043I"),
+       INFO_SERVICE_STARTED_ON_PORT_X_OF_Y("CDISA0044I"),
+       INFO_HOST_ADDED_SUCCESSFULLY("CDISA0045I"),
+       INFO_SYS_SERVICE_CREATED_SUCCESSFULLY("CDISA0046I"),
+       INFO_HOST_REMOVED_SUCCESSFULLY("CDISA0047I"),
+       INFO_SYS_SERVICE_REMOVED_SUCCESSFULLY("CDISA0048I"),
+       INFO_STARTING_SYS_SERVICE("CDISA0049I"),
+       INFO_SYS_SERVICE_STARTED_SUCCESSFULLY("CDISA0050I"),
+       INFO_STOPPING_SYS_SERVICE("CDISA0051I"),
+       INFO_SYS_SERVICE_STOPPED_SUCCESSFULLY("CDISA0052I"),
+       INFO_SYS_SERVICE_IS_STARTED("CDISA0053I"),
+       INFO_SYS_SERVICE_IS_STOPPED("CDISA0054I"),
+       INFO_NO_APP_LOGS_AVAILABLE("CDISA0055I"),
+       INFO_INSTANCE_RUN_AS_USER("CDISA0056I"),
+       INFO_DOMAIN_SERVICE_RESTARTING("CDISA0057I"),
+       INFO_INSTANCE_SERVICE_RESTARTING("CDISA0058I"),
+       INFO_UPDATING_INSTANCE_SERVICES("CDISA0059I"),
+       INFO_LOCKING_DOMAIN("CDISA0060I"),
+       INFO_LOCKING_INSTANCE("CDISA0061I"),
+       INFO_ZK_STARTED("CDISA0062I"),
+       INFO_ZK_STOPPED("CDISA0063I"),
+       INFO_STARTING_AUTHORIZATION("CDISA0064I"),
+       INFO_STOPPING_AUTHORIZATION("CDISA0065I"),
+       INFO_DOMAIN_DOES_NOT_EXIST("CDISA0066I"),
+       INFO_PLACING_SERVICE("CDISA0067I"),
+       INFO_PLACING_MULTIPLE_SERVICES("CDISA0068I"),
+       INFO_MK_INSTALL_PKG("CDISA0069I"),
+       INFO_MK_INSTALL_PKG_PROGRESS("CDISA0070I"),
+       INFO_JMX_URL("CDISA0071I"),
+       INFO_SWS_URL("CDISA0072I"),
+       INFO_INSTANCE_LOGS_REMOVED_SUCCESSFULLY("CDISA0073I"),
+       INFO_RESOURCE_NETWORK_COMMUNICATION_RESTORED("CDISA0074I"),
+       INFO_DOMAIN_SERVICE_LEADER_ESTABILISHED("CDISA0075I"),
+       INFO_INSTANCE_SERVICE_LEADER_ESTABILISHED("CDISA0076I"),
+       INFO_DOMAIN_SERVICE_ADDING("CDISA0077I"),
+       INFO_INSTANCE_SERVICE_ADDING("CDISA0078I"),
+       INFO_DOMAIN_SERVICE_REMOVING("CDISA0079I"),
+       INFO_INSTANCE_SERVICE_REMOVING("CDISA0080I"),
+       INFO_DOMAIN_SERVICE_MOVING("CDISA0081I"),
+       INFO_INSTANCE_SERVICE_MOVING("CDISA0082I"),
+       INFO_DYNAMIC_RESOURCE_REPLACED("CDISA0083I"),
+       INFO_DOMAIN_HA_COUNT_CHANGED("CDISA0085I"),
+       INFO_INSTANCE_HA_COUNT_CHANGED("CDISA0086I"),
+       INFO_RESOURCE_MATCHES_SPECIFICATION("CDISA0087I"),
+       INFO_RESOURCE_REPLACED("CDISA0088I"),
+       INFO_DOMAIN_GENKEY_SUCCESS("CDISA0089I"),
+       INFO_DOMAIN_UPDATED_SUCCESSFULLY("CDISA0090I"),
+       INFO_NO_APP_PROFILES_AVAILABLE("CDISA0091I"),
+       INFO_LOADED_PROPFILE_VALUE("CDISA0092I"),
+       INFO_ACTIVE_VIEW_RESTARTED("CDISA0093I"),
+       INFO_ACTIVE_VIEW_STARTED("CDISA0094I"),
+       INFO_CLEAN_INSTANCE_RESOURCE("CDISA0095I"),
+       INFO_DYNAMIC_VIEW_RESTARTED("CDISA0096I"),
+       INFO_HOST_REMOVED_FROM_RESOURCE_SPECIFICATION("CDISA0097I"),
+       INFO_DOMAIN_SERVICE_RESTARTED("CDISA0098I"),
+       INFO_INSTANCE_SERVICE_RESTARTED("CDISA0099I"),
+       INFO_RESOURCE_ACQUIRED_FROM_RESOURCEMGR("CDISA0100I"),
+       INFO_RESOURCE_RETURNED_TO_RESOURCEMGR("CDISA0101I"),
+       INFO_JOB_REGISTRATION_STARTING("CDISA0102I"),
+       INFO_JOB_REGISTRATION_COMPLETE("CDISA0103I"),
+       INFO_REGISTER_ALL_JOBS_COMPLETE("CDISA0104I"),
+       INFO_STARTDOMAINHOST_INSTALLPATH_CHANGE("CDISA0105I"),
+       INFO_UPDATING_EDITION_LICENSE("CDISA0106I"),
+       INFO_UPDATING_LICENSE_FOR_STARTED_DOMAINS("CDISA0107I"),
+       INFO_EDITION_IS_ALREADY_UPDATED("CDISA0108I"),
+       INFO_NO_DOMAINS_ACTIVE_UPDATE_LICENSE("CDISA0109I"),
+       INFO_UPDATING_EDITION_LICENSE_WARNING("CDISA0110I"),
+       INFO_JOB_ALREADY_REGISTERED("CDISA0111I"),
+       INFO_BEAN_FOUND("CDISA0112I"),
+       INFO_ESTABLISHED_RESOURCE_MANAGER_CONNECTION("CDISA0113I"),
+       INFO_APP_CFG_CREATED("CDISA0114I"),
+       INFO_APP_CFG_UPDATED("CDISA0115I"),
+       INFO_APP_CFG_REMOVED("CDISA0116I"),
+       INFO_SYSTEM_SERVICE_PROPERTY_CHANGED("CDISA0117I"),
+       INFO_SYSTEM_SERVICE_USE_OPTION_FROM_FILE("CDISA0118I"),
+       INFO_SYSTEM_SERVICE_OPTION_USE_DEFAULT("CDISA0119I"),
+       INFO_SS_PROPERTY_REMOVED_PENDING_DEFAULT_VALUE("CDISA0120I"),
+       INFO_SS_PROPERTY_REMOVED_DEFAULT_VALUE("CDISA0121I"),
+       INFO_INST_APP_CFG_CREATED("CDISA0122I"),
+       INFO_INST_APP_CFG_REMOVED("CDISA0123I"),
+       INFO_INST_APP_CFG_UPDATED("CDISA0124I"),
+       INFO_DOMAIN_UPGRADED_SUCCESSFULLY("CDISA0125I"),
+       INFO_INSTANCE_UPGRADED_SUCCESSFULLY("CDISA0126I"),
+       INFO_DEVICE_TYPE_COMMAND_HISTORY_CLEARED("CDISA0127I"),
+       INFO_INSTANCE_START_AS_PROPERTY_SET("CDISA0128I"),
+       INFO_STARTING_INSTANCE_AT_DIFFERENT_VERSION("CDISA0129I"),
+       INFO_APP_CFG_DESCRIPTION_UPDATED("CDISA0130I"),
+       INFO_INSTANCE_APP_CFG_DESCRIPTION_UPDATED("CDISA0131I"),
+       INFO_DOMAIN_UPGRADING("CDISA0132I"),
+       INFO_INSTANCE_UPGRADING("CDISA0133I"),
+       INFO_BUILD_RESOURCE_UPDATING_TOOLKIT_PKG("CDISA0134I"),
+       INFO_REMOTE_BUILD_SUBMITTED("CDISA0135I"),
+       INFO_REMOTE_BUILD_SUCCESSFUL("CDISA0136I"),
+       INFO_REMOTE_BUILD_CANCELED("CDISA0137I"),
+       INFO_REMOTE_BUILD_REMOVED("CDISA0138I"),
+       INFO_RESTRICTED_CFG_UPDATED("CDISA0139I"),
+       INFO_RESTRICTED_CFG_REMOVED("CDISA0140I"),
+       INFO_INST_RESTRICTED_CFG_UPDATED("CDISA0141I"),
+       INFO_INST_RESTRICTED_CFG_REMOVED("CDISA0142I"),
+       INFO_SAM_SRM_MOVED_TOGETHER("CDISA0143I"),
+       INFO_DOMAIN_SERVICE_MOVED_SUCCESSFULLY("CDISA0144I"),
+       INFO_INSTANCE_SERVICE_MOVED_SUCCESSFULLY("CDISA0145I"),
+       INFO_DOMAIN_METRICS_RESET_SUCCESSFULLY("CDISA0146I"),
+       INFO_INSTANCE_METRICS_RESET_SUCCESSFULLY("CDISA0147I"),
+       INFO_INSTANCE_RESTRICTED_SUCCESSFULLY("CDISA0148I"),
+       INFO_INSTANCE_UNRESTRICTED_SUCCESSFULLY("CDISA0149I"),
+       WARN_CLEAN_REQUEST_CAN_NOT_CONTACT("CDISA3000W"),
+       WARN_SLES_PAM_USING_UNIX2("CDISA3001W"),
+       WARN_RESOURCE_REVOKED_BY_RESOURCE_MANAGER("CDISA3002W"),
+       WARN_DOMAIN_OPERATIONAL("CDISA3003W"),
+       WARN_INSTANCE_OPERATIONAL("CDISA3004W"),
+       WARN_DOMAIN_OPERATIONAL_CONFIG_DEVIATED("CDISA3005W"),
+       WARN_INSTANCE_OPERATIONAL_CONFIG_DEVIATED("CDISA3006W"),
+       WARN_SYS_SERVICE_SYSLINK_REMOVE("CDISA3007W"),
+       WARN_SYS_SERVICE_DIR_NOT_REMOVED("CDISA3008W"),
+       WARN_SYS_SERVICE_FILE_NOT_REMOVED("CDISA3009W"),
+       WARN_SYS_SERVICE_CTR_TRACE_NOT_REMOVED("CDISA3010W"),
+       WARN_SYS_SERVICE_DOMAIN_NOT_EXIST("CDISA3011W"),
+       WARN_RESOURCE_NOT_AVAILABLE("CDISA3012W"),
+       WARN_ALLOCATE_APPLICATION_RESOURCE("CDISA3013W"),
+       WARN_LOST_RESOURCE_MANAGER_CONNECTION("CDISA3014W"),
+       WARN_NO_ZKCONNECTION_DOMAIN_SYS_SERVICE("CDISA3015W"),
+       WARN_CANNOT_STOP_SYS_SERVICE("CDISA3016W"),
+       WARN_SYS_SERVICE_CANNOT_REMOVE("CDISA3017W"),
+       WARN_ALLOCATE_RESOURCES_SPECIFICATION("CDISA3018W"),
+       WARN_ALLOCATE_MANAGEMENT_RESOURCE("CDISA3019W"),
+       WARN_ALLOCATE_ADDITIONAL_APPLICATION_RESOURCE("CDISA3020W"),
+       WARN_DOMAIN_HA_LIMITATIONS("CDISA3021W"),
+       WARN_INSTANCE_MANAGEMENT_HA_LIMITATIONS("CDISA3022W"),
+       WARN_SYSD_SERVICE_UNIT_REMOVE("CDISA3023W"),
+       WARN_DOMAIN_REMOVED_WITH_WARNINGS("CDISA3024W"),
+       WARN_DOMAIN_STOPPED_WITH_WARNINGS("CDISA3025W"),
+       WARN_INSTANCE_REMOVED_WITH_WARNINGS("CDISA3026W"),
+       WARN_INSTANCE_STOPPED_WITH_WARNINGS("CDISA3027W"),
+       WARN_CONTROLLER_SERVICE_SSH_FAILED("CDISA3028W"),
+       WARN_SERVICE_STOP_TIMEOUT("CDISA3029W"),
+       WARN_SERVICE_STOP_TIMEOUT_KILLING("CDISA3030W"),
+       WARN_SERVICE_STOP_FAILED("CDISA3031W"),
+       WARN_SERVICE_STOP_FAILED_KILLING("CDISA3032W"),
+       WARN_SERVICE_STOP_FAILED_X_OF_Y("CDISA3033W"),
+       WARN_DOMAIN_SERVICE_RESTARTING("CDISA3034W"),
+       WARN_DOMAIN_SERVICE_NOT_RESPONDING("CDISA3035W"),
+       WARN_DOMAIN_SERVICE_NOT_RUNNING_CORRECT_COUNT("CDISA3036W"),
+       WARN_INSTANCE_SERVICE_RESTARTING("CDISA3037W"),
+       WARN_INSTANCE_SERVICE_NOT_RESPONDING("CDISA3038W"),
+       WARN_INSTANCE_SERVICE_NOT_RUNNING_CORRECT_COUNT("CDISA3039W"),
+       WARN_ALLOCATE_VIEW_RESOURCE("CDISA3040W"),
+       WARN_INSTANCE_VIEW_HA_LIMITATIONS("CDISA3041W"),
+       WARN_SERVICE_ALL_PORTS_IN_USE("CDISA3042W"),
+       WARNING_PROPFILE_PROP_IGNORED("CDISA3043W"),
+       WARN_CLEAN_REQUEST_TIMED_OUT("CDISA3044W"),
+       WARN_CLEAN_REQUEST_FAILED("CDISA3045W"),
+       WARN_ZOOKEEPER_DISCONNECT_RECONNECT("CDISA3046W"),
+       WARN_SERVICE_FAILED_BUT_OPERATIONAL("CDISA3047W"),
+       WARN_LOG_DIRECTORY_CREATION("CDISA3048W"),
+       WARN_RMHOST_PE_RELOCATE_TIMED_OUT("CDISA3049W"),
+       WARN_QUIESCE_PE_RELOCATE_TIMED_OUT("CDISA3050W"),
+       WARN_FILE_STORAGE_DIRECTORY_CREATION("CDISA3051W"),
+       WARN_CANNOT_CHANGE_OWNER("CDISA3052W"),
+       WARN_SET_CAPABILITIES_REQUIRES_ROOT("CDISA3053W"),
+       WARN_INSTANCE_SERVICE_NOT_AVAILABLE_ON_RESOURCE("CDISA3054W"),
+       WARN_DOMAIN_SERVICE_NOT_AVAILABLE_ON_RESOURCE("CDISA3055W"),
+       WARN_AUTO_RESUMING_RESOURCE("CDISA3056W"),
+       WARN_ULIMITS_DO_NOT_MEET_RECOMMENDATIONS("CDISA3057W"),
+       WARN_SYSD_SERVICE_UNIT_DISABLE("CDISA3058W"),
+       WARN_REG_SERVICE_FOUND_UNREG_ACTIVE("CDISA3059W"),
+       WARN_PAM_RUNASROOT("CDISA3060W"),
+       WARN_HARD_ULIMITS_INCREASED("CDISA3061W"),
+       WARN_SOFT_ULIMITS_INCREASED("CDISA3062W"),
+       WARN_CANT_FIND_OBJECT("CDISA3063W"),
+       WARN_FILESTORAGE_PATH("CDISA3064W"),
+       WARN_SERVICE_ALREADY_RESTARTING("CDISA3065W"),
+       WARN_INSTANCE_SERVICE_ALREADY_RESTARTING("CDISA3066W"),
+       ERR_PROD_DIR_EXISTS("CDISA5000E"),
+       ERR_PATH_NOT_READ("CDISA5001E"),
+       ERR_PATH_NOT_EXEC("CDISA5002E"),
+       ERR_PATH_NOT_INSTALLED("CDISA5003E"),
+       ERR_CMD_UNABLE_TO_INVOKE("CDISA5004E"),
+       ERR_CMD_IOE("CDISA5005E"),
+       ERR_APP_SERVICE_COMMUNICATION("CDISA5006E"),
+       ERR_INSTANCE_NOT_STARTED("CDISA5007E"),
+       ERR_DIRECTORY_DOES_NOT_EXIST("CDISA5008E"),
+       ERR_DIRECTORY_PERMISSIONS("CDISA5009E"),
+       ERR_AUDIT_LOG4J_NOT_READABLE("CDISA5010E"),
+       ERR_ADL_READ_ERROR("CDISA5011E"),
+       ERR_LOG_DIRECTORY_CREATION("CDISA5012E"),
+       ERR_TAG_DEFINITION_NOT_SUPPORTED("CDISA5013E"),
+       ERR_TAG_DEFINITION_INVALID("CDISA5014E"),
+       ERR_SSH_IS_NOT_ALLOWED("CDISA5015E"),
+       ERR_REMOVE_ID_FILE_FAILED("CDISA5016E"),
+       ERR_PARAMETER_REQUIRED("CDISA5017E"),
+       ERR_URL_NOT_FOUND("CDISA5018E"),
+       ERR_URL_MISSING_REQUEST_ID("CDISA5019E"),
+       ERR_CONTENT_TYPE_NOT_SPECIFIED("CDISA5020E"),
+       ERR_CONTENT_TYPE_NOT_SUPPORTED("CDISA5021E"),
+       ERR_CONTENT_TYPE_UNEXPECTED("CDISA5022E"),
+       ERR_REMOTE_BUILD_CREATE_USER_FAILED("CDISA5023E"),
+       ERR_JMX_SERVICE_CONNECTION("CDISA5024E"),
+       ERR_SSH_KEY_GEN_FAILED("CDISA5025E"),
+       ERR_SSH_PERMISSIONS_FAILED("CDISA5026E"),
+       ERR_SSH_CRT_AUTHKEYS_FAILED("CDISA5027E"),
+       ERR_GENKEY_SETUP_FAILED("CDISA5028E"),
+       ERR_AUTH_ACCESS_DENIED("CDISA5029E"),
+       ERR_LOG_DIRECTORY_IN_USE_BY_ANOTHER_ZK("CDISA5030E"),
+       ERR_RESOURCE_IS_NOT_A_BUILD_RESOURCE("CDISA5031E"),
+       ERR_RUN_AS_USER_REQUIRES_STORAGE_PATH("CDISA5032E"),
+       ERR_HTTP_NETWORK_INTERFACE_NOT_FOUND("CDISA5033E"),
+       ERR_AUTH_USER_TOKEN_MISMATCH("CDISA5034E"),
+       ERR_CONFIGURATION_NOT_JSON("CDISA5035E"),
+       ERR_CONFIGURATION_MISSING_PARTS("CDISA5036E"),
+       ERR_PROPERTY_INVALID("CDISA5037E"),
+       ERR_PROPERTY_INVALID_UNK("CDISA5038E"),
+       ERR_PROPERTY_NOT_SPECIFIED("CDISA5039E"),
+       ERR_SECURITY_OBJECT_NOT_FOUND("CDISA5040E"),
+       ERR_CONTROLLER_ALREADY_RUNNING("CDISA5041E"),
+       ERR_INITIALIZING_SERVICE("CDISA5042E"),
+       ERR_EXTERNAL_RESOURCE_FAILED("CDISA5043E"),
+       ERR_DOMAIN_CREATE_FAILED("CDISA5049E"),
+       ERR_DOMAIN_ALREADY_EXISTS("CDISA5050E"),
+       ERR_DOMAIN_ACTIVE("CDISA5051E"),
+       ERR_DOMAIN_REMOVE_FAILED("CDISA5052E"),
+       ERR_DOMAIN_START_FAILED("CDISA5053E"),
+       ERR_DOMAIN_STOP_FAILED("CDISA5054E"),
+       ERR_DOMAIN_ALREADY_STARTED("CDISA5055E"),
+       ERR_DOMAIN_IS_NOT_STARTED("CDISA5056E"),
+       ERR_DOMAIN_START_NOT_AUTHORIZED("CDISA5057E"),
+       ERR_DOMAIN_STOP_NOT_AUTHORIZED("CDISA5058E"),
+       ERR_DOMAIN_REMOVE_NOT_AUTHORIZED("CDISA5059E"),
+       ERR_DOMAIN_INSTANCES_ACTIVE("CDISA5060E"),
+       ERR_DOMAIN_DOES_NOT_EXIST("CDISA5061E"),
+       ERR_INSTANCE_CREATE_FAILED("CDISA5062E"),
+       ERR_INSTANCE_ALREADY_EXISTS("CDISA5063E"),
+       ERR_INSTANCE_ACTIVE("CDISA5064E"),
+       ERR_INSTANCE_REMOVE_FAILED("CDISA5065E"),
+       ERR_INSTANCE_START_FAILED("CDISA5066E"),
+       ERR_INSTANCE_STOP_FAILED("CDISA5067E"),
+       ERR_INSTANCE_START_NOT_AUTHORIZED("CDISA5068E"),
+       ERR_INSTANCE_STOP_NOT_AUTHORIZED("CDISA5069E"),
+       ERR_INSTANCE_REMOVE_NOT_AUTHORIZED("CDISA5070E"),
+       ERR_INSTANCE_DOES_NOT_EXIST("CDISA5071E"),
+       ERR_INSTANCE_IS_NOT_STARTED("CDISA5072E"),
+       ERR_INSTANCE_ALREADY_STARTED("CDISA5073E"),
+       ERR_SERVICE_START_FAILED("CDISA5074E"),
+       ERR_SERVICE_START_FAILED_X_OF_Y("CDISA5075E"),
+       ERR_SERVICE_START_TIMEOUT("CDISA5076E"),
+       ERR_SERVICE_START_TIMEOUT_X_OF_Y("CDISA5077E"),
+       ERR_SERVICE_START_FAILED_BAD_USER("CDISA5078E"),
+       ERR_SERVICE_START_FAILED_USER_PERMISSIONS("CDISA5079E"),
+       ERR_ROLE_NAME_INVALID("CDISA5080E"),
+       ERR_JOB_GROUP_NAME_INVALID("CDISA5081E"),
+       ERR_UNEXPECTED_ZOOKEEPER("CDISA5082E"),
+       ERR_SERVICE_PORT_IN_USE("CDISA5083E"),
+       ERR_DOMAIN_SERVICE_NOT_AVAILABLE("CDISA5084E"),
+       ERR_DOMAIN_SERVICE_NOT_AVAILABLE_ON_RESOURCE("CDISA5085E"),
+       ERR_INSTANCE_SERVICE_NOT_AVAILABLE("CDISA5086E"),
+       ERR_INSTANCE_SERVICE_NOT_AVAILABLE_ON_RESOURCE("CDISA5087E"),
+       ERR_DOMAIN_CORRUPTED("CDISA5088E"),
+       ERR_UNEXPECTED("CDISA5089E"),
+       ERR_DOMAIN_NAME_INVALID("CDISA5090E"),
+       ERR_INSTANCE_NAME_INVALID("CDISA5091E"),
+       ERR_SERVICE_ALL_PORTS_IN_USE("CDISA5092E"),
+       ERR_INSTANCE_CORRUPTED("CDISA5093E"),
+       ERR_NOT_AUTHORIZED_SEARCH_DOMAIN_HOSTS("CDISA5094E"),
+       ERR_NOT_AUTHORIZED_READ_DOMAIN_CONFIG("CDISA5095E"),
+       ERR_NOT_AUTHORIZED_WRITE_DOMAIN_CONFIG("CDISA5096E"),
+       ERR_NOT_AUTHORIZED_CREATE_INSTANCE("CDISA5097E"),
+       ERR_NOT_ROOT("CDISA5098E"),
+       ERR_SYS_SERVICE_ALREADY_EXISTS("CDISA5099E"),
+       ERR_SERVICE_START_FAILED_ALL_RESOURCES("CDISA5100E"),
+       ERR_CANNOT_CRT_DIR("CDISA5101E"),
+       ERR_CANNOT_CHG_OWNER("CDISA5102E"),
+       ERR_CANNOT_SET_GROUP_PERM("CDISA5103E"),
+       ERR_CANNOT_CHG_GROUP("CDISA5104E"),
+       ERR_TEMPLATE_SCRIPT_FILE_NOT_EXIST("CDISA5105E"),
+       ERR_SERVICE_SYMLINK_FAILED("CDISA5106E"),
+       ERR_CANNOT_ADD_CONFIG_SERVICE("CDISA5107E"),
+       ERR_SYS_SERVICE_NOT_EXIST("CDISA5108E"),
+       ERR_SYS_SERVICE_START_FAILED("CDISA5109E"),
+       ERR_SYS_SERVICE_NOT_STARTED("CDISA5110E"),
+       ERR_SYS_SERVICE_STOP_FAILED("CDISA5111E"),
+       ERR_SYS_SERVICE_ALREADY_STARTED("CDISA5112E"),
+       ERR_APP_CONFIG_NAME_INVALID("CDISA5113E"),
+       ERR_SYS_SERVICE_REMOVED_WITH_WARNING("CDISA5114E"),
+       ERR_NOT_AUTHORIZED_SYSTEM_LOGS("CDISA5115E"),
+       ERR_NOT_AUTHORIZED_INSTANCE_APP_LOGS("CDISA5116E"),
+       ERR_NOT_AUTHORIZED_INSTANCE("CDISA5117E"),
+       ERR_LOG_FILE_DOES_NOT_EXIST("CDISA5118E"),
+       ERR_LOG_RETRIEVAL_TIMEOUT("CDISA5119E"),
+       ERR_NOT_AUTHORIZED_INSTANCE_SYSTEM_LOGS("CDISA5120E"),
+       ERR_NOT_AUTHORIZED_READ_VIEW("CDISA5121E"),
+       ERR_TUPLE_DEFINITION_CHANGED("CDISA5122E"),
+       ERR_NOT_AUTHORIZED_ACCESS_VIEW("CDISA5123E"),
+       ERR_REMOVE_DOMAIN_HOST_FAILED_HOST_STARTING("CDISA5124E"),
+       ERR_BUILD_NAME_INVALID("CDISA5125E"),
+       ERR_QUIESCE_FAILED_LAST_RESOURCE("CDISA5128E"),
+       ERR_INVALID_CHAR_ITEM_NAME("CDISA5129E"),
+       ERR_INVALID_CHAR_ITEM_DESC("CDISA5130E"),
+       ERR_NOT_AUTHORIZED_ADD_DOMAIN_HOSTS("CDISA5131E"),
+       ERR_NOT_AUTHORIZED_DELETE_DOMAIN_HOSTS("CDISA5132E"),
+       ERR_NOT_AUTHORIZED_READ_DOMAIN_HOSTS("CDISA5133E"),
+       ERR_NOT_AUTHORIZED_WRITE_DOMAIN_HOSTS("CDISA5134E"),
+       ERR_NOT_AUTHORIZED_READ_JOB("CDISA5135E"),
+       ERR_REMOVE_DOMAIN_HOST_FAILED_LAST_HOST("CDISA5136E"),
+       ERR_DOMAIN_SERVICE_STOP_NOT_AUTHORIZED("CDISA5137E"),
+       ERR_INSTANCE_SERVICE_STOP_NOT_AUTHORIZED("CDISA5138E"),
+       ERR_HOST_TAG_IN_USE("CDISA5139E"),
+       ERR_INSTANCE_VERSION_NOT_COMPATIBLE("CDISA5140E"),
+       ERR_DOMAIN_BUSY("CDISA5141E"),
+       ERR_INSTANCE_BUSY("CDISA5142E"),
+       ERR_ZK_NOT_STARTED("CDISA5143E"),
+       ERR_ZK_NOT_STOPPED("CDISA5144E"),
+       ERR_INVALID_PROP_VALUE("CDISA5145E"),
+       ERR_UNSUPPORTED_PROP_VALUE("CDISA5146E"),
+       ERR_NOT_AUTHORIZED_SEARCH_JOBS("CDISA5148E"),
+       ERR_SYS_SERVICE_RESTART_FAILED("CDISA5149E"),
+       ERR_DOMAIN_REMOVE_HOST_OTHER_SERVICES("CDISA5151E"),
+       ERR_DOMAIN_REMOVE_HOST_INSTANCE_SERVICES("CDISA5152E"),
+       ERR_NOT_AUTHORIZED_WRITE_INSTANCE_CONFIG("CDISA5154E"),
+       ERR_ROLE_EXISTS("CDISA5155E"),
+       ERR_ROLE_DOES_NOT_EXIST("CDISA5156E"),
+       ERR_RESOURCE_DOES_NOT_EXIST("CDISA5157E"),
+       ERR_ALLOCATE_DOMAIN_MANAGEMENT_RESOURCES("CDISA5158E"),
+       ERR_INSTANCE_NO_RESOURCES_AVAILABLE("CDISA5159E"),
+       ERR_INSTANCE_NO_SYSTEM_SERVICES_AVAILABLE("CDISA5160E"),
+       ERR_INSTALL_PKG_NOT_FOUND("CDISA5162E"),
+       ERR_INSTALL_PKG_DOWNLOAD("CDISA5163E"),
+       ERR_RESOURCE_MANAGER_NOT_CONFIGURED("CDISA5164E"),
+       ERR_LDAP_ERROR("CDISA5165E"),
+       ERR_LDAP_COMM_ERROR("CDISA5166E"),
+       ERR_INSTALLDIR_NAME_INVALID("CDISA5167E"),
+       ERR_PKGDIR_NOT_WRITEABLE("CDISA5168E"),
+       ERR_PKGDIR_NOT_EXIST("CDISA5170E"),
+       ERR_INSTALL_PKG_NOT_IN_INSTALLATION("CDISA5171E"),
+       ERR_SEC_OBJ_NOT_FOUND("CDISA5172E"),
+       ERR_RESOURCE_RUNNING_CRITICAL_DOMAIN_SERVICES("CDISA5173E"),
+       ERR_RESOURCE_RUNNING_CRITICAL_INSTANCE_SERVICES("CDISA5174E"),
+       ERR_HTML_PARSE("CDISA5175E"),
+       ERR_CONFIG_ALREADY_EXISTS("CDISA5177E"),
+       ERR_CONFIG_DOES_NOT_EXIST("CDISA5178E"),
+       ERR_CONFIG_INSTANCE_HOST_EXISTS("CDISA5179E"),
+       ERR_CONFIG_DOMAIN_HOST_DOES_NOT_EXIST("CDISA5180E"),
+       ERR_CONFIG_NO_PENDING_VALUE("CDISA5181E"),
+       ERR_CONFIG_NO_PENDING_SPEC("CDISA5182E"),
+       ERR_CONFIG_PROPERTY_NOT_FOUND("CDISA5183E"),
+       ERR_CONFIG_PROPERTY_READ_ONLY("CDISA5184E"),
+       ERR_CONFIG_INVALID_PROPERTY_VALUE("CDISA5185E"),
+       ERR_CONFIG_TAG_DOES_NOT_EXIST("CDISA5186E"),
+       ERR_CONFIG_TAG_IN_USE_BY_HOST("CDISA5187E"),
+       ERR_CONFIG_TAG_IN_USE_BY_INSTANCE("CDISA5188E"),
+       ERR_CONFIG_CANNOT_CHANGE_RESERVED_TAG("CDISA5189E"),
+       ERR_CONFIG_TAG_NOT_VALID_FOR_SPEC("CDISA5191E"),
+       ERR_CANNOT_SET_BOOTSTRAP_PROPERTIES_WITH_MANAGED_ZK_RUNNING("CDISA5193E"),
+       ERR_HOST_NAME_NOT_RESOLVING("CDISA5194E"),
+       ERR_CANNOT_REMOVE_PREDEFINED_DOMAIN_ROLE("CDISA5195E"),
+       ERR_CANNOT_REMOVE_PREDEFINED_INSTANCE_ROLE("CDISA5196E"),
+       ERR_HOST_IS_EXCLUSIVE("CDISA5197E"),
+       ERR_JMX_NO_AVAILABLE_PORT("CDISA5198E"),
+       ERR_DOMAIN_IS_NOT_OPERATIONAL("CDISA5199E"),
+       ERR_CONFIG_REPOS_IN_USE("CDISA5200E"),
+       ERR_INSTANCE_ACTIVE_CLEAN_LOG("CDISA5201E"),
+       ERR_INSTANCE_REMOVE_LOGS_NOT_AUTHORIZED("CDISA5202E"),
+       ERR_DOMAIN_ACTIVE_CLEAN_LOG("CDISA5203E"),
+       ERR_DOMAIN_REMOVE_LOGS_NOT_AUTHORIZED("CDISA5204E"),
+       ERR_DOMAIN_CHECK_USER_PERM_NOT_AUTHORIZED("CDISA5205E"),
+       ERR_INSTANCE_CHECK_USER_PERM_NOT_AUTHORIZED("CDISA5206E"),
+       ERR_RESOURCE_NETWORK_COMMUNICATION_FAILED("CDISA5207E"),
+       ERR_CANNOT_REMOVE_PREDEFINED_JOBGROUP("CDISA5208E"),
+       ERR_JOBGROUP_EXISTS("CDISA5209E"),
+       ERR_JOBGROUP_DOES_NOT_EXIST("CDISA5210E"),
+       ERR_ZK_INVALID_PORT("CDISA5212E"),
+       ERR_ZK_UNKNOWN_HOST("CDISA5213E"),
+       ERR_ZK_INVALID_SYNTAX("CDISA5214E"),
+       ERR_NOT_AUTHORIZED_READ_JOBGROUP("CDISA5215E"),
+       ERR_DOMAIN_GENKEY_FAILED("CDISA5216E"),
+       ERR_DOMAIN_UPDATE_NOT_AUTHORIZED("CDISA5217E"),
+       ERR_DOMAIN_UPDATE_FAILED("CDISA5218E"),
+       ERR_TAG_IN_USE_BY_INSTANCE_SPECIFICATION("CDISA5219E"),
+       ERR_INSTANCE_REMOVE_HOST_TIMEOUT("CDISA5220E"),
+       INFO_ANNOTATED_VIEW_ADDED("CDISA5221I"),
+       INFO_ANNOTATED_VIEW_REMOVED("CDISA5222I"),
+       ERR_ANNOTATED_VIEW_NOT_FOUND("CDISA5223E"),
+       ERR_USER_TOKEN_NOT_SPECIFIED("CDISA5224E"),
+       ERR_VIEW_ID_NOT_SPECIFIED("CDISA5225E"),
+       ERR_INVALID_JOB_ID("CDISA5226E"),
+       ERR_JOB_ID_NOT_SPECIFIED("CDISA5227E"),
+       ERR_NOT_AUTHORIZED_OWN_DOMAIN_OBJECT("CDISA5228E"),
+       ERR_NOT_AUTHORIZED_OWN_INSTANCE_OBJECT("CDISA5229E"),
+       ERR_JOB_ID_NOT_FOUND("CDISA5230E"),
+       ERR_NOT_AUTHORIZED_TO_JOB("CDISA5231E"),
+       ERR_HOST_TAG_IN_USE_BY_PE("CDISA5232E"),
+       ERR_INSTANCE_ADD_HOST_TIMEOUT("CDISA5233E"),
+       ERR_DYNAMIC_VIEW_NOT_FOUND("CDISA5234E"),
+       ERR_CHECKHOST_NO_REFHOST_INFO("CDISA5235E"),
+       ERR_VIEW_NAME_NOT_SPECIFIED("CDISA5236E"),
+       ERR_JOB_NAME_NOT_SPECIFIED("CDISA5237E"),
+       ERR_ANNOTATED_VIEW_NOT_FOUND_BY_NAME("CDISA5238E"),
+       ERR_INVALID_LOCALE("CDISA5239E"),
+       ERR_INVALID_ENCODING("CDISA5240E"),
+       ERR_CONTROLLER_OS_ARCH_MISMATCH("CDISA5241E"),
+       ERR_CONTROLLER_OS_VERSION_NOT_SUPPORTED("CDISA5242E"),
+       ERR_CONTROLLER_OS_NOT_SUPPORTED("CDISA5243E"),
+       ERR_CONTROLLER_OS_PLATFORM_NOT_FULLY_SUPPORTED("CDISA5244E"),
+       ERR_CANNOT_READ_METRIC_METADATA("CDISA5245E"),
+       ERR_JOB_NAME_INVALID("CDISA5246E"),
+       ERR_FAIL_RESTORE_ANNOTATED_VIEW_JOB("CDISA5247E"),
+       ERROR_FAIL_VIEW_RESTART("CDISA5248E"),
+       ERROR_FAIL_RETRIEVE_DYNAMIC_VIEW("CDISA5249E"),
+       ERROR_FAIL_DYNAMIC_VIEW_RESTART("CDISA5250E"),
+       ERR_INSTANCE_ADD_RESOURCE_SPECIFICATION_TIMEOUT("CDISA5251E"),
+       ERR_EMBEDDED_ZK_QUORUM_NOT_LOCAL_HOST("CDISA5252E"),
+       ERR_NOT_AUTHORIZED_CREATE_JOBGROUP("CDISA5253E"),
+       ERR_NOT_AUTHORIZED_READ_INSTANCE_CONFIG("CDISA5254E"),
+       ERR_NOT_AUTHORIZED_READ_INSTANCE_HOSTS("CDISA5255E"),
+       ERR_NOT_AUTHORIZED_WRITE_INSTANCE_HOSTS("CDISA5256E"),
+       ERR_NOT_AUTHORIZED_SEARCH_INSTANCE_HOSTS("CDISA5257E"),
+       ERR_NOT_AUTHORIZED_ADD_INSTANCE_HOSTS("CDISA5258E"),
+       ERR_NOT_AUTHORIZED_DELETE_INSTANCE_HOSTS("CDISA5259E"),
+       ERR_GET_PE_CONNECTION("CDISA5260E"),
+       ERR_SERVICE_JVM_MAX_SIZE_REQUIRED("CDISA5261E"),
+       ERR_SERVICE_INITIAL_JVM_GT_MAX_JVM("CDISA5262E"),
+       ERR_NOT_AUTHORIZED_ACCESS_INSTANCE_HOSTS("CDISA5263E"),
+       ERR_DOMAIN_STARTED_NO_STARTED_CONTROLLERS("CDISA5264E"),
+       APPBNDL_DIRECTORY_CREATION("CDISA5265E"),
+       ERR_INVALID_FORMAT("CDISA5266E"),
+       ERR_NOT_AUTHORIZED_OWN_INSTANCE_JOBGROUP("CDISA5267E"),
+       ERR_EMBEDDED_ZK_DOMAIN_HOST_INSTALL("CDISA5268E"),
+       ERR_LDAP_SECONDARY_CONFIG_ERROR_NOMATCH("CDISA5269E"),
+       ERR_LDAP_SECONDARY_CONFIG_ERROR_MANYMATCHES("CDISA5270E"),
+       ERR_LDAP_SECONDARY_CONFIG_MALFORMED("CDISA5271E"),
+       ERR_NOT_AUTHORIZED_DOMAIN("CDISA5272E"),
+       INVALID_APPBNDL_DIRECTORY_USED_DEFAULT("CDISA5273E"),
+       ERR_INSTANCE_MANAGE_NOT_AUTHORIZED("CDISA5274E"),
+       ERR_RESOURCE_NOT_IN_INSTANCE("CDISA5275E"),
+       ERR_DOMAIN_SERVICE_NOT_CONFIGURED_FOR_RESOURCE("CDISA5276E"),
+       ERR_INSTANCE_SERVICE_NOT_CONFIGURED_FOR_RESOURCE("CDISA5277E"),
+       ERR_DOMAIN_SERVICE_RESTART_FAILED("CDISA5278E"),
+       ERR_INSTANCE_SERVICE_RESTART_FAILED("CDISA5279E"),
+       ERR_CONTROLLER_RESTART_FAILED_SYSTEM_SERVICE("CDISA5280E"),
+       ERR_JOB_SECURED_OBJECT_CHANGE_PERMISSIONS("CDISA5281E"),
+       ERR_CANNOT_REMOVE_LAST_DOMAIN_ROLE_USER("CDISA5282E"),
+       ERROR_OPERATION_LISTENER_DOES_NOT_EXIST("CDISA5283E"),
+       ERROR_BUNDLE_FILE_NAME_FORMAT("CDISA5284E"),
+       ERROR_APPLICATION_ID_DOES_NOT_EXIST("CDISA5285E"),
+       ERROR_REGISTER_JOB("CDISA5286E"),
+       ERROR_REGISTER_JOBS("CDISA5287E"),
+       ERROR_VIEW_SERVICE_CALL("CDISA5288E"),
+       ERROR_JOB_NOT_FOUND("CDISA5289E"),
+       ERROR_MISSING_PARAMETER("CDISA5290E"),
+       ERROR_PE_NOT_FOUND("CDISA5291E"),
+       ERR_NOT_AUTHORIZED_ADD_JOBS("CDISA5292E"),
+       ERR_NOT_ROOT_OR_INSTALL_OWNER("CDISA5293E"),
+       ERR_NOT_RIGHT_EDITION_TO_UPDATE("CDISA5294E"),
+       ERR_CANNOT_UPDATE_EDITION("CDISA5295E"),
+       ERR_PRODUCT_TAR_FILE_NOT_EXIST("CDISA5296E"),
+       ERR_CANNOT_REMOVE_FILES("CDISA5297E"),
+       REGISTER_JOB_COMPLETE_WITH_ERRORS("CDISA5298E"),
+       ERR_RESOURCE_CONTAINS_CRITICAL_APP_BUNDLE("CDISA5299E"),
+       ERR_INVALID_LDAP_URL("CDISA5300E"),
+       ERR_CONFIG_INVALID_PROPERTY_VALUE_CHECKPOINT_REPOSITORY_CONFIGURATION("CDISA5301E"),
+       UPGRADE_COPY_SOFTWARE_FAILED("CDISA5302E"),
+       UPGRADE_NOT_ALLOWED_RESOURCE_NOT_IN_DOMAIN("CDISA5303E"),
+       ERR_FAIL_RESTORE_VIEWS("CDISA5304E"),
+       ERR_ZK_NOT_STOPPED_ACTIVE_DOMAINS("CDISA5305E"),
+       ERR_ZK_NOT_STOPPED_IN_USE("CDISA5306E"),
+       ERR_ZK_NOT_STARTED_PORT_NOT_AVAILABLE("CDISA5307E"),
+       ERR_ZK_NOT_STARTED_ZKMON_PORT_NOT_AVAILABLE("CDISA5308E"),
+       ERR_ZK_NOT_STARTED_DIFFERENT_HOST("CDISA5309E"),
+       ERR_CANNOT_UNREGISTER_BEAN("CDISA5310E"),
+       ERR_NOT_AUTHORIZED_READ_JOB_FOR_VIEW("CDISA5311E"),
+       ERR_LDAP_USERDN_MALFORMED("CDISA5312E"),
+       ERR_CALLING_FIXUP_SYSTEM_SERVICE("CDISA5313E"),
+       ERR_CANNOT_GET_PADL("CDISA5314E"),
+       INFO_USER_LOGGED_IN("CDISA5315I"),
+       INFO_LOGIN_BAD_CREDENTIAL("CDISA5316E"),
+       INFO_LOGIN_NOT_ALLOWED("CDISA5317E"),
+       INFO_LOGIN_ERROR("CDISA5318E"),
+       INFO_USER_LOGGED_OUT("CDISA5319I"),
+       INFO_LOGOUT_ERROR("CDISA5320E"),
+       INFO_CERT_LOGGED_IN("CDISA5321I"),
+       INFO_CERT_FAILED_LOG_IN("CDISA5322E"),
+       INFO_CERT_LOGIN_ERROR("CDISA5323E"),
+       REMOVED_DOMAIN_SEC_OBJ("CDISA5324I"),
+       REMOVED_DOMAIN_SEC_OBJ_ERROR("CDISA5325E"),
+       REMOVED_INSTANCE_SEC_OBJ("CDISA5326I"),
+       REMOVED_INSTANCE_SEC_OBJ_ERROR("CDISA5327E"),
+       REMOVED_DOMAIN_OBJ_USER("CDISA5328I"),
+       REMOVED_DOMAIN_OBJ_USER_ERROR("CDISA5329E"),
+       REMOVED_INSTANCE_OBJ_USER("CDISA5330I"),
+       REMOVED_INSTANCE_OBJ_USER_ERROR("CDISA5331E"),
+       REMOVED_DOMAIN_OBJ_GROUP("CDISA5332I"),
+       REMOVED_DOMAIN_OBJ_GROUP_ERROR("CDISA5333E"),
+       REMOVED_INSTANCE_OBJ_GROUP("CDISA5334I"),
+       REMOVED_INSTANCE_OBJ_GROUP_ERROR("CDISA5335E"),
+       REMOVED_DOMAIN_OBJ_ROLE("CDISA5336I"),
+       REMOVED_DOMAIN_OBJ_ROLE_ERROR("CDISA5337E"),
+       REMOVED_INSTANCE_OBJ_ROLE("CDISA5338I"),
+       REMOVED_INSTANCE_OBJ_ROLE_ERROR("CDISA5339E"),
+       SET_DOMAIN_USER_PERMISSION("CDISA5340I"),
+       SET_DOMAIN_USER_PERMISSION_ERROR("CDISA5341I"),
+       SET_INSTANCE_USER_PERMISSION("CDISA5342I"),
+       SET_INSTANCE_USER_PERMISSION_ERROR("CDISA5343I"),
+       SET_DOMAIN_GROUP_PERMISSION("CDISA5344I"),
+       SET_DOMAIN_GROUP_PERMISSION_ERROR("CDISA5345I"),
+       SET_INSTANCE_GROUP_PERMISSION("CDISA5346I"),
+       SET_INSTANCE_GROUP_PERMISSION_ERROR("CDISA5347I"),
+       SET_DOMAIN_ROLE_PERMISSION("CDISA5348I"),
+       SET_DOMAIN_ROLE_PERMISSION_ERROR("CDISA5349I"),
+       SET_INSTANCE_ROLE_PERMISSION("CDISA5350I"),
+       SET_INSTANCE_ROLE_PERMISSION_ERROR("CDISA5351I"),
+       ERR_CONFIG_NONPOSITIVE_RESOURCESPEC_COUNT("CDISA5352E"),
+       ERR_CONFIG_VALIDATE_PROPERTY("CDISA5353E"),
+       ERR_CONFIG_UNEXPECTED_ENUM_VALUE("CDISA5354E"),
+       ERR_CONFIG_UNEXPECTED_ENUM_TYPE("CDISA5355E"),
+       ERR_CONFIG_CANNOT_ACCESS_VALIDATOR("CDISA5356E"),
+       ERROR_INVALID_COMMAND_FORMAT("CDISA5357E"),
+       FILE_MISSING_FROM_INSTALL_ERROR("CDISA5358E"),
+       CREATING_RESOURCE_PACKAGE_ERROR("CDISA5359E"),
+       ERR_INVALID_APPBUNDLE_CONTENTS("CDISA5360E"),
+       ERR_CONFIG_TAG_DEFINITION_NOT_PROPERTIES("CDISA5361E"),
+       ERR_CONFIG_PROPERTY_WRITE_ONLY("CDISA5362E"),
+       ERR_FILE_STORAGE_DIRECTORY_CREATION("CDISA5363E"),
+       ERR_JMX_NOT_AVAILABLE("CDISA5364E"),
+       ERR_JMX_CONNECTION_REFUSED("CDISA5365E"),
+       ERROR_CREATE_LDAP_ADMIN_PWD_MISSING_ADMIN_USER("CDISA5366E"),
+       ERROR_CREATE_LDAP_ADMIN_USER_MISSING_ADMIN_PWD("CDISA5367E"),
+       ERROR_CREATE_LDAP_ADMIN_MISSING_USERSEARCH("CDISA5368E"),
+       ERROR_INVALID_INSTANCE_VERSION("CDISA5369E"),
+       ERROR_DM_CANNOT_OPEN("CDISA5370E"),
+       INFO_GOV_APP_REGISTERED("CDISA5371I"),
+       ERR_GOV_FAILED_HTTP("CDISA5372E"),
+       ERR_GOV_FAILED_EXC("CDISA5373E"),
+       ERR_GOV_URL_NOT_SET("CDISA5374E"),
+       ERR_GOV_URL_MALFORMED("CDISA5375E"),
+       ERR_GOV_FAILED_JOB("CDISA5376E"),
+       ERR_GOV_FAILED_IMPORT_JOB("CDISA5377E"),
+       ERR_GOV_FAILED_EXPORT_JOB("CDISA5378E"),
+       ERR_GOV_FAILED_HTTP_IMPORT("CDISA5379E"),
+       ERR_GOV_FAILED_HTTP_EXPORT("CDISA5380E"),
+       ERR_GOV_FAILED_EXC_IMPORT("CDISA5381E"),
+       ERR_GOV_FAILED_EXC_EXPORT("CDISA5382E"),
+       INFO_GOV_APP_REGISTERED_IMPORT("CDISA5383I"),
+       INFO_GOV_APP_REGISTERED_EXPORT("CDISA5384I"),
+       ERR_GOV_USER_NOT_SET("CDISA5385E"),
+       ERR_GOV_PASSWORD_NOT_SET("CDISA5386E"),
+       ERR_UNEXPECTED_ERROR_GOV("CDISA5387E"),
+       ERR_GOV_FAILED_HTTP_SOURCE("CDISA5388E"),
+       INFO_GOV_APP_REGISTERED_SOURCE("CDISA5389I"),
+       ERR_GOV_FAILED_EXC_SOURCE("CDISA5390E"),
+       ERR_GOV_FAILED_HTTP_SINK("CDISA5391E"),
+       INFO_GOV_APP_REGISTERED_SINK("CDISA5392I"),
+       ERR_GOV_FAILED_EXC_SINK("CDISA5393E"),
+       ERR_TRUSTED_ORIGIN_INVALID("CDISA5394E"),
+       ERR_UNSUPPORTED_APPBUNDLE_VERSION("CDISA5395E"),
+       ERR_GOV_FAILED_HTTP_SOURCE_NO_RC("CDISA5396E"),
+       ERR_GOV_REG_FAILED("CDISA5397E"),
+       ERR_NOT_AUTHORIZED_ADD_JOBGROUP("CDISA5400E"),
+       ERR_SERVICE_COMMUNICATION("CDISA5401E"),
+       ERR_NOT_AUTHORIZED_ADD_JOB("CDISA5402E"),
+       ERR_NOT_AUTHORIZED_DELETE_JOB("CDISA5403E"),
+       ERR_NOT_AUTHORIZED_OVERRIDE_JOB_SUBMIT("CDISA5404E"),
+       ERR_NOT_AUTHORIZED_WRITE_JOB("CDISA5405E"),
+       ERR_GET_PE_RUNTIME_CONNECTION("CDISA5406E"),
+       ERR_APP_CONFIG_ALREADY_EXISTS("CDISA5407E"),
+       ERR_APP_CONFIG_DOES_NOT_EXIST("CDISA5408E"),
+       ERR_NOT_AUTHORIZED_SEARCH_APP_CONFIG("CDISA5409E"),
+       ERR_NOT_AUTHORIZED_CREATE_APP_CONFIG("CDISA5410E"),
+       ERR_NOT_AUTHORIZED_READ_APP_CONFIG("CDISA5411E"),
+       ERR_NOT_AUTHORIZED_WRITE_APP_CONFIG("CDISA5412E"),
+       ERR_NOT_AUTHORIZED_DELETE_APP_CONFIG("CDISA5413E"),
+       ERR_CERT_ALIAS_PKCS12_PASS_INVALID("CDISA5414E"),
+       ERR_PKCS12_PASS_INVALID("CDISA5415E"),
+       ERR_CERT_ALIAS_INVALID("CDISA5416E"),
+       ERROR_CHECK_JMX_SECURITY("CDISA5417E"),
+       ERR_NOT_VALID_FROM_INSTANCE("CDISA5418E"),
+       ERR_MUST_BE_NUMERIC("CDISA5419E"),
+       ERR_SS_INITIAL_JVM_GT_MAX_JVM("CDISA5420E"),
+       ERR_SS_VALUE_NOT_VALID("CDISA5421E"),
+       ERR_SS_INVALID_PROP("CDISA5422E"),
+       UPGRADE_NOT_ALLOWED_INCOMPATIBLE_DOMAIN_VERSION("CDISA5423E"),
+       ERR_STARTEDBY_NOT_CURRENT("CDISA5424E"),
+       ERR_CANNOT_START_UNREG_REG_SS_EXISTS("CDISA5425E"),
+       ERR_NOT_ROOT_DOMAIN_MUST_EXIST_AND_STARTED("CDISA5426E"),
+       ERR_USER_CANNOT_STOP_PROCESS("CDISA5427E"),
+       ERR_CONTROLLER_SERVICE_START_FAILED("CDISA5428E"),
+       ERR_NOT_REGISTERED_SERVICE("CDISA5429E"),
+       ERR_ZK_REQUIRED_MULTIPLE("CDISA5430E"),
+       ERR_INST_APP_CONFIG_ALREADY_EXISTS("CDISA5431E"),
+       ERR_INST_APP_CONFIG_DOES_NOT_EXIST("CDISA5432E"),
+       ERR_NOT_AUTHORIZED_SEARCH_INST_APP_CONFIG("CDISA5433E"),
+       ERR_NOT_AUTHORIZED_CREATE_INST_APP_CONFIG("CDISA5434E"),
+       ERR_NOT_AUTHORIZED_READ_INST_APP_CONFIG("CDISA5435E"),
+       ERR_NOT_AUTHORIZED_WRITE_INST_APP_CONFIG("CDISA5436E"),
+       ERR_NOT_AUTHORIZED_DELETE_INST_APP_CONFIG("CDISA5437E"),
+       ERROR_CONN_IJMX("CDISA5438E"),
+       ERR_DOMAIN_UPGRADE_NOT_AUTHORIZED("CDISA5439E"),
+       ERR_INSTANCE_UPGRADE_NOT_AUTHORIZED("CDISA5440E"),
+       ERR_INSTANCE_UPGRADE_NOT_ALLOWED_JOBS_RUNNING("CDISA5441E"),
+       ERR_UNEXPECTED_RUNNING_SYS_COMMAND("CDISA5442E"),
+       ERR_SYSD_SERVICE_UNIT_ENABLE("CDISA5443E"),
+       ERR_INSTANCE_VERSION_START_NOT_ALLOWED("CDISA5444E"),
+       ERR_INSTANCE_UPGRADE_NOT_ALLOWED_DOMAIN_DOWNLEVEL("CDISA5445E"),
+       ERR_DOMAIN_UPGRADE_NOT_NECESSARY("CDISA5446E"),
+       ERR_INSTANCE_UPGRADE_NOT_NECESSARY("CDISA5447E"),
+       ERR_INSTALL_VERSION_NOT_ALLOWED("CDISA5448E"),
+       ERR_APP_CONFIG_PROPERTY_REQUIRED("CDISA5449E"),
+       ERR_WATSON_IOT_CONNECT_FAILURE("CDISA5450E"),
+       ERR_WATSON_IOT_HTTP_FAILURE("CDISA5451E"),
+       ERR_DEVICE_PLUGIN_LOAD_FAILURE("CDISA5452E"),
+       ERR_DEVICE_PLUGIN_WRONG_INTERFACE("CDISA5453E"),
+       ERR_RETRIEVING_JOB_INFO("CDISA5454E"),
+       ERR_DOMAIN_UPGRADE_NOT_ALLOWED_ALPHA_BETA("CDISA5455E"),
+       ERR_INSTANCE_UPGRADE_NOT_ALLOWED_ALPHA_BETA("CDISA5456E"),
+       ERR_INSTANCE_UPGRADE_NOT_ALLOWED_START_VERSION_SET("CDISA5457E"),
+       ERR_INSTANCE_UPGRADE_NOT_ALLOWED_INSTANCE_NOT_STARTED("CDISA5458E"),
+       ERR_RESOURCE_DOES_NOT_HAVE_TAG("CDISA5459E"),
+       ERR_CAN_NOT_RESTRICT_RESERVED_TAG("CDISA5460E"),
+       ERR_CAN_NOT_RESTRICT_RESOURCE_INSTANCES_IN_USE("CDISA5461E"),
+       ERROR_INVALID_PARAMETER("CDISA5462E"),
+       ERR_CAN_NOT_RESTRICT_RESOURCE_WITH_PES("CDISA5463E"),
+       WARN_CONFIG_UNEXPECTED_ENUM_VALUE("CDISA5464W"),
+       ERR_APP_CONFIG_PROPERTY_VALUE_INCORRECT("CDISA5465E"),
+       ERR_ZK_COMM("CDISA5466E"),
+       ERR_CANNOT_RESTRICT_HOST_WITH_PES("CDISA5467E"),
+       ERR_RESOURCE_DOES_NOT_HAVE_TAG_RESTRICTED("CDISA5468E"),
+       ERR_DOMAIN_UPGRADE_FAILED("CDISA5469E"),
+       ERR_GET_OPERATOR_CONNECTION("CDISA5470E"),
+       ERR_JOB_NAME_DOES_NOT_EXIST("CDISA5471E"),
+       ERR_PATH_NOT_WRITE("CDISA5472E"),
+       ERR_NOT_AUTHORIZED_SEARCH_REMOTE_BUILD("CDISA5473E"),
+       ERR_NOT_AUTHORIZED_CREATE_REMOTE_BUILD("CDISA5474E"),
+       ERR_NOT_AUTHORIZED_READ_REMOTE_BUILD("CDISA5475E"),
+       ERR_NOT_AUTHORIZED_WRITE_REMOTE_BUILD("CDISA5476E"),
+       ERR_NOT_AUTHORIZED_DELETE_REMOTE_BUILD("CDISA5477E"),
+       ERR_REMOTE_BUILD_DOES_NOT_EXIST("CDISA5478E"),
+       ERR_BUILD_RESOURCE_IS_NOT_AVAILABLE("CDISA5479E"),
+       ERR_NO_BUILD_RESOURCES_ARE_AVAILABLE("CDISA5480E"),
+       ERR_REMOTE_BUILD_ALREADY_BUILT("CDISA5481E"),
+       ERR_REMOTE_BUILD_ALREADY_BUILDING("CDISA5482E"),
+       ERR_REMOTE_BUILD_NOT_BUILDING("CDISA5483E"),
+       ERR_REMOTE_BUILD_NOT_BUILT("CDISA5484E"),
+       ERR_REMOTE_BUILD_ARTIFACT_NOT_FOUND("CDISA5485E"),
+       ERR_REMOTE_BUILD_ARCHIVE_UNPACKAGE("CDISA5486E"),
+       ERR_REMOTE_BUILD_ARCHIVE_UNSUPPORTED_FORMAT("CDISA5487E"),
+       ERR_REMOTE_BUILD_FAILED("CDISA5488E"),
+       ERR_REMOTE_BUILD_CONFIG_NOT_SUPPLIED("CDISA5489E"),
+       ERR_BUILD_RESOURCE_NOT_AVAILABLE("CDISA5490E"),
+       ERR_REMOTE_BUILD_ID_NOT_VALID("CDISA5491E"),
+       ERR_REMOTE_BUILD_ARTIFACT_ID_NOT_VALID("CDISA5492E"),
+       ERR_JMX_HTTP_FAILURE("CDISA5493E"),
+       ERR_REMOTE_BUILD_ARTIFACT_ID_NOT_FOUND("CDISA5494E"),
+       ERR_REMOTE_BUILD_DIRECTORY_CREATE_ERROR("CDISA5495E"),
+       ERR_REMOTE_BUILD_USER_DOES_NOT_EXIST("CDISA5496E"),
+       ERR_REMOTE_BUILD_TIMEOUT("CDISA5497E"),
+       ERR_APPLICATION_REPOSITORY_ID_NOT_VALID("CDISA5498E"),
+       ERR_NOT_AUTHORIZED_RESTRICTED_CONFIG("CDISA5499E"),
+       ERR_NOT_AUTHORIZED_INST_RESTRICTED_CONFIG("CDISA5500E"),
+       ERR_RESTRICTED_CONFIG_EMPTY("CDISA5501E"),
+       ERR_INST_RESTRICTED_CONFIG_EMPTY("CDISA5502E"),
+       ERR_RESTRICTED_CONFIG_INVALID_KEY("CDISA5503E"),
+       ERR_INST_RESTRICTED_CONFIG_INVALID_KEY("CDISA5504E"),
+       ERR_MOVE_FROM_TO_RESOURCE_SAME("CDISA5505E"),
+       ERR_SERVICE_NOT_FOUND_ON_RESOURCE("CDISA5506E"),
+       ERR_MOVE_TO_RESOURCE_NOT_COMPATIBLE("CDISA5507E"),
+       ERR_ONLY_ONE_SERVICE_ALLOWED("CDISA5508E"),
+       ERR_APP_CAN_NOT_MOVE_FROM_APP_RESOURCE("CDISA5509E"),
+       ERR_APP_CAN_NOT_MOVE_TO_MGMT_RESOURCE("CDISA5510E"),
+       ERR_INSTANCE_NO_MANAGEMENT_RESOURCES_AVAILABLE("CDISA5511E"),
+       ERR_INSTANCE_NO_APPLICATION_RESOURCES_AVAILABLE("CDISA5512E"),
+       ERR_REMOTE_BUILD_STREAMS_VERSION_NOT_FOUND("CDISA5513E"),
+       ERR_REMOTE_BUILD_VERSION_INSTANCE_STOPPED("CDISA5514E"),
+       ERR_NOT_AUTHORIZED_RESET_DOMAIN_METRICS("CDISA5515E"),
+       ERR_NOT_AUTHORIZED_RESET_INSTANCE_METRICS("CDISA5516E"),
+       ERR_REMOTE_BUILD_NAME_ALREADY_EXISTS("CDISA5517E"),
+       ERR_REMOTE_BUILD_NAME_DOES_NOT_EXIST("CDISA5518E"),
+       ERROR_PROP_NOT_SUPPORTED_FOR_VERSION("CDISA5519E"),
+       ERROR_FILE_REPO_NOT_DIR("CDISA5520E"),
+       ERROR_FILE_REPO_NOT_FILE("CDISA5521E"),
+       ERROR_FILE_REPO_NOT_FOUND("CDISA5522E"),
+       ERROR_CONTENT_TRANSFER_ID_DOES_NOT_EXIST("CDISA5523E"),
+       ERR_ADD_APPCACHE_NOT_AUTHORIZED("CDISA5524E"),
+       ERR_LIST_APPCACHE_NOT_AUTHORIZED("CDISA5525E"),
+       ERROR_COS_REPO_NOT_FOUND("CDISA5526E"),
+       ERROR_COS_INIT_EXC("CDISA5527E"),
+       ERROR_COS_FAILED_CREATE_BUCKET("CDISA5528E"),
+       ERROR_COS_FAILED_REMOVE("CDISA5529E"),
+       ERROR_COS_FAILED_READ("CDISA5530E"),
+       ERROR_COS_FAILED_WRITE("CDISA5531E"),
+       ERROR_COS_FAILED_EXIST("CDISA5532E"),
+       ERR_READ_APPCACHE_NOT_AUTHORIZED("CDISA5533E"),
+       ERR_WRITE_APPCACHE_NOT_AUTHORIZED("CDISA5534E"),
+       ERR_DELETE_APPCACHE_NOT_AUTHORIZED("CDISA5535E"),
+       ERR_LOG_DIRECTORY_DOES_NOT_EXIST("CDISA5536E"),
+       ERR_UNEXPECTED_RESOURCE_JOBS("CDISA5537E"),
+       ERR_EMPTY_TAGNAME("CDISA5538E"),
+       WARN_GC_TOO_LONG_DOMAIN("CDISA5539W"),
+       WARN_GC_TOO_LONG_INSTANCE("CDISA5540W"),
+       WARN_HEAP_MEMORY_LOW_DOMAIN("CDISA5541W"),
+       WARN_HEAP_MEMORY_LOW_INSTANCE("CDISA5542W"),
+       ERR_BUILD_CONTROLLER_NOT_LOCATED("CDISA5543E"),
+       ERR_BUILD_CONTROLLER_NOT_STARTED("CDISA5544E"),
+       ERR_BUILD_CONTROLLER_COMMUNICATION("CDISA5545E"),
+       ERR_REMOTE_BUILD_DIRECTORY_ON_BUILD_CONTROLLER("CDISA5546E"),
+       ERR_REMOTE_BUILD_ARCHIVE_UNPACKAGE_ON_BUILD_CONTROLLER("CDISA5547E"),
+       ERR_APP_CACHE_ITEM_DOES_NOT_EXIST("CDISA5548E"),
+       ERR_BUILD_REPO_ITEM_DOES_NOT_EXIST("CDISA5549E"),
+       ERR_APP_REPO_ITEM_DOES_NOT_EXIST("CDISA5550E"),
+       ERR_NOT_AUTHORIZED_STORE_APPLICATION("CDISA5551E"),
+       ERR_NOT_AUTHORIZED_READ_APPLICATION("CDISA5552E"),
+       ERR_NOT_AUTHORIZED_LIST_APPLICATION("CDISA5553E"),
+       ERR_NOT_AUTHORIZED_DELETE_APPLICATION("CDISA5554E"),
+       ERR_NOT_AUTHORIZED_MODIFY_BUILD_RESOURCE("CDISA5555E"),
+       INFO_APP_REPOSITORY_MIGRATE_START("CDISA5556I"),
+       INFO_BUILD_REPOSITORY_MIGRATE_START("CDISA5557I"),
+       INFO_BUILD_ARCHIVE_REPOSITORY_MIGRATE_START("CDISA5558I"),
+       INFO_APPCACHE_REPOSITORY_MIGRATE_START("CDISA5559I"),
+       INFO_APP_REPOSITORY_ITEM_MIGRATED("CDISA5560I"),
+       INFO_BUILD_REPOSITORY_ITEM_MIGRATED("CDISA5561I"),
+       INFO_BUILD_ARCHIVE_REPOSITORY_ITEM_MIGRATED("CDISA5562I"),
+       INFO_APPCACHE_REPOSITORY_ITEM_MIGRATED("CDISA5563I"),
+       ERROR_APP_REPOSITORY_ITEM_MIGRATE_FAILED("CDISA5564E"),
+       ERROR_BUILD_REPOSITORY_ITEM_MIGRATE_FAILED("CDISA5565E"),
+       ERROR_BUILD_ARCHIVE_REPOSITORY_ITEM_MIGRATE_FAILED("CDISA5566E"),
+       ERROR_APPCACHE_REPOSITORY_ITEM_MIGRATE_FAILED("CDISA5567E"),
+       INFO_APP_REPOSITORY_MIGRATE_END("CDISA5568I"),
+       INFO_BUILD_REPOSITORY_MIGRATE_END("CDISA5569I"),
+       INFO_BUILD_ARCHIVE_REPOSITORY_MIGRATE_END("CDISA5570I"),
+       INFO_APPCACHE_REPOSITORY_MIGRATE_END("CDISA5571I"),
+       INFO_APP_REPOSITORY_CHANGED("CDISA5572I"),
+       INFO_BUILD_REPOSITORY_CHANGED("CDISA5573I"),
+       INFO_APPCACHE_REPOSITORY_CHANGED("CDISA5574I"),
+       INFO_DEFAULT_REPOSITORY_CHANGED("CDISA5575I"),
+       ERROR_APP_REPO_NOT_EMPTY("CDISA5576E"),
+       ERROR_BUILD_REPO_NOT_EMPTY("CDISA5577E"),
+       ERROR_BUILD_ARCHIVE_REPO_NOT_EMPTY("CDISA5578E"),
+       ERROR_APPCACHE_REPO_NOT_EMPTY("CDISA5579E"),
+       ERR_JMX_DEADLOCK_DETECTED("CDISA5580E"),
+       WARNING_CANNOT_START_EMBEDDED_ZK("CDISA8000W"),
+       ERROR_INSTALL_STREAMS_STUDIO("CDISA9000E"),
+       ERROR_OPEN_STREAMS_STUDIO("CDISA9001E"),
+       ERROR_CANNOT_CREATE_DOMAIN_EMBEDDEDZK_NOT_STARTED("CDISA9002E"),
+       ERROR_ZK_FROM_ENVIRONMENT("CDISA9003E"),
+       ERROR_EMBEDDEDZK_NOT_ADDED("CDISA9004E"),
+       ERROR_DM_DOMAIN_DOES_NOT_EXIST("CDISA9005E"),
+       ERROR_DM_DOMAIN_STATE_INVALID("CDISA9006E"),
+       ERROR_INTERNAL_ERROR_PARM_MISSING("CDISA9007E"),
+       ERROR_CREATE_LDAP_MISSING_GROUP_SEARCH("CDISA9008E"),
+       ERROR_CREATE_LDAP_MISSING_GROUP_OBJECT("CDISA9009E"),
+       ERROR_DM_DOMAIN_DOES_NOT_EXIST_NO_NAME("CDISA9010E"),
+       ERROR_DM_AAS_NOT_AVAILABLE("CDISA9011E"),
+       ERROR_DM_DEL_AAS_NOT_AVAILABLE("CDISA9012E"),
+       ERR_DM_CANNOT_EDIT_PROPERTY("CDISA9013E"),
+       ERR_INVALID_VERSION("CDISA9014E"),
+       ERR_INCOMPATIBLE_VERSION("CDISA9015E"),
+       ERR_UPGRADE_NOT_SUPPORTED_WITH_EXT_RESOURCE_MGR("CDISA9016E"),
+       ERR_FAILED_CREATE_THREAD("CDISA9017E"),
+       AUTH_CERT_HDR("MSG1"),
+       UNDEFINED("MSG2"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.messages.StreamsAdminMessages";
+       }
+
+   }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.ibm.streams.messages;
+
+import java.util.ListResourceBundle;
+
+public class StreamsAuditMessages extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISU1000I", "The operation was successful."},
+    {"CDISU4000I", "The Streams Application Manager submitted application {0} of version {1} with submission parameters: {2}."},
+    {"CDISU4001I", "The Streams Application Manager canceled job ID {0} with parameters: {1}."},
+    {"CDISU4002I", "The Streams Application Manager finished the {0} event for output port ID {1} with properties: {2}."},
+    {"CDISU4003I", "The Streams Application Manager finished opening the {0} view for stream {1} with properties: {2}."},
+    {"CDISU4004E", "The Streams Application Manager did not complete the {0} operation due to the user {1} authorization failure. Please check log for more information."},
+    {"CDISU4005I", "IBM Streams set the {0} capabilities for the following PE: {1}. The file is: {2}."},
+    {"CDISU4006I", "The operation was successful."},
+    {"CDISU4007I", "The Streams Application Manager previewed a job submission with submission parameters: {0}."},
+  };
+}
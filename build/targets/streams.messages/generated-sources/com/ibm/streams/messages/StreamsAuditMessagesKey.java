@@ -0,0 +1,36 @@
+package com.ibm.streams.messages;
+import com.ibm.streams.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsAuditMessages
+ * This class is generated from StreamsAuditMessages.xlf
+ */
+public class StreamsAuditMessagesKey { 
+
+   public enum Key implements MessageKey {
+       AuditJMXOperationSuccessful("CDISU1000I"),
+       AuditSAMSubmitJob("CDISU4000I"),
+       AuditSAMCancelJob("CDISU4001I"),
+       AuditSAMStreamPropertyEvent("CDISU4002I"),
+       AuditSAMOpenStreamView("CDISU4003I"),
+       AuditSAMOperationFailureUserPermissionError("CDISU4004E"),
+       AuditHCSetcapPE("CDISU4005I"),
+       AuditSAMOperationSuccessful("CDISU4006I"),
+       AuditSAMPreviewSubmitJob("CDISU4007I"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.messages.StreamsAuditMessages";
+       }
+
+   }
+}
\ No newline at end of file
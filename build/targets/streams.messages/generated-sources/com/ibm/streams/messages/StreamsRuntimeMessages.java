@@ -0,0 +1,447 @@
+package com.ibm.streams.messages;
+
+import java.util.ListResourceBundle;
+
+public class StreamsRuntimeMessages extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISR0001E", "An unexpected error occurred in the name service. "},
+    {"CDISR0002E", "The {0} record cannot be registered because that name already exists in the name service."},
+    {"CDISR0003E", "The following record name cannot be found in the name service: {0}."},
+    {"CDISR0004E", "The name service cannot retrieve data for record name {0}. The error is: {1}."},
+    {"CDISR0006E", "The name service cannot be started because required information about the domain ID is missing."},
+    {"CDISR0007E", "The name service cannot be started because required information about the name server is missing."},
+    {"CDISR0008E", "The name service cannot be started because required information about the instance ID is missing."},
+    {"CDISR0009E", "An internal error occurred because the STREAMS_NS environment variable is required, but was not configured."},
+    {"CDISR0010E", "The name service encountered an internal error. The following name service configuration is not valid: {0}."},
+    {"CDISR0011E", "The format of the contents of the following name record is not valid: {0}."},
+    {"CDISR0012E", "The name service cannot create or access the following storage directory: {0}. The error is: {1}."},
+    {"CDISR0013E", "The following object cannot be successfully registered to the name service: {0}. The error is: {1}."},
+    {"CDISR0014E", "The following object cannot be successfully unregistered to the name service: {0}. The error is: {1}."},
+    {"CDISR0015E", "The following directory cannot be successfully removed: {0}. The error is: {1}."},
+    {"CDISR0016E", "The name service cannot successfully finish the operation since {0} is not a directory."},
+    {"CDISR0017E", "The name service cannot successfully register the user object with invalid applicationScope or label settings."},
+    {"CDISR0500E", "Processing element ID {0} did not start because the ID is not valid."},
+    {"CDISR0501E", "The runtime services encountered an internal error. The error is: {0}."},
+    {"CDISR0502E", "IBM Streams encountered an error when connecting to the ZooKeeper service: {0}. The error is: {1}. This error might be caused by network problems."},
+    {"CDISR0506E", "IBM Streams encountered a remote procedure call error when connecting to the following service: {0}. The error is: {1}. This error might be caused by network problems."},
+    {"CDISR0700I", "The {0} property for the service was set to the following value: {1}. The service is {2}."},
+    {"CDISR1001E", "The Streams Application Manager cannot restart the processing element ID {0}. In the application source code for Job ID {1}, the operators that the processing element executes are configured so that they cannot be restarted."},
+    {"CDISR1014E", "The {0} property name was not found."},
+    {"CDISR1027E", "The processing element ID {0} was not found."},
+    {"CDISR1030E", "An unexpected exception occurred in the Streams Application Manager."},
+    {"CDISR1038E", "An internal error occurred in the Streams Application Manager."},
+    {"CDISR1039E", "The Streams Application Manager is not available."},
+    {"CDISR1042E", "The following output port ID is not valid: {0}."},
+    {"CDISR1043E", "The processing element ID {0} must be stopped before it can be restarted."},
+    {"CDISR1044E", "The following job ID was not found: {0}."},
+    {"CDISR1049E", "The {0} property already exists."},
+    {"CDISR1101E", "The Streams Application Manager cannot find the tupleType with the {0} index."},
+    {"CDISR1102E", "The Streams Application Manager cannot find the hostpool with the {0} index."},
+    {"CDISR1103E", "The Streams Application Manager cannot find the library with the {0} index."},
+    {"CDISR1105E", "The operation cannot be completed because the job ID {0} is in the terminating state."},
+    {"CDISR1110E", "The Streams Application Manager cannot route the current notification to the controller service because an older notification request is still pending."},
+    {"CDISR1111E", "The Streams Application Manager cannot send the routing notification because newer notifications were already sent."},
+    {"CDISR1130E", "The {0} input port was not declared a name-based or property-based import port."},
+    {"CDISR1134E", "The operation cannot be completed because job ID {0} is in the terminated state."},
+    {"CDISR1135E", "The processing elements of job ID {0} cannot be stopped at this time."},
+    {"CDISR1137E", "The Streams Application Manager cannot complete the operation because the processing element ID {0} is stopping or was already stopped."},
+    {"CDISR1142E", "The processing element ID {0} cannot be restarted. The automatic retry count of {1} was exceeded."},
+    {"CDISR1143E", "The submission parameters in the following list are either ambiguous, missing, or not valid: {0}."},
+    {"CDISR1144E", "The job submission parameters are not correct."},
+    {"CDISR1145E", "The validation of the job submission parameter failed."},
+    {"CDISR1146E", "The following job submission parameter is required, but it is missing: {0}."},
+    {"CDISR1147E", "The following job submission parameter was specified multiple times: {0}. A parameter can be specified only once."},
+    {"CDISR1148E", "The following job submission parameter is ambiguous: {0}. This job submission parameter matches {1}."},
+    {"CDISR1149W", "The following job submission parameter is not known to the application: {0}. The application ignored this parameter."},
+    {"CDISR1150E", "An error occurred when the subscription of the input port was updated from {0} to {1}."},
+    {"CDISR1151E", "The name-based import subscription cannot be updated for the following import port: {0}."},
+    {"CDISR1154E", "The Streams Application Manager client failed to collect the job logs. The error is: {0}."},
+    {"CDISR1155I", "The Streams Application Manager is starting a submitjob event with application {0}."},
+    {"CDISR1156I", "The Streams Application Manager finished the submitjob event for the following job: {0}."},
+    {"CDISR1157E", "The following stream view ID is not valid: {0}."},
+    {"CDISR1158E", "The job cannot be submitted because the DISPLAY environment variable is not defined."},
+    {"CDISR1159E", "The Streams Application Manager failed to register job ID {0} with the Authentication and Authorization Service. The error is: {1}."},
+    {"CDISR1160E", "The Streams Application Manager failed to restart a collection of Processing Elements.  For more information, see the messages that follow this one. The Processing Elements are: {0}."},
+    {"CDISR1161E", "The Streams Application Manager failed to restart one or more Processing Elements.  For more information, see the messages that follow this one."},
+    {"CDISR1162E", "The Streams Application Manager cannot open the view of the following stream: {0}."},
+    {"CDISR1164E", "{0} is not a valid value for the width of a parallel region."},
+    {"CDISR1165E", "The operation cannot complete because the following job configuration parameter was specified multiple times: {0}. A parameter can be specified only once."},
+    {"CDISR1166E", "The operation cannot complete because the following job configuration parameter was specified: {0}. This parameter is not recognized."},
+    {"CDISR1167E", "The operation cannot complete because the following job name is not valid: {0}. Job names must be unique in the instance."},
+    {"CDISR1168E", "The operation cannot complete because checkpoint support is required for the submitted application. Set the instance.checkpointRepository and instance.checkpointRepositoryConfiguration properties for the following instance: {0} and make sure they are valid."},
+    {"CDISR1170E", "The {0} user ID is not authorized to perform the following operation: {1}. The user must have the following permissions for the {3} object in the {4} instance: {2}."},
+    {"CDISR1171E", "The transfer of the application bundle file to the hosts that run the job did not complete in the time allowed.  The domain ID is: {0}."},
+    {"CDISR1172E", "The operation cannot complete because capabilities support is required for the submitted application. Set the instance.canSetPeOSCapabilities and instance.runAsUser properties for the following instance: {0}."},
+    {"CDISR1174E", "The application did not start because of the following error: {0}."},
+    {"CDISR1175E", "The application did not start because the {0} job configuration parameter was set to the following invalid value: {1}."},
+    {"CDISR1176E", "The application did not start because the {0} and {1} job configuration parameters are both specified. This combination of parameters is not valid for the instance."},
+    {"CDISR1177E", "The Streams Application Manager cannot complete the request on port {0}."},
+    {"CDISR1179E", "The operation cannot complete because the {0} hostpool with index {1} is not set up correctly."},
+    {"CDISR1180E", "The operator {0} with index {1} has invalid resource set up, such as empty resource setting."},
+    {"CDISR1181E", "The Streams Application Manager could not finish the update operators event for job {0} since the job is running with {1} release."},
+    {"CDISR1182E", "The Streams Application Manager could not submit the application as the application was compiled with transport option of llm_rum_tcp or llm_rum_ib, but the instance was configured to enable encryption for transport."},
+    {"CDISR1251W", "The operators in the submitted application were fused by using the default legacy fusion scheme because the application was not compiled on Version 4.2, or later."},
+    {"CDISR1252W", "The operators in the submitted application were fused by using the specified legacy fusion scheme, but some job submission settings were ignored."},
+    {"CDISR1300I", "The Streams Application Manager was started."},
+    {"CDISR1301I", "The Streams Application Manager was shut down."},
+    {"CDISR1303I", "The Streams Application Manager is starting a canceljob for job ID {0}."},
+    {"CDISR1304I", "The Streams Application Manager finished the canceljob event for job ID {0}."},
+    {"CDISR1305I", "The Streams Application Manager unregistered job ID {0}."},
+    {"CDISR1307I", "The Streams Application Manager finished the stoppe event for the processing element ID {0}."},
+    {"CDISR1310I", "The Streams Application Manager finished the stoppe event for job ID {0}."},
+    {"CDISR1312I", "The Streams Application Manager finished the restartpe event for the processing element ID {0}."},
+    {"CDISR1314I", "The Streams Application Manager finished the restartpe event for the processing element ID {0} on the {1} host."},
+    {"CDISR1316I", "The Streams Application Manager finished the restartpe event for the following job: {0}."},
+    {"CDISR1317I", "The processing element ID {0} is in the running state in the Streams Application Manager. It is running with process ID {1} of resource {2}."},
+    {"CDISR1319I", "The Streams Application Manager finished the updatepe event for processing element ID {0}."},
+    {"CDISR1321I", "The Streams Application Manager finished the updatepe event for job ID {0}."},
+    {"CDISR1322I", "The Streams Application Manager finished updating processing element ID {0} with  the {1} configuration."},
+    {"CDISR1324I", "The Streams Application Manager finished the addStreamProperty event for output port ID {0}."},
+    {"CDISR1326I", "The Streams Application Manager finished the addStreamProperties event for output port ID {0}."},
+    {"CDISR1327I", "The Streams Application Manager finished adding the {0} stream properties to output port ID {1}."},
+    {"CDISR1331I", "The Streams Application Manager finished the setStreamProperties event for output port ID {0}."},
+    {"CDISR1332I", "The Streams Application Manager finished setting the {0} stream properties for output port ID {1}."},
+    {"CDISR1336I", "The Streams Application Manager finished the removeStreamProperties event for output port ID {0}."},
+    {"CDISR1337I", "The Streams Application Manager finished removing the {0} stream properties from output port ID {1}."},
+    {"CDISR1339I", "The Streams Application Manager finished the setSubscription event for input port ID {0}."},
+    {"CDISR1340I", "The Streams Application Manager finished setting the {0} subscription for input port ID {1}."},
+    {"CDISR1342I", "The Streams Application Manager finished the setFilter event for input port ID {0}."},
+    {"CDISR1343I", "The Streams Application Manager finished setting the {0} filter for input port ID {1}."},
+    {"CDISR1345I", "The Streams Application Manager finished the openStreamView event for view ID {0}."},
+    {"CDISR1346I", "The Streams Application Manager finished opening the {0} view for job ID {1}."},
+    {"CDISR1348I", "The Streams Application Manager finished a closeStreamView event for the {0} view."},
+    {"CDISR1349I", "The Streams Application Manager closed the {0} view."},
+    {"CDISR1351I", "The Streams Application Manager finished a setStreamViewProperties event for the {0} view."},
+    {"CDISR1352I", "The Streams Application Manager set the {0} view with the following properties: {1}."},
+    {"CDISR1353E", "The job submission for the application failed because there is  more than one operator-driven start operator in a consistent region."},
+    {"CDISR1354I", "The following IBM Streams application host is added: {0}."},
+    {"CDISR1355I", "The following IBM Streams application host is removed: {0}."},
+    {"CDISR1356I", "The state of the {0} resource is updated to {1}."},
+    {"CDISR1357E", "The application did not start because the following configuration parameters cannot be used for the same job submission: {0}."},
+    {"CDISR1358E", " The Streams Application Manager encountered the following internal error: {0}."},
+    {"CDISR1359E", "The job submission or preview failed because the consistent region configuration contains too many start operators that are operator driven."},
+    {"CDISR1360E", "The application did not start because it was compiled on an IBM Streams version that is not supported by the current version."},
+    {"CDISR1370E", "The Streams Application Manager did not recover state data because the following error occurred: {0}."},
+    {"CDISR1371E", "The job preview failed because of the following error: {0}."},
+    {"CDISR1372E", "The job submission or preview failed because the following operator configuration parameter is not valid: {0}."},
+    {"CDISR1373E", "The operation failed because the format of the following operator configuration parameter is not valid: {0}. The correct syntax is {1}."},
+    {"CDISR1374E", "The operation failed because an error occurred while parsing the following job configuration overlay file: {0}. The error is: {1}."},
+    {"CDISR1375W", "No tuples will be imported or exported for this application because it is running in standalone mode."},
+    {"CDISR1376W", "The {0} annotation is not supported in applications that are running in standalone mode."},
+    {"CDISR1377W", "The {0} configuration is not supported in applications that are running in standalone mode."},
+    {"CDISR1378E", "The application did not start because the streams::pe.display submission-time parameter or the DISPLAY environment variable is not set."},
+    {"CDISR1379I", "The Streams Application Manager added the {1} custom metric for job ID {0}. The kind of metric is: {2}. This metric provides the following information: {3}."},
+    {"CDISR1380I", "The Streams Application Manager created processing element {0} for job ID {1}. This processing element includes the following operators: {2}."},
+    {"CDISR1381E", "The operation did not complete because the operator at index {0} for job ID {1} was not found."},
+    {"CDISR1382E", "The operation did not complete for operator {1}. The operator input port at index {0} for job ID {2} was not found."},
+    {"CDISR1383E", "The operation did not complete for operator {1}. The operator output port at index {0} for job ID {2} was not found."},
+    {"CDISR1384E", "The operation did not complete for PE ID {1}. The PE input port ID {0} for job ID {2} was not found."},
+    {"CDISR1385E", "The operation did not complete for PE ID {1}. The PE output port ID {0} for job ID {2} was not found."},
+    {"CDISR1386E", "The operation did not complete because the PE connection ID {0} was not found."},
+    {"CDISR1387E", "The information for job ID {0} could not be retrieved because the job composite for the job was invalid."},
+    {"CDISR1388E", "One or more processing elements for job ID {0} did not start."},
+    {"CDISR1389E", "The operation did not complete because a processing element was not found for operator {0}."},
+    {"CDISR1390E", "A lock was already acquired for task: {0}."},
+    {"CDISR1391E", "A state transition could not complete from {0} to {1} because it was invalid."},
+    {"CDISR1392E", "The following SPL type was unrecognized: {0}."},
+    {"CDISR1393E", "The system could not retrieve the name or address of the local host."},
+    {"CDISR1394E", "The system could not serialize object [{0}].  The error message is {1}."},
+    {"CDISR1395E", "The system could not deserialize object [{0}].  The error message is {1}."},
+    {"CDISR1396E", "The Streams Application Manager did not recover state for {0} because the following error occurred: {1}."},
+    {"CDISR1397E", "Processing element ID {0} does not exist for job {1}."},
+    {"CDISR1398I", "The Streams Application Manager finished the update operators event for the following job: {0}."},
+    {"CDISR1399E", "Operator name {0} does not exist in job {1}."},
+    {"CDISR1400E", "The processing elements {0} must be stopped before it can be restarted."},
+    {"CDISR1402I", "The following processing element (PE) IDs were started: {0}. The PEs are in the {1} instance in the {2} domain."},
+    {"CDISR1403I", "The following processing element (PE) IDs were stopped: {0}. The PEs are in the {1} instance in the {2} domain."},
+    {"CDISR1404I", "The following processing elements (PEs) were removed: {0}.  The following processing elements were added: {1}. The PEs are in the {2} instance in the {3} domain."},
+    {"CDISR1405E", "The parallel region name specification {0} is ambiguous. The name specification matches {1} for application id {2}. Only one matching logical parallel region name is allowed."},
+    {"CDISR1406E", "The {0} value is not valid for the {1} attribute. This attribute is in the following section: {2}."},
+    {"CDISR1407E", "The updateoperators operation for job id {0} failed because the following affected operators were found to be in a consistent region: {1}."},
+    {"CDISR1408E", "The value of ''{0}'' is specified for the ''{1}'' attribute, but no target operators are specified.  This attribute is in the following section in the job configuration overlay: ''{2}''."},
+    {"CDISR1409E", "The operator name specification {0} does not match any operators in job {1}."},
+    {"CDISR1410E", "The operation failed for job {0} because the application description language (ADL) string cannot be retrieved from the application cache repository or an application resource."},
+    {"CDISR1411E", "The parallel region name specification {0} does not match any parallel regions for application id {1}."},
+    {"CDISR1412E", "The operation failed because an updateoperators operation is in progress."},
+    {"CDISR1413E", "The operation failed because the value \"channelIsolation\" is required for the configuration setting \"parallelRegionConfig\" in order to change the width of a parallel region.  The current value is \"{0}\"."},
+    {"CDISR1414E", "The operation failed because the value \"channelIsolation\" is required for the configuration setting \"parallelRegionConfig\" in order to change the width of a parallel region.  The value for the \"parallelRegionConfig\" setting is not set, defaults to {0}."},
+    {"CDISR1415I", "The following operators were restarted even though they were not part of the target region: {0}.   Either they were directly connected to input or output operators within a parallel region, or they shared a Processing Element with operators that were targeted."},
+    {"CDISR1416E", "The operation failed because the value \"channelIsolation\" or \"noChannelInfluence\" is required for the configuration setting \"parallelRegionConfig\" in order to change the width of a parallel region.  The current value is \"{0}\"."},
+    {"CDISR1417W", "A request to add dynamic resources to the job was ignored because the request did not result in an increase to the width of a parallel region."},
+    {"CDISR1418E", "The operation failed because the following operators are not restarable: {0}."},
+    {"CDISR1419E", "The updateoperators operation for job id {0} failed because the following affected operators were found to be configured for checkpointing: {1}."},
+    {"CDISR1501E", "An attempt to set the locale did not succeed."},
+    {"CDISR1502E", "An attempt to use a message bundle resulted in an error."},
+    {"CDISR1503E", "The requested {0} message was not found."},
+    {"CDISR1504E", "A formatting error was found in the {0} message request."},
+    {"CDISR1505E", "The {0} resource bundle directory cannot be registered."},
+    {"CDISR1506E", "An exception occurred in a utility function."},
+    {"CDISR1507E", "A formatting error in the date or timestamp occurred when the utility function was run."},
+    {"CDISR1508E", "An internal error occurred. The system cannot create the date and time formatter for the {0} pattern when the ICU error code is {1}."},
+    {"CDISR1560E", "The system cannot set the next transition for the {0} fsm object."},
+    {"CDISR1561E", "A null transition, which is not valid, is specified for the {0} fsm object."},
+    {"CDISR1562E", "The system cannot process the request. The fsm was stopped."},
+    {"CDISR1563E", "The {1} property was not found for the {0} fsm object in the {2} state."},
+    {"CDISR1564E", "A timeout occurred while the system waited for an operation to complete."},
+    {"CDISR1565E", "The {0} fsm object was not found."},
+    {"CDISR1566E", "The {0} fsm engine was not found."},
+    {"CDISR1567E", "The {0} fsm object already exists."},
+    {"CDISR1568E", "The request for the {0} fsm object cannot be processed. The object was stopped."},
+    {"CDISR1569E", "The {0} fsm engine already exists."},
+    {"CDISR1570E", "A state transition from {0} to {1} is not valid."},
+    {"CDISR1571E", "The specified  state value of {0} is not valid."},
+    {"CDISR1572E", "The specified transition value of {0} is not valid."},
+    {"CDISR1573E", "A null value was specified for the Fsm Impl object."},
+    {"CDISR1575W", "The runtime service cannot access the {0} Linux user resource limit because the service encountered the following error: {1} "},
+    {"CDISR1576W", "The runtime service cannot set the {0} Linux user resource limit because the service encountered the following error: {1}. The current soft limit is {2} and the hard limit is {3}"},
+    {"CDISR1577I", "For the {0} Linux user resource limit, the runtime service raised the soft limit to match the hard limit of {1}."},
+    {"CDISR1578W", "The runtime service cannot set the {0} Linux user resource hard limit to {2} and soft limit to {3} because the service encountered the following error: {1}."},
+    {"CDISR1579I", "For the {0} Linux user resource limit, the runtime service set the hard limit to {1} and the soft limit to {2}."},
+    {"CDISR1900E", "The runtime software encountered the following transport error: {0}."},
+    {"CDISR1901E", "An error occurred in a data receiver. The error is: {0}."},
+    {"CDISR1902E", "The data receiver was not initialized because the system could not retrieve the name or address of the local host."},
+    {"CDISR1903E", "The {0} system call returned the following error code: {1}."},
+    {"CDISR1904E", "The {0} argument was passed to a method, but the argument contains the following value that is either not valid or not correct: {1}."},
+    {"CDISR1905E", "A program assertion failed: {0}."},
+    {"CDISR1906E", "The system received an invalid message header: {0}."},
+    {"CDISR1907E", "The data stream that was received is corrupted."},
+    {"CDISR1908E", "A timeout occurred on a read or accept operation for a socket."},
+    {"CDISR1909E", "A connection to the {0} port was rejected. The error is: {1}."},
+    {"CDISR1910E", "While the connection was being established, the following instance ID was received: {1}. The expected instance ID is: {0}."},
+    {"CDISR1911E", "While the connection was being established, the following unexpected magic code was received: {0}."},
+    {"CDISR1912E", "While the connection was being established, the following input port label was received: {0}. The expected label is: {1}."},
+    {"CDISR1913I", "An attempt to connect to the port with the following label failed: {0}."},
+    {"CDISR1914I", "The connection to the {0} port succeeded after {1} attempts."},
+    {"CDISR1915E", "Environment variable STREAMS_INSTANCE_ID must be defined."},
+    {"CDISR1916E", "Bad magic number: received {0}, expected {1}"},
+    {"CDISR1917E", "Unexpected data length {0}"},
+    {"CDISR1918E", "Unexpected prefix length {0}"},
+    {"CDISR1919E", "Incorrect bool encoding value {0}"},
+    {"CDISR1920E", "Port name is missing"},
+    {"CDISR1921E", "Instance ID is missing"},
+    {"CDISR1922E", "Bad line end: received {0}, expected {1}"},
+    {"CDISR1923E", "Could not decode a {0} from buffer {1}"},
+    {"CDISR1924E", "Unexpected instance ID: received {0}, expected {1}"},
+    {"CDISR1925E", "Unexpected input port label: received {0}, expected {1}"},
+    {"CDISR1926E", "Unexpected IO Exception"},
+    {"CDISR1927E", "Unexpected Distillery Exception"},
+    {"CDISR2011E", "The {0} host ID is not valid."},
+    {"CDISR2066E", "A job ID must be specified."},
+    {"CDISR2067E", "A PE ID must be specified."},
+    {"CDISR2068E", "An operator name must be specified."},
+    {"CDISR2069E", "An port index must be specified."},
+    {"CDISR2070E", "Resource not found - {0}."},
+    {"CDISR2252I", "IBM Streams is attempting to add the {0} host to the following instance: {1}."},
+    {"CDISR2253I", "IBM Streams successfully added the {0} host to the following instance: {1}."},
+    {"CDISR2254I", "IBM Streams is attempting to remove the {0} host from the following instance: {1}."},
+    {"CDISR2255I", "IBM Streams successfully removed the {0} host from the following instance: {1}."},
+    {"CDISR2277I", "The Streams Resource Manager service was started successfully."},
+    {"CDISR2278I", "The Streams Resource Manager service was shut down successfully."},
+    {"CDISR2500E", "An unexpected internal error occurred in the Authentication and authorization service."},
+    {"CDISR2503E", "The specified user name or the specified password is not valid."},
+    {"CDISR2518E", "You do not have the authority to  use this domain. "},
+    {"CDISR2523E", "The authentication key is not valid."},
+    {"CDISR2539E", "The session is not valid, or the session has expired."},
+    {"CDISR2542E", "You cannot remove the following object: {0}."},
+    {"CDISR2543E", "The following object already exists: {0}."},
+    {"CDISR2545E", "The Authentication and Authorization Service cannot be contacted."},
+    {"CDISR2546E", "The Authentication and Authorization Service cannot be contacted. An unexpected exception occurred."},
+    {"CDISR2559E", "The authentication by key operation failed."},
+    {"CDISR2567E", "The following object name contains characters that are not ASCII characters: {0}."},
+    {"CDISR2569E", "The key files that are used for authentication cannot be found, or cannot be opened."},
+    {"CDISR2570E", "An error occurred during the authentication by key operation. The error is: {0}."},
+    {"CDISR2590E", "The user does not have the {0} permission for the {1} object in the {2} instance."},
+    {"CDISR2596E", "The Authentication and Authorization Service is currently busy for domain {0}."},
+    {"CDISR2597E", "The credential or token has expired."},
+    {"CDISR3000E", "The application definition file cannot be interpreted."},
+    {"CDISR3008E", "The processing element ID {0} has both isolation attributes and colocation attributes defined for it."},
+    {"CDISR3009E", "For the processing element ID {0}, the exlocation attributes and the collocation attributes conflict."},
+    {"CDISR3011E", "The processing element ID {0} was not found in the application definition."},
+    {"CDISR3013E", "The specified instance does not contain hosts that can be scheduled."},
+    {"CDISR3018E", "The operation failed because the following inPoolIndex value for hostpool {1} is not valid: {0}."},
+    {"CDISR3019E", "The operation failed because explicit host members cannot be specified for hostpool {0}."},
+    {"CDISR3020E", "The operation failed because the following internal property is not in the correct format: {0}."},
+    {"CDISR3021E", "The operation failed because the following internal property is not in the correct format: {0}."},
+    {"CDISR3022E", "The operation failed because the following host is not found: {0}."},
+    {"CDISR3023E", "The operation failed because the following host cannot be a member of multiple exclusive hostpools: {0}."},
+    {"CDISR3024E", "The operation failed because an internal job schedule object is not in the correct format."},
+    {"CDISR3026E", "The processing element ID {0} cannot be moved from the {1} host to the {2} host because the processing element definition specifies that it cannot be relocated."},
+    {"CDISR3027E", "The job submission, or processing element restart, failed. A placement that meets the constraints of all the processing elements was not found."},
+    {"CDISR3028E", "The specified recommendation scope of {0} is not valid."},
+    {"CDISR3029E", "The {0} scope ID of the instance-scoped recommendation is not valid."},
+    {"CDISR3030E", "You cannot request the performance recommendations for a host {0} that cannot run jobs."},
+    {"CDISR3031E", "Job ID {0} of the job-scoped recommendation is not valid."},
+    {"CDISR3033E", "Hostpool index {0} is not valid."},
+    {"CDISR3034E", "The operation failed because a required size parameter is missing in the explicit hostpool definition of hostpool {0}."},
+    {"CDISR3035W", "{0} processing elements were requested, but the number of processing elements submitted was {1}."},
+    {"CDISR3040I", "Job ID {0} was scheduled."},
+    {"CDISR3041E", "The operation failed because the PE placement constraints cannot be met. For more information, see the messages that follow this one."},
+    {"CDISR3042E", "The preliminary verification of the constraints of job ID {0} indicates that not all the constraints can be met. For more information, see the messages that follow this one."},
+    {"CDISR3043I", "The following processing elements must run on one of the following hosts. The processing elements are: {0}. The hosts on which the processing elements must run are: {1}. For more information, see the messages that follow this one. "},
+    {"CDISR3044E", "The following processing elements must run on the same host, but these processing elements cannot be scheduled on the same host: {0}. For more information, see the messages that follow this one."},
+    {"CDISR3045I", "The processing element ID {0} is constrained to be scheduled from the following hosts: {1}. For more information, see the messages that follow this one."},
+    {"CDISR3046E", "The processing element ID {0} cannot be scheduled. For more information, see the messages that follow this one."},
+    {"CDISR3047I", "A constraint on the {0} operator requires that it be scheduled from the following hosts: {1}. For more information, see the messages that follow this one."},
+    {"CDISR3048E", "The {0} operator cannot be scheduled. For more information, see the messages that follow this one."},
+    {"CDISR3049E", "The operation can not be performed on {0}.  The following processing elements are currently placed on this resource for instance {1} in domain {2} and there is no other resource placement alternatives: {3}."},
+    {"CDISR3050I", "The {0} host was included in the scheduling process because the absolute location of the host was specified. "},
+    {"CDISR3051I", "The following hosts were included in the scheduling process because the hosts are eligible to be included in the {0} hostpool by having the following tags. The hosts are: {2}. The tags that are shared by the hosts are: {1}."},
+    {"CDISR3052I", "The following hosts were included in the scheduling process because the hosts are indexed in the {0} hostpool with the following tags. The hosts are: {2}. The tags that are shared by the hosts are: {1}."},
+    {"CDISR3053I", "Because the processing element cannot be relocated, the {0} host on which it runs was included in the scheduling process."},
+    {"CDISR3054I", "Because the processing element is not affected by this operation, the {0} host on which it runs was included in the scheduling process."},
+    {"CDISR3055I", "Because the {0} host was specified as an override in the command, the host was included in the scheduling process."},
+    {"CDISR3060I", "Because the following hosts are in an exclusive hostpool, these hosts cannot be included in the scheduling process. The hosts are: {0}."},
+    {"CDISR3061I", "Because the following hosts are already hosting a processing element, and are therefore not eligible for an exclusive hostpool, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3062I", "Because the following hosts have one or more utilization metrics above the threshold, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3063I", "Because the following hosts already host a processing element, and therefore cannot host an operator that has a host isolation constraint, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3064I", "Because the following hosts are not in the correct state to be scheduled, these hosts were removed from the scheduling process: {0}."},
+    {"CDISR3065I", "Because the following hosts are not in the current instance, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3066I", "Because the following hosts are not supported by all the operators in the partition, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3067I", "Because the following hosts are not supported by all the operators that share a host colocation constraint, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3068I", "Because the following hosts already host an operator that shares a host exlocation constraint, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3069I", "Because the following hosts are already referenced by a different hostpool index, these hosts cannot be included in the scheduling process: {0}."},
+    {"CDISR3070I", "None of the hosts can be found in the {0} hostpool. By checking the instance configuration, ensure that the hosts with the following tags are configured and started. The tags are: {1}."},
+    {"CDISR3071I", "Because the following hosts are currently hosting an operator that has a host isolation constraint, these hosts cannot be included in the scheduling process. The hosts are: {0}."},
+    {"CDISR3072I", "Because the composite tag set {0} for Processing Element {1} does not meet the tag restriction set {2}, the following host cannot be included in the scheduling process {3}."},
+    {"CDISR3073I", "Because the following hosts are not associated with the target region of the job to be scheduled, these hosts were removed from the scheduling process: {0}."},
+    {"CDISR3080I", "The compute PE restart recommendations were requested for a scope of {0} and a scope ID of {1}."},
+    {"CDISR3081I", "The request for compute PE restart recommendations was completed."},
+    {"CDISR3083I", "The compute placement operation started for job ID {0} and job name {1}."},
+    {"CDISR3084I", "The compute placement operation for the job was completed."},
+    {"CDISR3085E", "The compute placement operation for the job failed."},
+    {"CDISR3086I", "The compute placement operation started for processing element ID {0} and job ID {1}."},
+    {"CDISR3087I", "The compute placement operation for the processing element is finished."},
+    {"CDISR3089I", "The compute placement operation started for processing element ID {0} and job ID {1} on the {2} host."},
+    {"CDISR3090I", "The compute placement operation started for the processing element on the host."},
+    {"CDISR3200E", "One or more processing elements were not created from the specified operator sets."},
+    {"CDISR3201E", "To be fused, all operators must specify the same value for the Restartable attribute."},
+    {"CDISR3202E", "To be fused, all operators must specify the same value for the Relocatable attribute."},
+    {"CDISR3203E", "The operator cannot be fused with any other operator because partitionIsolation is set to true."},
+    {"CDISR3204E", "An operator with the {0} group ID and  partitionExlocation specified cannot be fused with any other operator that specifies the same group ID."},
+    {"CDISR3205E", "To be fused, all operators must reference exclusive hostpool {2}. Only {0} of {1} operators satisfy this requirement."},
+    {"CDISR3206E", "To be fused, all operators must specify the same provision location value for the {0} internal property. Possible values are: {1}."},
+    {"CDISR3207E", "To be fused, all operators must specify the same segregated location value for the {0} internal property. Possible values are: {1}."},
+    {"CDISR3208E", "To be fused, all operators must specify the {2} internal property with the following value: {3}. Only {0} of {1} operators satisfy this requirement."},
+    {"CDISR3209E", "To be fused, all operators must specify the same host constraints. The host constraints are: {0}."},
+    {"CDISR3210E", "Operators that reference the hostpool with index {1} cannot be fused with other operators that reference the same hostpool with a different index {0}."},
+    {"CDISR3211E", "Operators with the same hostExlocation group ID specified or implied cannot be fused. The group ID is {0}."},
+    {"CDISR3212I", "The following constraints are specified for the {0} operator: {1}."},
+    {"CDISR3213I", "Details about the operator constraints for the {0} application bundle are in messages that follow this message."},
+    {"CDISR3214I", "The operator fusion sets for the {0} application bundle were created by using the following fusion configuration parameters: {1}."},
+    {"CDISR3215I", "A processing element will be fused from the following operator set: {0}."},
+    {"CDISR3216E", "No processing elements were created from the following operator set: {0}."},
+    {"CDISR3217E", "The following job contains one or more processing elements that cannot be fused: {0}."},
+    {"CDISR3218E", "The required {0} attribute is not in the {1} section or has no members."},
+    {"CDISR3219E", "The {0} value is not unique for the {1} attribute. This attribute is in the following section: {2}."},
+    {"CDISR3220E", "Multiple resource configurations are not allowed for the {0} operator."},
+    {"CDISR3221E", "The following inPoolIndex value for the {1} operator is not valid: {0}. This value is not allowed or is too large for the hostpool."},
+    {"CDISR3222E", "The {0} value is not valid for the {1} attribute. This attribute may have been specified as a command parameter or in the following section of the job configuration overlay file: {2}."},
+    {"CDISR3223E", "Both the {0} attribute and the {1} attribute are not allowed in the following section: {2}."},
+    {"CDISR3224E", "The {0} attribute must be specified for the following information: {1} and {2}."},
+    {"CDISR3225E", "The {0} constraint cannot be applied to the following operator: {1}."},
+    {"CDISR3226I", "A processing element will be created  from the following operator set: {0}. This processing element will be placed on the {2} host and have the following host tagging requirements: {1}."},
+    {"CDISR3227I", "A processing element will be created  from the following operator set: {0}. This processing element will be placed on the {3} host and have the following host tagging requirements: {2}. The candidate hosts are: {1}."},
+    {"CDISR3228I", "The {0} operator has the following attributes: {1}."},
+    {"CDISR3229I", "A {0} group is defined for the following operators: {1}."},
+    {"CDISR3230I", "A hostpool is defined with the following operators: {0}. The operator attributes are: {1}."},
+    {"CDISR3231E", "Operators that have hostIsolation specified cannot be fused with operators that have hostColocation specified."},
+    {"CDISR3232E", "The operation failed because the {0} operator name is not known for this application."},
+    {"CDISR3233E", "The operation failed because the job submission configuration is not valid."},
+    {"CDISR3234E", "The operation failed because the {0} operator is specified more than once in the {1} section."},
+    {"CDISR3235E", "The operation failed because the required {0} keyword is missing in the {1} section."},
+    {"CDISR3236E", "The operation failed because a JSON error was detected when parsing the job configuration overlay file.  Cause: {0}  Job configuration overlay: {1}"},
+    {"CDISR3237E", "The operation failed because the following pool placement group name is not valid: {0}. The group name cannot use the IBM Streams reserved prefix of STREAMS_HP."},
+    {"CDISR3238I", "The {0} operator has related constraints because it is host co-located with one or more of the target operators. The constraints are: {1}."},
+    {"CDISR3239E", "Operator group {0} of type {1} contains the following operators that are not members of the set of target operators: {2}."},
+    {"CDISR3240E", "The following operators were specified that are not members of the set of target operators: {0}."},
+    {"CDISR3241E", "The {0} fields are not allowed to be specified in the JobConfigurationOverlay for a updateOperators operation."},
+    {"CDISR3242E", "Resources for job {0} are not able to be made more exclusive because they are currently being shared by the following jobs: {1}."},
+    {"CDISR3243E", "The following resources {0} were not able to be removed from job {1} because they are not currently assigned to the job."},
+    {"CDISR3244W", "A resource with the following tagging requirement was requested but was not able to be satisfied: {0}."},
+    {"CDISR3245W", "Based on the numberOfResourcesToRequest or numberOfResourcesToBeAdded value specified in the job configuration overlay file, the scheduler requested {1} resources to be added to the job, but only {0} were able to be granted. The tagging requirement that was requested was: {2}."},
+    {"CDISR3246E", "The operation failed because there are multiple adjustment subsections specified in the {0} section of the job configuration overlay."},
+    {"CDISR3247I", "The user request for {0} new resources was truncated to {1} as this is the limit of resources usable by the job."},
+    {"CDISR3248I", "The following resources were released from the job {0} because they are not currently hosting any Processing Elements {1}."},
+    {"CDISR3249E", "Explicit hosts are not allowed to be specified when instance has applicationResourceAllocationMode property set to job."},
+    {"CDISR3250W", "The behavior for the {0} instance property has changed in the {1} release and may require adjustments to the configuration of the instance to maintain similar behavior."},
+    {"CDISR3251W", "The provided {0} parameter is not supported in the current mode. It will be ignored."},
+    {"CDISR3252W", "Based on an operatorsPerResource value of {3}, the scheduler requested {1} resources to be added to the job, but only {0} were able to be granted. The tagging requirement that was requested was: {2}."},
+    {"CDISR3253W", "Based on minimum of resources needed to support the requirements for job, the scheduler requested {1} resources to be added to the job, but only {0} were able to be granted. The tagging requirement that was requested was: {2}."},
+    {"CDISR3500E", "The service of the processing element container for processing element ID {0} was forced to shut down because the typical shut down operation for the processing element application did not succeed."},
+    {"CDISR3501E", "The service of the processing element container for processing element ID {0} was forced to shut down because the typical shut down operation for the service of the processing container did not succeed."},
+    {"CDISR3502E", "The Controller service failed to run setcap command for processing element ID {0}. The error is: {1}."},
+    {"CDISR3503E", "The Controller service cannot start the following processing element ID: {0}. The error is: {1}."},
+    {"CDISR3504E", "Processing element ID {0} in the {1} instance is already running."},
+    {"CDISR3505E", "Processing element ID {0} in the {1} instance is already stopped."},
+    {"CDISR3506E", "The processing element logs for job ID {0} cannot be deleted. This job is in the {1} instance."},
+    {"CDISR3700W", "The Host Controller service cannot contact the Streams Application Manager. The error is: {0}."},
+    {"CDISR3702W", "The Host Controller service cannot contact the Streams Resource Manager. The error is: {0}."},
+    {"CDISR3704W", "Data directory {0} for PE {1} of job {2} does not exist."},
+    {"CDISR3800I", "The {0} Host Controller service was started."},
+    {"CDISR3802I", "The processing element ID {0} of the {1} job with ID {2} was started on the {3} host by the {4} user with process ID {5}, it is running with Streams release {6}."},
+    {"CDISR3803I", "The processing element ID {0} of the {1} job which ran with process ID {2} was stopped on the {3} host."},
+    {"CDISR4000E", "The processing element ID {0} of the {1} job with job ID {2} was submitted by the {3} user, and then was shut down unexpectedly. The error is: {4}."},
+    {"CDISR4001E", "Processing element ID {0} started but then failed with the following error: {1}."},
+    {"CDISR4200W", "The service of the processing element container for processing element ID {0} cannot contact the Controller service. The error is: {1}."},
+    {"CDISR4302I", "Processing element ID {0} was shut down. The latest metrics are: nCpuMilliseconds={1}, nMemoryConsumption={2}."},
+    {"CDISR4303I", "The tracing configuration for the processing element ID {0} was updated to a value of {1}."},
+    {"CDISR4304I", "The log level for the processing element ID {0} was updated to a value of {1}."},
+    {"CDISR4307I", "The processing element ID {0} of the {1} job with job ID {2} was submitted by the {3} user, and has shut down."},
+    {"CDISR4308E", "The processing element ID {0} was shut down because of an unexpected error. The error is: {1}."},
+    {"CDISR4309I", "The properties of the {0} application configuration for the following processing element ID are updated: {1}. The updated property values are {2}."},
+    {"CDISR4310I", "The properties of the {0} application configuration for the following processing element ID were removed: {1}."},
+    {"CDISR4311E", "Application bundle {0} failed to deploy on resource {1}.  Cause: {2}"},
+    {"CDISR4312E", "Failed to deploy application on resource {0}.  Missing application bundle ID in download request."},
+    {"CDISR4313E", "Application bundle {0} failed to deploy on resource {1}.  The bundle is not installed in the domain."},
+    {"CDISR4314E", "Failed to install and register application bundle {0} on resource {1}.  Cause: {2}"},
+    {"CDISR4315E", "Failed to download application bundle {0} on resource {1}.  Failed resources: {2}"},
+    {"CDISR4316E", "Failed to clean up application storage on resource {0}. Cause: {1}"},
+    {"CDISR4317E", "Download request for {0} from resource {1} to resource {2} failed. Cause: {3}"},
+    {"CDISR4318E", "Failed to prepare invocation directory for job {0} PE {1} on resource {2}. Cause: {3}"},
+    {"CDISR4319E", "Failed to install application ID {0} on resource {1}. Cause: {2}"},
+    {"CDISR4320E", "Failed to install application ID {0} on resource {1}."},
+    {"CDISR4321E", "Failed to unpack application bundle {0} on resource {1}.  Cause: {2}"},
+    {"CDISR4322E", "Failed to prepare working directory for job {0} while trying to deploy application on resource {1}. Cause: {2}"},
+    {"CDISR4323E", "Failed to prepare working directory for job {0} while trying to deploy application on resource {1}."},
+    {"CDISR4324E", "Failed to prepare application landing zone directory while trying to deploy application on resource {0}. Cause: {1}"},
+    {"CDISR6000E", "An unexpected error occurred in the following resource manager: {0}."},
+    {"CDISR6001E", "An unexpected error occurred in the following resource manager: {0}. Error is: {1}."},
+    {"CDISR6002E", "The {0} resource manager is not available."},
+    {"CDISR6003E", "The {0} resource manager is already running on host={1} port={2}."},
+    {"CDISR6004E", "The {0} resource manager does not support the following format for the {1} tag: {2}."},
+    {"CDISR6005E", "The {0} resource manager does not support the following {1} tag attribute: {2}."},
+    {"CDISR6006E", "The {0} resource manager does not support the ''{3}'' value for the following ''{1}'' tag attribute: {2}."},
+    {"CDISR6007E", "The {0} resource manager requires a numeric value for the following ''{1}'' tag attribute: {2}. The ''{3}'' value is incorrect."},
+    {"CDISR6008E", "The {0} resource manager requires a string value for the following ''{1}'' tag attribute: {2}. The ''{3}'' value is incorrect."},
+    {"CDISR6009E", "The ''{0}'' tag is not associated with the request."},
+    {"CDISR6010E", "The ''{0}'' tag definition was not defined using the ''{1}'' format."},
+    {"CDISR6011E", "The {0} resource manager could not complete the request. The error is: {1}."},
+    {"CDISR6012E", "The {0} resource persistence manager is not connected."},
+    {"CDISR6013E", "The {0} option was not supplied. This command line option is required."},
+    {"CDISR6014E", "The {0} user can not access the following configuration file: {1}."},
+    {"CDISR6015E", "There are no {0} resource managers registered for all domains in the zookeeper ensemble."},
+    {"CDISR6016E", "There are no {0} resource managers registered for the following domain: {1}."},
+    {"CDISR6017E", "There are no {0} resource managers registered in the zookeeper ensemble."},
+    {"CDISR6018I", "Stopping the {0} resource manager on host={1} port={2} pid={3}."},
+    {"CDISR6019I", "The {0} resource manager stopped successfully on host={1} port={2} pid={3}."},
+    {"CDISR6020E", "The {0} resource manager is actively managing resources. Stop the domains that are currently using resources or use the --force option."},
+    {"CDISR6021E", "The {0} property must be specified in the following configuration file: {1}."},
+    {"CDISR6022E", "The {0} option can not be specified at the same time as the {1} option."},
+    {"CDISR6023E", "The {0} resource manager is not available for the following domain: {1}."},
+    {"CDISR6024E", "The {0} value for the {1} property is not supported. The property is specified in the following configuration file: {2}."},
+    {"CDISR6025I", "The {0} resource manager has been submitted as a background process. Use the ''{1}'' command to view process information."},
+    {"CDISR6026E", "The {0} tag attribute is incompatible for the following tag definitions: {1}."},
+    {"CDISR6027E", "The master resource could not be allocated for the following domain: {0}."},
+    {"CDISR6028E", "An unexpected error occurred stopping the following resource manager: {0}. Error is: {1}."},
+    {"CDISR6101E", "The following consumer does not exist in IBM Spectrum Symphony: {0}."},
+    {"CDISR6102E", "The following resource group does not exist in IBM Spectrum Symphony: {0}."},
+    {"CDISR6103E", "The ''{0}'' consumer is not authorized to the following resource group in IBM Spectrum Symphony: {1}."},
+    {"CDISR6104E", "The following tag definitions do not have any resource groups in common: {0}."},
+    {"CDISR6200E", "An error occurred allocating the master resource."},
+    {"CDISR6201E", "The following container identifier could not be located: {0}."},
+    {"CDISR6202E", "A resource request could not be found for the following container: {0}."},
+    {"CDISR6203E", "The following property must be specified in the configuration file: {0}."},
+    {"CDISR6204E", "Can not locate YARN_APPLICATION_CLASSPATH. Ensure a value has been set in the Yarn configuration."},
+  };
+}
@@ -0,0 +1,465 @@
+package com.ibm.streams.messages;
+import com.ibm.streams.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsRuntimeMessages
+ * This class is generated from StreamsRuntimeMessages.xlf
+ */
+public class StreamsRuntimeMessagesKey { 
+
+   public enum Key implements MessageKey {
+       NAMUnexpectedException("CDISR0001E"),
+       NAMNameExists("CDISR0002E"),
+       NAMNameNotFound("CDISR0003E"),
+       NAMGetDataError("CDISR0004E"),
+       NAMDomainIdEmpty("CDISR0006E"),
+       NAMServerEmpty("CDISR0007E"),
+       NAMInstanceIdEmpty("CDISR0008E"),
+       NAMNotConfigured("CDISR0009E"),
+       NAMInvalidService("CDISR0010E"),
+       NAMInvalidRecord("CDISR0011E"),
+       NAMUnableToAccessDir("CDISR0012E"),
+       NAMRegisterFailed("CDISR0013E"),
+       NAMUnregisterFailed("CDISR0014E"),
+       NAMUnableToRemoveDir("CDISR0015E"),
+       NAMFSPathNotDir("CDISR0016E"),
+       NAMUnableToRegisterUserObject("CDISR0017E"),
+       SPCInvalidPEID("CDISR0500E"),
+       RuntimeInternalError("CDISR0501E"),
+       ZKConnectionError("CDISR0502E"),
+       RuntimeRPCError("CDISR0506E"),
+       RuntimePropertyUpdated("CDISR0700I"),
+       SAMPENoRestart("CDISR1001E"),
+       SAMNullProperty("CDISR1014E"),
+       SAMFailedToLocatePE("CDISR1027E"),
+       SAMUnexpectedException("CDISR1030E"),
+       SAMGDGInternalError("CDISR1038E"),
+       SAMNotAvailable("CDISR1039E"),
+       SAMInvalidOutputPortID("CDISR1042E"),
+       SAMPEMustBeStopped("CDISR1043E"),
+       SAMJobIDNotFound("CDISR1044E"),
+       SAMPropertyAlreadyExists("CDISR1049E"),
+       SAMFailureLocatingtupleType("CDISR1101E"),
+       SAMFailureLocatingHostpool("CDISR1102E"),
+       SAMFailureLocatingLibrary("CDISR1103E"),
+       SAMJobTerminating("CDISR1105E"),
+       SAMRoutingNotCurrent("CDISR1110E"),
+       SAMRoutingNotValid("CDISR1111E"),
+       SAMInputPortIdNotDeclared("CDISR1130E"),
+       SAMJobTerminated("CDISR1134E"),
+       SAMJobNoPesStoppable("CDISR1135E"),
+       SAMPEAlreadyStoppedOrStopping("CDISR1137E"),
+       SAMPENoRestartRetryCount("CDISR1142E"),
+       SAMSubmissionParameterError("CDISR1143E"),
+       SubmissionParameterError("CDISR1144E"),
+       SubmissionParameterValidationError("CDISR1145E"),
+       SubmissionParameterMissingError("CDISR1146E"),
+       SubmissionParameterDuplicateError("CDISR1147E"),
+       SubmissionParameterAmbiguousError("CDISR1148E"),
+       SubmissionParameterExtraWarning("CDISR1149W"),
+       SAMInvalidSubscriptionExpression("CDISR1150E"),
+       SAMCannotUpdateNameBasedSubscription("CDISR1151E"),
+       SAMCollectLogFailure("CDISR1154E"),
+       SAMStartSubmitJobInfo("CDISR1155I"),
+       SAMEndSubmitJobInfo("CDISR1156I"),
+       SAMInvalidStreamViewID("CDISR1157E"),
+       SubmissionDisplayEnvVarMissing("CDISR1158E"),
+       RegisterJobWithAASFailed("CDISR1159E"),
+       SAM_MultiPeRestartFailed("CDISR1160E"),
+       SAM_PeRestartFailed("CDISR1161E"),
+       SAM_InvalidStreamId("CDISR1162E"),
+       SAM_InvalidParallelWidth("CDISR1164E"),
+       SubmissionConfigDuplicateError("CDISR1165E"),
+       SubmissionConfigInvalidOptionError("CDISR1166E"),
+       SAMInvalidJobNameError("CDISR1167E"),
+       SAMAppNeedCheckpointSetupError("CDISR1168E"),
+       SAMOperationFailureUserPermissionFullError("CDISR1170E"),
+       SAMAppBundleInstallTimeout("CDISR1171E"),
+       SAMAppNeedSetcapSetupError("CDISR1172E"),
+       SAMSubmitJobError("CDISR1174E"),
+       SubmissionConfigInvalidValueError("CDISR1175E"),
+       SubmissionConfigInvalidCombinationError("CDISR1176E"),
+       SAMInvalidPortID("CDISR1177E"),
+       SAMInvalidHostpoolError("CDISR1179E"),
+       SAMInvalidResourceError("CDISR1180E"),
+       UpdateOperatorsInvalidJobVersion("CDISR1181E"),
+       SAMTransportTypeErr("CDISR1182E"),
+       SAM_JobCompiledWithPriorReleasesFusedWithLegacyMode("CDISR1251W"),
+       SAM_SubmitjobLegacyFusionSchemeWarn("CDISR1252W"),
+       SAMIsReady("CDISR1300I"),
+       SAMIsShutdown("CDISR1301I"),
+       SAMStartCancelJob("CDISR1303I"),
+       SAMEndCanceljob("CDISR1304I"),
+       SAMUnregisteredjob("CDISR1305I"),
+       SAMEndStopPE("CDISR1307I"),
+       SAMEndStopPEInJob("CDISR1310I"),
+       SAMEndRestartPE("CDISR1312I"),
+       SAMEndRestartPEOnHost("CDISR1314I"),
+       SAMEndRestartPEInJob("CDISR1316I"),
+       SAMPERunning("CDISR1317I"),
+       SAMEndUpdatePE("CDISR1319I"),
+       SAMEndUpdatePEInJob("CDISR1321I"),
+       SAMUpdatedPEConfig("CDISR1322I"),
+       SAMEndAddProperty("CDISR1324I"),
+       SAMEndAddProperties("CDISR1326I"),
+       SAMAddedStreamProperties("CDISR1327I"),
+       SAMEndSetProperties("CDISR1331I"),
+       SAMSetStreamProperties("CDISR1332I"),
+       SAMEndRemoveProperties("CDISR1336I"),
+       SAMRemovedStreamProperties("CDISR1337I"),
+       SAMEndSetSubscription("CDISR1339I"),
+       SAMSetSubscription("CDISR1340I"),
+       SAMEndSetFilter("CDISR1342I"),
+       SAMSetFilter("CDISR1343I"),
+       SAMEndOpenStreamView("CDISR1345I"),
+       SAMOpenedStreamView("CDISR1346I"),
+       SAMEndCloseStreamView("CDISR1348I"),
+       SAMClosedStreamView("CDISR1349I"),
+       SAMEndSetStreamViewProperties("CDISR1351I"),
+       SAMSetStreamViewProperties("CDISR1352I"),
+       SAMToManyStartOperators("CDISR1353E"),
+       SAMAppResourceAdded("CDISR1354I"),
+       SAMAppResourceRemoved("CDISR1355I"),
+       SAMResourceStateUpdate("CDISR1356I"),
+       SubmissionConfigIncompatibleOptionError("CDISR1357E"),
+       SAMInternalError("CDISR1358E"),
+       TooManyStartOperators("CDISR1359E"),
+       UnsupportedADLVersion("CDISR1360E"),
+       SAMRecoveryError("CDISR1370E"),
+       SAMPreviewSubmitJobError("CDISR1371E"),
+       SubmissionOpConfigUnrecognizedOptionError("CDISR1372E"),
+       SubmissionOpConfigInvalidOptionError("CDISR1373E"),
+       ERR_PARSING_JSON_FILE("CDISR1374E"),
+       SAMImportExportNotSupportedInStandalone("CDISR1375W"),
+       SAMAnnotationNotSupportedInStandalone("CDISR1376W"),
+       SAMConfigNotSupportedInStandalone("CDISR1377W"),
+       SubmissionDisplayMissing("CDISR1378E"),
+       SAMAddCustomMetric("CDISR1379I"),
+       SAMPECreated("CDISR1380I"),
+       SAMOperatorNotFound("CDISR1381E"),
+       SAMOperatorInputPortNotFound("CDISR1382E"),
+       SAMOperatorOutputPortNotFound("CDISR1383E"),
+       SAMPEInputPortNotFound("CDISR1384E"),
+       SAMPEOutputPortNotFound("CDISR1385E"),
+       SAMPEConnectionNotFound("CDISR1386E"),
+       SAMInvalidJobComposite("CDISR1387E"),
+       SAM_PeRestartInJobFailed("CDISR1388E"),
+       SAMFailedToLocatePEForOperator("CDISR1389E"),
+       SAMLockAlreadyAcquired("CDISR1390E"),
+       SAMInvalidStateTransition("CDISR1391E"),
+       SAMUnrecognizedSPLType("CDISR1392E"),
+       SAMLocalHostNotAvailable("CDISR1393E"),
+       SAMObjectSerializationError("CDISR1394E"),
+       SAMObjectDeserializationError("CDISR1395E"),
+       SAMRecoverObjectError("CDISR1396E"),
+       SAMPEIDDoesNotExistForJob("CDISR1397E"),
+       SAMEndUpdateOperators("CDISR1398I"),
+       SAMOperatorDoesNotExistInJob("CDISR1399E"),
+       SAMPEsMustBeStopped("CDISR1400E"),
+       SAMPesStarted("CDISR1402I"),
+       SAMPesStopped("CDISR1403I"),
+       SAMPesChanged("CDISR1404I"),
+       SAMConfigOverlayMultipleParallelRegionsSpecified("CDISR1405E"),
+       SAMConfigOverlayInvalidParallelWidth("CDISR1406E"),
+       SAMOperatorsInConsistentRegion("CDISR1407E"),
+       SAMMissingTargetOperators("CDISR1408E"),
+       SAMNoMatchingOperators("CDISR1409E"),
+       SAMADLNotAvailable("CDISR1410E"),
+       SAMNoMatchingParallelRegion("CDISR1411E"),
+       SAMUpdateOperatorsInProgress("CDISR1412E"),
+       SAMChannelIsolationRequired("CDISR1413E"),
+       SAMChannelIsolationNotSet("CDISR1414E"),
+       SAMRestartedOperatorsOutsideTargetRegion("CDISR1415I"),
+       SAMChannelIsolationOrNoChannelInfluenceRequired("CDISR1416E"),
+       SAMIgnoredNumberOfResourcesToBeAdded("CDISR1417W"),
+       SAMOperatorsNotRestartable("CDISR1418E"),
+       SAMOperatorsCheckPointing("CDISR1419E"),
+       UTILSLocaleError("CDISR1501E"),
+       UTILSMsgBundleError("CDISR1502E"),
+       UTILSMsgNotFound("CDISR1503E"),
+       UTILSMsgFormatError("CDISR1504E"),
+       UTILSCannotAccessMsgDataError("CDISR1505E"),
+       UTILSUnexpectedException("CDISR1506E"),
+       UTILSDateTimeFormatError("CDISR1507E"),
+       UTILSCantCreateDateTimeFormatter("CDISR1508E"),
+       FsmNextTransitionAlreadySet("CDISR1560E"),
+       FsmInvalidTransition("CDISR1561E"),
+       FsmShutdown("CDISR1562E"),
+       FsmPropertyNotFound("CDISR1563E"),
+       FsmTimeout("CDISR1564E"),
+       FsmProxyNotFound("CDISR1565E"),
+       FsmEngineNotFound("CDISR1566E"),
+       FsmProxyAlreadyExists("CDISR1567E"),
+       FsmProxyShutdown("CDISR1568E"),
+       FsmEngineAlreadyExists("CDISR1569E"),
+       FsmInvalidStateTransition("CDISR1570E"),
+       FsmInvalidStateValue("CDISR1571E"),
+       FsmInvalidTransitionValue("CDISR1572E"),
+       FsmImplNotDefined("CDISR1573E"),
+       GetResourceLimitsFailed("CDISR1575W"),
+       UpdateResourceLimitsFailed("CDISR1576W"),
+       UpdateResourceLimitSuccess("CDISR1577I"),
+       SetResourceLimitsFailed("CDISR1578W"),
+       SetResourceLimitSuccess("CDISR1579I"),
+       TRANSportError("CDISR1900E"),
+       TRANSReceiveError("CDISR1901E"),
+       TRANSHostInfoNotAvailable("CDISR1902E"),
+       TRANSSystemCallFailed("CDISR1903E"),
+       TRANSInvalidArgument("CDISR1904E"),
+       TRANSLogicError("CDISR1905E"),
+       TRANSInvalidMessageHeader("CDISR1906E"),
+       TRANSDataCorrupted("CDISR1907E"),
+       TRANSSocketTimeout("CDISR1908E"),
+       TRANSConnectionHandshake("CDISR1909E"),
+       TRANSConnectionHandshakeInstance("CDISR1910E"),
+       TRANSConnectionHandshakeMagic("CDISR1911E"),
+       TRANSConnectionHandshakePortLabel("CDISR1912E"),
+       TRANSConnectionError("CDISR1913I"),
+       TRANSConnectionSuccess("CDISR1914I"),
+       TRANSInstanceIdRequired("CDISR1915E"),
+       TRANSBadMagicNumber("CDISR1916E"),
+       TRANSBadDataLength("CDISR1917E"),
+       TRANSBadPrefixLength("CDISR1918E"),
+       TRANSBadBoolEncoding("CDISR1919E"),
+       TRANSNullPortName("CDISR1920E"),
+       TRANSNullInstanceId("CDISR1921E"),
+       TRANSBadLineEnd("CDISR1922E"),
+       TRANSBufferDecodeFailed("CDISR1923E"),
+       TRANSBadInstanceId("CDISR1924E"),
+       TRANSBadPortLabel("CDISR1925E"),
+       TRANSIOException("CDISR1926E"),
+       TRANSDistilleryException("CDISR1927E"),
+       SRMInvalidHost("CDISR2011E"),
+       SRMJobNotSpecified("CDISR2066E"),
+       SRMPENotSpecified("CDISR2067E"),
+       SRMOpNameNotSpecified("CDISR2068E"),
+       SRMPortIndexNotSpecified("CDISR2069E"),
+       SRMResourceNotFound("CDISR2070E"),
+       SRMAddHostCmd("CDISR2252I"),
+       SRMAddHostCompleted("CDISR2253I"),
+       SRMRemoveHostCmd("CDISR2254I"),
+       SRMRemoveHostCompleted("CDISR2255I"),
+       SRMIsReady("CDISR2277I"),
+       SRMShutdown("CDISR2278I"),
+       SECUnexpectedException("CDISR2500E"),
+       SECBadCredential("CDISR2503E"),
+       SECNotAllowed("CDISR2518E"),
+       SECInvalidKey("CDISR2523E"),
+       SECSessionInvalid("CDISR2539E"),
+       SECNotAllowedToRemove("CDISR2542E"),
+       SECObjectAlreadyExists("CDISR2543E"),
+       SECUnableToConactAAS("CDISR2545E"),
+       SECUnableToConactAASUnexpectedException("CDISR2546E"),
+       AAS_KEY_AUTH_FAILED("CDISR2559E"),
+       SECInvalidCharacter("CDISR2567E"),
+       AAS_KEY_FILE_NOT_FOUND("CDISR2569E"),
+       AAS_KEY_AUTH_ERROR("CDISR2570E"),
+       SECAccessDeniedInstance("CDISR2590E"),
+       SECServiceBusy("CDISR2596E"),
+       SECExpiredCred("CDISR2597E"),
+       SCHInvalidADL_JSO("CDISR3000E"),
+       SCHNoFeasibleColocationIsolate("CDISR3008E"),
+       SCHNoFeasibleColocationExlocation("CDISR3009E"),
+       SCHInvalidADL("CDISR3011E"),
+       SCHNoHosts("CDISR3013E"),
+       SCHInvalidInPoolIndex("CDISR3018E"),
+       SCHIllegalExplicitHPMember("CDISR3019E"),
+       SCHInvalidPlacementStrategy("CDISR3020E"),
+       SCHInvalidComposingStrategy("CDISR3021E"),
+       SCHInvalidHost("CDISR3022E"),
+       SCHDuplicateXHPMembership("CDISR3023E"),
+       SCHInvalidJsoFormat("CDISR3024E"),
+       SCHNonRelocatePECannotMove("CDISR3026E"),
+       SCHNonSatisfyPlacementConstraint("CDISR3027E"),
+       SCHInvalidRecommendationScope("CDISR3028E"),
+       SCHInvalidInstanceScopedRecommendationID("CDISR3029E"),
+       SCHInvalidHostScopedRecommendationID("CDISR3030E"),
+       SCHInvalidJobScopedRecommendationID("CDISR3031E"),
+       SCHInvalidHostpoolIndex("CDISR3033E"),
+       SCHMissingHostpoolSize("CDISR3034E"),
+       SCHUnattainableFusionCount("CDISR3035W"),
+       SCHHOSTELIM_JOB_PLACEMENT("CDISR3040I"),
+       SCHHOSTELIM_JOB_PLACEMENT_ERR("CDISR3041E"),
+       SCHHOSTELIM_JOB_PRE_PLACEMENT_ERR("CDISR3042E"),
+       SCHHOSTELIM_PLACEABLE_UNIT_PLACEMENT("CDISR3043I"),
+       SCHHOSTELIM_PLACEABLE_UNIT_PLACEMENT_ERR("CDISR3044E"),
+       SCHHOSTELIM_PE_PLACEMENT("CDISR3045I"),
+       SCHHOSTELIM_PE_PLACEMENT_ERR("CDISR3046E"),
+       SCHHOSTELIM_OPERATOR_PLACEMENT("CDISR3047I"),
+       SCHHOSTELIM_OPERATOR_PLACEMENT_ERR("CDISR3048E"),
+       RESOURCE_CRITICAL_PLACEMENT_ERR("CDISR3049E"),
+       SCHHOSTELIM_SPECIFIC_HOST("CDISR3050I"),
+       SCHHOSTELIM_HOST_POOL("CDISR3051I"),
+       SCHHOSTELIM_HOST_POOL_WITH_INDEX("CDISR3052I"),
+       SCHHOSTELIM_NOT_RELOCATABLE_PREV_PLACED("CDISR3053I"),
+       SCHHOSTELIM_NOT_TO_BE_PLACED("CDISR3054I"),
+       SCHHOSTELIM_OVERRIDDEN("CDISR3055I"),
+       SCHHOSTELIM_FOREIGN_XHP_MBR("CDISR3060I"),
+       SCHHOSTELIM_NOT_VALID_XHP_MBR("CDISR3061I"),
+       SCHHOSTELIM_HOSTOVERLOAD("CDISR3062I"),
+       SCHHOSTELIM_THIS_ISOLATION("CDISR3063I"),
+       SCHHOSTELIM_NOT_SCHEDULABLE("CDISR3064I"),
+       SCHHOSTELIM_UNKNOWN_HOST_NAME("CDISR3065I"),
+       SCHHOSTELIM_OP_COLOCATION("CDISR3066I"),
+       SCHHOSTELIM_PE_COLOCATION("CDISR3067I"),
+       SCHHOSTELIM_PE_EXLOCATION("CDISR3068I"),
+       SCHHOSTELIM_PINNED_AT_DIFFERENT_INDEX("CDISR3069I"),
+       SCHHOSTELIM_EMPTY_HOSTPOOL("CDISR3070I"),
+       SCHHOSTELIM_OTHERS_ISOLATION("CDISR3071I"),
+       SCHHOSTELIM_TAG_RESTRICTION("CDISR3072I"),
+       SCHHOSTELIM_NOT_IN_TARGET_REGION("CDISR3073I"),
+       COMPUTE_PE_RECOMMENDATIONS_BEGAN("CDISR3080I"),
+       COMPUTE_PE_RECOMMENDATIONS_COMPLETED("CDISR3081I"),
+       COMPUTE_JOB_PLACEMENT_BEGAN("CDISR3083I"),
+       COMPUTE_JOB_PLACEMENT_COMPLETED("CDISR3084I"),
+       COMPUTE_JOB_PLACEMENT_FAILED("CDISR3085E"),
+       COMPUTE_PE_PLACEMENT_BEGAN("CDISR3086I"),
+       COMPUTE_PE_PLACEMENT_COMPLETED("CDISR3087I"),
+       COMPUTE_PE_PLACEMENT_HOST_BEGAN("CDISR3089I"),
+       COMPUTE_PE_PLACEMENT_HOST_COMPLETED("CDISR3090I"),
+       SCHIncompatibleFusingConstraints("CDISR3200E"),
+       SCHRestartableFusingConstraints("CDISR3201E"),
+       SCHRelocatableFusingConstraints("CDISR3202E"),
+       SCHPartitionIsolationFusingConstraints("CDISR3203E"),
+       SCHPartitionExlocationFusingConstraints("CDISR3204E"),
+       SCHExclusiveHostpoolFusingConstraints("CDISR3205E"),
+       SCHProvisionalLocationFusingConstraints("CDISR3206E"),
+       SCHSegregatedLocationFusingConstraints("CDISR3207E"),
+       SCHSegregatedLocationMandatoryFusingConstraints("CDISR3208E"),
+       SCHHostnameFusingConstraints("CDISR3209E"),
+       SCHIndexInHostpoolFusingConstraints("CDISR3210E"),
+       SCHHostExlocationFusingConstraints("CDISR3211E"),
+       SCHOperatorConstraints("CDISR3212I"),
+       SCHApplicationBundleOperatorConstraints("CDISR3213I"),
+       SCHApplicationBundleOperatorFusionSets("CDISR3214I"),
+       SCHPeOperatorFusionSet("CDISR3215I"),
+       SCHIncompatibleFusingConstraints_forPE("CDISR3216E"),
+       SCHIncompatibleFusingConstraints_forJob("CDISR3217E"),
+       SCHMissingOpConfigParm("CDISR3218E"),
+       SCHDuplicateOpConfigParm("CDISR3219E"),
+       SCHMultipleResourceAssignments("CDISR3220E"),
+       SCHInvalidInPoolIndexConfig("CDISR3221E"),
+       SCHInvalidConfigValue("CDISR3222E"),
+       SCHIncompatibleKeywords("CDISR3223E"),
+       SCHMissingRequiredAttributeForType("CDISR3224E"),
+       SCHConstraintApplicationError("CDISR3225E"),
+       SCHFusedPeWithTags("CDISR3226I"),
+       SCHFusedPeWithHosts("CDISR3227I"),
+       SCHOperatorAttributes("CDISR3228I"),
+       SCHOperatorGroup("CDISR3229I"),
+       SCHOperatorHostpool("CDISR3230I"),
+       SCHIncompatibleIsolationColocation("CDISR3231E"),
+       SCHUnknownOperatorName("CDISR3232E"),
+       SCHInvalidSubmitConfig("CDISR3233E"),
+       SCHDuplicateOperators("CDISR3234E"),
+       SCHMissingRequiredKeyword("CDISR3235E"),
+       SCHConfigOverlayJsonParsingError("CDISR3236E"),
+       SCHConfigOverlayPoolPlacementNameInvalid("CDISR3237E"),
+       SCHHostColocatedOperatorConstraints("CDISR3238I"),
+       SCHOutOfScopeTargetOperatorsFromGroup("CDISR3239E"),
+       SCHOutOfScopeTargetOperators("CDISR3240E"),
+       SCHInvalidConfigFieldForUpdateOperators("CDISR3241E"),
+       SCHJobResourcesNotExclusiveUse("CDISR3242E"),
+       SCHResourcesNotKnownToJob("CDISR3243E"),
+       SCHAugmentedResourcesNotSatisfied("CDISR3244W"),
+       SCHRequestedResourcesNotAllFulfilled("CDISR3245W"),
+       SCHMultipleAdjustmentSubSections("CDISR3246E"),
+       SCHResourceRequestTruncated("CDISR3247I"),
+       SCHUnusedResourcesReleased("CDISR3248I"),
+       SCHDeclHostsNotSupported("CDISR3249E"),
+       SCHHostLoadAverageThresholdNotSupported("CDISR3250W"),
+       SCHUnsupportedParm("CDISR3251W"),
+       SCHOpsPerResRequestedNotAllFulfilled("CDISR3252W"),
+       SCHMinimumResourcesNotAllFulfilled("CDISR3253W"),
+       killPECofPEHang("CDISR3500E"),
+       killPECofPECHang("CDISR3501E"),
+       HCSetCapError("CDISR3502E"),
+       startPEFailure("CDISR3503E"),
+       HCPEAlreadyExistsError("CDISR3504E"),
+       HCPEDoesNotExistError("CDISR3505E"),
+       HCDeletePELogsError("CDISR3506E"),
+       ContactSAMFailedWithKnownReason("CDISR3700W"),
+       ContactSRMFailedWithKnownReason("CDISR3702W"),
+       PEDataDirectoryNotExist("CDISR3704W"),
+       HCIsReady("CDISR3800I"),
+       StartPESuccess("CDISR3802I"),
+       StopPESuccess("CDISR3803I"),
+       PEDownUnexpected("CDISR4000E"),
+       PECStartupFailed("CDISR4001E"),
+       ContactHCFailedWithKnownReason("CDISR4200W"),
+       PEMetricsWhenShutdown("CDISR4302I"),
+       PETracingUpdates("CDISR4303I"),
+       PELogLevelUpdates("CDISR4304I"),
+       PEDownVoluntarily("CDISR4307I"),
+       PEUnexpectedError("CDISR4308E"),
+       PEAppConfigUpdates("CDISR4309I"),
+       PEAppConfigRemoved("CDISR4310I"),
+       APP_DEPLOY_FAILED("CDISR4311E"),
+       APP_MISSING_BUNDLE_ID("CDISR4312E"),
+       APP_BUNDLE_NOT_INSTALLED("CDISR4313E"),
+       APP_BUNDLE_NOT_REGISTERED("CDISR4314E"),
+       APP_BUNDLE_FAILED_DOWNLOAD("CDISR4315E"),
+       APP_FAILED_CLEANUP("CDISR4316E"),
+       APP_FAILED_DOWNLOAD("CDISR4317E"),
+       APP_FAILED_PREPARE_PE_INVOCATION_DIR("CDISR4318E"),
+       APP_FAILED_INSTALL("CDISR4319E"),
+       APP_FAILED_INSTALL_NO_CAUSE("CDISR4320E"),
+       APP_FAILED_UNTAR("CDISR4321E"),
+       APP_FAILED_PREPARE_WORKING_DIR("CDISR4322E"),
+       APP_FAILED_PREPARE_WORKING_DIR_NO_CAUSE("CDISR4323E"),
+       APP_FAILED_PREPARE_ALZ_DIR("CDISR4324E"),
+       ERR_RM_UNEXPECTED_ERROR("CDISR6000E"),
+       ERR_RM_UNEXPECTED_ERROR_WITH_MSG("CDISR6001E"),
+       ERR_RM_IS_NOT_AVAILABLE("CDISR6002E"),
+       ERR_RM_ALREADY_RUNNING("CDISR6003E"),
+       ERR_RM_UNSUPPORTED_TAG_DEF_TYPE("CDISR6004E"),
+       ERR_RM_UNSUPPORTED_TAG_ATTRIBUTE("CDISR6005E"),
+       ERR_RM_UNSUPPORTED_ATTRIBUTE_VALUE("CDISR6006E"),
+       ERR_RM_REQUIRES_NUMERIC_ATTRIBUTE("CDISR6007E"),
+       ERR_RM_REQUIRES_STRING_ATTRIBUTE("CDISR6008E"),
+       ERR_RM_TAG_NAME_UKNOWN("CDISR6009E"),
+       ERR_RM_TAG_FORMAT_INCORRECT("CDISR6010E"),
+       ERR_CUSTOM_COMMAND_FAILED("CDISR6011E"),
+       ERR_PERSISTENCE_NOT_CONNECTED("CDISR6012E"),
+       ERR_RM_COMMAND_LINE_OPTION_REQUIRED("CDISR6013E"),
+       ERR_RM_CAN_NOT_ACCESS_CONFIG_FILE("CDISR6014E"),
+       ERR_NO_RM_INSTANCES_REGISTERED_FOR_ALL_DOMAINS("CDISR6015E"),
+       ERR_NO_RM_INSTANCES_REGISTERED_FOR_DOMAIN("CDISR6016E"),
+       ERR_NO_RM_INSTANCES_REGISTERED("CDISR6017E"),
+       INFO_STOPPING_RM("CDISR6018I"),
+       INFO_STOPPED_RM("CDISR6019I"),
+       ERR_RM_ACTIVELY_MANAGING_RESOURCES("CDISR6020E"),
+       ERR_CONFIG_PROPERTY_MISSING("CDISR6021E"),
+       ERR_INCOMPATIBLE_OPTIONS("CDISR6022E"),
+       ERR_RM_IS_NOT_AVAILABLE_FOR_DOMAIN("CDISR6023E"),
+       ERR_CONFIG_PROPERTY_VALUE_INVALID("CDISR6024E"),
+       INFO_RM_SUBMITTED("CDISR6025I"),
+       ERR_RM_TAG_DEFINITIONS_INCOMPATIBLE("CDISR6026E"),
+       ERR_RM_MASTER_RESOURCE_NOT_ALLOCATED("CDISR6027E"),
+       ERR_STOP_RM_UNEXPECTED_ERROR_WITH_MSG("CDISR6028E"),
+       ERR_SYMPHONY_CONSUMER_UNKNOWN("CDISR6101E"),
+       ERR_SYMPHONY_RESOURCE_GROUP_UNKNOWN("CDISR6102E"),
+       ERR_SYMPHONY_CONSUMER_NOT_AUTHORIZED("CDISR6103E"),
+       ERR_SYMPHONY_TAGS_NO_RESOURCE_GROUPS_IN_COMMON("CDISR6104E"),
+       ERR_YARN_MASTER_RESOURCE("CDISR6200E"),
+       ERR_YARN_UNKNOWN_CONTAINER_ID("CDISR6201E"),
+       ERR_YARN_REQUEST_NOT_FOUND("CDISR6202E"),
+       ERR_YARN_PROPERTY_MISSING("CDISR6203E"),
+       ERR_YARN_CLASSPATH_MISSING("CDISR6204E"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.messages.StreamsRuntimeMessages";
+       }
+
+   }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.ibm.streams.messages;
+
+import java.util.ListResourceBundle;
+
+public class StreamsSwsMessages extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISW0001I", "The {0} action completed successfully for the resource with resource type {1} and restid {2}."},
+    {"CDISW0002I", "The {0} action completed successfully for the resource with resource type {1} and restid {2} in instance {3}."},
+    {"CDISW5000E", "The resource with the {0} resourceType and restid {1} cannot be found."},
+    {"CDISW5001E", "An unexpected error occurred. The error is: {0}"},
+    {"CDISW5002E", "The format of restid {0} for the {1} resourceType is not correct."},
+    {"CDISW5003E", "The current user is not authorized to retrieve information about jobs."},
+    {"CDISW5004E", "The current user is not authorized to retrieve information about hosts."},
+    {"CDISW5005E", "The current user is not authorized to retrieve information about instances."},
+    {"CDISW5006E", "The current user is not authorized to retrieve information about views."},
+    {"CDISW5007E", "The current user is not authorized to retrieve information about a host."},
+    {"CDISW5008E", "The current user is not authorized to retrieve information for job ID {0}."},
+    {"CDISW5009E", "The current user is not authorized to retrieve information for view ID {0}."},
+    {"CDISW5010E", "The current user is not authorized to retrieve configuration information."},
+    {"CDISW5011E", "An action type must be specifed when performing an action on a resource."},
+    {"CDISW5012E", "The {0} action is not supported for the resource with resource type {1} and restid {2}."},
+    {"CDISW5013E", "The {0} action is not supported for the resource with resource type {1} and restid {2} in instance {3}."},
+    {"CDISW5014E", "The provided request input cannot be interpreted as JavaScript Object Notation (JSON) content."},
+  };
+}
@@ -0,0 +1,44 @@
+package com.ibm.streams.messages;
+import com.ibm.streams.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsSwsMessages
+ * This class is generated from StreamsSwsMessages.xlf
+ */
+public class StreamsSwsMessagesKey { 
+
+   public enum Key implements MessageKey {
+       INFO_RESTAPI_DOMAIN_ACTION_COMPLETE("CDISW0001I"),
+       INFO_RESTAPI_INSTANCE_ACTION_COMPLETE("CDISW0002I"),
+       ERR_RESTAPI_CANNOT_FIND_RESOURCE("CDISW5000E"),
+       ERR_RESTAPI_UNEXPECTED_ERROR("CDISW5001E"),
+       ERR_RESTAPI_INCORRECT_ID_FORMAT("CDISW5002E"),
+       ERR_RESTAPI_NO_JOB_SEARCH_PERMISSION("CDISW5003E"),
+       ERR_RESTAPI_NO_HOST_SEARCH_PERMISSION("CDISW5004E"),
+       ERR_RESTAPI_NO_INSTANCE_SEARCH_PERMISSION("CDISW5005E"),
+       ERR_RESTAPI_NO_VIEW_SEARCH_PERMISSION("CDISW5006E"),
+       ERR_RESTAPI_NO_HOST_READ_PERMISSION("CDISW5007E"),
+       ERR_RESTAPI_NO_JOB_READ_PERMISSION("CDISW5008E"),
+       ERR_RESTAPI_NO_VIEW_READ_PERMISSION("CDISW5009E"),
+       ERR_RESTAPI_NO_CONFIG_READ_PERMISSION("CDISW5010E"),
+       ERROR_MISSING_ACTION_TYPE("CDISW5011E"),
+       ERROR_DOMAIN_ACTION_NOT_SUPPORTED("CDISW5012E"),
+       ERROR_INSTANCE_ACTION_NOT_SUPPORTED("CDISW5013E"),
+       ERROR_INVALID_JSON_INPUT("CDISW5014E"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.messages.StreamsSwsMessages";
+       }
+
+   }
+}
\ No newline at end of file
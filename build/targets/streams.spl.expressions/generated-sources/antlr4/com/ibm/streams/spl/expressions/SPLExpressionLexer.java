@@ -0,0 +1,264 @@
+// Generated from com/ibm/streams/spl/expressions/SPLExpression.g4 by ANTLR 4.5.3
+package com.ibm.streams.spl.expressions;
+
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SPLExpressionLexer extends Lexer {
+	static { RuntimeMetaData.checkVersion("4.5.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, AMP=14, CARET=15, BAR=16, AMP_AMP=17, 
+		BAR_BAR=18, IN=19, LT=20, LTE=21, GT=22, GTE=23, EQ=24, NEQ=25, LSFT=26, 
+		RSFT=27, PLUS=28, MINUS=29, MUL=30, DIV=31, MOD=32, NOT=33, BNOT=34, DOLLAR=35, 
+		DOT=36, DQUOTE=37, SQUOTE=38, ID=39, INT_LITERAL=40, STRING_LITERAL=41, 
+		FLOAT_LITERAL=42, BOOLEAN_LITERAL=43, WS=44;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
+		"T__9", "T__10", "T__11", "T__12", "AMP", "CARET", "BAR", "AMP_AMP", "BAR_BAR", 
+		"IN", "LT", "LTE", "GT", "GTE", "EQ", "NEQ", "LSFT", "RSFT", "PLUS", "MINUS", 
+		"MUL", "DIV", "MOD", "NOT", "BNOT", "DOLLAR", "DOT", "DQUOTE", "SQUOTE", 
+		"HEXDIGIT", "LETTER", "DIGIT", "POSDIGIT", "EXPONENT", "STRINGESC", "STRINGCHAR", 
+		"ID", "INT_LITERAL", "STRING_LITERAL", "FLOAT_LITERAL", "BOOLEAN_LITERAL", 
+		"WS"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'('", "')'", "'['", "']'", "'boolean'", "'int64'", "'float64'", 
+		"'rstring'", "'getChannel()'", "'getLocalChannel()'", "'getMaxChannels()'", 
+		"'getLocalMaxChannels()'", "'hash'", "'&'", "'^'", "'|'", "'&&'", "'||'", 
+		"'in'", "'<'", "'<='", "'>'", "'>='", "'=='", "'!='", "'<<'", "'>>'", 
+		"'+'", "'-'", "'*'", "'/'", "'%'", "'!'", "'~'", "'$'", "'.'", "'\"'", 
+		"'''"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, "AMP", "CARET", "BAR", "AMP_AMP", "BAR_BAR", "IN", "LT", "LTE", 
+		"GT", "GTE", "EQ", "NEQ", "LSFT", "RSFT", "PLUS", "MINUS", "MUL", "DIV", 
+		"MOD", "NOT", "BNOT", "DOLLAR", "DOT", "DQUOTE", "SQUOTE", "ID", "INT_LITERAL", 
+		"STRING_LITERAL", "FLOAT_LITERAL", "BOOLEAN_LITERAL", "WS"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public SPLExpressionLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SPLExpression.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\2.\u01a3\b\1\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\3\2\3\2\3\3\3\3\3\4\3\4\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t"+
+		"\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3"+
+		"\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3"+
+		"\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f"+
+		"\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3"+
+		"\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\16\3\17\3\17"+
+		"\3\20\3\20\3\21\3\21\3\22\3\22\3\22\3\23\3\23\3\23\3\24\3\24\3\24\3\25"+
+		"\3\25\3\26\3\26\3\26\3\27\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\32\3\32"+
+		"\3\32\3\33\3\33\3\33\3\34\3\34\3\34\3\35\3\35\3\36\3\36\3\37\3\37\3 \3"+
+		" \3!\3!\3\"\3\"\3#\3#\3$\3$\3%\3%\3&\3&\3\'\3\'\3(\3(\5(\u0118\n(\3)\3"+
+		")\3*\3*\3+\3+\3,\3,\3,\5,\u0123\n,\3,\6,\u0126\n,\r,\16,\u0127\3-\3-\3"+
+		"-\3-\3-\3-\3-\3-\3-\3-\5-\u0134\n-\3.\3.\3/\5/\u0139\n/\3/\3/\3/\7/\u013e"+
+		"\n/\f/\16/\u0141\13/\3\60\3\60\5\60\u0145\n\60\3\60\3\60\7\60\u0149\n"+
+		"\60\f\60\16\60\u014c\13\60\5\60\u014e\n\60\3\61\3\61\3\61\3\61\7\61\u0154"+
+		"\n\61\f\61\16\61\u0157\13\61\3\61\3\61\3\61\3\61\3\61\3\61\7\61\u015f"+
+		"\n\61\f\61\16\61\u0162\13\61\3\61\3\61\5\61\u0166\n\61\3\62\3\62\3\62"+
+		"\7\62\u016b\n\62\f\62\16\62\u016e\13\62\5\62\u0170\n\62\3\62\3\62\7\62"+
+		"\u0174\n\62\f\62\16\62\u0177\13\62\3\62\5\62\u017a\n\62\3\62\3\62\6\62"+
+		"\u017e\n\62\r\62\16\62\u017f\3\62\5\62\u0183\n\62\3\62\3\62\3\62\7\62"+
+		"\u0188\n\62\f\62\16\62\u018b\13\62\5\62\u018d\n\62\3\62\5\62\u0190\n\62"+
+		"\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\5\63\u019b\n\63\3\64\6\64"+
+		"\u019e\n\64\r\64\16\64\u019f\3\64\3\64\2\2\65\3\3\5\4\7\5\t\6\13\7\r\b"+
+		"\17\t\21\n\23\13\25\f\27\r\31\16\33\17\35\20\37\21!\22#\23%\24\'\25)\26"+
+		"+\27-\30/\31\61\32\63\33\65\34\67\359\36;\37= ?!A\"C#E$G%I&K\'M(O\2Q\2"+
+		"S\2U\2W\2Y\2[\2])_*a+c,e-g.\3\2\b\4\2CHch\5\2C\\aac|\4\2GGgg\13\2))AA"+
+		"^^cdhhppttvvxx\5\2$$))^^\5\2\13\f\17\17\"\"\u01bb\2\3\3\2\2\2\2\5\3\2"+
+		"\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21"+
+		"\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2"+
+		"\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3"+
+		"\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3"+
+		"\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3"+
+		"\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2"+
+		"\2\2M\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2"+
+		"g\3\2\2\2\3i\3\2\2\2\5k\3\2\2\2\7m\3\2\2\2\to\3\2\2\2\13q\3\2\2\2\ry\3"+
+		"\2\2\2\17\177\3\2\2\2\21\u0087\3\2\2\2\23\u008f\3\2\2\2\25\u009c\3\2\2"+
+		"\2\27\u00ae\3\2\2\2\31\u00bf\3\2\2\2\33\u00d5\3\2\2\2\35\u00da\3\2\2\2"+
+		"\37\u00dc\3\2\2\2!\u00de\3\2\2\2#\u00e0\3\2\2\2%\u00e3\3\2\2\2\'\u00e6"+
+		"\3\2\2\2)\u00e9\3\2\2\2+\u00eb\3\2\2\2-\u00ee\3\2\2\2/\u00f0\3\2\2\2\61"+
+		"\u00f3\3\2\2\2\63\u00f6\3\2\2\2\65\u00f9\3\2\2\2\67\u00fc\3\2\2\29\u00ff"+
+		"\3\2\2\2;\u0101\3\2\2\2=\u0103\3\2\2\2?\u0105\3\2\2\2A\u0107\3\2\2\2C"+
+		"\u0109\3\2\2\2E\u010b\3\2\2\2G\u010d\3\2\2\2I\u010f\3\2\2\2K\u0111\3\2"+
+		"\2\2M\u0113\3\2\2\2O\u0117\3\2\2\2Q\u0119\3\2\2\2S\u011b\3\2\2\2U\u011d"+
+		"\3\2\2\2W\u011f\3\2\2\2Y\u0129\3\2\2\2[\u0135\3\2\2\2]\u0138\3\2\2\2_"+
+		"\u014d\3\2\2\2a\u0165\3\2\2\2c\u018f\3\2\2\2e\u019a\3\2\2\2g\u019d\3\2"+
+		"\2\2ij\7*\2\2j\4\3\2\2\2kl\7+\2\2l\6\3\2\2\2mn\7]\2\2n\b\3\2\2\2op\7_"+
+		"\2\2p\n\3\2\2\2qr\7d\2\2rs\7q\2\2st\7q\2\2tu\7n\2\2uv\7g\2\2vw\7c\2\2"+
+		"wx\7p\2\2x\f\3\2\2\2yz\7k\2\2z{\7p\2\2{|\7v\2\2|}\78\2\2}~\7\66\2\2~\16"+
+		"\3\2\2\2\177\u0080\7h\2\2\u0080\u0081\7n\2\2\u0081\u0082\7q\2\2\u0082"+
+		"\u0083\7c\2\2\u0083\u0084\7v\2\2\u0084\u0085\78\2\2\u0085\u0086\7\66\2"+
+		"\2\u0086\20\3\2\2\2\u0087\u0088\7t\2\2\u0088\u0089\7u\2\2\u0089\u008a"+
+		"\7v\2\2\u008a\u008b\7t\2\2\u008b\u008c\7k\2\2\u008c\u008d\7p\2\2\u008d"+
+		"\u008e\7i\2\2\u008e\22\3\2\2\2\u008f\u0090\7i\2\2\u0090\u0091\7g\2\2\u0091"+
+		"\u0092\7v\2\2\u0092\u0093\7E\2\2\u0093\u0094\7j\2\2\u0094\u0095\7c\2\2"+
+		"\u0095\u0096\7p\2\2\u0096\u0097\7p\2\2\u0097\u0098\7g\2\2\u0098\u0099"+
+		"\7n\2\2\u0099\u009a\7*\2\2\u009a\u009b\7+\2\2\u009b\24\3\2\2\2\u009c\u009d"+
+		"\7i\2\2\u009d\u009e\7g\2\2\u009e\u009f\7v\2\2\u009f\u00a0\7N\2\2\u00a0"+
+		"\u00a1\7q\2\2\u00a1\u00a2\7e\2\2\u00a2\u00a3\7c\2\2\u00a3\u00a4\7n\2\2"+
+		"\u00a4\u00a5\7E\2\2\u00a5\u00a6\7j\2\2\u00a6\u00a7\7c\2\2\u00a7\u00a8"+
+		"\7p\2\2\u00a8\u00a9\7p\2\2\u00a9\u00aa\7g\2\2\u00aa\u00ab\7n\2\2\u00ab"+
+		"\u00ac\7*\2\2\u00ac\u00ad\7+\2\2\u00ad\26\3\2\2\2\u00ae\u00af\7i\2\2\u00af"+
+		"\u00b0\7g\2\2\u00b0\u00b1\7v\2\2\u00b1\u00b2\7O\2\2\u00b2\u00b3\7c\2\2"+
+		"\u00b3\u00b4\7z\2\2\u00b4\u00b5\7E\2\2\u00b5\u00b6\7j\2\2\u00b6\u00b7"+
+		"\7c\2\2\u00b7\u00b8\7p\2\2\u00b8\u00b9\7p\2\2\u00b9\u00ba\7g\2\2\u00ba"+
+		"\u00bb\7n\2\2\u00bb\u00bc\7u\2\2\u00bc\u00bd\7*\2\2\u00bd\u00be\7+\2\2"+
+		"\u00be\30\3\2\2\2\u00bf\u00c0\7i\2\2\u00c0\u00c1\7g\2\2\u00c1\u00c2\7"+
+		"v\2\2\u00c2\u00c3\7N\2\2\u00c3\u00c4\7q\2\2\u00c4\u00c5\7e\2\2\u00c5\u00c6"+
+		"\7c\2\2\u00c6\u00c7\7n\2\2\u00c7\u00c8\7O\2\2\u00c8\u00c9\7c\2\2\u00c9"+
+		"\u00ca\7z\2\2\u00ca\u00cb\7E\2\2\u00cb\u00cc\7j\2\2\u00cc\u00cd\7c\2\2"+
+		"\u00cd\u00ce\7p\2\2\u00ce\u00cf\7p\2\2\u00cf\u00d0\7g\2\2\u00d0\u00d1"+
+		"\7n\2\2\u00d1\u00d2\7u\2\2\u00d2\u00d3\7*\2\2\u00d3\u00d4\7+\2\2\u00d4"+
+		"\32\3\2\2\2\u00d5\u00d6\7j\2\2\u00d6\u00d7\7c\2\2\u00d7\u00d8\7u\2\2\u00d8"+
+		"\u00d9\7j\2\2\u00d9\34\3\2\2\2\u00da\u00db\7(\2\2\u00db\36\3\2\2\2\u00dc"+
+		"\u00dd\7`\2\2\u00dd \3\2\2\2\u00de\u00df\7~\2\2\u00df\"\3\2\2\2\u00e0"+
+		"\u00e1\7(\2\2\u00e1\u00e2\7(\2\2\u00e2$\3\2\2\2\u00e3\u00e4\7~\2\2\u00e4"+
+		"\u00e5\7~\2\2\u00e5&\3\2\2\2\u00e6\u00e7\7k\2\2\u00e7\u00e8\7p\2\2\u00e8"+
+		"(\3\2\2\2\u00e9\u00ea\7>\2\2\u00ea*\3\2\2\2\u00eb\u00ec\7>\2\2\u00ec\u00ed"+
+		"\7?\2\2\u00ed,\3\2\2\2\u00ee\u00ef\7@\2\2\u00ef.\3\2\2\2\u00f0\u00f1\7"+
+		"@\2\2\u00f1\u00f2\7?\2\2\u00f2\60\3\2\2\2\u00f3\u00f4\7?\2\2\u00f4\u00f5"+
+		"\7?\2\2\u00f5\62\3\2\2\2\u00f6\u00f7\7#\2\2\u00f7\u00f8\7?\2\2\u00f8\64"+
+		"\3\2\2\2\u00f9\u00fa\7>\2\2\u00fa\u00fb\7>\2\2\u00fb\66\3\2\2\2\u00fc"+
+		"\u00fd\7@\2\2\u00fd\u00fe\7@\2\2\u00fe8\3\2\2\2\u00ff\u0100\7-\2\2\u0100"+
+		":\3\2\2\2\u0101\u0102\7/\2\2\u0102<\3\2\2\2\u0103\u0104\7,\2\2\u0104>"+
+		"\3\2\2\2\u0105\u0106\7\61\2\2\u0106@\3\2\2\2\u0107\u0108\7\'\2\2\u0108"+
+		"B\3\2\2\2\u0109\u010a\7#\2\2\u010aD\3\2\2\2\u010b\u010c\7\u0080\2\2\u010c"+
+		"F\3\2\2\2\u010d\u010e\7&\2\2\u010eH\3\2\2\2\u010f\u0110\7\60\2\2\u0110"+
+		"J\3\2\2\2\u0111\u0112\7$\2\2\u0112L\3\2\2\2\u0113\u0114\7)\2\2\u0114N"+
+		"\3\2\2\2\u0115\u0118\5S*\2\u0116\u0118\t\2\2\2\u0117\u0115\3\2\2\2\u0117"+
+		"\u0116\3\2\2\2\u0118P\3\2\2\2\u0119\u011a\t\3\2\2\u011aR\3\2\2\2\u011b"+
+		"\u011c\4\62;\2\u011cT\3\2\2\2\u011d\u011e\4\63;\2\u011eV\3\2\2\2\u011f"+
+		"\u0122\t\4\2\2\u0120\u0123\59\35\2\u0121\u0123\5;\36\2\u0122\u0120\3\2"+
+		"\2\2\u0122\u0121\3\2\2\2\u0122\u0123\3\2\2\2\u0123\u0125\3\2\2\2\u0124"+
+		"\u0126\5S*\2\u0125\u0124\3\2\2\2\u0126\u0127\3\2\2\2\u0127\u0125\3\2\2"+
+		"\2\u0127\u0128\3\2\2\2\u0128X\3\2\2\2\u0129\u0133\7^\2\2\u012a\u0134\5"+
+		"K&\2\u012b\u0134\t\5\2\2\u012c\u012d\7w\2\2\u012d\u012e\5O(\2\u012e\u012f"+
+		"\5O(\2\u012f\u0130\5O(\2\u0130\u0131\5O(\2\u0131\u0134\3\2\2\2\u0132\u0134"+
+		"\7\62\2\2\u0133\u012a\3\2\2\2\u0133\u012b\3\2\2\2\u0133\u012c\3\2\2\2"+
+		"\u0133\u0132\3\2\2\2\u0134Z\3\2\2\2\u0135\u0136\n\6\2\2\u0136\\\3\2\2"+
+		"\2\u0137\u0139\5G$\2\u0138\u0137\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u013a"+
+		"\3\2\2\2\u013a\u013f\5Q)\2\u013b\u013e\5S*\2\u013c\u013e\5Q)\2\u013d\u013b"+
+		"\3\2\2\2\u013d\u013c\3\2\2\2\u013e\u0141\3\2\2\2\u013f\u013d\3\2\2\2\u013f"+
+		"\u0140\3\2\2\2\u0140^\3\2\2\2\u0141\u013f\3\2\2\2\u0142\u014e\7\62\2\2"+
+		"\u0143\u0145\5;\36\2\u0144\u0143\3\2\2\2\u0144\u0145\3\2\2\2\u0145\u0146"+
+		"\3\2\2\2\u0146\u014a\5U+\2\u0147\u0149\5S*\2\u0148\u0147\3\2\2\2\u0149"+
+		"\u014c\3\2\2\2\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u014e\3\2"+
+		"\2\2\u014c\u014a\3\2\2\2\u014d\u0142\3\2\2\2\u014d\u0144\3\2\2\2\u014e"+
+		"`\3\2\2\2\u014f\u0155\5K&\2\u0150\u0154\5Y-\2\u0151\u0154\5[.\2\u0152"+
+		"\u0154\5M\'\2\u0153\u0150\3\2\2\2\u0153\u0151\3\2\2\2\u0153\u0152\3\2"+
+		"\2\2\u0154\u0157\3\2\2\2\u0155\u0153\3\2\2\2\u0155\u0156\3\2\2\2\u0156"+
+		"\u0158\3\2\2\2\u0157\u0155\3\2\2\2\u0158\u0159\5K&\2\u0159\u0166\3\2\2"+
+		"\2\u015a\u0160\5M\'\2\u015b\u015f\5Y-\2\u015c\u015f\5[.\2\u015d\u015f"+
+		"\5K&\2\u015e\u015b\3\2\2\2\u015e\u015c\3\2\2\2\u015e\u015d\3\2\2\2\u015f"+
+		"\u0162\3\2\2\2\u0160\u015e\3\2\2\2\u0160\u0161\3\2\2\2\u0161\u0163\3\2"+
+		"\2\2\u0162\u0160\3\2\2\2\u0163\u0164\5M\'\2\u0164\u0166\3\2\2\2\u0165"+
+		"\u014f\3\2\2\2\u0165\u015a\3\2\2\2\u0166b\3\2\2\2\u0167\u0170\7\62\2\2"+
+		"\u0168\u016c\5U+\2\u0169\u016b\5S*\2\u016a\u0169\3\2\2\2\u016b\u016e\3"+
+		"\2\2\2\u016c\u016a\3\2\2\2\u016c\u016d\3\2\2\2\u016d\u0170\3\2\2\2\u016e"+
+		"\u016c\3\2\2\2\u016f\u0167\3\2\2\2\u016f\u0168\3\2\2\2\u0170\u0171\3\2"+
+		"\2\2\u0171\u0175\5I%\2\u0172\u0174\5S*\2\u0173\u0172\3\2\2\2\u0174\u0177"+
+		"\3\2\2\2\u0175\u0173\3\2\2\2\u0175\u0176\3\2\2\2\u0176\u0179\3\2\2\2\u0177"+
+		"\u0175\3\2\2\2\u0178\u017a\5W,\2\u0179\u0178\3\2\2\2\u0179\u017a\3\2\2"+
+		"\2\u017a\u0190\3\2\2\2\u017b\u017d\5I%\2\u017c\u017e\5S*\2\u017d\u017c"+
+		"\3\2\2\2\u017e\u017f\3\2\2\2\u017f\u017d\3\2\2\2\u017f\u0180\3\2\2\2\u0180"+
+		"\u0182\3\2\2\2\u0181\u0183\5W,\2\u0182\u0181\3\2\2\2\u0182\u0183\3\2\2"+
+		"\2\u0183\u0190\3\2\2\2\u0184\u018d\7\62\2\2\u0185\u0189\5U+\2\u0186\u0188"+
+		"\5S*\2\u0187\u0186\3\2\2\2\u0188\u018b\3\2\2\2\u0189\u0187\3\2\2\2\u0189"+
+		"\u018a\3\2\2\2\u018a\u018d\3\2\2\2\u018b\u0189\3\2\2\2\u018c\u0184\3\2"+
+		"\2\2\u018c\u0185\3\2\2\2\u018d\u018e\3\2\2\2\u018e\u0190\5W,\2\u018f\u016f"+
+		"\3\2\2\2\u018f\u017b\3\2\2\2\u018f\u018c\3\2\2\2\u0190d\3\2\2\2\u0191"+
+		"\u0192\7v\2\2\u0192\u0193\7t\2\2\u0193\u0194\7w\2\2\u0194\u019b\7g\2\2"+
+		"\u0195\u0196\7h\2\2\u0196\u0197\7c\2\2\u0197\u0198\7n\2\2\u0198\u0199"+
+		"\7u\2\2\u0199\u019b\7g\2\2\u019a\u0191\3\2\2\2\u019a\u0195\3\2\2\2\u019b"+
+		"f\3\2\2\2\u019c\u019e\t\7\2\2\u019d\u019c\3\2\2\2\u019e\u019f\3\2\2\2"+
+		"\u019f\u019d\3\2\2\2\u019f\u01a0\3\2\2\2\u01a0\u01a1\3\2\2\2\u01a1\u01a2"+
+		"\b\64\2\2\u01a2h\3\2\2\2\35\2\u0117\u0122\u0127\u0133\u0138\u013d\u013f"+
+		"\u0144\u014a\u014d\u0153\u0155\u015e\u0160\u0165\u016c\u016f\u0175\u0179"+
+		"\u017f\u0182\u0189\u018c\u018f\u019a\u019f\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
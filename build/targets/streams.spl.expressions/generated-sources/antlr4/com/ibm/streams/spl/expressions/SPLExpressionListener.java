@@ -0,0 +1,322 @@
+// Generated from com/ibm/streams/spl/expressions/SPLExpression.g4 by ANTLR 4.5.3
+package com.ibm.streams.spl.expressions;
+
+
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link SPLExpressionParser}.
+ */
+public interface SPLExpressionListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void enterExpression(SPLExpressionParser.ExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#expression}.
+	 * @param ctx the parse tree
+	 */
+	void exitExpression(SPLExpressionParser.ExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#orExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterOrExpression(SPLExpressionParser.OrExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#orExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitOrExpression(SPLExpressionParser.OrExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#andExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterAndExpression(SPLExpressionParser.AndExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#andExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitAndExpression(SPLExpressionParser.AndExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#bitOrExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBitOrExpression(SPLExpressionParser.BitOrExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#bitOrExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBitOrExpression(SPLExpressionParser.BitOrExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#bitXorExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBitXorExpression(SPLExpressionParser.BitXorExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#bitXorExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBitXorExpression(SPLExpressionParser.BitXorExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#bitAndExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBitAndExpression(SPLExpressionParser.BitAndExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#bitAndExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBitAndExpression(SPLExpressionParser.BitAndExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#inExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterInExpression(SPLExpressionParser.InExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#inExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitInExpression(SPLExpressionParser.InExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#relExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterRelExpression(SPLExpressionParser.RelExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#relExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitRelExpression(SPLExpressionParser.RelExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#shiftExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterShiftExpression(SPLExpressionParser.ShiftExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#shiftExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitShiftExpression(SPLExpressionParser.ShiftExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#addExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterAddExpression(SPLExpressionParser.AddExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#addExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitAddExpression(SPLExpressionParser.AddExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#mulExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterMulExpression(SPLExpressionParser.MulExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#mulExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitMulExpression(SPLExpressionParser.MulExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#castExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterCastExpression(SPLExpressionParser.CastExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#castExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitCastExpression(SPLExpressionParser.CastExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#postfixExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterPostfixExpression(SPLExpressionParser.PostfixExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#postfixExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitPostfixExpression(SPLExpressionParser.PostfixExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#prefixExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrefixExpression(SPLExpressionParser.PrefixExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#prefixExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrefixExpression(SPLExpressionParser.PrefixExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#notExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterNotExpression(SPLExpressionParser.NotExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#notExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitNotExpression(SPLExpressionParser.NotExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#bitNotExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterBitNotExpression(SPLExpressionParser.BitNotExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#bitNotExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitBitNotExpression(SPLExpressionParser.BitNotExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#primaryExpression}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrimaryExpression(SPLExpressionParser.PrimaryExpressionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#primaryExpression}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrimaryExpression(SPLExpressionParser.PrimaryExpressionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#relOp}.
+	 * @param ctx the parse tree
+	 */
+	void enterRelOp(SPLExpressionParser.RelOpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#relOp}.
+	 * @param ctx the parse tree
+	 */
+	void exitRelOp(SPLExpressionParser.RelOpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#shiftOp}.
+	 * @param ctx the parse tree
+	 */
+	void enterShiftOp(SPLExpressionParser.ShiftOpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#shiftOp}.
+	 * @param ctx the parse tree
+	 */
+	void exitShiftOp(SPLExpressionParser.ShiftOpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#addOp}.
+	 * @param ctx the parse tree
+	 */
+	void enterAddOp(SPLExpressionParser.AddOpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#addOp}.
+	 * @param ctx the parse tree
+	 */
+	void exitAddOp(SPLExpressionParser.AddOpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#mulOp}.
+	 * @param ctx the parse tree
+	 */
+	void enterMulOp(SPLExpressionParser.MulOpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#mulOp}.
+	 * @param ctx the parse tree
+	 */
+	void exitMulOp(SPLExpressionParser.MulOpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#notOp}.
+	 * @param ctx the parse tree
+	 */
+	void enterNotOp(SPLExpressionParser.NotOpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#notOp}.
+	 * @param ctx the parse tree
+	 */
+	void exitNotOp(SPLExpressionParser.NotOpContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void enterType(SPLExpressionParser.TypeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#type}.
+	 * @param ctx the parse tree
+	 */
+	void exitType(SPLExpressionParser.TypeContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#intrinsic}.
+	 * @param ctx the parse tree
+	 */
+	void enterIntrinsic(SPLExpressionParser.IntrinsicContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#intrinsic}.
+	 * @param ctx the parse tree
+	 */
+	void exitIntrinsic(SPLExpressionParser.IntrinsicContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#functionCall}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunctionCall(SPLExpressionParser.FunctionCallContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#functionCall}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunctionCall(SPLExpressionParser.FunctionCallContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#function}.
+	 * @param ctx the parse tree
+	 */
+	void enterFunction(SPLExpressionParser.FunctionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#function}.
+	 * @param ctx the parse tree
+	 */
+	void exitFunction(SPLExpressionParser.FunctionContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#identifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdentifier(SPLExpressionParser.IdentifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#identifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdentifier(SPLExpressionParser.IdentifierContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#integer}.
+	 * @param ctx the parse tree
+	 */
+	void enterInteger(SPLExpressionParser.IntegerContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#integer}.
+	 * @param ctx the parse tree
+	 */
+	void exitInteger(SPLExpressionParser.IntegerContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#floating}.
+	 * @param ctx the parse tree
+	 */
+	void enterFloating(SPLExpressionParser.FloatingContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#floating}.
+	 * @param ctx the parse tree
+	 */
+	void exitFloating(SPLExpressionParser.FloatingContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#string}.
+	 * @param ctx the parse tree
+	 */
+	void enterString(SPLExpressionParser.StringContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#string}.
+	 * @param ctx the parse tree
+	 */
+	void exitString(SPLExpressionParser.StringContext ctx);
+	/**
+	 * Enter a parse tree produced by {@link SPLExpressionParser#bool}.
+	 * @param ctx the parse tree
+	 */
+	void enterBool(SPLExpressionParser.BoolContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link SPLExpressionParser#bool}.
+	 * @param ctx the parse tree
+	 */
+	void exitBool(SPLExpressionParser.BoolContext ctx);
+}
\ No newline at end of file
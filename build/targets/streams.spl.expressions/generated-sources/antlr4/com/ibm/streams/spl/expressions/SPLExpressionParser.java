@@ -0,0 +1,1800 @@
+// Generated from com/ibm/streams/spl/expressions/SPLExpression.g4 by ANTLR 4.5.3
+package com.ibm.streams.spl.expressions;
+
+
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+@SuppressWarnings({"all", "warnings", "unchecked", "unused", "cast"})
+public class SPLExpressionParser extends Parser {
+	static { RuntimeMetaData.checkVersion("4.5.3", RuntimeMetaData.VERSION); }
+
+	protected static final DFA[] _decisionToDFA;
+	protected static final PredictionContextCache _sharedContextCache =
+		new PredictionContextCache();
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, AMP=14, CARET=15, BAR=16, AMP_AMP=17, 
+		BAR_BAR=18, IN=19, LT=20, LTE=21, GT=22, GTE=23, EQ=24, NEQ=25, LSFT=26, 
+		RSFT=27, PLUS=28, MINUS=29, MUL=30, DIV=31, MOD=32, NOT=33, BNOT=34, DOLLAR=35, 
+		DOT=36, DQUOTE=37, SQUOTE=38, ID=39, INT_LITERAL=40, STRING_LITERAL=41, 
+		FLOAT_LITERAL=42, BOOLEAN_LITERAL=43, WS=44;
+	public static final int
+		RULE_expression = 0, RULE_orExpression = 1, RULE_andExpression = 2, RULE_bitOrExpression = 3, 
+		RULE_bitXorExpression = 4, RULE_bitAndExpression = 5, RULE_inExpression = 6, 
+		RULE_relExpression = 7, RULE_shiftExpression = 8, RULE_addExpression = 9, 
+		RULE_mulExpression = 10, RULE_castExpression = 11, RULE_postfixExpression = 12, 
+		RULE_prefixExpression = 13, RULE_notExpression = 14, RULE_bitNotExpression = 15, 
+		RULE_primaryExpression = 16, RULE_relOp = 17, RULE_shiftOp = 18, RULE_addOp = 19, 
+		RULE_mulOp = 20, RULE_notOp = 21, RULE_type = 22, RULE_intrinsic = 23, 
+		RULE_functionCall = 24, RULE_function = 25, RULE_identifier = 26, RULE_integer = 27, 
+		RULE_floating = 28, RULE_string = 29, RULE_bool = 30;
+	public static final String[] ruleNames = {
+		"expression", "orExpression", "andExpression", "bitOrExpression", "bitXorExpression", 
+		"bitAndExpression", "inExpression", "relExpression", "shiftExpression", 
+		"addExpression", "mulExpression", "castExpression", "postfixExpression", 
+		"prefixExpression", "notExpression", "bitNotExpression", "primaryExpression", 
+		"relOp", "shiftOp", "addOp", "mulOp", "notOp", "type", "intrinsic", "functionCall", 
+		"function", "identifier", "integer", "floating", "string", "bool"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'('", "')'", "'['", "']'", "'boolean'", "'int64'", "'float64'", 
+		"'rstring'", "'getChannel()'", "'getLocalChannel()'", "'getMaxChannels()'", 
+		"'getLocalMaxChannels()'", "'hash'", "'&'", "'^'", "'|'", "'&&'", "'||'", 
+		"'in'", "'<'", "'<='", "'>'", "'>='", "'=='", "'!='", "'<<'", "'>>'", 
+		"'+'", "'-'", "'*'", "'/'", "'%'", "'!'", "'~'", "'$'", "'.'", "'\"'", 
+		"'''"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, "AMP", "CARET", "BAR", "AMP_AMP", "BAR_BAR", "IN", "LT", "LTE", 
+		"GT", "GTE", "EQ", "NEQ", "LSFT", "RSFT", "PLUS", "MINUS", "MUL", "DIV", 
+		"MOD", "NOT", "BNOT", "DOLLAR", "DOT", "DQUOTE", "SQUOTE", "ID", "INT_LITERAL", 
+		"STRING_LITERAL", "FLOAT_LITERAL", "BOOLEAN_LITERAL", "WS"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "SPLExpression.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public ATN getATN() { return _ATN; }
+
+	public SPLExpressionParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
+	}
+	public static class ExpressionContext extends ParserRuleContext {
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public TerminalNode EOF() { return getToken(SPLExpressionParser.EOF, 0); }
+		public ExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_expression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitExpression(this);
+		}
+	}
+
+	public final ExpressionContext expression() throws RecognitionException {
+		ExpressionContext _localctx = new ExpressionContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_expression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(62);
+			orExpression();
+			setState(63);
+			match(EOF);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OrExpressionContext extends ParserRuleContext {
+		public AndExpressionContext andExpression() {
+			return getRuleContext(AndExpressionContext.class,0);
+		}
+		public TerminalNode BAR_BAR() { return getToken(SPLExpressionParser.BAR_BAR, 0); }
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public OrExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_orExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterOrExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitOrExpression(this);
+		}
+	}
+
+	public final OrExpressionContext orExpression() throws RecognitionException {
+		OrExpressionContext _localctx = new OrExpressionContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_orExpression);
+		try {
+			setState(70);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(65);
+				andExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(66);
+				andExpression();
+				setState(67);
+				match(BAR_BAR);
+				setState(68);
+				orExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AndExpressionContext extends ParserRuleContext {
+		public BitOrExpressionContext bitOrExpression() {
+			return getRuleContext(BitOrExpressionContext.class,0);
+		}
+		public TerminalNode AMP_AMP() { return getToken(SPLExpressionParser.AMP_AMP, 0); }
+		public AndExpressionContext andExpression() {
+			return getRuleContext(AndExpressionContext.class,0);
+		}
+		public AndExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_andExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterAndExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitAndExpression(this);
+		}
+	}
+
+	public final AndExpressionContext andExpression() throws RecognitionException {
+		AndExpressionContext _localctx = new AndExpressionContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_andExpression);
+		try {
+			setState(77);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(72);
+				bitOrExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(73);
+				bitOrExpression();
+				setState(74);
+				match(AMP_AMP);
+				setState(75);
+				andExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitOrExpressionContext extends ParserRuleContext {
+		public BitXorExpressionContext bitXorExpression() {
+			return getRuleContext(BitXorExpressionContext.class,0);
+		}
+		public TerminalNode BAR() { return getToken(SPLExpressionParser.BAR, 0); }
+		public BitOrExpressionContext bitOrExpression() {
+			return getRuleContext(BitOrExpressionContext.class,0);
+		}
+		public BitOrExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitOrExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterBitOrExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitBitOrExpression(this);
+		}
+	}
+
+	public final BitOrExpressionContext bitOrExpression() throws RecognitionException {
+		BitOrExpressionContext _localctx = new BitOrExpressionContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_bitOrExpression);
+		try {
+			setState(84);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(79);
+				bitXorExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(80);
+				bitXorExpression();
+				setState(81);
+				match(BAR);
+				setState(82);
+				bitOrExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitXorExpressionContext extends ParserRuleContext {
+		public BitAndExpressionContext bitAndExpression() {
+			return getRuleContext(BitAndExpressionContext.class,0);
+		}
+		public TerminalNode CARET() { return getToken(SPLExpressionParser.CARET, 0); }
+		public BitXorExpressionContext bitXorExpression() {
+			return getRuleContext(BitXorExpressionContext.class,0);
+		}
+		public BitXorExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitXorExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterBitXorExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitBitXorExpression(this);
+		}
+	}
+
+	public final BitXorExpressionContext bitXorExpression() throws RecognitionException {
+		BitXorExpressionContext _localctx = new BitXorExpressionContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_bitXorExpression);
+		try {
+			setState(91);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(86);
+				bitAndExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(87);
+				bitAndExpression();
+				setState(88);
+				match(CARET);
+				setState(89);
+				bitXorExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitAndExpressionContext extends ParserRuleContext {
+		public InExpressionContext inExpression() {
+			return getRuleContext(InExpressionContext.class,0);
+		}
+		public TerminalNode AMP() { return getToken(SPLExpressionParser.AMP, 0); }
+		public BitAndExpressionContext bitAndExpression() {
+			return getRuleContext(BitAndExpressionContext.class,0);
+		}
+		public BitAndExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitAndExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterBitAndExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitBitAndExpression(this);
+		}
+	}
+
+	public final BitAndExpressionContext bitAndExpression() throws RecognitionException {
+		BitAndExpressionContext _localctx = new BitAndExpressionContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_bitAndExpression);
+		try {
+			setState(98);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(93);
+				inExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(94);
+				inExpression();
+				setState(95);
+				match(AMP);
+				setState(96);
+				bitAndExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InExpressionContext extends ParserRuleContext {
+		public List<RelExpressionContext> relExpression() {
+			return getRuleContexts(RelExpressionContext.class);
+		}
+		public RelExpressionContext relExpression(int i) {
+			return getRuleContext(RelExpressionContext.class,i);
+		}
+		public TerminalNode IN() { return getToken(SPLExpressionParser.IN, 0); }
+		public InExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterInExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitInExpression(this);
+		}
+	}
+
+	public final InExpressionContext inExpression() throws RecognitionException {
+		InExpressionContext _localctx = new InExpressionContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_inExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(100);
+			relExpression();
+			setState(103);
+			_la = _input.LA(1);
+			if (_la==IN) {
+				{
+				setState(101);
+				match(IN);
+				setState(102);
+				relExpression();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RelExpressionContext extends ParserRuleContext {
+		public List<ShiftExpressionContext> shiftExpression() {
+			return getRuleContexts(ShiftExpressionContext.class);
+		}
+		public ShiftExpressionContext shiftExpression(int i) {
+			return getRuleContext(ShiftExpressionContext.class,i);
+		}
+		public RelOpContext relOp() {
+			return getRuleContext(RelOpContext.class,0);
+		}
+		public RelExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterRelExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitRelExpression(this);
+		}
+	}
+
+	public final RelExpressionContext relExpression() throws RecognitionException {
+		RelExpressionContext _localctx = new RelExpressionContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_relExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(105);
+			shiftExpression();
+			setState(109);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LT) | (1L << LTE) | (1L << GT) | (1L << GTE) | (1L << EQ) | (1L << NEQ))) != 0)) {
+				{
+				setState(106);
+				relOp();
+				setState(107);
+				shiftExpression();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ShiftExpressionContext extends ParserRuleContext {
+		public AddExpressionContext addExpression() {
+			return getRuleContext(AddExpressionContext.class,0);
+		}
+		public ShiftOpContext shiftOp() {
+			return getRuleContext(ShiftOpContext.class,0);
+		}
+		public ShiftExpressionContext shiftExpression() {
+			return getRuleContext(ShiftExpressionContext.class,0);
+		}
+		public ShiftExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_shiftExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterShiftExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitShiftExpression(this);
+		}
+	}
+
+	public final ShiftExpressionContext shiftExpression() throws RecognitionException {
+		ShiftExpressionContext _localctx = new ShiftExpressionContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_shiftExpression);
+		try {
+			setState(116);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(111);
+				addExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(112);
+				addExpression();
+				setState(113);
+				shiftOp();
+				setState(114);
+				shiftExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AddExpressionContext extends ParserRuleContext {
+		public MulExpressionContext mulExpression() {
+			return getRuleContext(MulExpressionContext.class,0);
+		}
+		public AddOpContext addOp() {
+			return getRuleContext(AddOpContext.class,0);
+		}
+		public AddExpressionContext addExpression() {
+			return getRuleContext(AddExpressionContext.class,0);
+		}
+		public AddExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_addExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterAddExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitAddExpression(this);
+		}
+	}
+
+	public final AddExpressionContext addExpression() throws RecognitionException {
+		AddExpressionContext _localctx = new AddExpressionContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_addExpression);
+		try {
+			setState(123);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,8,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(118);
+				mulExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(119);
+				mulExpression();
+				setState(120);
+				addOp();
+				setState(121);
+				addExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MulExpressionContext extends ParserRuleContext {
+		public CastExpressionContext castExpression() {
+			return getRuleContext(CastExpressionContext.class,0);
+		}
+		public MulOpContext mulOp() {
+			return getRuleContext(MulOpContext.class,0);
+		}
+		public MulExpressionContext mulExpression() {
+			return getRuleContext(MulExpressionContext.class,0);
+		}
+		public MulExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mulExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterMulExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitMulExpression(this);
+		}
+	}
+
+	public final MulExpressionContext mulExpression() throws RecognitionException {
+		MulExpressionContext _localctx = new MulExpressionContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_mulExpression);
+		try {
+			setState(130);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(125);
+				castExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(126);
+				castExpression();
+				setState(127);
+				mulOp();
+				setState(128);
+				mulExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CastExpressionContext extends ParserRuleContext {
+		public PostfixExpressionContext postfixExpression() {
+			return getRuleContext(PostfixExpressionContext.class,0);
+		}
+		public TypeContext type() {
+			return getRuleContext(TypeContext.class,0);
+		}
+		public CastExpressionContext castExpression() {
+			return getRuleContext(CastExpressionContext.class,0);
+		}
+		public CastExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_castExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterCastExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitCastExpression(this);
+		}
+	}
+
+	public final CastExpressionContext castExpression() throws RecognitionException {
+		CastExpressionContext _localctx = new CastExpressionContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_castExpression);
+		try {
+			setState(138);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(132);
+				postfixExpression();
+				}
+				break;
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(133);
+				match(T__0);
+				setState(134);
+				type();
+				setState(135);
+				match(T__1);
+				setState(136);
+				castExpression();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PostfixExpressionContext extends ParserRuleContext {
+		public PrefixExpressionContext prefixExpression() {
+			return getRuleContext(PrefixExpressionContext.class,0);
+		}
+		public AddExpressionContext addExpression() {
+			return getRuleContext(AddExpressionContext.class,0);
+		}
+		public PostfixExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_postfixExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterPostfixExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitPostfixExpression(this);
+		}
+	}
+
+	public final PostfixExpressionContext postfixExpression() throws RecognitionException {
+		PostfixExpressionContext _localctx = new PostfixExpressionContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_postfixExpression);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(140);
+			prefixExpression();
+			setState(145);
+			_la = _input.LA(1);
+			if (_la==T__2) {
+				{
+				setState(141);
+				match(T__2);
+				setState(142);
+				addExpression();
+				setState(143);
+				match(T__3);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrefixExpressionContext extends ParserRuleContext {
+		public NotExpressionContext notExpression() {
+			return getRuleContext(NotExpressionContext.class,0);
+		}
+		public BitNotExpressionContext bitNotExpression() {
+			return getRuleContext(BitNotExpressionContext.class,0);
+		}
+		public PrimaryExpressionContext primaryExpression() {
+			return getRuleContext(PrimaryExpressionContext.class,0);
+		}
+		public PrefixExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prefixExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterPrefixExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitPrefixExpression(this);
+		}
+	}
+
+	public final PrefixExpressionContext prefixExpression() throws RecognitionException {
+		PrefixExpressionContext _localctx = new PrefixExpressionContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_prefixExpression);
+		try {
+			setState(150);
+			switch (_input.LA(1)) {
+			case NOT:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(147);
+				notExpression();
+				}
+				break;
+			case BNOT:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(148);
+				bitNotExpression();
+				}
+				break;
+			case T__0:
+			case T__8:
+			case T__9:
+			case T__10:
+			case T__11:
+			case T__12:
+			case ID:
+			case INT_LITERAL:
+			case STRING_LITERAL:
+			case FLOAT_LITERAL:
+			case BOOLEAN_LITERAL:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(149);
+				primaryExpression();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NotExpressionContext extends ParserRuleContext {
+		public TerminalNode NOT() { return getToken(SPLExpressionParser.NOT, 0); }
+		public PrimaryExpressionContext primaryExpression() {
+			return getRuleContext(PrimaryExpressionContext.class,0);
+		}
+		public NotExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_notExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterNotExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitNotExpression(this);
+		}
+	}
+
+	public final NotExpressionContext notExpression() throws RecognitionException {
+		NotExpressionContext _localctx = new NotExpressionContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_notExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(152);
+			match(NOT);
+			setState(153);
+			primaryExpression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BitNotExpressionContext extends ParserRuleContext {
+		public TerminalNode BNOT() { return getToken(SPLExpressionParser.BNOT, 0); }
+		public PrimaryExpressionContext primaryExpression() {
+			return getRuleContext(PrimaryExpressionContext.class,0);
+		}
+		public BitNotExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bitNotExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterBitNotExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitBitNotExpression(this);
+		}
+	}
+
+	public final BitNotExpressionContext bitNotExpression() throws RecognitionException {
+		BitNotExpressionContext _localctx = new BitNotExpressionContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_bitNotExpression);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(155);
+			match(BNOT);
+			setState(156);
+			primaryExpression();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrimaryExpressionContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public IntrinsicContext intrinsic() {
+			return getRuleContext(IntrinsicContext.class,0);
+		}
+		public FunctionCallContext functionCall() {
+			return getRuleContext(FunctionCallContext.class,0);
+		}
+		public IntegerContext integer() {
+			return getRuleContext(IntegerContext.class,0);
+		}
+		public FloatingContext floating() {
+			return getRuleContext(FloatingContext.class,0);
+		}
+		public StringContext string() {
+			return getRuleContext(StringContext.class,0);
+		}
+		public BoolContext bool() {
+			return getRuleContext(BoolContext.class,0);
+		}
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public PrimaryExpressionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_primaryExpression; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterPrimaryExpression(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitPrimaryExpression(this);
+		}
+	}
+
+	public final PrimaryExpressionContext primaryExpression() throws RecognitionException {
+		PrimaryExpressionContext _localctx = new PrimaryExpressionContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_primaryExpression);
+		try {
+			setState(169);
+			switch (_input.LA(1)) {
+			case ID:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(158);
+				identifier();
+				}
+				break;
+			case T__8:
+			case T__9:
+			case T__10:
+			case T__11:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(159);
+				intrinsic();
+				}
+				break;
+			case T__12:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(160);
+				functionCall();
+				}
+				break;
+			case INT_LITERAL:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(161);
+				integer();
+				}
+				break;
+			case FLOAT_LITERAL:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(162);
+				floating();
+				}
+				break;
+			case STRING_LITERAL:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(163);
+				string();
+				}
+				break;
+			case BOOLEAN_LITERAL:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(164);
+				bool();
+				}
+				break;
+			case T__0:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(165);
+				match(T__0);
+				setState(166);
+				orExpression();
+				setState(167);
+				match(T__1);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RelOpContext extends ParserRuleContext {
+		public TerminalNode LT() { return getToken(SPLExpressionParser.LT, 0); }
+		public TerminalNode LTE() { return getToken(SPLExpressionParser.LTE, 0); }
+		public TerminalNode GT() { return getToken(SPLExpressionParser.GT, 0); }
+		public TerminalNode GTE() { return getToken(SPLExpressionParser.GTE, 0); }
+		public TerminalNode EQ() { return getToken(SPLExpressionParser.EQ, 0); }
+		public TerminalNode NEQ() { return getToken(SPLExpressionParser.NEQ, 0); }
+		public RelOpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_relOp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterRelOp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitRelOp(this);
+		}
+	}
+
+	public final RelOpContext relOp() throws RecognitionException {
+		RelOpContext _localctx = new RelOpContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_relOp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(171);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LT) | (1L << LTE) | (1L << GT) | (1L << GTE) | (1L << EQ) | (1L << NEQ))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ShiftOpContext extends ParserRuleContext {
+		public TerminalNode LSFT() { return getToken(SPLExpressionParser.LSFT, 0); }
+		public TerminalNode RSFT() { return getToken(SPLExpressionParser.RSFT, 0); }
+		public ShiftOpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_shiftOp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterShiftOp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitShiftOp(this);
+		}
+	}
+
+	public final ShiftOpContext shiftOp() throws RecognitionException {
+		ShiftOpContext _localctx = new ShiftOpContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_shiftOp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(173);
+			_la = _input.LA(1);
+			if ( !(_la==LSFT || _la==RSFT) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AddOpContext extends ParserRuleContext {
+		public TerminalNode PLUS() { return getToken(SPLExpressionParser.PLUS, 0); }
+		public TerminalNode MINUS() { return getToken(SPLExpressionParser.MINUS, 0); }
+		public AddOpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_addOp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterAddOp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitAddOp(this);
+		}
+	}
+
+	public final AddOpContext addOp() throws RecognitionException {
+		AddOpContext _localctx = new AddOpContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_addOp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(175);
+			_la = _input.LA(1);
+			if ( !(_la==PLUS || _la==MINUS) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MulOpContext extends ParserRuleContext {
+		public TerminalNode MUL() { return getToken(SPLExpressionParser.MUL, 0); }
+		public TerminalNode DIV() { return getToken(SPLExpressionParser.DIV, 0); }
+		public TerminalNode MOD() { return getToken(SPLExpressionParser.MOD, 0); }
+		public MulOpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mulOp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterMulOp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitMulOp(this);
+		}
+	}
+
+	public final MulOpContext mulOp() throws RecognitionException {
+		MulOpContext _localctx = new MulOpContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_mulOp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(177);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << MUL) | (1L << DIV) | (1L << MOD))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NotOpContext extends ParserRuleContext {
+		public TerminalNode NOT() { return getToken(SPLExpressionParser.NOT, 0); }
+		public TerminalNode BNOT() { return getToken(SPLExpressionParser.BNOT, 0); }
+		public NotOpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_notOp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterNotOp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitNotOp(this);
+		}
+	}
+
+	public final NotOpContext notOp() throws RecognitionException {
+		NotOpContext _localctx = new NotOpContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_notOp);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(179);
+			_la = _input.LA(1);
+			if ( !(_la==NOT || _la==BNOT) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TypeContext extends ParserRuleContext {
+		public TypeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_type; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterType(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitType(this);
+		}
+	}
+
+	public final TypeContext type() throws RecognitionException {
+		TypeContext _localctx = new TypeContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_type);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(181);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__4) | (1L << T__5) | (1L << T__6) | (1L << T__7))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IntrinsicContext extends ParserRuleContext {
+		public IntrinsicContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_intrinsic; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterIntrinsic(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitIntrinsic(this);
+		}
+	}
+
+	public final IntrinsicContext intrinsic() throws RecognitionException {
+		IntrinsicContext _localctx = new IntrinsicContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_intrinsic);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(183);
+			_la = _input.LA(1);
+			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			} else {
+				consume();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionCallContext extends ParserRuleContext {
+		public FunctionContext function() {
+			return getRuleContext(FunctionContext.class,0);
+		}
+		public OrExpressionContext orExpression() {
+			return getRuleContext(OrExpressionContext.class,0);
+		}
+		public FunctionCallContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_functionCall; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterFunctionCall(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitFunctionCall(this);
+		}
+	}
+
+	public final FunctionCallContext functionCall() throws RecognitionException {
+		FunctionCallContext _localctx = new FunctionCallContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_functionCall);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(185);
+			function();
+			setState(186);
+			match(T__0);
+			setState(187);
+			orExpression();
+			setState(188);
+			match(T__1);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FunctionContext extends ParserRuleContext {
+		public FunctionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_function; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterFunction(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitFunction(this);
+		}
+	}
+
+	public final FunctionContext function() throws RecognitionException {
+		FunctionContext _localctx = new FunctionContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_function);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(190);
+			match(T__12);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierContext extends ParserRuleContext {
+		public TerminalNode ID() { return getToken(SPLExpressionParser.ID, 0); }
+		public IdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterIdentifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitIdentifier(this);
+		}
+	}
+
+	public final IdentifierContext identifier() throws RecognitionException {
+		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_identifier);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(192);
+			match(ID);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IntegerContext extends ParserRuleContext {
+		public TerminalNode INT_LITERAL() { return getToken(SPLExpressionParser.INT_LITERAL, 0); }
+		public IntegerContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_integer; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterInteger(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitInteger(this);
+		}
+	}
+
+	public final IntegerContext integer() throws RecognitionException {
+		IntegerContext _localctx = new IntegerContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_integer);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(194);
+			match(INT_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FloatingContext extends ParserRuleContext {
+		public TerminalNode FLOAT_LITERAL() { return getToken(SPLExpressionParser.FLOAT_LITERAL, 0); }
+		public FloatingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_floating; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterFloating(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitFloating(this);
+		}
+	}
+
+	public final FloatingContext floating() throws RecognitionException {
+		FloatingContext _localctx = new FloatingContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_floating);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(196);
+			match(FLOAT_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StringContext extends ParserRuleContext {
+		public TerminalNode STRING_LITERAL() { return getToken(SPLExpressionParser.STRING_LITERAL, 0); }
+		public StringContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_string; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterString(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitString(this);
+		}
+	}
+
+	public final StringContext string() throws RecognitionException {
+		StringContext _localctx = new StringContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_string);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(198);
+			match(STRING_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BoolContext extends ParserRuleContext {
+		public TerminalNode BOOLEAN_LITERAL() { return getToken(SPLExpressionParser.BOOLEAN_LITERAL, 0); }
+		public BoolContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bool; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).enterBool(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof SPLExpressionListener ) ((SPLExpressionListener)listener).exitBool(this);
+		}
+	}
+
+	public final BoolContext bool() throws RecognitionException {
+		BoolContext _localctx = new BoolContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_bool);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(200);
+			match(BOOLEAN_LITERAL);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static final String _serializedATN =
+		"\3\u0430\ud6d1\u8206\uad2d\u4417\uaef1\u8d80\uaadd\3.\u00cd\4\2\t\2\4"+
+		"\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13\t"+
+		"\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \3\2"+
+		"\3\2\3\2\3\3\3\3\3\3\3\3\3\3\5\3I\n\3\3\4\3\4\3\4\3\4\3\4\5\4P\n\4\3\5"+
+		"\3\5\3\5\3\5\3\5\5\5W\n\5\3\6\3\6\3\6\3\6\3\6\5\6^\n\6\3\7\3\7\3\7\3\7"+
+		"\3\7\5\7e\n\7\3\b\3\b\3\b\5\bj\n\b\3\t\3\t\3\t\3\t\5\tp\n\t\3\n\3\n\3"+
+		"\n\3\n\3\n\5\nw\n\n\3\13\3\13\3\13\3\13\3\13\5\13~\n\13\3\f\3\f\3\f\3"+
+		"\f\3\f\5\f\u0085\n\f\3\r\3\r\3\r\3\r\3\r\3\r\5\r\u008d\n\r\3\16\3\16\3"+
+		"\16\3\16\3\16\5\16\u0094\n\16\3\17\3\17\3\17\5\17\u0099\n\17\3\20\3\20"+
+		"\3\20\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22"+
+		"\3\22\5\22\u00ac\n\22\3\23\3\23\3\24\3\24\3\25\3\25\3\26\3\26\3\27\3\27"+
+		"\3\30\3\30\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\34\3\34\3\35"+
+		"\3\35\3\36\3\36\3\37\3\37\3 \3 \3 \2\2!\2\4\6\b\n\f\16\20\22\24\26\30"+
+		"\32\34\36 \"$&(*,.\60\62\64\668:<>\2\t\3\2\26\33\3\2\34\35\3\2\36\37\3"+
+		"\2 \"\3\2#$\3\2\7\n\3\2\13\16\u00c2\2@\3\2\2\2\4H\3\2\2\2\6O\3\2\2\2\b"+
+		"V\3\2\2\2\n]\3\2\2\2\fd\3\2\2\2\16f\3\2\2\2\20k\3\2\2\2\22v\3\2\2\2\24"+
+		"}\3\2\2\2\26\u0084\3\2\2\2\30\u008c\3\2\2\2\32\u008e\3\2\2\2\34\u0098"+
+		"\3\2\2\2\36\u009a\3\2\2\2 \u009d\3\2\2\2\"\u00ab\3\2\2\2$\u00ad\3\2\2"+
+		"\2&\u00af\3\2\2\2(\u00b1\3\2\2\2*\u00b3\3\2\2\2,\u00b5\3\2\2\2.\u00b7"+
+		"\3\2\2\2\60\u00b9\3\2\2\2\62\u00bb\3\2\2\2\64\u00c0\3\2\2\2\66\u00c2\3"+
+		"\2\2\28\u00c4\3\2\2\2:\u00c6\3\2\2\2<\u00c8\3\2\2\2>\u00ca\3\2\2\2@A\5"+
+		"\4\3\2AB\7\2\2\3B\3\3\2\2\2CI\5\6\4\2DE\5\6\4\2EF\7\24\2\2FG\5\4\3\2G"+
+		"I\3\2\2\2HC\3\2\2\2HD\3\2\2\2I\5\3\2\2\2JP\5\b\5\2KL\5\b\5\2LM\7\23\2"+
+		"\2MN\5\6\4\2NP\3\2\2\2OJ\3\2\2\2OK\3\2\2\2P\7\3\2\2\2QW\5\n\6\2RS\5\n"+
+		"\6\2ST\7\22\2\2TU\5\b\5\2UW\3\2\2\2VQ\3\2\2\2VR\3\2\2\2W\t\3\2\2\2X^\5"+
+		"\f\7\2YZ\5\f\7\2Z[\7\21\2\2[\\\5\n\6\2\\^\3\2\2\2]X\3\2\2\2]Y\3\2\2\2"+
+		"^\13\3\2\2\2_e\5\16\b\2`a\5\16\b\2ab\7\20\2\2bc\5\f\7\2ce\3\2\2\2d_\3"+
+		"\2\2\2d`\3\2\2\2e\r\3\2\2\2fi\5\20\t\2gh\7\25\2\2hj\5\20\t\2ig\3\2\2\2"+
+		"ij\3\2\2\2j\17\3\2\2\2ko\5\22\n\2lm\5$\23\2mn\5\22\n\2np\3\2\2\2ol\3\2"+
+		"\2\2op\3\2\2\2p\21\3\2\2\2qw\5\24\13\2rs\5\24\13\2st\5&\24\2tu\5\22\n"+
+		"\2uw\3\2\2\2vq\3\2\2\2vr\3\2\2\2w\23\3\2\2\2x~\5\26\f\2yz\5\26\f\2z{\5"+
+		"(\25\2{|\5\24\13\2|~\3\2\2\2}x\3\2\2\2}y\3\2\2\2~\25\3\2\2\2\177\u0085"+
+		"\5\30\r\2\u0080\u0081\5\30\r\2\u0081\u0082\5*\26\2\u0082\u0083\5\26\f"+
+		"\2\u0083\u0085\3\2\2\2\u0084\177\3\2\2\2\u0084\u0080\3\2\2\2\u0085\27"+
+		"\3\2\2\2\u0086\u008d\5\32\16\2\u0087\u0088\7\3\2\2\u0088\u0089\5.\30\2"+
+		"\u0089\u008a\7\4\2\2\u008a\u008b\5\30\r\2\u008b\u008d\3\2\2\2\u008c\u0086"+
+		"\3\2\2\2\u008c\u0087\3\2\2\2\u008d\31\3\2\2\2\u008e\u0093\5\34\17\2\u008f"+
+		"\u0090\7\5\2\2\u0090\u0091\5\24\13\2\u0091\u0092\7\6\2\2\u0092\u0094\3"+
+		"\2\2\2\u0093\u008f\3\2\2\2\u0093\u0094\3\2\2\2\u0094\33\3\2\2\2\u0095"+
+		"\u0099\5\36\20\2\u0096\u0099\5 \21\2\u0097\u0099\5\"\22\2\u0098\u0095"+
+		"\3\2\2\2\u0098\u0096\3\2\2\2\u0098\u0097\3\2\2\2\u0099\35\3\2\2\2\u009a"+
+		"\u009b\7#\2\2\u009b\u009c\5\"\22\2\u009c\37\3\2\2\2\u009d\u009e\7$\2\2"+
+		"\u009e\u009f\5\"\22\2\u009f!\3\2\2\2\u00a0\u00ac\5\66\34\2\u00a1\u00ac"+
+		"\5\60\31\2\u00a2\u00ac\5\62\32\2\u00a3\u00ac\58\35\2\u00a4\u00ac\5:\36"+
+		"\2\u00a5\u00ac\5<\37\2\u00a6\u00ac\5> \2\u00a7\u00a8\7\3\2\2\u00a8\u00a9"+
+		"\5\4\3\2\u00a9\u00aa\7\4\2\2\u00aa\u00ac\3\2\2\2\u00ab\u00a0\3\2\2\2\u00ab"+
+		"\u00a1\3\2\2\2\u00ab\u00a2\3\2\2\2\u00ab\u00a3\3\2\2\2\u00ab\u00a4\3\2"+
+		"\2\2\u00ab\u00a5\3\2\2\2\u00ab\u00a6\3\2\2\2\u00ab\u00a7\3\2\2\2\u00ac"+
+		"#\3\2\2\2\u00ad\u00ae\t\2\2\2\u00ae%\3\2\2\2\u00af\u00b0\t\3\2\2\u00b0"+
+		"\'\3\2\2\2\u00b1\u00b2\t\4\2\2\u00b2)\3\2\2\2\u00b3\u00b4\t\5\2\2\u00b4"+
+		"+\3\2\2\2\u00b5\u00b6\t\6\2\2\u00b6-\3\2\2\2\u00b7\u00b8\t\7\2\2\u00b8"+
+		"/\3\2\2\2\u00b9\u00ba\t\b\2\2\u00ba\61\3\2\2\2\u00bb\u00bc\5\64\33\2\u00bc"+
+		"\u00bd\7\3\2\2\u00bd\u00be\5\4\3\2\u00be\u00bf\7\4\2\2\u00bf\63\3\2\2"+
+		"\2\u00c0\u00c1\7\17\2\2\u00c1\65\3\2\2\2\u00c2\u00c3\7)\2\2\u00c3\67\3"+
+		"\2\2\2\u00c4\u00c5\7*\2\2\u00c59\3\2\2\2\u00c6\u00c7\7,\2\2\u00c7;\3\2"+
+		"\2\2\u00c8\u00c9\7+\2\2\u00c9=\3\2\2\2\u00ca\u00cb\7-\2\2\u00cb?\3\2\2"+
+		"\2\20HOV]diov}\u0084\u008c\u0093\u0098\u00ab";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+		_decisionToDFA = new DFA[_ATN.getNumberOfDecisions()];
+		for (int i = 0; i < _ATN.getNumberOfDecisions(); i++) {
+			_decisionToDFA[i] = new DFA(_ATN.getDecisionState(i), i);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.ibm.streams.spl.messages.doc;
+
+import java.util.ListResourceBundle;
+
+public class StreamsSPLDOCMessages extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISP7000E", "No toolkit specified. Use either the -i or -t parameter to specify the toolkit path(s)."},
+    {"CDISP7002I", "JVM locale: language: {0}, country: {1}, variant: {2}"},
+    {"CDISP7003E", "Invalid argument: {0}."},
+    {"CDISP7004E", "Both -i and -t parameters are specified. Use either the -i or -t parameter to specify the toolkit path(s)."},
+    {"CDISP7005E", "The specified toolkit path {0} does not exist or is not a directory."},
+    {"CDISP7006E", "Error loading model file: {0}. File does not exist, or: {1}. Try reindexing or recompiling the toolkit."},
+    {"CDISP7007I", "Exiting spl-make-doc."},
+    {"CDISP7008E", "Error reading model file: {0}. Content missing. Try reindexing or recompiling the toolkit."},
+    {"CDISP7009E", "Error reading SPL file: {0}. Verify that the SPL file exists and can be read."},
+    {"CDISP7010E", "Exception encountered:\n {0}"},
+    {"CDISP7011I", "SPL composite operator image not displayed. Problem loading file: {0}\n"},
+    {"CDISP7012I", "Primitive operator image not displayed. Problem loading file: {0}\n"},
+    {"CDISP7013E", "Exception loading the model file {0}. Try reindexing or recompiling the toolkit."},
+    {"CDISP7014E", "Source model inconsistency. Start column number {0} on line {1} exceeds line length {2}. Contact IBM Software Support."},
+    {"CDISP7015E", "Source model inconsistency. End column number {0} on line {1} exceeds line length {2}. Contact IBM Software Support."},
+    {"CDISP7016E", "File does not exist, or incorrect path name: {0}. Try reindexing or recompiling the toolkit."},
+    {"CDISP7017E", "URI table not found for toolkit {0}. Try reindexing or recompiling the toolkit."},
+    {"CDISP7018E", "URI index for toolkit {0} missing entry: {1}. Try reindexing or recompiling the toolkit."},
+    {"CDISP7019E", "The toolkit in directory {0} has the same name as the toolkit in directory {1}. Specify the toolkit {2} only once."},
+    {"CDISP7020E", "Toolkit model inconsistency for the toolkit in directory {0}. Try rebuilding the toolkit."},
+    {"CDISP7021E", "A line of SPLDOC markup text starts with characters reserved for possible future markup. Suppress interpretation by using the backslash (\\\\) escape character in this line: {0}"},
+    {"CDISP7022E", "A title in SPLDOC markup text starts with characters reserved for possible future SPLDOC markup. Suppress interpretation by using the backslash (\\\\) escape character in this title: {0}"},
+    {"CDISP7023E", "A line of SPLDOC markup text includes characters reserved for possible future SPLDOC markup. Suppress interpretation by using the backslash (\\\\) escape character in this text: {0}"},
+    {"CDISP7024E", "A line of SPLDOC markup text that requires a title has no title."},
+    {"CDISP7025E", "A line of SPLDOC markup text is incorrect."},
+    {"CDISP7026W", "A line of SPLDOC markup text contains in-line markup that is not closed or that contains incorrect SPLDOC markup. Correct the markup or suppress interpretation of the markup tag by using the backslash (\\\\) escape character in this text: {0}"},
+    {"CDISP7027W", "An SPLDOC in-line markup tag is nested within other in-line markup where this is not currently supported. Suppress interpretation by using the backslash (\\\\) escape character in this text: {0}"},
+    {"CDISP7028E", "description line {0}"},
+    {"CDISP7029E", "The SPLDOC markup for a table is missing the markup to end the table at this line: {0}"},
+    {"CDISP7030E", "There is a syntax error in the SPLDOC markup for a table. Correct the markup at this text: {0}"},
+    {"CDISP7031E", "Required SPLDOC markup is missing from the end of this line of SPLDOC markup for a table: {0}"},
+    {"CDISP7032E", "This line of SPLDOC markup for a table has fewer columns than the number already defined for the table: {0}"},
+    {"CDISP7033E", "A line of SPLDOC markup for a table has more columns than the number already defined for the table, starting at this text: {0}"},
+    {"CDISP7034E", "The SPLDOC markup for a column boundary in a table uses both normal and row header column boundary markup for the same column, at this text: {0}"},
+    {"CDISP7035E", "The SPLDOC markup for a row boundary in a table occurs before all columns have been defined, at this text: {0}"},
+    {"CDISP7036E", "The SPLDOC markup for a row boundary in a table has fewer than three characters between columns before this text: {0}"},
+    {"CDISP7040E", "An error occurred during generation of image file: {0}. Contact IBM Software Support."},
+    {"CDISP7060I", "Toolkit path(s): {0}"},
+    {"CDISP7061I", "Output directory: {0}"},
+    {"CDISP7062I", "Document format: {0}"},
+    {"CDISP7063I", "Author: {0}"},
+    {"CDISP7064I", "Verbose: {0}"},
+    {"CDISP7065I", "Processing completed for: {0}"},
+    {"CDISP7066I", "Output warning if link is to an absent toolkit or namespace: {0}"},
+    {"CDISP7067I", "DitaDriver translating: {0} to {1}"},
+    {"CDISP7068I", "DitaDriver using ditamap: {0}"},
+    {"CDISP7069I", "{0}"},
+    {"CDISP7070I", "Command exit value: {0}"},
+    {"CDISP7071I", "Image format: {0}"},
+    {"CDISP7072I", "Using default dimensions for image: {0}"},
+    {"CDISP7073I", "No dimension defined for image: {0}. Using default dimensions."},
+    {"CDISP7074I", "Processing primitive operator: {0}"},
+    {"CDISP7075I", "Processing native function model: {0}"},
+    {"CDISP7076I", "Generation complete. Top-level document: {0}"},
+    {"CDISP7077I", "Check tags: {0}"},
+    {"CDISP7078I", "Output warning if no SPLDOC comment provided: {0}"},
+    {"CDISP7079I", "Copy image files: {0}"},
+    {"CDISP7080W", "No SPLDOC comment provided for composite \"{0}\"."},
+    {"CDISP7081W", "No SPLDOC comment provided for function \"{0}\"."},
+    {"CDISP7082W", "No SPLDOC comment provided for type \"{0}\"."},
+    {"CDISP7083I", "Processing SPL artifacts."},
+    {"CDISP7084I", "Loading toolkit: {0} : {1}"},
+    {"CDISP7085W", "Unrecognized SPLDOC annotation tag \"{0}\" for artifact \"{1}\". Skipping tag."},
+    {"CDISP7086E", "SPLDOC annotation tag for artifact \"{0}\" has no name."},
+    {"CDISP7087E", "SPLDOC annotation \"@{0}\" for artifact \"{1}\" has no value."},
+    {"CDISP7088W", "No SPLDOC comment provided for operator \"{0}\"."},
+    {"CDISP7089I", "Include function set header: {0}"},
+    {"CDISP7090I", "Include excluded SPL artifacts: {0}"},
+    {"CDISP7091I", "Include non-public SPL artifacts: {0}"},
+    {"CDISP7092I", "Include SPL source code: {0}"},
+    {"CDISP7093E", "Generation complete with {0} errors and {1} warnings. Generation of the SPL documentation failed."},
+    {"CDISP7095I", "Debug mode enabled: {0}"},
+    {"CDISP7096I", "Command: {0}"},
+    {"CDISP7097E", "Generation complete with {0} errors and {1} warnings. Top-level document: {2}"},
+    {"CDISP7101W", "Generation complete with 0 errors and {0} warnings. Top-level document: {1}"},
+    {"CDISP7102E", "{0}"},
+    {"CDISP7103E", "Invalid image URI: {0}. Correct the image file name in the SPLDOC comment."},
+    {"CDISP7104E", "Image file not found or cannot be read: {0}. Correct the image file name in the SPLDOC comment or correct its access permissions."},
+    {"CDISP7105W", "The \"@return\" annotation for function \"{0}\" with return type void has been skipped."},
+    {"CDISP7107E", "Ambiguous link to SPL artifact \"{0}\". Link matches: {1}."},
+    {"CDISP7108E", "The link to SPL artifact \"{0}\" must include a namespace to reference an artifact in another toolkit. The link matches: {1}."},
+    {"CDISP7109E", "The SPL artifact referenced by the link \"{0}\" is not in the document. Correct the reference to the SPL artifact in the SPLDOC link. If the link is to a function with parameters, include the parameter types."},
+    {"CDISP7110W", "Missing \"@param {0}\" annotation, or annotation description, for composite operator parameter \"{1}\"."},
+    {"CDISP7111W", "Missing \"{0}\" annotation, or annotation description, on operator port \"{1}\" for composite operator \"{2}\"."},
+    {"CDISP7112W", "Missing \"{0}\" annotation, or annotation description, for SPL or native function \"{1}\"."},
+    {"CDISP7113W", "The \"@param {0}\" annotation does not match any parameter defined by the SPL or native function \"{1}\"."},
+    {"CDISP7115W", "The \"{0} {1}\" annotation does not match any port for the composite operator \"{2}\"."},
+    {"CDISP7116W", "The \"@param {0}\" annotation does not match any parameter defined by the composite operator \"{1}\"."},
+    {"CDISP7117W", "The link to SPL artifact \"{0}\" references a toolkit or namespace that is not in the document."},
+    {"CDISP7118I", "Suppress generation of SPL reference documents: {0}"},
+    {"CDISP7119E", "Error reading SPL model or reference file: {0}. Contact IBM Software Support."},
+    {"CDISP7120I", "Loading file: {0}"},
+    {"CDISP7121E", "The link \"{0}\" is not a valid SPL artifact, local file or URI link."},
+    {"CDISP7122I", "Include composite operator diagram: {0}"},
+    {"CDISP7123I", "Suppress primitive operator diagram: {0}"},
+    {"CDISP7124E", "Internal error: {0}. Contact IBM Software Support."},
+    {"CDISP7125I", "Document title: {0}"},
+    {"CDISP7126E", "Command exit value: {0}"},
+    {"CDISP7127E", "Malformed SPLDOC link: {0}, {1}. Link is output as plain text. Update SPLDOC to enable link."},
+    {"CDISP7128E", "Unexpected path for native function model: {0} in toolkit directory {1}."},
+    {"CDISP7129E", "Composite operator diagram is not supported on Windows."},
+    {"CDISP7130E", "Operator model object is missing."},
+  };
+}
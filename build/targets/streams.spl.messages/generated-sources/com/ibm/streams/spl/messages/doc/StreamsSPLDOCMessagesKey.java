@@ -0,0 +1,130 @@
+package com.ibm.streams.spl.messages.doc;
+import com.ibm.streams.spl.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsSPLDOCMessages
+ * This class is generated from StreamsSPLDOCMessages.xlf
+ */
+public class StreamsSPLDOCMessagesKey { 
+
+   public enum Key implements MessageKey {
+       CDISP7000E("CDISP7000E"),
+       CDISP7002I("CDISP7002I"),
+       CDISP7003E("CDISP7003E"),
+       CDISP7004E("CDISP7004E"),
+       CDISP7005E("CDISP7005E"),
+       CDISP7006E("CDISP7006E"),
+       CDISP7007I("CDISP7007I"),
+       CDISP7008E("CDISP7008E"),
+       CDISP7009E("CDISP7009E"),
+       CDISP7010E("CDISP7010E"),
+       CDISP7011I("CDISP7011I"),
+       CDISP7012I("CDISP7012I"),
+       CDISP7013E("CDISP7013E"),
+       CDISP7014E("CDISP7014E"),
+       CDISP7015E("CDISP7015E"),
+       CDISP7016E("CDISP7016E"),
+       CDISP7017E("CDISP7017E"),
+       CDISP7018E("CDISP7018E"),
+       CDISP7019E("CDISP7019E"),
+       CDISP7020E("CDISP7020E"),
+       CDISP7021E("CDISP7021E"),
+       CDISP7022E("CDISP7022E"),
+       CDISP7023E("CDISP7023E"),
+       CDISP7024E("CDISP7024E"),
+       CDISP7025E("CDISP7025E"),
+       CDISP7026W("CDISP7026W"),
+       CDISP7027W("CDISP7027W"),
+       CDISP7028E("CDISP7028E"),
+       CDISP7029E("CDISP7029E"),
+       CDISP7030E("CDISP7030E"),
+       CDISP7031E("CDISP7031E"),
+       CDISP7032E("CDISP7032E"),
+       CDISP7033E("CDISP7033E"),
+       CDISP7034E("CDISP7034E"),
+       CDISP7035E("CDISP7035E"),
+       CDISP7036E("CDISP7036E"),
+       CDISP7040E("CDISP7040E"),
+       CDISP7060I("CDISP7060I"),
+       CDISP7061I("CDISP7061I"),
+       CDISP7062I("CDISP7062I"),
+       CDISP7063I("CDISP7063I"),
+       CDISP7064I("CDISP7064I"),
+       CDISP7065I("CDISP7065I"),
+       CDISP7066I("CDISP7066I"),
+       CDISP7067I("CDISP7067I"),
+       CDISP7068I("CDISP7068I"),
+       CDISP7069I("CDISP7069I"),
+       CDISP7070I("CDISP7070I"),
+       CDISP7071I("CDISP7071I"),
+       CDISP7072I("CDISP7072I"),
+       CDISP7073I("CDISP7073I"),
+       CDISP7074I("CDISP7074I"),
+       CDISP7075I("CDISP7075I"),
+       CDISP7076I("CDISP7076I"),
+       CDISP7077I("CDISP7077I"),
+       CDISP7078I("CDISP7078I"),
+       CDISP7079I("CDISP7079I"),
+       CDISP7080W("CDISP7080W"),
+       CDISP7081W("CDISP7081W"),
+       CDISP7082W("CDISP7082W"),
+       CDISP7083I("CDISP7083I"),
+       CDISP7084I("CDISP7084I"),
+       CDISP7085W("CDISP7085W"),
+       CDISP7086E("CDISP7086E"),
+       CDISP7087E("CDISP7087E"),
+       CDISP7088W("CDISP7088W"),
+       CDISP7089I("CDISP7089I"),
+       CDISP7090I("CDISP7090I"),
+       CDISP7091I("CDISP7091I"),
+       CDISP7092I("CDISP7092I"),
+       CDISP7093E("CDISP7093E"),
+       CDISP7095I("CDISP7095I"),
+       CDISP7096I("CDISP7096I"),
+       CDISP7097E("CDISP7097E"),
+       CDISP7101W("CDISP7101W"),
+       CDISP7102E("CDISP7102E"),
+       CDISP7103E("CDISP7103E"),
+       CDISP7104E("CDISP7104E"),
+       CDISP7105W("CDISP7105W"),
+       CDISP7107E("CDISP7107E"),
+       CDISP7108E("CDISP7108E"),
+       CDISP7109E("CDISP7109E"),
+       CDISP7110W("CDISP7110W"),
+       CDISP7111W("CDISP7111W"),
+       CDISP7112W("CDISP7112W"),
+       CDISP7113W("CDISP7113W"),
+       CDISP7115W("CDISP7115W"),
+       CDISP7116W("CDISP7116W"),
+       CDISP7117W("CDISP7117W"),
+       CDISP7118I("CDISP7118I"),
+       CDISP7119E("CDISP7119E"),
+       CDISP7120I("CDISP7120I"),
+       CDISP7121E("CDISP7121E"),
+       CDISP7122I("CDISP7122I"),
+       CDISP7123I("CDISP7123I"),
+       CDISP7124E("CDISP7124E"),
+       CDISP7125I("CDISP7125I"),
+       CDISP7126E("CDISP7126E"),
+       CDISP7127E("CDISP7127E"),
+       CDISP7128E("CDISP7128E"),
+       COMPOSITE_NOT_SUPPORTED_WINDOWS("CDISP7129E"),
+       OPERATOR_MODEL_OBJECT_MISSING("CDISP7130E"),
+       SPL_EXAMPLE_TEST_MESSAGE("CDISR5186E"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.spl.messages.doc.StreamsSPLDOCMessages";
+       }
+
+   }
+}
\ No newline at end of file
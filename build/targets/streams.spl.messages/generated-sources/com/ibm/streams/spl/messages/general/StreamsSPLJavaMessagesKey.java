@@ -0,0 +1,208 @@
+package com.ibm.streams.spl.messages.general;
+import com.ibm.streams.spl.messages.*;
+
+/**
+ * Message Keys for resource bundle StreamsSPLJavaMessages
+ * This class is generated from StreamsSPLJavaMessages.xlf
+ */
+public class StreamsSPLJavaMessagesKey { 
+
+   public enum Key implements MessageKey {
+       SPL_JAVA_OCCI_DEPENDS_PARAMS("CDISP7302E"),
+       SPL_JAVA_OCCI_EXPARAMS("CDISP7303E"),
+       SPL_JAVA_OCCI_MISSING_ATTR("CDISP7304E"),
+       SPL_JAVA_OCCI_MISSING_PORT_ATTR("CDISP7305E"),
+       SPL_JAVA_OCCI_SCHEMA_MISMATCH("CDISP7306E"),
+       SPL_JAVA_OCCI_WINDOW_TYPE("CDISP7307E"),
+       SPL_JAVA_OCCI_WRONG_ATTR_TYPE("CDISP7308E"),
+       SPL_JAVA_CTS_RUNTIME_ONLY("CDISP7309E"),
+       SPL_JAVA_OCT_MODEL_FILE("CDISP7310E"),
+       SPL_JAVA_NO_TOOLKIT_ROOT("CDISP7311E"),
+       SPL_JAVA_OCCI_ATTR_TYPE("CDISP7312E"),
+       AMP_CONCRETE("CDISP7313E"),
+       AMP_INSTANCE("CDISP7314E"),
+       AMP_PUBLIC("CDISP7315E"),
+       AMP_SETTER("CDISP7316E"),
+       AMP_SPLID("CDISP7317E"),
+       AMP_SPLNS("CDISP7318E"),
+       AMP_STATIC("CDISP7319E"),
+       AMP_VOID("CDISP7320E"),
+       CMV_SETTER("CDISP7321E"),
+       FV_VARARGS("CDISP7322E"),
+       FV_TYPE("CDISP7323E"),
+       OCV_OPERATOR("CDISP7324E"),
+       PV_CARDINALITY("CDISP7325E"),
+       PV_SINGLE("CDISP7326E"),
+       PV_OPTIONAL("CDISP7327E"),
+       PV_DEFAULTATTRIBUTE_SINGLE("CDISP7328E"),
+       PV_DEFAULTATTRIBUTE_NOPARAM("CDISP7329E"),
+       PV_DEFAULTATTRIBUTE_INVALIDVALUE("CDISP7330E"),
+       IAV_ICONS_REQUIRES_PRIMITIVEOPERATOR("CDISP7331E"),
+       PAP_OUTPUT_CARDINALITY_REQUIRED("CDISP7332E"),
+       PAP_INPUT_CARDINALITY_REQUIRED("CDISP7333E"),
+       PAP_INVALID_PUNCTUATION_INPUT_PORT("CDISP7334E"),
+       PAP_INVALID_INPUT_PORTS("CDISP7335E"),
+       PAP_INVALID_OUTPUT_PORTS("CDISP7336E"),
+       PAP_DUPLICATE_INPUT_PORT_ID("CDISP7337E"),
+       PAP_REQUIRE_PUNCTUATION_PRESERVING("CDISP7338E"),
+       COMPILE_TIME_ERROR("CDISP7339E"),
+       COMPILE_TIME_WARNING("CDISP7340W"),
+       DATA_DIRECTORY_NOT_SPECIFIED("CDISP7341E"),
+       AO_INVALID_NUMBER_INPUT_PORTS("CDISP7342E"),
+       AO_TOO_FEW_INPUT_PORTS("CDISP7343E"),
+       AO_INVALID_NUMBER_OUTPUT_PORTS("CDISP7344E"),
+       AO_TOO_FEW_OUTPUT_PORTS("CDISP7345E"),
+       VF_INVALID_BLOB_LENGTH("CDISP7346E"),
+       VF_INVALID_COMPLEX_FORMAT("CDISP7347E"),
+       SPL_APP_INFO_ABSTRACT("CDISP7348I"),
+       SPL_APP_INFO_FILE_NOT_EXIST("CDISP7349E"),
+       SPL_APP_INFO_UNSUPPORTED_BUNDLE_VERSION("CDISP7350E"),
+       SPL_APP_INFO_FILE_ERROR("CDISP7351E"),
+       SPL_APP_INFO_BUNDLE_ERROR("CDISP7352E"),
+       SPL_APP_INFO_HELP_OPTION("CDISP7353I"),
+       SPL_APP_INFO_BUILDID_OPTION("CDISP7354I"),
+       SPL_APP_INFO_BUILDDATE_OPTION("CDISP7355I"),
+       SPL_APP_INFO_TOOLKITS_OPTION("CDISP7357I"),
+       SPL_APP_INFO_FILES_OPTION("CDISP7358I"),
+       SPL_APP_INFO_XML_OPTION("CDISP7359I"),
+       SPL_APP_INFO_UNBUNDLE_OPTION("CDISP7360I"),
+       SPL_APP_INFO_EXECUTIONMODE_OPTION("CDISP7361I"),
+       SPL_APP_INFO_USAGE("CDISP9252I"),
+       SPL_RUNTIME_INPUT_PORT_DOES_NOT_ALLOW_WINDOW_CONFIG("CDISR5500E"),
+       SPL_RUNTIME_PORT_WINDOW_TYPE_NOT_EXPECTED("CDISR5501E"),
+       SPL_RUNTIME_PORT_WINDOW_NOT_PARTITIONED("CDISR5502E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_COUNT_POLICY_NEGATIVE("CDISR5503E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_TIME_POLICY_NEGATIVE("CDISR5504E"),
+       SPL_RUNTIME_INPUT_PORT_SCHEMA_DOES_NOT_MATCH("CDISR5505E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_DELTA_ATTRIBUTE_NOT_EXIST("CDISR5506E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_DELTA_POLICY_WRONG_TYPE("CDISR5507E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_TRIGGER_POLICY_NEGATIVE("CDISR5508E"),
+       SPL_RUNTIME_PORT_WINDOW_EVICTION_AGE_POLICY_NEGATIVE("CDISR5509E"),
+       SPL_RUNTIME_PORT_WINDOW_TRIGGER_COUNT_POLICY_NEGATIVE("CDISR5510E"),
+       SPL_RUNTIME_PORT_NOT_WINDOWED("CDISR5511E"),
+       SPL_RUNTIME_PORT_WINDOW_PARTITION_EVICTION_COUNT_POLICY_NEGATIVE("CDISR5512E"),
+       SPL_RUNTIME_PORT_WINDOW_TUPLE_EVICTION_COUNT_POLICY_NEGATIVE("CDISR5513E"),
+       SPL_RUNTIME_PORT_WINDOW_NO_EVICTION_POLICY("CDISR5514E"),
+       SPL_RUNTIME_PORT_WINDOW_NO_SLIDING_WINDOW_TRIGGER_POLICY("CDISR5515E"),
+       SPL_RUNTIME_INPUT_PORT_REQUIRES_WINDOWED_PORT("CDISR5516E"),
+       SPL_RUNTIME_OPERATOR_NOT_ALLOW_INPUT_PORTS("CDISR5517E"),
+       SPL_RUNTIME_OPERATOR_TOO_MANY_INPUT_PORTS("CDISR5518E"),
+       SPL_RUNTIME_OPERATOR_PORT_INDEX_OUT_OF_RANGE("CDISR5519E"),
+       SPL_RUNTIME_OPERATOR_NOT_ALLOW_OUTPUT_PORTS("CDISR5520E"),
+       SPL_RUNTIME_OPERATOR_TOO_MANY_OUTPUT_PORTS("CDISR5521E"),
+       SPL_RUNTIME_OPERATOR_TOO_FEW_INPUT_PORTS("CDISR5522E"),
+       SPL_RUNTIME_OPERATOR_INVALID_INPUT_PORT_COUNT("CDISR5523E"),
+       SPL_RUNTIME_OPERATOR_TOO_FEW_OUTPUT_PORTS("CDISR5524E"),
+       SPL_RUNTIME_OPERATOR_PORT_IS_CONNECTED("CDISR5525E"),
+       SPL_RUNTIME_MISMATCH_ISSUER_SUBJECT_CERT("CDISR5526E"),
+       SPL_RUNTIME_MISMATCH_SUBJECT_CERT("CDISR5527E"),
+       SPL_RUNTIME_CUSTOM_METRIC_ALREADY_EXISTS("CDISR5528E"),
+       SPL_RUNTIME_CUSTOM_METRIC_EMPTY_NAME("CDISR5529E"),
+       SPL_RUNTIME_CUSTOM_METRIC_NOT_EXISTS("CDISR5530E"),
+       SPL_RUNTIME_INPUT_PORT_METRIC_NAME("CDISR5531I"),
+       SPL_RUNTIME_OUTPUT_PORT_METRIC_NAME("CDISR5532I"),
+       SPL_RUNTIME_NULL_ATTRIBUTE("CDISR5533E"),
+       SPL_RUNTIME_EXPORT_NOT_BY_PROPERTIES("CDISR5534E"),
+       SPL_RUNTIME_PORT_NOT_CONNECTED_TO_PE_PORT("CDISR5535E"),
+       SPL_RUNTIME_ATTR_INDEX_OUT_OF_RANGE("CDISR5536E"),
+       SPL_RUNTIME_ATTR_NOT_EXIST_IN_SCHEMA("CDISR5537E"),
+       SPL_RUNTIME_OPERATOR_INVOCATION_CONTEXT_INVALID("CDISR5538E"),
+       SPL_RUNTIME_DEFAULT_ATTR_NOT_FOUND("CDISR5539E"),
+       SPL_RUNTIME_MANDATORY_PARAM_NOT_SET("CDISR5540E"),
+       SPL_RUNTIME_MANDATORY_PARAM_NOT_REPRESENTED("CDISR5541E"),
+       SPL_RUNTIME_MANDATORY_PARAM_OPTIONAL_IN_MODEL("CDISR5542E"),
+       SPL_RUNTIME_REQUIRED_TYPE_NOT_SPECIFIED_FOR_PARAM("CDISR5543E"),
+       SPL_RUNTIME_TYPE_FOR_PARAM_NOT_COMPATIBLE("CDISR5544E"),
+       SPL_RUNTIME_CARDINALITY_FOR_PARAM_REQUIRED_ONE("CDISR5545E"),
+       SPL_RUNTIME_METRIC_KIND_MUST_MATCH("CDISR5546E"),
+       SPL_RUNTIME_CONTEXTCHECK_FAILURES("CDISR5547E"),
+       SPL_RUNTIME_TUPLE_TYPE_MISMATCH("CDISR5548E"),
+       SPL_RUNTIME_CLASS_NOT_SUPPORTED_FOR_PARAMETER("CDISR5549E"),
+       SPL_RUNTIME_PROPERTY_REQUIRES_SINGLE_VALUE("CDISR5550E"),
+       SPL_RUNTIME_PROPERTY_VALUE_INVALID("CDISR5551E"),
+       SPL_RUNTIME_CANNOT_REMOVE_ALL_ATTRIBUTES_FROM_SCHEMA("CDISR5552E"),
+       SPL_RUNTIME_JAVA_INTERFACE_NOT_IMPLEMENT_INTERFACE("CDISR5553E"),
+       SPL_RUNTIME_TIMESTAMP_UNAVAILABLE_DURING_CHECKPOINTING("CDISR5554E"),
+       SPL_RUNTIME_CHECKPOINT_INPUT_STREAM_RETRIEVED_RESTORE("CDISR5555E"),
+       SPL_RUNTIME_CHECKPOINT_OUTPUT_STREAM_RETRIEVED_CHECKPOINTING("CDISR5556E"),
+       SPL_RUNTIME_OPERATOR_MUST_BE_START("CDISR5557E"),
+       SPL_RUNTIME_STRING_LENGTH_TOO_LARGE_FOR_LANGUAGE("CDISR5558E"),
+       SPL_RUNTIME_INDEX_OUT_OF_RANGE_FOR_LANGUAGE("CDISR5559E"),
+       SPL_RUNTIME_IDENTIFIER_NOT_VALID_FOR_LANGUAGE("CDISR5560E"),
+       SPL_RUNTIME_INDEX_NOT_EQUAL_ORDINAL_FOR_LANGUAGE("CDISR5561E"),
+       SPL_RUNTIME_INVALID_CONVERSION("CDISR5562E"),
+       SPL_RUNTIME_JAVAOP_INVALID_LANGUAGE_TYPE("CDISR5563E"),
+       SPL_RUNTIME_WINDOW_ATTR_FOR_DELTA_POLICY_NOT_FOUND("CDISR5564E"),
+       SPL_RUNTIME_UNSUPPORTED_ATTR_FOR_DELTA_POLICY("CDISR5565E"),
+       SPL_RUNTIME_STREAMS_INSTALL_NOT_SET("CDISR5566E"),
+       SPL_RUNTIME_OPERATOR_SHUTDOWN("CDISR5567E"),
+       SPL_RUNTIME_NOTIFICATION_SOURCE_ALREADY_ADDED("CDISR5568E"),
+       SPL_RUNTIME_UNSUPPORTED_JAVA_SPEC_VERSION("CDISR5569E"),
+       SPL_RUNTIME_UNDETERMINED_JAVA_SPEC_VERSION("CDISR5570E"),
+       SPL_RUNTIME_AVG_DRAIN_TIME_METRIC("CDISR5571I"),
+       SPL_RUNTIME_AVG_RESET_TIME_METRIC("CDISR5572I"),
+       SPL_RUNTIME_CONSISTENT_REGION_STATE_METRIC("CDISR5573I"),
+       SPL_RUNTIME_CURRENT_RESET_ATTEMPTS_METRIC("CDISR5574I"),
+       SPL_RUNTIME_LAST_COMPLETED_DRAIN_METRIC("CDISR5575I"),
+       SPL_RUNTIME_LAST_COMPLETED_RESET_METRIC("CDISR5576I"),
+       SPL_RUNTIME_LAST_CONSISTENT_TIME_METRIC("CDISR5577I"),
+       SPL_RUNTIME_LAST_RESET_TIME_METRIC("CDISR5578I"),
+       EG_EXECUTABLE_GRAPH_NOT_INITIALIZED("CDISR5579E"),
+       EG_EXECUTABLE_GRAPH_NOT_NOTIFIED("CDISR5580E"),
+       OG_DUPLICATE_OPERATOR_NAME("CDISR5581E"),
+       SPL_RUNTIME_CONTROL_PLANE_METRIC("CDISR5582I"),
+       SPL_RUNTIME_EXPRESSION_INVALID_POSTFIX("CDISR5583E"),
+       SPL_RUNTIME_EXPRESSION_UNHANDLED_META_TYPE("CDISR5584E"),
+       SPL_RUNTIME_EXPRESSION_NO_SUBEXPRESSION("CDISR5585E"),
+       SPL_RUNTIME_EXPRESSION_TOO_FEW_EXPRESSIONS("CDISR5586E"),
+       SPL_RUNTIME_EXPRESSION_EXPECTED_BINARY_OP("CDISR5587E"),
+       SPL_RUNTIME_EXPRESSION_EXPECTED_EXPRESSION("CDISR5588E"),
+       SPL_RUNTIME_EXPRESSION_UNRECOGNIZED_OPERATOR("CDISR5589E"),
+       SPL_RUNTIME_EXPRESSION_INVALID_PRIMARY("CDISR5590E"),
+       SPL_RUNTIME_OPTION_CONSOLE("CDISR5591T"),
+       SPL_RUNTIME_OPTION_HELP("CDISR5592I"),
+       SPL_RUNTIME_OPTION_DATA_DIRECTORY("CDISR5593T"),
+       SPL_RUNTIME_OPTION_EXECUTION_DIRECTORY("CDISR5594T"),
+       SPL_RUNTIME_OPTION_DEBUGGER("CDISR5595T"),
+       SPL_RUNTIME_OPTION_KILL_AFTER("CDISR5596T"),
+       SPL_RUNTIME_OPTION_NEW_LOG_LEVEL("CDISR5597T"),
+       SPL_RUNTIME_OPTION_TRACE_LEVEL("CDISR5598T"),
+       SPL_RUNTIME_FAILED_TO_REMOVE_TEMP_DIR("CDISR5599E"),
+       SPL_RUNTIME_EXEC_LOC_NOT_EXIST("CDISR5600E"),
+       SPL_RUNTIME_EXEC_LOC_NOT_DIR("CDISR5601E"),
+       SPL_RUNTIME_EXEC_LOC_BAD_PERMS("CDISR5602E"),
+       SPL_RUNTIME_STANDALONE_APPLICATION_ARGUMENT_HELP("CDISR5603I"),
+       SPL_RUNTIME_STANDALONE_APPLICATION_REQUIRED_ARGUMENT_HELP("CDISR5604I"),
+       SPL_RUNTIME_STANDALONE_APPLICATION_OPTIONAL_ARGUMENT_HELP("CDISR5605I"),
+       SPL_RUNTIME_STANDALONE_STREAMS_APPLICATION("CDISR5606T"),
+       SPL_RUNTIME_JAVA_INVALID_WATERMARK_SOURCE("CDISR5607E"),
+       SPL_RUNTIME_JAVA_RETROGRADE_WATERMARK("CDISR5608E"),
+       SPL_RUNTIME_JAVA_INPUTWATERMARK_NO_INPUT_PORTS("CDISR5609W"),
+       SPL_RUNTIME_JAVA_WATERMARK_LAG_IGNORED("CDISR5610W"),
+       SPL_RUNTIME_CR_MAX_RESET_ATTEMPTS("CDISR5611E"),
+       SPL_RUNTIME_CR_DRAIN_TIMEOUT("CDISR5612I"),
+       SPL_RUNTIME_CR_DRAIN_TIMEOUT_DESCRIPTION("CDISR5613I"),
+       SPL_RUNTIME_CR_RESET_TIMEOUT("CDISR5614I"),
+       SPL_RUNTIME_CR_RESET_TIMEOUT_DESCRIPTION("CDISR5615I"),
+       SPL_RUNTIME_CR_RESET_EXTERNALLY("CDISR5616I"),
+       SPL_RUNTIME_CR_START_OPERATOR_SUBSCRIBED("CDISR5617I"),
+       SPL_RUNTIME_CR_RESET_ON_BOOTUP("CDISR5618I"),
+       SPL_RUNTIME_CR_HEALTH_CHANGED("CDISR5619I"),
+       SPL_EXAMPLE_TEST_MESSAGE("CDISR5186E"),
+       ;
+
+       private String messageId;
+       private Key(String messageId) {
+           this.messageId = messageId;
+       }
+
+       public String getMessageId() {
+           return messageId;
+       }
+
+       public String getResourceBundleName() {
+           return "com.ibm.streams.spl.messages.general.StreamsSPLJavaMessages";
+       }
+
+   }
+}
\ No newline at end of file
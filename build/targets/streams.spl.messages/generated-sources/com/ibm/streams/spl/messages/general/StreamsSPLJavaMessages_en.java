@@ -0,0 +1,189 @@
+package com.ibm.streams.spl.messages.general;
+
+import java.util.ListResourceBundle;
+
+public class StreamsSPLJavaMessages_en extends ListResourceBundle {
+  public Object[][] getContents() { return contents; }
+  private static final Object[][] contents = {
+    {"CDISP7302E", "Operator parameter {0} requires parameter {1}."},
+    {"CDISP7303E", "Operator parameter {1} cannot be set when parameter {0} is set."},
+    {"CDISP7304E", "Required attribute {0} is missing from schema {1}."},
+    {"CDISP7305E", "Required attribute {0} is missing from schema {1} for port {2}."},
+    {"CDISP7306E", "Schema {3} for port {2} does not match schema {1} for port {0}."},
+    {"CDISP7307E", "Input port {0} is required to be have window type {1} but has type {2}."},
+    {"CDISP7308E", "Attribute {0} is required to be of type {1} but has type {2}."},
+    {"CDISP7309E", "Not supported at SPL compile time"},
+    {"CDISP7310E", "Java primitive {0} operator model file {1} can not be read."},
+    {"CDISP7311E", "Internal error: No current toolkit root directory"},
+    {"CDISP7312E", "Operator does not support {0} for attribute {1}."},
+    {"CDISP7313E", "Annotation {0} requires {1} to be a non-abstract class."},
+    {"CDISP7314E", "Annotation {0} requires {1} to be an instance method."},
+    {"CDISP7315E", "Annotation {0} requires {1} to be public."},
+    {"CDISP7316E", "Annotation {0} requires {1} to be a setter method with a single parameter."},
+    {"CDISP7317E", "Annotation {0} requires {1} to be a valid SPL identifier."},
+    {"CDISP7318E", "Annotation {0} requires {1} to be a valid SPL namespace identifier."},
+    {"CDISP7319E", "Annotation {0} requires {1} to be static."},
+    {"CDISP7320E", "Annotation {0} requires {1} to be a void method."},
+    {"CDISP7321E", "Annotation {0} requires {1} to be a setter method with a single parameter with type Metric."},
+    {"CDISP7322E", "Varargs methods are not supported by annotation {0} : Method {1}"},
+    {"CDISP7323E", "Annotation {0} does not support parameter type {2} for method {1}."},
+    {"CDISP7324E", "Annotation {0} requires {1} to implement the Operator interface."},
+    {"CDISP7325E", "Cardinality for annotation {0} for method {1} must be greater than 1 or equal to -1 to represent unbounded."},
+    {"CDISP7326E", "Cannot set cardinality for annotation {0} for method {1} as the setter method''s type enforces cardinality of 1."},
+    {"CDISP7327E", "Optional attribute for annotation {0} for method {1} must be set to true (or unspecified) if used in conjunction with the @DefaultAttribute annotation."},
+    {"CDISP7328E", "Cannot set cardinality for annotation {0} for method {1} as the setter method''s @DefaultAttribute annotation enforces cardinality of 1."},
+    {"CDISP7329E", "DefaultAttribute annotation can only be used in conjunction with the @Parameter annotation."},
+    {"CDISP7330E", "Annotation {0} requires {1} to be a valid attribute name."},
+    {"CDISP7331E", "Icons annotation can only be used in conjunction with the PrimitiveOperator annotation."},
+    {"CDISP7332E", "The cardinality of the output port set must be specified."},
+    {"CDISP7333E", "The cardinality of the input port set must be specified."},
+    {"CDISP7334E", "The windowPunctuationInputPort value {0} does not correspond with a valid input port set identifier."},
+    {"CDISP7335E", "InputPortSet and InputPorts annotations cannot occur on the same element."},
+    {"CDISP7336E", "OutputPortSet and OutputPorts annotations cannot occur on the same element."},
+    {"CDISP7337E", "The id for an input port set must be unique."},
+    {"CDISP7338E", "The windowPunctuationInputPort attribute can be only set on punctuation preserving output ports."},
+    {"CDISP7339E", "ERROR: {0}"},
+    {"CDISP7340W", "WARNING: {0}"},
+    {"CDISP7341E", "Data directory was not specified at compile time."},
+    {"CDISP7342E", "Operator: {0} requires exactly {1} input port(s)."},
+    {"CDISP7343E", "Operator: {0} requires at least {1} input port(s)."},
+    {"CDISP7344E", "Operator: {0} requires exactly {1} output port(s)."},
+    {"CDISP7345E", "Operator: {0} requires at least {1} output port(s)."},
+    {"CDISP7346E", "Blob cannot support length of: {0}"},
+    {"CDISP7347E", "Complex SPL character format is invalid, expecting: ''(real, imaginary)'', was {0}"},
+    {"CDISP7348I", "Extracts information from an application bundle file."},
+    {"CDISP7349E", "File {0} does not exist."},
+    {"CDISP7350E", "Unsupported bundle version"},
+    {"CDISP7351E", "File error: {0}"},
+    {"CDISP7352E", "Bundle error: {0}"},
+    {"CDISP7353I", "        -h, --help                 Get (this) usage information."},
+    {"CDISP7354I", "        --build-id                 Get the build id from this bundle."},
+    {"CDISP7355I", "        --build-date               Get the build-date from this bundle."},
+    {"CDISP7357I", "        --toolkits                 List all the toolkits in the bundle and their version number."},
+    {"CDISP7358I", "        --files                    List all the files in the bundle.  This implies --toolkits."},
+    {"CDISP7359I", "        --xml <outFile>            Emit the application bundle information in machine readable format to the specified file."},
+    {"CDISP7360I", "        --unbundle <dir>           Extract the contents of the bundle into the specified directory."},
+    {"CDISP7361I", "        --execution-mode           The execution mode for which the bundle was compiled; standalone or distributed."},
+    {"CDISP9252I", "usage: spl-app-info -h, --help | [--build-id][--build-date][--toolkits][--files][--xml <outFile>][--unbundle <dir>] <sabFile>"},
+    {"CDISR5500E", "Input port {0} does not allow any window configuration: {1}"},
+    {"CDISR5501E", "Port {0} window type is {1}.  The expected type is {2}."},
+    {"CDISR5502E", "Port {0} window is not partitioned."},
+    {"CDISR5503E", "Port {0} window eviction count policy value {1} is negative."},
+    {"CDISR5504E", "Port {0} window eviction time policy value {1} is negative."},
+    {"CDISR5505E", "Input port schema {0} does not match output port schema {1}."},
+    {"CDISR5506E", "Port {0} window eviction delta policy attribute {1} does not exist."},
+    {"CDISR5507E", "Port {0} window eviction delta policy for attribute {1} value class {2} is not the required type {3} for {4}."},
+    {"CDISR5508E", "Port {0} window trigger time policy value {1} is negative."},
+    {"CDISR5509E", "Port {0} window partition eviction age policy value {1} is negative."},
+    {"CDISR5510E", "Port {0} window trigger count policy value {1} is negative."},
+    {"CDISR5511E", "Port {0} is not windowed."},
+    {"CDISR5512E", "Port {0} window partition eviction count policy value {1} is negative."},
+    {"CDISR5513E", "Port {0} window partition tuple eviction count policy value {1} is negative."},
+    {"CDISR5514E", "Port {0} no window eviction policy specified."},
+    {"CDISR5515E", "Port {0} no sliding window trigger policy specified."},
+    {"CDISR5516E", "Input port {1} for operator {0} requires a windowed port: {2}"},
+    {"CDISR5517E", "Operator {0} does not allow input ports."},
+    {"CDISR5518E", "Input port cannot be added as operator {0} has a maximum of {1} input ports."},
+    {"CDISR5519E", "Port index out of range: {0}"},
+    {"CDISR5520E", "Operator {0} does not allow output ports."},
+    {"CDISR5521E", "Output port cannot be added as operator {0} has a maximum of {1} output ports."},
+    {"CDISR5522E", "Operator {0} has a minimum of {1} input ports but only {2} are configured."},
+    {"CDISR5523E", "Operator {0} has a minimum of {1} input ports and maximum of {2} but {3} are configured."},
+    {"CDISR5524E", "Operator {0} has a minimum of {1} output ports but only {2} are configured."},
+    {"CDISR5525E", "Port {0} is connected in the graph."},
+    {"CDISR5526E", "Mismatched issuer and subject for JCP self-signed certificate."},
+    {"CDISR5527E", "Mismatched subject for JCP self-signed certificate (transient connect to incorrect JCP)"},
+    {"CDISR5528E", "Custom metric {0} already exists."},
+    {"CDISR5529E", "Custom metric name cannot be empty."},
+    {"CDISR5530E", "Custom metric {0} does not exist."},
+    {"CDISR5531I", "{0} for input port: {1}"},
+    {"CDISR5532I", "{0} for output port: {1}"},
+    {"CDISR5533E", "Null attribute value passed for index {0}"},
+    {"CDISR5534E", "Output port {0} export type {1} is not equal to {2}."},
+    {"CDISR5535E", "Port {0} is not connected to a PE port."},
+    {"CDISR5536E", "Attribute index ''{0}'' out of range"},
+    {"CDISR5537E", "Attribute name ''{0}'' does not exist in the Tuple''s schema."},
+    {"CDISR5538E", "Operator invocation context invalid for @OperatorContext.ContextCheck methods for kind {0}, Java class {1}."},
+    {"CDISR5539E", "Default attribute {0} not found for parameter {1}"},
+    {"CDISR5540E", "Mandatory parameter {0} not set"},
+    {"CDISR5541E", "Mandatory parameter {0} is not represented in the operator model: {1} annotation on {2}"},
+    {"CDISR5542E", "Mandatory parameter {0} is optional in the operator model: {1} annotation on {2}"},
+    {"CDISR5543E", "Required type {3} not specified for parameter {0} in the operator model: {1} annotation on {2}"},
+    {"CDISR5544E", "Type {3} for parameter {0} in the operator model is not compatible with {1} annotation on {2}"},
+    {"CDISR5545E", "Cardinality for parameter {0} in the operator model is required to be 1 to be compatible with {1} annotation on {2}"},
+    {"CDISR5546E", "The metric kind {2} for custom metric {0} is required to be {1} to match @CustomMetric."},
+    {"CDISR5547E", "@ContextCheck failures for Java operator class {0}"},
+    {"CDISR5548E", "Tuple type mismatch - port''s StreamSchema: {0} - submitted tuple''s StreamSchema: {1}"},
+    {"CDISR5549E", "Class {0} not supported for @Parameter at method: {1}"},
+    {"CDISR5550E", "{0} requires single value"},
+    {"CDISR5551E", "{0} requires a value in the form <input port name>.<attribute name>. Invalid value specified - {1}"},
+    {"CDISR5552E", "Cannot remove all attributes from a schema: {0}"},
+    {"CDISR5553E", "Java primitive implementation class {0} does not implement {1}"},
+    {"CDISR5554E", "Timestamp is unavailable during checkpointing"},
+    {"CDISR5555E", "An input stream can only be retrieved during a restore."},
+    {"CDISR5556E", "An output stream can only be retrieved during checkpointing"},
+    {"CDISR5557E", "Operator must be at the start of a consistent region"},
+    {"CDISR5558E", "{0}: String length ({1}) too large"},
+    {"CDISR5559E", "Index {0} is out of range for {1}"},
+    {"CDISR5560E", "Identifier {0} is not valid for {1}"},
+    {"CDISR5561E", "{0}: Index for {1} does not equal ordinal for {2}.{3}"},
+    {"CDISR5562E", "Conversion between SPL type {0} (MetaType.{1}) and Java type {2} is not supported."},
+    {"CDISR5563E", "Language type: {0} not supported by JavaOp"},
+    {"CDISR5564E", "Internal Error: Window attribute for delta policy not found: {0}"},
+    {"CDISR5565E", "Unsupported attribute type for window delta policy: {0}"},
+    {"CDISR5566E", "Environment variable STREAMS_INSTALL not set"},
+    {"CDISR5567E", "Operator already shutdown"},
+    {"CDISR5568E", "Notification source {0} has already been added."},
+    {"CDISR5569E", "Java Platform API Specification version not at Java 7 or higher."},
+    {"CDISR5570E", "Cannot determine Java Platform API Specification version"},
+    {"CDISR5571I", "Moving average of the time (milliseconds) to drain processing in a consistent region to establish consistent state"},
+    {"CDISR5572I", "Moving average of the time (milliseconds) to reset the region to a previous consistent state"},
+    {"CDISR5573I", "State of the consistent region"},
+    {"CDISR5574I", "Current number of attempts to reset the region to a previous consistent state"},
+    {"CDISR5575I", "Sequence identifier of the last consistent state for the region"},
+    {"CDISR5576I", "Sequence identifier of the last consistent state the region was reset to"},
+    {"CDISR5577I", "Time of the last consistent state for the region"},
+    {"CDISR5578I", "Time of the last reset for the region\""},
+    {"CDISR5579E", "ExecutableGraph has not been successfully initialized."},
+    {"CDISR5580E", "ExecutableGraph has not been successfully notified of port readiness."},
+    {"CDISR5581E", "Operator name {0} already exists"},
+    {"CDISR5582I", "State of the operator''s connection to the Job Control Plane."},
+    {"CDISR5583E", "Found subscript in postfix expression, but no constructed add expression."},
+    {"CDISR5584E", "Unhandled SPL meta type: {0}"},
+    {"CDISR5585E", "\"No created subexpressions found"},
+    {"CDISR5586E", "Expected at least two expressions on stack for {0}"},
+    {"CDISR5587E", "Expected a binary operator on the stack for {0}"},
+    {"CDISR5588E", "Expected an expression on the stack for {0}"},
+    {"CDISR5589E", "Unrecognized operator; expected {0}, found: {1}"},
+    {"CDISR5590E", "No identifier, value or nested expression found when parsing primary expression"},
+    {"CDISR5591T", "   -c, --log-to-stderr             Output trace messages to standard error. The default is standard output."},
+    {"CDISR5592I", "   -h, --help                      Get (this) usage information."},
+    {"CDISR5593T", "   -d, --data-directory=VALUE      Specify a data directory for this application to use."},
+    {"CDISR5594T", "   -e, --execution-directory=VALUE Specify the root directory the standalone application bundle should be executed from."},
+    {"CDISR5595T", "   -g, --debug=VALUE               Run the standalone executable under the specified debugger."},
+    {"CDISR5596T", "   -k, --kill-after=VALUE          Shut down the application after N seconds where N is a positive floating point number."},
+    {"CDISR5597T", "   -l, --log-level=INT             Log level: 0 - ERROR, 1 - WARN, 2 - INFO."},
+    {"CDISR5598T", "   -t, --trace-level=INT           Trace level: 0 - OFF, 1 - ERROR, 2 - WARN, 3 - INFO, 4 - DEBUG, 5 - TRACE."},
+    {"CDISR5599E", "Temporary directory {0} was not fully removed."},
+    {"CDISR5600E", "The execution location {0} does not exist."},
+    {"CDISR5601E", "The execution location {0} is not a directory."},
+    {"CDISR5602E", "The execution location {0} does not have the correct permissions."},
+    {"CDISR5603I", "Additional command line arguments can be specified by using <name>=<string-literal>."},
+    {"CDISR5604I", "The required arguments are: {0}."},
+    {"CDISR5605I", "The optional arguments are: {0}."},
+    {"CDISR5606T", "Standalone Streams Application"},
+    {"CDISR5607E", "A watermark was received from the unexpected source operator {0}, port {1}."},
+    {"CDISR5608E", "A watermark {0} was received which was earlier than the current watermark {1}.  The watermark was received from operator {2}, port {3}. "},
+    {"CDISR5609W", "Operator cannot generate watermarks.  It has 0 input ports and EventTimeContext watermark mode {0}."},
+    {"CDISR5610W", "Watermark lag ignored for operator annotated with EventTimeContext watermark mode {0}."},
+    {"CDISR5611E", "Set state to MAXIMUM_RESET_ATTEMPTS_REACHED for region {0}."},
+    {"CDISR5612I", "Consistent region {0} needs to be reset because its drain timed out."},
+    {"CDISR5613I", "The following PEs completed draining: {0}.  The following PEs did not complete draining: {1}."},
+    {"CDISR5614I", "Consistent region {0} needs to be reset because its reset timed out."},
+    {"CDISR5615I", "The following PEs completed resetting: {0}.  The following PEs did not complete resetting: {1}."},
+    {"CDISR5616I", "Consistent region {0} needs to be reset because a reset was requested externally."},
+    {"CDISR5617I", "Consistent region {0} needs to be reset because the start operator started after a drain or reset was attempted."},
+    {"CDISR5618I", "Consistent region {0} needs to be reset because the the first time region became healthy happened after a drain or reset was needed."},
+    {"CDISR5619I", "Consistent region {0} needs to be reset because the region health changed from {1} to {2}."},
+  };
+}
@@ -22,9 +22,13 @@
 #include <SPL/Runtime/ProcessingElement/PE.h>
 #include <TRC/ConsoleTracer.h>
 #include <TRC/TRCUtils.h>
+#include <boost/iostreams/copy.hpp>
+#include <boost/iostreams/filter/gzip.hpp>
+#include <boost/iostreams/filtering_streambuf.hpp>
 #include <curl/curl.h>
 #include <fcntl.h>
 #include <fstream>
+#include <sstream>
 #include <unistd.h>
 
 DEBUG_NAMESPACE_USE
@@ -47,6 +51,28 @@ static void loadAADL(std::string& str)
      *    com.ibm.streams.controller.k8s.utils.ConfigMapUtils
      */
     std::string filename = "/etc/config/pe/aadl.xml";
+    std::string gzFilename = "/etc/config/pe/aadl.xml.gz";
+    /*
+     * Use the compressed AADL if the controller provided one.
+     */
+    std::ifstream gzFile(gzFilename, std::ios::binary);
+    if (!gzFile.fail()) {
+        std::stringstream content;
+        try {
+            iostreams::filtering_streambuf<iostreams::input> in;
+            in.push(iostreams::gzip_decompressor());
+            in.push(gzFile);
+            iostreams::copy(in, content);
+        } catch (const iostreams::gzip_error&) {
+            SPCDBG(L_ERROR, "Cannot decompress the AADL file, aborting.", K8S_GENERAL);
+            THROW(K8SPlatform, "Cannot decompress the AADL file, aborting.");
+        }
+        str = content.str();
+        return;
+    }
+    /*
+     * Otherwise, open the plain AADL file.
+     */
     std::ifstream file(filename);
     /*
      * Check if the file is valid.
@@ -37,6 +37,7 @@ K8SSubscriptionsThread::K8SSubscriptionsThread(PE const& pe,
   , m_running(true)
   , m_service()
   , m_curl(curl_easy_init())
+  , m_version(0)
   , m_shutdown_pipe()
   , m_body()
 {
@@ -161,7 +162,7 @@ void* K8SSubscriptionsThread::run(void* arg)
                 fetchSubscriptions();
             } else {
                 SPCDBG(L_DEBUG, "Processing embedded subscriptions", K8S_GENERAL);
-                processSubscriptions(payload);
+                processSubscriptions(payload, false);
             }
         }
     }
@@ -190,17 +191,31 @@ size_t K8SSubscriptionsThread::callback(void* content, size_t size, size_t nmemb
 void K8SSubscriptionsThread::fetchSubscriptions()
 {
     m_body.clear();
+    /*
+     * Only fetch the subscriptions if they changed since the last version we processed.
+     */
+    struct curl_slist* headers = NULL;
+    if (m_version != 0) {
+        std::string header = "If-None-Match: \"" + std::to_string(m_version) + "\"";
+        headers = curl_slist_append(headers, header.c_str());
+    }
+    curl_easy_setopt(m_curl, CURLOPT_HTTPHEADER, headers);
     CURLcode res = curl_easy_perform(m_curl);
+    curl_easy_setopt(m_curl, CURLOPT_HTTPHEADER, NULL);
+    curl_slist_free_all(headers);
     if (res == CURLE_OK) {
         long http_code = 0;
         curl_easy_getinfo(m_curl, CURLINFO_RESPONSE_CODE, &http_code);
         if (http_code == 200 /* OK */) {
-            processSubscriptions(m_body);
+            processSubscriptions(m_body, true);
+        } else if (http_code == 304 /* NOT_MODIFIED */) {
+            SPCDBG(L_TRACE, "Subscriptions unchanged since version " << m_version, K8S_GENERAL);
         } else if (http_code == 404 /* NOT_FOUND */) {
             /*
              * No subscription available for that PE. Tentatively clear the existing subscriptions.
              */
             clearSubscriptions();
+            m_version = 0;
         } else {
             SPCDBG(L_WARN, "Unhandled HTTP response code: " << http_code, K8S_GENERAL);
         }
@@ -234,7 +249,7 @@ void K8SSubscriptionsThread::clearSubscriptions()
     m_exportSubscriptions.clear();
 }
 
-void K8SSubscriptionsThread::processSubscriptions(std::string const& payload)
+void K8SSubscriptionsThread::processSubscriptions(std::string const& payload, const bool pulled)
 {
     /*
      * Parse the JSON content.
@@ -242,6 +257,17 @@ void K8SSubscriptionsThread::processSubscriptions(std::string const& payload)
     std::istringstream ss(payload);
     PropertyTree pt;
     boost::property_tree::read_json(ss, pt);
+    /*
+     * Skip notified subscriptions if they are older than the ones we already processed, which
+     * happens when a notification is delivered after a more recent pull. Pulled subscriptions are
+     * always authoritative.
+     */
+    auto version = pt.get<uint64_t>("version", 0);
+    if (!pulled && version != 0 && version <= m_version) {
+        SPCDBG(L_DEBUG, "Skipping stale subscriptions version " << version, K8S_GENERAL);
+        return;
+    }
+    m_version = version;
     /*
      * Grab the exports and imports.
      */
@@ -121,7 +121,7 @@ class K8SSubscriptionsThread : public UTILS_NAMESPACE::Thread
     void fetchSubscriptions();
     void clearSubscriptions();
 
-    void processSubscriptions(std::string const& data);
+    void processSubscriptions(std::string const& data, const bool pulled);
     void processExportSubscriptions(PropertyTree const& pt);
     void processImportSubscriptions(PropertyTree const& pt);
 
@@ -136,6 +136,7 @@ class K8SSubscriptionsThread : public UTILS_NAMESPACE::Thread
     std::atomic<bool> m_running;
     std::string m_service;
     CURL* m_curl;
+    uint64_t m_version;
     int m_shutdown_pipe[2];
     ExportSubscriptions m_exportSubscriptions;
     ImportSubscriptions m_importSubscriptions;
@@ -30,11 +30,8 @@ import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Vector;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
 
 public class DistilleryException extends Exception {
@@ -58,9 +55,8 @@ public class DistilleryException extends Exception {
   /// XML string containing the optional additional data
   private String additionalData;
 
-  private static JAXBContext jc = null;
-  private static Unmarshaller unmarshaller = null;
-  private static Marshaller marshaller = null;
+  private static final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(ObjectFactory.class);
 
   /** Default construct */
   public DistilleryException() {
@@ -389,16 +385,6 @@ public class DistilleryException extends Exception {
     }
   }
 
-  private static synchronized JAXBContext initJc() throws JAXBException {
-    if (jc == null) {
-      jc = JAXBContext.newInstance(com.ibm.streams.platform.services.ObjectFactory.class);
-      unmarshaller = jc.createUnmarshaller();
-      marshaller = jc.createMarshaller();
-      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
-    }
-    return jc;
-  }
-
   /**
    * Instantiate and throw an exception
    *
@@ -479,13 +465,11 @@ public class DistilleryException extends Exception {
   private static String toString(AdditionalExceptionDataType addData) throws DistilleryException {
     String xmlString = new String();
     try {
-      synchronized (initJc()) {
-        JAXBElement<AdditionalExceptionDataType> obj =
-            newObjf().createAdditionalExceptionData(addData);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        marshaller.marshal(obj, baos);
-        xmlString = baos.toString();
-      }
+      JAXBElement<AdditionalExceptionDataType> obj =
+          newObjf().createAdditionalExceptionData(addData);
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      binding.getMarshaller(true).marshal(obj, baos);
+      xmlString = baos.toString();
     } catch (JAXBException je) {
       throw new com.ibm.distillery.utils.exc.SerializationException(
           "Could not marshal additional exception data: " + addData, je);
@@ -499,12 +483,10 @@ public class DistilleryException extends Exception {
     AdditionalExceptionDataType addData = new AdditionalExceptionDataType();
     // marshall the additional data
     try {
-      synchronized (initJc()) {
-        JAXBElement<AdditionalExceptionDataType> elem =
-            (JAXBElement<AdditionalExceptionDataType>)
-                unmarshaller.unmarshal(new StreamSource(new StringReader(xmlString)));
-        addData = elem.getValue();
-      }
+      JAXBElement<AdditionalExceptionDataType> elem =
+          (JAXBElement<AdditionalExceptionDataType>)
+              binding.getUnmarshaller().unmarshal(new StreamSource(new StringReader(xmlString)));
+      addData = elem.getValue();
     } catch (JAXBException je) {
       throw new com.ibm.distillery.utils.exc.SerializationException(
           "Could not instantiate exception: " + xmlString, je);
@@ -519,21 +501,19 @@ public class DistilleryException extends Exception {
    */
   public static void instantiateAndThrow(String xmlString) throws DistilleryException {
     try {
-      synchronized (initJc()) {
-        JAXBElement<ExceptionType> elem =
-            (JAXBElement<ExceptionType>)
-                unmarshaller.unmarshal(new StreamSource(new StringReader(xmlString)));
-        ExceptionType et = elem.getValue();
-        Vector<String> subVec = new Vector<String>(et.getSubstitutionText());
-        instantiateAndThrow(
-            et.getType(),
-            et.getMsg(),
-            et.getLocation(),
-            et.getBacktrace(),
-            new DistilleryExceptionCode(et.getExceptionCode()),
-            subVec,
-            et.getExceptionAdditionalData());
-      }
+      JAXBElement<ExceptionType> elem =
+          (JAXBElement<ExceptionType>)
+              binding.getUnmarshaller().unmarshal(new StreamSource(new StringReader(xmlString)));
+      ExceptionType et = elem.getValue();
+      Vector<String> subVec = new Vector<String>(et.getSubstitutionText());
+      instantiateAndThrow(
+          et.getType(),
+          et.getMsg(),
+          et.getLocation(),
+          et.getBacktrace(),
+          new DistilleryExceptionCode(et.getExceptionCode()),
+          subVec,
+          et.getExceptionAdditionalData());
     } catch (JAXBException je) {
       throw new com.ibm.distillery.utils.exc.SerializationException(
           "Could not instantiate exception: " + xmlString, je);
@@ -694,12 +674,10 @@ public class DistilleryException extends Exception {
   private static String toString(ExceptionType e) throws DistilleryException {
     String xmlString = new String();
     try {
-      synchronized (initJc()) {
-        JAXBElement<ExceptionType> obj = newObjf().createException(e);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        marshaller.marshal(obj, baos);
-        xmlString = baos.toString();
-      }
+      JAXBElement<ExceptionType> obj = newObjf().createException(e);
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      binding.getMarshaller(true).marshal(obj, baos);
+      xmlString = baos.toString();
     } catch (JAXBException je) {
       throw new com.ibm.distillery.utils.exc.SerializationException(
           "Could not marshal exception: " + e, je);
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.distillery.utils;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Registry of the JAXB contexts used across the platform. A context is expensive to create, both in
+ * time and in reflection metadata, so each set of bound classes gets a single context for the
+ * lifetime of the JVM. The contexts are thread-safe, but their marshallers and unmarshallers are
+ * not: each thread gets its own, created on first use.
+ */
+public final class JAXBContextRegistry {
+
+  /** The context of a set of bound classes, along with its per-thread (un)marshallers. */
+  public static final class Binding {
+    private final Class<?>[] classes;
+    private final ThreadLocal<Marshaller> marshaller = new ThreadLocal<Marshaller>();
+    private final ThreadLocal<Unmarshaller> unmarshaller = new ThreadLocal<Unmarshaller>();
+    private volatile JAXBContext context;
+
+    private Binding(Class<?>[] classes) {
+      this.classes = classes;
+    }
+
+    /**
+     * Returns the context of the bound classes, creating it on first use. A failed creation is not
+     * remembered and is attempted again on the next call.
+     *
+     * @return the shared context
+     */
+    public JAXBContext getContext() throws JAXBException {
+      JAXBContext result = context;
+      if (result == null) {
+        synchronized (this) {
+          result = context;
+          if (result == null) {
+            result = JAXBContext.newInstance(classes);
+            context = result;
+          }
+        }
+      }
+      return result;
+    }
+
+    /**
+     * Returns the marshaller of the calling thread, with unformatted output.
+     *
+     * @return the marshaller of the calling thread
+     */
+    public Marshaller getMarshaller() throws JAXBException {
+      return getMarshaller(false);
+    }
+
+    /**
+     * Returns the marshaller of the calling thread. The marshaller is shared by all the users of
+     * the binding on that thread, so it must not be kept across calls nor have its properties
+     * changed beyond what this method sets.
+     *
+     * @param formatted whether the output is indented
+     * @return the marshaller of the calling thread
+     */
+    public Marshaller getMarshaller(boolean formatted) throws JAXBException {
+      Marshaller result = marshaller.get();
+      if (result == null) {
+        result = getContext().createMarshaller();
+        marshaller.set(result);
+      }
+      result.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, formatted);
+      return result;
+    }
+
+    /**
+     * Returns the non-validating unmarshaller of the calling thread.
+     *
+     * @return the unmarshaller of the calling thread
+     */
+    public Unmarshaller getUnmarshaller() throws JAXBException {
+      return getUnmarshaller(null);
+    }
+
+    /**
+     * Returns the unmarshaller of the calling thread. The unmarshaller is shared by all the users
+     * of the binding on that thread, so it must not be kept across calls.
+     *
+     * @param schema the schema to validate against, or null to skip validation
+     * @return the unmarshaller of the calling thread
+     */
+    public Unmarshaller getUnmarshaller(Schema schema) throws JAXBException {
+      Unmarshaller result = unmarshaller.get();
+      if (result == null) {
+        result = getContext().createUnmarshaller();
+        unmarshaller.set(result);
+      }
+      result.setSchema(schema);
+      return result;
+    }
+  }
+
+  private static final ConcurrentMap<Set<Class<?>>, Binding> bindings =
+      new ConcurrentHashMap<Set<Class<?>>, Binding>();
+  private static final ConcurrentMap<String, Schema> schemas =
+      new ConcurrentHashMap<String, Schema>();
+
+  private JAXBContextRegistry() {}
+
+  /**
+   * Returns the binding of a set of classes. The order of the classes does not matter. The context
+   * itself is created lazily, by the first call that needs it.
+   *
+   * @param classes the classes to bind, usually a single ObjectFactory
+   * @return the binding shared by all the callers that bind the same classes
+   */
+  public static Binding get(Class<?>... classes) {
+    if (classes.length == 0) {
+      throw new IllegalArgumentException("No class to bind");
+    }
+    Set<Class<?>> key = Collections.unmodifiableSet(new HashSet<Class<?>>(Arrays.asList(classes)));
+    Binding result = bindings.get(key);
+    if (result == null) {
+      Binding binding = new Binding(key.toArray(new Class<?>[key.size()]));
+      result = bindings.putIfAbsent(key, binding);
+      if (result == null) {
+        result = binding;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the W3C XML schema at a given location, loading it on first use. Schemas are
+   * thread-safe and can be shared by any number of unmarshallers. Concurrent first uses may each
+   * load the schema, in which case only one is kept.
+   *
+   * @param location the location of the schema, usually a class path resource
+   * @return the shared schema
+   */
+  public static Schema getSchema(URL location) throws SAXException {
+    if (location == null) {
+      throw new IllegalArgumentException("No schema location");
+    }
+    /*
+     * Use the external form as the key as URL.equals() may resolve host names.
+     */
+    String key = location.toExternalForm();
+    Schema result = schemas.get(key);
+    if (result == null) {
+      SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+      Schema schema = factory.newSchema(location);
+      result = schemas.putIfAbsent(key, schema);
+      if (result == null) {
+        result = schema;
+      }
+    }
+    return result;
+  }
+}
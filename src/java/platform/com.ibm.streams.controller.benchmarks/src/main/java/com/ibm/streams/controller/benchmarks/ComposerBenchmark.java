@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.benchmarks;
+
+import com.ibm.streams.admin.internal.api.StreamsException;
+import com.ibm.streams.admin.internal.api.trace.StreamsLogger.StreamsLogLevel;
+import com.ibm.streams.admin.internal.api.trace.TraceLogger;
+import com.ibm.streams.controller.instance.sam.Pipeline;
+import com.ibm.streams.instance.sam.model.composer.ContainerSpecification;
+import com.ibm.streams.instance.sam.model.topology.TopologyApplication;
+import com.ibm.streams.mock.MockResourceBase;
+import com.ibm.streams.sch.composer.IEUComposer;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.var;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Each invocation composes the PEs of a synthetic topology made of three parallel regions of the
+ * requested width. The topology is generated once per trial, so the score is the time spent in
+ * the composer alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ComposerBenchmark {
+
+  private static final String ADL = "apps.parallel.Parallel.adl";
+
+  @Param({"20", "100", "200"})
+  public int width;
+
+  @Param({"5", "20", "50"})
+  public int pes;
+
+  private TopologyApplication topology;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, StreamsException {
+    var adl =
+        new String(
+            Files.readAllBytes(Paths.get(MockResourceBase.APPS_PATH, ADL)), StandardCharsets.UTF_8);
+    var params = new Properties();
+    params.put("width1", String.valueOf(width));
+    params.put("width2", String.valueOf(width));
+    params.put("width3", String.valueOf(width));
+    var pipeline = new Pipeline(StreamsLogLevel.WARN, TraceLogger.Level.WARN);
+    var logical = pipeline.createLogicalModel(BigInteger.ZERO, adl, params, new Properties());
+    topology = logical.generateTopology(new Properties(), new HashMap<>());
+  }
+
+  @Benchmark
+  public Set<ContainerSpecification> compose() throws StreamsException {
+    var composer = new IEUComposer(topology, null);
+    composer.buildComposerModel(false);
+    return composer.composeContainerSpecs(Pipeline.createManualFuse(pes));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.benchmarks;
+
+import com.ibm.streams.controller.executor.DefaultExecutor;
+import com.ibm.streams.controller.executor.ParallelExecutor;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.var;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Each invocation starts a fresh instance on the mock server, submits a job of the requested
+ * size and connects the requested number of exports and imports. The score is the end-to-end
+ * time of the scenario, the auxiliary counters break it down. Jobs are submitted either with the
+ * sequential executor or with the parallel one.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ControllerBenchmark {
+
+  private static final String JOB_NAME = "bench";
+
+  @Param({"10", "50", "100"})
+  public int pes;
+
+  @Param({"0", "100"})
+  public int exports;
+
+  @Param({"1", "3"})
+  public int regions;
+
+  @Param({"default", "parallel"})
+  public String executor;
+
+  private ScenarioDriver driver;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Results {
+
+    public double podsCreatedMillis;
+    public double brokerMatchMillis;
+    public double heapUsedMegabytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      podsCreatedMillis = 0;
+      brokerMatchMillis = 0;
+      heapUsedMegabytes = 0;
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    driver =
+        new ScenarioDriver(
+            executor.equals("parallel") ? ParallelExecutor::new : DefaultExecutor::new);
+    driver.start();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    driver.stop();
+  }
+
+  @Benchmark
+  public void run(Results results) {
+    var submission = driver.submitJob(JOB_NAME, pes, regions);
+    var matching = driver.connect(JOB_NAME, exports);
+    results.podsCreatedMillis = TimeUnit.NANOSECONDS.toMillis(submission);
+    results.brokerMatchMillis = matching / 1e6;
+    results.heapUsedMegabytes = driver.getUsedHeap() / (1024.0 * 1024.0);
+  }
+}
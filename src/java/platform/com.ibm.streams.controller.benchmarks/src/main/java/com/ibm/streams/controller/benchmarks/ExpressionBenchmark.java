@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.benchmarks;
+
+import com.ibm.streams.spl.expressions.CompiledExpression;
+import com.ibm.streams.spl.expressions.SPLEvalException;
+import com.ibm.streams.spl.expressions.SPLExpressionEval;
+import com.ibm.streams.spl.expressions.SPLExpressions.Expression;
+import com.ibm.streams.spl.expressions.SPLInvalidExpressionException;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLInt64;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLInt64List;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLRstring;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Each invocation matches a subscription against the properties of an export, as the broker does
+ * for every import/export pair. The evaluate benchmark parses and reduces the subscription on each
+ * call, the reduce benchmark reuses the parsed expression but reduces it once per property, and
+ * the compiled benchmark evaluates a compiled expression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+  @Param({
+    "app == \"trades\"",
+    "app == \"trades\" && (region == \"emea\" || region == \"apac\") && rate >= 100 && 3 in ids",
+    "(rate * 60 + burst) / 2 > 1000 || hash(app) % 4 == 1 || ids[2] - ids[0] == 2"
+  })
+  public String subscription;
+
+  private Map<String, SPLValue> values;
+  private Expression expression;
+  private CompiledExpression compiled;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SPLInvalidExpressionException {
+    values = new HashMap<>();
+    values.put("app", new SPLRstring("trades"));
+    values.put("region", new SPLRstring("apac"));
+    values.put("rate", new SPLInt64(250));
+    values.put("burst", new SPLInt64(40));
+    values.put("ids", new SPLInt64List(1L, 2L, 3L, 4L));
+    values.put("owner", new SPLRstring("risk"));
+    expression = SPLExpressionEval.parse(subscription);
+    compiled = SPLExpressionEval.compile(subscription);
+  }
+
+  @Benchmark
+  public boolean evaluate() throws SPLInvalidExpressionException, SPLEvalException {
+    return SPLExpressionEval.evaluate(subscription, values).equalsIgnoreCase("true");
+  }
+
+  @Benchmark
+  public boolean reduce() throws SPLEvalException {
+    Expression exp = expression;
+    for (Map.Entry<String, SPLValue> entry : values.entrySet()) {
+      exp = exp.reduce(entry.getKey(), entry.getValue());
+    }
+    return exp.toString().equalsIgnoreCase("true");
+  }
+
+  @Benchmark
+  public boolean compiled() throws SPLEvalException {
+    return compiled.matches(values);
+  }
+}
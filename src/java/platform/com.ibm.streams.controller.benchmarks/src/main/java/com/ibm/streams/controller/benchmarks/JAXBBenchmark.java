@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.benchmarks;
+
+import com.ibm.streams.instance.sam.applicationModel.ApplicationModelFactory;
+import com.ibm.streams.mock.MockResourceBase;
+import com.ibm.streams.platform.services.v4200.ApplicationSetType;
+import com.ibm.streams.platform.services.v4200.ApplicationType;
+import com.ibm.streams.platform.services.v4200.ObjectFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import lombok.var;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Each invocation unmarshals an ADL, as the controller does for every job submission. The
+ * perCall benchmark creates a context and an unmarshaller on each call, the perUnmarshaller
+ * benchmark reuses the context but creates an unmarshaller on each call, and the registry
+ * benchmark goes through the shared context and per-thread unmarshaller of the registry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class JAXBBenchmark {
+
+  @Param({"apps.parallel.Parallel.adl", "spl.runtime.udpNestedPEBoundary.adl"})
+  public String adl;
+
+  private byte[] content;
+  private JAXBContext context;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, JAXBException {
+    content = Files.readAllBytes(Paths.get(MockResourceBase.APPS_PATH, adl));
+    context = JAXBContext.newInstance(ObjectFactory.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ApplicationType unmarshal(JAXBContext context) throws JAXBException {
+    var um = context.createUnmarshaller();
+    var jbe = (JAXBElement<ApplicationSetType>) um.unmarshal(new ByteArrayInputStream(content));
+    return jbe.getValue().getSplApplication().get(0);
+  }
+
+  @Benchmark
+  public ApplicationType perCall() throws JAXBException {
+    return unmarshal(JAXBContext.newInstance(ObjectFactory.class));
+  }
+
+  @Benchmark
+  public ApplicationType perUnmarshaller() throws JAXBException {
+    return unmarshal(context);
+  }
+
+  @Benchmark
+  public ApplicationType registry() throws JAXBException {
+    return ApplicationModelFactory.createV4200ApplicationModel(new ByteArrayInputStream(content));
+  }
+}
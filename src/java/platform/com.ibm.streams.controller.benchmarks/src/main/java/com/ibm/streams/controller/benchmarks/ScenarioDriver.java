@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.benchmarks;
+
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_NAME_ANNOTATION_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_SCOPE_ANNOTATION_KEY;
+
+import com.ibm.streams.controller.executor.IExecutor;
+import com.ibm.streams.controller.instance.utils.ExportUtils;
+import com.ibm.streams.controller.instance.utils.ImportUtils;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.mock.instance.MockResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.prometheus.client.CollectorRegistry;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import lombok.var;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+
+/*
+ * A scenario driver runs a Streams instance against the in-process mock Kubernetes server and
+ * drives synthetic workloads through it. Unlike the probes of the tests, the drivers poll at a
+ * fine granularity so that the time they report is close to the time the controller took.
+ */
+public class ScenarioDriver extends MockResource {
+
+  private static final long TIMEOUT_IN_SEC = 600;
+  private static final long POLL_IN_MS = 10;
+  private static final String APP_NAME = "bench";
+  private static final String APP_SCOPE = "Default";
+
+  static {
+    /*
+     * The mock resource is verbose, which would skew the measurements.
+     */
+    var loggers = LogManager.getCurrentLoggers();
+    while (loggers.hasMoreElements()) {
+      ((org.apache.log4j.Logger) loggers.nextElement()).setLevel(Level.WARN);
+    }
+    LogManager.getRootLogger().setLevel(Level.WARN);
+  }
+
+  public ScenarioDriver() {
+    super();
+  }
+
+  public ScenarioDriver(Supplier<IExecutor> executorSupplier) {
+    super(executorSupplier);
+  }
+
+  private static void waitUntil(String label, BooleanSupplier condition) {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_IN_SEC);
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Timed out waiting for: " + label);
+      }
+      try {
+        TimeUnit.MILLISECONDS.sleep(POLL_IN_MS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private static double getBrokerMatchSeconds() {
+    var total = 0.0;
+    for (var resource : new String[] {"export", "import"}) {
+      total +=
+          Optional.ofNullable(
+                  CollectorRegistry.defaultRegistry.getSampleValue(
+                      "streams_broker_match_seconds_sum",
+                      new String[] {"resource"},
+                      new String[] {resource}))
+              .orElse(0.0);
+    }
+    return total;
+  }
+
+  private static <T extends HasMetadata> T annotate(T resource) {
+    var annotations = new HashMap<String, String>();
+    annotations.put(STREAMS_APP_NAME_ANNOTATION_KEY, APP_NAME);
+    annotations.put(STREAMS_APP_SCOPE_ANNOTATION_KEY, APP_SCOPE);
+    resource.getMetadata().setAnnotations(annotations);
+    return resource;
+  }
+
+  public void start() throws IOException {
+    before();
+  }
+
+  public void stop() {
+    after();
+  }
+
+  /**
+   * Submit a job of the parallel sample application fused into the requested number of PEs. The PE
+   * operators are spread over the requested number of parallel regions of the application, the
+   * others have a width of 1.
+   *
+   * @param name the name of the job
+   * @param pes the number of PEs
+   * @param regions the number of parallel regions to widen, between 1 and 3
+   * @return the time, in nanoseconds, until the pods of all the PEs are created
+   */
+  public long submitJob(String name, int pes, int regions) {
+    var width = Math.max(1, (pes + regions - 1) / regions);
+    var props = new Properties();
+    for (int i = 1; i <= 3; i += 1) {
+      props.put("width" + i, String.valueOf(i <= regions ? width : 1));
+    }
+    var job = JobUtils.makeJob(name, JobUtils.parallelSab, pes, props);
+    var start = System.nanoTime();
+    getJobClient().createOrReplace(job);
+    waitUntil(
+        "pods of " + name,
+        () ->
+            getJobStore()
+                    .getJobWithName(name)
+                    .filter(j -> j.getSpec().getGenerationId() != null)
+                    .map(j -> getPodStore().countPodsWithJob(j))
+                    .orElse(0L)
+                >= pes);
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * Connect the given number of exports and imports of a job through the broker. The exports are
+   * created on PE 0 of the job and the imports on PE 1.
+   *
+   * @param name the name of the job
+   * @param count the number of export and import pairs
+   * @return the time, in nanoseconds, the broker spent matching the exports and the imports
+   */
+  public long connect(String name, int count) {
+    if (count == 0) {
+      return 0;
+    }
+    var matchTime = getBrokerMatchSeconds();
+    for (int i = 0; i < count; i += 1) {
+      var port = BigInteger.valueOf(i);
+      var exp = ExportUtils.makeNamedExport("Export", "Stream" + i, name, BigInteger.ZERO, port);
+      var imp =
+          ImportUtils.makeNamedImport(APP_NAME, "Import", "Stream" + i, name, BigInteger.ONE, port);
+      getExportClient().create(annotate(exp));
+      getImportClient().create(annotate(imp));
+    }
+    waitUntil(
+        "subscriptions of " + name,
+        () ->
+            Optional.ofNullable(getSubscriptionBoard().get(name + "-1"))
+                    .map(s -> s.getImports().size())
+                    .orElse(0)
+                >= count);
+    return (long) ((getBrokerMatchSeconds() - matchTime) * 1e9);
+  }
+
+  /** @return the heap used after a garbage collection, in bytes */
+  public long getUsedHeap() {
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
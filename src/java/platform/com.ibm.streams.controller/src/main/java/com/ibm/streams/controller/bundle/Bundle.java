@@ -22,14 +22,35 @@ public class Bundle {
 
   @Getter private final String name;
   @Getter private final byte[] content;
+  /*
+   * The version identifies the content of the bundle at its source: an HTTP validator, the size
+   * and modification time of a file, or a digest of the content. Bundles without a version cannot
+   * be cached. An unchanged bundle is still at the version the caller already had, and was not
+   * downloaded again.
+   */
+  @Getter private final String version;
+  @Getter private final boolean unchanged;
 
   Bundle(String name) {
-    this.name = name;
-    this.content = null;
+    this(name, null, null, false);
   }
 
   Bundle(String name, byte[] content) {
+    this(name, content, null, false);
+  }
+
+  Bundle(String name, byte[] content, String version) {
+    this(name, content, version, false);
+  }
+
+  private Bundle(String name, byte[] content, String version, boolean unchanged) {
     this.name = name;
     this.content = content;
+    this.version = version;
+    this.unchanged = unchanged;
+  }
+
+  static Bundle unchanged(String name, String version) {
+    return new Bundle(name, null, version, true);
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.bundle;
+
+import com.ibm.streams.controller.crds.jobs.BundleSpec;
+import io.prometheus.client.Counter;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.var;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Size-bounded LRU cache of the ADLs extracted from bundles.
+ *
+ * Entries are keyed by the source of the bundle, which is known before the bundle is loaded, and
+ * hold the version of the bundle their ADL was extracted from. The loader is given that version
+ * so that it can skip the download of an unchanged bundle, and an ADL is only served if the
+ * bundle is still at that version. The weight of an entry is the length of its ADL. Bundles
+ * without a version are never cached. The hits, misses and evictions of each cache are exported
+ * as Prometheus counters labeled with the name of the cache.
+ */
+public class BundleCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BundleCache.class);
+
+  private static class Entry {
+    private final String version;
+    private final String adl;
+
+    Entry(String version, String adl) {
+      this.version = version;
+      this.adl = adl;
+    }
+  }
+
+  private final long capacity;
+  private final LinkedHashMap<String, Entry> entries;
+  private long weight;
+
+  @Getter private final Counter.Child hits;
+  @Getter private final Counter.Child misses;
+  @Getter private final Counter.Child evictions;
+
+  public BundleCache(String name, long capacity) {
+    this.capacity = capacity;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.weight = 0;
+    this.hits = BundleCacheMetrics.HITS.labels(name);
+    this.misses = BundleCacheMetrics.MISSES.labels(name);
+    this.evictions = BundleCacheMetrics.EVICTIONS.labels(name);
+  }
+
+  /*
+   * The key of a bundle is its namespace, its name, and where it is loaded from.
+   */
+  public static String keyOf(String namespace, BundleSpec spec) {
+    var key = namespace + "/" + spec.getName() + "@";
+    if (spec.getFile() != null) {
+      return key + "file:" + spec.getFile().getPath();
+    }
+    if (spec.getGithub() != null) {
+      return key + "github:" + spec.getGithub().getUrl();
+    }
+    if (spec.getHttp() != null) {
+      return key + "http:" + spec.getHttp().getUrl();
+    }
+    return key + "redis";
+  }
+
+  private synchronized Optional<Entry> lookup(String key) {
+    return Optional.ofNullable(entries.get(key));
+  }
+
+  private synchronized void insert(String key, Entry entry) {
+    if (entry.adl.length() > capacity) {
+      return;
+    }
+    var prior = entries.put(key, entry);
+    weight += entry.adl.length() - (prior != null ? prior.adl.length() : 0);
+    /*
+     * Evict the least recently used entries until we fit.
+     */
+    var it = entries.entrySet().iterator();
+    while (weight > capacity && it.hasNext()) {
+      var evicted = it.next();
+      it.remove();
+      weight -= evicted.getValue().adl.length();
+      evictions.inc();
+      LOGGER.debug("Evicted bundle {}", evicted.getKey());
+    }
+  }
+
+  /*
+   * Get the ADL of the bundle with the given key. The loader is called with the version of the
+   * cached ADL, or null, and the ADL is extracted from the bundle it returns unless that bundle is
+   * at the cached version. Concurrent misses on the same bundle may each extract it; extraction
+   * is deterministic, so the last one in wins.
+   */
+  public Optional<String> getADL(
+      String key,
+      Function<String, Optional<Bundle>> loader,
+      Function<Bundle, Optional<String>> extractor) {
+    var cached = lookup(key);
+    var bundle = loader.apply(cached.map(e -> e.version).orElse(null));
+    if (!bundle.isPresent()) {
+      return Optional.empty();
+    }
+    var version = bundle.get().getVersion();
+    if (cached.isPresent() && version != null && version.equals(cached.get().version)) {
+      hits.inc();
+      LOGGER.debug("Bundle {} hit at version {}", key, version);
+      return Optional.of(cached.get().adl);
+    }
+    misses.inc();
+    var adl = extractor.apply(bundle.get());
+    if (version != null) {
+      adl.ifPresent(v -> insert(key, new Entry(version, v)));
+    }
+    return adl;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+}
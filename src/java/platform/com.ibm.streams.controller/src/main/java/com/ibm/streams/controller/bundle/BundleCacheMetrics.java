@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.bundle;
+
+import io.prometheus.client.Counter;
+
+/*
+ * The collectors are labeled with the name of the cache. Each cache resolves its children when it
+ * is created, so that its counters are exported before its first lookup.
+ */
+final class BundleCacheMetrics {
+
+  static final Counter HITS =
+      Counter.build()
+          .name("streams_bundle_cache_hits_total")
+          .labelNames("cache")
+          .help("number of ADLs served from the bundle cache")
+          .register();
+
+  static final Counter MISSES =
+      Counter.build()
+          .name("streams_bundle_cache_misses_total")
+          .labelNames("cache")
+          .help("number of ADLs extracted from a bundle on a cache miss")
+          .register();
+
+  static final Counter EVICTIONS =
+      Counter.build()
+          .name("streams_bundle_cache_evictions_total")
+          .labelNames("cache")
+          .help("number of ADLs evicted from the bundle cache")
+          .register();
+
+  private BundleCacheMetrics() {}
+}
@@ -18,9 +18,9 @@
 package com.ibm.streams.controller.bundle;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
@@ -35,7 +35,8 @@ import javax.net.ssl.X509TrustManager;
 import lombok.var;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
-import okio.Okio;
+import okhttp3.Response;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,9 +46,15 @@ import redis.clients.jedis.exceptions.JedisConnectionException;
 public class BundleUtils {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BundleUtils.class);
+  private static final String ETAG = "etag:";
+  private static final String LAST_MODIFIED = "modified:";
 
-  public static Optional<byte[]> loadBundleFromRedis(String name, String ns) {
-    Optional<byte[]> result = Optional.empty();
+  /*
+   * The repository keeps no metadata about its bundles, so the version of a bundle loaded from it
+   * is the digest of its content.
+   */
+  public static Optional<Bundle> loadBundleFromRedis(String name, String ns) {
+    Optional<Bundle> result = Optional.empty();
     var host = "streams-api." + ns;
     /*
      * Try to fetch the SAB from redis. Retries for 30 seconds.
@@ -63,7 +70,8 @@ public class BundleUtils {
         /*
          * Get the SAB data.
          */
-        result = Optional.of(jedis.hget("apps".getBytes(), name.getBytes()));
+        var content = jedis.hget("apps".getBytes(), name.getBytes());
+        result = Optional.of(new Bundle(name, content, digestOf(content)));
         break;
       } catch (JedisConnectionException e) {
         LOGGER.error("Jedis connection exception: {}", e.getMessage());
@@ -79,6 +87,10 @@ public class BundleUtils {
     return result;
   }
 
+  private static String digestOf(byte[] content) {
+    return "sha256:" + DigestUtils.sha256Hex(content);
+  }
+
   private static boolean isBundleInRedis(String name, String ns) {
     var host = "streams-api." + ns;
     /*
@@ -119,24 +131,61 @@ public class BundleUtils {
     }
   }
 
-  private static Optional<byte[]> loadBundleFromRequestWithClient(
-      Request request, OkHttpClient client) {
-    Optional<byte[]> result = Optional.empty();
+  /*
+   * Only skip the download if the repository still has the bundle, since the PEs load it from
+   * there.
+   */
+  private static String versionInRedis(String name, String version, String ns) {
+    return version != null && isBundleInRedis(name, ns) ? version : null;
+  }
+
+  /*
+   * The version of a bundle loaded over HTTP is its entity tag or, failing that, its modification
+   * date, so that it can be revalidated with a conditional request. Otherwise it is the digest of
+   * its content.
+   */
+  private static String versionOf(Response response, byte[] content) {
+    var etag = response.header("ETag");
+    if (etag != null) {
+      return ETAG + etag;
+    }
+    var modified = response.header("Last-Modified");
+    if (modified != null) {
+      return LAST_MODIFIED + modified;
+    }
+    return digestOf(content);
+  }
+
+  private static Request conditional(Request request, String version) {
+    if (version != null && version.startsWith(ETAG)) {
+      return request.newBuilder().header("If-None-Match", version.substring(ETAG.length())).build();
+    }
+    if (version != null && version.startsWith(LAST_MODIFIED)) {
+      return request
+          .newBuilder()
+          .header("If-Modified-Since", version.substring(LAST_MODIFIED.length()))
+          .build();
+    }
+    return request;
+  }
+
+  private static Optional<Bundle> loadBundleFromRequestWithClient(
+      String name, Request request, String version, OkHttpClient client) {
+    Optional<Bundle> result = Optional.empty();
     /*
-     * Try to fetch the bundle.
+     * Try to fetch the bundle, unless it is still at the version we have.
      */
-    try {
-      var response = client.newCall(request).execute();
-      /*
-       * Load the bundle.
-       */
-      if (response.isSuccessful() && response.body() != null) {
-        var outputStream = new ByteArrayOutputStream();
-        var sink = Okio.buffer(Okio.sink(outputStream));
-        sink.writeAll(response.body().source());
-        sink.close();
-        var bytes = outputStream.toByteArray();
-        result = Optional.of(bytes);
+    try (var response = client.newCall(conditional(request, version)).execute()) {
+      if (response.code() == HttpURLConnection.HTTP_NOT_MODIFIED && version != null) {
+        LOGGER.debug("Bundle {} not modified at {}", name, request.url());
+        result = Optional.of(Bundle.unchanged(name, version));
+      } else if (response.isSuccessful() && response.body() != null) {
+        /*
+         * Read the body straight into its final array rather than through an intermediate
+         * buffer.
+         */
+        var content = response.body().bytes();
+        result = Optional.of(new Bundle(name, content, versionOf(response, content)));
       } else {
         LOGGER.error("GET {} failed ({})", request.url(), response.code());
       }
@@ -150,12 +199,14 @@ public class BundleUtils {
     return result;
   }
 
-  private static Optional<byte[]> loadBundleFromRequest(Request request) {
+  private static Optional<Bundle> loadBundleFromRequest(
+      String name, Request request, String version) {
     var client = new OkHttpClient().newBuilder().build();
-    return loadBundleFromRequestWithClient(request, client);
+    return loadBundleFromRequestWithClient(name, request, version, client);
   }
 
-  private static Optional<byte[]> loadBundleFromRequest(Request request, String alias, String ca) {
+  private static Optional<Bundle> loadBundleFromRequest(
+      String name, Request request, String version, String alias, String ca) {
     X509Certificate certificate;
     KeyStore keyStore;
     TrustManagerFactory tmFactory;
@@ -214,11 +265,11 @@ public class BundleUtils {
     /*
      * Execute the request.
      */
-    return loadBundleFromRequestWithClient(request, client);
+    return loadBundleFromRequestWithClient(name, request, version, client);
   }
 
-  public static Optional<byte[]> loadBundleFromFile(
-      String name, String path, EBundlePullPolicy pullPolicy, String ns) {
+  public static Optional<Bundle> loadBundleFromFile(
+      String name, String path, EBundlePullPolicy pullPolicy, String version, String ns) {
     /*
      * Evaluate the pull policy.
      */
@@ -229,12 +280,21 @@ public class BundleUtils {
     /*
      * Read the file
      */
-    Optional<byte[]> result = Optional.empty();
+    Optional<Bundle> result = Optional.empty();
     var file = new File(path);
     if (file.exists()) {
+      /*
+       * The version of a file is its size and modification time, which we check before reading
+       * it.
+       */
+      var current = "file:" + file.length() + ":" + file.lastModified();
+      if (file.isFile() && current.equals(version) && isBundleInRedis(name, ns)) {
+        LOGGER.debug("Bundle {} not modified at {}", name, path);
+        return Optional.of(Bundle.unchanged(name, version));
+      }
       if (file.isFile()) {
         try {
-          result = Optional.of(FileUtils.readFileToByteArray(file));
+          result = Optional.of(new Bundle(name, FileUtils.readFileToByteArray(file), current));
         } catch (IOException ignored) {
           LOGGER.error("Failed to read SAB at path {}", path);
         }
@@ -248,15 +308,15 @@ public class BundleUtils {
      * Return the result.
      */
     result.ifPresent(
-        v -> {
+        b -> {
           LOGGER.info("Bundle {} successfully loaded from {}", name, path);
-          storeBundleToRedis(name, v, ns);
+          storeBundleToRedis(name, b.getContent(), ns);
         });
     return result;
   }
 
-  public static Optional<byte[]> loadBundleFromGithub(
-      String name, String url, EBundlePullPolicy pullPolicy, String ns) {
+  public static Optional<Bundle> loadBundleFromGithub(
+      String name, String url, EBundlePullPolicy pullPolicy, String version, String ns) {
     /*
      * Evaluate the pull policy.
      */
@@ -269,17 +329,24 @@ public class BundleUtils {
      */
     var request =
         new Request.Builder().url(url).addHeader("Accept", "application/vnd.github.v3.raw").build();
-    var result = loadBundleFromRequest(request);
-    result.ifPresent(
-        v -> {
-          LOGGER.info("Bundle {} successfully loaded from {}", name, url);
-          storeBundleToRedis(name, v, ns);
-        });
+    var result = loadBundleFromRequest(name, request, versionInRedis(name, version, ns));
+    result
+        .filter(b -> !b.isUnchanged())
+        .ifPresent(
+            b -> {
+              LOGGER.info("Bundle {} successfully loaded from {}", name, url);
+              storeBundleToRedis(name, b.getContent(), ns);
+            });
     return result;
   }
 
-  public static Optional<byte[]> loadBundleFromGithub(
-      String name, String url, String secret, EBundlePullPolicy pullPolicy, String ns) {
+  public static Optional<Bundle> loadBundleFromGithub(
+      String name,
+      String url,
+      String secret,
+      EBundlePullPolicy pullPolicy,
+      String version,
+      String ns) {
     /*
      * Evaluate the pull policy.
      */
@@ -296,17 +363,19 @@ public class BundleUtils {
             .addHeader("Authorization", "token " + secret)
             .addHeader("Accept", "application/vnd.github.v3.raw")
             .build();
-    var result = loadBundleFromRequest(request);
-    result.ifPresent(
-        v -> {
-          LOGGER.info("Bundle {} successfully loaded from {}", name, url);
-          storeBundleToRedis(name, v, ns);
-        });
+    var result = loadBundleFromRequest(name, request, versionInRedis(name, version, ns));
+    result
+        .filter(b -> !b.isUnchanged())
+        .ifPresent(
+            b -> {
+              LOGGER.info("Bundle {} successfully loaded from {}", name, url);
+              storeBundleToRedis(name, b.getContent(), ns);
+            });
     return result;
   }
 
-  public static Optional<byte[]> loadBundleFromUrl(
-      String name, String url, EBundlePullPolicy pullPolicy, String ns) {
+  public static Optional<Bundle> loadBundleFromUrl(
+      String name, String url, EBundlePullPolicy pullPolicy, String version, String ns) {
     /*
      * Evaluate the pull policy.
      */
@@ -319,17 +388,25 @@ public class BundleUtils {
      */
     var request =
         new Request.Builder().url(url).addHeader("Accept", "application/octet-stream").build();
-    var result = loadBundleFromRequest(request);
-    result.ifPresent(
-        v -> {
-          LOGGER.info("Bundle {} successfully loaded from {}", name, url);
-          storeBundleToRedis(name, v, ns);
-        });
+    var result = loadBundleFromRequest(name, request, versionInRedis(name, version, ns));
+    result
+        .filter(b -> !b.isUnchanged())
+        .ifPresent(
+            b -> {
+              LOGGER.info("Bundle {} successfully loaded from {}", name, url);
+              storeBundleToRedis(name, b.getContent(), ns);
+            });
     return result;
   }
 
-  public static Optional<byte[]> loadBundleFromUrl(
-      String name, String url, String alias, String ca, EBundlePullPolicy pullPolicy, String ns) {
+  public static Optional<Bundle> loadBundleFromUrl(
+      String name,
+      String url,
+      String alias,
+      String ca,
+      EBundlePullPolicy pullPolicy,
+      String version,
+      String ns) {
     /*
      * Evaluate the pull policy.
      */
@@ -342,12 +419,14 @@ public class BundleUtils {
      */
     var request =
         new Request.Builder().url(url).addHeader("Accept", "application/octet-stream").build();
-    var result = loadBundleFromRequest(request, alias, ca);
-    result.ifPresent(
-        v -> {
-          LOGGER.info("Bundle {} successfully loaded from {}", name, url);
-          storeBundleToRedis(name, v, ns);
-        });
+    var result = loadBundleFromRequest(name, request, versionInRedis(name, version, ns), alias, ca);
+    result
+        .filter(b -> !b.isUnchanged())
+        .ifPresent(
+            b -> {
+              LOGGER.info("Bundle {} successfully loaded from {}", name, url);
+              storeBundleToRedis(name, b.getContent(), ns);
+            });
     return result;
   }
 }
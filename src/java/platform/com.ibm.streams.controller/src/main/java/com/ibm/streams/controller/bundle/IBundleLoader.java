@@ -22,4 +22,12 @@ import java.util.Optional;
 public interface IBundleLoader {
 
   Optional<Bundle> load(BundleSpec bundleSpec, String namespace);
+
+  /*
+   * Load a bundle unless its source is still at the given version, in which case the bundle is
+   * returned unchanged and without content. Loaders that cannot tell always load the bundle.
+   */
+  default Optional<Bundle> load(BundleSpec bundleSpec, String namespace, String version) {
+    return load(bundleSpec, namespace);
+  }
 }
@@ -34,15 +34,15 @@ public class KubernetesBundleLoader implements IBundleLoader {
     this.client = client;
   }
 
-  private Optional<byte[]> loadFileSource(BundleSpec spec, String namespace) {
+  private Optional<Bundle> loadFileSource(BundleSpec spec, String version, String namespace) {
     return BundleUtils.loadBundleFromFile(
-        spec.getName(), spec.getFile().getPath(), spec.getPullPolicy(), namespace);
+        spec.getName(), spec.getFile().getPath(), spec.getPullPolicy(), version, namespace);
   }
 
-  private Optional<byte[]> loadGithubSource(BundleSpec spec, String namespace) {
+  private Optional<Bundle> loadGithubSource(BundleSpec spec, String version, String namespace) {
     if (spec.getGithub().getSecret() == null) {
       return BundleUtils.loadBundleFromGithub(
-          spec.getName(), spec.getGithub().getUrl(), spec.getPullPolicy(), namespace);
+          spec.getName(), spec.getGithub().getUrl(), spec.getPullPolicy(), version, namespace);
     }
     /*
      * Fetch the GitHub secret.
@@ -62,17 +62,17 @@ public class KubernetesBundleLoader implements IBundleLoader {
     var token64 = secret.getData().get("token");
     var token = new String(Base64.getDecoder().decode(token64));
     return BundleUtils.loadBundleFromGithub(
-        spec.getName(), spec.getGithub().getUrl(), token, spec.getPullPolicy(), namespace);
+        spec.getName(), spec.getGithub().getUrl(), token, spec.getPullPolicy(), version, namespace);
   }
 
-  private Optional<byte[]> loadHttpSource(BundleSpec spec, String namespace) {
+  private Optional<Bundle> loadHttpSource(BundleSpec spec, String version, String namespace) {
     var http = spec.getHttp();
     /*
      * If there is no certificate authority defined, just load the bundle.
      */
     if (http.getCertificationAuthority() == null) {
       return BundleUtils.loadBundleFromUrl(
-          spec.getName(), http.getUrl(), spec.getPullPolicy(), namespace);
+          spec.getName(), http.getUrl(), spec.getPullPolicy(), version, namespace);
     }
     /*
      * Fetch the config map with the certification authority.
@@ -102,12 +102,17 @@ public class KubernetesBundleLoader implements IBundleLoader {
      */
     var content = cm.getData().get(subPath);
     return BundleUtils.loadBundleFromUrl(
-        spec.getName(), http.getUrl(), subPath, content, spec.getPullPolicy(), namespace);
+        spec.getName(), http.getUrl(), subPath, content, spec.getPullPolicy(), version, namespace);
   }
 
   @Override
   public Optional<Bundle> load(BundleSpec spec, String namespace) {
-    Optional<byte[]> result = Optional.empty();
+    return load(spec, namespace, null);
+  }
+
+  @Override
+  public Optional<Bundle> load(BundleSpec spec, String namespace, String version) {
+    Optional<Bundle> result = Optional.empty();
     /*
      * Get the content direcly from Redis or from GitHub.
      */
@@ -116,15 +121,12 @@ public class KubernetesBundleLoader implements IBundleLoader {
     } else if (spec.getFile() == null && spec.getGithub() == null && spec.getHttp() == null) {
       result = BundleUtils.loadBundleFromRedis(spec.getName(), namespace);
     } else if (spec.getFile() != null) {
-      result = loadFileSource(spec, namespace);
+      result = loadFileSource(spec, version, namespace);
     } else if (spec.getGithub() != null) {
-      result = loadGithubSource(spec, namespace);
+      result = loadGithubSource(spec, version, namespace);
     } else {
-      result = loadHttpSource(spec, namespace);
+      result = loadHttpSource(spec, version, namespace);
     }
-    /*
-     * Invalid bundle.
-     */
-    return result.map(c -> new Bundle(spec.getName(), c));
+    return result;
   }
 }
@@ -47,41 +47,65 @@ import java.math.BigInteger;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
-import java.net.SocketException;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.var;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class ConsistentRegionStateMachine implements Runnable {
   private static final Logger logger = LoggerFactory.getLogger(ConsistentRegionStateMachine.class);
 
+  private static final int MAX_BATCH_SIZE =
+      Optional.ofNullable(System.getenv("STREAMS_CR_MAX_BATCH_SIZE"))
+          .map(Integer::parseInt)
+          .orElse(1024);
+  private static final long FLUSH_LATENCY_MS =
+      Optional.ofNullable(System.getenv("STREAMS_CR_FLUSH_LATENCY_MS"))
+          .map(Long::parseLong)
+          .orElse(100L);
+
   private final ConsistentRegionController crController;
-  private final AtomicBoolean fsmSignal;
-  private final AtomicBoolean waitOnModification;
+  private final Integer regionIndex;
   private final ConsistentRegionNotificationBoard crNotificationBoard;
-  private final ConcurrentLinkedDeque<Notification> notificationQueue;
+  private final ConcurrentLinkedQueue<Notification> notificationQueue;
   private final String jobName;
   private final String jobId;
   private final ConsistentRegionStore crStore;
   private final ConsistentRegionFactory crFactory;
   private final PodStore podStore;
   private final ProcessingElementStore peStore;
+  private final Executor executor;
+  private final ScheduledExecutorService scheduler;
+  /*
+   * The timeouts are scheduled by the state machine, on the executor, and cancelled on
+   * termination, from the controller. The list is guarded by its own lock.
+   */
+  private final List<ScheduledFuture<?>> timers;
   private ConsistentRegion curCR;
   private ConsistentRegionSpec spec;
+  private Map<EPeStatus, Integer> completionCounts;
   private volatile boolean terminated;
-  private Timer[] timers;
-  private DatagramSocket socket;
+  private boolean enabled;
+  private boolean scheduled;
+  private boolean waitOnModification;
+  private final DatagramSocket socket;
   private Map<Integer, ConsistentRegionNotification> pendingNotifications;
   private String ns;
 
   public ConsistentRegionStateMachine(
       ConsistentRegionController crController,
-      AtomicBoolean fsmSignal,
-      AtomicBoolean waitOnModification,
+      Integer regionIndex,
       String jobName,
       String jobId,
       ConsistentRegionStore crStore,
@@ -89,12 +113,12 @@ public class ConsistentRegionStateMachine implements Runnable {
       ProcessingElementStore peStore,
       PodStore podStore,
       ConsistentRegionNotificationBoard crNotificationBoard,
-      ConcurrentLinkedDeque<Notification> notificationQueue,
-      Integer numRegions,
+      Executor executor,
+      ScheduledExecutorService scheduler,
+      DatagramSocket socket,
       String ns) {
     this.crController = crController;
-    this.fsmSignal = fsmSignal;
-    this.waitOnModification = waitOnModification;
+    this.regionIndex = regionIndex;
     this.jobName = jobName;
     this.jobId = jobId;
     this.crStore = crStore;
@@ -102,79 +126,143 @@ public class ConsistentRegionStateMachine implements Runnable {
     this.peStore = peStore;
     this.podStore = podStore;
     this.crNotificationBoard = crNotificationBoard;
-    this.notificationQueue = notificationQueue;
+    this.notificationQueue = new ConcurrentLinkedQueue<>();
+    this.executor = executor;
+    this.scheduler = scheduler;
+    this.socket = socket;
+    this.timers = new LinkedList<>();
     this.terminated = false;
+    this.enabled = false;
+    this.scheduled = false;
+    this.waitOnModification = true;
     this.ns = ns;
-    /*
-     * Create the one timer per region.
-     */
-    this.timers = new Timer[numRegions];
-
-    for (Integer i = 0; i < numRegions; i++) {
-      timers[i] = new Timer();
-    }
 
     /*
      * pendingNotifications is used to store notification awaiting update of CRCRD
      */
-    pendingNotifications = new HashMap<>();
+    pendingNotifications = new ConcurrentHashMap<>();
+  }
 
-    /*
-     * Create the notification socket.
-     */
+  /*
+   * The state machine of each region is an actor: it is run on the shared executor when it has
+   * notifications to process and is not waiting for the modification of its consistent region,
+   * and never runs concurrently with itself.
+   */
+  private synchronized void schedule() {
+    if (terminated || !enabled || scheduled || waitOnModification || notificationQueue.isEmpty()) {
+      return;
+    }
+    scheduled = true;
     try {
-      this.socket = new DatagramSocket();
-    } catch (SocketException ex) {
-      logger.error("Cannot create a UDP socket, subscription notifications will be disabled.");
-      this.socket = null;
+      executor.execute(this);
+    } catch (RejectedExecutionException e) {
+      /*
+       * The controller is closing and has shut the executor down.
+       */
+      scheduled = false;
+      logger.debug("Executor shut down, notifications of region " + regionIndex + " dropped");
     }
   }
 
-  public void run() {
-    while (!terminated) {
-      Notification n;
-      synchronized (fsmSignal) {
-        if (fsmSignal.get()) {
-          if (notificationQueue.isEmpty()) {
-            fsmSignal.set(false);
-          }
-        }
-        while (!fsmSignal.get()) {
-          try {
-            fsmSignal.wait();
-          } catch (InterruptedException e) {
-            e.printStackTrace();
-          }
-        }
-      }
-      n = notificationQueue.poll();
+  public void addNotification(Notification n) {
+    notificationQueue.add(n);
+    schedule();
+  }
+
+  /*
+   * Start processing notifications once the consistent regions of the job have been added.
+   */
+  public void enable() {
+    synchronized (this) {
+      enabled = true;
+      waitOnModification = false;
+    }
+    schedule();
+  }
+
+  public void onModification(ConsistentRegionSpec spec) {
+    sendPendingNotification(spec);
+    synchronized (this) {
+      waitOnModification = false;
+    }
+    schedule();
+  }
 
+  public void run() {
+    try {
+      Notification n = notificationQueue.poll();
       if (n != null) {
-        Integer regionIndex = n.getRegionIndex();
         crStore
             .getWithJobNameAndRegionId(jobName, regionIndex)
             .ifPresent(
                 cr -> {
                   curCR = cr;
                   spec = null;
-                  handleNotification(n);
+                  countCompletions(cr.getSpec());
+                  handleBatch(n);
                   // set signal
                   if (spec != null) {
-                    synchronized (fsmSignal) {
-                      waitOnModification.set(true);
-                      fsmSignal.set(false);
+                    synchronized (this) {
+                      waitOnModification = true;
                     }
                     crFactory.addConsistentRegion(cr, spec);
                   }
                 });
-      } else {
+      }
+    } finally {
+      synchronized (this) {
+        scheduled = false;
+      }
+      schedule();
+    }
+  }
+
+  /*
+   * Apply all the queued notifications of the region to the same in-memory spec so that it is
+   * persisted once per batch instead of once per notification. The batch is cut short when a
+   * notification must be sent to the PEs, as it is only sent once its spec is persisted, or when
+   * the flush latency expires.
+   */
+  private void handleBatch(Notification first) {
+    long deadline = System.currentTimeMillis() + FLUSH_LATENCY_MS;
+    int count = 0;
+    Notification n = first;
+    while (n != null) {
+      handleNotification(n);
+      count += 1;
+      if (pendingNotifications.containsKey(regionIndex)
+          || count >= MAX_BATCH_SIZE
+          || System.currentTimeMillis() >= deadline) {
         break;
       }
+      n = notificationQueue.poll();
+    }
+    if (count > 1) {
+      logger.debug("Coalesced " + count + " notifications for region " + regionIndex);
     }
   }
 
+  /*
+   * Get the spec to update in the current batch, copying the stored one on first use. Later
+   * notifications of the batch see the updated spec through curCR.
+   */
+  private ConsistentRegionSpec editSpec() {
+    if (spec == null) {
+      spec = new ConsistentRegionSpec(curCR.getSpec());
+      var cr = new ConsistentRegion();
+      cr.setMetadata(curCR.getMetadata());
+      cr.setSpec(spec);
+      curCR = cr;
+    }
+    return spec;
+  }
+
   public void terminate() {
-    terminated = true;
+    synchronized (timers) {
+      terminated = true;
+      timers.forEach(t -> t.cancel(false));
+      timers.clear();
+    }
   }
 
   private void handleNotification(Notification notification) {
@@ -193,7 +281,7 @@ public class ConsistentRegionStateMachine implements Runnable {
           return;
         }
         if (regionInfo.isRegionHealthy() != curCR.getSpec().isRegionHealthy()) {
-          spec = new ConsistentRegionSpec(curCR.getSpec());
+          editSpec();
           spec.setRegionHealthy(regionInfo.isRegionHealthy());
           spec.setCleanStart(regionInfo.isCleanStart());
           handleHealthNotification(regionInfo.isRegionHealthy());
@@ -291,7 +379,7 @@ public class ConsistentRegionStateMachine implements Runnable {
                   + " is unhealthy. Waiting for region to become "
                   + "healthy.");
           spec.setState(EConsistentRegionState.UNHEALTHY);
-          clearTimerNotifications(curCR.getSpec().getRegionIndex());
+          clearTimerNotifications();
           break;
       }
     }
@@ -300,15 +388,15 @@ public class ConsistentRegionStateMachine implements Runnable {
   private void handleProgressNotification(Progress progress) {
     switch (progress.getProgressType()) {
       case CheckpointDone:
-        spec = new ConsistentRegionSpec(curCR.getSpec());
+        editSpec();
         handleCheckpointDone(progress);
         break;
       case BlockingCheckpointDone:
-        spec = new ConsistentRegionSpec(curCR.getSpec());
+        editSpec();
         handleBlockingCheckpointDone(progress);
         break;
       case ResetDone:
-        spec = new ConsistentRegionSpec(curCR.getSpec());
+        editSpec();
         handleResetDone(progress);
         break;
       case Drain:
@@ -326,7 +414,7 @@ public class ConsistentRegionStateMachine implements Runnable {
         logger.trace(
             "Timeout expired for region " + curCR.getSpec().getRegionIndex() + " Drain event");
         if (curCR.getSpec().getState() != EConsistentRegionState.UNHEALTHY) {
-          spec = new ConsistentRegionSpec(curCR.getSpec());
+          editSpec();
           resetConsistentRegion();
         }
         break;
@@ -334,7 +422,7 @@ public class ConsistentRegionStateMachine implements Runnable {
         logger.trace(
             "Timeout expired for region " + curCR.getSpec().getRegionIndex() + " Reset event");
         if (curCR.getSpec().getState() != EConsistentRegionState.UNHEALTHY) {
-          spec = new ConsistentRegionSpec(curCR.getSpec());
+          editSpec();
           resetConsistentRegion();
         }
         break;
@@ -348,7 +436,7 @@ public class ConsistentRegionStateMachine implements Runnable {
     Integer regionIndex = spec.getRegionIndex();
     logger.info("Job " + jobName + " Resetting a consistent region " + regionIndex.toString());
     // Cancel all timers
-    clearTimerNotifications(regionIndex);
+    clearTimerNotifications();
 
     long currentResetAttempt = spec.getCurrentResetAttempt();
     long currentMaxResetAttempts = spec.getCurrentMaxResetAttempts();
@@ -356,7 +444,7 @@ public class ConsistentRegionStateMachine implements Runnable {
     logger.info("reset attemps " + currentResetAttempt + " " + currentMaxResetAttempts);
     if (currentResetAttempt == currentMaxResetAttempts) {
       spec.setState(EConsistentRegionState.MAXIMUM_RESET_ATTEMPTS_REACHED);
-      spec.resetPeToCompletion();
+      resetPeToCompletion();
       logger.error(
           "Job "
               + jobName
@@ -370,7 +458,7 @@ public class ConsistentRegionStateMachine implements Runnable {
       return;
     }
     spec.setState(EConsistentRegionState.RESETTING);
-    spec.resetPeToCompletion();
+    resetPeToCompletion();
     spec.setCurrentResetAttempt(spec.getCurrentResetAttempt() + 1);
 
     String restoreMessage = "seqId=" + lastCompletedSeqID + ";resetAttempt=" + currentResetAttempt;
@@ -442,7 +530,7 @@ public class ConsistentRegionStateMachine implements Runnable {
     }
     // Add PE to completed and remove from the set of PEs that have completed
     // only blocking checkpoint
-    peToCompletion.put(peId, EPeStatus.CheckpointDone);
+    setPeStatus(peId, EPeStatus.CheckpointDone);
 
     if (!isCheckpointComplete()) {
       if (isBlockingCheckpointComplete() && state == EConsistentRegionState.DRAINING) {
@@ -451,47 +539,48 @@ public class ConsistentRegionStateMachine implements Runnable {
       return;
     }
 
-    spec.resetPeToCompletion();
+    resetPeToCompletion();
     finishCheckpoint();
   }
 
-  private boolean isCheckpointComplete() {
-    long numCompletedPEs =
-        spec.getPeToCompletion().values().stream()
-            .filter(v -> v.equals(EPeStatus.CheckpointDone))
-            .count();
+  /*
+   * The completion status of the PEs are counted once per batch and then kept up to date, so that
+   * the completion checks do not rescan the PEs of the region upon each notification.
+   */
+  private void countCompletions(ConsistentRegionSpec spec) {
+    completionCounts = new EnumMap<>(EPeStatus.class);
+    for (EPeStatus status : EPeStatus.values()) {
+      completionCounts.put(status, 0);
+    }
+    spec.getPeToCompletion().values().forEach(v -> completionCounts.merge(v, 1, Integer::sum));
+  }
 
-    if (numCompletedPEs == spec.getPesInRegion().size()) {
-      return true;
+  private void setPeStatus(BigInteger peId, EPeStatus status) {
+    EPeStatus previous = spec.getPeToCompletion().put(peId, status);
+    if (previous != null) {
+      completionCounts.merge(previous, -1, Integer::sum);
     }
-    return false;
+    completionCounts.merge(status, 1, Integer::sum);
   }
 
-  private boolean isResetComplete() {
-    long numCompletedPEs =
-        spec.getPeToCompletion().values().stream()
-            .filter(v -> v.equals(EPeStatus.ResetDone))
-            .count();
+  private void resetPeToCompletion() {
+    spec.resetPeToCompletion();
+    countCompletions(spec);
+  }
 
-    if (numCompletedPEs == spec.getPesInRegion().size()) {
-      return true;
-    }
-    return false;
+  private boolean isCheckpointComplete() {
+    return completionCounts.get(EPeStatus.CheckpointDone) == spec.getPesInRegion().size();
   }
 
-  private boolean isBlockingCheckpointComplete() {
-    long numCompletedPEs =
-        spec.getPeToCompletion().values().stream()
-            .filter(
-                v ->
-                    v.equals(EPeStatus.CheckpointDone)
-                        || v.equals(EPeStatus.BlockingCheckpointDone))
-            .count();
+  private boolean isResetComplete() {
+    return completionCounts.get(EPeStatus.ResetDone) == spec.getPesInRegion().size();
+  }
 
-    if (numCompletedPEs == spec.getPesInRegion().size()) {
-      return true;
-    }
-    return false;
+  private boolean isBlockingCheckpointComplete() {
+    int numCompletedPEs =
+        completionCounts.get(EPeStatus.CheckpointDone)
+            + completionCounts.get(EPeStatus.BlockingCheckpointDone);
+    return numCompletedPEs == spec.getPesInRegion().size();
   }
 
   private void finishBlockingCheckpoint(long sequenceId) {
@@ -527,7 +616,7 @@ public class ConsistentRegionStateMachine implements Runnable {
     }
 
     spec.setState(EConsistentRegionState.PROCESSING);
-    clearTimerNotifications(spec.getRegionIndex());
+    clearTimerNotifications();
 
     spec.setPendingSeqID(spec.getCurrentSeqID());
     if (spec.getTrigger().equals("periodic")) {
@@ -542,7 +631,8 @@ public class ConsistentRegionStateMachine implements Runnable {
     final long now = System.currentTimeMillis();
     spec.setLastCompletedDrain(spec.getLastCompletedSeqID());
     spec.setLastConsistentStateTime(now);
-    spec.getAvgDrainTime().addSample(now - spec.getDrainStartTimestamp());
+    spec.setLastDrainDurationMetric(now - spec.getDrainStartTimestamp());
+    spec.getAvgDrainTime().addSample(spec.getLastDrainDurationMetric());
     logger.debug("Updating drain avg time: " + spec.getAvgDrainTime().calcAverage());
     spec.setAvgDrainTimeMetric((long) spec.getAvgDrainTime().calcAverage());
   }
@@ -569,19 +659,19 @@ public class ConsistentRegionStateMachine implements Runnable {
       logger.error("Duplicate completion notification from PE " + peId);
       throw new IllegalStateException("Duplicate completion notification from PE " + peId);
     }
-    spec.getPeToCompletion().put(peId, EPeStatus.ResetDone);
+    setPeStatus(peId, EPeStatus.ResetDone);
 
     if (!isResetComplete()) {
       return;
     }
 
-    spec.resetPeToCompletion();
+    resetPeToCompletion();
     finishReset();
   }
 
   private void finishReset() {
     spec.setCurrentSeqID(spec.getCurrentSeqID() + 1);
-    clearTimerNotifications(spec.getRegionIndex());
+    clearTimerNotifications();
     spec.setState(EConsistentRegionState.PROCESSING);
     String resumeMessage =
         "seqId=" + spec.getCurrentSeqID() + ";retId=" + spec.getToRetireSeqID() + ";pendCkpt=0";
@@ -597,7 +687,8 @@ public class ConsistentRegionStateMachine implements Runnable {
     final long now = System.currentTimeMillis();
     spec.setLastCompletedReset(spec.getLastCompletedSeqID());
     spec.setLastResetTime(now);
-    spec.getAvgResetTime().addSample(now - spec.getResetStartTimestamp());
+    spec.setLastResetDurationMetric(now - spec.getResetStartTimestamp());
+    spec.getAvgResetTime().addSample(spec.getLastResetDurationMetric());
     logger.debug("Avg restore time: " + spec.getAvgResetTime().calcAverage());
     spec.setAvgResetTimeMetric((long) spec.getAvgResetTime().calcAverage());
   }
@@ -629,7 +720,7 @@ public class ConsistentRegionStateMachine implements Runnable {
       throw new IllegalStateException("Duplicate completion notification from PE " + peId);
     }
 
-    spec.getPeToCompletion().put(peId, EPeStatus.BlockingCheckpointDone);
+    setPeStatus(peId, EPeStatus.BlockingCheckpointDone);
 
     if (!isBlockingCheckpointComplete()) {
       return;
@@ -640,7 +731,7 @@ public class ConsistentRegionStateMachine implements Runnable {
 
   private void handleDrainPeriod() {
     if (curCR.getSpec().getState() == EConsistentRegionState.PROCESSING) {
-      spec = new ConsistentRegionSpec(curCR.getSpec());
+      editSpec();
       logger.trace("Starting drain");
       String drainMessage = "seqId=" + spec.getCurrentSeqID();
       spec.setState(EConsistentRegionState.DRAINING);
@@ -674,7 +765,7 @@ public class ConsistentRegionStateMachine implements Runnable {
     if (curCR.getSpec().getState() == EConsistentRegionState.STARTED) {
       // If the region is not yet ready to start processing DrainMarkers, mark the
       // region for a reset once it is stabilized
-      spec = new ConsistentRegionSpec(curCR.getSpec());
+      editSpec();
       spec.setMustReset(true);
       return;
     }
@@ -686,7 +777,7 @@ public class ConsistentRegionStateMachine implements Runnable {
       throw new IllegalStateException("Unexpected sequenceId started by trigger operator");
     }
 
-    spec = new ConsistentRegionSpec(curCR.getSpec());
+    editSpec();
     spec.setState(EConsistentRegionState.DRAINING);
     spec.setDrainStartTimestamp(System.currentTimeMillis());
     createTimerNotification(
@@ -700,15 +791,13 @@ public class ConsistentRegionStateMachine implements Runnable {
     logger.info("Reset of a consistent region requested:force=" + force);
 
     if (force) {
-      spec = new ConsistentRegionSpec(curCR.getSpec());
+      editSpec();
       spec.setCurrentMaxResetAttempts(
           spec.getCurrentResetAttempt() + spec.getMaxConsecutiveResetAttempts());
     }
     switch (curCR.getSpec().getState()) {
       case STARTED:
-        if (!force) {
-          spec = new ConsistentRegionSpec(curCR.getSpec());
-        }
+        editSpec();
         spec.setMustReset(true);
         break;
       case UNHEALTHY:
@@ -736,9 +825,7 @@ public class ConsistentRegionStateMachine implements Runnable {
       case CHECKPOINT_PENDING:
       case PROCESSING:
       case RESETTING:
-        if (!force) {
-          spec = new ConsistentRegionSpec(curCR.getSpec());
-        }
+        editSpec();
         resetConsistentRegion();
         break;
     }
@@ -776,13 +863,31 @@ public class ConsistentRegionStateMachine implements Runnable {
     ConsistentRegionTimerTask task =
         new ConsistentRegionTimerTask(crController, event, regionIndex, timerSeqId);
     logger.info("create timeout notification " + event + " for region " + regionIndex);
-    timers[regionIndex].schedule(task, (new Double(delay * 1000)).longValue());
+    synchronized (timers) {
+      if (terminated) {
+        return;
+      }
+      timers.removeIf(ScheduledFuture::isDone);
+      try {
+        timers.add(
+            scheduler.schedule(
+                task, (new Double(delay * 1000)).longValue(), TimeUnit.MILLISECONDS));
+      } catch (RejectedExecutionException e) {
+        logger.debug("Scheduler shut down, timeout of region " + regionIndex + " dropped");
+      }
+    }
   }
 
-  public void clearTimerNotifications(Integer regionIndex) {
+  /*
+   * Cancel the timeouts of the region. Each state machine only holds the timeouts of its own
+   * region.
+   */
+  public void clearTimerNotifications() {
     logger.info("cancel timeout notification for region " + regionIndex);
-    timers[regionIndex].cancel();
-    timers[regionIndex] = new Timer();
+    synchronized (timers) {
+      timers.forEach(t -> t.cancel(false));
+      timers.clear();
+    }
     spec.setCurrentTimerSeqId(spec.getCurrentTimerSeqId() + 1);
   }
 
@@ -29,7 +29,7 @@ import com.ibm.streams.controller.crds.pes.ProcessingElementStore;
 import com.ibm.streams.controller.crds.pes.consistent.ProcessingElementController;
 import com.ibm.streams.controller.k8s.pods.PodStore;
 import com.ibm.streams.controller.k8s.pods.crs.PodController;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import com.ibm.streams.controller.k8s.utils.ApiMetricsInterceptor;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import java.io.IOException;
@@ -98,7 +98,7 @@ public class Main {
       /*
        * Grab a new Kube client.
        */
-      final KubernetesClient client = new DefaultKubernetesClient();
+      final KubernetesClient client = ApiMetricsInterceptor.createClient();
 
       /*
        * Update the loggers.
@@ -52,6 +52,20 @@ public class ConsistentRegionOperatorMetric {
               .labelNames(label)
               .help("average reset time for consistent region")
               .register());
+      metrics.put(
+          EMetric.LAST_DRAIN_DURATION,
+          Gauge.build()
+              .name("last_drain_duration_milliseconds")
+              .labelNames(label)
+              .help("duration of the last drain of a consistent region")
+              .register());
+      metrics.put(
+          EMetric.LAST_RESET_DURATION,
+          Gauge.build()
+              .name("last_reset_duration_milliseconds")
+              .labelNames(label)
+              .help("duration of the last reset of a consistent region")
+              .register());
       metrics.put(
           EMetric.LAST_CONSISTENT_STATE_TIME,
           Gauge.build()
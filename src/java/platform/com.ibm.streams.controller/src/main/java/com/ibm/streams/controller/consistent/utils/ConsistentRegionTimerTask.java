@@ -17,11 +17,10 @@
 package com.ibm.streams.controller.consistent.utils;
 
 import com.ibm.streams.controller.crds.crs.consistent.ConsistentRegionController;
-import java.util.TimerTask;
 import lombok.Getter;
 import lombok.Setter;
 
-public class ConsistentRegionTimerTask extends TimerTask {
+public class ConsistentRegionTimerTask implements Runnable {
 
   @Getter @Setter private ConsistentRegionController crController;
   @Getter private final Integer regionIndex;
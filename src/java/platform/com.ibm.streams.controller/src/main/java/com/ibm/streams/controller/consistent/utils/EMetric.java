@@ -21,6 +21,10 @@ public enum EMetric {
   AVERAGE_DRAIN_TIME,
   /* average reset time */
   AVERAGE_RESET_TIME,
+  /* duration of the last drain */
+  LAST_DRAIN_DURATION,
+  /* duration of the last reset */
+  LAST_RESET_DURATION,
   /* last reset time */
   LAST_RESET_TIME,
   /* last time to reach consistent state */
@@ -61,6 +61,8 @@ public class ConsistentRegionSpec implements KubernetesResource {
   // metric
   @Getter @Setter private long avgDrainTimeMetric;
   @Getter @Setter private long avgResetTimeMetric;
+  @Getter @Setter private long lastDrainDurationMetric;
+  @Getter @Setter private long lastResetDurationMetric;
   @Getter @Setter private long lastConsistentStateTime;
   @Getter @Setter private long lastResetTime;
   @Getter @Setter private long lastCompletedDrain;
@@ -83,6 +85,8 @@ public class ConsistentRegionSpec implements KubernetesResource {
     this.avgResetTime = new MovingAverage(10);
     this.avgDrainTimeMetric = 0;
     this.avgResetTimeMetric = 0;
+    this.lastDrainDurationMetric = 0;
+    this.lastResetDurationMetric = 0;
     this.lastConsistentStateTime = 0;
     this.lastResetTime = 0;
     this.lastCompletedDrain = -1;
@@ -120,6 +124,8 @@ public class ConsistentRegionSpec implements KubernetesResource {
     this.resetStartTimestamp = spec.resetStartTimestamp;
     this.avgDrainTimeMetric = spec.avgDrainTimeMetric;
     this.avgResetTimeMetric = spec.avgResetTimeMetric;
+    this.lastDrainDurationMetric = spec.lastDrainDurationMetric;
+    this.lastResetDurationMetric = spec.lastResetDurationMetric;
     this.lastConsistentStateTime = spec.lastConsistentStateTime;
     this.lastResetTime = spec.lastResetTime;
     this.lastCompletedDrain = spec.lastCompletedDrain;
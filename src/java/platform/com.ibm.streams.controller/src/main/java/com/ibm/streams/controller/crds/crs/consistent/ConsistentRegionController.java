@@ -36,8 +36,15 @@ import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import fr.xenogenics.kubernetes.controller.Controller;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import java.io.IOException;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.net.DatagramSocket;
+import java.net.SocketException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import lombok.var;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,11 +52,16 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConsistentRegionController.class);
 
+  private static final int FSM_THREADS =
+      Optional.ofNullable(System.getenv("STREAMS_CR_FSM_THREADS"))
+          .map(Integer::parseInt)
+          .orElse(Math.min(4, Runtime.getRuntime().availableProcessors()));
+
   private final Controller<ConsistentRegion> controller;
-  private final ConcurrentLinkedDeque<Notification> notificationQueue;
-  private final AtomicBoolean fsmSignal;
-  private final AtomicBoolean waitOnModification;
-  private final ConsistentRegionStateMachine crFsm;
+  private final ExecutorService executor;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final DatagramSocket socket;
+  private final Map<Integer, ConsistentRegionStateMachine> crFsms;
   private final ConsistentRegionOperatorMetric crMetrics;
   private final ConsistentRegionFactory crFactory;
   private final boolean isRestart;
@@ -83,28 +95,33 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
     numAddedRegions = 0;
     this.crMetrics = crMetrics;
     /*
-     * Initialize and run the consistent region FSM
+     * Create one consistent region FSM per region. They share a small executor to process their
+     * notifications, a single scheduler for their timeouts and a single socket to send
+     * notifications to the PEs.
      */
-    this.notificationQueue = new ConcurrentLinkedDeque<>();
-    this.fsmSignal = new AtomicBoolean(false);
-    this.waitOnModification = new AtomicBoolean(true);
-    this.crFsm =
-        new ConsistentRegionStateMachine(
-            this,
-            fsmSignal,
-            waitOnModification,
-            jobName,
-            jobId,
-            crStore,
-            crFactory,
-            peStore,
-            podStore,
-            crNotificationBoard,
-            notificationQueue,
-            numRegions,
-            ns);
-    Thread fsmThread = new Thread(this.crFsm);
-    fsmThread.start();
+    this.executor = Executors.newFixedThreadPool(Math.max(1, Math.min(numRegions, FSM_THREADS)));
+    this.scheduler = new ScheduledThreadPoolExecutor(1);
+    this.scheduler.setRemoveOnCancelPolicy(true);
+    this.socket = createSocket();
+    this.crFsms = new HashMap<>();
+    for (int i = 0; i < numRegions; i++) {
+      crFsms.put(
+          i,
+          new ConsistentRegionStateMachine(
+              this,
+              i,
+              jobName,
+              jobId,
+              crStore,
+              crFactory,
+              peStore,
+              podStore,
+              crNotificationBoard,
+              executor,
+              scheduler,
+              socket,
+              ns));
+    }
 
     this.crFactory = crFactory;
 
@@ -139,15 +156,8 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
       crFactory.updateConsistentRegion(cr, EConsistentRegionState.STARTED, false);
     } else {
       if (numAddedRegions == numRegions) {
-        synchronized (fsmSignal) {
-          startUp = false;
-          waitOnModification.set(false);
-          if (!notificationQueue.isEmpty()) {
-            if (fsmSignal.compareAndSet(false, true)) {
-              fsmSignal.notify();
-            }
-          }
-        }
+        startUp = false;
+        crFsms.values().forEach(ConsistentRegionStateMachine::enable);
       }
     }
   }
@@ -167,27 +177,15 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
       numAddedRegions++;
       if (numAddedRegions == 2 * numRegions) {
         /*
-         * first time trigger the crFsm
+         * first time trigger the crFsms
          */
-        synchronized (fsmSignal) {
-          startUp = false;
-          waitOnModification.set(false);
-          if (!notificationQueue.isEmpty()) {
-            if (fsmSignal.compareAndSet(false, true)) {
-              fsmSignal.notify();
-            }
-          }
-        }
+        startUp = false;
+        crFsms.values().forEach(ConsistentRegionStateMachine::enable);
       }
     } else {
-      crFsm.sendPendingNotification(cur.getSpec());
-      synchronized (fsmSignal) {
-        waitOnModification.set(false);
-        if (!notificationQueue.isEmpty()) {
-          if (fsmSignal.compareAndSet(false, true)) {
-            fsmSignal.notify();
-          }
-        }
+      var crFsm = crFsms.get(cur.getSpec().getRegionIndex());
+      if (crFsm != null) {
+        crFsm.onModification(cur.getSpec());
       }
     }
   }
@@ -196,14 +194,12 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
   public void onDeletion(AbstractEvent<? extends ConsistentRegion> event) {}
 
   public void addNotification(Notification n) {
-    synchronized (fsmSignal) {
-      notificationQueue.add(n);
-      if (!waitOnModification.get()) {
-        if (fsmSignal.compareAndSet(false, true)) {
-          fsmSignal.notify();
-        }
-      }
+    var crFsm = crFsms.get(n.getRegionIndex());
+    if (crFsm == null) {
+      LOGGER.warn("Dropping notification for unknown region {}", n.getRegionIndex());
+      return;
     }
+    crFsm.addNotification(n);
   }
 
   public boolean hasRestarted() {
@@ -215,6 +211,10 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
     crMetrics.updateMetric(regionIndex, EMetric.STATE, Long.valueOf(spec.getState().ordinal()));
     crMetrics.updateMetric(regionIndex, EMetric.AVERAGE_DRAIN_TIME, spec.getAvgDrainTimeMetric());
     crMetrics.updateMetric(regionIndex, EMetric.AVERAGE_RESET_TIME, spec.getAvgResetTimeMetric());
+    crMetrics.updateMetric(
+        regionIndex, EMetric.LAST_DRAIN_DURATION, spec.getLastDrainDurationMetric());
+    crMetrics.updateMetric(
+        regionIndex, EMetric.LAST_RESET_DURATION, spec.getLastResetDurationMetric());
     crMetrics.updateMetric(
         regionIndex, EMetric.LAST_COMPLETED_DRAIN_SEQ_ID, spec.getLastCompletedDrain());
     crMetrics.updateMetric(
@@ -226,19 +226,28 @@ public class ConsistentRegionController extends GenericEventQueueConsumer<Consis
         regionIndex, EMetric.CURRENT_RESET_ATTEMPT, spec.getCurrentResetAttempt());
   }
 
+  private static DatagramSocket createSocket() {
+    try {
+      return new DatagramSocket();
+    } catch (SocketException ex) {
+      LOGGER.error("Cannot create a UDP socket, subscription notifications will be disabled.");
+      return null;
+    }
+  }
+
   public void start() throws IOException {
     controller.start();
   }
 
   public void close() throws IOException {
     /*
-     * terminate the crFsm
+     * terminate the crFsms
      */
-    crFsm.terminate();
-    synchronized (fsmSignal) {
-      if (fsmSignal.compareAndSet(false, true)) {
-        fsmSignal.notify();
-      }
+    crFsms.values().forEach(ConsistentRegionStateMachine::terminate);
+    scheduler.shutdownNow();
+    executor.shutdown();
+    if (socket != null) {
+      socket.close();
     }
     controller.close();
   }
@@ -17,33 +17,49 @@
 package com.ibm.streams.controller.crds.exports;
 
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
-import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
 
 import com.ibm.streams.controller.crds.jobs.Job;
+import com.ibm.streams.controller.utils.JobResourceIndex;
+import com.ibm.streams.controller.utils.JobResourceStore;
+import com.ibm.streams.controller.utils.ResourceIndex;
+import com.ibm.streams.instance.sam.model.topology.StreamProperty;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.var;
 
-public class ExportStore extends ConcurrentHashMap<Object, Export> {
+public class ExportStore extends JobResourceStore<Export> {
+
+  private final JobResourceIndex<String, Export> exportsByName =
+      addIndex(e -> e.getMetadata().getName());
+  private final ResourceIndex<String, Export> exportsByStreamName =
+      registerIndex(new ResourceIndex<>(ExportStore::getStreamName));
+  private final ResourceIndex<String, Export> exportsByProperty =
+      registerIndex(new ResourceIndex<>(ExportStore::getPropertyNames));
+
+  private static Collection<String> getStreamName(Export exp) {
+    var name = exp.getSpec().getStream().getName();
+    return name != null ? Collections.singleton(name) : Collections.emptyList();
+  }
+
+  private static Collection<String> getPropertyNames(Export exp) {
+    var props = exp.getSpec().getStream().getProperties();
+    if (props == null) {
+      return Collections.emptyList();
+    }
+    return props.stream().map(StreamProperty::getName).collect(Collectors.toSet());
+  }
 
   public void put(Export exp) {
     put(exp.getMetadata().getName(), exp);
   }
 
   private long countExportsWithJobAndGenerationId(String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(e -> e.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            e ->
-                e.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .count();
+    return exportsByName.count(jobName, jobGenerationId);
   }
 
   public long countExportsWithJob(Job job) {
@@ -63,38 +79,23 @@ public class ExportStore extends ConcurrentHashMap<Object, Export> {
   }
 
   Optional<Export> getExportWithName(String name) {
-    return values().stream().filter(e -> e.getMetadata().getName().equals(name)).findFirst();
+    return Optional.ofNullable(get(name));
   }
 
   Optional<Export> getExportWithNameAndGenerationId(String name, String jobGenerationId) {
-    return values().stream()
+    return getExportWithName(name)
         .filter(
             e ->
                 e.getMetadata()
                     .getLabels()
                     .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .filter(e -> e.getMetadata().getName().equals(name))
-        .findFirst();
-  }
-
-  private List<Export> getExportsWithJobNameAndGenerationId(
-      String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(e -> e.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            e ->
-                e.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .collect(Collectors.toList());
+                    .equals(jobGenerationId));
   }
 
   public List<Export> getExportsWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return getExportsWithJobNameAndGenerationId(jobName, jobGenerationId);
+    return exportsByName.values(jobName, jobGenerationId);
   }
 
   public List<Export> getExportsWithJobAndPreviousGenerationId(Job job) {
@@ -104,6 +105,14 @@ public class ExportStore extends ConcurrentHashMap<Object, Export> {
       return new ArrayList<>();
     }
     var preGenerationId = jobGenerationId.subtract(BigInteger.ONE).toString();
-    return getExportsWithJobNameAndGenerationId(jobName, preGenerationId);
+    return exportsByName.values(jobName, preGenerationId);
+  }
+
+  public List<Export> getExportsWithStreamName(String name) {
+    return exportsByStreamName.get(name);
+  }
+
+  public List<Export> getExportsWithProperties(Collection<String> names) {
+    return exportsByProperty.get(names);
   }
 }
@@ -17,33 +17,76 @@
 package com.ibm.streams.controller.crds.imports;
 
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
-import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
 
 import com.ibm.streams.controller.crds.jobs.Job;
+import com.ibm.streams.controller.instance.broker.CompiledSubscription;
+import com.ibm.streams.controller.instance.broker.SubscriptionCache;
+import com.ibm.streams.controller.utils.JobResourceIndex;
+import com.ibm.streams.controller.utils.JobResourceStore;
+import com.ibm.streams.controller.utils.ResourceIndex;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.var;
 
-public class ImportStore extends ConcurrentHashMap<Object, Import> {
+public class ImportStore extends JobResourceStore<Import> {
+
+  /*
+   * Key under which unconditional subscriptions are indexed. Property names cannot be empty.
+   */
+  private static final String ANY_PROPERTY = "";
+
+  private final JobResourceIndex<String, Import> importsByName =
+      addIndex(i -> i.getMetadata().getName());
+  /*
+   * NOTE the subscription cache must be registered before the property index, which uses it.
+   */
+  private final SubscriptionCache subscriptions = registerIndex(new SubscriptionCache());
+  private final ResourceIndex<List<String>, Import> importsByStreamName =
+      registerIndex(new ResourceIndex<>(ImportStore::getStreamKeys));
+  private final ResourceIndex<String, Import> importsByProperty =
+      registerIndex(new ResourceIndex<>(this::getPropertyKeys));
+
+  private static List<String> getStreamKey(String scope, String name) {
+    return Arrays.asList(scope, name);
+  }
+
+  private static Collection<List<String>> getStreamKeys(Import imp) {
+    var nbis = imp.getSpec().getStreams().getNameBasedImports();
+    if (nbis == null) {
+      return Collections.emptyList();
+    }
+    return nbis.values().stream()
+        .map(v -> getStreamKey(v.getApplicationScope(), v.getStreamName()))
+        .collect(Collectors.toSet());
+  }
+
+  private Collection<String> getPropertyKeys(Import imp) {
+    return subscriptions
+        .get(imp)
+        .map(
+            s -> {
+              var keys = new HashSet<>(s.getSymbols());
+              if (s.isUnconditional()) {
+                keys.add(ANY_PROPERTY);
+              }
+              return keys;
+            })
+        .orElseGet(HashSet::new);
+  }
 
   public void put(Import imp) {
     put(imp.getMetadata().getName(), imp);
   }
 
   public long countImportsWithJobAndGenerationId(String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(i -> i.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            i ->
-                i.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .count();
+    return importsByName.count(jobName, jobGenerationId);
   }
 
   public long countImportsWithJob(Job job) {
@@ -63,37 +106,23 @@ public class ImportStore extends ConcurrentHashMap<Object, Import> {
   }
 
   Optional<Import> getImportWithName(String name) {
-    return values().stream().filter(e -> e.getMetadata().getName().equals(name)).findFirst();
+    return Optional.ofNullable(get(name));
   }
 
   Optional<Import> getImportWithNameAndGenerationId(String name, String jobGenerationId) {
-    return values().stream()
+    return getImportWithName(name)
         .filter(
             i ->
                 i.getMetadata()
                     .getLabels()
                     .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .filter(e -> e.getMetadata().getName().equals(name))
-        .findFirst();
+                    .equals(jobGenerationId));
   }
 
   public List<Import> getImportsWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return getImportsWithJobAndGenerationId(jobName, jobGenerationId);
-  }
-
-  private List<Import> getImportsWithJobAndGenerationId(String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(i -> i.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            i ->
-                i.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .collect(Collectors.toList());
+    return importsByName.values(jobName, jobGenerationId);
   }
 
   public List<Import> getImportsWithJobAndPreviousGenerationId(Job job) {
@@ -103,6 +132,24 @@ public class ImportStore extends ConcurrentHashMap<Object, Import> {
       return new ArrayList<>();
     }
     var preGenerationId = jobGenerationId.subtract(BigInteger.ONE).toString();
-    return getImportsWithJobAndGenerationId(jobName, preGenerationId);
+    return importsByName.values(jobName, preGenerationId);
+  }
+
+  public Optional<CompiledSubscription> getSubscription(Import imp) {
+    return subscriptions.get(imp);
+  }
+
+  public List<Import> getImportsWithStreamName(String scope, String name) {
+    /*
+     * Name-based imports without a scope match exports of any scope.
+     */
+    return importsByStreamName.get(
+        Arrays.asList(getStreamKey(scope, name), getStreamKey(null, name)));
+  }
+
+  public List<Import> getImportsWithProperties(Collection<String> names) {
+    var keys = new HashSet<>(names);
+    keys.add(ANY_PROPERTY);
+    return importsByProperty.get(keys);
   }
 }
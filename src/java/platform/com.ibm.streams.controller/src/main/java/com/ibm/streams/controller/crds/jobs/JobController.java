@@ -33,6 +33,8 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import lombok.var;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -104,22 +106,39 @@ public class JobController extends GenericEventQueueConsumer<Job> {
       return;
     }
     /*
-     * Process the new job.
+     * Process the new job. The submission completes asynchronously, so we allocate its ID
+     * up-front: the IDs of failed submissions are not reused.
      */
-    try {
-      jobLauncher.launch(job, currentJobId);
-      currentJobId = currentJobId.add(BigInteger.ONE);
-    } catch (Exception e) {
-      /*
-       * Print the stack trace.
-       */
-      e.printStackTrace();
-      /*
-       * Send a resource event.
-       */
-      EventUtils.sendEvent(
-          client, COMPONENT_NAME, ns, job, JOB_SUBMISSION_FAILURE, "Normal", e.getMessage());
-    }
+    var jobId = currentJobId;
+    currentJobId = currentJobId.add(BigInteger.ONE);
+    jobLauncher
+        .launch(job, jobId)
+        .whenComplete(
+            (v, t) -> {
+              if (t == null) {
+                return;
+              }
+              /*
+               * The launch is cancelled when the job is deleted while being launched.
+               */
+              if (t instanceof CancellationException) {
+                LOGGER.debug("Launch of job {} cancelled", job.getMetadata().getName());
+                return;
+              }
+              var e = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+              LOGGER.error("Launch of job {} failed", job.getMetadata().getName(), e);
+              /*
+               * Send a resource event.
+               */
+              EventUtils.sendEvent(
+                  client,
+                  COMPONENT_NAME,
+                  ns,
+                  job,
+                  JOB_SUBMISSION_FAILURE,
+                  "Normal",
+                  e.getMessage());
+            });
   }
 
   @Override
@@ -157,6 +176,12 @@ public class JobController extends GenericEventQueueConsumer<Job> {
      * by looking at the finalizer.
      */
     Job job = event.getResource();
+    /*
+     * Stop any launch still in progress: it would otherwise update the deleted job. A launch that
+     * was already committed left a transitional context behind, which is no longer needed.
+     */
+    jobLauncher.cancel(job);
+    jobLauncher.removeJobFromTransitionalContext(job.getMetadata().getName());
     if (job.getSpec().getStatus() == Submitting
         && ResourceUtils.resourceIsBeingGarbageCollected(job)) {
       LOGGER.debug("Recreate job that failed during submission");
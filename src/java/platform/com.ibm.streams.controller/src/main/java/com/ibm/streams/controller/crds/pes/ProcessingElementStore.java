@@ -17,86 +17,59 @@
 package com.ibm.streams.controller.crds.pes;
 
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
-import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
 
 import com.ibm.streams.controller.crds.jobs.Job;
+import com.ibm.streams.controller.utils.JobResourceIndex;
+import com.ibm.streams.controller.utils.JobResourceStore;
 import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.var;
 
-public class ProcessingElementStore extends ConcurrentHashMap<Object, ProcessingElement> {
+public class ProcessingElementStore extends JobResourceStore<ProcessingElement> {
+
+  private final JobResourceIndex<BigInteger, ProcessingElement> pesById =
+      addIndex(pe -> pe.getSpec() != null ? pe.getSpec().getId() : null);
 
   public void put(ProcessingElement pe) {
     put(pe.getMetadata().getName(), pe);
   }
 
   public Optional<ProcessingElement> getPeWithNameAndUid(String name, String uid) {
-    return values().stream()
-        .filter(j -> j.getMetadata().getName().equals(name))
-        .filter(j -> j.getMetadata().getUid().equals(uid))
-        .findAny();
+    return getPeWithName(name).filter(j -> j.getMetadata().getUid().equals(uid));
   }
 
   public Optional<ProcessingElement> getPeWithNameAndJobId(String name, String jobId) {
-    return values().stream()
-        .filter(j -> j.getMetadata().getName().equals(name))
-        .filter(j -> j.getMetadata().getOwnerReferences().get(0).getUid().equals(jobId))
-        .findAny();
+    return getPeWithName(name)
+        .filter(j -> j.getMetadata().getOwnerReferences().get(0).getUid().equals(jobId));
   }
 
   public Optional<ProcessingElement> getPeWithNameAndGenerationId(
       String name, String jobGenerationId) {
-    return values().stream()
-        .filter(p -> p.getMetadata().getName().equals(name))
+    return getPeWithName(name)
         .filter(
             p ->
                 p.getMetadata()
                     .getLabels()
                     .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .findAny();
+                    .equals(jobGenerationId));
   }
 
   public Optional<ProcessingElement> getPeWithName(String name) {
-    return values().stream().filter(j -> j.getMetadata().getName().equals(name)).findAny();
+    return Optional.ofNullable(get(name));
   }
 
   public Optional<ProcessingElement> getPeWithJobAndId(Job job, BigInteger peId) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return values().stream()
-        .filter(p -> p.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            p ->
-                p.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .filter(p -> p.getSpec().getId().equals(peId))
-        .findFirst();
-  }
-
-  private Stream<ProcessingElement> streamPesWithJob(String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(p -> p.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            p ->
-                p.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId));
+    return pesById.get(jobName, jobGenerationId, peId);
   }
 
   public long countPesWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return streamPesWithJob(jobName, jobGenerationId).count();
+    return pesById.count(jobName, jobGenerationId);
   }
 
   public long countPesWithJobAndPreviousGenerationId(Job job) {
@@ -106,14 +79,13 @@ public class ProcessingElementStore extends ConcurrentHashMap<Object, Processing
       return 0;
     }
     var preGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE);
-    return streamPesWithJob(jobName, preGenerationId.toString()).count();
+    return pesById.count(jobName, preGenerationId.toString());
   }
 
   public Map<BigInteger, ProcessingElement> getPesWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return streamPesWithJob(jobName, jobGenerationId)
-        .collect(Collectors.toMap(pe -> pe.getSpec().getId(), Function.identity()));
+    return pesById.getAll(jobName, jobGenerationId);
   }
 
   public Map<BigInteger, ProcessingElement> getPesWithJobAndPreviousGenerationId(Job job) {
@@ -123,14 +95,12 @@ public class ProcessingElementStore extends ConcurrentHashMap<Object, Processing
       return new HashMap<>();
     }
     var preGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE);
-    return streamPesWithJob(jobName, preGenerationId.toString())
-        .collect(Collectors.toMap(pe -> pe.getSpec().getId(), Function.identity()));
+    return pesById.getAll(jobName, preGenerationId.toString());
   }
 
   public Map<BigInteger, ProcessingElement> getPreviousPesWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var prevJobGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE).toString();
-    return streamPesWithJob(jobName, prevJobGenerationId)
-        .collect(Collectors.toMap(pe -> pe.getSpec().getId(), e -> e));
+    return pesById.getAll(jobName, prevJobGenerationId);
   }
 }
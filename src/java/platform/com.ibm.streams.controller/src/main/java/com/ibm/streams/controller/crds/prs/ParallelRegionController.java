@@ -162,6 +162,7 @@ public class ParallelRegionController extends GenericEventQueueConsumer<Parallel
                   Collectors.toMap(
                       cm -> cm.getMetadata().getUid(),
                       cm -> cm.getMetadata().getLabels().get(STREAMS_PE_LABEL_KEY)));
+      cmCache.awaitParsing(configMapUidToPeId.keySet());
       var peIdToOperatorNames =
           cmCache.entrySet().stream()
               .filter(e -> configMapUidToPeId.containsKey(e.getKey()))
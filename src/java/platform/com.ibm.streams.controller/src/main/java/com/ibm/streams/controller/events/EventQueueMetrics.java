@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.events;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/*
+ * The collectors are labeled with the name of the consumer.
+ */
+final class EventQueueMetrics {
+
+  static final Counter EVENTS =
+      Counter.build()
+          .name("streams_event_queue_events_total")
+          .labelNames("consumer", "type")
+          .help("number of events handled by an event queue consumer")
+          .register();
+
+  static final Histogram HANDLING_TIME =
+      Histogram.build()
+          .name("streams_event_queue_handling_seconds")
+          .labelNames("consumer")
+          .help("time spent by an event queue consumer handling an event")
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+          .register();
+
+  private EventQueueMetrics() {}
+}
@@ -20,6 +20,8 @@ import com.ibm.streams.controller.utils.ObjectUtils;
 import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import fr.xenogenics.kubernetes.controller.ResourceTrackingEventQueueConsumer;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -35,37 +37,62 @@ public abstract class GenericEventQueueConsumer<T extends HasMetadata>
   private final List<IEventConsumerDelegate<HasMetadata>> genericListeners;
   private final List<IEventConsumerDelegate<T>> listeners;
   private final String className;
+  private final Counter.Child additions;
+  private final Counter.Child modifications;
+  private final Counter.Child deletions;
+  private final Histogram.Child handlingTime;
 
   public GenericEventQueueConsumer(Map<Object, T> knownObjects) {
     super(knownObjects);
     this.genericListeners = new ArrayList<>();
     this.listeners = new ArrayList<>();
     this.className = this.getClass().getSimpleName();
+    this.additions = EventQueueMetrics.EVENTS.labels(className, "addition");
+    this.modifications = EventQueueMetrics.EVENTS.labels(className, "modification");
+    this.deletions = EventQueueMetrics.EVENTS.labels(className, "deletion");
+    this.handlingTime = EventQueueMetrics.HANDLING_TIME.labels(className);
   }
 
   @Override
   protected void accept(AbstractEvent<? extends T> event) {
+    var start = System.nanoTime();
+    dispatch(event);
+    handlingTime.observe((System.nanoTime() - start) / 1e9);
+  }
+
+  private void dispatch(AbstractEvent<? extends T> event) {
     var pri = event.getPriorResource();
     var cur = event.getResource();
     switch (event.getType()) {
       case ADDITION:
         LOGGER.trace("ADD {} {}", className, cur.getMetadata().getName());
+        additions.inc();
         genericListeners.forEach(l -> l.onAddition(event));
         listeners.forEach(l -> l.onAddition(event));
         this.onAddition(event);
         break;
       case MODIFICATION:
-        ObjectUtils.diff(pri, cur)
-            .ifPresent(
-                diff -> {
-                  LOGGER.trace("MOD {} {} - {}", className, cur.getMetadata().getName(), diff);
-                  genericListeners.forEach(l -> l.onModification(event));
-                  listeners.forEach(l -> l.onModification(event));
-                  this.onModification(event);
-                });
+        /*
+         * Skip the event if the resource did not change. Only compute the diff when tracing.
+         */
+        if (!ObjectUtils.hasChanged(pri, cur)) {
+          break;
+        }
+        modifications.inc();
+        if (LOGGER.isTraceEnabled()) {
+          LOGGER.trace(
+              "MOD {} {} - {}",
+              className,
+              cur.getMetadata().getName(),
+              ObjectUtils.diff(pri, cur).orElse(""));
+        }
+        genericListeners.forEach(l -> l.onModification(event));
+        listeners.forEach(l -> l.onModification(event));
+        this.onModification(event);
         break;
       case DELETION:
         LOGGER.trace("DEL {} {}", className, cur.getMetadata().getName());
+        deletions.inc();
         genericListeners.forEach(l -> l.onDeletion(event));
         listeners.forEach(l -> l.onDeletion(event));
         this.onDeletion(event);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.executor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.var;
+
+/*
+ * An ordered list of execution commands and their dependencies. Dependencies must be added before
+ * their dependents, so the insertion order is always a valid sequential order.
+ */
+public class ExecutionPlan {
+
+  public static final class Step {
+    @Getter private final EExecutionCommand command;
+    @Getter private final Runnable fun;
+    @Getter private final Set<EExecutionCommand> dependencies;
+
+    Step(EExecutionCommand command, Runnable fun, Set<EExecutionCommand> dependencies) {
+      this.command = command;
+      this.fun = fun;
+      this.dependencies = Collections.unmodifiableSet(dependencies);
+    }
+  }
+
+  private final Map<EExecutionCommand, Step> steps;
+
+  public ExecutionPlan() {
+    this.steps = new LinkedHashMap<>();
+  }
+
+  public ExecutionPlan add(
+      EExecutionCommand command, Runnable fun, EExecutionCommand... dependencies) {
+    if (steps.containsKey(command)) {
+      throw new IllegalArgumentException("Command " + command.getName() + " already planned");
+    }
+    var deps = EnumSet.noneOf(EExecutionCommand.class);
+    deps.addAll(Arrays.asList(dependencies));
+    for (var dep : deps) {
+      if (!steps.containsKey(dep)) {
+        throw new IllegalArgumentException(
+            "Command " + command.getName() + " depends on unplanned " + dep.getName());
+      }
+    }
+    steps.put(command, new Step(command, fun, deps));
+    return this;
+  }
+
+  public Collection<Step> getSteps() {
+    return Collections.unmodifiableCollection(steps.values());
+  }
+}
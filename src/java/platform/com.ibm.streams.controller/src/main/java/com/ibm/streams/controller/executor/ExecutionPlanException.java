@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.executor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+public class ExecutionPlanException extends RuntimeException {
+
+  @Getter private final Map<EExecutionCommand, Throwable> errors;
+
+  public ExecutionPlanException(Map<EExecutionCommand, Throwable> errors) {
+    super(
+        errors.entrySet().stream()
+            .map(e -> e.getKey().getName() + ": " + e.getValue().getMessage())
+            .collect(Collectors.joining(", ", "Execution failed (", ")")));
+    this.errors = Collections.unmodifiableMap(errors);
+    errors.values().forEach(this::addSuppressed);
+  }
+}
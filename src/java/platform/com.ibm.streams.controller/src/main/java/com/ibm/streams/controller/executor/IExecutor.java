@@ -16,10 +16,53 @@
 
 package com.ibm.streams.controller.executor;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Properties;
+import java.util.function.Consumer;
+import lombok.var;
 
 public interface IExecutor {
   void setProperties(Properties properties);
 
   void execute(EExecutionCommand executionCommons, Runnable fun);
+
+  /**
+   * Execute a plan. The steps are executed in order. A step whose dependencies failed is not
+   * executed. All the errors are reported once the plan has been executed.
+   *
+   * @param plan the plan to execute
+   * @throws ExecutionPlanException if any of the steps failed
+   */
+  default void execute(ExecutionPlan plan) {
+    var errors = new LinkedHashMap<EExecutionCommand, Throwable>();
+    for (var step : plan.getSteps()) {
+      var failed = step.getDependencies().stream().filter(errors::containsKey).findFirst();
+      if (failed.isPresent()) {
+        errors.put(
+            step.getCommand(),
+            new IllegalStateException("Dependency " + failed.get().getName() + " failed"));
+        continue;
+      }
+      try {
+        execute(step.getCommand(), step.getFun());
+      } catch (Exception e) {
+        errors.put(step.getCommand(), e);
+      }
+    }
+    if (!errors.isEmpty()) {
+      throw new ExecutionPlanException(errors);
+    }
+  }
+
+  /**
+   * Apply an operation on independent objects. The call returns when all the objects have been
+   * processed.
+   *
+   * @param items the objects
+   * @param fun the operation
+   */
+  default <T> void executeEach(Collection<T> items, Consumer<T> fun) {
+    items.forEach(fun);
+  }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.executor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.var;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ParallelExecutor implements IExecutor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParallelExecutor.class);
+  private static final int DEFAULT_PARALLELISM = 8;
+
+  @Getter private final int parallelism;
+
+  /*
+   * Commands wait on the objects they fan out, so they must not share a pool with them. The
+   * command pool is unbounded, the parallelism limit applies to the objects.
+   */
+  private final ExecutorService commands;
+  private final ExecutorService objects;
+
+  private static ThreadFactory daemonThreadFactory(String prefix) {
+    var counter = new AtomicInteger();
+    return r -> {
+      var thread = new Thread(r, prefix + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  public ParallelExecutor() {
+    this(DEFAULT_PARALLELISM);
+  }
+
+  public ParallelExecutor(int parallelism) {
+    this.parallelism = parallelism;
+    this.commands =
+        new ThreadPoolExecutor(
+            0,
+            Integer.MAX_VALUE,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            daemonThreadFactory("executor-command"));
+    var pool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            daemonThreadFactory("executor-object"));
+    pool.allowCoreThreadTimeOut(true);
+    this.objects = pool;
+  }
+
+  public void setProperties(Properties properties) {}
+
+  public void execute(EExecutionCommand command, Runnable fun) {
+    LOGGER.debug("Execute {}", command.name());
+    fun.run();
+  }
+
+  @Override
+  public void execute(ExecutionPlan plan) {
+    var errors = new ConcurrentSkipListMap<EExecutionCommand, Throwable>();
+    var futures = new HashMap<EExecutionCommand, CompletableFuture<Void>>();
+    /*
+     * Chain each step to its dependencies. The plan is in dependency order, so the futures of
+     * the dependencies always exist.
+     */
+    for (var step : plan.getSteps()) {
+      var deps =
+          step.getDependencies().stream().map(futures::get).toArray(CompletableFuture[]::new);
+      var future =
+          CompletableFuture.allOf(deps)
+              .thenRunAsync(
+                  () -> {
+                    var failed =
+                        step.getDependencies().stream().filter(errors::containsKey).findFirst();
+                    if (failed.isPresent()) {
+                      errors.put(
+                          step.getCommand(),
+                          new IllegalStateException(
+                              "Dependency " + failed.get().getName() + " failed"));
+                      return;
+                    }
+                    try {
+                      execute(step.getCommand(), step.getFun());
+                    } catch (Exception e) {
+                      errors.put(step.getCommand(), e);
+                    }
+                  },
+                  commands);
+      futures.put(step.getCommand(), future);
+    }
+    /*
+     * Wait for the whole plan.
+     */
+    CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+    if (!errors.isEmpty()) {
+      throw new ExecutionPlanException(errors);
+    }
+  }
+
+  @Override
+  public <T> void executeEach(Collection<T> items, Consumer<T> fun) {
+    var futures =
+        items.stream()
+            .map(item -> CompletableFuture.runAsync(() -> fun.accept(item), objects))
+            .collect(Collectors.toList());
+    /*
+     * Wait for all the items, even if some of them failed, and report the first error.
+     */
+    RuntimeException error = null;
+    for (var future : futures) {
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        var cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        if (error == null) {
+          error = cause;
+        } else {
+          error.addSuppressed(cause);
+        }
+      }
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+}
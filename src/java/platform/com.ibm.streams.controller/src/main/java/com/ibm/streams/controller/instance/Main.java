@@ -16,16 +16,22 @@
 
 package com.ibm.streams.controller.instance;
 
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_METRIC_PORT;
+
 import com.ibm.streams.controller.executor.DefaultExecutor;
 import com.ibm.streams.controller.executor.IExecutor;
+import com.ibm.streams.controller.executor.ParallelExecutor;
 import com.ibm.streams.controller.executor.Utils;
 import com.ibm.streams.controller.instance.rest.StreamsResourceConfig;
+import com.ibm.streams.controller.k8s.utils.ApiMetricsInterceptor;
 import com.ibm.streams.controller.k8s.utils.TimeUtils;
+import com.ibm.streams.controller.utils.CommonEnvironment;
 import com.ibm.streams.controller.utils.KubernetesEnvironment;
 import io.fabric8.kubernetes.api.model.ConfigMap;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.prometheus.client.exporter.HTTPServer;
+import io.prometheus.client.hotspot.DefaultExports;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
@@ -50,7 +56,8 @@ public class Main {
   private static final int port = 10000;
   private static final String host = "http://0.0.0.0/";
 
-  private static IExecutor loadExecutor(KubernetesClient client, String myNs) {
+  private static IExecutor loadExecutor(
+      KubernetesClient client, String myNs, CommonEnvironment env) {
     IExecutor executor;
     try {
       ConfigMap cm =
@@ -59,9 +66,7 @@ public class Main {
         var props = new Properties();
         Map<String, String> data = cm.getData();
         if (data.containsKey("Injected") && data.get("Injected").equals("true")) {
-          executor =
-              Utils.instantiate(
-                  "com.ibm.streams.controller.executor.DefaultExecutor", IExecutor.class);
+          executor = new ParallelExecutor(env.getExecutorParallelism());
         } else {
           executor =
               Utils.instantiate(
@@ -75,9 +80,7 @@ public class Main {
           client.configMaps().inNamespace(myNs).createOrReplace(newCM);
         }
       } else {
-        executor =
-            Utils.instantiate(
-                "com.ibm.streams.controller.executor.DefaultExecutor", IExecutor.class);
+        executor = new ParallelExecutor(env.getExecutorParallelism());
       }
     } catch (Exception e) {
       e.printStackTrace();
@@ -177,7 +180,7 @@ public class Main {
       /*
        * Grab a new Kube client.
        */
-      var client = new DefaultKubernetesClient();
+      var client = ApiMetricsInterceptor.createClient();
       /*
        * Create the environment.
        */
@@ -199,13 +202,18 @@ public class Main {
       /*
        * Create the Streams instance.
        */
-      var instance = new StreamsInstance(client, loadExecutor(client, myNs), myNs, env, cTime);
+      var instance = new StreamsInstance(client, loadExecutor(client, myNs, env), myNs, env, cTime);
       /*
        * Create the REST HTTP server.
        */
       var baseUri = UriBuilder.fromUri(host).port(port).build();
       var config = new StreamsResourceConfig(instance, myNs);
       JdkHttpServerFactory.createHttpServer(baseUri, config);
+      /*
+       * Serve the controller metrics.
+       */
+      DefaultExports.initialize();
+      new HTTPServer(STREAMS_METRIC_PORT, true);
       /*
        * Start the Job FSM and the controllers
        */
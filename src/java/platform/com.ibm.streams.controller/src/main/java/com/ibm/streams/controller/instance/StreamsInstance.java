@@ -154,7 +154,7 @@ public class StreamsInstance implements IStreamsInstance {
     /*
      * Create the factories.
      */
-    this.configMapFactory = new ConfigMapFactory(client, configMapStore);
+    this.configMapFactory = new ConfigMapFactory(client, configMapStore, env);
     this.consistentRegionFactory = new ConsistentRegionFactory(client);
     this.consistentRegionOperatorFactory = new ConsistentRegionOperatorFactory(client);
     this.deploymentFactory = new DeploymentFactory(client, env);
@@ -249,7 +249,7 @@ public class StreamsInstance implements IStreamsInstance {
      * Create the controllers.
      */
     this.configMapController =
-        new ConfigMapController(client, configMapStore, configMapFactory, configMapCache, ns);
+        new ConfigMapController(client, configMapStore, configMapFactory, configMapCache, ns, env);
     this.consistentRegionController =
         new ConsistentRegionController(client, consistentRegionStore, ns);
     this.consistentRegionOperatorController =
@@ -364,6 +364,7 @@ public class StreamsInstance implements IStreamsInstance {
     jobController.close();
     jobStateMachine.terminate();
     jobLauncher.close();
+    importExportBroker.close();
     podStateMachine.terminate();
     processingElementController.close();
     podController.close();
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import io.prometheus.client.Histogram;
+
+final class BrokerMetrics {
+
+  static final Histogram MATCH_TIME =
+      Histogram.build()
+          .name("streams_broker_match_seconds")
+          .labelNames("resource")
+          .help("time spent by the broker matching an export or an import")
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1)
+          .register();
+
+  static final Histogram.Child EXPORT_MATCH_TIME = MATCH_TIME.labels("export");
+  static final Histogram.Child IMPORT_MATCH_TIME = MATCH_TIME.labels("import");
+
+  private BrokerMetrics() {}
+}
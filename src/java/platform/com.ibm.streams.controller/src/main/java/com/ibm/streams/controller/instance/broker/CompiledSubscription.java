@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import com.ibm.streams.instance.sam.SAMStaticContext;
+import com.ibm.streams.instance.sam.model.topology.PropertyBasedImport;
+import com.ibm.streams.messages.StreamsRuntimeMessagesKey;
+import com.ibm.streams.spl.expressions.CompiledExpression;
+import com.ibm.streams.spl.expressions.SPLEvalException;
+import com.ibm.streams.spl.expressions.SPLExpressionEval;
+import com.ibm.streams.spl.expressions.SPLInvalidExpressionException;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import lombok.var;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/*
+ * Property-based subscription compiled once, with the set of properties it references.
+ *
+ * The evaluation follows DynamicConnIpSubs.doesMatch(): the subscription matches if the expression
+ * evaluates to true with the export properties. A subscription that does not reference any of the
+ * properties of an export can only match if it evaluates to true on its own, in which case it is
+ * flagged as unconditional.
+ */
+public class CompiledSubscription {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CompiledSubscription.class);
+
+  private final String scope;
+  private final String subscription;
+  private final CompiledExpression expression;
+  @Getter private final Set<String> symbols;
+  @Getter private final boolean unconditional;
+
+  private CompiledSubscription(
+      String scope,
+      String subscription,
+      CompiledExpression expression,
+      Set<String> symbols,
+      boolean unconditional) {
+    this.scope = scope;
+    this.subscription = subscription;
+    this.expression = expression;
+    this.symbols = Collections.unmodifiableSet(symbols);
+    this.unconditional = unconditional;
+  }
+
+  public static CompiledSubscription compile(PropertyBasedImport pbi) {
+    var scope = pbi.getApplicationScope();
+    var subscription = pbi.getSubscription();
+    /*
+     * An empty subscription never matches.
+     */
+    if (subscription == null || subscription.isEmpty()) {
+      return new CompiledSubscription(scope, subscription, null, new HashSet<>(), false);
+    }
+    /*
+     * An invalid subscription never matches either.
+     */
+    CompiledExpression expression;
+    try {
+      expression = SPLExpressionEval.compile(subscription);
+    } catch (SPLInvalidExpressionException ex) {
+      LOGGER.error("Invalid subscription expression \"{}\": {}", subscription, ex.getMessage());
+      SAMStaticContext.productLog(
+          StreamsRuntimeMessagesKey.Key.SAMInvalidSubscriptionExpression,
+          BigInteger.ZERO.toString(),
+          subscription);
+      return new CompiledSubscription(scope, subscription, null, new HashSet<>(), false);
+    }
+    /*
+     * Check if the expression holds without any of the properties it references.
+     */
+    var unconditional = false;
+    try {
+      unconditional = expression.matches(Collections.emptyMap());
+    } catch (SPLEvalException ignored) {
+    }
+    return new CompiledSubscription(
+        scope, subscription, expression, expression.getSymbols(), unconditional);
+  }
+
+  public boolean isCompiledFrom(PropertyBasedImport pbi) {
+    return Objects.equals(scope, pbi.getApplicationScope())
+        && Objects.equals(subscription, pbi.getSubscription());
+  }
+
+  public boolean matches(String scope, Map<String, SPLValue> values) {
+    /*
+     * Check the scope and the expression. The scopes must be equal, as in doesMatch().
+     */
+    if (expression == null || !Objects.equals(this.scope, scope)) {
+      return false;
+    }
+    /*
+     * Evaluate the expression with the values.
+     */
+    try {
+      return expression.matches(values);
+    } catch (SPLEvalException ex) {
+      return false;
+    }
+  }
+}
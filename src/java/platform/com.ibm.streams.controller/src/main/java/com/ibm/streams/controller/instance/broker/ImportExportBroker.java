@@ -19,8 +19,6 @@ package com.ibm.streams.controller.instance.broker;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_SCOPE_ANNOTATION_KEY;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.streams.admin.internal.api.StreamsException;
 import com.ibm.streams.controller.crds.exports.Export;
 import com.ibm.streams.controller.crds.exports.ExportStore;
@@ -32,22 +30,18 @@ import com.ibm.streams.controller.executor.EExecutionCommand;
 import com.ibm.streams.controller.executor.IExecutor;
 import com.ibm.streams.controller.state.subscription.SubscriptionBoard;
 import com.ibm.streams.controller.utils.CommonEnvironment;
-import com.ibm.streams.instance.sam.model.DynamicConnIpSubs;
-import com.ibm.streams.instance.sam.model.DynamicConnOpProps;
-import com.ibm.streams.instance.sam.model.topology.StreamProperty;
+import com.ibm.streams.instance.sam.SamUtilFunctions;
+import com.ibm.streams.instance.sam.model.topology.NameBasedImport;
+import com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
 import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import java.math.BigInteger;
-import java.net.DatagramSocket;
-import java.net.SocketException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.BiConsumer;
-import java.util.function.Function;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.var;
 import org.slf4j.Logger;
@@ -56,6 +50,7 @@ import org.slf4j.LoggerFactory;
 public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ImportExportBroker.class);
+  private static final int STREAMS_SUBSCRIPTION_NOTIFICATION_PORT = 10000;
 
   private final SubscriptionBoard subscriptionBoard;
   private final JobStore jobStore;
@@ -64,9 +59,7 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
   private final IExecutor executor;
   private final String ns;
   private final CommonEnvironment env;
-  private final ObjectMapper mapper;
-
-  private DatagramSocket socket;
+  private final SubscriptionNotifier notifier;
 
   public ImportExportBroker(
       SubscriptionBoard subscriptionBoard,
@@ -86,16 +79,17 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     this.executor = executor;
     this.ns = ns;
     this.env = env;
-    this.mapper = new ObjectMapper();
-    /*
-     * Create the datagram socket for notifications.
-     */
-    try {
-      this.socket = new DatagramSocket();
-    } catch (SocketException ex) {
-      LOGGER.error("Cannot create a UDP socket, subscription notifications will be disabled.");
-      this.socket = null;
-    }
+    this.notifier =
+        new SubscriptionNotifier(
+            subscriptionBoard,
+            ns,
+            STREAMS_SUBSCRIPTION_NOTIFICATION_PORT,
+            env.getSubscriptionNotificationWindow(),
+            env.getSubscriptionNotificationMaxSize());
+  }
+
+  public void close() {
+    notifier.close();
   }
 
   /*
@@ -115,10 +109,14 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
 
   private List<Export> matchExportByStreamName(Import imp) {
     /*
-     * Scan the exports for a match.
+     * Look up the exports with the imported stream names.
      */
-    return exportStore.values().stream()
-        .filter(v -> v.getSpec().getStream().getName() != null)
+    return imp.getSpec().getStreams().getNameBasedImports().values().stream()
+        .map(NameBasedImport::getStreamName)
+        .filter(Objects::nonNull)
+        .distinct()
+        .flatMap(n -> exportStore.getExportsWithStreamName(n).stream())
+        .distinct()
         .filter(v -> hasCompatibleFilterPolicy(v, imp))
         .filter(v -> ImportExportCommons.matchAnyNamedStream(v, imp))
         .collect(Collectors.toList());
@@ -126,15 +124,25 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
 
   private List<Export> matchExportBySubscription(Import imp) {
     /*
-     * Build the subscription.
+     * Grab the compiled subscription.
      */
     var sis = imp.getSpec().getStreams().getPropertyBasedImport();
-    var subs =
-        new DynamicConnIpSubs(BigInteger.ZERO, sis.getApplicationScope(), sis.getSubscription());
+    var subs = importStore.getSubscription(imp).orElse(null);
+    if (subs == null) {
+      return Collections.emptyList();
+    }
+    /*
+     * Only consider the exports that have some of the properties of the subscription, unless the
+     * subscription holds regardless of them.
+     */
+    Collection<Export> candidates =
+        subs.isUnconditional()
+            ? exportStore.values()
+            : exportStore.getExportsWithProperties(subs.getSymbols());
     /*
-     * Scan the imports for a match.
+     * Scan the candidates for a match.
      */
-    return exportStore.values().stream()
+    return candidates.stream()
         .filter(v -> v.getSpec().getStream().getProperties() != null)
         .filter(v -> ImportExportCommons.checkApplicationScope(v, sis))
         .filter(v -> hasCompatibleFilterPolicy(v, imp))
@@ -144,20 +152,14 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
                * Grab the scope.
                */
               var scope = v.getMetadata().getAnnotations().get(STREAMS_APP_SCOPE_ANNOTATION_KEY);
-              /*
-               * Convert the export properties into ExportProperties.
-               */
-              var opProps =
-                  new DynamicConnOpProps(
-                      BigInteger.ZERO,
-                      scope,
-                      v.getSpec().getStream().getProperties().stream()
-                          .collect(Collectors.toMap(StreamProperty::getName, Function.identity())));
               /*
                * Check if we have a match.
                */
               try {
-                return subs.doesMatch(opProps, true);
+                var values =
+                    SamUtilFunctions.getSPLValueMapFromStreamProperties(
+                        v.getSpec().getStream().getProperties());
+                return subs.matches(scope, values);
               } catch (StreamsException ex) {
                 return false;
               }
@@ -169,6 +171,7 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Execute the proper matching based on the spec.
      */
+    var start = System.nanoTime();
     List<Export> exports = new LinkedList<>();
     if (imp.getSpec().getStreams().getNameBasedImports() != null) {
       exports.addAll(matchExportByStreamName(imp));
@@ -193,9 +196,12 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Filter-out exports with missing job.
      */
-    return exportsPerJob.entrySet().stream()
-        .filter(e -> jobStore.hasJobWithName(e.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    var result =
+        exportsPerJob.entrySet().stream()
+            .filter(e -> jobStore.hasJobWithName(e.getKey()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    BrokerMetrics.IMPORT_MATCH_TIME.observe((System.nanoTime() - start) / 1e9);
+    return result;
   }
 
   /*
@@ -204,10 +210,11 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
 
   private List<Import> matchImportByStreamName(Export exp) {
     /*
-     * Scan the imports for a match.
+     * Look up the imports with the exported stream name.
      */
-    return importStore.values().stream()
-        .filter(v -> v.getSpec().getStreams().getNameBasedImports() != null)
+    var scope = exp.getMetadata().getAnnotations().get(STREAMS_APP_SCOPE_ANNOTATION_KEY);
+    var name = exp.getSpec().getStream().getName();
+    return importStore.getImportsWithStreamName(scope, name).stream()
         .filter(v -> hasCompatibleFilterPolicy(exp, v))
         .filter(v -> ImportExportCommons.matchAnyNamedStream(exp, v))
         .collect(Collectors.toList());
@@ -219,40 +226,26 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
      */
     var scope = exp.getMetadata().getAnnotations().get(STREAMS_APP_SCOPE_ANNOTATION_KEY);
     /*
-     * Convert the export properties into ExportProperties.
+     * Convert the export properties into SPL values.
      */
-
-    var opProps =
-        new DynamicConnOpProps(
-            BigInteger.ZERO,
-            scope,
-            exp.getSpec().getStream().getProperties().stream()
-                .collect(Collectors.toMap(StreamProperty::getName, Function.identity())));
+    var props = exp.getSpec().getStream().getProperties();
+    Map<String, SPLValue> values;
+    try {
+      values = SamUtilFunctions.getSPLValueMapFromStreamProperties(props);
+    } catch (StreamsException ex) {
+      return Collections.emptyList();
+    }
     /*
-     * Scan the imports for a match.
+     * Scan the imports that reference the export properties for a match.
      */
-    return importStore.values().stream()
-        .filter(v -> v.getSpec().getStreams().getPropertyBasedImport() != null)
+    return importStore.getImportsWithProperties(values.keySet()).stream()
         .filter(v -> hasCompatibleFilterPolicy(exp, v))
         .filter(
             v ->
                 ImportExportCommons.checkApplicationScope(
                     exp, v.getSpec().getStreams().getPropertyBasedImport()))
         .filter(
-            v -> {
-              var sis = v.getSpec().getStreams().getPropertyBasedImport();
-              var subs =
-                  new DynamicConnIpSubs(
-                      BigInteger.ZERO, sis.getApplicationScope(), sis.getSubscription());
-              /*
-               * Check if we have a match.
-               */
-              try {
-                return subs.doesMatch(opProps, true);
-              } catch (StreamsException ex) {
-                return false;
-              }
-            })
+            v -> importStore.getSubscription(v).map(s -> s.matches(scope, values)).orElse(false))
         .collect(Collectors.toList());
   }
 
@@ -260,6 +253,7 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Execute the proper matching based on the spec.
      */
+    var start = System.nanoTime();
     List<Import> imports = new LinkedList<>();
     if (exp.getSpec().getStream().getName() != null) {
       imports.addAll(matchImportByStreamName(exp));
@@ -284,35 +278,24 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Filter-out exports with missing job.
      */
-    return importsPerJob.entrySet().stream()
-        .filter(e -> jobStore.hasJobWithName(e.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    var result =
+        importsPerJob.entrySet().stream()
+            .filter(e -> jobStore.hasJobWithName(e.getKey()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    BrokerMetrics.EXPORT_MATCH_TIME.observe((System.nanoTime() - start) / 1e9);
+    return result;
   }
 
   /*
    * Helper functions.
    */
 
-  private void sendSubscriptionNotification(String target, String content) {
-    ImportExportCommons.sendSubscriptionNotification(this.socket, target, content);
-  }
-
-  private void generatePayloadForProcessingElement(
-      String name, BiConsumer<String, String> consumer) {
-    try {
-      var target = name + "." + this.ns;
-      var content = mapper.writeValueAsString(subscriptionBoard.get(name));
-      consumer.accept(target, content);
-    } catch (JsonProcessingException ignored) {
-    }
-  }
-
   private void sendNotifications(
       Export exp, Map<String, List<Import>> imports, Collection<String> extra) {
     /*
      * Skip the event generation if not required.
      */
-    if (imports.isEmpty() || !env.enableNotifications()) {
+    if ((imports.isEmpty() && extra.isEmpty()) || !env.enableNotifications()) {
       return;
     }
     /*
@@ -328,8 +311,7 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Send a notification to the PEs.
      */
-    peSet.forEach(
-        pe -> generatePayloadForProcessingElement(pe, this::sendSubscriptionNotification));
+    notifier.notify(peSet);
   }
 
   private void sendNotifications(
@@ -337,7 +319,7 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Skip the event generation if not required.
      */
-    if (exports.isEmpty() || !env.enableNotifications()) {
+    if ((exports.isEmpty() && extra.isEmpty()) || !env.enableNotifications()) {
       return;
     }
     /*
@@ -353,8 +335,14 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     /*
      * Send a notification to the PEs.
      */
-    peSet.forEach(
-        pe -> generatePayloadForProcessingElement(pe, this::sendSubscriptionNotification));
+    notifier.notify(peSet);
+  }
+
+  private void sendNotifications(Collection<String> targets) {
+    if (targets.isEmpty() || !env.enableNotifications()) {
+      return;
+    }
+    notifier.notify(targets);
   }
 
   /*
@@ -501,15 +489,16 @@ public class ImportExportBroker implements IEventConsumerDelegate<HasMetadata> {
     }
   }
 
+  /*
+   * The board returns the PEs whose subscriptions referenced the deleted resource, so there is no
+   * need to match it again to find the PEs to notify.
+   */
+
   private void onDeletion(Export exp) {
-    var targets = subscriptionBoard.remove(exp);
-    var imports = matchImports(exp);
-    sendNotifications(exp, imports, targets);
+    sendNotifications(subscriptionBoard.remove(exp));
   }
 
   private void onDeletion(Import imp) {
-    var targets = subscriptionBoard.remove(imp);
-    var exports = matchExports(imp);
-    sendNotifications(imp, exports, targets);
+    sendNotifications(subscriptionBoard.remove(imp));
   }
 }
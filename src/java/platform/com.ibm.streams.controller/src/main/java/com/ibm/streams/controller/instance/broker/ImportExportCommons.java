@@ -29,20 +29,12 @@ import com.ibm.streams.instance.sam.model.topology.ImportedStreams;
 import com.ibm.streams.instance.sam.model.topology.NameBasedImport;
 import com.ibm.streams.instance.sam.model.topology.PropertyBasedImport;
 import com.ibm.streams.platform.services.ImportedStreamsType;
-import java.io.IOException;
 import java.math.BigInteger;
-import java.net.DatagramPacket;
-import java.net.DatagramSocket;
-import java.net.InetAddress;
 import java.util.Optional;
 import lombok.var;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class ImportExportCommons {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(ImportExportCommons.class);
-
   private static boolean checkApplicationName(Export exp, NameBasedImport imp) {
     return Optional.ofNullable(imp.getApplicationName())
         .map(e -> e.equals(exp.getMetadata().getAnnotations().get(STREAMS_APP_NAME_ANNOTATION_KEY)))
@@ -132,25 +124,4 @@ public class ImportExportCommons {
             });
     return ip;
   }
-
-  static void sendSubscriptionNotification(DatagramSocket socket, String target, String content) {
-    /*
-     * Check if the socket is valid.
-     */
-    if (socket == null) {
-      return;
-    }
-    /*
-     * Send the datagram notification. It is not possible to do partial reads with UDP, so
-     * we need to make sure that the buffer on the other end is big enough.
-     */
-    try {
-      byte[] buffer = content.getBytes();
-      InetAddress address = InetAddress.getByName(target);
-      DatagramPacket packet = new DatagramPacket(buffer, buffer.length, address, 10000);
-      socket.send(packet);
-      LOGGER.debug("Routing notification sent to " + target);
-    } catch (IOException ignored) {
-    }
-  }
 }
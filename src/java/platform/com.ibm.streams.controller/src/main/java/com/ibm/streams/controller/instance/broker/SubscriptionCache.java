@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import com.ibm.streams.controller.crds.imports.Import;
+import com.ibm.streams.controller.utils.IResourceIndex;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.var;
+
+/*
+ * Compiled property-based subscriptions, keyed by import UID. Entries follow the content of the
+ * import store and are only recompiled when the subscription or its scope changes.
+ */
+public class SubscriptionCache implements IResourceIndex<Import> {
+
+  private final Map<String, CompiledSubscription> subscriptions;
+
+  public SubscriptionCache() {
+    this.subscriptions = new ConcurrentHashMap<>();
+  }
+
+  private static String getKey(Import imp) {
+    var uid = imp.getMetadata().getUid();
+    return uid != null ? uid : imp.getMetadata().getName();
+  }
+
+  @Override
+  public void add(Object storeKey, Import imp) {
+    var pbi = imp.getSpec().getStreams().getPropertyBasedImport();
+    if (pbi == null) {
+      return;
+    }
+    var key = getKey(imp);
+    var cur = subscriptions.get(key);
+    if (cur == null || !cur.isCompiledFrom(pbi)) {
+      subscriptions.put(key, CompiledSubscription.compile(pbi));
+    }
+  }
+
+  @Override
+  public void remove(Object storeKey, Import imp) {
+    subscriptions.remove(getKey(imp));
+  }
+
+  @Override
+  public void replace(Object storeKey, Import prior, Import imp) {
+    if (!getKey(prior).equals(getKey(imp))
+        || imp.getSpec().getStreams().getPropertyBasedImport() == null) {
+      remove(storeKey, prior);
+    }
+    add(storeKey, imp);
+  }
+
+  @Override
+  public void clear() {
+    subscriptions.clear();
+  }
+
+  public Optional<CompiledSubscription> get(Import imp) {
+    var pbi = imp.getSpec().getStreams().getPropertyBasedImport();
+    if (pbi == null) {
+      return Optional.empty();
+    }
+    /*
+     * Imports that are no longer in the store, e.g. on deletion, are compiled on the spot.
+     */
+    var cur = subscriptions.get(getKey(imp));
+    if (cur == null || !cur.isCompiledFrom(pbi)) {
+      return Optional.of(CompiledSubscription.compile(pbi));
+    }
+    return Optional.of(cur);
+  }
+}
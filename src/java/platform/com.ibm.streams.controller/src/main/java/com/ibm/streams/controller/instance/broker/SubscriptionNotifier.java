@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.streams.controller.state.subscription.SubscriptionBoard;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.var;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SubscriptionNotifier {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SubscriptionNotifier.class);
+
+  /*
+   * Tell the PE to pull its subscriptions from the subscription service.
+   */
+  static final String PULL_REQUEST = "deadbeef";
+
+  private static final long ADDRESS_TTL_MS = 30000;
+
+  private static class CachedAddress {
+    private final InetAddress address;
+    private final long expiration;
+
+    CachedAddress(InetAddress address, long expiration) {
+      this.address = address;
+      this.expiration = expiration;
+    }
+  }
+
+  private final SubscriptionBoard subscriptionBoard;
+  private final String ns;
+  private final int port;
+  private final long window;
+  private final int maxSize;
+  private final ObjectMapper mapper;
+  private final ScheduledExecutorService scheduler;
+  private final Set<String> pending;
+  private final AtomicBoolean scheduled;
+  private final Map<String, Long> sentVersions;
+  private final Map<String, CachedAddress> addresses;
+
+  private DatagramSocket socket;
+
+  public SubscriptionNotifier(
+      SubscriptionBoard subscriptionBoard, String ns, int port, long window, int maxSize) {
+    this.subscriptionBoard = subscriptionBoard;
+    this.ns = ns;
+    this.port = port;
+    this.window = window;
+    this.maxSize = maxSize;
+    this.mapper = new ObjectMapper();
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              var thread = new Thread(r, "subscription-notifier");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.pending = ConcurrentHashMap.newKeySet();
+    this.scheduled = new AtomicBoolean(false);
+    this.sentVersions = new ConcurrentHashMap<>();
+    this.addresses = new ConcurrentHashMap<>();
+    /*
+     * Create the datagram socket for notifications.
+     */
+    try {
+      this.socket = new DatagramSocket();
+    } catch (SocketException ex) {
+      LOGGER.error("Cannot create a UDP socket, subscription notifications will be disabled.");
+      this.socket = null;
+    }
+  }
+
+  /*
+   * Notify the PEs that their subscriptions changed. The notifications received during the window
+   * are coalesced, and a PE is only notified once per version of its subscriptions.
+   */
+  public void notify(Collection<String> pes) {
+    pending.addAll(pes);
+    if (scheduled.compareAndSet(false, true)) {
+      scheduler.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public void close() {
+    scheduler.shutdownNow();
+    if (socket != null) {
+      socket.close();
+    }
+  }
+
+  protected InetAddress resolve(String target) throws UnknownHostException {
+    return InetAddress.getByName(target);
+  }
+
+  private void flush() {
+    scheduled.set(false);
+    for (String pe : new ArrayList<>(pending)) {
+      pending.remove(pe);
+      generatePayload(pe).ifPresent(content -> send(pe, content));
+    }
+  }
+
+  private Optional<String> generatePayload(String pe) {
+    var subs = subscriptionBoard.get(pe);
+    /*
+     * The PE has no subscription left, have it pull the subscription service to clear its own.
+     */
+    if (subs == null) {
+      sentVersions.remove(pe);
+      return Optional.of(PULL_REQUEST);
+    }
+    /*
+     * Skip the PE if it has been sent that version already.
+     */
+    var version = subs.getVersion();
+    if (sentVersions.getOrDefault(pe, -1L) == version) {
+      return Optional.empty();
+    }
+    sentVersions.put(pe, version);
+    /*
+     * It is not possible to do partial reads with UDP, so the PE pulls the subscription service
+     * when the payload does not fit in its buffer.
+     */
+    try {
+      var content = mapper.writeValueAsString(subs);
+      if (content.getBytes(StandardCharsets.UTF_8).length > maxSize) {
+        LOGGER.debug("Subscriptions of PE {} too large for a datagram", pe);
+        return Optional.of(PULL_REQUEST);
+      }
+      return Optional.of(content);
+    } catch (JsonProcessingException ex) {
+      return Optional.of(PULL_REQUEST);
+    }
+  }
+
+  private InetAddress lookup(String target) throws UnknownHostException {
+    var now = System.currentTimeMillis();
+    var cached = addresses.get(target);
+    if (cached != null && cached.expiration > now) {
+      return cached.address;
+    }
+    var address = resolve(target);
+    addresses.put(target, new CachedAddress(address, now + ADDRESS_TTL_MS));
+    return address;
+  }
+
+  private void send(String pe, String content) {
+    /*
+     * Check if the socket is valid.
+     */
+    if (socket == null) {
+      return;
+    }
+    /*
+     * Send the datagram notification. A lost notification is caught up by the periodic pull of the
+     * PE, which is conditioned on the version of its subscriptions.
+     */
+    var target = pe + "." + ns;
+    try {
+      byte[] buffer = content.getBytes(StandardCharsets.UTF_8);
+      DatagramPacket packet = new DatagramPacket(buffer, buffer.length, lookup(target), port);
+      socket.send(packet);
+      LOGGER.debug("Routing notification sent to " + target);
+    } catch (IOException ex) {
+      addresses.remove(target);
+      LOGGER.debug("Cannot send routing notification to {}: {}", target, ex.getMessage());
+    }
+  }
+}
@@ -19,9 +19,11 @@ package com.ibm.streams.controller.instance.jobs;
 import com.ibm.streams.admin.internal.api.StreamsException;
 import com.ibm.streams.admin.internal.api.trace.StreamsLogger.StreamsLogLevel;
 import com.ibm.streams.admin.internal.api.trace.TraceLogger;
+import com.ibm.streams.controller.bundle.BundleCache;
 import com.ibm.streams.controller.crds.jobs.FusionSpec;
 import com.ibm.streams.controller.crds.jobs.JobSpec;
 import com.ibm.streams.controller.instance.sam.Pipeline;
+import com.ibm.streams.controller.instance.sam.SubmissionContext;
 import com.ibm.streams.controller.utils.CommonEnvironment;
 import com.ibm.streams.instance.sam.model.Job;
 import com.ibm.streams.instance.sam.model.logical.LogicalModel;
@@ -44,14 +46,14 @@ public class JobBridge {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobBridge.class);
   /*
-   * We synchronize access to the underlying SAM pipeline. It is stateful, and we have
-   * to ensure that our interactions with it are atomic: when we create a job through
-   * the pipeline, we must ensure that we get all the information out of the pipeline
-   * that we need before leaving the synchornized method. Subsequent public calls to
-   * synchronized methods will lose that state.
+   * The underlying SAM pipeline is stateful. Each public call runs the pipeline within its own
+   * SubmissionContext, which isolates that state from concurrent calls: we must get all the
+   * information out of the pipeline that we need before leaving the context. Subsequent calls
+   * will not see that state.
    */
   private final Pipeline sam;
   private final CommonEnvironment env;
+  private final BundleCache bundleCache;
 
   private static class ModelWrapper {
     @Getter private final Job job;
@@ -66,6 +68,7 @@ public class JobBridge {
   JobBridge(CommonEnvironment env) {
     this.sam = new Pipeline(StreamsLogLevel.WARN, TraceLogger.Level.WARN);
     this.env = env;
+    this.bundleCache = new BundleCache("adl", env.getBundleCacheSize());
   }
 
   private ComposingInstructions resolveFusion(FusionSpec fusion) {
@@ -83,57 +86,76 @@ public class JobBridge {
     return Pipeline.createManualFuse(numPes);
   }
 
-  private synchronized ModelWrapper createModels(
-      String name,
-      String namespace,
-      JobSpec spec,
-      BigInteger jobId,
-      Map<String, BigInteger> parWidths,
-      boolean resetObjectTracker)
-      throws StreamsException {
+  private String loadADL(String namespace, JobSpec spec) throws StreamsException {
     /*
      * Grab the bundle.
      */
     var bundleLoader = env.getBundleLoader();
-    var bundle = bundleLoader.load(spec.getBundle(), namespace);
+    var bundleSpec = spec.getBundle();
     /*
-     * Get the ADL from the SAB.
+     * Get the ADL from the SAB. Bundles we have already seen are neither downloaded nor extracted
+     * again if they have not changed.
      */
-    var adl = bundle.flatMap(env::getADL);
+    var adl =
+        bundleCache.getADL(
+            BundleCache.keyOf(namespace, bundleSpec),
+            v -> bundleLoader.load(bundleSpec, namespace, v),
+            env::getADL);
     if (!adl.isPresent()) {
       throw new StreamsException("Cannot get the ADL for SAB: " + spec.getBundle().getName());
     }
+    return adl.get();
+  }
+
+  private ModelWrapper createModels(
+      String name,
+      String adl,
+      JobSpec spec,
+      BigInteger jobId,
+      Map<String, BigInteger> parWidths,
+      boolean resetObjectTracker)
+      throws StreamsException {
     /*
      * Create the logical model.
      */
     var cfgs = spec.configurationProperties();
     var subValues = spec.getSubmissionTimeValues();
-    var logicalModel =
-        sam.createLogicalModel(jobId, adl.get(), subValues, cfgs, resetObjectTracker);
+    var start = System.nanoTime();
+    var logicalModel = sam.createLogicalModel(jobId, adl, subValues, cfgs, resetObjectTracker);
+    var modelled = System.nanoTime();
+    JobBridgeMetrics.MODELLING_TIME.observe((modelled - start) / 1e9);
+    /*
+     * Create the job model.
+     */
     var fusion = resolveFusion(spec.getFusion());
-    var jobModel = sam.createJob(name, adl.get(), logicalModel, fusion, cfgs, parWidths);
+    var jobModel = sam.createJob(name, adl, logicalModel, fusion, cfgs, parWidths);
+    JobBridgeMetrics.FUSION_TIME.observe((System.nanoTime() - modelled) / 1e9);
     return new ModelWrapper(jobModel, logicalModel);
   }
 
-  public synchronized JobModelContext create(
-      String name, String namespace, JobSpec spec, BigInteger jobId) throws Exception {
-    /*
-     * Create the models for this job for the first time. Since this is the first time, we use the
-     * parallel widths from the original JobSpec, and we tell the SAM pipeline to start with a
-     * fresh object tracker.
-     */
-    var models =
-        createModels(
-            name,
-            namespace,
-            spec,
-            jobId,
-            spec.getParallelRegionWidths(),
-            Pipeline.RESET_OBJECT_TRACKER);
-    return new JobModelContext(sam, jobId, models.getLogical(), models.getJob());
+  public JobModelContext create(String name, String namespace, JobSpec spec, BigInteger jobId)
+      throws Exception {
+    return new SubmissionContext(jobId)
+        .run(
+            () -> {
+              /*
+               * Create the models for this job for the first time. Since this is the first time,
+               * we use the parallel widths from the original JobSpec, and we tell the SAM
+               * pipeline to start with a fresh object tracker.
+               */
+              var models =
+                  createModels(
+                      name,
+                      loadADL(namespace, spec),
+                      spec,
+                      jobId,
+                      spec.getParallelRegionWidths(),
+                      Pipeline.RESET_OBJECT_TRACKER);
+              return new JobModelContext(sam, jobId, models.getLogical(), models.getJob());
+            });
   }
 
-  synchronized JobModelContext updateParallelWidth(
+  JobModelContext updateParallelWidth(
       String name,
       String namespace,
       JobSpec spec,
@@ -143,57 +165,71 @@ public class JobBridge {
       Map<String, BigInteger> currWidths)
       throws Exception {
     LOGGER.info("Updating parallel widths: {} -> {}", priorWidths, currWidths);
-    /*
-     * The old SAM code needs these sets, but we don't. We let kube determine which PEs/pods to
-     * restart based on whether or not the AADL has changed. We may change the old SAM code
-     * interface in the future to remove the need for these sets.
-     */
-    var changedOperators = new HashSet<String>();
-    var addedOperators = new HashSet<String>();
-    var removedOperators = new HashSet<String>();
-    /*
-     * The prior models contain the application as it is currently running, with the old width. The curr models
-     * contain the application with the new width, and it has the structure that we want. But the operator indexes
-     * don't match with those in the prior model, which means they don't match with what is currently running. We
-     * perform the parallel diff and transfer so that the prior model contains both the correct indexes and the
-     * modified parallel width.
-     */
-    var priorModels =
-        createModels(
-            name + "prior",
-            namespace,
-            spec,
-            spec.getId(),
-            priorWidths,
-            Pipeline.RESET_OBJECT_TRACKER);
-    var currModels =
-        createModels(
-            name + "curr", namespace, spec, spec.getId(), currWidths, Pipeline.KEEP_OBJECT_TRACKER);
-    sam.transferParallelRegionDifference(
-        priorModels.getJob(),
-        currModels.getJob(),
-        region,
-        changedOperators,
-        addedOperators,
-        removedOperators);
-    LOGGER.info("Added operators: {}", addedOperators);
-    LOGGER.info("Removed operators: {}", removedOperators);
-    LOGGER.info("Modified operators: {}", changedOperators);
-    /*
-     * The topology application in priorModels now contains the updated topology application. But, the job object
-     * in the model still represents what is currently running. We need to re-fuse the application to get a new
-     * job object that contains the PEs that we want to run after the width change.
-     */
-    var adl = priorModels.getJob().getConfig().getAdlString();
-    var priorLogicalModel = priorModels.getLogical();
-    var priorTopologyModel = priorModels.getJob().getTopologyApplication();
-    var fusion = resolveFusion(spec.getFusion());
-    var updatedJob =
-        sam.createJob(name, adl, priorLogicalModel, priorTopologyModel, peIdToOperators, fusion);
-    return new JobModelContext(sam, spec.getId(), priorLogicalModel, updatedJob);
+    return new SubmissionContext(spec.getId())
+        .run(
+            () -> {
+              /*
+               * The old SAM code needs these sets, but we don't. We let kube determine which PEs/pods to
+               * restart based on whether or not the AADL has changed. We may change the old SAM code
+               * interface in the future to remove the need for these sets.
+               */
+              var changedOperators = new HashSet<String>();
+              var addedOperators = new HashSet<String>();
+              var removedOperators = new HashSet<String>();
+              /*
+               * The prior models contain the application as it is currently running, with the old width. The curr models
+               * contain the application with the new width, and it has the structure that we want. But the operator indexes
+               * don't match with those in the prior model, which means they don't match with what is currently running. We
+               * perform the parallel diff and transfer so that the prior model contains both the correct indexes and the
+               * modified parallel width.
+               */
+              var adl = loadADL(namespace, spec);
+              var priorModels =
+                  createModels(
+                      name + "prior",
+                      adl,
+                      spec,
+                      spec.getId(),
+                      priorWidths,
+                      Pipeline.RESET_OBJECT_TRACKER);
+              var currModels =
+                  createModels(
+                      name + "curr",
+                      adl,
+                      spec,
+                      spec.getId(),
+                      currWidths,
+                      Pipeline.KEEP_OBJECT_TRACKER);
+              sam.transferParallelRegionDifference(
+                  priorModels.getJob(),
+                  currModels.getJob(),
+                  region,
+                  changedOperators,
+                  addedOperators,
+                  removedOperators);
+              LOGGER.info("Added operators: {}", addedOperators);
+              LOGGER.info("Removed operators: {}", removedOperators);
+              LOGGER.info("Modified operators: {}", changedOperators);
+              /*
+               * The topology application in priorModels now contains the updated topology application. But, the job object
+               * in the model still represents what is currently running. We need to re-fuse the application to get a new
+               * job object that contains the PEs that we want to run after the width change. The operators stay in the PE
+               * they are currently running in, and only the added operators are fused into new PEs, so that the PEs that
+               * are not affected by the change keep their AADL and are not restarted.
+               */
+              var priorLogicalModel = priorModels.getLogical();
+              var priorTopologyModel = priorModels.getJob().getTopologyApplication();
+              var fusion = resolveFusion(spec.getFusion());
+              var start = System.nanoTime();
+              var updatedJob =
+                  sam.createJob(
+                      name, adl, priorLogicalModel, priorTopologyModel, peIdToOperators, fusion);
+              JobBridgeMetrics.FUSION_TIME.observe((System.nanoTime() - start) / 1e9);
+              return new JobModelContext(sam, spec.getId(), priorLogicalModel, updatedJob);
+            });
   }
 
-  public synchronized void close() {
+  public void close() {
     sam.close();
   }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.jobs;
+
+import io.prometheus.client.Histogram;
+
+final class JobBridgeMetrics {
+
+  static final Histogram MODELLING_TIME =
+      Histogram.build()
+          .name("streams_job_modelling_seconds")
+          .help("time spent building the logical model of a job")
+          .buckets(0.01, 0.05, 0.1, 0.5, 1, 2.5, 5, 10, 30, 60)
+          .register();
+
+  static final Histogram FUSION_TIME =
+      Histogram.build()
+          .name("streams_job_fusion_seconds")
+          .help("time spent building the topology of a job and fusing it into PEs")
+          .buckets(0.01, 0.05, 0.1, 0.5, 1, 2.5, 5, 10, 30, 60)
+          .register();
+
+  private JobBridgeMetrics() {}
+}
@@ -41,6 +41,7 @@ import com.ibm.streams.controller.crds.prs.IParallelRegionCoordinator;
 import com.ibm.streams.controller.crds.prs.ParallelRegionFactory;
 import com.ibm.streams.controller.crds.prs.ParallelRegionStore;
 import com.ibm.streams.controller.executor.EExecutionCommand;
+import com.ibm.streams.controller.executor.ExecutionPlan;
 import com.ibm.streams.controller.executor.IExecutor;
 import com.ibm.streams.controller.instance.broker.ImportExportCommons;
 import com.ibm.streams.controller.instance.sam.InputPortLabel;
@@ -69,10 +70,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.var;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -103,6 +107,8 @@ public class JobLauncher {
   private final JobBridge jobBridge;
   private final IExecutor executor;
   private final Map<String, JobModelContext> transitionalContexts;
+  private final Map<String, CompletableFuture<Void>> launches;
+  private final ExecutorService submitter;
   private final CommonEnvironment env;
 
   private KeyPairGenerator keygen;
@@ -151,11 +157,17 @@ public class JobLauncher {
     this.svcStore = svcStore;
     this.svcCoordinator = svcCoordinator;
     this.executor = executor;
-    this.transitionalContexts = new HashMap<>();
+    this.transitionalContexts = new ConcurrentHashMap<>();
+    this.launches = new ConcurrentHashMap<>();
     /*
      * Grab settings from our environment. Our environment object knows if we are in test or not.
      */
     this.env = env;
+    /*
+     * Job models are built on a bounded pool so that a large submission does not hold up the
+     * others, without letting a burst of submissions exhaust the controller.
+     */
+    this.submitter = Executors.newFixedThreadPool(env.getJobSubmissionThreads());
     /*
      * The JobBridge knows about both the Kube, CRD kind of "Job" and the SAM, Pipeline model
      * kind of "Job." On this side of the bridge, we only know about the CRD kind of "Job."
@@ -216,18 +228,18 @@ public class JobLauncher {
     /*
      * Add per-pe config maps.
      */
-    context
-        .getAadls()
-        .forEach(
-            (id, aadl) -> {
-              var hash = DigestUtils.sha256Hex(aadl);
-              var name = JobUtils.getProcessingElementName(job, id);
-              cmFactory.addConfigMap(job, name, id, aadl, hash);
-            });
+    executor.executeEach(
+        context.getAadls().entrySet(),
+        e -> {
+          var hash = context.getAadlContentIds().get(e.getKey());
+          var name = JobUtils.getProcessingElementName(job, e.getKey());
+          cmFactory.addConfigMap(job, name, e.getKey(), e.getValue(), hash);
+        });
   }
 
   private void addServices(Job job, JobModelContext context) {
-    context.getPortLabels().forEach((k, v) -> addService(job, k, v));
+    executor.executeEach(
+        context.getPortLabels().entrySet(), e -> addService(job, e.getKey(), e.getValue()));
   }
 
   private void addService(Job job, BigInteger peId, List<InputPortLabel> ports) {
@@ -240,7 +252,8 @@ public class JobLauncher {
   }
 
   private void addExports(Job job, JobModelContext context) {
-    context.getExports().forEach((k, v) -> addExports(job, k, v));
+    executor.executeEach(
+        context.getExports().entrySet(), e -> addExports(job, e.getKey(), e.getValue()));
   }
 
   private void addExports(Job job, BigInteger peId, List<OutputPort> exports) {
@@ -270,7 +283,8 @@ public class JobLauncher {
   }
 
   private void addImports(Job job, JobModelContext context) {
-    context.getImports().forEach((k, v) -> addImports(job, k, v));
+    executor.executeEach(
+        context.getImports().entrySet(), e -> addImports(job, e.getKey(), e.getValue()));
   }
 
   private void addImports(Job job, BigInteger peId, List<InputPort> imports) {
@@ -300,15 +314,15 @@ public class JobLauncher {
   }
 
   private void addHostPools(Job job, JobModelContext context) {
-    context.getHostPools().forEach((k, v) -> this.hpFactory.addHostPool(job, k, v));
+    executor.executeEach(
+        context.getHostPools().entrySet(),
+        e -> this.hpFactory.addHostPool(job, e.getKey(), e.getValue()));
   }
 
   private void addParallelRegions(Job job, JobModelContext context) {
-    context
-        .getParallelRegions()
-        .values()
-        .forEach(
-            v -> addParallelRegion(job, v, context.getParallelRegionWidths().get(v.getName())));
+    executor.executeEach(
+        context.getParallelRegions().values(),
+        v -> addParallelRegion(job, v, context.getParallelRegionWidths().get(v.getName())));
   }
 
   private void addParallelRegion(
@@ -344,22 +358,16 @@ public class JobLauncher {
     var peMap = peStore.getPreviousPesWithJob(job);
     context.getAadls().entrySet().stream()
         .filter(e -> !peMap.containsKey(e.getKey()))
-        .map(
-            e ->
-                createProcessingElementSpec(
-                    job, context, e.getKey(), e.getValue(), crRegions.get(e.getKey())))
+        .map(e -> createProcessingElementSpec(job, context, e.getKey(), crRegions.get(e.getKey())))
         .sorted((e1, e2) -> mostRestrictiveFirst.compare(e1.getPlacement(), e2.getPlacement()))
         .forEach(e -> addPe(job, e));
     /*
      * If any of the PEs are already running and they have the same content ID, update their generation ID.
      * We use the processing element coordinator to do that synchronously.
      */
-    context.getAadls().entrySet().stream()
+    context.getAadlContentIds().entrySet().stream()
         .filter(e -> peMap.containsKey(e.getKey()))
-        .map(
-            e ->
-                new AbstractMap.SimpleEntry<>(
-                    peMap.get(e.getKey()), DigestUtils.sha256Hex(e.getValue())))
+        .map(e -> new AbstractMap.SimpleEntry<>(peMap.get(e.getKey()), e.getValue()))
         .filter(e -> e.getKey().getSpec().getContentId().equals(e.getValue()))
         .forEach(e -> peCoordinator.touchPe(job, e.getKey()));
     /*
@@ -367,12 +375,9 @@ public class JobLauncher {
      * We want to preserve their various states - in particular, launch count and connectivity. We use
      * the processing element coordinator to do that synchronously.
      */
-    context.getAadls().entrySet().stream()
+    context.getAadlContentIds().entrySet().stream()
         .filter(e -> peMap.containsKey(e.getKey()))
-        .map(
-            e ->
-                new AbstractMap.SimpleEntry<>(
-                    peMap.get(e.getKey()), DigestUtils.sha256Hex(e.getValue())))
+        .map(e -> new AbstractMap.SimpleEntry<>(peMap.get(e.getKey()), e.getValue()))
         .filter(e -> !e.getKey().getSpec().getContentId().equals(e.getValue()))
         .forEach(
             e ->
@@ -392,13 +397,13 @@ public class JobLauncher {
   }
 
   private ProcessingElementSpec createProcessingElementSpec(
-      Job job, JobModelContext context, BigInteger peId, String aadl, Set<Integer> crRegions) {
+      Job job, JobModelContext context, BigInteger peId, Set<Integer> crRegions) {
     /*
      * Build the PE spec.
      */
     ProcessingElementSpec spec = new ProcessingElementSpec(job.getSpec().getProcessingElement());
     spec.setId(peId);
-    spec.setContentId(DigestUtils.sha256Hex(aadl));
+    spec.setContentId(context.getAadlContentIds().get(peId));
     spec.setBundleName(job.getSpec().getBundle().getName());
     spec.setRestartFailedPod(
         spec.restartFailedPod().orElse(context.getPesIsRestartable().get(peId)));
@@ -542,53 +547,147 @@ public class JobLauncher {
      */
     var ctx = transitionalContexts.get(job.getMetadata().getName());
     /*
-     * Add the kubernetes resources.
-     */
-    executor.execute(EExecutionCommand.ADD_CONFIGMAPS, () -> addConfigMaps(job, ctx));
-    executor.execute(EExecutionCommand.ADD_SERVICES, () -> addServices(job, ctx));
-    executor.execute(EExecutionCommand.ADD_HOST_POOLS, () -> addHostPools(job, ctx));
-    executor.execute(EExecutionCommand.ADD_EXPORTS, () -> addExports(job, ctx));
-    executor.execute(EExecutionCommand.ADD_IMPORTS, () -> addImports(job, ctx));
-    executor.execute(EExecutionCommand.ADD_CONSISTENT_REGIONS, () -> addConsistentRegion(job, ctx));
-    executor.execute(EExecutionCommand.ADD_PARALLEL_REGIONS, () -> addParallelRegions(job, ctx));
+     * Add the kubernetes resources. The resources of different kinds are independent, except for
+     * the PEs: they trigger the creation of the pods, so they come last, once everything the pods
+     * may need exists. A kind that fails does not stop the others, but holds back the PEs. The
+     * failures are then thrown together in an ExecutionPlanException.
+     */
+    var plan =
+        new ExecutionPlan()
+            .add(EExecutionCommand.ADD_CONFIGMAPS, () -> addConfigMaps(job, ctx))
+            .add(EExecutionCommand.ADD_SERVICES, () -> addServices(job, ctx))
+            .add(EExecutionCommand.ADD_HOST_POOLS, () -> addHostPools(job, ctx))
+            .add(EExecutionCommand.ADD_EXPORTS, () -> addExports(job, ctx))
+            .add(EExecutionCommand.ADD_IMPORTS, () -> addImports(job, ctx))
+            .add(EExecutionCommand.ADD_CONSISTENT_REGIONS, () -> addConsistentRegion(job, ctx))
+            .add(EExecutionCommand.ADD_PARALLEL_REGIONS, () -> addParallelRegions(job, ctx))
+            .add(
+                EExecutionCommand.ADD_PES,
+                () -> addPes(job, ctx),
+                EExecutionCommand.ADD_CONFIGMAPS,
+                EExecutionCommand.ADD_SERVICES,
+                EExecutionCommand.ADD_HOST_POOLS,
+                EExecutionCommand.ADD_EXPORTS,
+                EExecutionCommand.ADD_IMPORTS,
+                EExecutionCommand.ADD_CONSISTENT_REGIONS,
+                EExecutionCommand.ADD_PARALLEL_REGIONS);
     /*
      * Note that the order in which we add and delete PEs matters. Adding PEs
      * involves looking up the specs for the currently running (old, previous)
      * PEs. They must still exist for us to do so, so we must add the new PEs
      * first, then delete the old ones.
      */
-    executor.execute(EExecutionCommand.ADD_PES, () -> addPes(job, ctx));
+    executor.execute(plan);
   }
 
   public void deleteResources(Job job) {
-    executor.execute(EExecutionCommand.DELETE_PES, () -> peFactory.deletePes(job));
-    executor.execute(
-        EExecutionCommand.DELETE_PARALLEL_REGIONS, () -> prFactory.deleteParallelRegions(job));
-    executor.execute(
-        EExecutionCommand.DELETE_CONSISTEMT_REGIONS, () -> crFactory.deleteConsistentRegions(job));
-    executor.execute(EExecutionCommand.DELETE_IMPORTS, () -> impFactory.deleteImports(job));
-    executor.execute(EExecutionCommand.DELETE_EXPORTS, () -> expFactory.deleteExports(job));
-    executor.execute(EExecutionCommand.DELETE_HOST_POOLS, () -> hpFactory.deleteHostPools(job));
-    executor.execute(EExecutionCommand.DELETE_SERVICES, () -> svcFactory.deleteServices(job));
-    executor.execute(EExecutionCommand.DELETE_CONFIGMAPS, () -> cmFactory.deleteConfigMaps(job));
+    /*
+     * The PEs go first, the other resources are independent.
+     */
+    var plan =
+        new ExecutionPlan()
+            .add(EExecutionCommand.DELETE_PES, () -> peFactory.deletePes(job))
+            .add(
+                EExecutionCommand.DELETE_PARALLEL_REGIONS,
+                () -> prFactory.deleteParallelRegions(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_CONSISTEMT_REGIONS,
+                () -> crFactory.deleteConsistentRegions(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_IMPORTS,
+                () -> impFactory.deleteImports(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_EXPORTS,
+                () -> expFactory.deleteExports(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_HOST_POOLS,
+                () -> hpFactory.deleteHostPools(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_SERVICES,
+                () -> svcFactory.deleteServices(job),
+                EExecutionCommand.DELETE_PES)
+            .add(
+                EExecutionCommand.DELETE_CONFIGMAPS,
+                () -> cmFactory.deleteConfigMaps(job),
+                EExecutionCommand.DELETE_PES);
+    executor.execute(plan);
   }
 
   public void removeJobFromTransitionalContext(String jobName) {
     transitionalContexts.remove(jobName);
   }
 
-  public void launch(Job job, BigInteger jobId) throws Exception {
-    /*
-     * Create the job models (logical, topological and final fusion).
-     */
+  public CompletableFuture<Void> launch(Job job, BigInteger jobId) {
     var jobName = job.getMetadata().getName();
-    var jobNamespace = job.getMetadata().getNamespace();
-    var jobSpec = job.getSpec();
-    var context = jobBridge.create(jobName, jobNamespace, jobSpec, jobId);
-    /*
-     * Since this is the first launch of this job, its generation ID is 0.
-     */
-    update(job, jobId, BigInteger.valueOf(0), context);
+    var launch = new CompletableFuture<Void>();
+    launches.put(jobName, launch);
+    submitter.execute(
+        () -> {
+          try {
+            /*
+             * Create the job models (logical, topological and final fusion), unless the job was
+             * deleted in the meantime.
+             */
+            if (launch.isDone()) {
+              return;
+            }
+            var jobNamespace = job.getMetadata().getNamespace();
+            var jobSpec = job.getSpec();
+            var context = jobBridge.create(jobName, jobNamespace, jobSpec, jobId);
+            /*
+             * Commit the launch under its lock, which cancel() also takes: either cancel() got
+             * there first and the job must be left alone, or the transitional context and the job
+             * update are in place before cancel() returns.
+             */
+            synchronized (launch) {
+              if (launch.isDone()) {
+                return;
+              }
+              /*
+               * Since this is the first launch of this job, its generation ID is 0.
+               */
+              update(job, jobId, BigInteger.valueOf(0), context);
+              launch.complete(null);
+            }
+          } catch (Exception e) {
+            launch.completeExceptionally(e);
+          } finally {
+            launches.remove(jobName, launch);
+          }
+        });
+    return launch;
+  }
+
+  /**
+   * Cancel the pending launch of a job, if any. A launch is pending until the job has been updated
+   * with its models. Once cancelled, the launch leaves the job untouched and its future is
+   * cancelled. A launch that is being committed is waited for, and is not cancelled.
+   *
+   * @param job the job being deleted
+   * @return true if a pending launch was cancelled
+   */
+  public boolean cancel(Job job) {
+    var launch = launches.remove(job.getMetadata().getName());
+    if (launch == null) {
+      return false;
+    }
+    LOGGER.debug("Cancel the launch of job {}", job.getMetadata().getName());
+    synchronized (launch) {
+      return launch.cancel(false);
+    }
+  }
+
+  public boolean isLaunching(String jobName) {
+    return launches.containsKey(jobName);
+  }
+
+  public boolean hasTransitionalContext(String jobName) {
+    return transitionalContexts.containsKey(jobName);
   }
 
   /*
@@ -630,6 +729,7 @@ public class JobLauncher {
   }
 
   public void close() {
+    submitter.shutdownNow();
     jobBridge.close();
   }
 }
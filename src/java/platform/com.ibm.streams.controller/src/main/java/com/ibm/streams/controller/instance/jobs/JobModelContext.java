@@ -27,6 +27,7 @@ import com.ibm.streams.instance.sam.model.topology.Hostpool;
 import com.ibm.streams.instance.sam.model.topology.ParallelRegion;
 import com.ibm.streams.instance.sam.model.topology.PoolLocation;
 import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -67,6 +68,10 @@ public class JobModelContext {
    * PE ID -> AADL.
    */
   @Getter private final Map<BigInteger, String> aadls;
+  /*
+   * PE ID -> SHA-256 digest of the AADL.
+   */
+  @Getter private final Map<BigInteger, String> aadlContentIds;
   /*
    * Consistent region index -> consistent region.
    */
@@ -118,7 +123,8 @@ public class JobModelContext {
     /*
      * Make all of the SAM pipeline calls that inspect the job model.
      */
-    this.aadls = sam.getAADLs(jobModel);
+    this.aadlContentIds = new HashMap<>();
+    this.aadls = sam.getAADLs(jobModel, this.aadlContentIds);
     this.consistentRegions = sam.createConsistentRegions(jobId, logicalModel, jobModel);
     this.exports = sam.getExports(jobModel);
     this.hostPools = sam.getHostPools(jobModel);
@@ -16,6 +16,7 @@
 
 package com.ibm.streams.controller.instance.rest.providers;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.platform.services.ImportedStreamsType;
 import com.ibm.streams.platform.services.ObjectFactory;
 import java.io.IOException;
@@ -28,20 +29,16 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 @Provider
 @Produces(MediaType.APPLICATION_XML)
 public class ImportedStreamsTypeWriter implements MessageBodyWriter<ImportedStreamsType> {
 
-  private JAXBContext context = JAXBContext.newInstance(ImportedStreamsType.class);
-  private Marshaller marshaller = context.createMarshaller();
+  private final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(ImportedStreamsType.class);
   private ObjectFactory factory = new ObjectFactory();
 
-  public ImportedStreamsTypeWriter() throws JAXBException {}
-
   @Override
   public boolean isWriteable(
       Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
@@ -59,7 +56,9 @@ public class ImportedStreamsTypeWriter implements MessageBodyWriter<ImportedStre
       OutputStream outputStream)
       throws IOException, WebApplicationException {
     try {
-      marshaller.marshal(factory.createImportedStreams(importedStreamsType), outputStream);
+      binding
+          .getMarshaller()
+          .marshal(factory.createImportedStreams(importedStreamsType), outputStream);
     } catch (JAXBException e) {
       e.printStackTrace();
       throw new IOException(e.getMessage());
@@ -16,6 +16,7 @@
 
 package com.ibm.streams.controller.instance.rest.providers;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.platform.services.ObjectFactory;
 import com.ibm.streams.platform.services.StreamPropertiesType;
 import java.io.IOException;
@@ -28,20 +29,16 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 @Provider
 @Produces(MediaType.APPLICATION_XML)
 public class StreamPropertiesTypeWriter implements MessageBodyWriter<StreamPropertiesType> {
 
-  private JAXBContext context = JAXBContext.newInstance(StreamPropertiesType.class);
-  private Marshaller marshaller = context.createMarshaller();
+  private final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(StreamPropertiesType.class);
   private ObjectFactory factory = new ObjectFactory();
 
-  public StreamPropertiesTypeWriter() throws JAXBException {}
-
   @Override
   public boolean isWriteable(
       Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
@@ -59,7 +56,9 @@ public class StreamPropertiesTypeWriter implements MessageBodyWriter<StreamPrope
       OutputStream outputStream)
       throws IOException, WebApplicationException {
     try {
-      marshaller.marshal(factory.createStreamProperties(streamPropertiesType), outputStream);
+      binding
+          .getMarshaller()
+          .marshal(factory.createStreamProperties(streamPropertiesType), outputStream);
     } catch (JAXBException e) {
       e.printStackTrace();
       throw new IOException(e.getMessage());
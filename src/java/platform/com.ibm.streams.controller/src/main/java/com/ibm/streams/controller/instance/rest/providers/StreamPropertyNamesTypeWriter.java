@@ -16,6 +16,7 @@
 
 package com.ibm.streams.controller.instance.rest.providers;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.platform.services.ObjectFactory;
 import com.ibm.streams.platform.services.StreamPropertyNamesType;
 import java.io.IOException;
@@ -28,20 +29,16 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
 
 @Provider
 @Produces(MediaType.APPLICATION_XML)
 public class StreamPropertyNamesTypeWriter implements MessageBodyWriter<StreamPropertyNamesType> {
 
-  private JAXBContext context = JAXBContext.newInstance(StreamPropertyNamesType.class);
-  private Marshaller marshaller = context.createMarshaller();
+  private final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(StreamPropertyNamesType.class);
   private ObjectFactory factory = new ObjectFactory();
 
-  public StreamPropertyNamesTypeWriter() throws JAXBException {}
-
   @Override
   public boolean isWriteable(
       Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
@@ -59,7 +56,9 @@ public class StreamPropertyNamesTypeWriter implements MessageBodyWriter<StreamPr
       OutputStream outputStream)
       throws IOException, WebApplicationException {
     try {
-      marshaller.marshal(factory.createStreamPropertyNames(streamPropertyNamesType), outputStream);
+      binding
+          .getMarshaller()
+          .marshal(factory.createStreamPropertyNames(streamPropertyNamesType), outputStream);
     } catch (JAXBException e) {
       e.printStackTrace();
       throw new IOException(e.getMessage());
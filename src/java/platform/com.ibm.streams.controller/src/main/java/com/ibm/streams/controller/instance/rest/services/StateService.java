@@ -26,7 +26,6 @@ import com.ibm.streams.controller.crds.prs.IParallelRegionCoordinator;
 import com.ibm.streams.controller.crds.prs.ParallelRegion;
 import com.ibm.streams.controller.crds.prs.ParallelRegionStore;
 import com.ibm.streams.controller.state.capture.CaptureConverter;
-import com.ibm.xmlns.prod.streams.api.state.Instance;
 import java.math.BigInteger;
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
@@ -37,8 +36,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import lombok.var;
 
 @Path("/api/state")
@@ -80,8 +81,18 @@ public class StateService {
 
   @GET
   @Produces(MediaType.APPLICATION_XML)
-  public Instance captureInstanceState(@Context Request request) {
-    return captureConverter.captureInstanceState(namespace);
+  public Response captureInstanceState(@Context Request request) {
+    var capture = captureConverter.capture(namespace);
+    /*
+     * The version of the capture is used as entity tag so that pollers can capture conditionally.
+     * The instance is marshalled straight into the response by the JAXB provider.
+     */
+    var tag = new EntityTag(String.valueOf(capture.getVersion()));
+    var builder = request.evaluatePreconditions(tag);
+    if (builder == null) {
+      builder = Response.ok(capture.getInstance());
+    }
+    return builder.tag(tag).build();
   }
 
   @GET
@@ -118,6 +129,10 @@ public class StateService {
       Connectivity connectivity) {
     var job = getJob(jobName);
     var pe = getPe(job, peId);
+    /*
+     * The JDK HTTP container cannot suspend a request, so the handler waits for the command on the
+     * container thread.
+     */
     peCoordinator.updatePeConnectivity(pe, connectivity);
   }
 
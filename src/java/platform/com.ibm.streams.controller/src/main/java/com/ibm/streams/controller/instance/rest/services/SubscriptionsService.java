@@ -28,7 +28,6 @@ import com.ibm.streams.controller.crds.imports.ImportStore;
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.crds.jobs.JobStore;
 import com.ibm.streams.controller.state.subscription.SubscriptionBoard;
-import com.ibm.streams.controller.state.subscription.Subscriptions;
 import com.ibm.streams.instance.sam.SamUtilFunctions;
 import com.ibm.streams.instance.sam.model.topology.StreamProperty;
 import com.ibm.streams.platform.services.ImportedStreamsType;
@@ -54,8 +53,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import lombok.var;
 
 @Path("/api/subscriptions")
@@ -99,12 +100,22 @@ public class SubscriptionsService {
   @GET
   @Path("/job/{jobName}/pe/{peId}")
   @Produces(MediaType.APPLICATION_JSON)
-  public Subscriptions getSubscriptionsForId(
+  public Response getSubscriptionsForId(
       @Context Request request,
       @PathParam("jobName") String jobName,
       @PathParam("peId") String peId) {
-    return Optional.ofNullable(subscriptionBoard.get(jobName + "-" + peId))
-        .orElseThrow(NotFoundException::new);
+    var subs =
+        Optional.ofNullable(subscriptionBoard.get(jobName + "-" + peId))
+            .orElseThrow(NotFoundException::new);
+    /*
+     * The version of the subscriptions is used as entity tag so that PEs can poll conditionally.
+     */
+    var tag = new EntityTag(String.valueOf(subs.getVersion()));
+    var builder = request.evaluatePreconditions(tag);
+    if (builder == null) {
+      builder = Response.ok(subs);
+    }
+    return builder.tag(tag).build();
   }
 
   /*
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.sam;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/*
+ * Collect a serialized AADL on a single line and compute its SHA-256 digest as it is written.
+ *
+ * The AADLs are marshalled with indentation, which we strip: a line break and all the whitespace
+ * that follows it are dropped, as the "\n+\s*" expression would. Whitespace is ASCII, and bytes of
+ * multi-byte UTF-8 sequences are never ASCII, so the stripping can be done on the encoded bytes.
+ * The digest is that of the UTF-8 encoding of the content, the same as DigestUtils.sha256Hex().
+ */
+class AADLOutputStream extends ByteArrayOutputStream {
+
+  private final MessageDigest digest = DigestUtils.getSha256Digest();
+  private boolean skipping = false;
+
+  AADLOutputStream() {
+    super(8192);
+  }
+
+  private static boolean isWhitespace(int b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+  }
+
+  private boolean isSkipped(int b) {
+    if (b == '\n') {
+      skipping = true;
+    } else if (skipping && !isWhitespace(b)) {
+      skipping = false;
+    }
+    return skipping;
+  }
+
+  @Override
+  public synchronized void write(int b) {
+    if (!isSkipped(b)) {
+      super.write(b);
+      digest.update((byte) b);
+    }
+  }
+
+  @Override
+  public synchronized void write(byte[] b, int off, int len) {
+    /*
+     * Copy the runs of kept bytes in bulk.
+     */
+    int start = off;
+    for (int i = off; i < off + len; i++) {
+      if (isSkipped(b[i])) {
+        if (i > start) {
+          super.write(b, start, i - start);
+          digest.update(b, start, i - start);
+        }
+        start = i + 1;
+      }
+    }
+    if (off + len > start) {
+      super.write(b, start, off + len - start);
+      digest.update(b, start, off + len - start);
+    }
+  }
+
+  public synchronized String getContent() {
+    return new String(buf, 0, count, StandardCharsets.UTF_8);
+  }
+
+  /*
+   * Complete the digest. It must be called once, after the AADL is written.
+   */
+  public String getContentId() {
+    return Hex.encodeHexString(digest.digest());
+  }
+}
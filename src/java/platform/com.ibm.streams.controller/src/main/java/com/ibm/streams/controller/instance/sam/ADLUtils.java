@@ -16,82 +16,187 @@
 
 package com.ibm.streams.controller.instance.sam;
 
-import com.ibm.streams.admin.internal.api.application.bundle.BundleInfo;
 import com.ibm.streams.controller.bundle.Bundle;
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.StringReader;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.zip.ZipInputStream;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
 import lombok.var;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Element;
-import org.xml.sax.InputSource;
 
+/*
+ * Extract the ADL from a SAB without writing the SAB to disk.
+ *
+ * A SAB is a ZIP archive that contains a bundleInfo.xml descriptor, which names the ADL file and
+ * gives the build ID, and a tar/bundle.tar archive that contains the ADL. We read both in a single
+ * pass over the SAB. The entries may come in any order, so we keep the content of every ADL
+ * candidate in the tar archive until we know its name. The attributes of the ADL are then patched
+ * with a StAX event filter, so that the peak heap usage is in the order of the size of the ADL.
+ */
 public class ADLUtils {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ADLUtils.class);
 
-  public static Optional<String> getADLFromFile(String fileName) {
+  private static final String BUNDLE_INFO = "bundleInfo.xml";
+  private static final String BUNDLE_TAR = "tar/bundle.tar";
+  private static final String ADL_SUFFIX = ".adl";
+  private static final String APPLICATION = "splApplication";
+  private static final QName BUILD_ID = new QName("buildId");
+  private static final QName OUTPUT_DIRECTORY = new QName("outputDirectory");
+  private static final QName APPLICATION_DIRECTORY = new QName("applicationDirectory");
+
+  private static final XMLEventFactory EVENT_FACTORY = XMLEventFactory.newInstance();
+
+  private static class BundleContent {
+    private String buildId;
+    private String adlFile;
+    private final Map<String, byte[]> adls = new HashMap<>();
+
+    Optional<byte[]> getADL() {
+      if (adlFile == null) {
+        return Optional.empty();
+      }
+      return adls.entrySet().stream()
+          .filter(e -> e.getKey().endsWith("/" + adlFile))
+          .map(Map.Entry::getValue)
+          .findFirst();
+    }
+  }
+
+  private static void readBundleInfo(InputStream is, BundleContent content) throws Exception {
+    var doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(is);
+    var root = doc.getDocumentElement();
+    content.buildId = root.getAttribute("buildId");
+    content.adlFile = root.getAttribute("adlFile");
+  }
+
+  private static void readBundleTar(InputStream is, BundleContent content) throws IOException {
+    var tar = new TarArchiveInputStream(is);
+    for (var entry = tar.getNextTarEntry(); entry != null; entry = tar.getNextTarEntry()) {
+      if (entry.isFile() && entry.getName().endsWith(ADL_SUFFIX)) {
+        content.adls.put(entry.getName(), IOUtils.toByteArray(tar));
+      }
+    }
+  }
+
+  private static BundleContent readBundle(InputStream is) throws Exception {
+    var content = new BundleContent();
+    try (var zip = new ZipInputStream(is)) {
+      for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+        /*
+         * The nested readers must not close the SAB stream.
+         */
+        if (entry.getName().equals(BUNDLE_INFO)) {
+          readBundleInfo(new CloseShieldInputStream(zip), content);
+        } else if (entry.getName().equals(BUNDLE_TAR)) {
+          readBundleTar(new CloseShieldInputStream(zip), content);
+        }
+      }
+    }
+    return content;
+  }
+
+  private static StartElement patchApplication(StartElement app, String buildId) {
+    var odir =
+        Optional.ofNullable(app.getAttributeByName(OUTPUT_DIRECTORY)).map(Attribute::getValue);
+    var adir =
+        Optional.ofNullable(app.getAttributeByName(APPLICATION_DIRECTORY)).map(Attribute::getValue);
+    var outputDirectory = "/tmp/assets/" + odir.orElse("");
+    var attrs = new ArrayList<Attribute>();
+    attrs.add(EVENT_FACTORY.createAttribute(BUILD_ID, buildId));
+    attrs.add(EVENT_FACTORY.createAttribute(OUTPUT_DIRECTORY, outputDirectory));
+    attrs.add(
+        EVENT_FACTORY.createAttribute(
+            APPLICATION_DIRECTORY, outputDirectory + "/" + adir.orElse("")));
+    /*
+     * Keep the other attributes as they are.
+     */
+    for (var it = app.getAttributes(); it.hasNext(); ) {
+      var attr = (Attribute) it.next();
+      var name = attr.getName();
+      if (!name.equals(BUILD_ID)
+          && !name.equals(OUTPUT_DIRECTORY)
+          && !name.equals(APPLICATION_DIRECTORY)) {
+        attrs.add(attr);
+      }
+    }
+    return EVENT_FACTORY.createStartElement(app.getName(), attrs.iterator(), app.getNamespaces());
+  }
+
+  static String patchADL(InputStream adl, String buildId) throws XMLStreamException {
+    /*
+     * NOTE the JDK stream factories recycle their readers, so we do not share them between
+     * concurrent submissions.
+     */
+    var reader = XMLInputFactory.newInstance().createXMLEventReader(adl);
+    var result = new StringWriter();
+    var writer = XMLOutputFactory.newInstance().createXMLEventWriter(result);
+    try {
+      while (reader.hasNext()) {
+        var event = reader.nextEvent();
+        /*
+         * Omit the XML declaration and patch the application element.
+         */
+        if (event.isStartDocument() || event.isEndDocument()) {
+          continue;
+        }
+        if (event.isStartElement()
+            && event.asStartElement().getName().getLocalPart().equals(APPLICATION)) {
+          event = patchApplication(event.asStartElement(), buildId);
+        }
+        writer.add(event);
+      }
+      writer.flush();
+    } finally {
+      writer.close();
+      reader.close();
+    }
+    return result.toString();
+  }
+
+  public static Optional<String> getADLFromStream(InputStream is) {
     try {
-      /*
-       * Load the bundle info.
-       */
-      var bundleInfo = new BundleInfo(fileName, null);
-      var bundleId = bundleInfo.getBuildID();
-      var xml = bundleInfo.getADLXML();
-      /*
-       * Parse the document.
-       */
-      var dbFactory = DocumentBuilderFactory.newInstance();
-      var dBuilder = dbFactory.newDocumentBuilder();
-      var doc = dBuilder.parse(new InputSource(new StringReader(xml)));
-      var app = (Element) doc.getElementsByTagName("splApplication").item(0);
-      app.setAttribute("buildId", bundleId);
-      /*
-       * Fix-up the output directory.
-       */
-      var odir = app.getAttribute("outputDirectory");
-      app.setAttribute("outputDirectory", "/tmp/assets/" + odir);
-      /*
-       * Fix-up the application directory.
-       */
-      var adir = app.getAttribute("applicationDirectory");
-      app.setAttribute("applicationDirectory", "/tmp/assets/" + odir + "/" + adir);
-      /*
-       * Generate the new document.
-       */
-      var tf = TransformerFactory.newInstance();
-      var transformer = tf.newTransformer();
-      transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-      var writer = new StringWriter();
-      transformer.transform(new DOMSource(doc), new StreamResult(writer));
-      return Optional.of(writer.getBuffer().toString());
+      var content = readBundle(is);
+      var adl = content.getADL();
+      if (!adl.isPresent()) {
+        LOGGER.error("Cannot find ADL {} in bundle", content.adlFile);
+        return Optional.empty();
+      }
+      return Optional.of(patchADL(new ByteArrayInputStream(adl.get()), content.buildId));
     } catch (Exception e) {
       e.printStackTrace();
       return Optional.empty();
     }
   }
 
-  public static Optional<String> getADLFromBundle(Bundle bundle) {
-    try {
-      var fileName = "/tmp/" + bundle.getName();
-      var tmpFile = new File(fileName);
-      var ostream = new FileOutputStream(tmpFile);
-      ostream.write(bundle.getContent());
-      var adl = getADLFromFile(fileName);
-      ostream.close();
-      tmpFile.delete();
-      return adl;
-    } catch (Exception e) {
+  public static Optional<String> getADLFromFile(String fileName) {
+    try (var is = new FileInputStream(fileName)) {
+      return getADLFromStream(is);
+    } catch (IOException e) {
       e.printStackTrace();
       return Optional.empty();
     }
   }
+
+  public static Optional<String> getADLFromBundle(Bundle bundle) {
+    return getADLFromStream(new ByteArrayInputStream(bundle.getContent()));
+  }
 }
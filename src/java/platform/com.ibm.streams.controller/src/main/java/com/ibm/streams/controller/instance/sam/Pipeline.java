@@ -17,7 +17,6 @@
 package com.ibm.streams.controller.instance.sam;
 
 import com.ibm.distillery.utils.DistilleryException;
-import com.ibm.distillery.utils.exc.SerializationException;
 import com.ibm.streams.admin.internal.api.StreamsException;
 import com.ibm.streams.admin.internal.api.trace.ConsoleLogger;
 import com.ibm.streams.admin.internal.api.trace.LogManager;
@@ -36,6 +35,7 @@ import com.ibm.streams.instance.sam.model.InputPort;
 import com.ibm.streams.instance.sam.model.Job;
 import com.ibm.streams.instance.sam.model.OutputPort;
 import com.ibm.streams.instance.sam.model.Pe;
+import com.ibm.streams.instance.sam.model.composer.ContainerSpecification;
 import com.ibm.streams.instance.sam.model.fuser.FusedApplication;
 import com.ibm.streams.instance.sam.model.logical.LogicalModel;
 import com.ibm.streams.instance.sam.model.logical.LogicalModelFactory;
@@ -58,6 +58,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -66,8 +67,12 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.var;
 import org.slf4j.Logger;
@@ -80,6 +85,9 @@ public class Pipeline {
   public static final boolean RESET_OBJECT_TRACKER = true;
   public static final boolean KEEP_OBJECT_TRACKER = false;
 
+  private static final ForkJoinPool aadlPool =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
   public Pipeline(StreamsLogger.StreamsLogLevel logLevel, TraceLogger.Level traceLevel) {
     ConsoleLogger logger = new ConsoleLogger();
     logger.setLevel(logLevel);
@@ -120,7 +128,8 @@ public class Pipeline {
        * that we throw out the old state in the old ObjectTracker. We can
        * do this because the main purpose of the ObjectTracker was to
        * manage state persistence, but we now rely on Kubernetes for
-       * that.
+       * that. Within a SubmissionContext, the new ObjectTracker only
+       * replaces the one bound to the current thread.
        */
       if (resetObjectTracker) {
         ObjectTracker tracker = new ObjectTracker();
@@ -239,9 +248,61 @@ public class Pipeline {
     return job;
   }
 
+  /*
+   * Compose the containers of an updated topology while keeping the operators of the given PEs
+   * together. Only the operators that do not belong to any of these PEs, like the channels added by
+   * a width increase, are fused into new containers. Operators that no longer exist are dropped
+   * from their PE, and the PEs left empty disappear. Returns nothing if the result does not cover
+   * the topology exactly, in which case the caller must compose the whole application again.
+   */
+  private Optional<SortedSet<ContainerSpecification>> composeIncrementally(
+      TopologyApplication topologyModel,
+      Map<BigInteger, Set<String>> peIdToOperators,
+      ComposingInstructions compInst)
+      throws StreamsException {
+    var nodes =
+        topologyModel.getNodes().stream().collect(Collectors.toMap(TopologyNode::getName, n -> n));
+    var precomposed = new HashSet<ContainerSpecification>();
+    for (var entry : new TreeMap<>(peIdToOperators).entrySet()) {
+      var peNodes =
+          entry.getValue().stream()
+              .map(nodes::get)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toCollection(TreeSet::new));
+      if (!peNodes.isEmpty()) {
+        precomposed.add(new ContainerSpecification(entry.getKey().toString(), peNodes));
+      }
+    }
+    var composer = new IEUComposer(topologyModel, precomposed);
+    composer.buildComposerModel(false);
+    var composed = composer.composeContainerSpecs(compInst);
+    /*
+     * The composer returns a precomposed container along with the new ones if it had to absorb new
+     * operators, for instance because they must be colocated with its own. That container then
+     * supersedes the precomposed one.
+     */
+    var placed = composed.stream().flatMap(c -> c.getNodes().stream()).collect(Collectors.toSet());
+    SortedSet<ContainerSpecification> containers = new TreeSet<>(composed);
+    precomposed.stream()
+        .filter(c -> c.getNodes().stream().noneMatch(placed::contains))
+        .forEach(containers::add);
+    var covered = new HashSet<TopologyNode>();
+    var count = 0;
+    for (var container : containers) {
+      covered.addAll(container.getNodes());
+      count += container.getNodes().size();
+    }
+    if (count != covered.size() || !covered.equals(topologyModel.getNodes())) {
+      logger.warn("Incremental fusion does not cover the topology, fusing the whole application");
+      return Optional.empty();
+    }
+    return Optional.of(containers);
+  }
+
   /*
    * Assumes that the given topologyApplication is for the given logicalModel, but does not enforce it. If that is
-   * not the case, the returned job will be nonsense.
+   * not the case, the returned job will be nonsense. The operators keep the PE they have in the given mapping
+   * whenever possible, so that the PEs that are not affected by the change keep the same AADL.
    */
   public Job createJob(
       String jobName,
@@ -257,14 +318,17 @@ public class Pipeline {
      */
     try {
       /*
-       * Build the topology model.
-       */
-      var composer = new IEUComposer(topologyModel, null);
-      composer.buildComposerModel(false);
-      /*
-       * Build the fuser.
+       * Build the fuser, from the current PEs if possible.
        */
-      var containers = new TreeSet<>(composer.composeContainerSpecs(compInst));
+      var incremental = composeIncrementally(topologyModel, peIdToOperators, compInst);
+      SortedSet<ContainerSpecification> containers;
+      if (incremental.isPresent()) {
+        containers = incremental.get();
+      } else {
+        var composer = new IEUComposer(topologyModel, null);
+        composer.buildComposerModel(false);
+        containers = new TreeSet<>(composer.composeContainerSpecs(compInst));
+      }
       var fused = new FusedApplication(topologyModel, containers);
       /*
        * Build the job.
@@ -339,18 +403,56 @@ public class Pipeline {
   }
 
   public SortedMap<BigInteger, String> getAADLs(Job job) throws StreamsException {
+    return getAADLs(job, null);
+  }
+
+  /*
+   * Build and serialize the AADL of each PE. The PEs are independent, so they are processed on the
+   * AADL pool, bound to the object tracker of the calling thread. The results are collected in PE
+   * ID order. If contentIds is not null, it receives the SHA-256 digest of each AADL.
+   */
+  public SortedMap<BigInteger, String> getAADLs(Job job, Map<BigInteger, String> contentIds)
+      throws StreamsException {
+    var tracker = SAMStaticContext.getObjectTracker();
+    var pending = new TreeMap<BigInteger, Future<AADLOutputStream>>();
+    for (Map.Entry<BigInteger, Pe> entry : job.getPes().entrySet()) {
+      Pe pe = entry.getValue();
+      pending.put(
+          entry.getKey(),
+          aadlPool.submit(
+              () -> {
+                var prior = SAMStaticContext.bindObjectTracker(tracker);
+                try {
+                  var aadl = new AADLOutputStream();
+                  SAMClientHelper.serializeAugmentedPEType(pe.toXml(), aadl);
+                  return aadl;
+                } finally {
+                  SAMStaticContext.bindObjectTracker(prior);
+                }
+              }));
+    }
     SortedMap<BigInteger, String> aadlMap = new TreeMap<>();
     try {
-      for (Map.Entry<BigInteger, Pe> entry : job.getPes().entrySet()) {
-        BigInteger peId = entry.getKey();
-        Pe pe = entry.getValue();
-        AugmentedPEType xml = pe.toXml();
-        String serializedXML = SAMClientHelper.serializeAugmentedPEType(xml);
-        String cleanedXML = serializedXML.replaceAll("\\n+\\s*", "");
-        aadlMap.put(peId, cleanedXML);
+      for (Map.Entry<BigInteger, Future<AADLOutputStream>> entry : pending.entrySet()) {
+        var aadl = entry.getValue().get();
+        aadlMap.put(entry.getKey(), aadl.getContent());
+        if (contentIds != null) {
+          contentIds.put(entry.getKey(), aadl.getContentId());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StreamsException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
       }
-    } catch (SerializationException ex) {
-      throw new StreamsException(ex);
+      throw new StreamsException(e.getCause());
+    } finally {
+      pending.values().forEach(f -> f.cancel(false));
     }
     return aadlMap;
   }
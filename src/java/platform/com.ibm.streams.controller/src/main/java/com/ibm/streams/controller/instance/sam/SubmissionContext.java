@@ -0,0 +1,51 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.sam;
+
+import com.ibm.streams.instance.sam.ObjectTracker;
+import com.ibm.streams.instance.sam.SAMStaticContext;
+import java.math.BigInteger;
+import java.util.concurrent.Callable;
+import lombok.var;
+
+/*
+ * Isolates the SAM state of a single job submission.
+ *
+ * The logical model, the topology model, the composer and the fused application all read
+ * their shared state from the ObjectTracker in the SAMStaticContext. A submission context
+ * binds its own tracker to the calling thread for the duration of run(), so that submissions
+ * running on different threads never observe each other's state. Everything that needs the
+ * tracker, including the inspection of the resulting job model, must happen within run().
+ */
+public class SubmissionContext {
+
+  private final ObjectTracker tracker;
+
+  public SubmissionContext(BigInteger jobId) {
+    this.tracker = new ObjectTracker();
+    this.tracker.setTopologyApplicationId(jobId);
+  }
+
+  public <T> T run(Callable<T> task) throws Exception {
+    var prior = SAMStaticContext.bindObjectTracker(tracker);
+    try {
+      return task.call();
+    } finally {
+      SAMStaticContext.bindObjectTracker(prior);
+    }
+  }
+}
@@ -17,6 +17,40 @@
 package com.ibm.streams.controller.k8s.configmaps;
 
 import com.ibm.streams.platform.services.AugmentedPEType;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import lombok.var;
 
-public class ConfigMapCache extends ConcurrentHashMap<String, AugmentedPEType> {}
+/*
+ * AADLs of the PE ConfigMaps, keyed by ConfigMap UID.
+ *
+ * The AADLs are parsed off the event thread. Readers that must see the AADL of a ConfigMap they
+ * know about wait for its pending parse to complete with awaitParsing().
+ */
+public class ConfigMapCache extends ConcurrentHashMap<String, AugmentedPEType> {
+
+  private final ConcurrentHashMap<String, CompletableFuture<Void>> parsing =
+      new ConcurrentHashMap<>();
+
+  void beginParsing(String uid, CompletableFuture<Void> parse) {
+    parsing.put(uid, parse);
+    parse.whenComplete((v, e) -> parsing.remove(uid, parse));
+  }
+
+  void cancelParsing() {
+    parsing.values().forEach(p -> p.cancel(false));
+  }
+
+  public void awaitParsing(Collection<String> uids) {
+    for (var uid : uids) {
+      var parse = parsing.get(uid);
+      if (parse != null) {
+        /*
+         * A failed or cancelled parse leaves no entry in the cache, which readers handle.
+         */
+        parse.exceptionally(e -> null).join();
+      }
+    }
+  }
+}
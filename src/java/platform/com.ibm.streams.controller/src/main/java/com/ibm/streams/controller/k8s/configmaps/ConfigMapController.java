@@ -19,14 +19,13 @@ package com.ibm.streams.controller.k8s.configmaps;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_LABEL_KEY;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_LABEL_VALUE;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_CONTENT_ID_ANNOTATION_KEY;
-import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
-import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_PE_LABEL_KEY;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_SVC_LABEL_KEY;
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_SVC_PE_LABEL_VALUE;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.controller.events.GenericEventQueueConsumer;
-import com.ibm.streams.controller.instance.jobs.JobUtils;
 import com.ibm.streams.controller.k8s.utils.ConfigMapUtils;
+import com.ibm.streams.controller.utils.CommonEnvironment;
 import com.ibm.streams.platform.services.AugmentedPEType;
 import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import fr.xenogenics.kubernetes.controller.Controller;
@@ -34,13 +33,17 @@ import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 import java.util.Optional;
-import javax.xml.XMLConstants;
-import javax.xml.bind.JAXBContext;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Schema;
 import lombok.var;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,15 +56,25 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
   private final ConfigMapFactory factory;
   private final ConfigMapCache cache;
   private final Controller<ConfigMap> controller;
+  private final ExecutorService parser;
+  private final ConcurrentHashMap<String, String> contentIds;
+  private final Set<String> validated;
 
-  private Unmarshaller unmarshaller;
+  /*
+   * Unmarshallers are not thread-safe. The registry hands out one per parser thread, validating
+   * against the AADL schema when requested.
+   */
+  private final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(AugmentedPEType.class);
+  private Schema schema;
 
   public ConfigMapController(
       KubernetesClient client,
       ConfigMapStore store,
       ConfigMapFactory factory,
       ConfigMapCache cache,
-      String ns) {
+      String ns,
+      CommonEnvironment env) {
     /*
      * Super constructor.
      */
@@ -71,6 +84,9 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
      */
     this.factory = factory;
     this.cache = cache;
+    this.parser = Executors.newFixedThreadPool(env.getAadlParserThreads());
+    this.contentIds = new ConcurrentHashMap<>();
+    this.validated = ConcurrentHashMap.newKeySet();
     /*
      * Create the controller. NOTE(xrg) By design we are only watching ConfigMaps that pertain
      * to ProcessingElements. Any other ConfigMap are ignored.
@@ -84,41 +100,44 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
                 .withLabel(STREAMS_SVC_LABEL_KEY, STREAMS_SVC_PE_LABEL_VALUE),
             this);
     /*
-     * Create the unmarshaller for the AADLs.
+     * Load the schema for the AADLs.
      */
     try {
-      var context = JAXBContext.newInstance(AugmentedPEType.class);
       var file = ConfigMapController.class.getResource("/schema/SAM/augmentedApplicationModel.xsd");
-      var schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-      var schema = schemaFactory.newSchema(file);
-      this.unmarshaller = context.createUnmarshaller();
-      this.unmarshaller.setSchema(schema);
-    } catch (SAXException | JAXBException e) {
+      this.schema = JAXBContextRegistry.getSchema(file);
+    } catch (SAXException | RuntimeException e) {
       e.printStackTrace();
-      this.unmarshaller = null;
+      this.schema = null;
     }
   }
 
-  private Optional<AugmentedPEType> parseAadlFrom(ConfigMap cm) {
+  private static String getContentId(ConfigMap cm) {
+    return Objects.toString(
+        cm.getMetadata().getAnnotations().get(STREAMS_CONTENT_ID_ANNOTATION_KEY), "");
+  }
+
+  private Optional<AugmentedPEType> parseAadlFrom(ConfigMap cm, boolean validate) {
     /*
-     * Check if we have a marshaller to work with.
+     * Check if we have a schema to validate with.
      */
-    if (this.unmarshaller != null) {
+    if (!validate || schema != null) {
       try {
         /*
          * Grab the AADL content.
          */
-        var jobName = cm.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY);
-        var peId = cm.getMetadata().getLabels().get(STREAMS_PE_LABEL_KEY);
-        var peName = JobUtils.getProcessingElementName(jobName, peId);
         var xml = ConfigMapUtils.getAadl(cm);
+        if (xml == null) {
+          return Optional.empty();
+        }
         /*
          * Unmarshall the AADL.
          */
-        var bis = new ByteArrayInputStream(xml.getBytes());
+        var bis = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
         var src = new StreamSource(bis);
-        return Optional.of(unmarshaller.unmarshal(src, AugmentedPEType.class).getValue());
-      } catch (JAXBException ignored) {
+        var um = binding.getUnmarshaller(validate ? schema : null);
+        return Optional.of(um.unmarshal(src, AugmentedPEType.class).getValue());
+      } catch (JAXBException | RuntimeException e) {
+        LOGGER.debug("Cannot parse the AADL in {}: {}", cm.getMetadata().getName(), e.getMessage());
       }
     }
     /*
@@ -127,21 +146,60 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
     return Optional.empty();
   }
 
+  private void cacheAadlFrom(ConfigMap cm) {
+    var uid = cm.getMetadata().getUid();
+    var contentId = getContentId(cm);
+    /*
+     * Record the content we are about to parse. Parsing takes place off the event thread, so
+     * this is what later events and the parser itself compare against.
+     */
+    contentIds.put(uid, contentId);
+    /*
+     * Only validate content we have not seen before. Content IDs are hashes of the AADL, so
+     * a content that validated once does not need to be validated again.
+     */
+    var validate = contentId.isEmpty() || validated.add(contentId);
+    var parse =
+        CompletableFuture.runAsync(
+            () -> {
+              var aadl = parseAadlFrom(cm, validate);
+              if (!aadl.isPresent()) {
+                validated.remove(contentId);
+                return;
+              }
+              /*
+               * Only publish the AADL if the ConfigMap has neither been deleted nor modified
+               * in the meantime.
+               */
+              contentIds.computeIfPresent(
+                  uid,
+                  (k, v) -> {
+                    if (v.equals(contentId)) {
+                      cache.put(uid, aadl.get());
+                    }
+                    return v;
+                  });
+            },
+            parser);
+    /*
+     * Register the parse before returning, so that readers that see the ConfigMap in the store
+     * can wait for its AADL.
+     */
+    cache.beginParsing(uid, parse);
+  }
+
   @Override
   public void onAddition(AbstractEvent<? extends ConfigMap> event) {
     /*
      * Register the config map.
      */
     var cm = event.getResource();
-    LOGGER.debug(
-        "ADD: {}/{}",
-        cm.getMetadata().getName(),
-        cm.getMetadata().getAnnotations().get(STREAMS_CONTENT_ID_ANNOTATION_KEY));
+    LOGGER.debug("ADD: {}/{}", cm.getMetadata().getName(), getContentId(cm));
     factory.registerConfigMapName(cm.getMetadata().getName());
     /*
      * Cache the AADL.
      */
-    parseAadlFrom(cm).ifPresent(aadl -> cache.put(cm.getMetadata().getUid(), aadl));
+    cacheAadlFrom(cm);
   }
 
   @Override
@@ -152,14 +210,15 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
     var pre = event.getPriorResource();
     var cur = event.getResource();
     LOGGER.debug(
-        "MOD: {}/{}/{}",
-        pre.getMetadata().getName(),
-        pre.getMetadata().getAnnotations().get(STREAMS_CONTENT_ID_ANNOTATION_KEY),
-        cur.getMetadata().getAnnotations().get(STREAMS_CONTENT_ID_ANNOTATION_KEY));
+        "MOD: {}/{}/{}", pre.getMetadata().getName(), getContentId(pre), getContentId(cur));
     /*
-     * Update the AADL cache.
+     * Update the AADL cache, unless the content has not changed.
      */
-    parseAadlFrom(cur).ifPresent(aadl -> cache.put(cur.getMetadata().getUid(), aadl));
+    var contentId = getContentId(cur);
+    if (!contentId.isEmpty() && contentId.equals(contentIds.get(cur.getMetadata().getUid()))) {
+      return;
+    }
+    cacheAadlFrom(cur);
   }
 
   /*
@@ -174,15 +233,14 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
      * Unregister the config map.
      */
     var cm = event.getResource();
-    LOGGER.debug(
-        "DEL: {}/{}",
-        cm.getMetadata().getName(),
-        cm.getMetadata().getAnnotations().get(STREAMS_CONTENT_ID_ANNOTATION_KEY));
+    LOGGER.debug("DEL: {}/{}", cm.getMetadata().getName(), getContentId(cm));
     factory.unregisterConfigMapName(cm.getMetadata().getName());
     /*
-     * Delete the entry from the cache.
+     * Delete the entry from the cache. Any parse still in flight is discarded.
      */
+    contentIds.remove(cm.getMetadata().getUid());
     cache.remove(cm.getMetadata().getUid());
+    validated.remove(getContentId(cm));
   }
 
   public void start() throws IOException {
@@ -191,5 +249,7 @@ public class ConfigMapController extends GenericEventQueueConsumer<ConfigMap> {
 
   public void close() throws IOException {
     controller.close();
+    parser.shutdownNow();
+    cache.cancelParsing();
   }
 }
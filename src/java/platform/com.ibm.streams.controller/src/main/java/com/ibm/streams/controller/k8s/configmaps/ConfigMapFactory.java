@@ -29,6 +29,7 @@ import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_SVC
 
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.k8s.utils.ConfigMapUtils;
+import com.ibm.streams.controller.utils.CommonEnvironment;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
@@ -50,11 +51,13 @@ public class ConfigMapFactory {
 
   private final KubernetesClient client;
   private final ConfigMapStore store;
+  private final CommonEnvironment env;
   private final ConcurrentHashMap<String, Boolean> names;
 
-  public ConfigMapFactory(KubernetesClient client, ConfigMapStore store) {
+  public ConfigMapFactory(KubernetesClient client, ConfigMapStore store, CommonEnvironment env) {
     this.client = client;
     this.store = store;
+    this.env = env;
     this.names = new ConcurrentHashMap<>();
   }
 
@@ -107,15 +110,22 @@ public class ConfigMapFactory {
         or,
         annotations,
         labels,
-        data);
+        data,
+        null);
   }
 
   public void addConfigMap(Job job, String peName, BigInteger peId, String aadl, String hash) {
     /*
-     * Build the data map.
+     * Build the data map. Compressed AADLs are stored as binary data and mounted as
+     * aadl.xml.gz, which the runtime prefers over aadl.xml.
      */
     var data = new HashMap<String, String>();
-    ConfigMapUtils.setAadl(data, aadl);
+    var binaryData = new HashMap<String, String>();
+    if (env.compressAadls()) {
+      ConfigMapUtils.setCompressedAadl(binaryData, aadl);
+    } else {
+      ConfigMapUtils.setAadl(data, aadl);
+    }
     /*
      * Build owner reference.
      */
@@ -149,7 +159,7 @@ public class ConfigMapFactory {
     /*
      * Build the config map.
      */
-    addConfigMap(name, job.getMetadata().getNamespace(), or, annotations, labels, data);
+    addConfigMap(name, job.getMetadata().getNamespace(), or, annotations, labels, data, binaryData);
   }
 
   private void addConfigMap(
@@ -158,7 +168,8 @@ public class ConfigMapFactory {
       OwnerReference owner,
       Map<String, String> annotations,
       Map<String, String> labels,
-      Map<String, String> data) {
+      Map<String, String> data,
+      Map<String, String> binaryData) {
     /*
      * Build the config map metadata.
      */
@@ -174,6 +185,9 @@ public class ConfigMapFactory {
     var map = new ConfigMap();
     map.setMetadata(meta);
     map.setData(data);
+    if (binaryData != null && !binaryData.isEmpty()) {
+      map.setBinaryData(binaryData);
+    }
     /*
      * Create the configmap.
      */
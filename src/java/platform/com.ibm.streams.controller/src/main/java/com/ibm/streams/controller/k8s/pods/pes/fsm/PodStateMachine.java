@@ -42,12 +42,20 @@ import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.Setter;
@@ -57,6 +65,7 @@ import org.slf4j.LoggerFactory;
 
 public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMetadata> {
   private static final Logger LOGGER = LoggerFactory.getLogger(PodStateMachine.class);
+  static final int MAX_POD_CREATION_ATTEMPTS = 3;
 
   private static final class PodDependencies {
     private final String jobName;
@@ -64,6 +73,7 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
     @Getter private boolean configMapReady;
     @Getter private boolean peReady;
     @Getter private PodProgress progress;
+    @Getter private final AtomicInteger failedCreations;
 
     PodDependencies(String jobName, String peId) {
       this.jobName = jobName;
@@ -71,6 +81,7 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
       this.configMapReady = false;
       this.peReady = false;
       this.progress = new PodProgress();
+      this.failedCreations = new AtomicInteger();
     }
 
     void setConfigMapReady(boolean value) {
@@ -91,10 +102,12 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
     @Getter @Setter private long hostPoolCount;
     @Getter private int hostPoolAdded;
     @Getter private Map<String, PodDependencies> podDependencies;
+    @Getter private final long creationTime;
 
     JobDependencies(String name, String generationId) {
       this.name = name;
       this.generationId = generationId;
+      this.creationTime = System.nanoTime();
       this.hostPoolCount = -1;
       this.hostPoolAdded = 0;
       this.podDependencies = new ConcurrentHashMap<>();
@@ -113,8 +126,30 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
     }
   }
 
+  /*
+   * Events are sharded by job name. A job is always handled by the same shard, so its dependencies
+   * are only ever processed by one thread. Pods are created asynchronously, and each shard bounds
+   * the number of creation requests it has in flight.
+   */
+  private static final class Shard {
+    private final String id;
+    private final LinkedBlockingQueue<HasMetadata> eventQueue;
+    private final Semaphore inFlight;
+    private final Gauge.Child queueDepth;
+    private final Histogram.Child timeToPodCreated;
+
+    Shard(int id, int maxInFlight) {
+      this.id = Integer.toString(id);
+      this.eventQueue = new LinkedBlockingQueue<>();
+      this.inFlight = new Semaphore(maxInFlight);
+      this.queueDepth = PodStateMachineMetrics.QUEUE_DEPTH.labels(this.id);
+      this.timeToPodCreated = PodStateMachineMetrics.TIME_TO_POD_CREATED.labels(this.id);
+    }
+  }
+
   private Map<String, JobDependencies> states;
-  private LinkedBlockingQueue<HasMetadata> eventQueue;
+  private Shard[] shards;
+  private ExecutorService podCreator;
   private AtomicBoolean keepRunning;
 
   private final KubernetesClient client;
@@ -138,7 +173,11 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
       IExecutor executor,
       CommonEnvironment env) {
     states = new ConcurrentHashMap<>();
-    eventQueue = new LinkedBlockingQueue<>();
+    shards = new Shard[env.getPodStateMachineShards()];
+    for (int i = 0; i < shards.length; i += 1) {
+      shards[i] = new Shard(i, env.getPodCreationConcurrency());
+    }
+    podCreator = Executors.newCachedThreadPool();
     keepRunning = new AtomicBoolean(true);
     this.client = client;
     this.peStore = peStore;
@@ -153,12 +192,33 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
 
   @Override
   public void run() {
+    /*
+     * The calling thread runs the first shard, the others get their own thread.
+     */
+    var workers = new ArrayList<Thread>();
+    for (int i = 1; i < shards.length; i += 1) {
+      var shard = shards[i];
+      var worker = new Thread(() -> run(shard), "pod-fsm-" + shard.id);
+      workers.add(worker);
+      worker.start();
+    }
+    run(shards[0]);
+    for (var worker : workers) {
+      try {
+        worker.join();
+      } catch (InterruptedException ignored) {
+      }
+    }
+  }
+
+  private void run(Shard shard) {
     while (keepRunning.get()) {
       try {
-        var resource = eventQueue.poll(500, TimeUnit.MILLISECONDS);
+        var resource = shard.eventQueue.poll(500, TimeUnit.MILLISECONDS);
         if (resource == null) {
           continue;
         }
+        shard.queueDepth.dec();
         if (resource instanceof Job) {
           handle((Job) resource);
         } else if (resource instanceof HostPool) {
@@ -175,6 +235,7 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
 
   public void terminate() {
     keepRunning.set(false);
+    podCreator.shutdown();
   }
 
   private void handle(Job job) throws OperationInProgressException {
@@ -316,16 +377,74 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
          * Build the pod.
          */
         var builder = new PodSpecBuilder(client, job.get(), pe.get(), cm.get(), hp, env);
-        executor.execute(
-            EExecutionCommand.ADD_POD, () -> podFactory.addPod(pe.get(), builder.build()));
+        createPod(shardFor(jobName), jobState, podState, pe.get(), builder);
         break;
     }
   }
 
+  /*
+   * A failed creation re-enqueues the PE, which goes through the state machine again and is
+   * dropped there if it changed or went away in the meantime. The PE is given up on after a few
+   * consecutive failures.
+   */
+  private void createPod(
+      Shard shard,
+      JobDependencies jobState,
+      PodDependencies podState,
+      ProcessingElement pe,
+      PodSpecBuilder builder) {
+    /*
+     * Wait for a slot. This throttles the shard if too many requests are in flight.
+     */
+    shard.inFlight.acquireUninterruptibly();
+    try {
+      podCreator.execute(
+          () -> {
+            try {
+              executor.execute(
+                  EExecutionCommand.ADD_POD, () -> podFactory.addPod(pe, builder.build()));
+              var elapsed = System.nanoTime() - jobState.getCreationTime();
+              shard.timeToPodCreated.observe(elapsed / 1e9);
+              podState.getFailedCreations().set(0);
+            } catch (Exception e) {
+              var name = pe.getMetadata().getName();
+              var failures = podState.getFailedCreations().incrementAndGet();
+              if (failures < MAX_POD_CREATION_ATTEMPTS) {
+                LOGGER.warn("Cannot create pod for PE {}, retrying: {}", name, e.getMessage());
+                enqueue(pe);
+              } else {
+                LOGGER.error("Cannot create pod for PE {} after {} attempts", name, failures, e);
+                podState.getFailedCreations().set(0);
+              }
+            } finally {
+              shard.inFlight.release();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      shard.inFlight.release();
+    }
+  }
+
   /*
    * Helper methods.
    */
 
+  private Shard shardFor(String jobName) {
+    return shards[Math.floorMod(jobName.hashCode(), shards.length)];
+  }
+
+  int getQueuedEvents() {
+    var count = 0;
+    for (var shard : shards) {
+      count += shard.eventQueue.size();
+    }
+    return count;
+  }
+
+  boolean hasStateForJob(String jobName) {
+    return states.containsKey(jobName);
+  }
+
   private boolean jobIsUnknown(String name) {
     return !states.containsKey(name);
   }
@@ -336,8 +455,25 @@ public class PodStateMachine implements Runnable, IEventConsumerDelegate<HasMeta
   }
 
   private void enqueue(HasMetadata resource) {
+    var labels = resource.getMetadata().getLabels();
+    var jobName =
+        resource instanceof Job
+            ? resource.getMetadata().getName()
+            : labels != null ? labels.get(STREAMS_JOB_LABEL_KEY) : null;
+    /*
+     * Resources that do not belong to a job cannot be sharded, nor handled.
+     */
+    if (jobName == null) {
+      LOGGER.debug(
+          "Ignoring {} {} without a job label",
+          resource.getKind(),
+          resource.getMetadata().getName());
+      return;
+    }
+    var shard = shardFor(jobName);
     try {
-      eventQueue.put(resource);
+      shard.eventQueue.put(resource);
+      shard.queueDepth.inc();
     } catch (InterruptedException e) {
       e.printStackTrace();
     }
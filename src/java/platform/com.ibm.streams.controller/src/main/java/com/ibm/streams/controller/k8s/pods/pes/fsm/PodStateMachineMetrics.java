@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.pods.pes.fsm;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/*
+ * The collectors are registered once in the default registry, as there may be more than one
+ * PodStateMachine per JVM (e.g. during tests).
+ */
+final class PodStateMachineMetrics {
+
+  static final Gauge QUEUE_DEPTH =
+      Gauge.build()
+          .name("streams_pod_fsm_queue_depth")
+          .labelNames("shard")
+          .help("number of events waiting in a pod state machine shard")
+          .register();
+
+  static final Histogram TIME_TO_POD_CREATED =
+      Histogram.build()
+          .name("streams_pod_fsm_time_to_pod_created_seconds")
+          .labelNames("shard")
+          .help("time between the start of a job generation and the creation of its pods")
+          .buckets(0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300)
+          .register();
+
+  private PodStateMachineMetrics() {}
+}
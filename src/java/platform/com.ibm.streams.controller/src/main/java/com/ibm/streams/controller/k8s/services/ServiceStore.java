@@ -22,37 +22,30 @@ import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_PE_
 
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.crds.pes.ProcessingElement;
+import com.ibm.streams.controller.utils.JobResourceIndex;
+import com.ibm.streams.controller.utils.JobResourceStore;
 import io.fabric8.kubernetes.api.model.Service;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 import lombok.var;
 
-public class ServiceStore extends ConcurrentHashMap<Object, Service> {
+public class ServiceStore extends JobResourceStore<Service> {
+
+  private final JobResourceIndex<String, Service> servicesByName =
+      addIndex(s -> s.getMetadata().getName());
+  private final JobResourceIndex<String, Service> servicesByPeId =
+      addIndex(s -> s.getMetadata().getLabels().get(STREAMS_PE_LABEL_KEY));
 
   public void put(Service svc) {
     put(svc.getMetadata().getName(), svc);
   }
 
-  private long countServicesWithJobNameAndGenerationId(String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(s -> s.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            s ->
-                s.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .count();
-  }
-
   public long countServicesWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return countServicesWithJobNameAndGenerationId(jobName, jobGenerationId);
+    return servicesByName.count(jobName, jobGenerationId);
   }
 
   public long countServicesWithJobAndPreviousGenerationId(Job job) {
@@ -62,59 +55,33 @@ public class ServiceStore extends ConcurrentHashMap<Object, Service> {
       return 0;
     }
     var preGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE).toString();
-    return countServicesWithJobNameAndGenerationId(jobName, preGenerationId);
+    return servicesByName.count(jobName, preGenerationId);
   }
 
   Optional<Service> getServiceWithName(String name) {
-    return values().stream().filter(s -> s.getMetadata().getName().equals(name)).findAny();
+    return Optional.ofNullable(get(name));
   }
 
   public Optional<Service> getServiceWithJobPeIdAndPreviousGenerationId(Job job, BigInteger peId) {
-    var oldServices = getServicesWithJobAndPreviousGenerationId(job);
-    return oldServices.stream()
-        .filter(s -> s.getMetadata().getLabels().containsKey(STREAMS_PE_LABEL_KEY))
-        .filter(s -> s.getMetadata().getLabels().get(STREAMS_PE_LABEL_KEY).equals(peId.toString()))
-        .findFirst();
+    var jobName = job.getMetadata().getName();
+    var jobGenerationId = job.getSpec().getGenerationId();
+    if (jobGenerationId.equals(BigInteger.ZERO)) {
+      return Optional.empty();
+    }
+    var preGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE).toString();
+    return servicesByPeId.get(jobName, preGenerationId, peId.toString());
   }
 
   public Optional<Service> getServiceForProcessingElement(ProcessingElement pe) {
     var jobName = pe.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY);
     var jobGenerationId = pe.getMetadata().getLabels().get(STREAMS_GENERATION_LABEL_KEY);
-    return values().stream()
-        .filter(s -> s.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            s ->
-                s.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .filter(s -> s.getMetadata().getLabels().containsKey(STREAMS_PE_LABEL_KEY))
-        .filter(
-            s ->
-                s.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_PE_LABEL_KEY)
-                    .equals(pe.getSpec().getId().toString()))
-        .findAny();
+    return servicesByPeId.get(jobName, jobGenerationId, pe.getSpec().getId().toString());
   }
 
   public List<Service> getServicesWithJob(Job job) {
     var jobName = job.getMetadata().getName();
     var jobGenerationId = job.getSpec().getGenerationId().toString();
-    return getServicesWithJobNameAndGenerationId(jobName, jobGenerationId);
-  }
-
-  private List<Service> getServicesWithJobNameAndGenerationId(
-      String jobName, String jobGenerationId) {
-    return values().stream()
-        .filter(s -> s.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY).equals(jobName))
-        .filter(
-            s ->
-                s.getMetadata()
-                    .getLabels()
-                    .get(STREAMS_GENERATION_LABEL_KEY)
-                    .equals(jobGenerationId))
-        .collect(Collectors.toList());
+    return servicesByName.values(jobName, jobGenerationId);
   }
 
   public List<Service> getServicesWithJobAndPreviousGenerationId(Job job) {
@@ -124,6 +91,6 @@ public class ServiceStore extends ConcurrentHashMap<Object, Service> {
       return new ArrayList<>();
     }
     var preGenerationId = job.getSpec().getGenerationId().subtract(BigInteger.ONE).toString();
-    return getServicesWithJobNameAndGenerationId(jobName, preGenerationId);
+    return servicesByName.values(jobName, preGenerationId);
   }
 }
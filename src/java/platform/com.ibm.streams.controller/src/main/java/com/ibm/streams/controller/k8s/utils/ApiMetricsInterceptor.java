@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.utils;
+
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.DefaultKubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.prometheus.client.Histogram;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.var;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/*
+ * This interceptor times the requests sent to the Kubernetes API, labeled with their
+ * HTTP verb and the kind of the resource. Watches are long-lived and are not timed.
+ */
+public class ApiMetricsInterceptor implements Interceptor {
+
+  private static final Histogram LATENCY =
+      Histogram.build()
+          .name("streams_kubernetes_api_latency_seconds")
+          .labelNames("verb", "kind")
+          .help("latency of the requests sent to the Kubernetes API")
+          .register();
+
+  /*
+   * The labeled children, keyed by verb and kind. There are only a handful of them, so they are
+   * resolved once instead of on every request.
+   */
+  private final Map<String, Histogram.Child> children = new ConcurrentHashMap<>();
+
+  public static KubernetesClient createClient() {
+    var config = new ConfigBuilder().build();
+    var httpClient =
+        HttpClientUtils.createHttpClient(
+            config, builder -> builder.addInterceptor(new ApiMetricsInterceptor()));
+    return new DefaultKubernetesClient(httpClient, config);
+  }
+
+  /*
+   * The kind is the resource name of the path: /api/{version}/[namespaces/{ns}/]{kind}/... for
+   * the core group, /apis/{group}/{version}/[namespaces/{ns}/]{kind}/... for the others.
+   */
+  static String getKind(List<String> segments) {
+    var start = segments.isEmpty() || segments.get(0).equals("api") ? 2 : 3;
+    if (segments.size() <= start) {
+      return "none";
+    }
+    if (segments.get(start).equals("namespaces") && segments.size() > start + 2) {
+      return segments.get(start + 2);
+    }
+    return segments.get(start);
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var request = chain.request();
+    if ("true".equals(request.url().queryParameter("watch"))) {
+      return chain.proceed(request);
+    }
+    var start = System.nanoTime();
+    try {
+      return chain.proceed(request);
+    } finally {
+      var verb = request.method().toLowerCase(Locale.ROOT);
+      var kind = getKind(request.url().pathSegments());
+      children
+          .computeIfAbsent(verb + " " + kind, k -> LATENCY.labels(verb, kind))
+          .observe((System.nanoTime() - start) / 1e9);
+    }
+  }
+}
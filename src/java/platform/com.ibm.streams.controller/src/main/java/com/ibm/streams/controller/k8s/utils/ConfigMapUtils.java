@@ -17,7 +17,17 @@
 package com.ibm.streams.controller.k8s.utils;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.var;
+import org.apache.commons.io.IOUtils;
 
 public class ConfigMapUtils {
 
@@ -26,12 +36,40 @@ public class ConfigMapUtils {
    *     $INF/src/K8S/K8SApplication.cpp
    */
   private static final String AADL_KEY = "aadl.xml";
+  private static final String AADL_GZ_KEY = "aadl.xml.gz";
 
   public static String getAadl(ConfigMap cm) {
-    return cm.getData().get(AADL_KEY);
+    /*
+     * Compressed AADLs take precedence, like in the runtime.
+     */
+    if (cm.getBinaryData() != null && cm.getBinaryData().containsKey(AADL_GZ_KEY)) {
+      var bytes = Base64.getDecoder().decode(cm.getBinaryData().get(AADL_GZ_KEY));
+      try (var gis = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+        return IOUtils.toString(gis, StandardCharsets.UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    /*
+     * Otherwise, look for a plain-text AADL.
+     */
+    if (cm.getData() != null) {
+      return cm.getData().get(AADL_KEY);
+    }
+    return null;
   }
 
   public static void setAadl(Map<String, String> data, String aadl) {
     data.put(AADL_KEY, aadl);
   }
+
+  public static void setCompressedAadl(Map<String, String> binaryData, String aadl) {
+    var bos = new ByteArrayOutputStream();
+    try (var gos = new GZIPOutputStream(bos)) {
+      gos.write(aadl.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    binaryData.put(AADL_GZ_KEY, Base64.getEncoder().encodeToString(bos.toByteArray()));
+  }
 }
@@ -17,8 +17,14 @@
 package com.ibm.streams.controller.state.capture;
 
 import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_NAME_ANNOTATION_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_PE_LABEL_KEY;
 
+import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.crds.jobs.JobStore;
+import com.ibm.streams.controller.crds.prs.ParallelRegion;
+import com.ibm.streams.controller.crds.prs.ParallelRegionSpec;
 import com.ibm.streams.controller.crds.prs.ParallelRegionStore;
 import com.ibm.streams.controller.k8s.configmaps.ConfigMapCache;
 import com.ibm.streams.controller.k8s.configmaps.ConfigMapStore;
@@ -32,20 +38,56 @@ import com.ibm.xmlns.prod.streams.api.state.OutputPortType;
 import com.ibm.xmlns.prod.streams.api.state.ParallelChannelType;
 import com.ibm.xmlns.prod.streams.api.state.PeConnectionType;
 import com.ibm.xmlns.prod.streams.api.state.PeType;
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.var;
 
 public class CaptureConverter {
 
+  /*
+   * A fragment is the captured state of a job, along with the inputs it was built from. The key
+   * holds the resource version of the job, the AADLs of its PEs and the resource versions of its
+   * parallel regions. AADLs are compared by reference as the ConfigMap cache replaces them when
+   * their content changes.
+   */
+  private static class Fragment {
+
+    private final List<Object> key;
+    private final JobType job;
+    private final long version;
+
+    Fragment(List<Object> key, JobType job, long version) {
+      this.key = key;
+      this.job = job;
+      this.version = version;
+    }
+  }
+
   private final JobStore jobStore;
   private final ConfigMapStore configMapStore;
   private final ConfigMapCache configMapCache;
   private final ParallelRegionStore parallelRegionStore;
+  private final Map<String, Fragment> fragments;
+
+  /*
+   * Versions are seeded from the clock so that the entity tags of the captures keep changing
+   * across restarts of the controller.
+   */
+  private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+  private List<Long> lastFragmentVersions;
+  private long lastVersion;
 
   public CaptureConverter(
       JobStore jobStore,
@@ -56,18 +98,20 @@ public class CaptureConverter {
     this.configMapStore = configMapStore;
     this.configMapCache = configMapCache;
     this.parallelRegionStore = parallelRegionStore;
+    this.fragments = new HashMap<>();
+    this.lastFragmentVersions = Collections.emptyList();
+    this.lastVersion = versions.incrementAndGet();
   }
 
-  private String getParallelRegionNameForIndex(BigInteger index) {
-    return parallelRegionStore.values().stream()
-        .filter(pr -> pr.getSpec().getIndex().equals(index))
-        .map(pr -> pr.getSpec().getAlias())
-        .findFirst()
-        .orElseThrow(RuntimeException::new);
+  private static String getParallelRegionNameForIndex(
+      Map<BigInteger, String> aliases, BigInteger index) {
+    return Optional.ofNullable(aliases.get(index)).orElseThrow(RuntimeException::new);
   }
 
   private PeType convertAugmentedPeTypeToPeType(
-      Map<BigInteger, BigInteger> operatorMap, AugmentedPEType pe) {
+      Map<BigInteger, BigInteger> operatorMap,
+      Map<BigInteger, String> aliases,
+      AugmentedPEType pe) {
     /*
      * Collect all of the PE operators.
      */
@@ -93,7 +137,7 @@ public class CaptureConverter {
                                   var e = new ParallelChannelType();
                                   e.setIndex(BigInteger.valueOf(pr.getGlobalChannelIndex()));
                                   e.setLogicalName(
-                                      getParallelRegionNameForIndex(pr.getRegionIndex()));
+                                      getParallelRegionNameForIndex(aliases, pr.getRegionIndex()));
                                   return e;
                                 })
                             .collect(Collectors.toList());
@@ -167,63 +211,145 @@ public class CaptureConverter {
     return peType;
   }
 
-  public Instance captureInstanceState(String namespace) {
+  private JobType convertJob(
+      Job job, List<AugmentedPEType> aadls, Map<BigInteger, String> aliases) {
+    /*
+     * Build the operator map.
+     */
+    Map<BigInteger, BigInteger> operatorMap = new TreeMap<>();
+    for (var pe : aadls) {
+      pe.getOperInstances()
+          .getOperInstance()
+          .forEach(op -> operatorMap.put(op.getIndex(), pe.getId()));
+    }
+    /*
+     * Convert the PE models.
+     */
+    List<PeType> pes =
+        aadls.stream()
+            .map(e -> convertAugmentedPeTypeToPeType(operatorMap, aliases, e))
+            .sorted(Comparator.comparing(PeType::getId))
+            .collect(Collectors.toList());
     /*
-     * Build the job list.
+     * Build the job.
+     */
+    JobType e = new JobType();
+    e.setApplicationName(job.getMetadata().getAnnotations().get(STREAMS_APP_NAME_ANNOTATION_KEY));
+    e.setId(job.getSpec().getId());
+    e.setName(job.getMetadata().getName());
+    e.setUser("streams");
+    e.getPes().addAll(pes);
+    return e;
+  }
+
+  private Fragment getFragment(
+      Job job, List<ConfigMap> configMaps, List<ParallelRegion> parallelRegions) {
+    /*
+     * Collect the AADLs of the job, in a stable order.
+     */
+    var uids =
+        configMaps.stream().map(cm -> cm.getMetadata().getUid()).collect(Collectors.toList());
+    configMapCache.awaitParsing(uids);
+    var aadls =
+        uids.stream()
+            .sorted()
+            .map(configMapCache::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    /*
+     * Build the key of the fragment and return the cached fragment if it is still current.
+     */
+    var regionVersions =
+        parallelRegions.stream()
+            .sorted(Comparator.comparing(pr -> pr.getMetadata().getName()))
+            .map(pr -> pr.getMetadata().getResourceVersion())
+            .collect(Collectors.toList());
+    var key = Arrays.asList(job.getMetadata().getResourceVersion(), aadls, regionVersions);
+    var name = job.getMetadata().getName();
+    var fragment = fragments.get(name);
+    if (fragment != null && fragment.key.equals(key)) {
+      return fragment;
+    }
+    /*
+     * Otherwise, rebuild the fragment. The region aliases are indexed once for the whole job.
+     */
+    var aliases =
+        parallelRegions.stream()
+            .map(ParallelRegion::getSpec)
+            .collect(
+                Collectors.toMap(
+                    ParallelRegionSpec::getIndex, ParallelRegionSpec::getAlias, (a, b) -> a));
+    fragment = new Fragment(key, convertJob(job, aadls, aliases), versions.incrementAndGet());
+    fragments.put(name, fragment);
+    return fragment;
+  }
+
+  /*
+   * The captured jobs are shared between captures and must not be modified by the callers.
+   * Captures are serialized so that concurrent requests do not convert the same job twice.
+   */
+
+  public synchronized InstanceCapture capture(String namespace) {
+    /*
+     * Group the ConfigMaps and the parallel regions by job in a single pass over their stores.
+     */
+    var configMaps =
+        configMapStore.values().stream()
+            .filter(cm -> cm.getMetadata().getLabels().containsKey(STREAMS_PE_LABEL_KEY))
+            .collect(
+                Collectors.groupingBy(
+                    cm ->
+                        cm.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY)
+                            + "/"
+                            + cm.getMetadata().getLabels().get(STREAMS_GENERATION_LABEL_KEY)));
+    var parallelRegions =
+        parallelRegionStore.values().stream()
+            .collect(
+                Collectors.groupingBy(
+                    pr -> pr.getMetadata().getLabels().get(STREAMS_JOB_LABEL_KEY)));
+    /*
+     * Build the job list, only converting the jobs that changed since the last capture.
      */
     var jobs =
         jobStore.values().stream()
             .map(
                 job -> {
-                  /*
-                   * Build the AADL list for the job.
-                   */
-                  var uuids =
-                      configMapStore.getConfigMapsForJob(job).stream()
-                          .map(cm -> cm.getMetadata().getUid())
-                          .collect(Collectors.toSet());
-                  var aadls =
-                      configMapCache.entrySet().stream()
-                          .filter(e -> uuids.contains(e.getKey()))
-                          .map(Map.Entry::getValue)
-                          .collect(Collectors.toList());
-                  /*
-                   * Build the operator map.
-                   */
-                  Map<BigInteger, BigInteger> operatorMap = new TreeMap<>();
-                  for (var pe : aadls) {
-                    pe.getOperInstances()
-                        .getOperInstance()
-                        .forEach(op -> operatorMap.put(op.getIndex(), pe.getId()));
-                  }
-                  /*
-                   * Convert the PE models.
-                   */
-                  List<PeType> pes =
-                      aadls.stream()
-                          .map(e -> convertAugmentedPeTypeToPeType(operatorMap, e))
-                          .sorted(Comparator.comparing(PeType::getId))
-                          .collect(Collectors.toList());
-                  /*
-                   * Build the job.
-                   */
-                  JobType e = new JobType();
-                  e.setApplicationName(
-                      job.getMetadata().getAnnotations().get(STREAMS_APP_NAME_ANNOTATION_KEY));
-                  e.setId(job.getSpec().getId());
-                  e.setName(job.getMetadata().getName());
-                  e.setUser("streams");
-                  e.getPes().addAll(pes);
-                  return e;
+                  var name = job.getMetadata().getName();
+                  var generationId = job.getSpec().getGenerationId();
+                  return getFragment(
+                      job,
+                      configMaps.getOrDefault(name + "/" + generationId, Collections.emptyList()),
+                      parallelRegions.getOrDefault(name, Collections.emptyList()));
                 })
-            .sorted(Comparator.comparing(JobType::getId))
+            .sorted(Comparator.comparing((Fragment f) -> f.job.getId()))
             .collect(Collectors.toList());
+    /*
+     * Drop the fragments of the jobs that are gone.
+     */
+    fragments
+        .keySet()
+        .retainAll(
+            jobStore.values().stream()
+                .map(j -> j.getMetadata().getName())
+                .collect(Collectors.toSet()));
+    /*
+     * The capture only gets a new version if one of its fragments changed.
+     */
+    var fragmentVersions = jobs.stream().map(f -> f.version).collect(Collectors.toList());
+    if (!fragmentVersions.equals(lastFragmentVersions)) {
+      lastFragmentVersions = fragmentVersions;
+      lastVersion = versions.incrementAndGet();
+    }
     /*
      * Build and return the instance.
      */
     Instance instance = new Instance();
     instance.setId(namespace);
-    instance.getJobs().addAll(jobs);
-    return instance;
+    instance.getJobs().addAll(jobs.stream().map(f -> f.job).collect(Collectors.toList()));
+    return new InstanceCapture(instance, lastVersion);
+  }
+
+  public Instance captureInstanceState(String namespace) {
+    return capture(namespace).getInstance();
   }
 }
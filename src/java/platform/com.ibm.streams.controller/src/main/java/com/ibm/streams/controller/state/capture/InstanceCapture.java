@@ -0,0 +1,32 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.state.capture;
+
+import com.ibm.xmlns.prod.streams.api.state.Instance;
+import lombok.Getter;
+
+@Getter
+public class InstanceCapture {
+
+  private final Instance instance;
+  private final long version;
+
+  InstanceCapture(Instance instance, long version) {
+    this.instance = instance;
+    this.version = version;
+  }
+}
@@ -38,7 +38,7 @@ public class ExportSubscriptions extends ConcurrentHashMap<String, ExportSubscri
   }
 
   public boolean remove(Import imp) {
-    var res = values().stream().map(s -> s.remove(imp)).reduce(Boolean::logicalAnd);
+    var res = values().stream().map(s -> s.remove(imp)).reduce(Boolean::logicalOr);
     entrySet().removeIf(e -> e.getValue().getEntries().isEmpty());
     return res.orElse(false);
   }
@@ -38,7 +38,7 @@ public class ImportSubscriptions extends ConcurrentHashMap<String, ImportSubscri
   }
 
   public boolean remove(Export exp) {
-    var res = values().stream().map(s -> s.remove(exp)).reduce(Boolean::logicalAnd);
+    var res = values().stream().map(s -> s.remove(exp)).reduce(Boolean::logicalOr);
     entrySet().removeIf(e -> e.getValue().getEntries().isEmpty());
     return res.orElse(false);
   }
@@ -20,50 +20,102 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.ibm.streams.controller.crds.exports.Export;
 import com.ibm.streams.controller.crds.imports.Import;
 import com.ibm.streams.controller.instance.broker.ImportExportCommons;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import lombok.var;
 
 @JsonDeserialize
 public class SubscriptionBoard extends ConcurrentHashMap<String, Subscriptions> {
 
+  /*
+   * The versions are drawn from a board-wide counter so that the version of a PE keeps increasing
+   * even when its subscriptions are removed and added back. The counter is seeded with the clock
+   * so that versions keep increasing across restarts of the controller.
+   */
+  private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+  private void touch(Subscriptions subs) {
+    subs.setVersion(versions.incrementAndGet());
+  }
+
+  /*
+   * Reverse indexes from the labels of the exports and imports to the names of the PEs whose
+   * subscriptions reference them. The indexes may reference PEs that no longer hold the export or
+   * the import, in which case their removal is a no-op.
+   */
+  private final Map<String, Set<String>> exportIndex = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> importIndex = new ConcurrentHashMap<>();
+
+  private void index(Map<String, Set<String>> index, String label, String... peNames) {
+    var pes = index.computeIfAbsent(label, k -> ConcurrentHashMap.newKeySet());
+    pes.addAll(Arrays.asList(peNames));
+  }
+
+  private Set<String> remove(Set<String> peNames, Predicate<Subscriptions> remover) {
+    var result = new HashSet<String>();
+    for (String peName : peNames) {
+      computeIfPresent(
+          peName,
+          (k, subs) -> {
+            if (!remover.test(subs)) {
+              return subs;
+            }
+            touch(subs);
+            result.add(k);
+            return subs.getExports().isEmpty() && subs.getImports().isEmpty() ? null : subs;
+          });
+    }
+    return result;
+  }
+
   /*
    * This is called by ExportController::onAddition and ImportController::onAddition.
    */
   public void add(Export exp, Import imp) {
     var expPeName = ImportExportCommons.getPeNameForExport(exp);
-    computeIfAbsent(expPeName, k -> new Subscriptions()).updateExportWithImport(exp, imp);
     var impPeName = ImportExportCommons.getPeNameForImport(imp);
-    computeIfAbsent(impPeName, k -> new Subscriptions()).updateImportWithExport(imp, exp);
+    index(exportIndex, ImportExportCommons.getLabelForExport(exp), expPeName, impPeName);
+    index(importIndex, ImportExportCommons.getLabelForImport(imp), expPeName, impPeName);
+    var expSubs = computeIfAbsent(expPeName, k -> new Subscriptions());
+    expSubs.updateExportWithImport(exp, imp);
+    touch(expSubs);
+    var impSubs = computeIfAbsent(impPeName, k -> new Subscriptions());
+    impSubs.updateImportWithExport(imp, exp);
+    touch(impSubs);
   }
 
   /*
-   * This is called by ExportController::onDeletion.
+   * This is called by ExportController::onDeletion. Return the PEs whose subscriptions changed.
    */
   public Set<String> remove(Export exp) {
-    var result =
-        entrySet().stream()
-            .map(e -> e.getValue().remove(exp) ? e.getKey() : null)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-    entrySet()
-        .removeIf(e -> e.getValue().getExports().isEmpty() && e.getValue().getImports().isEmpty());
-    return result;
+    var peNames = exportIndex.remove(ImportExportCommons.getLabelForExport(exp));
+    if (peNames == null) {
+      return Collections.emptySet();
+    }
+    return remove(peNames, subs -> subs.remove(exp));
   }
 
   /*
-   * This is called by ImportController::onDeletion.
+   * This is called by ImportController::onDeletion. Return the PEs whose subscriptions changed.
    */
   public Set<String> remove(Import imp) {
-    var result =
-        entrySet().stream()
-            .map(e -> e.getValue().remove(imp) ? e.getKey() : null)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-    entrySet()
-        .removeIf(e -> e.getValue().getExports().isEmpty() && e.getValue().getImports().isEmpty());
-    return result;
+    var peNames = importIndex.remove(ImportExportCommons.getLabelForImport(imp));
+    if (peNames == null) {
+      return Collections.emptySet();
+    }
+    return remove(peNames, subs -> subs.remove(imp));
+  }
+
+  @Override
+  public void clear() {
+    super.clear();
+    exportIndex.clear();
+    importIndex.clear();
   }
 }
@@ -21,16 +21,19 @@ import com.ibm.streams.controller.crds.exports.Export;
 import com.ibm.streams.controller.crds.imports.Import;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.var;
 
 @JsonDeserialize
 public class Subscriptions {
 
   @Getter @Setter private ExportSubscriptions exports;
   @Getter @Setter private ImportSubscriptions imports;
+  @Getter @Setter private long version;
 
   public Subscriptions() {
     this.exports = new ExportSubscriptions();
     this.imports = new ImportSubscriptions();
+    this.version = 0;
   }
 
   public void updateExportWithImport(Export exp, Import imp) {
@@ -42,10 +45,14 @@ public class Subscriptions {
   }
 
   public boolean remove(Export exp) {
-    return exports.remove(exp) || imports.remove(exp);
+    var removedFromExports = exports.remove(exp);
+    var removedFromImports = imports.remove(exp);
+    return removedFromExports || removedFromImports;
   }
 
   public boolean remove(Import imp) {
-    return exports.remove(imp) || imports.remove(imp);
+    var removedFromExports = exports.remove(imp);
+    var removedFromImports = imports.remove(imp);
+    return removedFromExports || removedFromImports;
   }
 }
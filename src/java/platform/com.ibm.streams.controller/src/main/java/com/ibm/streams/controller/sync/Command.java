@@ -17,6 +17,8 @@
 package com.ibm.streams.controller.sync;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public abstract class Command<Type extends HasMetadata, Status extends ICommandStatus> {
 
@@ -25,26 +27,51 @@ public abstract class Command<Type extends HasMetadata, Status extends ICommandS
     Wait
   }
 
-  private Status status;
+  private final CompletableFuture<Status> result;
 
   protected Command(Status status) {
-    this.status = status;
+    this.result = new CompletableFuture<>();
+    if (!status.isUnknown()) {
+      result.complete(status);
+    }
   }
 
-  public synchronized Status get() {
-    if (status.isUnknown()) {
-      try {
-        wait();
-      } catch (InterruptedException e) {
-        e.printStackTrace();
+  /**
+   * Get the status of the command, waiting for it to be known.
+   *
+   * @return the status of the command
+   */
+  public Status get() {
+    try {
+      return result.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
       }
+      throw e;
+    }
+  }
+
+  /**
+   * Get a future that completes with the status of the command once it is known.
+   *
+   * @return the future status of the command
+   */
+  public CompletableFuture<Status> getFuture() {
+    return result;
+  }
+
+  protected void set(Status value) {
+    if (!value.isUnknown()) {
+      result.complete(value);
     }
-    return status;
   }
 
-  protected synchronized void set(Status value) {
-    status = value;
-    notify();
+  /*
+   * Fail the command if it threw while running or if its resource disappeared while it was pending.
+   */
+  void fail(Throwable t) {
+    result.completeExceptionally(t);
   }
 
   public abstract boolean check(Type pre, Type cur);
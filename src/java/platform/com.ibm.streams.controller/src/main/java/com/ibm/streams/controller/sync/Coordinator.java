@@ -19,10 +19,13 @@ package com.ibm.streams.controller.sync;
 import com.ibm.streams.controller.events.IEventConsumerDelegate;
 import fr.xenogenics.kubernetes.controller.AbstractEvent;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import java.util.HashMap;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.AbstractMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.var;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,80 +35,217 @@ public abstract class Coordinator<T extends HasMetadata, S extends ICommandStatu
 
   private static final Logger logger = LoggerFactory.getLogger(Coordinator.class);
 
-  private final Map<String, Queue<Command<T, S>>> commandQueues;
+  private enum State {
+    /*
+     * No command is in flight.
+     */
+    Idle,
+    /*
+     * A thread is running the commands of the queue.
+     */
+    Running,
+    /*
+     * The head of the queue waits for a modification of the resource.
+     */
+    Waiting
+  }
+
+  private final class PendingCommand {
+    private final Command<T, S> command;
+    private final long submissionTime;
+
+    PendingCommand(Command<T, S> command) {
+      this.command = command;
+      this.submissionTime = System.nanoTime();
+    }
+  }
+
+  /*
+   * Each resource has its own queue, guarded by its own lock. Commands are run outside of that
+   * lock, but only one thread at a time runs the commands of a given queue. Modifications observed
+   * while a command is running are deferred until that command is done. Once its resource is
+   * deleted, a queue is unregistered and marked as such, so that the threads still holding it
+   * leave it alone.
+   */
+  private final class CommandQueue {
+    private final Queue<PendingCommand> commands = new LinkedList<>();
+    private final Queue<Map.Entry<T, T>> deferred = new LinkedList<>();
+    private State state = State.Idle;
+    private boolean deleted = false;
+  }
+
+  private final Map<String, CommandQueue> commandQueues;
+  private final Gauge.Child queueLength;
+  private final Histogram.Child commandLatency;
 
   protected Coordinator() {
-    commandQueues = new HashMap<>();
+    var name = getClass().getSimpleName();
+    commandQueues = new ConcurrentHashMap<>();
+    queueLength = CoordinatorMetrics.QUEUE_LENGTH.labels(name);
+    commandLatency = CoordinatorMetrics.COMMAND_LATENCY.labels(name);
   }
 
   protected void apply(T resource, Command<T, S> command) {
-    synchronized (commandQueues) {
-      var queue = commandQueues.get(resource.getMetadata().getName());
-      if (!queue.isEmpty() || command.run() == Command.Action.Wait) {
-        queue.add(command);
+    var name = resource.getMetadata().getName();
+    var queue = commandQueues.get(name);
+    if (queue == null) {
+      throw reject(name, command);
+    }
+    synchronized (queue) {
+      if (queue.deleted) {
+        throw reject(name, command);
+      }
+      queue.commands.add(new PendingCommand(command));
+      queueLength.inc();
+      if (queue.state != State.Idle) {
+        return;
       }
+      queue.state = State.Running;
     }
+    drain(queue);
   }
 
-  public void onAddition(AbstractEvent<? extends T> event) {
-    synchronized (commandQueues) {
-      var resource = event.getResource();
-      commandQueues.put(resource.getMetadata().getName(), new LinkedList<>());
+  /*
+   * Reject a command for a resource that is unknown or already deleted. The command is failed for
+   * those who wait for it, and the exception is returned for the caller to throw.
+   */
+  private IllegalArgumentException reject(String name, Command<T, S> command) {
+    logger.warn("Rejecting command for unknown resource {}", name);
+    var e = new IllegalArgumentException("Resource " + name + " not found");
+    command.fail(e);
+    return e;
+  }
+
+  /*
+   * Remove the head of a queue. The caller must hold the lock of the queue. This is a no-op if the
+   * resource was deleted in the meantime, as its commands have then already been failed.
+   */
+  private void complete(CommandQueue queue) {
+    if (queue.deleted || queue.commands.isEmpty()) {
+      return;
+    }
+    var pending = queue.commands.remove();
+    var elapsed = System.nanoTime() - pending.submissionTime;
+    queueLength.dec();
+    commandLatency.observe(elapsed / 1e9);
+  }
+
+  /*
+   * Run the commands of a queue until one of them waits for a modification. The caller must have
+   * switched the queue to the running state.
+   */
+  private void drain(CommandQueue queue) {
+    while (true) {
+      Command<T, S> head;
+      synchronized (queue) {
+        if (queue.deleted) {
+          return;
+        }
+        if (queue.commands.isEmpty()) {
+          queue.deferred.clear();
+          queue.state = State.Idle;
+          return;
+        }
+        head = queue.commands.element().command;
+      }
+      Command.Action action;
+      try {
+        action = head.run();
+      } catch (RuntimeException e) {
+        logger.error("Command failed: {}", e.getMessage());
+        head.fail(e);
+        action = Command.Action.Remove;
+      }
+      synchronized (queue) {
+        if (queue.deleted) {
+          return;
+        }
+        if (action == Command.Action.Remove) {
+          complete(queue);
+          continue;
+        }
+        /*
+         * Check the modifications that happened while the command was running.
+         */
+        if (queue.deferred.isEmpty()) {
+          queue.state = State.Waiting;
+          return;
+        }
+        var succeeded = queue.deferred.stream().anyMatch(e -> head.check(e.getKey(), e.getValue()));
+        queue.deferred.clear();
+        if (succeeded) {
+          complete(queue);
+        }
+      }
     }
   }
 
+  public void onAddition(AbstractEvent<? extends T> event) {
+    var resource = event.getResource();
+    commandQueues.computeIfAbsent(resource.getMetadata().getName(), k -> new CommandQueue());
+  }
+
   public void onModification(AbstractEvent<? extends T> event) {
-    synchronized (commandQueues) {
-      var pre = event.getPriorResource();
-      var cur = event.getResource();
-      /*
-       * Grab the queue.
-       */
-      if (!commandQueues.containsKey(cur.getMetadata().getName())) {
+    var pre = event.getPriorResource();
+    var cur = event.getResource();
+    /*
+     * Grab the queue.
+     */
+    var queue = commandQueues.get(cur.getMetadata().getName());
+    if (queue == null) {
+      return;
+    }
+    synchronized (queue) {
+      if (queue.deleted) {
         return;
       }
-      var queue = commandQueues.get(cur.getMetadata().getName());
-      /*
-       * If the queue has no command, return.
-       */
-      if (queue.isEmpty()) {
-        return;
+      switch (queue.state) {
+        case Idle:
+          /*
+           * If the queue has no command, return.
+           */
+          return;
+        case Running:
+          /*
+           * The head of the queue is running, it will check the modification when it is done.
+           */
+          queue.deferred.add(new AbstractMap.SimpleEntry<>(pre, cur));
+          return;
+        case Waiting:
+          break;
       }
       /*
-       * Grab the head of the queue.
-       */
-      var head = queue.element();
-      /*
-       * If the head of the queue validates the event, remove it.
+       * If the head of the queue validates the event, remove it. Otherwise it is run again.
        *
        * NOTE(xrg) This filters out modifications of the resource that were triggered outside the coordinator
        * mechanism, for instance the hash update applied by the UDP logic.
        */
-      if (head.check(pre, cur)) {
+      if (queue.commands.element().command.check(pre, cur)) {
         logger.debug("Removing succeeded command from queue {}", cur.getMetadata().getName());
-        queue.remove();
+        complete(queue);
       } else {
         logger.warn("Keeping failed command in queue {}", cur.getMetadata().getName());
       }
-      /*
-       * Return if the queue is empty.
-       */
-      if (queue.isEmpty()) {
-        return;
-      }
-      /*
-       * Otherwise process the next elements.
-       */
-      while (queue.element().run() == Command.Action.Remove) {
-        queue.remove();
-      }
+      queue.state = State.Running;
     }
+    /*
+     * Process the next elements.
+     */
+    drain(queue);
   }
 
   public void onDeletion(AbstractEvent<? extends T> event) {
-    synchronized (commandQueues) {
-      var resource = event.getResource();
-      commandQueues.remove(resource.getMetadata().getName());
+    var resource = event.getResource();
+    var queue = commandQueues.remove(resource.getMetadata().getName());
+    if (queue == null) {
+      return;
+    }
+    synchronized (queue) {
+      queue.deleted = true;
+      queueLength.dec(queue.commands.size());
+      var e = new IllegalArgumentException("Resource deleted before command completion");
+      queue.commands.forEach(p -> p.command.fail(e));
+      queue.commands.clear();
     }
   }
 }
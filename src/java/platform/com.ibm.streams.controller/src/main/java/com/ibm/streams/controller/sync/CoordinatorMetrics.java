@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.sync;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/*
+ * The collectors are labeled with the name of the coordinator.
+ */
+final class CoordinatorMetrics {
+
+  static final Gauge QUEUE_LENGTH =
+      Gauge.build()
+          .name("streams_coordinator_queue_length")
+          .labelNames("coordinator")
+          .help("number of commands pending in a coordinator")
+          .register();
+
+  static final Histogram COMMAND_LATENCY =
+      Histogram.build()
+          .name("streams_coordinator_command_latency_seconds")
+          .labelNames("coordinator")
+          .help("time between the submission of a command and its completion")
+          .register();
+
+  private CoordinatorMetrics() {}
+}
@@ -42,6 +42,60 @@ public abstract class CommonEnvironment {
     return Optional.ofNullable(System.getenv("STREAMS_LOG_LEVEL")).orElse("INFO");
   }
 
+  public int getJobSubmissionThreads() {
+    return Optional.ofNullable(System.getenv("STREAMS_JOB_SUBMISSION_THREADS"))
+        .map(Integer::parseInt)
+        .orElse(Math.min(4, Runtime.getRuntime().availableProcessors()));
+  }
+
+  public long getBundleCacheSize() {
+    return Optional.ofNullable(System.getenv("STREAMS_BUNDLE_CACHE_SIZE"))
+        .map(Long::parseLong)
+        .orElse(64L * 1024 * 1024);
+  }
+
+  public int getExecutorParallelism() {
+    return Optional.ofNullable(System.getenv("STREAMS_EXECUTOR_PARALLELISM"))
+        .map(Integer::parseInt)
+        .orElse(8);
+  }
+
+  public int getPodStateMachineShards() {
+    return Optional.ofNullable(System.getenv("STREAMS_POD_FSM_SHARDS"))
+        .map(Integer::parseInt)
+        .orElse(Math.min(4, Runtime.getRuntime().availableProcessors()));
+  }
+
+  public int getPodCreationConcurrency() {
+    return Optional.ofNullable(System.getenv("STREAMS_POD_CREATION_CONCURRENCY"))
+        .map(Integer::parseInt)
+        .orElse(16);
+  }
+
+  public boolean compressAadls() {
+    return Optional.ofNullable(System.getenv("STREAMS_AADL_COMPRESSION"))
+        .map(Boolean::parseBoolean)
+        .orElse(false);
+  }
+
+  public int getAadlParserThreads() {
+    return Optional.ofNullable(System.getenv("STREAMS_AADL_PARSER_THREADS"))
+        .map(Integer::parseInt)
+        .orElse(Math.min(2, Runtime.getRuntime().availableProcessors()));
+  }
+
+  public long getSubscriptionNotificationWindow() {
+    return Optional.ofNullable(System.getenv("STREAMS_SUBSCRIPTION_NOTIFICATION_WINDOW_MS"))
+        .map(Long::parseLong)
+        .orElse(50L);
+  }
+
+  public int getSubscriptionNotificationMaxSize() {
+    return Optional.ofNullable(System.getenv("STREAMS_SUBSCRIPTION_NOTIFICATION_MAX_SIZE"))
+        .map(Integer::parseInt)
+        .orElse(16384);
+  }
+
   public abstract Optional<String> getCheckpointPath();
 
   public abstract Optional<String> getDataPath();
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+public interface IResourceIndex<T extends HasMetadata> {
+
+  void add(Object storeKey, T resource);
+
+  void remove(Object storeKey, T resource);
+
+  default void replace(Object storeKey, T prior, T resource) {
+    remove(storeKey, prior);
+    add(storeKey, resource);
+  }
+
+  void clear();
+}
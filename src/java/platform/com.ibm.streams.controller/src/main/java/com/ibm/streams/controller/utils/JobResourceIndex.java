@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.utils;
+
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_JOB_LABEL_KEY;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.var;
+
+/*
+ * Secondary index of resources by (job name, generation ID) and by a resource-specific key.
+ *
+ * NOTE the location of each resource is recorded at insertion time, so that removal does
+ * not depend on the labels of the resource still being the same as when it was indexed. Several
+ * resources may share a key, and each of them is kept until it is removed from the store.
+ */
+public class JobResourceIndex<K, T extends HasMetadata> implements IResourceIndex<T> {
+
+  private static final class Location<K> {
+    private final String jobName;
+    private final String jobGenerationId;
+    private final K key;
+
+    private Location(String jobName, String jobGenerationId, K key) {
+      this.jobName = jobName;
+      this.jobGenerationId = jobGenerationId;
+      this.key = key;
+    }
+  }
+
+  private final Function<T, K> keyFunction;
+  private final Map<String, Map<String, Map<K, Map<Object, T>>>> entries;
+  private final Map<Object, Location<K>> locations;
+
+  public JobResourceIndex(Function<T, K> keyFunction) {
+    this.keyFunction = keyFunction;
+    this.entries = new ConcurrentHashMap<>();
+    this.locations = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void add(Object storeKey, T resource) {
+    var meta = resource.getMetadata();
+    if (meta == null || meta.getLabels() == null) {
+      return;
+    }
+    var jobName = meta.getLabels().get(STREAMS_JOB_LABEL_KEY);
+    var jobGenerationId = meta.getLabels().get(STREAMS_GENERATION_LABEL_KEY);
+    var key = keyFunction.apply(resource);
+    if (jobName == null || jobGenerationId == null || key == null) {
+      return;
+    }
+    entries
+        .computeIfAbsent(jobName, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(jobGenerationId, k -> new ConcurrentHashMap<>())
+        .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+        .put(storeKey, resource);
+    locations.put(storeKey, new Location<>(jobName, jobGenerationId, key));
+  }
+
+  @Override
+  public void remove(Object storeKey, T resource) {
+    var location = locations.remove(storeKey);
+    if (location == null) {
+      return;
+    }
+    var generations = entries.get(location.jobName);
+    if (generations == null) {
+      return;
+    }
+    var keys = generations.get(location.jobGenerationId);
+    if (keys == null) {
+      return;
+    }
+    var resources = keys.get(location.key);
+    if (resources == null) {
+      return;
+    }
+    resources.remove(storeKey);
+    /*
+     * Drop the empty levels so that deleted jobs do not leak entries.
+     */
+    if (resources.isEmpty()) {
+      keys.remove(location.key);
+    }
+    if (keys.isEmpty()) {
+      generations.remove(location.jobGenerationId);
+    }
+    if (generations.isEmpty()) {
+      entries.remove(location.jobName);
+    }
+  }
+
+  @Override
+  public void clear() {
+    entries.clear();
+    locations.clear();
+  }
+
+  private Map<K, Map<Object, T>> lookup(String jobName, String jobGenerationId) {
+    var generations = entries.get(jobName);
+    if (generations == null) {
+      return Collections.emptyMap();
+    }
+    var keys = generations.get(jobGenerationId);
+    return keys == null ? Collections.emptyMap() : keys;
+  }
+
+  public Optional<T> get(String jobName, String jobGenerationId, K key) {
+    var resources = lookup(jobName, jobGenerationId).get(key);
+    return resources == null ? Optional.empty() : resources.values().stream().findFirst();
+  }
+
+  /*
+   * Resources that share a key cannot be returned in a map, so they are rejected the same way
+   * Collectors.toMap() does.
+   */
+  public Map<K, T> getAll(String jobName, String jobGenerationId) {
+    var result = new HashMap<K, T>();
+    lookup(jobName, jobGenerationId)
+        .forEach(
+            (key, resources) ->
+                resources
+                    .values()
+                    .forEach(
+                        r -> {
+                          if (result.putIfAbsent(key, r) != null) {
+                            throw new IllegalStateException("Duplicate key " + key);
+                          }
+                        }));
+    return result;
+  }
+
+  public List<T> values(String jobName, String jobGenerationId) {
+    var result = new ArrayList<T>();
+    lookup(jobName, jobGenerationId).values().forEach(r -> result.addAll(r.values()));
+    return result;
+  }
+
+  public long count(String jobName, String jobGenerationId) {
+    return lookup(jobName, jobGenerationId).values().stream().mapToLong(Map::size).sum();
+  }
+}
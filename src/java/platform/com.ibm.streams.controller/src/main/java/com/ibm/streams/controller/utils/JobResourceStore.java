@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.var;
+
+/*
+ * Resource store that maintains secondary indexes of its content.
+ *
+ * All mutations update the primary map and the indexes under the same lock, including the
+ * remapping operations, whose functions are therefore run with the lock held. Lookups are served
+ * from the indexes without locking.
+ */
+public abstract class JobResourceStore<T extends HasMetadata> extends ConcurrentHashMap<Object, T> {
+
+  private final transient Object lock;
+  private final transient List<IResourceIndex<T>> indexes;
+
+  protected JobResourceStore() {
+    this.lock = new Object();
+    this.indexes = new ArrayList<>();
+  }
+
+  protected <K> JobResourceIndex<K, T> addIndex(Function<T, K> keyFunction) {
+    return registerIndex(new JobResourceIndex<K, T>(keyFunction));
+  }
+
+  protected <I extends IResourceIndex<T>> I registerIndex(I index) {
+    indexes.add(index);
+    return index;
+  }
+
+  private void index(Object key, T value) {
+    indexes.forEach(i -> i.add(key, value));
+  }
+
+  private void unindex(Object key, T value) {
+    indexes.forEach(i -> i.remove(key, value));
+  }
+
+  private void reindex(Object key, T prior, T value) {
+    indexes.forEach(i -> i.replace(key, prior, value));
+  }
+
+  @Override
+  public T put(Object key, T value) {
+    synchronized (lock) {
+      var prior = super.put(key, value);
+      if (prior != null) {
+        reindex(key, prior, value);
+      } else {
+        index(key, value);
+      }
+      return prior;
+    }
+  }
+
+  @Override
+  public T putIfAbsent(Object key, T value) {
+    synchronized (lock) {
+      var prior = super.putIfAbsent(key, value);
+      if (prior == null) {
+        index(key, value);
+      }
+      return prior;
+    }
+  }
+
+  @Override
+  public void putAll(Map<?, ? extends T> m) {
+    synchronized (lock) {
+      m.forEach(this::put);
+    }
+  }
+
+  @Override
+  public T remove(Object key) {
+    synchronized (lock) {
+      var prior = super.remove(key);
+      if (prior != null) {
+        unindex(key, prior);
+      }
+      return prior;
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean remove(Object key, Object value) {
+    synchronized (lock) {
+      var removed = super.remove(key, value);
+      if (removed) {
+        unindex(key, (T) value);
+      }
+      return removed;
+    }
+  }
+
+  @Override
+  public T replace(Object key, T value) {
+    synchronized (lock) {
+      var prior = super.replace(key, value);
+      if (prior != null) {
+        reindex(key, prior, value);
+      }
+      return prior;
+    }
+  }
+
+  @Override
+  public boolean replace(Object key, T oldValue, T newValue) {
+    synchronized (lock) {
+      var replaced = super.replace(key, oldValue, newValue);
+      if (replaced) {
+        reindex(key, oldValue, newValue);
+      }
+      return replaced;
+    }
+  }
+
+  @Override
+  public void clear() {
+    synchronized (lock) {
+      super.clear();
+      indexes.forEach(IResourceIndex::clear);
+    }
+  }
+
+  private void update(Object key, T prior, T value) {
+    if (prior == null && value != null) {
+      index(key, value);
+    } else if (prior != null && value == null) {
+      unindex(key, prior);
+    } else if (prior != null) {
+      reindex(key, prior, value);
+    }
+  }
+
+  @Override
+  public T compute(
+      Object key, BiFunction<? super Object, ? super T, ? extends T> remappingFunction) {
+    synchronized (lock) {
+      var prior = get(key);
+      var value = super.compute(key, remappingFunction);
+      update(key, prior, value);
+      return value;
+    }
+  }
+
+  @Override
+  public T computeIfAbsent(Object key, Function<? super Object, ? extends T> mappingFunction) {
+    synchronized (lock) {
+      var prior = get(key);
+      var value = super.computeIfAbsent(key, mappingFunction);
+      update(key, prior, value);
+      return value;
+    }
+  }
+
+  @Override
+  public T computeIfPresent(
+      Object key, BiFunction<? super Object, ? super T, ? extends T> remappingFunction) {
+    synchronized (lock) {
+      var prior = get(key);
+      var value = super.computeIfPresent(key, remappingFunction);
+      update(key, prior, value);
+      return value;
+    }
+  }
+
+  @Override
+  public T merge(
+      Object key, T value, BiFunction<? super T, ? super T, ? extends T> remappingFunction) {
+    synchronized (lock) {
+      var prior = get(key);
+      var merged = super.merge(key, value, remappingFunction);
+      update(key, prior, merged);
+      return merged;
+    }
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super Object, ? super T, ? extends T> function) {
+    synchronized (lock) {
+      forEach(
+          (key, prior) -> replace(key, prior, Objects.requireNonNull(function.apply(key, prior))));
+    }
+  }
+}
@@ -19,27 +19,60 @@ package com.ibm.streams.controller.utils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.fabric8.zjsonpatch.JsonDiff;
-import java.io.IOException;
+import java.util.Objects;
 import java.util.Optional;
+import lombok.var;
 
 public class ObjectUtils {
 
+  /*
+   * ObjectMapper is thread-safe once configured, so we share one instead of creating one per
+   * call.
+   */
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
   public static <T> Optional<T> deepCopy(T original, Class<T> clazz) {
     T result;
-    ObjectMapper objectMapper = new ObjectMapper();
     try {
-      result = objectMapper.readValue(objectMapper.writeValueAsString(original), clazz);
-    } catch (IOException e) {
+      result = MAPPER.treeToValue(MAPPER.valueToTree(original), clazz);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
       result = null;
     }
     return Optional.ofNullable(result);
   }
 
+  /**
+   * Check if a resource has changed, without serializing it. Resources with the same resource
+   * version are identical. When the versions are missing, the generations and then the contents are
+   * compared.
+   *
+   * @param pre the prior resource
+   * @param cur the current resource
+   * @return true if the resource has changed
+   */
+  public static boolean hasChanged(HasMetadata pre, HasMetadata cur) {
+    if (pre == cur) {
+      return false;
+    }
+    if (pre == null || cur == null) {
+      return true;
+    }
+    var preMeta = pre.getMetadata();
+    var curMeta = cur.getMetadata();
+    if (preMeta.getResourceVersion() != null && curMeta.getResourceVersion() != null) {
+      return !preMeta.getResourceVersion().equals(curMeta.getResourceVersion());
+    }
+    if (!Objects.equals(preMeta.getGeneration(), curMeta.getGeneration())) {
+      return true;
+    }
+    return !pre.equals(cur);
+  }
+
   public static <A, B> Optional<String> diff(A objA, B objB) {
-    ObjectMapper objectMapper = new ObjectMapper();
-    JsonNode diff = JsonDiff.asJson(objectMapper.valueToTree(objA), objectMapper.valueToTree(objB));
+    JsonNode diff = JsonDiff.asJson(MAPPER.valueToTree(objA), MAPPER.valueToTree(objB));
     try {
       return Optional.of(Serialization.jsonMapper().writeValueAsString(diff));
     } catch (JsonProcessingException e) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.var;
+
+/*
+ * Secondary index of resources by any number of keys, for lookups that are not scoped to a job.
+ */
+public class ResourceIndex<K, T extends HasMetadata> implements IResourceIndex<T> {
+
+  private final Function<T, Collection<K>> keysFunction;
+  private final Map<K, Map<Object, T>> entries;
+  private final Map<Object, Collection<K>> locations;
+
+  public ResourceIndex(Function<T, Collection<K>> keysFunction) {
+    this.keysFunction = keysFunction;
+    this.entries = new ConcurrentHashMap<>();
+    this.locations = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public void add(Object storeKey, T resource) {
+    var keys = keysFunction.apply(resource);
+    if (keys == null || keys.isEmpty()) {
+      return;
+    }
+    keys.forEach(
+        k -> entries.computeIfAbsent(k, e -> new ConcurrentHashMap<>()).put(storeKey, resource));
+    locations.put(storeKey, new ArrayList<>(keys));
+  }
+
+  @Override
+  public void remove(Object storeKey, T resource) {
+    var keys = locations.remove(storeKey);
+    if (keys == null) {
+      return;
+    }
+    keys.forEach(
+        k -> {
+          var resources = entries.get(k);
+          if (resources == null) {
+            return;
+          }
+          resources.remove(storeKey, resource);
+          if (resources.isEmpty()) {
+            entries.remove(k);
+          }
+        });
+  }
+
+  @Override
+  public void clear() {
+    entries.clear();
+    locations.clear();
+  }
+
+  public List<T> get(K key) {
+    var resources = entries.get(key);
+    return resources == null ? Collections.emptyList() : new ArrayList<>(resources.values());
+  }
+
+  public List<T> get(Collection<K> keys) {
+    /*
+     * A resource indexed under several of the keys must only be returned once.
+     */
+    Map<Object, T> result = new LinkedHashMap<>();
+    keys.forEach(
+        k -> {
+          var resources = entries.get(k);
+          if (resources != null) {
+            result.putAll(resources);
+          }
+        });
+    return new ArrayList<>(result.values());
+  }
+}
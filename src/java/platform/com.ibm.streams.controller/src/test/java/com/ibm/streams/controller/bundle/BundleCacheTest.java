@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.bundle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.var;
+import org.junit.Test;
+
+public class BundleCacheTest {
+
+  private final AtomicInteger extractions = new AtomicInteger();
+
+  /*
+   * A source of bundles that honors conditional loads, and records the versions it was given.
+   */
+  private static class Source {
+    private final Map<String, String> contents = new HashMap<>();
+    private final Map<String, Integer> versions = new HashMap<>();
+    private final List<String> requested = new ArrayList<>();
+    private int downloads = 0;
+
+    void put(String name, String content) {
+      contents.put(name, content);
+      versions.merge(name, 1, Integer::sum);
+    }
+
+    Optional<Bundle> load(String name, String version) {
+      requested.add(version);
+      var current = "v" + versions.get(name);
+      if (current.equals(version)) {
+        return Optional.of(Bundle.unchanged(name, version));
+      }
+      downloads += 1;
+      return Optional.of(new Bundle(name, contents.get(name).getBytes(), current));
+    }
+  }
+
+  private final Source source = new Source();
+
+  private Optional<String> extract(Bundle bundle) {
+    extractions.incrementAndGet();
+    return Optional.of(new String(bundle.getContent()));
+  }
+
+  private Optional<String> get(BundleCache cache, String name) {
+    return cache.getADL(name, v -> source.load(name, v), this::extract);
+  }
+
+  private static double sample(String name, String cache) {
+    var value =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            name, new String[] {"cache"}, new String[] {cache});
+    return value != null ? value : -1;
+  }
+
+  @Test
+  public void unchangedBundlesAreNeitherDownloadedNorExtracted() {
+    var cache = new BundleCache("unchanged", 1024);
+    source.put("app.sab", "<adl/>");
+    assertEquals("<adl/>", get(cache, "app.sab").get());
+    assertEquals("<adl/>", get(cache, "app.sab").get());
+    assertEquals(Arrays.asList(null, "v1"), source.requested);
+    assertEquals(1, source.downloads);
+    assertEquals(1, extractions.get());
+    assertEquals(1, cache.getHits().get(), 0);
+    assertEquals(1, cache.getMisses().get(), 0);
+    /*
+     * Updating the bundle under the same name must not return the old ADL.
+     */
+    source.put("app.sab", "<adl2/>");
+    assertEquals("<adl2/>", get(cache, "app.sab").get());
+    assertEquals(2, source.downloads);
+    assertEquals(2, extractions.get());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void bundlesWithoutVersionAreNotCached() {
+    var cache = new BundleCache("unversioned", 1024);
+    var bundle = new Bundle("app.sab", "<adl/>".getBytes());
+    cache.getADL("app.sab", v -> Optional.of(bundle), this::extract);
+    cache.getADL("app.sab", v -> Optional.of(bundle), this::extract);
+    assertEquals(2, extractions.get());
+    assertEquals(0, cache.size());
+    /*
+     * Bundles that cannot be loaded are not cached either.
+     */
+    assertFalse(cache.getADL("none.sab", v -> Optional.empty(), this::extract).isPresent());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvicted() {
+    var cache = new BundleCache("lru", 10);
+    source.put("a", "aaaa");
+    source.put("b", "bbbb");
+    source.put("c", "cccc");
+    get(cache, "a");
+    get(cache, "b");
+    get(cache, "a");
+    get(cache, "c");
+    /*
+     * B is the least recently used, so it was evicted to make room for C.
+     */
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictions().get(), 0);
+    get(cache, "a");
+    assertEquals(3, extractions.get());
+    get(cache, "b");
+    assertEquals(4, extractions.get());
+    /*
+     * ADLs larger than the cache are never stored.
+     */
+    var small = new BundleCache("small", 2);
+    assertEquals("aaaa", get(small, "a").get());
+    assertEquals(0, small.size());
+  }
+
+  @Test
+  public void countersAreExportedPerCache() {
+    var cache = new BundleCache("exported", 4);
+    var other = new BundleCache("other", 4);
+    /*
+     * The counters are exported as soon as the cache exists.
+     */
+    assertEquals(0, sample("streams_bundle_cache_hits_total", "exported"), 0);
+    assertEquals(0, sample("streams_bundle_cache_misses_total", "exported"), 0);
+    assertEquals(0, sample("streams_bundle_cache_evictions_total", "exported"), 0);
+    source.put("a", "aaaa");
+    source.put("b", "bbbb");
+    get(cache, "a");
+    get(cache, "a");
+    get(cache, "b");
+    get(other, "a");
+    assertEquals(1, sample("streams_bundle_cache_hits_total", "exported"), 0);
+    assertEquals(2, sample("streams_bundle_cache_misses_total", "exported"), 0);
+    assertEquals(1, sample("streams_bundle_cache_evictions_total", "exported"), 0);
+    assertEquals(0, sample("streams_bundle_cache_hits_total", "other"), 0);
+    assertEquals(1, sample("streams_bundle_cache_misses_total", "other"), 0);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.crds.pes;
+
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_GENERATION_LABEL_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.ibm.streams.controller.crds.jobs.Job;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.controller.instance.utils.ProcessingElementUtils;
+import java.math.BigInteger;
+import lombok.var;
+import org.junit.Test;
+
+public class ProcessingElementStoreTest {
+
+  private static ProcessingElement makePe(String jobName, int peId, int generationId) {
+    var pe = ProcessingElementUtils.makeProcessingElement(jobName, BigInteger.valueOf(peId));
+    pe.getMetadata().setName(jobName + "-" + peId);
+    pe.getMetadata().getLabels().put(STREAMS_GENERATION_LABEL_KEY, "" + generationId);
+    return pe;
+  }
+
+  private static Job makeJob(String jobName, int generationId) {
+    var job = JobUtils.makeJob(jobName);
+    job.getSpec().setGenerationId(BigInteger.valueOf(generationId));
+    return job;
+  }
+
+  @Test
+  public void lookupsFollowPutAndRemove() {
+    var store = new ProcessingElementStore();
+    for (int i = 0; i < 4; i += 1) {
+      store.put(makePe("a", i, 0));
+      store.put(makePe("b", i, 1));
+    }
+    var a0 = makeJob("a", 0);
+    var b1 = makeJob("b", 1);
+    var b2 = makeJob("b", 2);
+    assertEquals(4, store.countPesWithJob(a0));
+    assertEquals(4, store.getPesWithJob(b1).size());
+    assertEquals(0, store.countPesWithJob(b2));
+    assertEquals(4, store.countPesWithJobAndPreviousGenerationId(b2));
+    assertEquals(4, store.getPreviousPesWithJob(b2).size());
+    assertTrue(store.getPeWithJobAndId(a0, BigInteger.ONE).isPresent());
+    assertTrue(store.getPeWithNameAndGenerationId("b-3", "1").isPresent());
+    assertFalse(store.getPeWithNameAndGenerationId("b-3", "0").isPresent());
+    /*
+     * Remove a PE and check the indexes.
+     */
+    store.remove("a-1");
+    assertEquals(3, store.countPesWithJob(a0));
+    assertFalse(store.getPeWithJobAndId(a0, BigInteger.ONE).isPresent());
+    /*
+     * Clear the store and check the indexes.
+     */
+    store.clear();
+    assertEquals(0, store.countPesWithJob(a0));
+    assertEquals(0, store.countPesWithJob(b1));
+  }
+
+  @Test
+  public void replacementMovesIndexEntries() {
+    var store = new ProcessingElementStore();
+    var pe = makePe("a", 0, 0);
+    store.put(pe);
+    /*
+     * Replace the PE with a newer generation under the same name.
+     */
+    var next = makePe("a", 0, 1);
+    store.put(next);
+    assertEquals(1, store.size());
+    assertEquals(0, store.countPesWithJob(makeJob("a", 0)));
+    assertSame(next, store.getPeWithJobAndId(makeJob("a", 1), BigInteger.ZERO).get());
+    /*
+     * Removing a stale value must not touch the index.
+     */
+    assertFalse(store.remove("a-0", pe));
+    assertEquals(1, store.countPesWithJob(makeJob("a", 1)));
+    assertTrue(store.remove("a-0", next));
+    assertEquals(0, store.countPesWithJob(makeJob("a", 1)));
+  }
+
+  @Test
+  public void remappingUpdatesIndexes() {
+    var store = new ProcessingElementStore();
+    var a0 = makeJob("a", 0);
+    var a1 = makeJob("a", 1);
+    store.computeIfAbsent("a-0", k -> makePe("a", 0, 0));
+    store.merge("a-1", makePe("a", 1, 0), (p, v) -> v);
+    assertEquals(2, store.countPesWithJob(a0));
+    /*
+     * Move one PE to the next generation and drop the other one.
+     */
+    store.computeIfPresent("a-0", (k, p) -> makePe("a", 0, 1));
+    store.compute("a-1", (k, p) -> null);
+    assertEquals(0, store.countPesWithJob(a0));
+    assertEquals(1, store.countPesWithJob(a1));
+    store.replaceAll((k, p) -> makePe("a", 2, 1));
+    assertFalse(store.getPeWithJobAndId(a1, BigInteger.ZERO).isPresent());
+    assertTrue(store.getPeWithJobAndId(a1, BigInteger.valueOf(2)).isPresent());
+  }
+
+  @Test
+  public void duplicateIdsAreKept() {
+    var store = new ProcessingElementStore();
+    var a0 = makeJob("a", 0);
+    var pe = makePe("a", 0, 0);
+    var dup = makePe("a", 0, 0);
+    dup.getMetadata().setName("a-dup");
+    store.put(pe);
+    store.put(dup);
+    assertEquals(2, store.countPesWithJob(a0));
+    try {
+      store.getPesWithJob(a0);
+      fail("Duplicate PE IDs must be rejected");
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    /*
+     * Removing one of the duplicates leaves the other one indexed.
+     */
+    store.remove("a-0");
+    assertSame(dup, store.getPeWithJobAndId(a0, BigInteger.ZERO).get());
+    assertSame(dup, store.getPesWithJob(a0).get(BigInteger.ZERO));
+  }
+}
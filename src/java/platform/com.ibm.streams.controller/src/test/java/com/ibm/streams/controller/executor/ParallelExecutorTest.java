@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.var;
+import org.junit.Test;
+
+public class ParallelExecutorTest {
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException ignored) {
+    }
+  }
+
+  @Test
+  public void dependenciesAreHonored() {
+    var executor = new ParallelExecutor(4);
+    var trace = new ConcurrentLinkedQueue<EExecutionCommand>();
+    var plan =
+        new ExecutionPlan()
+            .add(
+                EExecutionCommand.ADD_CONFIGMAPS,
+                () -> {
+                  sleep(100);
+                  trace.add(EExecutionCommand.ADD_CONFIGMAPS);
+                })
+            .add(EExecutionCommand.ADD_SERVICES, () -> trace.add(EExecutionCommand.ADD_SERVICES))
+            .add(
+                EExecutionCommand.ADD_PES,
+                () -> trace.add(EExecutionCommand.ADD_PES),
+                EExecutionCommand.ADD_CONFIGMAPS,
+                EExecutionCommand.ADD_SERVICES);
+    executor.execute(plan);
+    /*
+     * The services do not wait for the slow config maps, but the PEs wait for both.
+     */
+    List<EExecutionCommand> order = trace.stream().collect(Collectors.toList());
+    assertEquals(3, order.size());
+    assertEquals(EExecutionCommand.ADD_SERVICES, order.get(0));
+    assertEquals(EExecutionCommand.ADD_PES, order.get(2));
+  }
+
+  @Test
+  public void errorsAreCollectedPerCommand() {
+    var executor = new ParallelExecutor(4);
+    var ran = new AtomicInteger();
+    var plan =
+        new ExecutionPlan()
+            .add(
+                EExecutionCommand.ADD_CONFIGMAPS,
+                () -> {
+                  throw new IllegalStateException("configmaps");
+                })
+            .add(
+                EExecutionCommand.ADD_SERVICES,
+                () -> {
+                  throw new IllegalStateException("services");
+                })
+            .add(EExecutionCommand.ADD_HOST_POOLS, ran::incrementAndGet)
+            .add(EExecutionCommand.ADD_PES, ran::incrementAndGet, EExecutionCommand.ADD_CONFIGMAPS);
+    try {
+      executor.execute(plan);
+      fail("The plan must fail");
+    } catch (ExecutionPlanException e) {
+      var errors = e.getErrors();
+      assertEquals(3, errors.size());
+      assertEquals("configmaps", errors.get(EExecutionCommand.ADD_CONFIGMAPS).getMessage());
+      assertEquals("services", errors.get(EExecutionCommand.ADD_SERVICES).getMessage());
+      assertTrue(errors.containsKey(EExecutionCommand.ADD_PES));
+    }
+    /*
+     * The host pools are independent and must have run, the PEs must not.
+     */
+    assertEquals(1, ran.get());
+  }
+
+  private static void runPastFailure(IExecutor executor) {
+    var ran = new ConcurrentLinkedQueue<EExecutionCommand>();
+    var plan =
+        new ExecutionPlan()
+            .add(
+                EExecutionCommand.ADD_CONFIGMAPS,
+                () -> {
+                  throw new IllegalStateException("configmaps");
+                })
+            .add(EExecutionCommand.ADD_SERVICES, () -> ran.add(EExecutionCommand.ADD_SERVICES))
+            .add(EExecutionCommand.ADD_EXPORTS, () -> ran.add(EExecutionCommand.ADD_EXPORTS))
+            .add(
+                EExecutionCommand.ADD_PES,
+                () -> ran.add(EExecutionCommand.ADD_PES),
+                EExecutionCommand.ADD_CONFIGMAPS,
+                EExecutionCommand.ADD_SERVICES,
+                EExecutionCommand.ADD_EXPORTS);
+    try {
+      executor.execute(plan);
+      fail("The plan must fail");
+    } catch (ExecutionPlanException e) {
+      assertEquals(2, e.getErrors().size());
+      assertEquals("configmaps", e.getErrors().get(EExecutionCommand.ADD_CONFIGMAPS).getMessage());
+      assertTrue(e.getErrors().containsKey(EExecutionCommand.ADD_PES));
+    }
+    /*
+     * A failed step no longer aborts the plan: the steps planned after it that do not depend on
+     * it still run, and the error is only reported once the plan is done.
+     */
+    assertEquals(2, ran.size());
+    assertTrue(ran.contains(EExecutionCommand.ADD_SERVICES));
+    assertTrue(ran.contains(EExecutionCommand.ADD_EXPORTS));
+  }
+
+  @Test
+  public void independentStepsRunPastFailure() {
+    runPastFailure(new ParallelExecutor(2));
+    runPastFailure(new DefaultExecutor());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void dependenciesMustBePlannedFirst() {
+    new ExecutionPlan().add(EExecutionCommand.ADD_PES, () -> {}, EExecutionCommand.ADD_CONFIGMAPS);
+  }
+
+  @Test
+  public void parallelismIsBounded() {
+    var executor = new ParallelExecutor(3);
+    var current = new AtomicInteger();
+    var highest = new AtomicInteger();
+    var items = IntStream.range(0, 24).boxed().collect(Collectors.toList());
+    executor.executeEach(
+        items,
+        i -> {
+          highest.accumulateAndGet(current.incrementAndGet(), Math::max);
+          sleep(20);
+          current.decrementAndGet();
+        });
+    assertTrue(highest.get() > 1);
+    assertTrue(highest.get() <= 3);
+  }
+
+  @Test
+  public void eachReportsErrorsAfterCompletion() {
+    var executor = new ParallelExecutor(2);
+    var done = new AtomicInteger();
+    try {
+      executor.executeEach(
+          Collections.nCopies(8, 0),
+          i -> {
+            if (done.incrementAndGet() % 2 == 0) {
+              throw new IllegalStateException("failed");
+            }
+          });
+      fail("The execution must fail");
+    } catch (IllegalStateException e) {
+      assertEquals(3, e.getSuppressed().length);
+    }
+    assertEquals(8, done.get());
+  }
+}
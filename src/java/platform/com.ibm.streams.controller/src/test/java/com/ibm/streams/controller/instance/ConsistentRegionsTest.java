@@ -19,9 +19,39 @@ package com.ibm.streams.controller.instance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import com.ibm.streams.controller.consistent.ConsistentRegionStateMachine;
+import com.ibm.streams.controller.consistent.rest.ConsistentRegionNotificationBoard;
+import com.ibm.streams.controller.consistent.utils.ENotificationType;
+import com.ibm.streams.controller.consistent.utils.EProgressType;
+import com.ibm.streams.controller.consistent.utils.Notification;
+import com.ibm.streams.controller.consistent.utils.Progress;
+import com.ibm.streams.controller.crds.crs.ConsistentRegion;
+import com.ibm.streams.controller.crds.crs.ConsistentRegionFactory;
+import com.ibm.streams.controller.crds.crs.ConsistentRegionSpec;
+import com.ibm.streams.controller.crds.crs.ConsistentRegionStore;
+import com.ibm.streams.controller.crds.crs.EConsistentRegionState;
+import com.ibm.streams.controller.crds.crs.EPeStatus;
 import com.ibm.streams.controller.crds.jobs.Job;
+import com.ibm.streams.controller.crds.pes.ProcessingElementStore;
 import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.controller.k8s.pods.PodStore;
 import com.ibm.streams.mock.instance.MockResource;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.var;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -38,4 +68,215 @@ public class ConsistentRegionsTest {
     assertEquals(1, mock.getCROClient().list().getItems().size());
     assertNotNull(mock.getDeployment("test-consistent-region-operator"));
   }
+
+  /*
+   * The state machines of the consistent regions are tested in isolation: their executor is run
+   * by hand and the consistent regions they persist are recorded.
+   */
+
+  private static final String JOB_NAME = "job";
+  private static final double TIMEOUT = 3600;
+
+  private static final class ManualExecutor implements Executor {
+    private final Queue<Runnable> tasks = new LinkedList<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    int runAll() {
+      int count = 0;
+      while (!tasks.isEmpty()) {
+        tasks.remove().run();
+        count += 1;
+      }
+      return count;
+    }
+  }
+
+  private static final class RecordingFactory extends ConsistentRegionFactory {
+    private final List<ConsistentRegionSpec> writes = new ArrayList<>();
+
+    RecordingFactory() {
+      super(null);
+    }
+
+    @Override
+    public void addConsistentRegion(ConsistentRegion cr, ConsistentRegionSpec spec) {
+      writes.add(spec);
+    }
+  }
+
+  private ConsistentRegionStore crStore;
+  private RecordingFactory crFactory;
+  private ManualExecutor executor;
+  private ScheduledThreadPoolExecutor scheduler;
+
+  @Before
+  public void setUp() {
+    crStore = new ConsistentRegionStore();
+    crFactory = new RecordingFactory();
+    executor = new ManualExecutor();
+    scheduler = new ScheduledThreadPoolExecutor(1);
+    scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  @After
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  private void storeRegion(ConsistentRegionSpec spec) {
+    var cr = new ConsistentRegion();
+    cr.setMetadata(new ObjectMeta());
+    cr.getMetadata().setName(JOB_NAME + "-cr" + spec.getRegionIndex());
+    cr.setSpec(spec);
+    crStore.put(cr);
+  }
+
+  private ConsistentRegionSpec makeSpec(int regionIndex, int pes, EConsistentRegionState state) {
+    var spec = new ConsistentRegionSpec();
+    spec.setRegionIndex(regionIndex);
+    spec.setTrigger("operator driven");
+    spec.setDrainTimeout(TIMEOUT);
+    spec.setResetTimeout(TIMEOUT);
+    spec.setPesInRegion(
+        IntStream.range(0, pes).mapToObj(BigInteger::valueOf).collect(Collectors.toSet()));
+    spec.setOperatorsToStartRegionMap(new HashMap<>(Collections.singletonMap("op", true)));
+    spec.setOperatorsToTriggerMap(new HashMap<>(Collections.singletonMap("op", true)));
+    spec.setState(state);
+    spec.resetPeToCompletion();
+    return spec;
+  }
+
+  private ConsistentRegionStateMachine makeStateMachine(ConsistentRegionSpec spec) {
+    return makeStateMachine(spec, executor);
+  }
+
+  private ConsistentRegionStateMachine makeStateMachine(
+      ConsistentRegionSpec spec, Executor executor) {
+    storeRegion(spec);
+    var fsm =
+        new ConsistentRegionStateMachine(
+            null,
+            spec.getRegionIndex(),
+            JOB_NAME,
+            "0",
+            crStore,
+            crFactory,
+            new ProcessingElementStore(),
+            new PodStore(),
+            new ConsistentRegionNotificationBoard(),
+            executor,
+            scheduler,
+            null,
+            "default");
+    fsm.enable();
+    return fsm;
+  }
+
+  private static Notification makeProgress(
+      int regionIndex, EProgressType type, int peId, long sequenceId) {
+    var progress = new Progress();
+    progress.setProgressType(type);
+    progress.setPeId(BigInteger.valueOf(peId));
+    progress.setOpName("op");
+    progress.setSequenceId(sequenceId);
+    var n = new Notification();
+    n.setType(ENotificationType.Progress);
+    n.setRegionIndex(regionIndex);
+    n.setProgress(progress);
+    return n;
+  }
+
+  private static long countStatus(ConsistentRegionSpec spec, EPeStatus status) {
+    return spec.getPeToCompletion().values().stream().filter(status::equals).count();
+  }
+
+  @Test
+  public void notificationsAfterShutdownAreDropped() {
+    var pool = Executors.newSingleThreadExecutor();
+    pool.shutdown();
+    var fsm = makeStateMachine(makeSpec(0, 2, EConsistentRegionState.DRAINING), pool);
+    /*
+     * The executor of a closing controller rejects the state machine, which must not throw.
+     */
+    fsm.addNotification(makeProgress(0, EProgressType.CheckpointDone, 0, 1));
+    fsm.addNotification(makeProgress(0, EProgressType.CheckpointDone, 1, 1));
+    assertEquals(0, crFactory.writes.size());
+  }
+
+  @Test
+  public void notificationsAreBatched() {
+    var fsm = makeStateMachine(makeSpec(0, 5, EConsistentRegionState.DRAINING));
+    /*
+     * The checkpoints of the first four PEs are applied to the same spec, persisted once.
+     */
+    for (int pe = 0; pe < 4; pe += 1) {
+      fsm.addNotification(makeProgress(0, EProgressType.CheckpointDone, pe, 1));
+    }
+    assertEquals(1, executor.runAll());
+    assertEquals(1, crFactory.writes.size());
+    var first = crFactory.writes.get(0);
+    assertEquals(EConsistentRegionState.DRAINING, first.getState());
+    assertEquals(4, countStatus(first, EPeStatus.CheckpointDone));
+    /*
+     * The next batch waits for the modification of the consistent region.
+     */
+    fsm.addNotification(makeProgress(0, EProgressType.CheckpointDone, 4, 1));
+    fsm.addNotification(makeProgress(0, EProgressType.Drain, 0, 2));
+    assertEquals(0, executor.runAll());
+    storeRegion(first);
+    fsm.onModification(first);
+    /*
+     * The last checkpoint completes the drain and must be notified to the PEs, which cuts the
+     * batch short: the drain request is handled in a batch of its own.
+     */
+    executor.runAll();
+    assertEquals(2, crFactory.writes.size());
+    var second = crFactory.writes.get(1);
+    assertEquals(EConsistentRegionState.PROCESSING, second.getState());
+    assertEquals(1, second.getLastCompletedSeqID());
+    assertEquals(2, second.getCurrentSeqID());
+    storeRegion(second);
+    fsm.onModification(second);
+    executor.runAll();
+    assertEquals(3, crFactory.writes.size());
+    assertEquals(EConsistentRegionState.DRAINING, crFactory.writes.get(2).getState());
+    fsm.terminate();
+  }
+
+  @Test
+  public void timeoutsAreScopedToTheirRegion() {
+    var fsm0 = makeStateMachine(makeSpec(0, 2, EConsistentRegionState.PROCESSING));
+    var fsm1 = makeStateMachine(makeSpec(1, 2, EConsistentRegionState.PROCESSING));
+    /*
+     * Draining each region arms its drain timeout.
+     */
+    fsm0.addNotification(makeProgress(0, EProgressType.Drain, 0, 1));
+    fsm1.addNotification(makeProgress(1, EProgressType.Drain, 0, 1));
+    executor.runAll();
+    assertEquals(2, crFactory.writes.size());
+    assertEquals(2, scheduler.getQueue().size());
+    var drained = crFactory.writes.get(0);
+    assertEquals(0, drained.getRegionIndex().intValue());
+    assertEquals(EConsistentRegionState.DRAINING, drained.getState());
+    storeRegion(drained);
+    fsm0.onModification(drained);
+    /*
+     * Completing the drain of the first region only cancels the timeout of that region.
+     */
+    fsm0.addNotification(makeProgress(0, EProgressType.CheckpointDone, 0, 1));
+    fsm0.addNotification(makeProgress(0, EProgressType.CheckpointDone, 1, 1));
+    executor.runAll();
+    assertEquals(EConsistentRegionState.PROCESSING, crFactory.writes.get(2).getState());
+    assertEquals(1, scheduler.getQueue().size());
+    /*
+     * Terminating the second region cancels its timeout, and no timeout can be armed after that.
+     */
+    fsm1.terminate();
+    assertEquals(0, scheduler.getQueue().size());
+    fsm0.terminate();
+  }
 }
@@ -17,13 +17,18 @@
 package com.ibm.streams.controller.instance;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.instance.utils.JobUtils;
 import com.ibm.streams.mock.instance.MockResource;
+import com.ibm.streams.utils.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
@@ -65,6 +70,65 @@ public class JobControllerTest {
         .get();
   }
 
+  @Test
+  public void concurrentSubmissions() {
+    final int tests = 12;
+    /*
+     * Submit jobs of different sizes at once, so that their models are built concurrently.
+     */
+    IntStream.range(0, tests)
+        .forEach(
+            i -> {
+              var job = JobUtils.makeJob("concurrent" + i, JobUtils.parallelSab, 1 + i % 3);
+              mock.getJobClient().createOrReplace(job);
+            });
+    IntStream.range(0, tests).forEach(i -> mock.assertJobSubmitted("concurrent" + i, DELAY_IN_SEC));
+    mock.assertPeSize(tests * 2);
+    mock.assertPodSize(tests * 2);
+    /*
+     * Each job must have its own ID and the PEs it asked for.
+     */
+    var ids = new HashSet<BigInteger>();
+    IntStream.range(0, tests)
+        .forEach(
+            i -> {
+              var job = mock.getJobStore().getJobWithName("concurrent" + i).get();
+              ids.add(job.getSpec().getId());
+              assertEquals(1 + i % 3, mock.getProcessingElementStore().countPesWithJob(job));
+            });
+    assertEquals(tests, ids.size());
+  }
+
+  @Test
+  public void deletionCancelsLaunch() {
+    /*
+     * A launch cancelled before its models are built leaves the job alone.
+     */
+    var launcher = mock.getJobLauncher();
+    var job = JobUtils.makeJob("cancelled", JobUtils.parallelSab, 3);
+    var launch = launcher.launch(job, BigInteger.valueOf(1000));
+    assertTrue(launcher.isLaunching("cancelled"));
+    assertTrue(launcher.cancel(job));
+    assertTrue(launch.isCancelled());
+    assertFalse(launcher.isLaunching("cancelled"));
+    assertFalse(launcher.cancel(job));
+    /*
+     * A job deleted while it is launched must not leave any resource behind. Its parallel regions
+     * are wide enough for the deletion to be seen before its models are built.
+     */
+    var props = new Properties();
+    props.put("width1", "40");
+    props.put("width2", "40");
+    props.put("width3", "20");
+    mock.getJobClient()
+        .createOrReplace(JobUtils.makeJob("deleted", JobUtils.parallelSab, 20, props));
+    mock.getJobClient().withName("deleted").delete();
+    Probe.watchUntil("Launching", DELAY_IN_SEC, () -> launcher.isLaunching("deleted"), false);
+    mock.assertJobSize(0);
+    mock.assertPeSize(0);
+    mock.assertConfigMapSize(0);
+  }
+
   @Test
   public void severalPEParallel() {
     Job job = JobUtils.makeJob("severalPEParallel", JobUtils.parallelSab, 3);
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance;
+
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.controller.executor.DefaultExecutor;
+import com.ibm.streams.controller.executor.EExecutionCommand;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.mock.instance.MockResource;
+import com.ibm.streams.utils.Probe;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import lombok.var;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class JobLaunchTest {
+
+  private static final int DELAY_IN_SEC = 60;
+
+  /*
+   * Hold the first job update, which is the one that commits a launch, until released.
+   */
+  private static class GatedExecutor extends DefaultExecutor {
+    private final CountDownLatch reached = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    @Override
+    public void execute(EExecutionCommand command, Runnable fun) {
+      if (command == EExecutionCommand.UPDATE_JOB && reached.getCount() > 0) {
+        reached.countDown();
+        try {
+          released.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      super.execute(command, fun);
+    }
+  }
+
+  private final GatedExecutor executor = new GatedExecutor();
+
+  @Rule public MockResource mock = new MockResource(() -> executor);
+
+  @Test
+  public void deletionDuringCommitLeavesNothingBehind() throws InterruptedException {
+    var launcher = mock.getJobLauncher();
+    mock.getJobClient().createOrReplace(JobUtils.makeJob("raced", JobUtils.parallelSab, 3));
+    /*
+     * The launch is committed and its transitional context is in place: delete the job before it
+     * is updated.
+     */
+    assertTrue(executor.reached.await(DELAY_IN_SEC, TimeUnit.SECONDS));
+    assertTrue(launcher.isLaunching("raced"));
+    mock.getJobClient().withName("raced").delete();
+    mock.assertJobSize(0);
+    executor.released.countDown();
+    /*
+     * Whichever of the update and the deletion comes first, the job leaves nothing behind.
+     */
+    Probe.watchUntil("Launching", DELAY_IN_SEC, () -> launcher.isLaunching("raced"), false);
+    Probe.watchUntil(
+        "Transitional", DELAY_IN_SEC, () -> launcher.hasTransitionalContext("raced"), false);
+    mock.assertJobSize(0);
+    mock.assertPeSize(0);
+    mock.assertConfigMapSize(0);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.ibm.streams.controller.executor.EExecutionCommand;
+import com.ibm.streams.controller.executor.ExecutionPlanException;
+import com.ibm.streams.controller.executor.ParallelExecutor;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.mock.instance.MockResource;
+import java.util.EnumSet;
+import lombok.var;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LaunchFailureTest {
+
+  /*
+   * Fail the creation of the services.
+   */
+  private static class FailingExecutor extends ParallelExecutor {
+    @Override
+    public void execute(EExecutionCommand command, Runnable fun) {
+      if (command == EExecutionCommand.ADD_SERVICES) {
+        throw new IllegalStateException("services");
+      }
+      super.execute(command, fun);
+    }
+  }
+
+  @Rule public MockResource mock = new MockResource(FailingExecutor::new);
+
+  @Test
+  public void failedKindDoesNotAbortTheOthers() {
+    mock.getJobClient().createOrReplace(JobUtils.makeJob("partial", JobUtils.parallelSab, 3));
+    /*
+     * The kinds that do not depend on the services are still created, here the config maps of the
+     * job and of its 3 PEs. The PEs depend on all the kinds and are not created.
+     */
+    mock.assertConfigMapSize(4);
+    mock.assertServiceSize(0);
+    mock.assertPeSize(0);
+    mock.assertPodSize(0);
+    /*
+     * The caller sees every failed command at once: the services, and the PEs they held back.
+     */
+    var job = mock.getJobStore().getJobWithName("partial").get();
+    try {
+      mock.getJobLauncher().addResources(job);
+      fail("The launch must fail");
+    } catch (ExecutionPlanException e) {
+      assertEquals(
+          EnumSet.of(EExecutionCommand.ADD_SERVICES, EExecutionCommand.ADD_PES),
+          e.getErrors().keySet());
+      assertEquals("services", e.getErrors().get(EExecutionCommand.ADD_SERVICES).getMessage());
+    }
+    mock.assertPeSize(0);
+  }
+}
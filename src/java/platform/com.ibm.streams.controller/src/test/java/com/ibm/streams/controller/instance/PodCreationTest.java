@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance;
+
+import static org.junit.Assert.assertEquals;
+
+import com.ibm.streams.controller.executor.DefaultExecutor;
+import com.ibm.streams.controller.executor.EExecutionCommand;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.mock.instance.MockResource;
+import com.ibm.streams.utils.Probe;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class PodCreationTest {
+
+  private static final int DELAY_IN_SEC = 60;
+
+  /*
+   * Fail the given number of pod creations before letting them through.
+   */
+  private static class FailingExecutor extends DefaultExecutor {
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Override
+    public void execute(EExecutionCommand command, Runnable fun) {
+      if (command == EExecutionCommand.ADD_POD) {
+        attempts.incrementAndGet();
+        if (failures.getAndDecrement() > 0) {
+          throw new IllegalStateException("Pod creation failed");
+        }
+      }
+      super.execute(command, fun);
+    }
+  }
+
+  private final FailingExecutor executor = new FailingExecutor();
+
+  @Rule public MockResource mock = new MockResource(() -> executor);
+
+  @Test
+  public void failedPodCreationsAreRetried() {
+    executor.failures.set(2);
+    mock.getJobClient().createOrReplace(JobUtils.makeJob("retried", JobUtils.parallelSab, 3));
+    mock.assertJobSubmitted("retried", DELAY_IN_SEC);
+    /*
+     * No PE fails as many times as it is attempted, so all the pods are eventually created.
+     */
+    Probe.watchUntil(
+        "PodSize", DELAY_IN_SEC, () -> mock.getPodClient().list().getItems().size(), 3);
+    assertEquals(5, executor.attempts.get());
+  }
+
+  @Test
+  public void failedPodCreationsAreGivenUp() {
+    executor.failures.set(Integer.MAX_VALUE);
+    mock.getJobClient().createOrReplace(JobUtils.makeJob("failed", JobUtils.parallelSab, 2));
+    /*
+     * Each PE is attempted a bounded number of times, and no pod is created.
+     */
+    Probe.watchUntil("Attempts", DELAY_IN_SEC, executor.attempts::get, 6);
+    mock.assertPodSize(0);
+  }
+}
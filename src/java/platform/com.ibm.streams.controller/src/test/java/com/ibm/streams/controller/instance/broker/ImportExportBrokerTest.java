@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_NAME_ANNOTATION_KEY;
+import static com.ibm.streams.controller.crds.ICustomResourceCommons.STREAMS_APP_SCOPE_ANNOTATION_KEY;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.controller.crds.exports.Export;
+import com.ibm.streams.controller.crds.exports.ExportStore;
+import com.ibm.streams.controller.crds.imports.Import;
+import com.ibm.streams.controller.crds.imports.ImportStore;
+import com.ibm.streams.controller.crds.jobs.JobStore;
+import com.ibm.streams.controller.executor.DefaultExecutor;
+import com.ibm.streams.controller.instance.utils.ExportUtils;
+import com.ibm.streams.controller.instance.utils.ImportUtils;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import com.ibm.streams.controller.state.subscription.SubscriptionBoard;
+import com.ibm.streams.instance.sam.model.topology.ExportedStream;
+import com.ibm.streams.instance.sam.model.topology.StreamProperty;
+import com.ibm.streams.mock.MockEnvironment;
+import fr.xenogenics.kubernetes.controller.AbstractEvent;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import lombok.var;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImportExportBrokerTest {
+
+  private SubscriptionBoard board;
+  private ImportStore importStore;
+  private ExportStore exportStore;
+  private ImportExportBroker broker;
+
+  @Before
+  public void setUp() {
+    board = new SubscriptionBoard();
+    importStore = new ImportStore();
+    exportStore = new ExportStore();
+    var jobStore = new JobStore();
+    jobStore.put(JobUtils.makeJob("srcjob"));
+    jobStore.put(JobUtils.makeJob("dstjob"));
+    broker =
+        new ImportExportBroker(
+            board,
+            jobStore,
+            importStore,
+            exportStore,
+            new DefaultExecutor(),
+            "test",
+            new MockEnvironment("/tmp"));
+  }
+
+  @After
+  public void tearDown() {
+    broker.close();
+  }
+
+  private static Export makeExport(int peId, String scope, String name, String type, String value) {
+    var exp =
+        ExportUtils.makePropertyExport(
+            "Export", null, "srcjob", BigInteger.valueOf(peId), BigInteger.ZERO);
+    var props = new ArrayList<StreamProperty>();
+    props.add(new StreamProperty(name, type, Collections.singletonList(value)));
+    exp.getSpec().setStream(new ExportedStream("Export", null, true, null, props));
+    var annotations = new HashMap<String, String>();
+    annotations.put(STREAMS_APP_NAME_ANNOTATION_KEY, "App");
+    if (scope != null) {
+      annotations.put(STREAMS_APP_SCOPE_ANNOTATION_KEY, scope);
+    }
+    exp.getMetadata().setAnnotations(annotations);
+    return exp;
+  }
+
+  private static Import makeImport(int peId, String subscription) {
+    return ImportUtils.makeSubscriptionImport(
+        subscription,
+        "Import",
+        BigInteger.ZERO,
+        "dstjob",
+        BigInteger.valueOf(peId),
+        BigInteger.ZERO);
+  }
+
+  private void add(HasMetadata resource) {
+    if (resource instanceof Export) {
+      exportStore.put((Export) resource);
+    } else {
+      importStore.put((Import) resource);
+    }
+    broker.onAddition(new AbstractEvent<>(AbstractEvent.Type.ADDITION, null, resource));
+  }
+
+  private boolean isSubscribed(String peName) {
+    return board.containsKey(peName);
+  }
+
+  @Test
+  public void exportMatchesSubscription() {
+    add(makeImport(1, "x == 3"));
+    add(makeExport(1, "Default", "x", "int64", "3"));
+    add(makeExport(2, "Default", "x", "int64", "4"));
+    add(makeExport(3, "Default", "y", "int64", "3"));
+    assertTrue(isSubscribed("dstjob-1"));
+    assertTrue(isSubscribed("srcjob-1"));
+    assertFalse(isSubscribed("srcjob-2"));
+    assertFalse(isSubscribed("srcjob-3"));
+  }
+
+  @Test
+  public void importMatchesExports() {
+    add(makeExport(1, "Default", "x", "int64", "3"));
+    add(makeExport(2, "Default", "x", "int64", "4"));
+    add(makeExport(3, "Default", "s", "rstring", "\"abc\""));
+    add(makeImport(1, "x > 3"));
+    add(makeImport(2, "s == \"abc\""));
+    assertFalse(isSubscribed("srcjob-1"));
+    assertTrue(isSubscribed("srcjob-2"));
+    assertTrue(isSubscribed("srcjob-3"));
+  }
+
+  @Test
+  public void scopesMustBeEqual() {
+    var imp = makeImport(1, "x == 3");
+    imp.getSpec().getStreams().getPropertyBasedImport().setApplicationScope("Other");
+    add(imp);
+    add(makeExport(1, "Default", "x", "int64", "3"));
+    add(makeExport(2, null, "x", "int64", "3"));
+    add(makeExport(3, "Other", "x", "int64", "3"));
+    assertFalse(isSubscribed("srcjob-1"));
+    assertFalse(isSubscribed("srcjob-2"));
+    assertTrue(isSubscribed("srcjob-3"));
+    /*
+     * The default scope does not match exports without a scope either.
+     */
+    add(makeImport(2, "x == 3"));
+    assertFalse(isSubscribed("srcjob-2"));
+    assertTrue(isSubscribed("srcjob-1"));
+  }
+
+  @Test
+  public void unconditionalSubscriptionMatchesEveryExport() {
+    add(makeExport(1, "Default", "x", "int64", "3"));
+    add(makeImport(1, "1 == 1"));
+    add(makeExport(2, "Default", "y", "int64", "4"));
+    assertTrue(isSubscribed("srcjob-1"));
+    assertTrue(isSubscribed("srcjob-2"));
+  }
+
+  @Test
+  public void invalidSubscriptionNeverMatches() {
+    add(makeExport(1, "Default", "x", "int64", "3"));
+    add(makeImport(1, "x == == 3"));
+    add(makeExport(2, "Default", "x", "int64", "3"));
+    assertFalse(isSubscribed("dstjob-1"));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.broker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.streams.controller.instance.utils.ExportUtils;
+import com.ibm.streams.controller.instance.utils.ImportUtils;
+import com.ibm.streams.controller.state.subscription.SubscriptionBoard;
+import com.ibm.streams.controller.state.subscription.Subscriptions;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.var;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SubscriptionNotifierTest {
+
+  private DatagramSocket receiver;
+  private SubscriptionBoard board;
+  private AtomicInteger resolutions;
+
+  @Before
+  public void setUp() throws IOException {
+    receiver = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+    receiver.setSoTimeout(2000);
+    board = new SubscriptionBoard();
+    resolutions = new AtomicInteger(0);
+  }
+
+  @After
+  public void tearDown() {
+    receiver.close();
+  }
+
+  private SubscriptionNotifier makeNotifier(int maxSize) {
+    return new SubscriptionNotifier(board, "test", receiver.getLocalPort(), 50, maxSize) {
+      @Override
+      protected InetAddress resolve(String target) {
+        resolutions.incrementAndGet();
+        return InetAddress.getLoopbackAddress();
+      }
+    };
+  }
+
+  private String receive() throws IOException {
+    var buffer = new byte[65536];
+    var packet = new DatagramPacket(buffer, buffer.length);
+    try {
+      receiver.receive(packet);
+    } catch (SocketTimeoutException e) {
+      return null;
+    }
+    return new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8);
+  }
+
+  private void subscribe(BigInteger impPeId) {
+    var exp =
+        ExportUtils.makeNamedExport("Export", "Stream", "srcjob", BigInteger.ZERO, BigInteger.ZERO);
+    var imp =
+        ImportUtils.makeNamedImport(
+            "dstjob", "Import", "Stream", "dstjob", impPeId, BigInteger.ZERO);
+    board.add(exp, imp);
+  }
+
+  @Test
+  public void burstIsCoalesced() throws IOException {
+    var notifier = makeNotifier(16384);
+    subscribe(BigInteger.ZERO);
+    for (int i = 0; i < 10; i++) {
+      notifier.notify(Collections.singleton("srcjob-0"));
+    }
+    var payload = receive();
+    var subs = new ObjectMapper().readValue(payload, Subscriptions.class);
+    assertEquals(board.get("srcjob-0").getVersion(), subs.getVersion());
+    assertEquals(1, subs.getExports().size());
+    assertNull(receive());
+    notifier.close();
+  }
+
+  @Test
+  public void sameVersionIsNotSentTwice() throws IOException {
+    var notifier = makeNotifier(16384);
+    subscribe(BigInteger.ZERO);
+    notifier.notify(Collections.singleton("srcjob-0"));
+    var first = new ObjectMapper().readValue(receive(), Subscriptions.class);
+    notifier.notify(Collections.singleton("srcjob-0"));
+    assertNull(receive());
+    /*
+     * A new version is sent, through the cached address.
+     */
+    subscribe(BigInteger.ONE);
+    notifier.notify(Collections.singleton("srcjob-0"));
+    var second = new ObjectMapper().readValue(receive(), Subscriptions.class);
+    assertTrue(second.getVersion() > first.getVersion());
+    assertEquals(1, resolutions.get());
+    notifier.close();
+  }
+
+  @Test
+  public void oversizedPayloadFallsBackToPull() throws IOException {
+    var notifier = makeNotifier(16);
+    subscribe(BigInteger.ZERO);
+    notifier.notify(Collections.singleton("srcjob-0"));
+    assertEquals(SubscriptionNotifier.PULL_REQUEST, receive());
+    notifier.close();
+  }
+
+  @Test
+  public void removedSubscriptionsFallBackToPull() throws IOException {
+    var notifier = makeNotifier(16384);
+    notifier.notify(Collections.singleton("srcjob-0"));
+    assertEquals(SubscriptionNotifier.PULL_REQUEST, receive());
+    notifier.close();
+  }
+}
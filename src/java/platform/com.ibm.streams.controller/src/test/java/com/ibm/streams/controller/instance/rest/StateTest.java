@@ -17,6 +17,7 @@
 package com.ibm.streams.controller.instance.rest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.crds.pes.Connectivity;
@@ -113,6 +114,12 @@ public class StateTest {
      */
     Response response = webTarget.request().get();
     assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    /*
+     * Get the state again with its version.
+     */
+    var tag = response.getEntityTag();
+    response = webTarget.request().header("If-None-Match", tag.toString()).get();
+    assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
     /*
      * Add a one element in the set.
      */
@@ -123,12 +130,14 @@ public class StateTest {
     /*
      * Get the one-element set.
      */
-    response = webTarget.request().get();
+    response = webTarget.request().header("If-None-Match", tag.toString()).get();
     assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertFalse(tag.equals(response.getEntityTag()));
     response.bufferEntity();
     LOGGER.info(response.readEntity(String.class));
     Instance instance = response.readEntity(Instance.class);
     assertEquals("test", instance.getId());
+    assertEquals(1, instance.getJobs().size());
   }
 
   @Test
@@ -17,6 +17,7 @@
 package com.ibm.streams.controller.instance.rest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.ibm.streams.controller.crds.exports.ExportSpec;
 import com.ibm.streams.controller.crds.imports.ImportSpec;
@@ -176,6 +177,24 @@ public class SubscriptionsTest {
     var subs = response.readEntity(Subscriptions.class);
     assertEquals(1, subs.getExports().size());
     assertEquals(0, subs.getImports().size());
+    /*
+     * Get the set again with its version.
+     */
+    var tag = response.getEntityTag();
+    assertEquals(String.valueOf(subs.getVersion()), tag.getValue());
+    response = webTarget.request().header("If-None-Match", tag.toString()).get();
+    assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    /*
+     * Update the set and get the new version.
+     */
+    var other =
+        ImportUtils.makeNamedImport(
+            "dstjob", "Import", "Stream", "dstjob", BigInteger.ONE, BigInteger.ZERO);
+    mockInstance.getImportStore().put(other);
+    mockInstance.getSubscriptionBoard().add(exp, other);
+    response = webTarget.request().header("If-None-Match", tag.toString()).get();
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertTrue(response.readEntity(Subscriptions.class).getVersion() > subs.getVersion());
   }
 
   @Test
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.sam;
+
+import static com.ibm.streams.mock.MockResourceBase.APPS_PATH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.admin.internal.api.application.bundle.BundleInfo;
+import com.ibm.streams.controller.instance.utils.JobUtils;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import javax.xml.parsers.DocumentBuilderFactory;
+import lombok.var;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+public class ADLUtilsTest {
+
+  private static Document parse(String xml) throws Exception {
+    var builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    return builder.parse(new InputSource(new StringReader(xml)));
+  }
+
+  private static Element getApplication(Document doc) {
+    return (Element) doc.getElementsByTagName("splApplication").item(0);
+  }
+
+  @Test
+  public void extractAndPatchFromMemory() throws Exception {
+    var path = APPS_PATH + JobUtils.parallelSab;
+    var content = Files.readAllBytes(Paths.get(path));
+    var adl = ADLUtils.getADLFromStream(new ByteArrayInputStream(content));
+    assertTrue(adl.isPresent());
+    assertFalse(adl.get().startsWith("<?xml"));
+    /*
+     * Compare with the ADL as stored in the bundle.
+     */
+    var info = new BundleInfo(path, null);
+    var original = parse(info.getADLXML());
+    info.close();
+    var patched = parse(adl.get());
+    var odir = getApplication(original).getAttribute("outputDirectory");
+    var adir = getApplication(original).getAttribute("applicationDirectory");
+    var app = getApplication(patched);
+    assertEquals(info.getBuildID(), app.getAttribute("buildId"));
+    assertEquals("/tmp/assets/" + odir, app.getAttribute("outputDirectory"));
+    assertEquals("/tmp/assets/" + odir + "/" + adir, app.getAttribute("applicationDirectory"));
+    assertEquals(getApplication(original).getAttribute("name"), app.getAttribute("name"));
+    /*
+     * The rest of the document is left as it is.
+     */
+    assertEquals(
+        original.getElementsByTagName("*").getLength(),
+        patched.getElementsByTagName("*").getLength());
+    assertEquals(adl, ADLUtils.getADLFromFile(path));
+  }
+
+  @Test
+  public void invalidBundle() {
+    var adl = ADLUtils.getADLFromStream(new ByteArrayInputStream("not a bundle".getBytes()));
+    assertFalse(adl.isPresent());
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.instance.sam;
+
+import static com.ibm.streams.mock.MockResourceBase.APPS_PATH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.ibm.streams.instance.sam.applicationModel.ApplicationModelFactory;
+import com.ibm.streams.instance.sam.model.logical.LogicalModelFactory;
+import com.ibm.streams.instance.sam.model.logical.spl.v4200.V4200SPLLogicalModel;
+import com.ibm.streams.instance.sam.model.logical.spl.v4200.V4200SPLLogicalModelLoader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Properties;
+import javax.xml.bind.UnmarshalException;
+import lombok.var;
+import org.junit.Test;
+
+public class LogicalModelLoaderTest {
+
+  private static ArrayList<String> getADLs() throws Exception {
+    var adls = new ArrayList<String>();
+    for (var file : new File(APPS_PATH).listFiles()) {
+      var path = file.getPath();
+      if (path.endsWith(".adl")) {
+        adls.add(new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8));
+      } else if (path.endsWith(".sab")) {
+        var adl = ADLUtils.getADLFromFile(path);
+        assertTrue(adl.isPresent());
+        adls.add(adl.get());
+      }
+    }
+    return adls;
+  }
+
+  private static Properties getSubmissionParms() {
+    var parms = new Properties();
+    parms.put("width1", "2");
+    parms.put("width2", "4");
+    parms.put("width3", "6");
+    return parms;
+  }
+
+  @Test
+  public void streamingMatchesUnmarshalling() throws Exception {
+    var adls = getADLs();
+    assertTrue(adls.size() > 2);
+    for (var adl : adls) {
+      var app =
+          ApplicationModelFactory.createV4200ApplicationModel(
+              new ByteArrayInputStream(adl.getBytes(StandardCharsets.UTF_8)));
+      var expected = new V4200SPLLogicalModel(app, getSubmissionParms(), new Properties());
+      var actual =
+          V4200SPLLogicalModelLoader.load(
+              new StringReader(adl), getSubmissionParms(), new Properties());
+      assertEquals(expected.toJSON(), actual.toJSON());
+      var created =
+          LogicalModelFactory.createLogicalModel(adl, getSubmissionParms(), new Properties());
+      assertEquals(expected.toJSON(), created.toJSON());
+    }
+  }
+
+  @Test(expected = UnmarshalException.class)
+  public void foreignDocumentIsRejected() throws Exception {
+    var adl = "<applicationSet xmlns=\"http://www.ibm.com/xmlns/prod/streams/application\"/>";
+    V4200SPLLogicalModelLoader.load(new StringReader(adl), new Properties(), new Properties());
+  }
+
+  @Test
+  public void missingSectionIsRejected() throws Exception {
+    var adl =
+        "<applicationSet xmlns=\""
+            + V4200SPLLogicalModelLoader.NAMESPACE
+            + "\"><splApplication name=\"A\" avoidRuntimeYield=\"auto\"><hostpools/>"
+            + "<composites/></splApplication></applicationSet>";
+    try {
+      V4200SPLLogicalModelLoader.load(new StringReader(adl), new Properties(), new Properties());
+      fail("The ADL must be rejected");
+    } catch (UnmarshalException e) {
+      assertTrue(e.getMessage().contains("tupleTypes"));
+    }
+  }
+}
@@ -19,15 +19,19 @@ package com.ibm.streams.controller.instance.sam;
 import static org.junit.Assert.*;
 
 import com.ibm.streams.admin.internal.api.StreamsException;
+import com.ibm.streams.instance.sam.SAMClientHelper;
 import com.ibm.streams.instance.sam.model.Job;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.SortedMap;
 import lombok.var;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -264,4 +268,135 @@ public class PipelineTest {
     assertTrue(addedOperators.size() == 0);
     assertTrue(removedOperators.size() == numOpDecrease.intValue());
   }
+
+  @Test
+  public void parallelWidthIncreaseKeepsUntouchedPes() {
+    final Map<String, BigInteger> priorWidths =
+        new HashMap<String, BigInteger>() {
+          {
+            put("Result.Region1", BigInteger.valueOf(4));
+            put("Result.Region2", BigInteger.valueOf(4));
+            put("Result.Region3", BigInteger.valueOf(4));
+          }
+        };
+    final Map<String, BigInteger> currWidths = new HashMap<>(priorWidths);
+    currWidths.put("Result.Region2", BigInteger.valueOf(7));
+    final int numPes = 14;
+
+    /*
+     * As in the job bridge, each job is inspected within its own submission context.
+     */
+    var changedOperators = new HashSet<String>();
+    var addedOperators = new HashSet<String>();
+    var removedOperators = new HashSet<String>();
+    var originalOperators = new HashMap<BigInteger, Set<String>>();
+    var updatedOperators = new HashMap<BigInteger, Set<String>>();
+    SortedMap<BigInteger, String> originalAadls = null;
+    SortedMap<BigInteger, String> updatedAadls = null;
+    try {
+      var name = new StringBuilder();
+      originalAadls =
+          new SubmissionContext(BigInteger.ZERO)
+              .run(
+                  () -> {
+                    var job = appsPar.createJobManual(priorWidths, numPes);
+                    name.append(job.getName());
+                    job.getPes()
+                        .forEach(
+                            (id, pe) ->
+                                originalOperators.put(id, Pipeline.getOperatorNames(pe.toXml())));
+                    return appsPar.getPipeline().getAADLs(job);
+                  });
+      updatedAadls =
+          new SubmissionContext(BigInteger.ZERO)
+              .run(
+                  () -> {
+                    var job =
+                        appsPar.updateJobManual(
+                            name.toString(),
+                            originalOperators,
+                            priorWidths,
+                            currWidths,
+                            "Result.Region2",
+                            numPes,
+                            changedOperators,
+                            addedOperators,
+                            removedOperators);
+                    job.getPes()
+                        .forEach(
+                            (id, pe) ->
+                                updatedOperators.put(id, Pipeline.getOperatorNames(pe.toXml())));
+                    return appsPar.getPipeline().getAADLs(job);
+                  });
+    } catch (Exception e) {
+      fail("error updating the parallel width: " + e);
+    }
+    assertEquals(3, addedOperators.size());
+
+    /*
+     * The operators stay in their PE. The job already has as many PEs as requested, so the added
+     * operators join the PEs they are connected to, and the PEs that do not hold any operator
+     * affected by the change keep their AADL.
+     */
+    var untouched = 0;
+    for (var entry : originalOperators.entrySet()) {
+      var id = entry.getKey();
+      var operators = entry.getValue();
+      assertTrue(updatedOperators.get(id).containsAll(operators));
+      var affected = new HashSet<>(changedOperators);
+      affected.addAll(addedOperators);
+      affected.retainAll(operators);
+      if (affected.isEmpty()) {
+        assertEquals(originalAadls.get(id), updatedAadls.get(id));
+        untouched += 1;
+      }
+    }
+    assertTrue(untouched > 0);
+    for (var entry : updatedOperators.entrySet()) {
+      if (!originalOperators.containsKey(entry.getKey())) {
+        assertTrue(addedOperators.containsAll(entry.getValue()));
+      }
+    }
+  }
+
+  @Test
+  public void parallelAadlsMatchSerialAadls() throws Exception {
+    Job job = appsPar.createJobManual(largeOps, 38);
+    assertNotNull(job);
+    var contentIds = new HashMap<BigInteger, String>();
+    var aadls = appsPar.getPipeline().getAADLs(job, contentIds);
+    assertEquals(38, aadls.size());
+    assertEquals(aadls.keySet(), contentIds.keySet());
+    /*
+     * The AADLs must be the same as when they are built, serialized and cleaned one by one.
+     */
+    for (var entry : job.getPes().entrySet()) {
+      var serialized = SAMClientHelper.serializeAugmentedPEType(entry.getValue().toXml());
+      var expected = serialized.replaceAll("\\n+\\s*", "");
+      assertEquals(expected, aadls.get(entry.getKey()));
+      assertEquals(DigestUtils.sha256Hex(expected), contentIds.get(entry.getKey()));
+    }
+  }
+
+  @Test
+  public void aadlOutputStreamStripsLineBreaks() throws Exception {
+    var text = "<a>\n  <b x=\"\u00e9t\u00e9\"/>  \n\n\t \r\n<c>\u4e2d</c>\r\n</a>\n";
+    var bytes = text.getBytes(StandardCharsets.UTF_8);
+    var expected = text.replaceAll("\\n+\\s*", "");
+    /*
+     * Write the bytes in chunks that split the line breaks and the multi-byte characters.
+     */
+    var bulk = new AADLOutputStream();
+    for (int i = 0; i < bytes.length; i += 3) {
+      bulk.write(bytes, i, Math.min(3, bytes.length - i));
+    }
+    assertEquals(expected, bulk.getContent());
+    assertEquals(DigestUtils.sha256Hex(expected), bulk.getContentId());
+    var single = new AADLOutputStream();
+    for (byte b : bytes) {
+      single.write(b);
+    }
+    assertEquals(expected, single.getContent());
+    assertEquals(DigestUtils.sha256Hex(expected), single.getContentId());
+  }
 }
@@ -32,7 +32,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import lombok.Getter;
+import lombok.var;
 import org.apache.commons.io.IOUtils;
 import org.junit.rules.ExternalResource;
 
@@ -104,6 +106,76 @@ public class StreamsJobResource extends ExternalResource {
         Pipeline.RESET_OBJECT_TRACKER);
   }
 
+  public Job createJobManual(Map<String, BigInteger> parWidths, int numPes) {
+    return createJob(
+        new Properties(),
+        Pipeline.createManualFuse(numPes),
+        parWidths,
+        Pipeline.RESET_OBJECT_TRACKER);
+  }
+
+  /*
+   * Performs the same steps as the job bridge does for a parallel width change of the job with the
+   * given name, whose PEs currently hold the given operators.
+   */
+  public Job updateJobManual(
+      String name,
+      Map<BigInteger, Set<String>> peIdToOperators,
+      Map<String, BigInteger> priorWidths,
+      Map<String, BigInteger> currWidths,
+      String region,
+      int numPes,
+      Set<String> changedOperators,
+      Set<String> addedOperators,
+      Set<String> removedOperators) {
+    Job job = null;
+    try {
+      var priorLogical =
+          pipeline.createLogicalModel(
+              BigInteger.ZERO,
+              adl,
+              new Properties(),
+              new Properties(),
+              Pipeline.RESET_OBJECT_TRACKER);
+      var prior =
+          pipeline.createJob(
+              name + "prior",
+              adl,
+              priorLogical,
+              Pipeline.createManualFuse(numPes),
+              new Properties(),
+              priorWidths);
+      var currLogical =
+          pipeline.createLogicalModel(
+              BigInteger.ZERO,
+              adl,
+              new Properties(),
+              new Properties(),
+              Pipeline.KEEP_OBJECT_TRACKER);
+      var curr =
+          pipeline.createJob(
+              name + "curr",
+              adl,
+              currLogical,
+              Pipeline.createManualFuse(numPes),
+              new Properties(),
+              currWidths);
+      pipeline.transferParallelRegionDifference(
+          prior, curr, region, changedOperators, addedOperators, removedOperators);
+      job =
+          pipeline.createJob(
+              name,
+              adl,
+              priorLogical,
+              prior.getTopologyApplication(),
+              peIdToOperators,
+              Pipeline.createManualFuse(numPes));
+    } catch (StreamsException e) {
+      fail("StreamsException when updating job: " + e);
+    }
+    return job;
+  }
+
   private Job createJob(
       Properties props,
       ComposingInstructions compose,
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.configmaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.platform.services.AugmentedPEType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.var;
+import org.junit.Test;
+
+public class ConfigMapCacheTest {
+
+  @Test
+  public void readersWaitForPendingParses() throws Exception {
+    var cache = new ConfigMapCache();
+    var parse = new CompletableFuture<Void>();
+    cache.beginParsing("uid", parse);
+    var reader =
+        CompletableFuture.supplyAsync(
+            () -> {
+              cache.awaitParsing(Collections.singletonList("uid"));
+              return cache.get("uid");
+            });
+    TimeUnit.MILLISECONDS.sleep(200);
+    assertFalse(reader.isDone());
+    /*
+     * Publish the AADL and complete the parse, like the parser threads do.
+     */
+    var aadl = new AugmentedPEType();
+    cache.put("uid", aadl);
+    parse.complete(null);
+    assertEquals(aadl, reader.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void failedAndCancelledParsesDoNotBlock() {
+    var cache = new ConfigMapCache();
+    var failed = new CompletableFuture<Void>();
+    var pending = new CompletableFuture<Void>();
+    cache.beginParsing("failed", failed);
+    cache.beginParsing("pending", pending);
+    failed.completeExceptionally(new IllegalStateException());
+    cache.cancelParsing();
+    cache.awaitParsing(Arrays.asList("failed", "pending", "unknown"));
+    assertTrue(pending.isCancelled());
+    assertTrue(cache.isEmpty());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.pods.pes.fsm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.controller.crds.hostpools.HostPool;
+import com.ibm.streams.controller.crds.hostpools.HostPoolStore;
+import com.ibm.streams.controller.crds.jobs.JobStore;
+import com.ibm.streams.controller.crds.pes.ProcessingElementStore;
+import com.ibm.streams.controller.executor.DefaultExecutor;
+import com.ibm.streams.controller.executor.EExecutionCommand;
+import com.ibm.streams.controller.k8s.configmaps.ConfigMapStore;
+import com.ibm.streams.controller.k8s.pods.PodFactory;
+import com.ibm.streams.controller.k8s.pods.PodStore;
+import com.ibm.streams.mock.MockEnvironment;
+import fr.xenogenics.kubernetes.controller.AbstractEvent;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.var;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PodStateMachineTest {
+
+  private final List<EExecutionCommand> commands = new CopyOnWriteArrayList<>();
+  private PodStateMachine fsm;
+
+  @Before
+  public void setUp() {
+    var podStore = new PodStore();
+    fsm =
+        new PodStateMachine(
+            null,
+            new ProcessingElementStore(),
+            new JobStore(),
+            new HostPoolStore(),
+            new ConfigMapStore(),
+            podStore,
+            new PodFactory(null, podStore),
+            new DefaultExecutor() {
+              @Override
+              public void execute(EExecutionCommand command, Runnable fun) {
+                commands.add(command);
+                super.execute(command, fun);
+              }
+            },
+            new MockEnvironment("/tmp"));
+  }
+
+  @After
+  public void tearDown() {
+    fsm.terminate();
+  }
+
+  private static void addition(PodStateMachine fsm, HasMetadata resource) {
+    fsm.onAddition(new AbstractEvent<>(AbstractEvent.Type.ADDITION, null, resource));
+  }
+
+  @Test
+  public void resourcesWithoutJobLabelAreIgnored() {
+    var cm = new ConfigMap();
+    cm.setMetadata(new ObjectMeta());
+    cm.getMetadata().setName("unlabeled");
+    addition(fsm, cm);
+    var hp = new HostPool();
+    hp.setMetadata(new ObjectMeta());
+    hp.getMetadata().setName("other");
+    hp.getMetadata().setLabels(Collections.singletonMap("app", "other"));
+    addition(fsm, hp);
+    /*
+     * Neither resource was queued, so no job state was created and no pod was requested.
+     */
+    assertEquals(0, fsm.getQueuedEvents());
+    assertFalse(fsm.hasStateForJob("other"));
+    assertTrue(commands.isEmpty());
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class ApiMetricsInterceptorTest {
+
+  @Test
+  public void coreKinds() {
+    assertEquals(
+        "pods",
+        ApiMetricsInterceptor.getKind(Arrays.asList("api", "v1", "namespaces", "ns", "pods")));
+    assertEquals(
+        "configmaps",
+        ApiMetricsInterceptor.getKind(
+            Arrays.asList("api", "v1", "namespaces", "ns", "configmaps", "cm")));
+    assertEquals("nodes", ApiMetricsInterceptor.getKind(Arrays.asList("api", "v1", "nodes")));
+    assertEquals(
+        "namespaces", ApiMetricsInterceptor.getKind(Arrays.asList("api", "v1", "namespaces")));
+  }
+
+  @Test
+  public void groupKinds() {
+    assertEquals(
+        "streamsjobs",
+        ApiMetricsInterceptor.getKind(
+            Arrays.asList(
+                "apis", "streams.ibm.com", "v1", "namespaces", "ns", "streamsjobs", "job")));
+    assertEquals(
+        "customresourcedefinitions",
+        ApiMetricsInterceptor.getKind(
+            Arrays.asList(
+                "apis", "apiextensions.k8s.io", "v1", "customresourcedefinitions", "crd")));
+  }
+
+  @Test
+  public void noKind() {
+    assertEquals("none", ApiMetricsInterceptor.getKind(Collections.emptyList()));
+    assertEquals("none", ApiMetricsInterceptor.getKind(Arrays.asList("api", "v1")));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.k8s.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import java.util.Collections;
+import java.util.HashMap;
+import lombok.var;
+import org.junit.Test;
+
+public class ConfigMapUtilsTest {
+
+  private static final String AADL =
+      "<augmentedPE xmlns=\"http://www.ibm.com/xmlns/prod/streams/application/augmented\">"
+          + String.join("", Collections.nCopies(64, "<operInstance/>"))
+          + "</augmentedPE>";
+
+  @Test
+  public void plainAadl() {
+    var data = new HashMap<String, String>();
+    ConfigMapUtils.setAadl(data, AADL);
+    var cm = new ConfigMap();
+    cm.setData(data);
+    assertEquals(AADL, ConfigMapUtils.getAadl(cm));
+  }
+
+  @Test
+  public void compressedAadl() {
+    var binaryData = new HashMap<String, String>();
+    ConfigMapUtils.setCompressedAadl(binaryData, AADL);
+    var cm = new ConfigMap();
+    cm.setBinaryData(binaryData);
+    assertEquals(AADL, ConfigMapUtils.getAadl(cm));
+    /*
+     * The encoded AADL must be smaller than the original one.
+     */
+    assertTrue(binaryData.values().iterator().next().length() < AADL.length());
+  }
+
+  @Test
+  public void missingAadl() {
+    assertNull(ConfigMapUtils.getAadl(new ConfigMap()));
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.state.subscription;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.ibm.streams.controller.instance.utils.ExportUtils;
+import com.ibm.streams.controller.instance.utils.ImportUtils;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import lombok.var;
+import org.junit.Test;
+
+public class SubscriptionBoardTest {
+
+  private static final BigInteger ZERO = BigInteger.ZERO;
+  private static final BigInteger ONE = BigInteger.ONE;
+
+  @Test
+  public void removeExport() {
+    var board = new SubscriptionBoard();
+    var exp = ExportUtils.makeNamedExport("Export", "Stream", "srcjob", ZERO, ZERO);
+    var imp0 = ImportUtils.makeNamedImport("dstjob", "Import", "Stream", "dstjob", ZERO, ZERO);
+    var imp1 = ImportUtils.makeNamedImport("dstjob", "Import", "Stream", "dstjob", ONE, ZERO);
+    board.add(exp, imp0);
+    board.add(exp, imp1);
+    assertEquals(3, board.size());
+    /*
+     * Removing the export affects all the PEs and clears the board.
+     */
+    var pes = board.remove(exp);
+    assertEquals(new HashSet<>(Arrays.asList("srcjob-0", "dstjob-0", "dstjob-1")), pes);
+    assertTrue(board.isEmpty());
+    /*
+     * Removing it again affects nothing.
+     */
+    assertEquals(Collections.emptySet(), board.remove(exp));
+  }
+
+  @Test
+  public void removeImport() {
+    var board = new SubscriptionBoard();
+    var exp = ExportUtils.makeNamedExport("Export", "Stream", "srcjob", ZERO, ZERO);
+    var imp0 = ImportUtils.makeNamedImport("dstjob", "Import", "Stream", "dstjob", ZERO, ZERO);
+    var imp1 = ImportUtils.makeNamedImport("dstjob", "Import", "Stream", "dstjob", ONE, ZERO);
+    board.add(exp, imp0);
+    board.add(exp, imp1);
+    var version = board.get("srcjob-0").getVersion();
+    /*
+     * Removing an import only affects its PE and the exporting PE.
+     */
+    var pes = board.remove(imp0);
+    assertEquals(new HashSet<>(Arrays.asList("srcjob-0", "dstjob-0")), pes);
+    assertFalse(board.containsKey("dstjob-0"));
+    assertTrue(board.containsKey("dstjob-1"));
+    assertEquals(
+        1, board.get("srcjob-0").getExports().values().iterator().next().getEntries().size());
+    assertTrue(board.get("srcjob-0").getVersion() > version);
+    /*
+     * Removing the export now only reaches the remaining PEs.
+     */
+    pes = board.remove(exp);
+    assertEquals(new HashSet<>(Arrays.asList("srcjob-0", "dstjob-1")), pes);
+    assertTrue(board.isEmpty());
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.controller.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import fr.xenogenics.kubernetes.controller.AbstractEvent;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.var;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CoordinatorTest {
+
+  private enum Status implements ICommandStatus {
+    Unknown,
+    Done;
+
+    @Override
+    public boolean isUnknown() {
+      return this == Unknown;
+    }
+  }
+
+  private static final class TestCoordinator extends Coordinator<ConfigMap, Status> {
+    void submit(ConfigMap cm, Command<ConfigMap, Status> command) {
+      apply(cm, command);
+    }
+  }
+
+  /*
+   * A command that runs the given action and succeeds when the resource gets the given value.
+   */
+  private static final class TestCommand extends Command<ConfigMap, Status> {
+    private final Supplier<Action> action;
+    private final String value;
+
+    TestCommand(String value, Supplier<Action> action) {
+      super(Status.Unknown);
+      this.action = action;
+      this.value = value;
+    }
+
+    @Override
+    public boolean check(ConfigMap pre, ConfigMap cur) {
+      if (value.equals(cur.getData().get("value"))) {
+        set(Status.Done);
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Action run() {
+      return action.get();
+    }
+  }
+
+  private TestCoordinator coordinator;
+  private ConfigMap resource;
+
+  private static ConfigMap makeConfigMap(String value) {
+    var cm = new ConfigMap();
+    cm.setMetadata(new ObjectMeta());
+    cm.getMetadata().setName("resource");
+    cm.setData(Collections.singletonMap("value", value));
+    return cm;
+  }
+
+  private static double queueLength() {
+    return CoordinatorMetrics.QUEUE_LENGTH.labels(TestCoordinator.class.getSimpleName()).get();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Throwable failureOf(Command<ConfigMap, Status> command) throws Exception {
+    try {
+      command.getFuture().get(5, TimeUnit.SECONDS);
+      fail("The command must fail");
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+  }
+
+  @Before
+  public void setUp() {
+    coordinator = new TestCoordinator();
+    resource = makeConfigMap("0");
+    coordinator.onAddition(new AbstractEvent<>(AbstractEvent.Type.ADDITION, null, resource));
+  }
+
+  @Test
+  public void modificationsDuringRunAreDeferred() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var command =
+        new TestCommand(
+            "1",
+            () -> {
+              started.countDown();
+              await(release);
+              return Command.Action.Wait;
+            });
+    var submitter = CompletableFuture.runAsync(() -> coordinator.submit(resource, command));
+    await(started);
+    /*
+     * The modification arrives while the command runs. It is checked once the command is done.
+     */
+    var modified = makeConfigMap("1");
+    coordinator.onModification(
+        new AbstractEvent<>(AbstractEvent.Type.MODIFICATION, resource, modified));
+    release.countDown();
+    submitter.get(5, TimeUnit.SECONDS);
+    assertEquals(Status.Done, command.getFuture().get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void deletionDuringRunFailsPendingCommands() throws Exception {
+    var length = queueLength();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var running =
+        new TestCommand(
+            "1",
+            () -> {
+              started.countDown();
+              await(release);
+              return Command.Action.Remove;
+            });
+    var queued = new TestCommand("2", () -> Command.Action.Remove);
+    var submitter = CompletableFuture.runAsync(() -> coordinator.submit(resource, running));
+    await(started);
+    coordinator.submit(resource, queued);
+    coordinator.onDeletion(new AbstractEvent<>(AbstractEvent.Type.DELETION, null, resource));
+    /*
+     * The running command completes after the deletion. It must leave the queue alone.
+     */
+    release.countDown();
+    submitter.get(5, TimeUnit.SECONDS);
+    assertTrue(failureOf(running) instanceof IllegalArgumentException);
+    assertTrue(failureOf(queued) instanceof IllegalArgumentException);
+    assertEquals(length, queueLength(), 0);
+    /*
+     * Commands applied after the deletion are rejected right away.
+     */
+    var late = new TestCommand("3", () -> Command.Action.Remove);
+    try {
+      coordinator.submit(resource, late);
+      fail("The command must be rejected");
+    } catch (IllegalArgumentException ignored) {
+    }
+    assertTrue(failureOf(late) instanceof IllegalArgumentException);
+    assertEquals(length, queueLength(), 0);
+  }
+
+  @Test
+  public void commandsForUnknownResourcesAreRejected() throws Exception {
+    var length = queueLength();
+    var unknown = makeConfigMap("0");
+    unknown.getMetadata().setName("unknown");
+    var command = new TestCommand("1", () -> Command.Action.Remove);
+    try {
+      coordinator.submit(unknown, command);
+      fail("The command must be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("Resource unknown not found", e.getMessage());
+    }
+    assertTrue(failureOf(command) instanceof IllegalArgumentException);
+    assertEquals(length, queueLength(), 0);
+  }
+
+  @Test
+  public void failedCommandsDoNotBlockTheQueue() throws Exception {
+    var failing =
+        new TestCommand(
+            "1",
+            () -> {
+              throw new IllegalStateException("failed");
+            });
+    var next = new TestCommand("2", () -> Command.Action.Wait);
+    coordinator.submit(resource, failing);
+    coordinator.submit(resource, next);
+    assertEquals("failed", failureOf(failing).getMessage());
+    /*
+     * The next command ran and now waits for its modification.
+     */
+    coordinator.onModification(
+        new AbstractEvent<>(AbstractEvent.Type.MODIFICATION, resource, makeConfigMap("2")));
+    assertEquals(Status.Done, next.getFuture().get(5, TimeUnit.SECONDS));
+  }
+}
@@ -18,7 +18,11 @@ package com.ibm.streams.controller.utils;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import lombok.var;
 import org.junit.Test;
 
@@ -33,4 +37,40 @@ public class ObjectUtilsTest {
     assertTrue(diff.isPresent());
     assertEquals("[{\"op\":\"remove\",\"path\":\"/values/svc\"}]", diff.get());
   }
+
+  @Test
+  public void deepCopyTest() {
+    var e0 = new ObjectUtilsEntity();
+    e0.getValues().put("svc", "pe");
+    var e1 = ObjectUtils.deepCopy(e0, ObjectUtilsEntity.class);
+    assertTrue(e1.isPresent());
+    assertNotSame(e0.getValues(), e1.get().getValues());
+    assertEquals(e0.getValues(), e1.get().getValues());
+    e1.get().getValues().put("svc", "job");
+    assertEquals("pe", e0.getValues().get("svc"));
+  }
+
+  private static ConfigMap makeConfigMap(String resourceVersion, String value) {
+    return new ConfigMapBuilder()
+        .withNewMetadata()
+        .withName("cm")
+        .withResourceVersion(resourceVersion)
+        .endMetadata()
+        .addToData("key", value)
+        .build();
+  }
+
+  @Test
+  public void hasChangedTest() {
+    /*
+     * Resource versions take precedence over the content.
+     */
+    assertFalse(ObjectUtils.hasChanged(makeConfigMap("1", "a"), makeConfigMap("1", "b")));
+    assertTrue(ObjectUtils.hasChanged(makeConfigMap("1", "a"), makeConfigMap("2", "a")));
+    /*
+     * Without resource versions, the content is compared.
+     */
+    assertFalse(ObjectUtils.hasChanged(makeConfigMap(null, "a"), makeConfigMap(null, "a")));
+    assertTrue(ObjectUtils.hasChanged(makeConfigMap(null, "a"), makeConfigMap(null, "b")));
+  }
 }
@@ -100,6 +100,7 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.var;
 import org.apache.log4j.Level;
 import org.apache.log4j.LogManager;
@@ -166,6 +167,19 @@ public class MockResource extends MockResourceBase {
 
   private StreamsInstance instance;
 
+  private final Supplier<IExecutor> executorSupplier;
+
+  public MockResource() {
+    this(
+        () ->
+            Utils.instantiate(
+                "com.ibm.streams.controller.executor.DefaultExecutor", IExecutor.class));
+  }
+
+  public MockResource(Supplier<IExecutor> executorSupplier) {
+    this.executorSupplier = executorSupplier;
+  }
+
   private CustomResourceDefinitionContext loadAndCreateCustomResourceContext(
       String fn, String name) {
     client.apiextensions().v1().customResourceDefinitions().load(CRDS_PATH + fn).create();
@@ -219,8 +233,7 @@ public class MockResource extends MockResourceBase {
     /*
      * Create the instance.
      */
-    var executor =
-        Utils.instantiate("com.ibm.streams.controller.executor.DefaultExecutor", IExecutor.class);
+    var executor = executorSupplier.get();
     instance = new StreamsInstance(client, executor, KUBE_NAMESPACE, env, cTime);
     /*
      * Start the controllers. They may throw an exception.
@@ -429,6 +442,11 @@ public class MockResource extends MockResourceBase {
     return this.instance.getParallelRegionCoordinator();
   }
 
+  public JobLauncher getJobLauncher() {
+    assertNotNull(this.instance.getJobLauncher());
+    return this.instance.getJobLauncher();
+  }
+
   public SubscriptionBoard getSubscriptionBoard() {
     return this.instance.getSubscriptionBoard();
   }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.sch.composer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.ibm.streams.admin.internal.api.trace.StreamsLogger.StreamsLogLevel;
+import com.ibm.streams.admin.internal.api.trace.TraceLogger;
+import com.ibm.streams.controller.instance.sam.ADLUtils;
+import com.ibm.streams.controller.instance.sam.Pipeline;
+import com.ibm.streams.instance.sam.model.topology.TopologyApplication;
+import com.ibm.streams.instance.sam.model.topology.TopologyNode;
+import com.ibm.streams.mock.MockResourceBase;
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import lombok.var;
+import org.junit.Test;
+
+public class IEUComposerTest {
+
+  /*
+   * Two fusing cycles with different strategies, so that the second one runs on the fusion pool.
+   */
+  private static final String TWO_CYCLES = "91CDLHBGefMXW_91DCLHBGfeMXW";
+
+  private static TopologyApplication makeTopology(int width) throws Exception {
+    var adl =
+        new String(
+            Files.readAllBytes(Paths.get(MockResourceBase.APPS_PATH, "apps.parallel.Parallel.adl")),
+            StandardCharsets.UTF_8);
+    var params = new Properties();
+    params.put("width1", String.valueOf(width));
+    params.put("width2", String.valueOf(width));
+    params.put("width3", String.valueOf(width));
+    var pipeline = new Pipeline(StreamsLogLevel.WARN, TraceLogger.Level.WARN);
+    var logical = pipeline.createLogicalModel(BigInteger.ZERO, adl, params, new Properties());
+    return logical.generateTopology(new Properties(), new HashMap<>());
+  }
+
+  /*
+   * Compose the topology and return the operators of each PE. The forked cycles run on the given
+   * executor, or on the shared pool if none is given.
+   */
+  private static Set<Set<String>> compose(
+      TopologyApplication topology, int pes, ExecutorService executor) throws Exception {
+    var composer = new IEUComposer(topology, null);
+    composer.buildComposerModel(false);
+    if (executor != null) {
+      composer.setFusionExecutor(executor);
+    }
+    return composer
+        .composeContainerSpecs(ComposingInstructionFactory.createManualFuse(pes, TWO_CYCLES))
+        .stream()
+        .map(c -> c.getNodes().stream().map(TopologyNode::getName).collect(Collectors.toSet()))
+        .collect(Collectors.toSet());
+  }
+
+  private static List<TopologyApplication> getTopologies(int width) throws Exception {
+    var params = new Properties();
+    params.put("width1", String.valueOf(width));
+    params.put("width2", String.valueOf(width * 2));
+    params.put("width3", String.valueOf(width * 3));
+    var pipeline = new Pipeline(StreamsLogLevel.WARN, TraceLogger.Level.WARN);
+    var topologies = new ArrayList<TopologyApplication>();
+    for (var file : new File(MockResourceBase.APPS_PATH).listFiles()) {
+      var path = file.getPath();
+      String adl;
+      if (path.endsWith(".adl")) {
+        adl = new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+      } else if (path.endsWith(".sab")) {
+        adl = ADLUtils.getADLFromFile(path).get();
+      } else {
+        continue;
+      }
+      var logical = pipeline.createLogicalModel(BigInteger.ZERO, adl, params, new Properties());
+      topologies.add(logical.generateTopology(new Properties(), new HashMap<>()));
+    }
+    return topologies;
+  }
+
+  /*
+   * Compose the topology with the default fusion, sorting the fusable units with the cached ranks
+   * or with the pairwise comparator.
+   */
+  private static Set<Set<String>> compose(TopologyApplication topology, int pes, boolean cacheRanks)
+      throws Exception {
+    var composer = new IEUComposer(topology, null);
+    composer.buildComposerModel(false);
+    composer.setCacheRanks(cacheRanks);
+    return composer.composeContainerSpecs(Pipeline.createManualFuse(pes)).stream()
+        .map(c -> c.getNodes().stream().map(TopologyNode::getName).collect(Collectors.toSet()))
+        .collect(Collectors.toSet());
+  }
+
+  @Test
+  public void cachedRanksMatchThePairwiseSort() throws Exception {
+    for (var width : new int[] {2, 10}) {
+      var topologies = getTopologies(width);
+      assertTrue(topologies.size() > 2);
+      for (var topology : topologies) {
+        for (var pes : new int[] {1, 3, 8}) {
+          assertEquals(compose(topology, pes, false), compose(topology, pes, true));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void forkedCyclesKeepTheCallerAliases() throws Exception {
+    var topology = makeTopology(4);
+    var composer = new IEUComposer(topology, null);
+    composer.buildComposerModel(false);
+    IEUComposer.getGroupAliasIds().put("c", new HashMap<>());
+    var aliases = IEUComposer.getGroupAliasIds();
+    /*
+     * The forks are created on this thread and, with a direct executor, run on it too.
+     */
+    composer.setFusionExecutor(MoreExecutors.newDirectExecutorService());
+    composer.composeContainerSpecs(ComposingInstructionFactory.createManualFuse(5, TWO_CYCLES));
+    assertSame(aliases, IEUComposer.getGroupAliasIds());
+    assertEquals(Collections.singleton("c"), aliases.keySet());
+  }
+
+  @Test
+  public void parallelCyclesPickTheSerialChampion() throws Exception {
+    for (var width : new int[] {4, 20}) {
+      var topology = makeTopology(width);
+      for (var pes : new int[] {5, 10}) {
+        /*
+         * With a direct executor the forked cycles run one after the other on the calling thread.
+         */
+        var serial = compose(topology, pes, MoreExecutors.newDirectExecutorService());
+        assertEquals(pes, serial.size());
+        for (int run = 0; run < 3; run += 1) {
+          assertEquals(serial, compose(topology, pes, null));
+        }
+      }
+    }
+  }
+}
@@ -17,6 +17,8 @@
 package com.ibm.streams.state;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import com.ibm.streams.controller.crds.jobs.Job;
 import com.ibm.streams.controller.instance.utils.JobUtils;
@@ -45,6 +47,39 @@ public class CaptureConverterTest {
     assertEquals(2, state.getJobs().get(0).getPes().size());
   }
 
+  @Test
+  public void unchangedJobsAreNotConverted() {
+    /*
+     * Create a first job.
+     */
+    var first = JobUtils.makeJob("first", JobUtils.parallelSab, 1);
+    mock.getJobClient().createOrReplace(first);
+    mock.assertJobSubmitted("first", 600);
+    /*
+     * Capture the state twice.
+     */
+    var converter = mock.getCaptureConverter();
+    var pre = converter.capture(MockResource.KUBE_NAMESPACE);
+    var cur = converter.capture(MockResource.KUBE_NAMESPACE);
+    assertEquals(pre.getVersion(), cur.getVersion());
+    assertSame(pre.getInstance().getJobs().get(0), cur.getInstance().getJobs().get(0));
+    /*
+     * Submit another job. Only that job is converted.
+     */
+    var second = JobUtils.makeJob("second", JobUtils.parallelSab, 1);
+    mock.getJobClient().createOrReplace(second);
+    mock.assertJobSubmitted("second", 600);
+    var post = converter.capture(MockResource.KUBE_NAMESPACE);
+    assertTrue(post.getVersion() > cur.getVersion());
+    assertEquals(2, post.getInstance().getJobs().size());
+    assertSame(
+        cur.getInstance().getJobs().get(0),
+        post.getInstance().getJobs().stream()
+            .filter(j -> j.getName().equals("first"))
+            .findFirst()
+            .get());
+  }
+
   @Test
   public void hostPoolJob() {
     /*
@@ -19,6 +19,7 @@ package com.ibm.streams.instance.sam;
 import com.ibm.distillery.utils.DistilleryExceptionCode;
 import com.ibm.distillery.utils.exc.SerializationException;
 import com.ibm.streams.platform.services.AugmentedPEType;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Vector;
 
@@ -33,6 +34,16 @@ public final class SAMClientHelper {
     }
   }
 
+  public static void serializeAugmentedPEType(AugmentedPEType t, OutputStream os)
+      throws SerializationException {
+    try {
+      SAMXmlHelper<AugmentedPEType> helper = new SAMXmlHelper<AugmentedPEType>();
+      helper.marshal(SAMXmlHelper.newObjf().createAugmentedPE(t), os);
+    } catch (Exception e) {
+      throw getSerializationException(t, e);
+    }
+  }
+
   public static SerializationException getSerializationException(Object t, Throwable cause) {
     return new SerializationException(
         cause,
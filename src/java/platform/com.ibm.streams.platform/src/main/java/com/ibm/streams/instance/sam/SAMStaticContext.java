@@ -33,6 +33,7 @@ public class SAMStaticContext {
   private static String _testDataDir;
   private static boolean _errorTestMode;
   private static ObjectTracker _objectTracker;
+  private static final ThreadLocal<ObjectTracker> _boundObjectTracker = new ThreadLocal<>();
   private static boolean _isRecoveryEnabled;
   private static volatile boolean _isInRecovery;
   private static volatile boolean _isRecovered;
@@ -161,12 +162,29 @@ public class SAMStaticContext {
   }
 
   public static ObjectTracker getObjectTracker() {
-    return _objectTracker;
+    ObjectTracker bound = _boundObjectTracker.get();
+    return bound != null ? bound : _objectTracker;
   }
 
-  // for recovery
+  // for recovery; replaces the tracker bound to the current thread, if any
   public static void setObjectTracker(ObjectTracker objectTracker) {
-    _objectTracker = objectTracker;
+    if (_boundObjectTracker.get() != null) {
+      _boundObjectTracker.set(objectTracker);
+    } else {
+      _objectTracker = objectTracker;
+    }
+  }
+
+  // Binds a tracker to the current thread, shadowing the shared one. Passing null unbinds it.
+  // Returns the previously bound tracker so that bindings can be nested.
+  public static ObjectTracker bindObjectTracker(ObjectTracker objectTracker) {
+    ObjectTracker prior = _boundObjectTracker.get();
+    if (objectTracker != null) {
+      _boundObjectTracker.set(objectTracker);
+    } else {
+      _boundObjectTracker.remove();
+    }
+    return prior;
   }
 
   public static FusedTracker getFusedTracker() {
@@ -16,32 +16,20 @@
 
 package com.ibm.streams.instance.sam;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.platform.services.ObjectFactory;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 import javax.xml.transform.stream.StreamSource;
 
 public class SAMXmlHelper<T> {
 
-  private static JAXBContext jc = null;
-  private static Unmarshaller unmarshaller = null;
-  private static Marshaller marshaller = null;
-
-  static synchronized JAXBContext initJc() throws JAXBException {
-    if (jc == null) {
-      jc = JAXBContext.newInstance(com.ibm.streams.platform.services.ObjectFactory.class);
-      unmarshaller = jc.createUnmarshaller();
-      marshaller = jc.createMarshaller();
-      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, new Boolean(true));
-    }
-    return jc;
-  }
+  private static final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(ObjectFactory.class);
 
   public static com.ibm.streams.platform.services.ObjectFactory newObjf() {
     return new ObjectFactory();
@@ -52,19 +40,20 @@ public class SAMXmlHelper<T> {
   }
 
   public ByteArrayOutputStream marshalAsBaos(JAXBElement<T> obj) throws JAXBException {
-    synchronized (initJc()) {
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      marshaller.marshal(obj, baos);
-      return baos;
-    }
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    marshal(obj, baos);
+    return baos;
+  }
+
+  public void marshal(JAXBElement<T> obj, OutputStream os) throws JAXBException {
+    binding.getMarshaller(true).marshal(obj, os);
   }
 
   @SuppressWarnings("unchecked")
   public T unmarshal(String xmlstr) throws JAXBException {
-    synchronized (initJc()) {
-      JAXBElement<T> elem =
-          (JAXBElement<T>) unmarshaller.unmarshal(new StreamSource(new StringReader(xmlstr)));
-      return elem.getValue();
-    }
+    JAXBElement<T> elem =
+        (JAXBElement<T>)
+            binding.getUnmarshaller().unmarshal(new StreamSource(new StringReader(xmlstr)));
+    return elem.getValue();
   }
 }
@@ -16,23 +16,22 @@
 
 package com.ibm.streams.instance.sam.applicationModel;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import java.io.InputStream;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
 
 public class ApplicationModelFactory {
 
-  private static JAXBContext jc4000;
-  private static JAXBContext jc4200;
+  private static final JAXBContextRegistry.Binding jc4000 =
+      JAXBContextRegistry.get(com.ibm.streams.platform.services.v4000.ObjectFactory.class);
+  private static final JAXBContextRegistry.Binding jc4200 =
+      JAXBContextRegistry.get(com.ibm.streams.platform.services.v4200.ObjectFactory.class);
 
-  public static synchronized com.ibm.streams.platform.services.v4000.ApplicationType
-      createV4000ApplicationModel(InputStream iStream) throws JAXBException {
-    if (jc4000 == null) {
-      jc4000 = JAXBContext.newInstance(com.ibm.streams.platform.services.v4000.ObjectFactory.class);
-    }
-    Unmarshaller um = jc4000.createUnmarshaller();
+  public static com.ibm.streams.platform.services.v4000.ApplicationType createV4000ApplicationModel(
+      InputStream iStream) throws JAXBException {
+    Unmarshaller um = jc4000.getUnmarshaller();
     JAXBElement<com.ibm.streams.platform.services.v4000.ApplicationSetType> jbe =
         (JAXBElement<com.ibm.streams.platform.services.v4000.ApplicationSetType>)
             um.unmarshal(iStream);
@@ -41,12 +40,9 @@ public class ApplicationModelFactory {
     return adlModel;
   }
 
-  public static synchronized com.ibm.streams.platform.services.v4200.ApplicationType
-      createV4200ApplicationModel(InputStream iStream) throws JAXBException {
-    if (jc4200 == null) {
-      jc4200 = JAXBContext.newInstance(com.ibm.streams.platform.services.v4200.ObjectFactory.class);
-    }
-    Unmarshaller um = jc4200.createUnmarshaller();
+  public static com.ibm.streams.platform.services.v4200.ApplicationType createV4200ApplicationModel(
+      InputStream iStream) throws JAXBException {
+    Unmarshaller um = jc4200.getUnmarshaller();
     JAXBElement<com.ibm.streams.platform.services.v4200.ApplicationSetType> jbe =
         (JAXBElement<com.ibm.streams.platform.services.v4200.ApplicationSetType>)
             um.unmarshal(iStream);
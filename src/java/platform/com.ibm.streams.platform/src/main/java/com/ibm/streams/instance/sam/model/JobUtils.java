@@ -19,12 +19,13 @@ package com.ibm.streams.instance.sam.model;
 import com.ibm.streams.instance.sam.model.fuser.FusedContainer;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public final class JobUtils {
@@ -49,21 +50,54 @@ public final class JobUtils {
             .max(BigInteger::compareTo)
             .orElse(BigInteger.valueOf(-1))
             .longValue();
-    AtomicLong nextPeId = new AtomicLong(maxPeId + 1);
-    return containers.stream()
-        .collect(
-            Collectors.toMap(
-                c -> c.getIndex(),
-                c -> {
-                  String operators =
-                      c.getContainerSpecification().getNodes().stream()
-                          .map(n -> n.getName())
-                          .sorted()
-                          .reduce("", (s1, s2) -> s1 + s2);
-                  return operatorsToPeId.containsKey(operators)
-                      ? operatorsToPeId.get(operators)
-                      : BigInteger.valueOf(nextPeId.getAndIncrement());
-                }));
+    long nextPeId = maxPeId + 1;
+    Map<BigInteger, BigInteger> containerIndexToPeId = new HashMap<>();
+    Set<BigInteger> usedPeIds = new HashSet<>();
+    for (FusedContainer c : containers) {
+      BigInteger peId = operatorsToPeId.get(getOperatorsName(c));
+      if (peId != null) {
+        containerIndexToPeId.put(c.getIndex(), peId);
+        usedPeIds.add(peId);
+      }
+    }
+    // a container that has no exact match takes over the ID of the unmatched PE it shares the most
+    // operators with, so that a PE that gains or loses operators keeps its identity; otherwise it
+    // gets a new one
+    SortedMap<BigInteger, Set<String>> sortedPeIdToOperators = new TreeMap<>(peIdToOperators);
+    for (FusedContainer c : containers) {
+      if (containerIndexToPeId.containsKey(c.getIndex())) {
+        continue;
+      }
+      Set<String> operators =
+          c.getContainerSpecification().getNodes().stream()
+              .map(n -> n.getName())
+              .collect(Collectors.toSet());
+      BigInteger peId = null;
+      long maxOverlap = 0;
+      for (Map.Entry<BigInteger, Set<String>> e : sortedPeIdToOperators.entrySet()) {
+        if (usedPeIds.contains(e.getKey())) {
+          continue;
+        }
+        long overlap = e.getValue().stream().filter(operators::contains).count();
+        if (overlap > maxOverlap) {
+          peId = e.getKey();
+          maxOverlap = overlap;
+        }
+      }
+      if (peId == null) {
+        peId = BigInteger.valueOf(nextPeId++);
+      }
+      containerIndexToPeId.put(c.getIndex(), peId);
+      usedPeIds.add(peId);
+    }
+    return containerIndexToPeId;
+  }
+
+  private static String getOperatorsName(FusedContainer container) {
+    return container.getContainerSpecification().getNodes().stream()
+        .map(n -> n.getName())
+        .sorted()
+        .reduce("", (s1, s2) -> s1 + s2);
   }
 
   /**
@@ -22,9 +22,10 @@ import com.ibm.streams.admin.internal.api.trace.TraceLogger.Level;
 import com.ibm.streams.instance.sam.applicationModel.ApplicationModelFactory;
 import com.ibm.streams.instance.sam.model.logical.spl.SPLLogicalModel;
 import com.ibm.streams.instance.sam.model.logical.spl.v4000.V4000SPLLogicalModel;
-import com.ibm.streams.instance.sam.model.logical.spl.v4200.V4200SPLLogicalModel;
+import com.ibm.streams.instance.sam.model.logical.spl.v4200.V4200SPLLogicalModelLoader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.Properties;
 import javax.xml.bind.JAXBException;
 import org.apache.commons.io.IOUtils;
@@ -41,9 +42,9 @@ public class LogicalModelFactory {
       if (Trace.isEnabled(Level.TRACE)) {
         Trace.logTrace("Trying v4200 adl");
       }
-      com.ibm.streams.platform.services.v4200.ApplicationType adlModel =
-          ApplicationModelFactory.createV4200ApplicationModel(getInputStream(adlString));
-      lm = new V4200SPLLogicalModel(adlModel, submissionParms, configParms);
+      lm =
+          V4200SPLLogicalModelLoader.load(
+              new StringReader(adlString), submissionParms, configParms);
     } catch (StreamsException e) {
       Trace.logError(e.getMessage(), e);
       throw e;
@@ -93,6 +93,7 @@ import com.ibm.streams.platform.services.v4200.CustomMetricType;
 import com.ibm.streams.platform.services.v4200.CustomMetricsType;
 import com.ibm.streams.platform.services.v4200.HostType;
 import com.ibm.streams.platform.services.v4200.HostpoolType;
+import com.ibm.streams.platform.services.v4200.HostpoolsType;
 import com.ibm.streams.platform.services.v4200.OperatorRuntimeType;
 import com.ibm.streams.platform.services.v4200.ParallelRegionType;
 import com.ibm.streams.platform.services.v4200.ParallelRegionsType;
@@ -104,7 +105,9 @@ import com.ibm.streams.platform.services.v4200.SubmissionTimeValueType;
 import com.ibm.streams.platform.services.v4200.SubmissionTimeValuesType;
 import com.ibm.streams.platform.services.v4200.TagType;
 import com.ibm.streams.platform.services.v4200.ToolkitType;
+import com.ibm.streams.platform.services.v4200.ToolkitsType;
 import com.ibm.streams.platform.services.v4200.TupleTypeType;
+import com.ibm.streams.platform.services.v4200.TupleTypesType;
 import com.ibm.streams.platform.services.v4200.UriType;
 import com.ibm.streams.platform.services.v4200.UrisType;
 import java.math.BigInteger;
@@ -124,6 +127,26 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
   public V4200SPLLogicalModel(
       ApplicationType logicalApp, Properties submissionParms, Properties configParms)
       throws SAMInternalErrorException, StreamsException {
+    loadApplication(logicalApp, configParms);
+    loadHostpools(logicalApp.getHostpools());
+    loadTupleTypes(logicalApp.getTupleTypes());
+    loadPrimitiveOperDefinitions(logicalApp.getPrimitiveOperDefinitions());
+    loadComposites(logicalApp.getComposites());
+    loadToolkits(logicalApp.getToolkits());
+    loadCustomMetrics(logicalApp.getCustomMetrics());
+    loadParallelRegions(logicalApp.getParallelRegions());
+    loadSubmissionTimeValues(logicalApp.getSubmissionTimeValues(), submissionParms);
+  }
+
+  /*
+   * The load methods below build the model one section of the ADL at a time. They must be called
+   * in the order of the sections in the ADL, which is the order used by the constructor above.
+   * V4200SPLLogicalModelLoader calls them as it streams through the ADL.
+   */
+  V4200SPLLogicalModel() {}
+
+  // Only the attributes of logicalApp are read
+  void loadApplication(ApplicationType logicalApp, Properties configParms) {
     name = logicalApp.getName();
     applicationScope = logicalApp.getApplicationScope();
     version = logicalApp.getVersion();
@@ -142,8 +165,10 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
     bundlePath = logicalApp.getBundle();
     productVersion = logicalApp.getProductVersion();
     yieldBehaviour = YieldBehaviour.valueOf(logicalApp.getAvoidRuntimeYield().name());
+  }
 
-    List<HostpoolType> hps = logicalApp.getHostpools().getHostpool();
+  void loadHostpools(HostpoolsType hostpools) {
+    List<HostpoolType> hps = hostpools.getHostpool();
     if (hps.size() > 0) {
       for (HostpoolType hp : hps) {
         List<String> hosts = new ArrayList<>();
@@ -166,15 +191,18 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
         getHostpoolMap().put(thp.getIndex(), thp);
       }
     }
+  }
 
-    List<TupleTypeType> adlTuples = logicalApp.getTupleTypes().getTupleType();
+  void loadTupleTypes(TupleTypesType tupleTypes) {
+    List<TupleTypeType> adlTuples = tupleTypes.getTupleType();
     for (TupleTypeType adlTupleType : adlTuples) {
       TopologyTupleType topTupleType = TopologyTypeFactory.createType(adlTupleType.getTuple());
       getTupleTypes().put(adlTupleType.getIndex(), topTupleType);
     }
+  }
 
+  void loadPrimitiveOperDefinitions(PrimitiveOperDefinitionsType operDefinitions) {
     // Visit operator definitions
-    PrimitiveOperDefinitionsType operDefinitions = logicalApp.getPrimitiveOperDefinitions();
     List<PrimitiveOperDefinitionType> operDefs = operDefinitions.getPrimitiveOperDefinition();
     for (PrimitiveOperDefinitionType adlDef : operDefs) {
       com.ibm.streams.instance.sam.model.topology.OperatorRuntimeType runtimeType =
@@ -203,9 +231,11 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
               capabilities);
       getPrimitiveOperDefs().put(def.getIndex(), def);
     }
+  }
 
+  void loadComposites(CompositesType composites)
+      throws SAMInternalErrorException, StreamsException {
     // Get the composite operator definitions
-    CompositesType composites = logicalApp.getComposites();
     UrisType sourceUris = composites.getSourceUris();
     List<UriType> uris = sourceUris.getUri();
     for (UriType uri : uris) {
@@ -237,10 +267,11 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
 
     // build the logical model
     mainComposite = new V4200CompositeOperator(compositeOperInstancesTypeList.get(0), null, this);
+  }
 
+  void loadToolkits(ToolkitsType toolkits) {
     // Build the map of toolkits
-    List<ToolkitType> toolkits = logicalApp.getToolkits().getToolkit();
-    for (ToolkitType toolkit : toolkits) {
+    for (ToolkitType toolkit : toolkits.getToolkit()) {
       Toolkit newToolkit =
           new Toolkit(
               toolkit.getIndex(), toolkit.getName(), toolkit.getUri(), toolkit.getVersion());
@@ -249,9 +280,10 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
         super.splToolkitIndex = toolkit.getIndex();
       }
     }
+  }
 
+  void loadCustomMetrics(CustomMetricsType customMetrics) {
     // Build the custom metrics table
-    CustomMetricsType customMetrics = logicalApp.getCustomMetrics();
     if (customMetrics != null) {
       List<CustomMetricType> customMetric = customMetrics.getCustomMetric();
       if (customMetric != null) {
@@ -273,8 +305,10 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
         }
       }
     }
+  }
 
-    ParallelRegionsType prt = logicalApp.getParallelRegions();
+  void loadParallelRegions(ParallelRegionsType prt)
+      throws SAMInternalErrorException, StreamsException {
     if (prt != null) {
       for (ParallelRegionType parallelRegionType : prt.getParallelRegion()) {
         V4200ParallelRegion parallelRegion = new V4200ParallelRegion(parallelRegionType, this);
@@ -282,9 +316,11 @@ public class V4200SPLLogicalModel extends SPLLogicalModel {
         parallelRegions.getParallelOperatorMap().put(parallelRegion.getOperIndex(), parallelRegion);
       }
     }
+  }
 
+  void loadSubmissionTimeValues(SubmissionTimeValuesType subTimeValues, Properties submissionParms)
+      throws StreamsException {
     // Build the table of submission-time values
-    SubmissionTimeValuesType subTimeValues = logicalApp.getSubmissionTimeValues();
     setAndVerifySubmissionParms(subTimeValues, submissionParms);
 
     // Emit any messages we need to for standalone processing
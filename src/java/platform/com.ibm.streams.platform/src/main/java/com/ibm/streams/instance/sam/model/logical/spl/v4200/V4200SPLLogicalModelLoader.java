@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.instance.sam.model.logical.spl.v4200;
+
+import com.ibm.distillery.utils.JAXBContextRegistry;
+import com.ibm.streams.admin.internal.api.StreamsException;
+import com.ibm.streams.platform.services.v4200.ApplicationType;
+import com.ibm.streams.platform.services.v4200.AvoidRuntimeYieldType;
+import com.ibm.streams.platform.services.v4200.CompositesType;
+import com.ibm.streams.platform.services.v4200.CustomMetricsType;
+import com.ibm.streams.platform.services.v4200.HostpoolsType;
+import com.ibm.streams.platform.services.v4200.ObjectFactory;
+import com.ibm.streams.platform.services.v4200.ParallelRegionsType;
+import com.ibm.streams.platform.services.v4200.PrimitiveOperDefinitionsType;
+import com.ibm.streams.platform.services.v4200.SubmissionTimeValuesType;
+import com.ibm.streams.platform.services.v4200.ToolkitsType;
+import com.ibm.streams.platform.services.v4200.TupleTypesType;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.UnmarshalException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Builds a v4200 logical model in a single pass over the StAX events of an ADL.
+ *
+ * <p>Each section of the application is unmarshalled on its own and handed to the model before the
+ * next one is read, so the JAXB graph of the whole application never exists at once. The sections
+ * that the logical model does not use, namely the description of the application set, the libraries
+ * and the submission-time configuration, are skipped without being unmarshalled. The resulting
+ * model is the same as the one built from ApplicationModelFactory.
+ */
+public final class V4200SPLLogicalModelLoader {
+
+  public static final String NAMESPACE = "http://www.ibm.com/xmlns/prod/streams/application/v4200";
+
+  /*
+   * The sections used by the logical model, in the order mandated by the schema. The first five
+   * are required.
+   */
+  private static final List<String> SECTIONS =
+      Arrays.asList(
+          "hostpools",
+          "tupleTypes",
+          "primitiveOperDefinitions",
+          "composites",
+          "toolkits",
+          "customMetrics",
+          "parallelRegions",
+          "submissionTimeValues");
+  private static final int REQUIRED_SECTIONS = 5;
+
+  private static final JAXBContextRegistry.Binding binding =
+      JAXBContextRegistry.get(ObjectFactory.class);
+
+  private V4200SPLLogicalModelLoader() {}
+
+  /**
+   * Builds the logical model of the first application of an ADL.
+   *
+   * @param adl the content of the ADL
+   * @param submissionParms the submission-time parameters
+   * @param configParms the configuration parameters
+   * @return the logical model
+   * @throws JAXBException if the ADL is not a well-formed v4200 ADL
+   * @throws StreamsException if the logical model cannot be built
+   */
+  public static V4200SPLLogicalModel load(
+      Reader adl, Properties submissionParms, Properties configParms)
+      throws JAXBException, StreamsException {
+    XMLStreamReader reader = null;
+    try {
+      XMLInputFactory factory = XMLInputFactory.newInstance();
+      factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+      reader = factory.createXMLStreamReader(adl);
+      reader.nextTag();
+      if (!isSection(reader, "applicationSet")) {
+        throw new UnmarshalException("Unexpected ADL root element: " + reader.getName());
+      }
+      V4200SPLLogicalModel model = null;
+      reader.next();
+      while (nextChild(reader)) {
+        if (model == null && isSection(reader, "splApplication")) {
+          model = loadApplication(reader, submissionParms, configParms);
+        } else {
+          skip(reader);
+        }
+      }
+      if (model == null) {
+        throw new UnmarshalException("No splApplication in the ADL");
+      }
+      return model;
+    } catch (XMLStreamException e) {
+      throw new UnmarshalException(e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException e) {
+          // ignore
+        }
+      }
+    }
+  }
+
+  private static V4200SPLLogicalModel loadApplication(
+      XMLStreamReader reader, Properties submissionParms, Properties configParms)
+      throws JAXBException, StreamsException, XMLStreamException {
+    V4200SPLLogicalModel model = new V4200SPLLogicalModel();
+    model.loadApplication(readAttributes(reader), configParms);
+    SubmissionTimeValuesType subTimeValues = null;
+    Unmarshaller um = binding.getUnmarshaller();
+    int last = -1;
+    reader.next();
+    while (nextChild(reader)) {
+      int section =
+          NAMESPACE.equals(reader.getNamespaceURI()) ? SECTIONS.indexOf(reader.getLocalName()) : -1;
+      if (section < 0) {
+        skip(reader);
+        continue;
+      }
+      if (section <= last) {
+        throw new UnmarshalException("Unexpected ADL section: " + reader.getLocalName());
+      }
+      if (section > last + 1 && last + 1 < REQUIRED_SECTIONS) {
+        throw new UnmarshalException("Missing ADL section: " + SECTIONS.get(last + 1));
+      }
+      last = section;
+      /*
+       * Unmarshalling leaves the reader past the end of the section.
+       */
+      switch (SECTIONS.get(section)) {
+        case "hostpools":
+          model.loadHostpools(um.unmarshal(reader, HostpoolsType.class).getValue());
+          break;
+        case "tupleTypes":
+          model.loadTupleTypes(um.unmarshal(reader, TupleTypesType.class).getValue());
+          break;
+        case "primitiveOperDefinitions":
+          model.loadPrimitiveOperDefinitions(
+              um.unmarshal(reader, PrimitiveOperDefinitionsType.class).getValue());
+          break;
+        case "composites":
+          model.loadComposites(um.unmarshal(reader, CompositesType.class).getValue());
+          break;
+        case "toolkits":
+          model.loadToolkits(um.unmarshal(reader, ToolkitsType.class).getValue());
+          break;
+        case "customMetrics":
+          model.loadCustomMetrics(um.unmarshal(reader, CustomMetricsType.class).getValue());
+          break;
+        case "parallelRegions":
+          model.loadParallelRegions(um.unmarshal(reader, ParallelRegionsType.class).getValue());
+          break;
+        default:
+          subTimeValues = um.unmarshal(reader, SubmissionTimeValuesType.class).getValue();
+          break;
+      }
+    }
+    if (last < REQUIRED_SECTIONS - 1) {
+      throw new UnmarshalException("Missing ADL section: " + SECTIONS.get(last + 1));
+    }
+    reader.next();
+    model.loadSubmissionTimeValues(subTimeValues, submissionParms);
+    return model;
+  }
+
+  /*
+   * Read the attributes of the splApplication element the way JAXB does.
+   */
+  private static ApplicationType readAttributes(XMLStreamReader reader) {
+    CollapsedStringAdapter token = new CollapsedStringAdapter();
+    ApplicationType app = new ApplicationType();
+    app.setName(token.unmarshal(reader.getAttributeValue(null, "name")));
+    app.setApplicationScope(reader.getAttributeValue(null, "applicationScope"));
+    app.setVersion(token.unmarshal(reader.getAttributeValue(null, "version")));
+    app.setDataDirectory(reader.getAttributeValue(null, "dataDirectory"));
+    app.setApplicationDirectory(reader.getAttributeValue(null, "applicationDirectory"));
+    app.setOutputDirectory(reader.getAttributeValue(null, "outputDirectory"));
+    app.setCheckpointDirectory(reader.getAttributeValue(null, "checkpointDirectory"));
+    app.setAdlPath(reader.getAttributeValue(null, "adlPath"));
+    app.setBuildId(reader.getAttributeValue(null, "buildId"));
+    app.setBundle(reader.getAttributeValue(null, "bundle"));
+    app.setStandaloneApplicationDirectory(
+        reader.getAttributeValue(null, "standaloneApplicationDirectory"));
+    app.setProductVersion(token.unmarshal(reader.getAttributeValue(null, "productVersion")));
+    String yield = token.unmarshal(reader.getAttributeValue(null, "avoidRuntimeYield"));
+    if (yield != null) {
+      app.setAvoidRuntimeYield(AvoidRuntimeYieldType.fromValue(yield));
+    }
+    return app;
+  }
+
+  private static boolean isSection(XMLStreamReader reader, String name) {
+    return NAMESPACE.equals(reader.getNamespaceURI()) && name.equals(reader.getLocalName());
+  }
+
+  /*
+   * Move to the next child of the current element. Return false, with the reader on the end of
+   * the current element, if there is none.
+   */
+  private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+    while (true) {
+      switch (reader.getEventType()) {
+        case XMLStreamConstants.START_ELEMENT:
+          return true;
+        case XMLStreamConstants.END_ELEMENT:
+        case XMLStreamConstants.END_DOCUMENT:
+          return false;
+        default:
+          reader.next();
+      }
+    }
+  }
+
+  /*
+   * Skip the current element, leaving the reader past its end as unmarshalling does.
+   */
+  private static void skip(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 0;
+    do {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth += 1;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth -= 1;
+      }
+    } while (depth >= 0);
+    reader.next();
+  }
+}
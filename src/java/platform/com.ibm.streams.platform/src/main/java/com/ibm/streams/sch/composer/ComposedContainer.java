@@ -18,6 +18,7 @@ package com.ibm.streams.sch.composer;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.Sets;
 import com.ibm.streams.instance.sam.model.composer.ContainerSpecification;
 import com.ibm.streams.instance.sam.model.topology.PoolLocation;
 import com.ibm.streams.instance.sam.model.topology.TopologyNode;
@@ -321,6 +322,13 @@ public class ComposedContainer implements FusingConstraintCriteria {
     return (numOfUpstreamConnectionsWith(fu) + numOfDownstreamConnectionsWith(fu));
   }
 
+  // the fusable units outside of this container that are connected to it.
+  public Set<FusableUnit> getConnectedFusableUnits() {
+    return Sets.union(
+        _interUpstreamContainerConnections.elementSet(),
+        _interDownstreamContainerConnections.elementSet());
+  }
+
   public int numOfUpstreamConnectionsWith(FusableUnit fu) {
     return _interUpstreamContainerConnections.count(fu);
   }
@@ -50,6 +50,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class IEUComposer {
 
@@ -66,8 +73,14 @@ public class IEUComposer {
    * Static members.
    */
 
-  private static Map<String /*groupType*/, Map<String /*groupId*/, String /*alias*/>>
-      _groupAliasIds;
+  // Per thread, so that independent jobs can be composed concurrently.
+  private static final ThreadLocal<
+          Map<String /*groupType*/, Map<String /*groupId*/, String /*alias*/>>>
+      _groupAliasIds = ThreadLocal.withInitial(HashMap::new);
+
+  // Shared by all the composers, the fusing cycles are CPU bound.
+  private static final ForkJoinPool _fusionPool =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
   /*
    * Members.
@@ -97,6 +110,10 @@ public class IEUComposer {
   private Set<ResourceAcquistionMessage> _resAcquistionMessages;
   private int _numOfAugmentedContainers = 0;
   private JSONArray _resTruncatedMessages;
+  private boolean _standAloneMode;
+  private boolean _forked;
+  private ExecutorService _fusionExecutor = _fusionPool;
+  private boolean _cacheRanks = true;
 
   /*
    * Inner class definitions.
@@ -212,6 +229,15 @@ public class IEUComposer {
    */
 
   public IEUComposer(TopologyApplication topApp, Set<ContainerSpecification> precomposedContSpecs) {
+    this(topApp, precomposedContSpecs, false);
+  }
+
+  // the group aliases are per thread. a fork is created on the thread of its parent, so it must
+  // not reset them: the task that runs the fork sets up its own.
+  private IEUComposer(
+      TopologyApplication topApp,
+      Set<ContainerSpecification> precomposedContSpecs,
+      boolean forked) {
     _fusUnits = new ArrayList<>();
     _compCriteriaNodes = new HashMap<BigInteger, ComposerCriteriaNode>();
     _nextFuId = 0;
@@ -234,7 +260,27 @@ public class IEUComposer {
     _resToRemove = new HashSet<>();
     _resAcquistionMessages = new HashSet<>();
     _resTruncatedMessages = new JSONArray();
-    _groupAliasIds = new HashMap<>();
+    _forked = forked;
+    if (!forked) {
+      _groupAliasIds.set(new HashMap<>());
+    }
+  }
+
+  // fork a composer with its own model, so that a fusing cycle can run concurrently with others.
+  private IEUComposer(IEUComposer parent) {
+    this(parent._topApp, parent._precomposedContSpecs, true);
+    _peToCoreRatio = parent._peToCoreRatio;
+    _minOpsPerPe = parent._minOpsPerPe;
+    _fusionCurfew = parent._fusionCurfew;
+    _proposedOpsPerResource = parent._proposedOpsPerResource;
+    _jobResourceSharing = parent._jobResourceSharing;
+    _jobSubmission = parent._jobSubmission;
+    _resToRequest = parent._resToRequest;
+    _additionalResToRequest = parent._additionalResToRequest;
+    _resToRemove = parent._resToRemove;
+    _fusionPhaseBeginTime_ms = parent._fusionPhaseBeginTime_ms;
+    _cacheRanks = parent._cacheRanks;
+    buildComposerModel(parent._standAloneMode);
   }
 
   /*
@@ -345,10 +391,8 @@ public class IEUComposer {
   }
 
   private static String getAlias(String groupId, String groupType) {
-    if (_groupAliasIds == null) {
-      _groupAliasIds = new HashMap<>();
-    }
-    Map<String, String> aliasMap = _groupAliasIds.computeIfAbsent(groupType, k -> new HashMap<>());
+    Map<String, String> aliasMap =
+        _groupAliasIds.get().computeIfAbsent(groupType, k -> new HashMap<>());
     String alias = aliasMap.get(groupId);
     if (alias == null) {
       alias = groupType + aliasMap.size();
@@ -357,6 +401,10 @@ public class IEUComposer {
     return alias;
   }
 
+  static Map<String, Map<String, String>> getGroupAliasIds() {
+    return _groupAliasIds.get();
+  }
+
   public static void traceTopologyModelAbstract(String header, TopologyApplication topApp) {
     StringBuilder st = new StringBuilder();
     st.append(header + "$@$@ TopologyModelAbstract:\n");
@@ -388,7 +436,7 @@ public class IEUComposer {
       st.append(nodeAbst + "\n");
     }
     st.append("Alias ID Map:" + "\n");
-    st.append(_groupAliasIds);
+    st.append(_groupAliasIds.get());
     st.append("      \n");
     Trace.logDebug(st.toString());
     Trace.logDebug("abstract complete.");
@@ -416,23 +464,11 @@ public class IEUComposer {
     // best container collection after all fusing cycles done.
     List<ComposedContainer> bestContainerCollection = new ArrayList<>();
 
-    Trace.logDebug("Fusing Cycles[" + inst.getFusingCycles().size() + "]");
-    int fusCycleNum = 1;
+    List<FusingCycle> fusCycles = inst.getFusingCycles();
+    Trace.logDebug("Fusing Cycles[" + fusCycles.size() + "]");
     Integer fixedTargetNumOfContainers = null;
 
-    // fusing cycle
-    fusCycleLoop:
-    for (FusingCycle fusCycle : inst.getFusingCycles()) {
-      List<ComposedContainer> completedCompContainers = null;
-
-      Trace.logDebug("*************************************************************");
-      Trace.logDebug(
-          "************** Fusing cycle ["
-              + fusCycleNum
-              + "] StrategyScript["
-              + fusCycle.toString()
-              + "] ***************");
-
+    if (!fusCycles.isEmpty()) {
       switch (inst.getComposingStyle()) {
         case FUSE_TO_ONE:
           {
@@ -442,7 +478,7 @@ public class IEUComposer {
             cont.addFusableUnits(_fusUnits);
             bestContainerCollection.add(cont);
             Trace.logDebug("fuse to one - complete.");
-            break fusCycleLoop;
+            break;
           }
         case FUSE_LEGACY:
           {
@@ -459,50 +495,24 @@ public class IEUComposer {
               bestContainerCollection.add(cont);
             }
             Trace.logDebug("FUSE_LEGACY done.");
-            break fusCycleLoop;
+            break;
           }
         case FUSE_MANUAL:
           {
             Trace.logDebug("$$$Comp: FUSE_MANUAL");
             validateFusableUnits();
             fixedTargetNumOfContainers = inst.getFixedNumOfContainers();
-            completedCompContainers = performManualFusion(fixedTargetNumOfContainers, fusCycle);
+            bestContainerCollection =
+                performFusingCycles(fusCycles, inst, fixedTargetNumOfContainers);
             Trace.logDebug("fuse to avail - complete.");
             break;
           }
         default:
           {
             Trace.logError("Invalid comp style.");
-            break fusCycleLoop;
+            break;
           }
       }
-      Trace.logDebug(
-          "****** completed containers["
-              + completedCompContainers.size()
-              + "] after fusCycle["
-              + fusCycleNum
-              + "]");
-      int numInterConns = 0;
-      for (ComposedContainer cont : completedCompContainers) {
-        Trace.logDebug("***** Container: " + cont.getAbstract());
-        numInterConns += cont.numOfInterContainerConnections();
-      }
-      Trace.logDebug(
-          "FusCycle_Results["
-              + fusCycleNum
-              + "] numConts["
-              + completedCompContainers.size()
-              + "] numInterConns["
-              + numInterConns
-              + "]");
-      fusCycleNum++;
-      bestContainerCollection =
-          selectBestContainerAssignments(
-              bestContainerCollection, completedCompContainers, inst, fixedTargetNumOfContainers);
-
-      if (pastCurfew()) {
-        break;
-      }
     }
 
     // bestContainerCollection contains the results.
@@ -552,6 +562,140 @@ public class IEUComposer {
     return (elapsedTime_ms > (_fusionCurfew * 1000));
   }
 
+  private long remainingCurfewTime_ms() {
+    long elapsedTime_ms = System.currentTimeMillis() - _fusionPhaseBeginTime_ms;
+    return Math.max(0, (_fusionCurfew * 1000) - elapsedTime_ms);
+  }
+
+  // fusing cycles are independent from each other.
+  //    - the first cycle runs on this composer, like the sequential composer always completed it.
+  //    - the other cycles run concurrently, each on a forked composer with its own fusable units.
+  //    - the curfew applies to the whole phase. cycles not completed by then are dropped.
+  //    - the champion is selected in cycle order, regardless of the completion order.
+  private List<ComposedContainer> performFusingCycles(
+      List<FusingCycle> fusCycles, ComposingInstructions inst, Integer fixedTargetNumOfContainers)
+      throws StreamsException {
+    // fork the composers before any cycle runs, the model build is not thread-safe.
+    List<IEUComposer> forks = new ArrayList<>();
+    for (int i = 1; i < fusCycles.size(); i++) {
+      forks.add(new IEUComposer(this));
+    }
+    List<Future<List<ComposedContainer>>> pendingCycles = new ArrayList<>();
+    for (int i = 1; i < fusCycles.size(); i++) {
+      IEUComposer fork = forks.get(i - 1);
+      FusingCycle fusCycle = fusCycles.get(i);
+      int fusCycleNum = i + 1;
+      pendingCycles.add(
+          _fusionExecutor.submit(
+              () ->
+                  fork.performForkedFusingCycle(
+                      fusCycleNum, fusCycle, fixedTargetNumOfContainers)));
+    }
+
+    List<ComposedContainer> bestContainerCollection = new ArrayList<>();
+    try {
+      bestContainerCollection =
+          selectBestContainerAssignments(
+              bestContainerCollection,
+              performFusingCycle(1, fusCycles.get(0), fixedTargetNumOfContainers),
+              inst,
+              fixedTargetNumOfContainers);
+      for (int i = 0; i < pendingCycles.size(); i++) {
+        List<ComposedContainer> completedCompContainers;
+        try {
+          if (_fusionCurfew == null) {
+            completedCompContainers = pendingCycles.get(i).get();
+          } else {
+            completedCompContainers =
+                pendingCycles.get(i).get(remainingCurfewTime_ms(), TimeUnit.MILLISECONDS);
+          }
+        } catch (TimeoutException | CancellationException e) {
+          Trace.logDebug("Fusing cycle [" + (i + 2) + "] dropped, past curfew.");
+          continue;
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof CancellationException) {
+            Trace.logDebug("Fusing cycle [" + (i + 2) + "] dropped, past curfew.");
+            continue;
+          }
+          if (e.getCause() instanceof RuntimeException) {
+            throw (RuntimeException) e.getCause();
+          }
+          if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+          }
+          throw new StreamsException(e.getCause());
+        }
+        bestContainerCollection =
+            selectBestContainerAssignments(
+                bestContainerCollection, completedCompContainers, inst, fixedTargetNumOfContainers);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StreamsException(e);
+    } finally {
+      for (Future<List<ComposedContainer>> pendingCycle : pendingCycles) {
+        pendingCycle.cancel(false);
+      }
+    }
+    return bestContainerCollection;
+  }
+
+  // run a cycle of a fork with its own group aliases. the thread may be the one of the parent, or a
+  // pool thread that runs other cycles next, so its aliases are restored afterwards.
+  private List<ComposedContainer> performForkedFusingCycle(
+      int fusCycleNum, FusingCycle fusCycle, Integer fixedTargetNumOfContainers) {
+    Map<String, Map<String, String>> savedAliasIds = _groupAliasIds.get();
+    _groupAliasIds.set(new HashMap<>());
+    try {
+      return performFusingCycle(fusCycleNum, fusCycle, fixedTargetNumOfContainers);
+    } finally {
+      _groupAliasIds.set(savedAliasIds);
+    }
+  }
+
+  private List<ComposedContainer> performFusingCycle(
+      int fusCycleNum, FusingCycle fusCycle, Integer fixedTargetNumOfContainers) {
+    Trace.logDebug("*************************************************************");
+    Trace.logDebug(
+        "************** Fusing cycle ["
+            + fusCycleNum
+            + "] StrategyScript["
+            + fusCycle.toString()
+            + "] ***************");
+    List<ComposedContainer> completedCompContainers =
+        performManualFusion(fixedTargetNumOfContainers, fusCycle);
+    Trace.logDebug(
+        "****** completed containers["
+            + completedCompContainers.size()
+            + "] after fusCycle["
+            + fusCycleNum
+            + "]");
+    int numInterConns = 0;
+    for (ComposedContainer cont : completedCompContainers) {
+      Trace.logDebug("***** Container: " + cont.getAbstract());
+      numInterConns += cont.numOfInterContainerConnections();
+    }
+    Trace.logDebug(
+        "FusCycle_Results["
+            + fusCycleNum
+            + "] numConts["
+            + completedCompContainers.size()
+            + "] numInterConns["
+            + numInterConns
+            + "]");
+    return completedCompContainers;
+  }
+
+  // run the forked fusing cycles on the given executor instead of the shared pool.
+  void setFusionExecutor(ExecutorService executor) {
+    _fusionExecutor = executor;
+  }
+
+  // sort the fusable units with the pairwise comparator instead of the cached ranks.
+  void setCacheRanks(boolean cacheRanks) {
+    _cacheRanks = cacheRanks;
+  }
+
   public JSONArray getResourceRequestTruncationMessage() {
     return _resTruncatedMessages;
   }
@@ -586,11 +730,37 @@ public class IEUComposer {
     // move isolation FUs to their own completed containers
     List<FusableUnit> nonPlacedFus = new ArrayList<>(_fusUnits);
 
+    // precomposed containers count towards the target. once they reach it, the remaining FUs are
+    // fused into the precomposed containers they are connected with, the others are left alone.
+    Set<ComposedContainer> openContainers = new HashSet<>();
+    if (!_precomposedContainers.isEmpty()) {
+      if (numOfCcs > _precomposedContainers.size()) {
+        numOfCcs -= _precomposedContainers.size();
+      } else {
+        numOfCcs = 0;
+        Set<FusableUnit> remainingFus = new HashSet<>(nonPlacedFus);
+        remainingFus.removeAll(
+            processPreComposedContainers(_precomposedContainers, nonPlacedFus)._nonTargetFus);
+        for (ComposedContainer cont : _precomposedContainers) {
+          if (!Collections.disjoint(cont.getConnectedFusableUnits(), remainingFus)) {
+            openContainers.add(cont);
+          }
+        }
+      }
+      Trace.logDebug(
+          "num of new containers["
+              + numOfCcs
+              + "] open precomposed containers["
+              + openContainers.size()
+              + "]");
+    }
+
     Trace.logDebug(FC_PREFIX + "Manual: numOfCcs[" + numOfCcs + "]");
 
     // populate containers with FUs
     completedCompContainers.addAll(
-        populateContainers(nonPlacedFus, fusCycle, numOfCcs, _precomposedContainers));
+        populateContainers(
+            nonPlacedFus, fusCycle, numOfCcs, _precomposedContainers, openContainers));
 
     return completedCompContainers;
   }
@@ -621,13 +791,15 @@ public class IEUComposer {
   //    - fus to be placed into containers
   //    - fusing rules
   //    - pre-composed containers, and related pre-composed fu's
+  //    - pre-composed containers that the fus may still be added to
   // output:
   //    - new composed containers (i.e. not including precomposed containers)
   private Set<ComposedContainer> populateContainers(
       List<FusableUnit> hSpec_fus,
       FusingCycle fusCycle,
       Integer fixedNumOfContainers,
-      Set<ComposedContainer> nonTargetContainers) {
+      Set<ComposedContainer> nonTargetContainers,
+      Set<ComposedContainer> openContainers) {
     Trace.logDebug(
         FC_PREFIX
             + "      populateContainers nonPlacedFus: \n"
@@ -698,14 +870,18 @@ public class IEUComposer {
     for (int i = 0; i < (predictedNumOfContainersRemaining); i++) {
       availCompContainers.add(new ComposedContainer(this));
     }
+    availCompContainers.addAll(openContainers);
 
     // continue until all FUs have been placed into a container
     Trace.logDebug("place all remaining FUs to best containers.");
-    FusableUnitComparator fuComp = new FusableUnitComparator(fusCycle);
+    FusableUnitComparator fuComp = new FusableUnitComparator(fusCycle, _cacheRanks);
     ComposedContainer targetCont = null;
     boolean chainInProgress = false;
     // minimize chance of empty containers in manual scheme, go into shortcut mode.
     while (remainingTargetFusToBePlaced.size() > 0) {
+      if (_forked && pastCurfew()) {
+        throw new CancellationException("Fusion curfew reached.");
+      }
       if (numOfContainersFixed) {
         // detect if running out of operators to place in empty containers.
         // if so, break the chain.
@@ -765,11 +941,15 @@ public class IEUComposer {
           selectBestFuForContainer(targetCont, remainingTargetFusToBePlaced, fuComp);
       if (fusUnit != null) {
         // FU found
-        Trace.logDebug("acceptable FU[" + fusUnit.getAbstract() + "] found for container");
-        Trace.logDebug("before adding FU to container => " + targetCont.getAbstract());
+        if (Trace.isEnabled(Level.DEBUG)) {
+          Trace.logDebug("acceptable FU[" + fusUnit.getAbstract() + "] found for container");
+          Trace.logDebug("before adding FU to container => " + targetCont.getAbstract());
+        }
         targetCont.addFusableUnit(fusUnit);
-        Trace.logDebug(
-            "after adding Fu[" + fusUnit.getId() + "] to Container: " + targetCont.getAbstract());
+        if (Trace.isEnabled(Level.DEBUG)) {
+          Trace.logDebug(
+              "after adding Fu[" + fusUnit.getId() + "] to Container: " + targetCont.getAbstract());
+        }
         remainingTargetFusToBePlaced.remove(fusUnit);
         Trace.logDebug("      BestFu_found" + "[" + fusUnit.getId() + "] ");
         if (targetCont.full() /* || shortCut*/) {
@@ -930,8 +1110,10 @@ public class IEUComposer {
     FusableUnitComparator.addJrnlMsg("FusJrnl:");
 
     // sort fus according to best match with container.
-    Collections.sort(fus, fuComp);
-    Trace.logDebug("======== Sorted FUs: ============ " + "\n" + fus.toString());
+    fuComp.sort(fus);
+    if (Trace.isEnabled(Level.DEBUG)) {
+      Trace.logDebug("======== Sorted FUs: ============ " + "\n" + fus.toString());
+    }
 
     for (FusableUnit fu : fus) {
       // through priority order, look for first one that is compatible.
@@ -1002,20 +1184,25 @@ public class IEUComposer {
   private ComposedContainer selectBestContainer(
       FusingCycle fusCycle, Set<ComposedContainer> out_availCompContainers) {
     //		Trace.logDebug("===== Select best container from availContainers["+availCompContainers+"]");
-    List<ComposedContainer> orderedAvailCompContainers = new ArrayList<>(out_availCompContainers);
     ComposedContainer bestContainer = null;
-    if (orderedAvailCompContainers.size() > 0) {
+    if (out_availCompContainers.size() > 0) {
+      // only the best one is needed, so scan instead of sorting. first of the equals wins, as
+      // with the stable sort.
       ComposerContainerComparator ccComp =
           new ComposerContainerComparator(fusCycle._containerCompareVector);
-      Collections.sort(orderedAvailCompContainers, ccComp);
-      Trace.logDebug("Sorted: availCompContainers: " + orderedAvailCompContainers.toString());
-      bestContainer = orderedAvailCompContainers.get(0);
+      for (ComposedContainer cont : out_availCompContainers) {
+        if (bestContainer == null || ccComp.compare(cont, bestContainer) < 0) {
+          bestContainer = cont;
+        }
+      }
     } else {
       Trace.logDebug("No avail containers, so create new one.");
       bestContainer = createNewContainer(out_availCompContainers);
     }
     // _availCompContainers.remove(bestContainer);
-    Trace.logDebug("===== best container = " + bestContainer.toString() + "\n");
+    if (Trace.isEnabled(Level.DEBUG)) {
+      Trace.logDebug("===== best container = " + bestContainer.toString() + "\n");
+    }
     return (bestContainer);
   }
 
@@ -1153,6 +1340,7 @@ public class IEUComposer {
   }
 
   public void buildComposerModel(boolean standAloneMode) {
+    _standAloneMode = standAloneMode;
     buildComposerCriteriaNodeGraph();
     buildFusableUnits(standAloneMode);
     buildPrecomposedContainers();
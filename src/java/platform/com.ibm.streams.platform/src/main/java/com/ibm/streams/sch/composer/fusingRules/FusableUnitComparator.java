@@ -20,8 +20,11 @@ import com.ibm.streams.sch.composer.ComposedContainer;
 import com.ibm.streams.sch.composer.FusableUnit;
 import com.ibm.streams.sch.composer.FusingCycle;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class FusableUnitComparator implements Comparator<FusableUnit> {
 
@@ -70,7 +73,100 @@ public class FusableUnitComparator implements Comparator<FusableUnit> {
   //		addCompareRule(newRule);
   //	}
 
+  // sort the fus, best first. same order as Collections.sort(fus, this), but when all the rules
+  // rank units the ranks are cached:
+  //    - ranks that don't depend on the container are computed once per unit.
+  //    - ranks that depend on the container are only updated for the units connected to the
+  //      current or the previous container, the others rank 0.
+  // the sort is stable and the fus are nearly sorted from the previous call, so it is close to
+  // linear.
+  public void sort(List<FusableUnit> fus) {
+    Ranks ranks = _primaryCompare ? _primaryRanks : _secondaryRanks;
+    if (!_cacheRanks || fus.isEmpty() || _container == null || !ranks.supports(fus.get(0))) {
+      Collections.sort(fus, this);
+      return;
+    }
+    ranks.update(_container);
+    fus.sort(ranks);
+  }
+
+  private static class Ranks implements Comparator<FusableUnit> {
+
+    Ranks(List<FusableUnitCompareRule> rules) {
+      _rules = rules;
+      _ranks = new IdentityHashMap<>();
+      _connectedFus = new ArrayList<>();
+    }
+
+    boolean supports(FusableUnit probe) {
+      if (_supported == null) {
+        _supported = true;
+        for (FusableUnitCompareRule rule : _rules) {
+          if (rule.rank(probe) == null) {
+            _supported = false;
+          }
+        }
+      }
+      return _supported;
+    }
+
+    void update(ComposedContainer cont) {
+      for (FusableUnit fu : _connectedFus) {
+        long[] fuRanks = _ranks.get(fu);
+        for (int i = 0; i < _rules.size(); i++) {
+          if (_rules.get(i).dependsOnContainer()) {
+            fuRanks[i] = 0;
+          }
+        }
+      }
+      _connectedFus.clear();
+      for (FusableUnit fu : cont.getConnectedFusableUnits()) {
+        long[] fuRanks = get(fu);
+        for (int i = 0; i < _rules.size(); i++) {
+          if (_rules.get(i).dependsOnContainer()) {
+            fuRanks[i] = _rules.get(i).rank(fu);
+          }
+        }
+        _connectedFus.add(fu);
+      }
+    }
+
+    // units seen for the first time are not connected to the container.
+    long[] get(FusableUnit fu) {
+      long[] fuRanks = _ranks.get(fu);
+      if (fuRanks == null) {
+        fuRanks = new long[_rules.size()];
+        for (int i = 0; i < _rules.size(); i++) {
+          if (!_rules.get(i).dependsOnContainer()) {
+            fuRanks[i] = _rules.get(i).rank(fu);
+          }
+        }
+        _ranks.put(fu, fuRanks);
+      }
+      return fuRanks;
+    }
+
+    @Override
+    public int compare(FusableUnit champFu, FusableUnit challengerFu) {
+      long[] champRanks = get(champFu);
+      long[] challengerRanks = get(challengerFu);
+      for (int i = 0; i < champRanks.length; i++) {
+        int result = Long.compare(champRanks[i], challengerRanks[i]);
+        if (result != 0) {
+          return result;
+        }
+      }
+      return 0;
+    }
+
+    private final List<FusableUnitCompareRule> _rules;
+    private final Map<FusableUnit, long[]> _ranks;
+    private final List<FusableUnit> _connectedFus;
+    private Boolean _supported;
+  }
+
   public void setContainer(ComposedContainer cont) {
+    _container = cont;
     for (FusableUnitCompareRule compRule : _compareRules) {
       compRule.setComposedContainer(cont);
     }
@@ -88,15 +184,15 @@ public class FusableUnitComparator implements Comparator<FusableUnit> {
   }
 
   public static void addJrnlMsg(String msg) {
-    _jrnl.append(msg);
+    _jrnl.get().append(msg);
   }
 
   public void clearJrnlMsg() {
-    _jrnl = new StringBuilder();
+    _jrnl.set(new StringBuilder());
   }
 
   public String getJrnlMsg() {
-    return _jrnl.toString();
+    return _jrnl.get().toString();
   }
 
   public boolean compatibleWithChain(FusableUnit fu, ComposedContainer cont) {
@@ -111,19 +207,33 @@ public class FusableUnitComparator implements Comparator<FusableUnit> {
   }
 
   public FusableUnitComparator(FusingCycle fusCycle) {
+    this(fusCycle, true);
+  }
+
+  // the ranks are not cached when cacheRanks is unset, every sort then uses the pairwise
+  // comparator.
+  public FusableUnitComparator(FusingCycle fusCycle, boolean cacheRanks) {
     _primaryCompare = true;
+    _cacheRanks = cacheRanks;
     _compareRules = new ArrayList<>();
     _compareRules.addAll(fusCycle.getFusableUnitCompareVector());
     _secondaryCompareRules = new ArrayList<>();
     _secondaryCompareRules.addAll(fusCycle.getFusableUnitSecondaryCompareVector());
     _chainCompRules = new ArrayList<>();
     _chainCompRules.addAll(fusCycle.getFusableUnitChainCompatibilityVector());
-    _jrnl = new StringBuilder();
+    _primaryRanks = new Ranks(_compareRules);
+    _secondaryRanks = new Ranks(_secondaryCompareRules);
+    _jrnl.set(new StringBuilder());
   }
 
   private boolean _primaryCompare;
+  private ComposedContainer _container;
+  private final boolean _cacheRanks;
+  private Ranks _primaryRanks;
+  private Ranks _secondaryRanks;
   private List<FusableUnitCompareRule> _compareRules;
   private List<FusableUnitCompareRule> _secondaryCompareRules;
   private List<FusableUnitChainContinuationRule> _chainCompRules;
-  static StringBuilder _jrnl;
+  // Per thread, so that independent jobs can be fused concurrently.
+  static final ThreadLocal<StringBuilder> _jrnl = ThreadLocal.withInitial(StringBuilder::new);
 }
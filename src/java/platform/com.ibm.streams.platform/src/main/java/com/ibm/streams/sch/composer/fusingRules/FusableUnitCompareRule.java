@@ -24,6 +24,18 @@ public abstract class FusableUnitCompareRule {
   // champFu might be null;
   public abstract Integer compare(FusableUnit champFu, FusableUnit challengerFu);
 
+  // rank of the unit under this rule, lower ranks first. ranks must order the units like compare().
+  // null if the rule can only compare units pairwise.
+  public Long rank(FusableUnit fu) {
+    return null;
+  }
+
+  // true if the rank only depends on the connections of the unit with the composed container, in
+  // which case the rank of the units not connected to the container is 0.
+  public boolean dependsOnContainer() {
+    return false;
+  }
+
   public void setComposedContainer(ComposedContainer cont) {
     _composedContainer = cont;
   }
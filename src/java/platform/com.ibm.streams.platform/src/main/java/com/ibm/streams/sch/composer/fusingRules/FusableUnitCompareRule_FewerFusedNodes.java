@@ -37,6 +37,11 @@ public class FusableUnitCompareRule_FewerFusedNodes extends FusableUnitCompareRu
     return (numOfConnDelta);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) fu.getNumOfFusedNodes();
+  }
+
   public FusableUnitCompareRule_FewerFusedNodes(ComposedContainer cont) {
     _composedContainer = cont;
   }
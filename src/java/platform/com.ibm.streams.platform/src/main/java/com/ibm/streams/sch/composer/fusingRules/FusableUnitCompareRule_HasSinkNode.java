@@ -32,6 +32,11 @@ public class FusableUnitCompareRule_HasSinkNode extends FusableUnitCompareRule {
     return (o1.includesSinkNode() ? -1 : 1);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return fu.includesSinkNode() ? 0L : 1L;
+  }
+
   public FusableUnitCompareRule_HasSinkNode(ComposedContainer cont) {
     _composedContainer = cont;
   }
@@ -32,6 +32,11 @@ public class FusableUnitCompareRule_HasSourceNode extends FusableUnitCompareRule
     return (o1.includesSourceNode() ? -1 : 1);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return fu.includesSourceNode() ? 0L : 1L;
+  }
+
   public FusableUnitCompareRule_HasSourceNode(ComposedContainer cont) {
     _composedContainer = cont;
   }
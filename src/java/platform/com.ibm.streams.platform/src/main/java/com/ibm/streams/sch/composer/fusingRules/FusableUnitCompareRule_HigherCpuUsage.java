@@ -26,6 +26,11 @@ public class FusableUnitCompareRule_HigherCpuUsage extends FusableUnitCompareRul
     return (int) (o2.getCpuUsage() - o1.getCpuUsage());
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return -fu.getCpuUsage();
+  }
+
   public FusableUnitCompareRule_HigherCpuUsage(ComposedContainer cont) {
     _composedContainer = cont;
   }
@@ -42,6 +42,16 @@ public class FusableUnitCompareRule_MoreAnyConnectionsWithAnybody extends Fusabl
     return (numOfConnDelta);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -_composedContainer.numOfConnectionsWith(fu);
+  }
+
+  @Override
+  public boolean dependsOnContainer() {
+    return true;
+  }
+
   public FusableUnitCompareRule_MoreAnyConnectionsWithAnybody(ComposedContainer cont) {
     _composedContainer = cont;
   }
@@ -43,6 +43,16 @@ public class FusableUnitCompareRule_MoreDownstreamConnectionsWith extends Fusabl
     return (numOfConnDelta);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -_composedContainer.numOfDownstreamConnectionsWith(fu);
+  }
+
+  @Override
+  public boolean dependsOnContainer() {
+    return true;
+  }
+
   public FusableUnitCompareRule_MoreDownstreamConnectionsWith(ComposedContainer cont) {
     _composedContainer = cont;
   }
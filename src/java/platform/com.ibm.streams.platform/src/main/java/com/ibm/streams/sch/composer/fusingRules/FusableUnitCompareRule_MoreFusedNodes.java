@@ -37,6 +37,11 @@ public class FusableUnitCompareRule_MoreFusedNodes extends FusableUnitCompareRul
     return (numOfConnDelta);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -fu.getNumOfFusedNodes();
+  }
+
   public FusableUnitCompareRule_MoreFusedNodes(ComposedContainer cont) {
     _composedContainer = cont;
   }
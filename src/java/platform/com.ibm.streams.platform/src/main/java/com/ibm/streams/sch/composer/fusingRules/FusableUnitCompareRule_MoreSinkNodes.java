@@ -37,6 +37,11 @@ public class FusableUnitCompareRule_MoreSinkNodes extends FusableUnitCompareRule
     return (numOfSinkNodes);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -fu.numOfSinkNodes();
+  }
+
   public FusableUnitCompareRule_MoreSinkNodes(ComposedContainer cont) {
     _composedContainer = cont;
   }
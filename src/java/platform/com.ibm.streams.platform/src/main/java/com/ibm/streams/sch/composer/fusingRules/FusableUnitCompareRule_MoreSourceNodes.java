@@ -37,6 +37,11 @@ public class FusableUnitCompareRule_MoreSourceNodes extends FusableUnitCompareRu
     return (numOfSourceNodes);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -fu.numOfSourceNodes();
+  }
+
   public FusableUnitCompareRule_MoreSourceNodes(ComposedContainer cont) {
     _composedContainer = cont;
   }
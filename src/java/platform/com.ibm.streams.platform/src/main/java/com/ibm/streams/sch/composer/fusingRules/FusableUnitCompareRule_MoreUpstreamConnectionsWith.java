@@ -43,6 +43,16 @@ public class FusableUnitCompareRule_MoreUpstreamConnectionsWith extends FusableU
     return (numOfConnDelta);
   }
 
+  @Override
+  public Long rank(FusableUnit fu) {
+    return (long) -_composedContainer.numOfUpstreamConnectionsWith(fu);
+  }
+
+  @Override
+  public boolean dependsOnContainer() {
+    return true;
+  }
+
   public FusableUnitCompareRule_MoreUpstreamConnectionsWith(ComposedContainer cont) {
     _composedContainer = cont;
   }
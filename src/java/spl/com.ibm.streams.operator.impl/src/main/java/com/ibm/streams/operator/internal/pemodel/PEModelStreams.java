@@ -16,6 +16,7 @@
 
 package com.ibm.streams.operator.internal.pemodel;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.operator.StreamSchema;
 import com.ibm.streams.operator.Type;
 import com.ibm.streams.platform.services.AugmentedPEInputPortType;
@@ -37,7 +38,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Unmarshaller;
@@ -267,8 +267,8 @@ public class PEModelStreams extends PEModel {
   }
 
   private AugmentedPEType doJAXB(Node model) throws JAXBException {
-    // Since this is only used once set a fast boot option
-    // to reduce excesstive spent setting up the JAXBContext
+    // The PE is usually the first to use this context so set a
+    // fast boot option to reduce the time spent setting it up
     // RTC34719
     final String fb = "com.sun.xml.internal.bind.v2.runtime.JAXBContextImpl.fastBoot";
     final boolean setFb = System.getProperty(fb) == null;
@@ -282,9 +282,7 @@ public class PEModelStreams extends PEModel {
 
     try {
 
-      JAXBContext jc = JAXBContext.newInstance(AugmentedPEType.class);
-
-      Unmarshaller u = jc.createUnmarshaller();
+      Unmarshaller u = JAXBContextRegistry.get(AugmentedPEType.class).getUnmarshaller();
       JAXBElement<AugmentedPEType> pet = u.unmarshal(model, AugmentedPEType.class);
 
       return pet.getValue();
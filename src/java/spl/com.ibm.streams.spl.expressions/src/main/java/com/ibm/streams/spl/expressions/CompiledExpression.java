@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.spl.expressions;
+
+import static com.ibm.streams.spl.expressions.SPLExpressions.Evaluator;
+import static com.ibm.streams.spl.expressions.SPLExpressions.Expression;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLBoolean;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An SPL expression that is parsed once and can then be evaluated any number of times, possibly
+ * concurrently. Unlike SPLExpressionEval.evaluate(), the evaluation does not rewrite the expression
+ * tree for each binding, and returns a typed value instead of its string representation.
+ */
+public final class CompiledExpression {
+  private final String text;
+  private final Expression expression;
+  private final Set<String> symbols;
+  private final Evaluator evaluator;
+
+  CompiledExpression(String text, Expression expression, Set<String> symbols) {
+    this.text = text;
+    this.expression = expression;
+    this.symbols = Collections.unmodifiableSet(symbols);
+    this.evaluator = expression.compile();
+  }
+
+  /**
+   * Returns the expression this was compiled from.
+   *
+   * @return the Expression object that represents the expression tree of the parsed string
+   */
+  public Expression getExpression() {
+    return expression;
+  }
+
+  /**
+   * Returns the names of the identifiers and intrinsics referenced by the expression.
+   *
+   * @return the set of symbols referenced by the expression
+   */
+  public Set<String> getSymbols() {
+    return symbols;
+  }
+
+  /**
+   * Evaluates the expression, using the entries in values for its identifiers and intrinsics.
+   *
+   * @param values association of identifiers or intrinsics and their SPL values
+   * @return the value of the expression
+   * @throws SPLEvalException if the evaluation fails, or if the value of the expression depends on
+   *     a symbol that is not in values
+   */
+  public SPLValue evaluate(Map<String, SPLValue> values) throws SPLEvalException {
+    SPLValue result = tryEvaluate(values);
+    if (result == null) {
+      throw new SPLEvalException("Expression \"" + text + "\" references unbound symbols");
+    }
+    return result;
+  }
+
+  /**
+   * Checks if the expression evaluates to true with the entries in values. This is equivalent to
+   * comparing the result of SPLExpressionEval.evaluate() to "true".
+   *
+   * @param values association of identifiers or intrinsics and their SPL values
+   * @return true if the expression evaluates to true, false otherwise, including when its value
+   *     depends on a symbol that is not in values
+   * @throws SPLEvalException if the evaluation fails
+   */
+  public boolean matches(Map<String, SPLValue> values) throws SPLEvalException {
+    SPLValue result = tryEvaluate(values);
+    return result instanceof SPLBoolean && ((SPLBoolean) result).booleanValue();
+  }
+
+  private SPLValue tryEvaluate(Map<String, SPLValue> values) throws SPLEvalException {
+    try {
+      return evaluator.evaluate(values);
+    } catch (ArithmeticException | ClassCastException | IndexOutOfBoundsException e) {
+      throw new SPLEvalException(e.toString());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
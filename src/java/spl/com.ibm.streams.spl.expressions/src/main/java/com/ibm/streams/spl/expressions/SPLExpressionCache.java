@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.spl.expressions;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded LRU cache of compiled SPL expressions, keyed by normalized expression text.
+ *
+ * <p>The weight of an entry is the length of its key. The cached expression trees are immutable:
+ * Expression.reduce() always returns new nodes, and CompiledExpression never modifies its tree, so
+ * a cached expression can be shared between threads. Invalid expressions are not cached.
+ */
+public class SPLExpressionCache {
+  private final long capacity;
+  private final LinkedHashMap<String, CompiledExpression> entries;
+  private long weight;
+
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+  private final AtomicLong evictions;
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param capacity the maximum total length of the cached expressions, in characters
+   */
+  public SPLExpressionCache(long capacity) {
+    this.capacity = capacity;
+    this.entries = new LinkedHashMap<String, CompiledExpression>(16, 0.75f, true);
+    this.weight = 0;
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+    this.evictions = new AtomicLong();
+  }
+
+  /**
+   * Removes the whitespace that does not change the meaning of an expression: leading and trailing
+   * whitespace is dropped, and runs of whitespace outside of string literals become one space.
+   *
+   * @param exp String representation of an SPL expression
+   * @return the normalized expression
+   */
+  static String normalize(String exp) {
+    StringBuilder sb = new StringBuilder(exp.length());
+    char quote = 0;
+    boolean space = false;
+    for (int i = 0; i < exp.length(); i++) {
+      char c = exp.charAt(i);
+      if (quote != 0) {
+        sb.append(c);
+        if (c == '\\' && i + 1 < exp.length()) {
+          sb.append(exp.charAt(++i));
+        } else if (c == quote) {
+          quote = 0;
+        }
+        continue;
+      }
+      if (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+        space = sb.length() > 0;
+        continue;
+      }
+      if (space) {
+        sb.append(' ');
+        space = false;
+      }
+      sb.append(c);
+      if (c == '"' || c == '\'') {
+        quote = c;
+      }
+    }
+    return sb.toString();
+  }
+
+  private synchronized CompiledExpression lookup(String key) {
+    return entries.get(key);
+  }
+
+  private synchronized void insert(String key, CompiledExpression exp) {
+    if (key.length() > capacity) {
+      return;
+    }
+    CompiledExpression prior = entries.put(key, exp);
+    if (prior == null) {
+      weight += key.length();
+    }
+    /*
+     * Evict the least recently used entries until we fit.
+     */
+    Iterator<Map.Entry<String, CompiledExpression>> it = entries.entrySet().iterator();
+    while (weight > capacity && it.hasNext()) {
+      Map.Entry<String, CompiledExpression> entry = it.next();
+      it.remove();
+      weight -= entry.getKey().length();
+      evictions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Gets the compiled form of an expression, parsing it on a miss. Concurrent misses on the same
+   * expression may each parse it; parsing is deterministic, so the last one in wins.
+   *
+   * @param exp String representation of the SPL expression
+   * @return the compiled expression
+   */
+  public CompiledExpression get(String exp) throws SPLInvalidExpressionException {
+    String key = normalize(exp);
+    CompiledExpression cached = lookup(key);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+    misses.incrementAndGet();
+    CompiledExpression compiled = SPLExpressionEval.compileUncached(key);
+    insert(key, compiled);
+    return compiled;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    weight = 0;
+  }
+}
@@ -20,7 +20,9 @@ import static com.ibm.streams.spl.expressions.SPLExpressions.Expression;
 import static com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
 
 import com.ibm.streams.spl.expressions.SPLExpressionParseState.SPLExpressionParseException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -29,14 +31,56 @@ import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 public class SPLExpressionEval {
+  /*
+   * The parsed expressions are shared through a cache, as the same few expressions are parsed over
+   * and over. Its capacity is the total length of the cached expressions, in characters.
+   */
+  private static final long DEFAULT_CACHE_CAPACITY = 1 << 20;
+
+  private static final SPLExpressionCache cache =
+      new SPLExpressionCache(
+          Long.getLong("streams.spl.expressions.cache.capacity", DEFAULT_CACHE_CAPACITY));
+
+  /**
+   * Returns the cache of the parsed expressions.
+   *
+   * @return the cache used by parse(), compile() and evaluate()
+   */
+  public static SPLExpressionCache getCache() {
+    return cache;
+  }
+
   /**
    * Parses exp as an SPL expression, constructs objects that represent that expression tree, and
-   * returns a reference to that tree as a Expression object.
+   * returns a reference to that tree as a Expression object. The tree may be shared with other
+   * callers that parse the same expression, which is safe as expression trees are immutable.
    *
    * @param exp String representation of the SPL expression to parse
    * @return the Expression object that represents the expression tree of the parsed string
    */
   public static Expression parse(String exp) throws SPLInvalidExpressionException {
+    return parse(exp, null);
+  }
+
+  /**
+   * Parses exp as an SPL expression and collects the identifiers and intrinsics it references.
+   *
+   * @param exp String representation of the SPL expression to parse
+   * @param symbols if not null, receives the names of the identifiers and intrinsics referenced by
+   *     exp, as they are expected by Expression.reduce()
+   * @return the Expression object that represents the expression tree of the parsed string
+   */
+  public static Expression parse(String exp, Set<String> symbols)
+      throws SPLInvalidExpressionException {
+    CompiledExpression compiled = cache.get(exp);
+    if (symbols != null) {
+      symbols.addAll(compiled.getSymbols());
+    }
+    return compiled.getExpression();
+  }
+
+  private static Expression parseUncached(String exp, Set<String> symbols)
+      throws SPLInvalidExpressionException {
     SPLExpressionParseState state = new SPLExpressionParseState();
     try {
       SPLExpressionLexer lexer = new SPLExpressionLexer(new ANTLRInputStream(exp));
@@ -59,9 +103,28 @@ public class SPLExpressionEval {
       throw new SPLInvalidExpressionException("Parse did not result in one OrExpression");
     }
 
+    if (symbols != null) {
+      symbols.addAll(state.symbols);
+    }
     return state.expressions.pop();
   }
 
+  /**
+   * Parses exp as an SPL expression and compiles it for repeated evaluations.
+   *
+   * @param exp String representation of the SPL expression to compile
+   * @return the CompiledExpression object that evaluates the parsed string
+   */
+  public static CompiledExpression compile(String exp) throws SPLInvalidExpressionException {
+    return cache.get(exp);
+  }
+
+  static CompiledExpression compileUncached(String exp) throws SPLInvalidExpressionException {
+    Set<String> symbols = new HashSet<String>();
+    Expression expression = parseUncached(exp, symbols);
+    return new CompiledExpression(exp, expression, symbols);
+  }
+
   /**
    * Evaluates exp as an SPL expression, using the entries in values to substitute into the
    * expression.
@@ -51,6 +51,8 @@ import com.ibm.streams.spl.messages.general.StreamsSPLJavaMessagesKey.Key;
 import java.math.BigInteger;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
 
 public class SPLExpressionParseState extends SPLExpressionBaseListener {
   String identifier = null;
@@ -65,6 +67,8 @@ public class SPLExpressionParseState extends SPLExpressionBaseListener {
       new ArrayDeque<
           Expression>(); // for some reason, if this is not a concrete class, others can't see it
   public StringBuilder ruleTracker = new StringBuilder();
+  // identifiers and intrinsics referenced by the expression, in the form expected by reduce()
+  public Set<String> symbols = new HashSet<String>();
 
   // If you want to throw an exception when visiting a rule, it has to
   // be a RuntimeException; the interface is defined to not throw any
@@ -77,6 +81,7 @@ public class SPLExpressionParseState extends SPLExpressionBaseListener {
 
   public void exitIdentifier(SPLExpressionParser.IdentifierContext ctx) {
     identifier = new String(ctx.ID().getText());
+    symbols.add(identifier);
     ruleTracker.append("identifier ");
   }
 
@@ -84,6 +89,7 @@ public class SPLExpressionParseState extends SPLExpressionBaseListener {
     // we need to strip off the "()" at the end
     String str = ctx.getText();
     intrinsic = new String(str.substring(0, str.length() - 2));
+    symbols.add(intrinsic);
     ruleTracker.append("intrinsic ");
   }
 
@@ -32,6 +32,9 @@ import com.ibm.streams.spl.expressions.SPLMeta.MulOperator;
 import com.ibm.streams.spl.expressions.SPLMeta.PrefixOperator;
 import com.ibm.streams.spl.expressions.SPLMeta.RelationalOperator;
 import com.ibm.streams.spl.expressions.SPLMeta.UnaryOperator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class SPLExpressions {
   public interface Expression {
@@ -40,6 +43,23 @@ public class SPLExpressions {
     boolean isFullyReduced();
 
     Expression reduce(String symbol, SPLValue value) throws SPLEvalException;
+
+    /**
+     * Builds an evaluator for this expression. The evaluator binds all the symbols in one pass and
+     * does not modify the expression, so it can be used concurrently.
+     *
+     * @return the evaluator of this expression
+     */
+    Evaluator compile();
+  }
+
+  /**
+   * An evaluator computes the value of an expression from the values of its identifiers and
+   * intrinsics. It follows the same rules as Expression.reduce(), but returns null if the value
+   * depends on a symbol that is not bound.
+   */
+  public interface Evaluator {
+    SPLValue evaluate(Map<String, SPLValue> values) throws SPLEvalException;
   }
 
   public static class Literal implements Expression {
@@ -72,6 +92,11 @@ public class SPLExpressions {
     public Expression reduce(String symbol, SPLValue value) throws SPLEvalException {
       return this;
     }
+
+    @Override
+    public Evaluator compile() {
+      return values -> value;
+    }
   }
 
   public static class Identifier implements Expression {
@@ -103,6 +128,11 @@ public class SPLExpressions {
       }
       return this;
     }
+
+    @Override
+    public Evaluator compile() {
+      return values -> values.get(symbol);
+    }
   }
 
   public static class Intrinsic implements Expression {
@@ -138,6 +168,20 @@ public class SPLExpressions {
       return this;
     }
 
+    @Override
+    public Evaluator compile() {
+      if (!isValidIntrinsic(intrinsic)) {
+        return values -> null;
+      }
+      return values -> {
+        SPLValue value = values.get(intrinsic);
+        if (value != null && value.getSPLType() != SPLType.INT64) {
+          throw new SPLEvalException("Only int64 intrinsics are supported.");
+        }
+        return value;
+      };
+    }
+
     public static boolean isValidIntrinsic(String symbol) {
       return symbol.equals("getChannel")
           || symbol.equals("getLocalChannel")
@@ -176,6 +220,11 @@ public class SPLExpressions {
       }
       return new ParentheticalExpression(result);
     }
+
+    @Override
+    public Evaluator compile() {
+      return exp.compile();
+    }
   }
 
   public static class PostfixExpression implements Expression {
@@ -231,6 +280,28 @@ public class SPLExpressions {
       }
       return new PostfixExpression(primaryRes, subscriptRes);
     }
+
+    @Override
+    public Evaluator compile() {
+      Evaluator primaryEval = primary.compile();
+      Evaluator subscriptEval = subscript.compile();
+      return values -> {
+        SPLValue primaryRes = primaryEval.evaluate(values);
+        SPLValue subscriptRes = subscriptEval.evaluate(values);
+        if (primaryRes == null || subscriptRes == null) {
+          return null;
+        }
+        if (subscriptRes.getSPLType() != SPLType.INT64) {
+          throw new SPLEvalException(
+              "Attempt to access list with expression of type: "
+                  + subscriptRes.getSPLType().toString());
+        }
+        if (!primaryRes.getSPLType().isList()) {
+          throw new SPLEvalException("Subscript applied to non-list type");
+        }
+        return ((SPLList) primaryRes).get((int) ((SPLInt64) subscriptRes).longValue());
+      };
+    }
   }
 
   public static class CastExpression implements Expression {
@@ -270,6 +341,15 @@ public class SPLExpressions {
       }
       return new CastExpression(type, res);
     }
+
+    @Override
+    public Evaluator compile() {
+      Evaluator eval = exp.compile();
+      return values -> {
+        SPLValue res = eval.evaluate(values);
+        return res == null ? null : res.cast(type);
+      };
+    }
   }
 
   public abstract static class BinaryExpression<Operator extends BinaryOperator>
@@ -344,6 +424,48 @@ public class SPLExpressions {
       return createBinaryExpression(leftReduced, op, rightReduced);
     }
 
+    /*
+     * A chain of expressions of the same kind, like a - b + c, is nested to the right, but both
+     * reduce() and the evaluator apply it from the left. The evaluator flattens the chain and folds
+     * it once all of its operands are bound, so it never needs the regrouping that reduce() does
+     * on partially bound chains such as x - 1 + 10.
+     */
+    @Override
+    public Evaluator compile() {
+      List<Evaluator> operands = new ArrayList<>();
+      List<Operator> operators = new ArrayList<>();
+      BinaryExpression<Operator> current = this;
+      while (true) {
+        operands.add(current.left.compile());
+        operators.add(current.op);
+        if (!this.getClass().equals(current.right.getClass())) {
+          operands.add(current.right.compile());
+          break;
+        }
+        current = (BinaryExpression<Operator>) current.right;
+      }
+      return values -> {
+        SPLValue result = null;
+        boolean unbound = false;
+        for (int i = 0; i < operands.size(); i++) {
+          SPLValue value = operands.get(i).evaluate(values);
+          if (value == null) {
+            unbound = true;
+            continue;
+          }
+          if (canShortCircuit(value)) {
+            return value;
+          }
+          if (i == 0) {
+            result = value;
+          } else if (!unbound) {
+            result = apply(result, operators.get(i - 1), value);
+          }
+        }
+        return unbound ? null : result;
+      };
+    }
+
     private ExpOp reduce(
         Operator grandParentOp,
         Expression parentLeft,
@@ -356,14 +478,17 @@ public class SPLExpressions {
       if (myLeft.isFullyReduced() && canShortCircuit((Literal) myLeft)) {
         return new ExpOp(myLeft, grandParentOp);
       } else if (parentLeft.isFullyReduced() && myLeft.isFullyReduced()) {
-        if (grandParentOp != null) {
+        if (grandParentOp == null) {
+          // parentLeft starts the chain, so the folded literal has no operator before it
+          myLeft = new Literal(apply((Literal) parentLeft, parentOp, (Literal) myLeft));
+          parentOp = null;
+          parentSubsumed = true;
+        } else if (canRegroup(grandParentOp, parentOp)) {
           ExpOp result = apply(grandParentOp, (Literal) parentLeft, parentOp, (Literal) myLeft);
           myLeft = result.expression;
           parentOp = result.operator;
-        } else {
-          myLeft = new Literal(apply((Literal) parentLeft, parentOp, (Literal) myLeft));
+          parentSubsumed = true;
         }
-        parentSubsumed = true;
       }
 
       if (this.getClass().equals(right.getClass())) {
@@ -383,11 +508,13 @@ public class SPLExpressions {
             return new ExpOp(myRight, grandParentOp);
           }
           return new ExpOp(createBinaryExpression(parentLeft, parentOp, myRight), grandParentOp);
-        } else if (myLeft.isFullyReduced() && myRight.isFullyReduced() && parentOp.isReducible()) {
+        } else if (myLeft.isFullyReduced()
+            && myRight.isFullyReduced()
+            && (parentOp == null || canRegroup(parentOp, op))) {
+          ExpOp result = apply(parentOp, (Literal) myLeft, op, (Literal) myRight);
           if (parentSubsumed) {
-            return apply(grandParentOp, (Literal) myLeft, op, (Literal) myRight);
+            return result;
           }
-          ExpOp result = apply(parentOp, (Literal) myLeft, op, (Literal) myRight);
           return new ExpOp(
               createBinaryExpression(parentLeft, result.operator, result.expression),
               grandParentOp);
@@ -395,7 +522,7 @@ public class SPLExpressions {
 
         Expression reduced = createBinaryExpression(myLeft, op, myRight);
         if (parentSubsumed) {
-          return new ExpOp(reduced, grandParentOp);
+          return new ExpOp(reduced, parentOp);
         }
         return new ExpOp(createBinaryExpression(parentLeft, parentOp, reduced), grandParentOp);
       }
@@ -405,7 +532,11 @@ public class SPLExpressions {
         Expression left, Operator op, Expression right);
 
     protected SPLValue apply(Literal left, Operator op, Literal right) throws SPLEvalException {
-      return left.getSPLValue().apply(op, right.getSPLValue());
+      return apply(left.getSPLValue(), op, right.getSPLValue());
+    }
+
+    protected SPLValue apply(SPLValue left, Operator op, SPLValue right) throws SPLEvalException {
+      return left.apply(op, right);
     }
 
     protected ExpOp apply(Operator parentOp, Literal left, Operator op, Literal right)
@@ -413,7 +544,20 @@ public class SPLExpressions {
       return new ExpOp(new Literal(apply(left, op, right)), parentOp);
     }
 
+    /*
+     * Whether two literals that follow parentOp in a chain can be combined under op ahead of the
+     * operand before them. Only regroupings that give the same result as applying the chain from
+     * the left are allowed, so reduce() and compile() agree.
+     */
+    protected boolean canRegroup(Operator parentOp, Operator op) {
+      return parentOp.isReducible();
+    }
+
     protected boolean canShortCircuit(Literal value) throws SPLEvalException {
+      return canShortCircuit(value.getSPLValue());
+    }
+
+    protected boolean canShortCircuit(SPLValue value) throws SPLEvalException {
       return false;
     }
   }
@@ -433,15 +577,17 @@ public class SPLExpressions {
       return new MulExpression(left, op, right);
     }
 
+    @Override
+    protected boolean canRegroup(MulOperator parentOp, MulOperator op) {
+      // integer division truncates, so x / 3 * 6 is not x * 2
+      return parentOp == op && parentOp.isReducible();
+    }
+
     @Override
     protected ExpOp apply(MulOperator parentOp, Literal left, MulOperator op, Literal right)
         throws SPLEvalException {
       if (parentOp == MulOperator.DIV) {
-        if (op == MulOperator.MUL) {
-          return new ExpOp(new Literal(apply(right, parentOp, left)), op);
-        } else {
-          return new ExpOp(new Literal(apply(right, MulOperator.MUL, left)), parentOp);
-        }
+        return new ExpOp(new Literal(apply(right, MulOperator.MUL, left)), parentOp);
       }
       return new ExpOp(new Literal(apply(left, op, right)), parentOp);
     }
@@ -504,9 +650,9 @@ public class SPLExpressions {
     }
 
     @Override
-    protected SPLValue apply(Literal left, MembershipOperator op, Literal right)
+    protected SPLValue apply(SPLValue left, MembershipOperator op, SPLValue right)
         throws SPLEvalException {
-      return right.getSPLValue().apply(op, left.getSPLValue());
+      return right.apply(op, left);
     }
 
     @Override
@@ -533,8 +679,8 @@ public class SPLExpressions {
     }
 
     @Override
-    protected boolean canShortCircuit(Literal value) throws SPLEvalException {
-      return !((SPLBoolean) value.getSPLValue()).booleanValue();
+    protected boolean canShortCircuit(SPLValue value) throws SPLEvalException {
+      return !((SPLBoolean) value).booleanValue();
     }
   }
 
@@ -555,8 +701,8 @@ public class SPLExpressions {
     }
 
     @Override
-    protected boolean canShortCircuit(Literal value) throws SPLEvalException {
-      return ((SPLBoolean) value.getSPLValue()).booleanValue();
+    protected boolean canShortCircuit(SPLValue value) throws SPLEvalException {
+      return ((SPLBoolean) value).booleanValue();
     }
   }
 
@@ -653,13 +799,24 @@ public class SPLExpressions {
         SPLValue result = rightValue.apply(operator);
         return new Literal(result);
       }
-      return this;
+      return createUnaryExpression(reducedRight);
+    }
+
+    protected abstract Expression createUnaryExpression(Expression right);
+
+    @Override
+    public Evaluator compile() {
+      Evaluator eval = right.compile();
+      return values -> {
+        SPLValue value = eval.evaluate(values);
+        return value == null ? null : value.apply(operator);
+      };
     }
 
     // subclasses must implement getSPLType() and toString()
 
-    protected Expression right;
-    protected UnaryOperator operator;
+    protected final Expression right;
+    protected final UnaryOperator operator;
   }
 
   public abstract static class PrefixExpression extends UnaryExpression {
@@ -682,6 +839,11 @@ public class SPLExpressions {
     public SPLType getSPLType() throws SPLEvalException {
       return SPLType.BOOLEAN;
     }
+
+    @Override
+    protected Expression createUnaryExpression(Expression right) {
+      return new NotExpression(right);
+    }
   }
 
   public static class BitNotExpression extends PrefixExpression {
@@ -693,6 +855,11 @@ public class SPLExpressions {
     public SPLType getSPLType() throws SPLEvalException {
       return SPLType.INT64;
     }
+
+    @Override
+    protected Expression createUnaryExpression(Expression right) {
+      return new BitNotExpression(right);
+    }
   }
 
   public static class UnaryFunction extends UnaryExpression {
@@ -712,12 +879,17 @@ public class SPLExpressions {
       return name + "(" + right + ")";
     }
 
+    @Override
+    protected Expression createUnaryExpression(Expression right) {
+      return new UnaryFunction(name, right);
+    }
+
     private static UnaryOperator getOperator(String name) {
       if (name.equals("hash")) return HashFunction.getInstance();
       throw new SPLExpressionParseState.SPLExpressionParseException(
           "Unexpected function call " + name);
     }
 
-    private String name;
+    private final String name;
   }
 }
@@ -516,13 +516,12 @@ public class SPLMeta {
     }
 
     public static HashFunction getInstance() {
-      if (instance == null) instance = new HashFunction();
       return instance;
     }
 
     private HashFunction() {}
 
-    private static HashFunction instance;
+    private static final HashFunction instance = new HashFunction();
   }
 
   public abstract static class SPLValue {
@@ -1018,7 +1017,7 @@ public class SPLMeta {
   }
 
   public static class SPLRstringList extends SPLList {
-    private List<String> list;
+    private final List<String> list;
 
     public SPLRstringList(List<String> list) {
       super(SPLType.LIST_RSTRING, SPLType.RSTRING);
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2021 IBM Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ibm.streams.spl.expressions;
+
+import static com.ibm.streams.spl.expressions.SPLExpressionEval.compile;
+import static com.ibm.streams.spl.expressions.SPLExpressionEval.evaluate;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLBoolean;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLFloat64;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLFloat64List;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLInt64;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLInt64List;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLRstring;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLRstringList;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLType;
+import static com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import org.junit.Test;
+
+public class CompiledExpressionTest {
+
+  private static Map<String, SPLValue> makeSymbolTable() {
+    Map<String, SPLValue> symbolTable = new HashMap<String, SPLValue>();
+    symbolTable.put("num1", new SPLInt64(0));
+    symbolTable.put("num2", new SPLInt64(1));
+    symbolTable.put("num3", new SPLInt64(42));
+    symbolTable.put("num4", new SPLInt64(15));
+    symbolTable.put("getChannel", new SPLInt64(4));
+    symbolTable.put("getMaxChannels", new SPLInt64(10));
+    symbolTable.put("logic1", new SPLBoolean(false));
+    symbolTable.put("logic2", new SPLBoolean(true));
+    symbolTable.put("logic3", new SPLBoolean(true));
+    symbolTable.put("float2", new SPLFloat64(3.14));
+    symbolTable.put("float3", new SPLFloat64(2.0));
+    symbolTable.put("float4", new SPLFloat64(2.17));
+    symbolTable.put("str1", new SPLRstring("one"));
+    symbolTable.put("evens", new SPLInt64List(0L, 2L, 4L));
+    symbolTable.put("odds", new SPLInt64List(1L, 3L, 5L));
+    symbolTable.put("text", new SPLRstringList(asList("one", "two", "three")));
+    symbolTable.put("floats", new SPLFloat64List(asList(0.0, 1.0, 2.0, 3.0)));
+    return symbolTable;
+  }
+
+  private static final String[] EXPRESSIONS = {
+    "logic1 && logic2",
+    "logic1 || logic2 || logic3",
+    "logic1 && logic2 || logic3 || logic2 && logic1",
+    "!logic1 && !(logic2 && logic3)",
+    "num1 <= num2 && num3 > num2 || num4 > num3",
+    "num1 + num2 - num3 - num4 + num2",
+    "12 - 2 - 3",
+    "3 * 4 - 2 + 3",
+    "num3 * num4 / 3 / 2 % 7",
+    "num3 - (num4 - num2) + 3 * 2",
+    "4 - ((1 - 2) + 3) * 2",
+    "(int64)(float2 + float4) * 3",
+    "float2 * float3 - float4 > 2.0",
+    "(rstring)logic1",
+    "\"channel\" + (rstring)getChannel()",
+    "getMaxChannels() % 3 == getChannel() - 3",
+    "evens != odds",
+    "evens[2] * num4",
+    "odds[num2 + 1] == 5",
+    "2 in evens && str1 in text && !(\"ten\" in text)",
+    "0 in floats",
+    "hash(str1) == hash(\"one\")",
+    "2 & 3 | 4 ^ 1",
+    "num4 << 2 >> 1",
+    "~num3",
+    "float3 == 2",
+  };
+
+  @Test
+  public void testSameResultAsEvaluate() throws SPLInvalidExpressionException, SPLEvalException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    for (String exp : EXPRESSIONS) {
+      assertEquals(exp, evaluate(exp, symbolTable), compile(exp).evaluate(symbolTable).toString());
+    }
+  }
+
+  private static final String[] CHAINS = {
+    "num3 / 3 / 7 * 2",
+    "num3 / 3 / 7 / 1",
+    "num3 / 4 * 6",
+    "num3 * 6 / 4",
+    "num3 - 1 + 10",
+    "num3 - 1 - 2 - 3",
+    "num4 - num3 + 3 - 5",
+    "num3 * num4 / 4 / 3",
+    "42 / 3 / 7 * 2",
+    "42 / 4 * 6 / 5",
+    "100 - 1 - 2 + 3",
+    "float2 / 2.0 * 3.0",
+  };
+
+  @Test
+  public void testChainsFoldFromLeft() throws SPLInvalidExpressionException, SPLEvalException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    for (String exp : CHAINS) {
+      assertEquals(exp, evaluate(exp, symbolTable), compile(exp).evaluate(symbolTable).toString());
+    }
+    assertEquals("4", evaluate("num3 / 3 / 7 * 2", symbolTable));
+    assertEquals("60", evaluate("num3 / 4 * 6", symbolTable));
+    assertEquals("12", evaluate("42 / 4 * 6 / 5"));
+  }
+
+  @Test
+  public void testMatches() throws SPLInvalidExpressionException, SPLEvalException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    assertTrue(compile("num3 * num4 - num2 == 629").matches(symbolTable));
+    assertFalse(compile("num3 * num4 - num2 >= 1000").matches(symbolTable));
+    assertFalse(compile("num3 * num4").matches(symbolTable));
+    assertFalse(compile("notThere == 1").matches(symbolTable));
+  }
+
+  @Test
+  public void testShortCircuit() throws SPLInvalidExpressionException, SPLEvalException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    assertTrue(compile("notThere1 == 3 || num1 == 0 || notThere2 == 4").matches(symbolTable));
+    assertTrue(compile("notThere1 == 3 || notThere2 == 4 || num1 == 0").matches(symbolTable));
+    assertEquals(
+        new SPLBoolean(false).toString(),
+        compile("notThere1 == 3 && notThere2 == 4 && num1 == 1").evaluate(symbolTable).toString());
+    assertFalse(compile("notThere1 == 3 || notThere2 == 4 || num1 != 0").matches(symbolTable));
+    assertFalse(compile("notThere1 == 3 && num1 != 1").matches(symbolTable));
+  }
+
+  @Test
+  public void testUnboundSymbol() throws SPLInvalidExpressionException {
+    try {
+      compile("evens[2] * num4 == seq[9]").evaluate(makeSymbolTable());
+    } catch (SPLEvalException e) {
+      return;
+    }
+    fail("Expected to catch SPLEvalException");
+  }
+
+  @Test
+  public void testEvaluationErrors() throws SPLInvalidExpressionException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    for (String exp : asList("evens[1000] == 0", "5 / num1", "(boolean)float2", "str1 + num1")) {
+      try {
+        compile(exp).evaluate(symbolTable);
+        fail("Expected to catch SPLEvalException for " + exp);
+      } catch (SPLEvalException ignored) {
+      }
+    }
+    Map<String, SPLValue> badIntrinsic = new HashMap<String, SPLValue>();
+    badIntrinsic.put("getChannel", new SPLRstring("four"));
+    try {
+      compile("getChannel() == 4").matches(badIntrinsic);
+      fail("Expected to catch SPLEvalException for a non-int64 intrinsic");
+    } catch (SPLEvalException ignored) {
+    }
+  }
+
+  @Test
+  public void testTypedResult() throws SPLInvalidExpressionException, SPLEvalException {
+    Map<String, SPLValue> symbolTable = makeSymbolTable();
+    assertEquals(SPLType.INT64, compile("num3 - num4").evaluate(symbolTable).getSPLType());
+    assertEquals(SPLType.BOOLEAN, compile("num3 > num4").evaluate(symbolTable).getSPLType());
+  }
+
+  @Test
+  public void testSymbolsAndReuse() throws SPLInvalidExpressionException, SPLEvalException {
+    CompiledExpression exp = compile("x == 1 && (getChannel() + y) % 2 == 0");
+    assertEquals(new HashSet<String>(asList("x", "y", "getChannel")), exp.getSymbols());
+
+    Map<String, SPLValue> values = new HashMap<String, SPLValue>();
+    values.put("x", new SPLInt64(1));
+    values.put("getChannel", new SPLInt64(3));
+    values.put("y", new SPLInt64(1));
+    assertTrue(exp.matches(values));
+    values.put("y", new SPLInt64(2));
+    assertFalse(exp.matches(values));
+    assertEquals("x == 1 && (getChannel() + y) % 2 == 0", exp.toString());
+  }
+}
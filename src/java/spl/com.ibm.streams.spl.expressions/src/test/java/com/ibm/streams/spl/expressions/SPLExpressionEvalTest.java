@@ -16,6 +16,7 @@
 
 package com.ibm.streams.spl.expressions;
 
+import static com.ibm.streams.spl.expressions.SPLExpressionEval.compile;
 import static com.ibm.streams.spl.expressions.SPLExpressionEval.evaluate;
 import static com.ibm.streams.spl.expressions.SPLExpressionEval.parse;
 import static com.ibm.streams.spl.expressions.SPLExpressions.Expression;
@@ -29,12 +30,22 @@ import static com.ibm.streams.spl.expressions.SPLMeta.SPLRstringList;
 import static com.ibm.streams.spl.expressions.SPLMeta.SPLValue;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 public class SPLExpressionEvalTest {
@@ -206,6 +217,12 @@ public class SPLExpressionEvalTest {
     exp = tryParse("!id");
     exp = tryReduce(exp, "id", new SPLBoolean(false));
     assertEquals(exp.toString(), "true");
+
+    exp = tryParse("!(id1 && id2)");
+    exp = tryReduce(exp, "id1", new SPLBoolean(true));
+    assertEquals(exp.toString(), "!(true && id2)");
+    exp = tryReduce(exp, "id2", new SPLBoolean(true));
+    assertEquals(exp.toString(), "false");
   }
 
   @Test
@@ -516,11 +533,19 @@ public class SPLExpressionEvalTest {
     assertEquals(tryEvaluate("x - 1 - y"), "x - 1 - y");
     assertEquals(tryEvaluate("x - 1 - 2 - 3"), "x - 6");
     assertEquals(tryEvaluate("x - 3 - 4 - 6 - 9 + 43 + 7 - 9 + 23"), "x + 42");
-    assertEquals(tryEvaluate("x * 6 / 3"), "x * 2");
-    assertEquals(tryEvaluate("x / 3 * 6"), "x * 2");
+    assertEquals(tryEvaluate("x - 1 + 10 - 4"), "x + 5");
+    assertEquals(tryEvaluate("x - 1 + 10 - y"), "x + 9 - y");
+    assertEquals(tryEvaluate("x * 2 * 3"), "x * 6");
+    assertEquals(tryEvaluate("x * 6 / 3"), "x * 6 / 3");
+    assertEquals(tryEvaluate("x / 3 * 6"), "x / 3 * 6");
     assertEquals(tryEvaluate("x / 3 / 6"), "x / 18");
     assertEquals(tryEvaluate("x / 3 / 6 / 2"), "x / 36");
-    assertEquals(tryEvaluate("x / 3 / 6 / 2 * 72"), "x * 2");
+    assertEquals(tryEvaluate("x / 3 / 6 / 2 * 72"), "x / 36 * 72");
+    assertEquals(tryEvaluate("x % 3 % 2 % 5"), "x % 3 % 2 % 5");
+    assertEquals(tryEvaluate("42 / 3 / 7 * 2"), "4");
+    assertEquals(tryEvaluate("43 - 1 + 10 - 4"), "48");
+    assertEquals(tryEvaluate("43 / 3 / 6 / 2 * 72"), "72");
+    assertEquals(tryEvaluate("43 % 3 % 2 % 5"), "1");
     assertEquals(tryEvaluate("100 % 10"), "0");
     assertEquals(tryEvaluate("100 % 10 == 0"), "true");
     assertEquals(tryEvaluate("100 % 10 == 1"), "false");
@@ -552,4 +577,151 @@ public class SPLExpressionEvalTest {
     assertEquals(tryEvaluate("2 >> 3 >> 4"), String.valueOf((2L >> 3L) >> 4L));
     assertEquals(tryEvaluate("~42"), String.valueOf(~42L));
   }
+
+  @Test
+  public void testParseSymbols() throws SPLInvalidExpressionException {
+    Set<String> symbols = new HashSet<String>();
+    parse("x == 1 && ((y + 1) % 2 == 0 || getChannel() == 0) && \"z\" == \"z\"", symbols);
+    assertEquals(new HashSet<String>(asList("x", "y", "getChannel")), symbols);
+
+    symbols.clear();
+    parse("1 + 2 == 3", symbols);
+    assertEquals(0, symbols.size());
+  }
+
+  @Test
+  public void testParseCache() throws SPLInvalidExpressionException {
+    Expression exp = parse("x == 1 && y < 2");
+    assertSame(exp, parse("  x ==  1\n&& y <\t2 "));
+    assertNotSame(parse("s == \"a b\""), parse("s == \"a  b\""));
+    assertEquals("s == \"a  b\"", parse("s  ==  \"a  b\"").toString());
+
+    Set<String> symbols = new HashSet<String>();
+    parse("x  ==  1 && y < 2", symbols);
+    assertEquals(new HashSet<String>(asList("x", "y")), symbols);
+  }
+
+  @Test
+  public void testParseCacheStatistics() throws SPLInvalidExpressionException {
+    SPLExpressionCache cache = new SPLExpressionCache(20);
+    cache.get("x == 1");
+    cache.get("x  == 1");
+    cache.get("y == 2");
+    assertEquals(1, cache.getHits());
+    assertEquals(2, cache.getMisses());
+    assertEquals(2, cache.size());
+    assertEquals(12, cache.getWeight());
+
+    // the least recently used entry is evicted first
+    cache.get("x == 1");
+    cache.get("z == 3 || z == 4");
+    assertEquals(2, cache.getEvictions());
+    assertEquals(1, cache.size());
+    assertEquals(16, cache.getWeight());
+
+    // invalid expressions are not cached
+    try {
+      cache.get("random garbage");
+      fail("Expected to catch SPLInvalidExpressionException");
+    } catch (SPLInvalidExpressionException ignored) {
+    }
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testReduceDoesNotMutateCachedTree() throws SPLInvalidExpressionException {
+    String str = "!(id1 && id2) || hash(id3) == 4 && id4 + 2 * id4 == (int64)id5[0]";
+    Expression exp = parse(str);
+    String before = exp.toString();
+    Expression reduced = tryReduce(exp, "id1", new SPLBoolean(true));
+    reduced = tryReduce(reduced, "id2", new SPLBoolean(false));
+    assertEquals("true", reduced.toString());
+    assertEquals(before, exp.toString());
+    assertSame(exp, parse(str));
+    assertEquals(before, parse(str).toString());
+  }
+
+  @Test
+  public void testConcurrentEvaluate() throws Exception {
+    final int threads = 8;
+    final int iterations = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+      for (int t = 0; t < threads; t++) {
+        final int id = t;
+        results.add(
+            executor.submit(
+                new Callable<Integer>() {
+                  @Override
+                  public Integer call() throws Exception {
+                    int failures = 0;
+                    for (int i = 0; i < iterations; i++) {
+                      Map<String, SPLValue> values = new HashMap<String, SPLValue>();
+                      values.put("x", new SPLInt64(i));
+                      values.put("tid", new SPLInt64(id));
+                      // a few shared expressions, and one per iteration to churn the cache
+                      String shared = "x % 3 == 0 || tid == " + (i % 4);
+                      boolean expected = i % 3 == 0 || id == i % 4;
+                      if (!evaluate(shared, values).equals(String.valueOf(expected))) {
+                        failures++;
+                      }
+                      String single =
+                          "x + " + (id * iterations + i) + " == " + (id * iterations + 2 * i);
+                      if (!evaluate(single, values).equals("true")) {
+                        failures++;
+                      }
+                      if (compile(shared).matches(values) != expected) {
+                        failures++;
+                      }
+                    }
+                    return failures;
+                  }
+                }));
+      }
+      for (Future<Integer> result : results) {
+        assertEquals(Integer.valueOf(0), result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertTrue(SPLExpressionEval.getCache().getHits() > 0);
+  }
+
+  @Test
+  public void testConcurrentCacheEviction() throws Exception {
+    final SPLExpressionCache cache = new SPLExpressionCache(64);
+    final int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+      for (int t = 0; t < threads; t++) {
+        results.add(
+            executor.submit(
+                new Callable<Integer>() {
+                  @Override
+                  public Integer call() throws Exception {
+                    int failures = 0;
+                    for (int i = 0; i < 1000; i++) {
+                      String str = "x == " + (i % 16);
+                      Map<String, SPLValue> values = new HashMap<String, SPLValue>();
+                      values.put("x", new SPLInt64(i % 16));
+                      if (!cache.get(str).matches(values)) {
+                        failures++;
+                      }
+                    }
+                    return failures;
+                  }
+                }));
+      }
+      for (Future<Integer> result : results) {
+        assertEquals(Integer.valueOf(0), result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(8 * 1000, cache.getHits() + cache.getMisses());
+    assertTrue(cache.getWeight() <= 64);
+    assertTrue(cache.getEvictions() > 0);
+  }
 }
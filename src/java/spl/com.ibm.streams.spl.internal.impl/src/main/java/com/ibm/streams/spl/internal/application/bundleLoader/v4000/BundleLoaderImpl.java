@@ -16,6 +16,7 @@
 
 package com.ibm.streams.spl.internal.application.bundleLoader.v4000;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.admin.internal.api.application.bundle.ApplicationBundleException;
 import com.ibm.streams.admin.internal.api.trace.Trace;
 import com.ibm.streams.spl.internal.application.bundleLoader.BundleLoader;
@@ -36,7 +37,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
@@ -49,6 +49,18 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.io.IOUtils;
 
 public class BundleLoaderImpl implements BundleLoader {
+  private static final JAXBContextRegistry.Binding bundleInfo =
+      JAXBContextRegistry.get(
+          com.ibm
+              .streams
+              .spl
+              .internal
+              .application
+              .bundleLoader
+              .v4000
+              .bundleInfoModel
+              .ObjectFactory
+              .class);
 
   private Class _class;
   private ShutdownHandler _shutdownHandler = null;
@@ -101,19 +113,7 @@ public class BundleLoaderImpl implements BundleLoader {
       throw new IOException("Can't find bundleInfo.xml");
     }
     try {
-      JAXBContext jc =
-          JAXBContext.newInstance(
-              com.ibm
-                  .streams
-                  .spl
-                  .internal
-                  .application
-                  .bundleLoader
-                  .v4000
-                  .bundleInfoModel
-                  .ObjectFactory
-                  .class);
-      Unmarshaller um = jc.createUnmarshaller();
+      Unmarshaller um = bundleInfo.getUnmarshaller();
       JAXBElement<BundleInfoModelType> jbe =
           (JAXBElement<BundleInfoModelType>) um.unmarshal(iStream);
       _bi = jbe.getValue();
@@ -326,21 +326,7 @@ public class BundleLoaderImpl implements BundleLoader {
   public InputStream getBundleInfo() throws ApplicationBundleException {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     try {
-      JAXBContext jc =
-          JAXBContext.newInstance(
-              com.ibm
-                  .streams
-                  .spl
-                  .internal
-                  .application
-                  .bundleLoader
-                  .v4000
-                  .bundleInfoModel
-                  .ObjectFactory
-                  .class);
-      Marshaller m = jc.createMarshaller();
-      m.setProperty(javax.xml.bind.Marshaller.JAXB_ENCODING, "UTF-8");
-      m.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+      Marshaller m = bundleInfo.getMarshaller(true);
       m.marshal(
           new JAXBElement<BundleInfoModelType>(
               new QName("bundleInfoModel"), BundleInfoModelType.class, _bi),
@@ -16,9 +16,10 @@
 
 package com.ibm.streams.spl.internal.application.bundleLoader.v4200;
 
+import com.ibm.distillery.utils.JAXBContextRegistry;
 import com.ibm.streams.admin.internal.api.application.bundle.ApplicationBundleException;
 import com.ibm.streams.admin.internal.api.trace.Trace;
-import com.ibm.streams.platform.services.v4200.ApplicationSetType;
+import com.ibm.streams.instance.sam.applicationModel.ApplicationModelFactory;
 import com.ibm.streams.platform.services.v4200.ApplicationType;
 import com.ibm.streams.platform.services.v4200.PrimitiveOperDefinitionType;
 import com.ibm.streams.platform.services.v4200.PrimitiveOperDefinitionsType;
@@ -44,7 +45,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
@@ -63,6 +63,18 @@ import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.io.IOUtils;
 
 public class BundleLoaderImpl implements BundleLoader {
+  private static final JAXBContextRegistry.Binding bundleInfo =
+      JAXBContextRegistry.get(
+          com.ibm
+              .streams
+              .spl
+              .internal
+              .application
+              .bundleLoader
+              .v4000
+              .bundleInfoModel
+              .ObjectFactory
+              .class);
 
   private Class _class;
   private ShutdownHandler _shutdownHandler = null;
@@ -147,19 +159,7 @@ public class BundleLoaderImpl implements BundleLoader {
       throw new IOException("Can't find bundleInfo.xml");
     }
     try {
-      JAXBContext jc =
-          JAXBContext.newInstance(
-              com.ibm
-                  .streams
-                  .spl
-                  .internal
-                  .application
-                  .bundleLoader
-                  .v4000
-                  .bundleInfoModel
-                  .ObjectFactory
-                  .class);
-      Unmarshaller um = jc.createUnmarshaller();
+      Unmarshaller um = bundleInfo.getUnmarshaller();
       JAXBElement<BundleInfoModelType> jbe =
           (JAXBElement<BundleInfoModelType>) um.unmarshal(iStream);
       _bi = jbe.getValue();
@@ -395,21 +395,7 @@ public class BundleLoaderImpl implements BundleLoader {
   public InputStream getBundleInfo() throws ApplicationBundleException {
     ByteArrayOutputStream os = new ByteArrayOutputStream();
     try {
-      JAXBContext jc =
-          JAXBContext.newInstance(
-              com.ibm
-                  .streams
-                  .spl
-                  .internal
-                  .application
-                  .bundleLoader
-                  .v4000
-                  .bundleInfoModel
-                  .ObjectFactory
-                  .class);
-      Marshaller m = jc.createMarshaller();
-      m.setProperty(javax.xml.bind.Marshaller.JAXB_ENCODING, "UTF-8");
-      m.setProperty(javax.xml.bind.Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+      Marshaller m = bundleInfo.getMarshaller(true);
       m.marshal(
           new JAXBElement<BundleInfoModelType>(
               new QName("bundleInfoModel"), BundleInfoModelType.class, _bi),
@@ -554,15 +540,7 @@ public class BundleLoaderImpl implements BundleLoader {
       throws ApplicationBundleException, IOException, JAXBException {
     String adlString = extractADLFileToString();
     InputStream iStream = IOUtils.toInputStream(adlString, "UTF-8");
-    JAXBContext jc =
-        JAXBContext.newInstance(com.ibm.streams.platform.services.v4200.ObjectFactory.class);
-    Unmarshaller um = jc.createUnmarshaller();
-    JAXBElement<com.ibm.streams.platform.services.v4200.ApplicationSetType> jbe =
-        (JAXBElement<com.ibm.streams.platform.services.v4200.ApplicationSetType>)
-            um.unmarshal(iStream);
-    ApplicationSetType app = jbe.getValue();
-    ApplicationType adlModel = app.getSplApplication().get(0);
-    return adlModel;
+    return ApplicationModelFactory.createV4200ApplicationModel(iStream);
   }
 
   private List<String> findCapabilities(ApplicationType adlModel) {